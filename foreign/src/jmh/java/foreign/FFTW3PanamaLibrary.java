@@ -6,14 +6,34 @@ import java.lang.invoke.MethodHandle;
 class FFTW3PanamaLibrary implements AutoCloseable {
     public static final String PANAMA_LIBRARY_NAME = "fftw3";
 
+    public static final int FFTW_FORWARD = -1;
+    public static final int FFTW_BACKWARD = 1;
+
+    public static final int FFTW_MEASURE = 0;
+    public static final int FFTW_DESTROY_INPUT = 1;
+    public static final int FFTW_UNALIGNED = 1 << 1;
+    public static final int FFTW_PRESERVE_INPUT = 1 << 4;
+    public static final int FFTW_PATIENT = 1 << 5;
+    public static final int FFTW_ESTIMATE = 1 << 6;
+
     static MemoryLayout DOUBLE_COMPLEX = MemoryLayout.structLayout(
             ValueLayout.JAVA_DOUBLE.withName("re"),
             ValueLayout.JAVA_DOUBLE.withName("im")
     );
 
     private final MethodHandle fftw_plan_dft_1d;
+    private final MethodHandle fftw_plan_many_dft;
+    private final MethodHandle fftw_plan_dft_r2c_1d;
+    private final MethodHandle fftw_plan_dft_c2r_1d;
     private final MethodHandle fftw_execute;
+    private final MethodHandle fftw_execute_dft;
+    private final MethodHandle fftw_execute_dft_r2c;
+    private final MethodHandle fftw_execute_dft_c2r;
     private final MethodHandle fftw_destroy_plan;
+    private final MethodHandle fftw_export_wisdom_to_filename;
+    private final MethodHandle fftw_import_wisdom_from_filename;
+    private final MethodHandle fftw_import_system_wisdom;
+    private final MethodHandle fftw_forget_wisdom;
 
     // Resolve all functions and such
     FFTW3PanamaLibrary() {
@@ -26,15 +46,72 @@ class FFTW3PanamaLibrary implements AutoCloseable {
                 FunctionDescriptor.of(ValueLayout.ADDRESS, ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS,  ValueLayout.JAVA_INT, ValueLayout.JAVA_INT)
         );
 
+        fftw_plan_many_dft = linker.downcallHandle(
+                fftw3lib.find("fftw_plan_many_dft").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.ADDRESS, ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_INT,
+                        ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT,
+                        ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT,
+                        ValueLayout.JAVA_INT, ValueLayout.JAVA_INT)
+        );
+
+        fftw_plan_dft_r2c_1d = linker.downcallHandle(
+                fftw3lib.find("fftw_plan_dft_r2c_1d").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.ADDRESS, ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.JAVA_INT)
+        );
+
+        fftw_plan_dft_c2r_1d = linker.downcallHandle(
+                fftw3lib.find("fftw_plan_dft_c2r_1d").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.ADDRESS, ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.JAVA_INT)
+        );
+
         fftw_execute = linker.downcallHandle(
                 fftw3lib.find("fftw_execute").orElseThrow(),
                 FunctionDescriptor.ofVoid(ValueLayout.ADDRESS)
         );
 
+        // New-array execute functions don't call back to Java and could work on Java arrays directly
+        fftw_execute_dft = linker.downcallHandle(
+                fftw3lib.find("fftw_execute_dft").orElseThrow(),
+                FunctionDescriptor.ofVoid(ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS),
+                Linker.Option.critical(true)
+        );
+
+        fftw_execute_dft_r2c = linker.downcallHandle(
+                fftw3lib.find("fftw_execute_dft_r2c").orElseThrow(),
+                FunctionDescriptor.ofVoid(ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS),
+                Linker.Option.critical(true)
+        );
+
+        fftw_execute_dft_c2r = linker.downcallHandle(
+                fftw3lib.find("fftw_execute_dft_c2r").orElseThrow(),
+                FunctionDescriptor.ofVoid(ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS),
+                Linker.Option.critical(true)
+        );
+
         fftw_destroy_plan = linker.downcallHandle(
                 fftw3lib.find("fftw_destroy_plan").orElseThrow(),
                 FunctionDescriptor.ofVoid(ValueLayout.ADDRESS)
         );
+
+        fftw_export_wisdom_to_filename = linker.downcallHandle(
+                fftw3lib.find("fftw_export_wisdom_to_filename").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS)
+        );
+
+        fftw_import_wisdom_from_filename = linker.downcallHandle(
+                fftw3lib.find("fftw_import_wisdom_from_filename").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS)
+        );
+
+        fftw_import_system_wisdom = linker.downcallHandle(
+                fftw3lib.find("fftw_import_system_wisdom").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.JAVA_INT)
+        );
+
+        fftw_forget_wisdom = linker.downcallHandle(
+                fftw3lib.find("fftw_forget_wisdom").orElseThrow(),
+                FunctionDescriptor.ofVoid()
+        );
     }
 
     public MemorySegment planDFT1D(int size, MemorySegment in, MemorySegment out, int sign, int flags) {
@@ -45,18 +122,117 @@ class FFTW3PanamaLibrary implements AutoCloseable {
         }
     }
 
+    /**
+     * Plans {@code howmany} transforms of {@code size} complex numbers, which
+     * are {@code dist} complex numbers apart in {@code in} and {@code out}.
+     */
+    public MemorySegment planManyDFT1D(int size, int howmany, MemorySegment in, int dist, MemorySegment out, int sign, int flags) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment n = arena.allocateFrom(ValueLayout.JAVA_INT, size);
+            return planManyDFT(1, n, howmany, in, MemorySegment.NULL, 1, dist, out, MemorySegment.NULL, 1, dist, sign, flags);
+        }
+    }
+
+    public MemorySegment planManyDFT(int rank, MemorySegment n, int howmany,
+                                     MemorySegment in, MemorySegment inembed, int istride, int idist,
+                                     MemorySegment out, MemorySegment onembed, int ostride, int odist,
+                                     int sign, int flags) {
+        try {
+            return (MemorySegment)fftw_plan_many_dft.invokeExact(rank, n, howmany, in, inembed, istride, idist, out, onembed, ostride, odist, sign, flags);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    /** Plans transform of {@code size} real numbers to {@code size / 2 + 1} complex ones. */
+    public MemorySegment planDFTR2C1D(int size, MemorySegment in, MemorySegment out, int flags) {
+        try {
+            return (MemorySegment)fftw_plan_dft_r2c_1d.invokeExact(size, in, out, flags);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    /** Plans transform of {@code size / 2 + 1} complex numbers to {@code size} real ones, it destroys input by default. */
+    public MemorySegment planDFTC2R1D(int size, MemorySegment in, MemorySegment out, int flags) {
+        try {
+            return (MemorySegment)fftw_plan_dft_c2r_1d.invokeExact(size, in, out, flags);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
     public void execute(MemorySegment plan) {
         try {
             fftw_execute.invokeExact(plan);
         } catch (Throwable ignored) {}
     }
 
+    /**
+     * Executes plan on new arrays, which must be in-place or out-of-place and
+     * aligned as arrays of plan (or plan must be made with {@link #FFTW_UNALIGNED}).
+     * Arrays could be heap segments of Java arrays.
+     */
+    public void executeDFT(MemorySegment plan, MemorySegment in, MemorySegment out) {
+        try {
+            fftw_execute_dft.invokeExact(plan, in, out);
+        } catch (Throwable ignored) {}
+    }
+
+    /** Real-input version of {@link #executeDFT(MemorySegment, MemorySegment, MemorySegment)}. */
+    public void executeDFTR2C(MemorySegment plan, MemorySegment in, MemorySegment out) {
+        try {
+            fftw_execute_dft_r2c.invokeExact(plan, in, out);
+        } catch (Throwable ignored) {}
+    }
+
+    /** Real-output version of {@link #executeDFT(MemorySegment, MemorySegment, MemorySegment)}. */
+    public void executeDFTC2R(MemorySegment plan, MemorySegment in, MemorySegment out) {
+        try {
+            fftw_execute_dft_c2r.invokeExact(plan, in, out);
+        } catch (Throwable ignored) {}
+    }
+
     public void destroyPlan(MemorySegment plan) {
         try {
             fftw_destroy_plan.invokeExact(plan);
         } catch (Throwable ignored) {}
     }
 
+    /** Saves all accumulated wisdom to file, returns {@code false} on failure. */
+    public boolean exportWisdomToFilename(String filename) {
+        try (Arena arena = Arena.ofConfined()) {
+            return (int)fftw_export_wisdom_to_filename.invokeExact(arena.allocateFrom(filename)) != 0;
+        } catch (Throwable ignored) {
+            return false;
+        }
+    }
+
+    /** Adds wisdom from file to accumulated one, returns {@code false} on failure. */
+    public boolean importWisdomFromFilename(String filename) {
+        try (Arena arena = Arena.ofConfined()) {
+            return (int)fftw_import_wisdom_from_filename.invokeExact(arena.allocateFrom(filename)) != 0;
+        } catch (Throwable ignored) {
+            return false;
+        }
+    }
+
+    /** Adds system-wide wisdom ({@code /etc/fftw/wisdom} on Unix), returns {@code false} on failure. */
+    public boolean importSystemWisdom() {
+        try {
+            return (int)fftw_import_system_wisdom.invokeExact() != 0;
+        } catch (Throwable ignored) {
+            return false;
+        }
+    }
+
+    /** Forgets all accumulated wisdom, plans already made are not affected. */
+    public void forgetWisdom() {
+        try {
+            fftw_forget_wisdom.invokeExact();
+        } catch (Throwable ignored) {}
+    }
+
     @Override
     public void close() {}
 }
@@ -0,0 +1,183 @@
+package foreign;
+
+import java.lang.foreign.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Thread-safe cache of one-dimensional complex FFTW3 plans with LRU eviction.
+ * <p>
+ * Plans are keyed by size, direction, in-place flag, alignment and planner
+ * flags. Plan is made on scratch buffers, and must be executed with
+ * {@link Lease#execute(MemorySegment, MemorySegment)} on caller's buffers,
+ * which are the same one for in-place plan and are aligned to 64 bytes for
+ * aligned plan (unaligned plans are made with {@link FFTW3PanamaLibrary#FFTW_UNALIGNED}).
+ * <p>
+ * Memory is bounded by total size of cached plans in complex numbers, as
+ * FFTW3 plan keeps twiddles and buffers proportional to its size. When new
+ * plan doesn't fit, least recently used plans are evicted and destroyed.
+ * Plans which are leased are destroyed when last lease is closed.
+ * <p>
+ * FFTW3 planner is not thread-safe, so planning and destroying are done under
+ * cache lock, and execution is not.
+ *
+ * @author Lev Serebryakov
+ */
+public class FFTW3PlanCache implements AutoCloseable {
+	public static final int ALIGNMENT = 64;
+
+	private record Key(int size, int sign, boolean inPlace, boolean aligned, int flags) {}
+
+	private static class Entry {
+		final Key key;
+		final MemorySegment plan;
+		int leases = 0;
+		boolean evicted = false;
+
+		Entry(Key key, MemorySegment plan) {
+			this.key = key;
+			this.plan = plan;
+		}
+	}
+
+	/**
+	 * Plan leased from cache, it is not destroyed until lease is closed.
+	 * Closed lease throws {@link IllegalStateException}, as its plan could be
+	 * destroyed already.
+	 */
+	public final class Lease implements AutoCloseable {
+		private final Entry entry;
+		private volatile boolean closed = false;
+
+		private Lease(Entry entry) {
+			this.entry = entry;
+		}
+
+		public MemorySegment plan() {
+			checkOpen();
+			return entry.plan;
+		}
+
+		public void execute(MemorySegment in, MemorySegment out) {
+			checkOpen();
+			library.executeDFT(entry.plan, in, out);
+		}
+
+		@Override
+		public void close() {
+			synchronized (lock) {
+				if (closed)
+					return;
+				closed = true;
+				entry.leases--;
+				if (entry.evicted && entry.leases == 0)
+					library.destroyPlan(entry.plan);
+			}
+		}
+
+		private void checkOpen() {
+			if (closed)
+				throw new IllegalStateException("Lease of " + entry.key + " is closed");
+		}
+	}
+
+	private final FFTW3PanamaLibrary library;
+	private final long capacity;
+	private final Object lock = new Object();
+	// Access-ordered, eldest is least recently used
+	private final LinkedHashMap<Key, Entry> plans = new LinkedHashMap<>(16, 0.75f, true);
+	private long used = 0;
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	/** Creates cache, which keeps plans of total size up to {@code capacity} complex numbers. */
+	public FFTW3PlanCache(FFTW3PanamaLibrary library, long capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Capacity must be positive, got " + capacity);
+		this.library = library;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Returns cached plan or makes new one. Plan larger than capacity is made
+	 * anyway, it evicts all other plans.
+	 */
+	public Lease acquire(int size, int sign, boolean inPlace, boolean aligned, int flags) {
+		if (size < 1)
+			throw new IllegalArgumentException("Size must be positive, got " + size);
+		final Key key = new Key(size, sign, inPlace, aligned, flags);
+		synchronized (lock) {
+			Entry entry = plans.get(key);
+			if (entry != null) {
+				hits++;
+			} else {
+				misses++;
+				evict(size);
+				entry = new Entry(key, plan(key));
+				plans.put(key, entry);
+				used += size;
+			}
+			entry.leases++;
+			return new Lease(entry);
+		}
+	}
+
+	/** Evicts all plans. */
+	public void clear() {
+		synchronized (lock) {
+			evict(capacity + 1);
+		}
+	}
+
+	public long hits() {
+		synchronized (lock) {
+			return hits;
+		}
+	}
+
+	public long misses() {
+		synchronized (lock) {
+			return misses;
+		}
+	}
+
+	public long evictions() {
+		synchronized (lock) {
+			return evictions;
+		}
+	}
+
+	@Override
+	public void close() {
+		clear();
+	}
+
+	// Evicts least recently used plans until there is room for size
+	private void evict(long size) {
+		Iterator<Entry> it = plans.values().iterator();
+		while (it.hasNext() && used + size > capacity) {
+			Entry entry = it.next();
+			it.remove();
+			used -= entry.key.size();
+			evictions++;
+			entry.evicted = true;
+			if (entry.leases == 0)
+				library.destroyPlan(entry.plan);
+		}
+	}
+
+	private MemorySegment plan(Key key) {
+		// Planning with measurement overwrites buffers, so plan on scratch ones
+		try (Arena arena = Arena.ofConfined()) {
+			MemoryLayout layout = MemoryLayout.sequenceLayout(key.size(), FFTW3PanamaLibrary.DOUBLE_COMPLEX).withByteAlignment(ALIGNMENT);
+			MemorySegment in = arena.allocate(layout);
+			MemorySegment out = key.inPlace() ? in : arena.allocate(layout);
+			int flags = key.aligned() ? key.flags() : key.flags() | FFTW3PanamaLibrary.FFTW_UNALIGNED;
+			MemorySegment plan = library.planDFT1D(key.size(), in, out, key.sign(), flags);
+			if (plan == null || plan.equals(MemorySegment.NULL))
+				throw new IllegalStateException("FFTW3 could not plan " + key);
+			return plan;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package foreign;
+
+import java.io.File;
+import java.lang.foreign.*;
+
+/**
+ * Persistent FFTW3 wisdom: plans made with {@code FFTW_MEASURE} or
+ * {@code FFTW_PATIENT} take long time, but wisdom accumulated by planner
+ * could be saved to file and loaded at next start, and then planning of
+ * the same transforms is almost instant.
+ *
+ * @author Lev Serebryakov
+ */
+public class FFTW3Wisdom {
+	private FFTW3Wisdom() {}
+
+	/**
+	 * Loads system wisdom and wisdom from {@code filename}, if it exists.
+	 * Returns {@code true} if file was loaded.
+	 */
+	public static boolean load(FFTW3PanamaLibrary library, String filename) {
+		library.importSystemWisdom();
+		return new File(filename).isFile() && library.importWisdomFromFilename(filename);
+	}
+
+	/**
+	 * Loads wisdom as {@link #load(FFTW3PanamaLibrary, String)} does, plans
+	 * forward and backward, in-place and out-of-place complex transforms of all
+	 * {@code sizes} with {@code flags} and saves all wisdom to {@code filename}.
+	 * Transforms which are in loaded wisdom are planned without measurement.
+	 * Returns {@code false} if wisdom could not be saved.
+	 */
+	public static boolean warm(FFTW3PanamaLibrary library, int sizes[], int flags, String filename) {
+		load(library, filename);
+		for (int size : sizes) {
+			if (size < 1)
+				throw new IllegalArgumentException("Size must be positive, got " + size);
+			try (Arena arena = Arena.ofConfined()) {
+				// Aligned as FFTW3 allocator does, so SIMD codelets are measured
+				MemoryLayout layout = MemoryLayout.sequenceLayout(size, FFTW3PanamaLibrary.DOUBLE_COMPLEX).withByteAlignment(64);
+				MemorySegment in = arena.allocate(layout);
+				MemorySegment out = arena.allocate(layout);
+				for (int sign : new int[] { FFTW3PanamaLibrary.FFTW_FORWARD, FFTW3PanamaLibrary.FFTW_BACKWARD }) {
+					plan(library, size, in, out, sign, flags);
+					plan(library, size, in, in, sign, flags);
+				}
+			}
+		}
+		return library.exportWisdomToFilename(filename);
+	}
+
+	private static void plan(FFTW3PanamaLibrary library, int size, MemorySegment in, MemorySegment out, int sign, int flags) {
+		MemorySegment plan = library.planDFT1D(size, in, out, sign, flags);
+		if (plan == null || plan.equals(MemorySegment.NULL))
+			throw new IllegalStateException("FFTW3 could not plan size " + size);
+		library.destroyPlan(plan);
+	}
+}
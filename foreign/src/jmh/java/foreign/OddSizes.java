@@ -0,0 +1,39 @@
+package foreign;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Transforms of prime sizes from {@link FFTBenchmarkParams} by all libraries
+ * which work on Java arrays, side by side.
+ *
+ * @author Lev Serebryakov
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 10, time = 5)
+@Threads(1)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class OddSizes {
+	@Param({"17", "37", "67", "131", "257", "521", "1031", "2053", "4099", "8209", "16411", "32771", "65537"})
+	public int size;
+
+	@Param({"false", "true"})
+	public boolean inPlace;
+
+	@Benchmark
+	public void VectorAPI(VectorAPI.BenchState state) {
+		state.p.forward(state.ji, state.jo);
+	}
+
+	@Benchmark
+	public void JTransforms(JTransforms.BenchState state) {
+		if (!state.inPlace)
+			System.arraycopy(state.ji, 0, state.jo, 0, state.ji.length);
+		state.p.complexForward(state.jo);
+	}
+
+	@Benchmark
+	public void FFTW(JNAWrapped.BenchState state) {
+		FFTW3JNALibrary.INSTANCE.fftw_execute_dft(state.p, state.i, state.o);
+	}
+}
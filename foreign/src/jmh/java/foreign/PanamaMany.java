@@ -0,0 +1,116 @@
+package foreign;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.foreign.*;
+
+/**
+ * Batch of transforms of the same size: one plan made by {@code fftw_plan_many_dft}
+ * versus one single-transform plan executed on each slice of batch with new-array
+ * execute.
+ *
+ * @author Lev Serebryakov
+ */
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class PanamaMany extends FFTBenchmarkParams {
+	@Param({"4", "32"})
+	public int batch;
+
+	@State(org.openjdk.jmh.annotations.Scope.Thread)
+	public static class BenchState {
+		FFTW3PanamaLibrary library;
+		Arena arena = null;
+		int size;
+		int batch;
+		// Distance between transforms, rounded up to cache line to have all slices aligned as the first one
+		int dist;
+		double ji[];
+		double jo[];
+		MemorySegment i;
+		MemorySegment o;
+		MemorySegment is[];
+		MemorySegment os[];
+		MemorySegment many = null;
+		MemorySegment single = null;
+
+		@Setup(Level.Trial)
+		public void Setup(BenchmarkParams params) {
+			Setup(
+					Integer.parseInt(params.getParam("size")),
+					Boolean.parseBoolean(params.getParam("inPlace")),
+					Integer.parseInt(params.getParam("batch")));
+		}
+
+		public void Setup(int size, boolean inPlace, int batch) {
+			this.size = size;
+			this.batch = batch;
+			dist = (size + 3) & ~3;
+			library = new FFTW3PanamaLibrary();
+			arena = Arena.ofShared();
+
+			ji = new double[dist * batch * 2];
+			for (int j = 0; j < ji.length; j++)
+				ji[j] = Math.random() * 2 - 1.0;
+			jo = new double[dist * batch * 2];
+
+			i = allocateCFVData(dist * batch);
+			if (inPlace)
+				o = i;
+			else
+				o = allocateCFVData(dist * batch);
+			is = new MemorySegment[batch];
+			os = new MemorySegment[batch];
+			for (int b = 0; b < batch; b++) {
+				is[b] = i.asSlice(b * dist * FFTW3PanamaLibrary.DOUBLE_COMPLEX.byteSize(), size * FFTW3PanamaLibrary.DOUBLE_COMPLEX.byteSize());
+				os[b] = o.asSlice(b * dist * FFTW3PanamaLibrary.DOUBLE_COMPLEX.byteSize(), size * FFTW3PanamaLibrary.DOUBLE_COMPLEX.byteSize());
+			}
+
+			many = library.planManyDFT1D(size, batch, i, dist, o, FFTW3PanamaLibrary.FFTW_FORWARD, FFTW3PanamaLibrary.FFTW_MEASURE);
+			if (many == null || many.equals(MemorySegment.NULL))
+				throw new IllegalStateException("FFTW3 could not plan " + batch + " transforms of size " + size);
+			single = library.planDFT1D(size, is[0], os[0], FFTW3PanamaLibrary.FFTW_FORWARD, FFTW3PanamaLibrary.FFTW_MEASURE);
+			if (single == null || single.equals(MemorySegment.NULL))
+				throw new IllegalStateException("FFTW3 could not plan size " + size);
+		}
+
+		@TearDown(Level.Trial)
+		public void TearDown() {
+			if (library != null) {
+				if (many != null)
+					library.destroyPlan(many);
+				if (single != null)
+					library.destroyPlan(single);
+				library.close();
+			}
+			if (arena != null)
+				arena.close();
+		}
+
+		private MemorySegment allocateCFVData(int count) {
+			return arena.allocate(
+					MemoryLayout
+							.sequenceLayout(count, FFTW3PanamaLibrary.DOUBLE_COMPLEX)
+							.withByteAlignment(64)
+			);
+		}
+	}
+
+	@Benchmark
+	public void ManyFFTOnly(BenchState state) {
+		state.library.execute(state.many);
+	}
+
+	@Benchmark
+	public void LoopFFTOnly(BenchState state) {
+		for (int b = 0; b < state.batch; b++)
+			state.library.executeDFT(state.single, state.is[b], state.os[b]);
+	}
+
+	@Benchmark
+	public void ManyFullBatch(BenchState state) {
+		MemorySegment.copy(state.ji, 0, state.i, ValueLayout.JAVA_DOUBLE, 0L, state.ji.length);
+		state.library.execute(state.many);
+		MemorySegment.copy(state.o, ValueLayout.JAVA_DOUBLE, 0L, state.jo, 0, state.jo.length);
+	}
+}
@@ -0,0 +1,101 @@
+package foreign;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.foreign.*;
+
+/**
+ * Real-input ({@code size} real numbers to {@code size / 2 + 1} complex ones)
+ * and real-output transforms. In-place transforms use one array of
+ * {@code size / 2 + 1} complex numbers, as FFTW3 requires padding of real data.
+ *
+ * @author Lev Serebryakov
+ */
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class PanamaReal extends FFTBenchmarkParams {
+	@State(org.openjdk.jmh.annotations.Scope.Thread)
+	public static class BenchState {
+		FFTW3PanamaLibrary library;
+		Arena arena = null;
+		int size;
+		int spectrum;
+		double jr[];
+		double jc[];
+		// Output of inverse transform, to keep input of forward one intact
+		double jo[];
+		MemorySegment r;
+		MemorySegment c;
+		MemorySegment r2c = null;
+		MemorySegment c2r = null;
+
+		@Setup(Level.Trial)
+		public void Setup(BenchmarkParams params) {
+			Setup(Integer.parseInt(params.getParam("size")), Boolean.parseBoolean(params.getParam("inPlace")));
+		}
+
+		public void Setup(int size, boolean inPlace) {
+			this.size = size;
+			spectrum = size / 2 + 1;
+			library = new FFTW3PanamaLibrary();
+			arena = Arena.ofShared();
+
+			jr = new double[size];
+			for (int i = 0; i < size; i++)
+				jr[i] = Math.random() * 2 - 1.0;
+			jc = new double[spectrum * 2];
+			jo = new double[size];
+
+			c = arena.allocate(MemoryLayout.sequenceLayout(spectrum, FFTW3PanamaLibrary.DOUBLE_COMPLEX).withByteAlignment(64));
+			if (inPlace)
+				r = c;
+			else
+				r = arena.allocate(MemoryLayout.sequenceLayout(size, ValueLayout.JAVA_DOUBLE).withByteAlignment(64));
+
+			r2c = library.planDFTR2C1D(size, r, c, FFTW3PanamaLibrary.FFTW_MEASURE);
+			if (r2c == null || r2c.equals(MemorySegment.NULL))
+				throw new IllegalStateException("FFTW3 could not plan real-to-complex size " + size);
+			c2r = library.planDFTC2R1D(size, c, r, FFTW3PanamaLibrary.FFTW_MEASURE);
+			if (c2r == null || c2r.equals(MemorySegment.NULL))
+				throw new IllegalStateException("FFTW3 could not plan complex-to-real size " + size);
+
+			// Planning destroys data, prepare spectrum for inverse transform
+			MemorySegment.copy(jr, 0, r, ValueLayout.JAVA_DOUBLE, 0L, size);
+			library.execute(r2c);
+			MemorySegment.copy(c, ValueLayout.JAVA_DOUBLE, 0L, jc, 0, spectrum * 2);
+		}
+
+		@TearDown(Level.Trial)
+		public void TearDown() {
+			if (library != null) {
+				if (r2c != null)
+					library.destroyPlan(r2c);
+				if (c2r != null)
+					library.destroyPlan(c2r);
+				library.close();
+			}
+			if (arena != null)
+				arena.close();
+		}
+	}
+
+	@Benchmark
+	public void R2CFFTOnly(BenchState state) {
+		state.library.execute(state.r2c);
+	}
+
+	@Benchmark
+	public void R2CFullBatch(BenchState state) {
+		MemorySegment.copy(state.jr, 0, state.r, ValueLayout.JAVA_DOUBLE, 0L, state.size);
+		state.library.execute(state.r2c);
+		MemorySegment.copy(state.c, ValueLayout.JAVA_DOUBLE, 0L, state.jc, 0, state.spectrum * 2);
+	}
+
+	@Benchmark
+	public void C2RFullBatch(BenchState state) {
+		// Inverse transform destroys its input, so copy is needed even for pure FFT
+		MemorySegment.copy(state.jc, 0, state.c, ValueLayout.JAVA_DOUBLE, 0L, state.spectrum * 2);
+		state.library.execute(state.c2r);
+		MemorySegment.copy(state.r, ValueLayout.JAVA_DOUBLE, 0L, state.jo, 0, state.size);
+	}
+}
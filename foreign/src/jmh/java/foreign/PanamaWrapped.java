@@ -0,0 +1,61 @@
+package foreign;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.foreign.*;
+
+/**
+ * Panama version of {@link JNAWrapped}: plan is executed with "execute with
+ * new arrays" FFTW3 API directly on Java arrays, without any copying.
+ *
+ * @author Lev Serebryakov
+ */
+public class PanamaWrapped extends FFTBenchmarkParams {
+	@State(org.openjdk.jmh.annotations.Scope.Thread)
+	public static class BenchState extends FFTState {
+		FFTW3PanamaLibrary library;
+		Arena arena = null;
+		MemorySegment i;
+		MemorySegment o;
+		MemorySegment plan = null;
+
+		@Setup(Level.Trial)
+		public void Setup(BenchmarkParams params) {
+			Setup(Integer.parseInt(params.getParam("size")), Boolean.parseBoolean(params.getParam("inPlace")));
+		}
+
+		public void Setup(int size, boolean inPlace) {
+			super.Setup(size, inPlace);
+			library = new FFTW3PanamaLibrary();
+			arena = Arena.ofShared();
+
+			// Planning needs native memory, Java arrays have no alignment which FFTW wants
+			MemorySegment pi = arena.allocate(MemoryLayout.sequenceLayout(size, FFTW3PanamaLibrary.DOUBLE_COMPLEX));
+			MemorySegment po = inPlace ? pi : arena.allocate(MemoryLayout.sequenceLayout(size, FFTW3PanamaLibrary.DOUBLE_COMPLEX));
+			plan = library.planDFT1D(size, pi, po, FFTW3PanamaLibrary.FFTW_FORWARD, FFTW3PanamaLibrary.FFTW_MEASURE | FFTW3PanamaLibrary.FFTW_UNALIGNED);
+			if (plan == null || plan.equals(MemorySegment.NULL))
+				throw new IllegalStateException("FFTW3 could not plan size " + size);
+
+			i = MemorySegment.ofArray(ji);
+			// inPlace too
+			o = MemorySegment.ofArray(jo);
+		}
+
+		@TearDown(Level.Trial)
+		public void TearDown() {
+			if (library != null) {
+				if (plan != null)
+					library.destroyPlan(plan);
+				library.close();
+			}
+			if (arena != null)
+				arena.close();
+		}
+	}
+
+	@Benchmark
+	public void Full(BenchState state) {
+		state.library.executeDFT(state.plan, state.i, state.o);
+	}
+}
@@ -0,0 +1,93 @@
+package foreign;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.foreign.*;
+
+/**
+ * Access patterns of {@link FFTW3PlanCache}, each one gets plan and executes it:
+ * <ul>
+ *     <li>{@code Cold} - cache is cleared before each access, so plan is made every time.</li>
+ *     <li>{@code Warm} - the same plan is accessed every time.</li>
+ *     <li>{@code Churn} - all combinations of direction, in-place flag and alignment
+ *     are accessed by turn, and cache has room only for half of them, so each
+ *     access evicts least recently used plan and makes new one.</li>
+ * </ul>
+ * Note, that FFTW3 accumulates wisdom in process, so re-planning of the same
+ * transform with {@code MEASURE} is much cheaper than first one.
+ *
+ * @author Lev Serebryakov
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 10, time = 5)
+@Threads(1)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class PlanCache {
+	// Number of combinations of direction, in-place flag and alignment
+	private final static int KEYS = 8;
+
+	@Param({"256", "4096", "65536"})
+	public int size;
+
+	@Param({"ESTIMATE", "MEASURE"})
+	public String planner;
+
+	FFTW3PanamaLibrary library;
+	FFTW3PlanCache cache;
+	Arena arena;
+	MemorySegment i;
+	MemorySegment o;
+	int flags;
+	int next = 0;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		library = new FFTW3PanamaLibrary();
+		// Room for half of keys
+		cache = new FFTW3PlanCache(library, (long)size * KEYS / 2);
+		arena = Arena.ofShared();
+		MemoryLayout layout = MemoryLayout.sequenceLayout(size, FFTW3PanamaLibrary.DOUBLE_COMPLEX).withByteAlignment(FFTW3PlanCache.ALIGNMENT);
+		i = arena.allocate(layout);
+		o = arena.allocate(layout);
+		for (int j = 0; j < size * 2; j++)
+			i.setAtIndex(ValueLayout.JAVA_DOUBLE, j, Math.random() * 2 - 1.0);
+		flags = planner.equals("MEASURE") ? FFTW3PanamaLibrary.FFTW_MEASURE : FFTW3PanamaLibrary.FFTW_ESTIMATE;
+	}
+
+	@TearDown(Level.Trial)
+	public void TearDown() {
+		if (cache != null)
+			cache.close();
+		if (library != null)
+			library.close();
+		if (arena != null)
+			arena.close();
+	}
+
+	@Benchmark
+	public void Cold() {
+		cache.clear();
+		transform(0);
+	}
+
+	@Benchmark
+	public void Warm() {
+		transform(0);
+	}
+
+	@Benchmark
+	public void Churn() {
+		transform(next);
+		next = (next + 1) % KEYS;
+	}
+
+	private void transform(int key) {
+		final boolean inPlace = (key & 1) != 0;
+		final boolean aligned = (key & 2) != 0;
+		final int sign = (key & 4) != 0 ? FFTW3PanamaLibrary.FFTW_BACKWARD : FFTW3PanamaLibrary.FFTW_FORWARD;
+		try (FFTW3PlanCache.Lease lease = cache.acquire(size, sign, inPlace, aligned, flags)) {
+			lease.execute(i, inPlace ? i : o);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package foreign;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * @author Lev Serebryakov
+ */
+public class VectorAPI extends FFTBenchmarkParams {
+	@State(org.openjdk.jmh.annotations.Scope.Thread)
+	public static class BenchState extends FFTState {
+		VectorFFT p;
+
+		@Setup(Level.Trial)
+		public void Setup(BenchmarkParams params) {
+			Setup(Integer.parseInt(params.getParam("size")), Boolean.parseBoolean(params.getParam("inPlace")));
+		}
+
+		public void Setup(int size, boolean inPlace) {
+			super.Setup(size, inPlace);
+			p = new VectorFFT(size);
+		}
+	}
+
+	@Benchmark
+	public void FFTOnly(BenchState state) {
+		// Simply transform
+		state.p.forward(state.jo, state.jo);
+	}
+
+	@Benchmark
+	public void Full(BenchState state) {
+		// Out-of-place transform doesn't need copy, in-place one works on the same array
+		state.p.forward(state.ji, state.jo);
+	}
+}
@@ -0,0 +1,560 @@
+package foreign;
+
+import jdk.incubator.vector.*;
+import vectorapi.VOVecd;
+
+import java.util.Arrays;
+
+/**
+ * Pure-Java forward complex FFT of interleaved {@code double[]} vectors
+ * ({@code re0, im0, re1, im1, ...}, as complex vectors of {@code vector}
+ * project), vectorized with Vector API. Result is not normalized, as FFTW and
+ * JTransforms ones.
+ * <p>
+ * Power-of-2 sizes are transformed by iterative radix-4 decimation-in-time
+ * algorithm (with one radix-2 stage for odd powers of 2) after bit-reversal
+ * permutation. Twiddles of each stage are precomputed and stored spread to
+ * vector layout, so complex multiplication is two multiplications and one
+ * shuffle. Stages which butterflies are shorter than one vector are scalar.
+ * <p>
+ * Other composite sizes are split as {@code n = n1 * n2} by Cooley-Tukey
+ * algorithm (mixed radix). If size has small odd prime factor {@code p}, it is
+ * used as {@code n1}: each of {@code p} outputs of radix-{@code p} butterfly is
+ * computed by direct DFT for {@code n2} butterflies at once, which are contiguous
+ * and are vectorized, then outputs are multiplied by twiddles and each of them
+ * is transformed as vector of size {@code n2}. Sizes without small odd factors
+ * are split with {@code n1} being power-of-2 part of size or its smallest prime
+ * factor into {@code n2} transforms of size {@code n1}, multiplication by twiddles
+ * and {@code n1} transforms of size {@code n2}. Sub-transforms are planned the
+ * same way. Small primes are transformed by direct DFT and large ones by
+ * Bluestein (chirp-z) algorithm, which is convolution with chirp computed by
+ * power-of-2 transforms of size at least {@code 2 * n - 1}. Element-wise
+ * multiplications of these algorithms are done by {@link VOVecd}.
+ * <p>
+ * Transform has scratch buffers and is not thread-safe.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+public class VectorFFT {
+	private final static VectorSpecies<Double> PDS = DoubleVector.SPECIES_PREFERRED;
+	private final static int EPV = PDS.length();
+	// Complex numbers in one vector
+	private final static int CPV = EPV / 2;
+	// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+	private final static VectorShuffle<Double> SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.fromOp(PDS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+	// [1, -1, 1, -1, ...], to multiply swapped vector by -i
+	private final static DoubleVector SIGN_IM;
+
+	// Primes smaller than this are transformed by direct DFT, it is faster than three transforms of Bluestein
+	private final static int DIRECT_MAX = 19;
+	// Odd prime factors smaller than this are used as radix, larger ones are transformed as columns
+	private final static int RADIX_MAX = 48;
+
+	private final static int POW2 = 0;
+	private final static int RADIX = 1;
+	private final static int SPLIT = 2;
+	private final static int DIRECT = 3;
+	private final static int BLUESTEIN = 4;
+
+	static {
+		double sign[] = new double[EPV];
+		for (int i = 0; i < EPV; i++)
+			sign[i] = (i % 2 == 0) ? 1.0 : -1.0;
+		SIGN_IM = DoubleVector.fromArray(PDS, sign, 0);
+	}
+
+	private final int size;
+	private final int kind;
+
+	// Power of 2: bit-reversal permutation
+	private final int rev[];
+	private final boolean radix2;
+	// Power of 2: twiddles of radix-4 stages, for each stage with quarter h there are
+	// re(w1), im(w1), re(w2), im(w2), re(w3), im(w3), each is spread to 2 * h numbers
+	private final double tw[];
+
+	// Radix and split: size is n1 * n2
+	private final int n1;
+	private final int n2;
+	private final VectorFFT sub1;
+	private final VectorFFT sub2;
+	// Radix: powers of root of unity of size n1, spread as twiddles of power-of-2 stages
+	private final double rw[];
+
+	// Direct: powers of root of unity, split: twiddles [n2][n1], Bluestein: chirp
+	private final double w[];
+	// Bluestein: conjugated transform of conjugated chirp, divided by its size
+	private final double cb[];
+	// Sub-transform of Bluestein
+	private final VectorFFT sub;
+
+	// Scratch: input of direct DFT, matrix of split and convolution of Bluestein
+	private final double t[];
+	// Scratch: column of split
+	private final double col[];
+
+	public VectorFFT(int size) {
+		if (size < 1)
+			throw new IllegalArgumentException("Size must be positive, got " + size);
+		this.size = size;
+
+		final int p = smallestFactor(size);
+		final int q = smallestFactor(size / (size & -size));
+		if ((size & (size - 1)) == 0)
+			kind = POW2;
+		else if (q < RADIX_MAX && q != size)
+			kind = RADIX;
+		else if (p != size)
+			kind = SPLIT;
+		else if (size < DIRECT_MAX)
+			kind = DIRECT;
+		else
+			kind = BLUESTEIN;
+
+		if (kind == POW2) {
+			final int bits = Integer.numberOfTrailingZeros(size);
+			rev = new int[size];
+			for (int i = 0; i < size; i++)
+				rev[i] = bits == 0 ? 0 : Integer.reverse(i) >>> (32 - bits);
+
+			radix2 = bits % 2 == 1;
+			int total = 0;
+			for (int h = radix2 ? 2 : 1; h * 4 <= size; h *= 4)
+				total += 12 * h;
+			tw = new double[total];
+			int t = 0;
+			for (int h = radix2 ? 2 : 1; h * 4 <= size; h *= 4) {
+				for (int k = 0; k < h; k++) {
+					for (int r = 1; r <= 3; r++) {
+						// w_r = exp(-2 * pi * i * r * k / (4 * h))
+						final double a = -2.0 * Math.PI * r * k / (4.0 * h);
+						final int o = t + (r - 1) * 4 * h + k * 2;
+						tw[o + 0] = Math.cos(a);
+						tw[o + 1] = Math.cos(a);
+						tw[o + 2 * h + 0] = -Math.sin(a);
+						tw[o + 2 * h + 1] = Math.sin(a);
+					}
+				}
+				t += 12 * h;
+			}
+		} else {
+			rev = null;
+			radix2 = false;
+			tw = null;
+		}
+
+		if (kind == RADIX) {
+			n1 = q;
+			n2 = size / n1;
+			sub1 = null;
+			sub2 = new VectorFFT(n2);
+			rw = new double[n1 * EPV * 2];
+			final double r[] = new double[2];
+			for (int m = 0; m < n1; m++) {
+				root(r, 0, m, n1);
+				for (int i = 0; i < EPV; i += 2) {
+					rw[m * EPV * 2 + i + 0] = r[0];
+					rw[m * EPV * 2 + i + 1] = r[0];
+					rw[m * EPV * 2 + EPV + i + 0] = -r[1];
+					rw[m * EPV * 2 + EPV + i + 1] = r[1];
+				}
+			}
+		} else if (kind == SPLIT) {
+			// Power-of-2 part goes to fast vectorized transforms of rows
+			final int pow2 = size & -size;
+			n1 = pow2 > 1 ? pow2 : p;
+			n2 = size / n1;
+			sub1 = new VectorFFT(n1);
+			sub2 = new VectorFFT(n2);
+			rw = null;
+		} else {
+			n1 = 0;
+			n2 = 0;
+			sub1 = null;
+			sub2 = null;
+			rw = null;
+		}
+
+		if (kind == RADIX) {
+			// w[k][r] = exp(-2 * pi * i * k * r / size)
+			w = new double[size * 2];
+			for (int k = 0; k < n1; k++)
+				for (int r = 0; r < n2; r++)
+					root(w, k * n2 + r, (long)k * r, size);
+		} else if (kind == SPLIT) {
+			// w[r][k] = exp(-2 * pi * i * r * k / size)
+			w = new double[size * 2];
+			for (int r = 0; r < n2; r++)
+				for (int k = 0; k < n1; k++)
+					root(w, r * n1 + k, (long)r * k, size);
+		} else if (kind == DIRECT) {
+			w = new double[size * 2];
+			for (int m = 0; m < size; m++)
+				root(w, m, m, size);
+		} else if (kind == BLUESTEIN) {
+			// w[k] = exp(-pi * i * k^2 / size)
+			w = new double[size * 2];
+			for (int k = 0; k < size; k++)
+				root(w, k, (long)k * k % (size * 2L), size * 2);
+		} else {
+			w = null;
+		}
+
+		if (kind == BLUESTEIN) {
+			final int m = Integer.highestOneBit(size * 2 - 1) << 1;
+			sub = new VectorFFT(m);
+			// Conjugated chirp, symmetric around zero and wrapped
+			final double b[] = new double[m * 2];
+			for (int k = 0; k < size; k++) {
+				b[k * 2 + 0] = w[k * 2 + 0];
+				b[k * 2 + 1] = -w[k * 2 + 1];
+				if (k > 0) {
+					b[(m - k) * 2 + 0] = w[k * 2 + 0];
+					b[(m - k) * 2 + 1] = -w[k * 2 + 1];
+				}
+			}
+			sub.forward(b, b);
+			cb = new double[m * 2];
+			for (int k = 0; k < m; k++) {
+				cb[k * 2 + 0] = b[k * 2 + 0] / m;
+				cb[k * 2 + 1] = -b[k * 2 + 1] / m;
+			}
+			t = new double[m * 2];
+		} else {
+			sub = null;
+			cb = null;
+			t = kind != POW2 ? new double[size * 2] : null;
+		}
+		col = kind == SPLIT ? new double[n2 * 2] : null;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/** Transforms {@code in} to {@code out}, which could be the same array. */
+	public void forward(double in[], double out[]) {
+		transform(in, 0, out, 0);
+	}
+
+	// Offsets are in complex numbers, out could be in only with the same offset
+	private void transform(double in[], int inOffset, double out[], int outOffset) {
+		switch (kind) {
+			case POW2:
+				pow2(in, inOffset, out, outOffset);
+				break;
+			case RADIX:
+				radix(in, inOffset, out, outOffset);
+				break;
+			case SPLIT:
+				split(in, inOffset, out, outOffset);
+				break;
+			case DIRECT:
+				dft(in, inOffset, out, outOffset);
+				break;
+			case BLUESTEIN:
+				bluestein(in, inOffset, out, outOffset);
+				break;
+		}
+	}
+
+	private void pow2(double in[], int inOffset, double out[], int outOffset) {
+		permute(in, inOffset, out, outOffset);
+
+		final int base = outOffset * 2;
+		int h = 1;
+		if (radix2) {
+			for (int j = base; j < base + size * 2; j += 4) {
+				final double are = out[j + 0];
+				final double aim = out[j + 1];
+				final double bre = out[j + 2];
+				final double bim = out[j + 3];
+				out[j + 0] = are + bre;
+				out[j + 1] = aim + bim;
+				out[j + 2] = are - bre;
+				out[j + 3] = aim - bim;
+			}
+			h = 2;
+		}
+
+		int t = 0;
+		for (; h * 4 <= size; h *= 4) {
+			if (h == 1)
+				radix4First(out, base);
+			else if (h >= CPV)
+				radix4(out, base, h, t);
+			else
+				radix4Scalar(out, base, h, t);
+			t += 12 * h;
+		}
+	}
+
+	private void permute(double in[], int inOffset, double out[], int outOffset) {
+		inOffset <<= 1;
+		outOffset <<= 1;
+		if (in == out) {
+			for (int i = 0; i < size; i++) {
+				final int r = rev[i];
+				if (i < r) {
+					final double re = out[outOffset + i * 2 + 0];
+					final double im = out[outOffset + i * 2 + 1];
+					out[outOffset + i * 2 + 0] = out[outOffset + r * 2 + 0];
+					out[outOffset + i * 2 + 1] = out[outOffset + r * 2 + 1];
+					out[outOffset + r * 2 + 0] = re;
+					out[outOffset + r * 2 + 1] = im;
+				}
+			}
+		} else {
+			for (int i = 0; i < size; i++) {
+				final int r = rev[i];
+				out[outOffset + r * 2 + 0] = in[inOffset + i * 2 + 0];
+				out[outOffset + r * 2 + 1] = in[inOffset + i * 2 + 1];
+			}
+		}
+	}
+
+	// Radix-4 stage: each block of 4 * h numbers is combined from 4 transforms of size h
+	private void radix4(double x[], int base, int h, int t) {
+		final int h2 = h * 2;
+		final int tw1re = t;
+		final int tw1im = t + h2;
+		final int tw2re = t + h2 * 2;
+		final int tw2im = t + h2 * 3;
+		final int tw3re = t + h2 * 4;
+		final int tw3im = t + h2 * 5;
+
+		for (int j = base; j < base + size * 2; j += h2 * 4) {
+			for (int k = 0; k < h2; k += EPV) {
+				final int o0 = j + k;
+				final int o1 = o0 + h2;
+				final int o2 = o1 + h2;
+				final int o3 = o2 + h2;
+
+				final DoubleVector c0 = DoubleVector.fromArray(PDS, x, o0);
+				final DoubleVector c1 = cmul(DoubleVector.fromArray(PDS, x, o1), tw, tw2re + k, tw2im + k);
+				final DoubleVector c2 = cmul(DoubleVector.fromArray(PDS, x, o2), tw, tw1re + k, tw1im + k);
+				final DoubleVector c3 = cmul(DoubleVector.fromArray(PDS, x, o3), tw, tw3re + k, tw3im + k);
+
+				final DoubleVector s0 = c0.add(c1);
+				final DoubleVector s1 = c0.sub(c1);
+				final DoubleVector s2 = c2.add(c3);
+				// -i * (c2 - c3)
+				final DoubleVector s3 = c2.sub(c3).rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(SIGN_IM);
+
+				s0.add(s2).intoArray(x, o0);
+				s1.add(s3).intoArray(x, o1);
+				s0.sub(s2).intoArray(x, o2);
+				s1.sub(s3).intoArray(x, o3);
+			}
+		}
+	}
+
+	// (x.re * w.re - x.im * w.im, x.im * w.re + x.re * w.im), w is spread to (re, re) and (-im, im)
+	private static DoubleVector cmul(DoubleVector vx, double tw[], int re, int im) {
+		return vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(DoubleVector.fromArray(PDS, tw, im), vx.mul(DoubleVector.fromArray(PDS, tw, re)));
+	}
+
+	// First radix-4 stage, all twiddles are 1
+	private void radix4First(double x[], int base) {
+		for (int j = base; j < base + size * 2; j += 8) {
+			final double s0re = x[j + 0] + x[j + 2];
+			final double s0im = x[j + 1] + x[j + 3];
+			final double s1re = x[j + 0] - x[j + 2];
+			final double s1im = x[j + 1] - x[j + 3];
+			final double s2re = x[j + 4] + x[j + 6];
+			final double s2im = x[j + 5] + x[j + 7];
+			// -i * (c2 - c3)
+			final double s3re = x[j + 5] - x[j + 7];
+			final double s3im = x[j + 6] - x[j + 4];
+
+			x[j + 0] = s0re + s2re;
+			x[j + 1] = s0im + s2im;
+			x[j + 2] = s1re + s3re;
+			x[j + 3] = s1im + s3im;
+			x[j + 4] = s0re - s2re;
+			x[j + 5] = s0im - s2im;
+			x[j + 6] = s1re - s3re;
+			x[j + 7] = s1im - s3im;
+		}
+	}
+
+	private void radix4Scalar(double x[], int base, int h, int t) {
+		final int h2 = h * 2;
+		for (int j = base; j < base + size * 2; j += h2 * 4) {
+			for (int k = 0; k < h2; k += 2) {
+				final int o0 = j + k;
+				final int o1 = o0 + h2;
+				final int o2 = o1 + h2;
+				final int o3 = o2 + h2;
+
+				final double w1re = tw[t + k];
+				final double w1im = tw[t + h2 + k + 1];
+				final double w2re = tw[t + h2 * 2 + k];
+				final double w2im = tw[t + h2 * 3 + k + 1];
+				final double w3re = tw[t + h2 * 4 + k];
+				final double w3im = tw[t + h2 * 5 + k + 1];
+
+				final double c0re = x[o0 + 0];
+				final double c0im = x[o0 + 1];
+				final double c1re = x[o1 + 0] * w2re - x[o1 + 1] * w2im;
+				final double c1im = x[o1 + 1] * w2re + x[o1 + 0] * w2im;
+				final double c2re = x[o2 + 0] * w1re - x[o2 + 1] * w1im;
+				final double c2im = x[o2 + 1] * w1re + x[o2 + 0] * w1im;
+				final double c3re = x[o3 + 0] * w3re - x[o3 + 1] * w3im;
+				final double c3im = x[o3 + 1] * w3re + x[o3 + 0] * w3im;
+
+				final double s0re = c0re + c1re;
+				final double s0im = c0im + c1im;
+				final double s1re = c0re - c1re;
+				final double s1im = c0im - c1im;
+				final double s2re = c2re + c3re;
+				final double s2im = c2im + c3im;
+				// -i * (c2 - c3)
+				final double s3re = c2im - c3im;
+				final double s3im = c3re - c2re;
+
+				x[o0 + 0] = s0re + s2re;
+				x[o0 + 1] = s0im + s2im;
+				x[o1 + 0] = s1re + s3re;
+				x[o1 + 1] = s1im + s3im;
+				x[o2 + 0] = s0re - s2re;
+				x[o2 + 1] = s0im - s2im;
+				x[o3 + 0] = s1re - s3re;
+				x[o3 + 1] = s1im - s3im;
+			}
+		}
+	}
+
+	// X[k1 + n1 * k2] = sum(w(j2 * k2) * w(j2 * k1) * sum(x[n2 * j1 + j2] * w1(j1 * k1))), sums over j2 and j1
+	private void radix(double in[], int inOffset, double out[], int outOffset) {
+		inOffset <<= 1;
+		outOffset <<= 1;
+		final int row = n2 * 2;
+		final int vrow = PDS.loopBound(row);
+
+		// Rows: t[k1][j2] is output k1 of butterfly j2, which inputs are x[n2 * j1 + j2]
+		for (int k1 = 0; k1 < n1; k1++) {
+			final int to = k1 * row;
+			int j = 0;
+			for (; j < vrow; j += EPV) {
+				DoubleVector vs = DoubleVector.fromArray(PDS, in, inOffset + j);
+				int m = k1;
+				for (int j1 = 1; j1 < n1; j1++) {
+					vs = vs.add(cmul(DoubleVector.fromArray(PDS, in, inOffset + j1 * row + j), rw, m * EPV * 2, m * EPV * 2 + EPV));
+					m += k1;
+					if (m >= n1)
+						m -= n1;
+				}
+				vs.intoArray(t, to + j);
+			}
+			for (; j < row; j += 2) {
+				double re = in[inOffset + j + 0];
+				double im = in[inOffset + j + 1];
+				int m = k1;
+				for (int j1 = 1; j1 < n1; j1++) {
+					final double xre = in[inOffset + j1 * row + j + 0];
+					final double xim = in[inOffset + j1 * row + j + 1];
+					final double wre = rw[m * EPV * 2];
+					final double wim = rw[m * EPV * 2 + EPV + 1];
+					re += xre * wre - xim * wim;
+					im += xim * wre + xre * wim;
+					m += k1;
+					if (m >= n1)
+						m -= n1;
+				}
+				t[to + j + 0] = re;
+				t[to + j + 1] = im;
+			}
+		}
+
+		VOVecd.cv_mul_cv_i(t, n2, w, n2, size - n2);
+
+		// Transform of row k1 goes to X[k1 + n1 * k2]
+		for (int k1 = 0; k1 < n1; k1++) {
+			sub2.transform(t, k1 * n2, t, k1 * n2);
+			for (int k2 = 0; k2 < n2; k2++) {
+				out[outOffset + (k1 + n1 * k2) * 2 + 0] = t[(k1 * n2 + k2) * 2 + 0];
+				out[outOffset + (k1 + n1 * k2) * 2 + 1] = t[(k1 * n2 + k2) * 2 + 1];
+			}
+		}
+	}
+
+	// X[k1 + n1 * k2] = sum(w(n2 * k1) * sum(x[n2 * j1 + j2] * w1(j1 * k1)) * w2(j2 * k2)), sums over j1 and j2
+	private void split(double in[], int inOffset, double out[], int outOffset) {
+		inOffset <<= 1;
+		outOffset <<= 1;
+
+		// Rows: t[j2][j1] = x[n2 * j1 + j2], then transform of each row
+		for (int j2 = 0; j2 < n2; j2++) {
+			for (int j1 = 0; j1 < n1; j1++) {
+				t[(j2 * n1 + j1) * 2 + 0] = in[inOffset + (n2 * j1 + j2) * 2 + 0];
+				t[(j2 * n1 + j1) * 2 + 1] = in[inOffset + (n2 * j1 + j2) * 2 + 1];
+			}
+			sub1.transform(t, j2 * n1, t, j2 * n1);
+		}
+
+		VOVecd.cv_mul_cv_i(t, 0, w, 0, size);
+
+		// Columns: transform of t[*][k1] goes to X[k1 + n1 * k2]
+		for (int k1 = 0; k1 < n1; k1++) {
+			for (int j2 = 0; j2 < n2; j2++) {
+				col[j2 * 2 + 0] = t[(j2 * n1 + k1) * 2 + 0];
+				col[j2 * 2 + 1] = t[(j2 * n1 + k1) * 2 + 1];
+			}
+			sub2.transform(col, 0, col, 0);
+			for (int k2 = 0; k2 < n2; k2++) {
+				out[outOffset + (k1 + n1 * k2) * 2 + 0] = col[k2 * 2 + 0];
+				out[outOffset + (k1 + n1 * k2) * 2 + 1] = col[k2 * 2 + 1];
+			}
+		}
+	}
+
+	// X[k] = w[k] * sum(x[j] * w[j] * conj(w[k - j])), convolution is done by transforms of size m
+	private void bluestein(double in[], int inOffset, double out[], int outOffset) {
+		final int m = sub.size();
+
+		VOVecd.cv_mul_cv(t, 0, in, inOffset, w, 0, size);
+		Arrays.fill(t, size * 2, m * 2, 0.0);
+		sub.transform(t, 0, t, 0);
+		// Inverse transform is conj(forward(conj(x))) / m, so conj(A * B) / m
+		VOVecd.cv_conjmul_cv(t, 0, cb, 0, t, 0, m);
+		sub.transform(t, 0, t, 0);
+		VOVecd.cv_conjmul_cv(out, outOffset, w, 0, t, 0, size);
+	}
+
+	private void dft(double in[], int inOffset, double out[], int outOffset) {
+		System.arraycopy(in, inOffset * 2, t, 0, size * 2);
+		outOffset <<= 1;
+		for (int k = 0; k < size; k++) {
+			double re = 0.0;
+			double im = 0.0;
+			int m = 0;
+			for (int j = 0; j < size; j++) {
+				re += t[j * 2 + 0] * w[m * 2 + 0] - t[j * 2 + 1] * w[m * 2 + 1];
+				im += t[j * 2 + 1] * w[m * 2 + 0] + t[j * 2 + 0] * w[m * 2 + 1];
+				m += k;
+				if (m >= size)
+					m -= size;
+			}
+			out[outOffset + k * 2 + 0] = re;
+			out[outOffset + k * 2 + 1] = im;
+		}
+	}
+
+	// w[i] = exp(-2 * pi * i * k / n)
+	private static void root(double w[], int i, long k, int n) {
+		final double a = -2.0 * Math.PI * (k % n) / n;
+		w[i * 2 + 0] = Math.cos(a);
+		w[i * 2 + 1] = Math.sin(a);
+	}
+
+	private static int smallestFactor(int n) {
+		if (n % 2 == 0)
+			return 2;
+		for (int p = 3; p <= n / p; p += 2)
+			if (n % p == 0)
+				return p;
+		return n;
+	}
+}
@@ -0,0 +1,88 @@
+package foreign;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.foreign.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to first transform at service start: all in-process wisdom is forgotten,
+ * then transform is planned (with wisdom loaded from file by {@link FFTW3Wisdom}
+ * or without it) and executed once. Wisdom file is prepared by
+ * {@link FFTW3Wisdom#warm(FFTW3PanamaLibrary, int[], int, String)} once per trial.
+ *
+ * @author Lev Serebryakov
+ */
+@Fork(2)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class Wisdom {
+	@Param({"1024", "4099", "65536"})
+	public int size;
+
+	@Param({"MEASURE", "PATIENT"})
+	public String planner;
+
+	FFTW3PanamaLibrary library;
+	Arena arena;
+	MemorySegment i;
+	MemorySegment o;
+	int flags;
+	String filename;
+
+	@Setup(Level.Trial)
+	public void Setup() throws IOException {
+		library = new FFTW3PanamaLibrary();
+		arena = Arena.ofShared();
+		MemoryLayout layout = MemoryLayout.sequenceLayout(size, FFTW3PanamaLibrary.DOUBLE_COMPLEX).withByteAlignment(64);
+		i = arena.allocate(layout);
+		o = arena.allocate(layout);
+		flags = planner.equals("PATIENT") ? FFTW3PanamaLibrary.FFTW_PATIENT : FFTW3PanamaLibrary.FFTW_MEASURE;
+
+		File file = File.createTempFile("fftw3-wisdom", ".txt");
+		file.delete();
+		filename = file.getAbsolutePath();
+		if (!FFTW3Wisdom.warm(library, new int[] { size }, flags, filename))
+			throw new IOException("Could not save wisdom to " + filename);
+	}
+
+	@TearDown(Level.Trial)
+	public void TearDown() {
+		if (filename != null)
+			new File(filename).delete();
+		if (library != null)
+			library.close();
+		if (arena != null)
+			arena.close();
+	}
+
+	@Benchmark
+	public void WithoutWisdom() {
+		library.forgetWisdom();
+		transform();
+	}
+
+	@Benchmark
+	public void WithWisdom() {
+		library.forgetWisdom();
+		FFTW3Wisdom.load(library, filename);
+		transform();
+	}
+
+	private void transform() {
+		// Planning destroys data, so fill input after it
+		MemorySegment plan = library.planDFT1D(size, i, o, FFTW3PanamaLibrary.FFTW_FORWARD, flags);
+		if (plan == null || plan.equals(MemorySegment.NULL))
+			throw new IllegalStateException("FFTW3 could not plan size " + size);
+		for (int j = 0; j < size * 2; j++)
+			i.setAtIndex(ValueLayout.JAVA_DOUBLE, j, j);
+		library.execute(plan);
+		library.destroyPlan(plan);
+	}
+}
@@ -0,0 +1,479 @@
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\
+!! THIS FILE IS GENERATED WITH genBenchmarks.pl SCRIPT. DO NOT EDIT! !!
+\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector;
+
+import vectorapi.VOd;
+import vectorapi.VOVecd;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 5)
+@Threads(1)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class VectorBenchmarksDoubleInPlaceR {
+    private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+    private final static int DATA_SIZE = 65536;
+
+    @Param({"3", "4", "7", "8", "15", "128", "1024", "65536"})
+    public int callSize;
+
+    private final static int MAX_OFFSET = 512 / Double.SIZE - 1; // Max vector size in `double`s;
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
+    public int startOffset;
+
+    private double rvx[];
+    private double rvy[];
+    private double rvz[];
+    private double rvd[];
+
+    private double cvx[];
+    private double cvy[];
+    private double cvz[];
+    private double cvd[];
+
+    private double rsx;
+    private double rsy;
+    private double rsz;
+
+    private double csx[];
+    private double csy[];
+    private double csz[];
+
+
+    @Setup(Level.Trial)
+    public void Setup() {
+        Random r = new Random(SEED);
+
+        rvx = new double[DATA_SIZE + MAX_OFFSET];
+        rvy = new double[DATA_SIZE + MAX_OFFSET];
+        rvz = new double[DATA_SIZE + MAX_OFFSET];
+        rvd = new double[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvx.length; i++) {
+            rvx[i] = r.nextDouble() * 2.0 - 1.0;
+            rvy[i] = r.nextDouble() * 2.0 - 1.0;
+            rvd[i] = rvz[i] = r.nextDouble() * 2.0 - 1.0;
+        }
+
+        cvx = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvz = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvd = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = r.nextDouble() * 2.0 - 1.0;
+            cvy[i] = r.nextDouble() * 2.0 - 1.0;
+            cvd[i] = cvz[i] = r.nextDouble() * 2.0 - 1.0;
+        }
+
+        rsx = r.nextDouble() * 2.0 - 1.0;
+        rsy = r.nextDouble() * 2.0 - 1.0;
+        rsz = r.nextDouble() * 2.0 - 1.0;
+
+        csx = new double[] { r.nextDouble() * 2.0 - 1.0, r.nextDouble() * 2.0 - 1.0 };
+        csy = new double[] { r.nextDouble() * 2.0 - 1.0, r.nextDouble() * 2.0 - 1.0 };
+        csz = new double[] { r.nextDouble() * 2.0 - 1.0, r.nextDouble() * 2.0 - 1.0 };
+    }
+
+    @Setup(Level.Invocation)
+    public void SetupInPlaceData() {
+        System.arraycopy(rvd, 0, rvz, 0, rvd.length);
+    }
+
+
+    @Benchmark
+    public void VOd_rv_10log10_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_i(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_i(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_if(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_if(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10_ifw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_ifw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_ifw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_ifw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_abs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_abs_i(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_abs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_abs_i(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_abs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_abs_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_abs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_abs_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_add_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_add_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_add_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_add_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_add_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_add_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_add_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_add_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_add_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_add_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_add_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_add_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_add_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_add_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_add_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_add_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_div_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_div_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_div_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_div_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_div_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_div_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_div_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_div_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_div_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_div_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_div_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_div_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_div_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_div_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_div_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_div_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_exp_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_exp_i(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_exp_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_exp_i(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_exp_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_exp_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_exp_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_exp_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_max_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_max_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_max_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_max_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_max_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_max_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_max_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_max_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_mul_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_mul_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_mul_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_mul_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_mul_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_mul_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_mul_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_mul_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_mul_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_mul_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_mul_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_mul_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_mul_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_mul_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_mul_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_mul_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_rs_lin_rv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_rs_lin_rv_rs_i(rvz, i, rsz, rvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_rs_lin_rv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_rs_lin_rv_rs_i(rvz, i, rsz, rvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_rs_lin_rv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_rs_lin_rv_rs_iw(rvz, i + DATA_SIZE / 2, rsz, rvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_rs_lin_rv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_rs_lin_rv_rs_iw(rvz, i + DATA_SIZE / 2, rsz, rvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,2028 @@
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\
+!! THIS FILE IS GENERATED WITH genBenchmarks.pl SCRIPT. DO NOT EDIT! !!
+\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector;
+
+import vectorapi.VOd;
+import vectorapi.VOVecd;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 5)
+@Threads(1)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class VectorBenchmarksDoubleOutOfPlace {
+    private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+    private final static int DATA_SIZE = 65536;
+
+    @Param({"3", "4", "7", "8", "15", "128", "1024", "65536"})
+    public int callSize;
+
+    private final static int MAX_OFFSET = 512 / Double.SIZE - 1; // Max vector size in `double`s;
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
+    public int startOffset;
+
+    private double rvx[];
+    private double rvy[];
+    private double rvz[];
+    private double rvd[];
+
+    private double cvx[];
+    private double cvy[];
+    private double cvz[];
+    private double cvd[];
+
+    private double rsx;
+    private double rsy;
+    private double rsz;
+
+    private double csx[];
+    private double csy[];
+    private double csz[];
+
+
+    @Setup(Level.Trial)
+    public void Setup() {
+        Random r = new Random(SEED);
+
+        rvx = new double[DATA_SIZE + MAX_OFFSET];
+        rvy = new double[DATA_SIZE + MAX_OFFSET];
+        rvz = new double[DATA_SIZE + MAX_OFFSET];
+        rvd = new double[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvx.length; i++) {
+            rvx[i] = r.nextDouble() * 2.0 - 1.0;
+            rvy[i] = r.nextDouble() * 2.0 - 1.0;
+            rvd[i] = rvz[i] = r.nextDouble() * 2.0 - 1.0;
+        }
+
+        cvx = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvz = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvd = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = r.nextDouble() * 2.0 - 1.0;
+            cvy[i] = r.nextDouble() * 2.0 - 1.0;
+            cvd[i] = cvz[i] = r.nextDouble() * 2.0 - 1.0;
+        }
+
+        rsx = r.nextDouble() * 2.0 - 1.0;
+        rsy = r.nextDouble() * 2.0 - 1.0;
+        rsz = r.nextDouble() * 2.0 - 1.0;
+
+        csx = new double[] { r.nextDouble() * 2.0 - 1.0, r.nextDouble() * 2.0 - 1.0 };
+        csy = new double[] { r.nextDouble() * 2.0 - 1.0, r.nextDouble() * 2.0 - 1.0 };
+        csz = new double[] { r.nextDouble() * 2.0 - 1.0, r.nextDouble() * 2.0 - 1.0 };
+    }
+
+
+    @Benchmark
+    public void VOd_cs_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cs_div_cv(cvz, i, csx, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cs_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cs_div_cv(cvz, i, csx, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cs_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cs_div_cv_w(cvz, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cs_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cs_div_cv_w(cvz, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_10log10(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_10log10(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_10log10_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_10log10_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_10log10_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_10log10_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_10log10_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_10log10_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_10log10_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_10log10_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_10log10_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_10log10_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_10log10_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_10log10_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_abs(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_abs(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_abs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_abs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_abs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_abs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_add_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_add_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_add_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_add_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_add_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_add_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_add_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_add_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_add_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_add_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_add_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_add_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_add_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_add_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_add_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_add_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_add_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_add_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_add_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_add_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_add_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_add_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_add_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_add_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_add_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_add_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_add_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_add_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_add_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_add_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_add_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_add_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_arg() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_arg(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_arg() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_arg(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_arg_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_arg_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_arg_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_arg_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_arg_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_arg_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_arg_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_arg_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_arg_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_arg_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_arg_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_arg_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_argmul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_argmul_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_argmul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_argmul_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_argmul_rs_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_argmul_rs_f(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_argmul_rs_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_argmul_rs_f(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_argmul_rs_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_argmul_rs_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_argmul_rs_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_argmul_rs_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_argmul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_argmul_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_argmul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_argmul_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_conj() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_conj(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_conj() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_conj(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_conj_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_conj_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_conj_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_conj_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cpy() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cpy(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cpy() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cpy(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cpy_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cpy_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cpy_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cpy_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cs_lin_cv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cs_lin_cv_cs(cvz, i, cvx, i, csx, cvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cs_lin_cv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cs_lin_cv_cs(cvz, i, cvx, i, csx, cvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cs_lin_cv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cs_lin_cv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cs_lin_cv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cs_lin_cv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cs_lin_cv_rs(cvz, i, cvx, i, csx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cs_lin_cv_rs(cvz, i, cvx, i, csx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cs_lin_cv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cs_lin_cv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cs_lin_cv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cs_lin_cv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cs_lin_rv_cs(cvz, i, cvx, i, csx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cs_lin_rv_cs(cvz, i, cvx, i, csx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cs_lin_rv_rs(cvz, i, cvx, i, csx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cs_lin_rv_rs(cvz, i, cvx, i, csx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_cs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_cs_lin_rv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_cs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_cs_lin_rv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_div_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_div_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_div_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_div_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_div_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_div_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_div_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_div_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_div_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_div_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_div_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_div_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_div_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_div_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_div_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_div_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_div_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_div_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_div_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_div_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_div_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_div_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_div_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_div_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_dot_cv(csz, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_dot_cv(csz, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_dot_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_dot_cv_w(csz, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_dot_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_dot_cv_w(csz, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_dot_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_dot_rv_w(csz, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_dot_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_dot_rv_w(csz, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_exp() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_exp(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_exp() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_exp(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_exp_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_exp_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_exp_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_exp_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_exp_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_exp_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_exp_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_exp_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_exp_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_exp_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_exp_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_exp_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_im() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_im(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_im() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_im(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_im_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_im_w(rvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_im_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_im_w(rvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_max() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_max(csz, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_max() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_max(csz, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_max_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_max_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_max_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_max_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_max_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_max_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_max_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_max_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_max_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_max_w(csz, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_max_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_max_w(csz, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_maxarg(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.cv_maxarg(cvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_maxarg(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.cv_maxarg(cvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_maxarg_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.cv_maxarg_w(cvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_maxarg_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.cv_maxarg_w(cvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_mul_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_mul_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_mul_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_mul_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_p2r() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_p2r(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_p2r() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_p2r(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_p2r_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_p2r_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_p2r_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_p2r_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_r2p() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_r2p(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_r2p() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_r2p(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_r2p_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_r2p_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_r2p_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_r2p_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_r2p_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_r2p_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_r2p_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_r2p_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_r2p_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_r2p_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_r2p_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_r2p_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_re() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_re(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_re() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_re(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_re_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_re_w(rvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_re_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_re_w(rvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_rs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_rs_lin_cv_rs(cvz, i, cvx, i, rsx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_rs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_rs_lin_cv_rs(cvz, i, cvx, i, rsx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_rs_lin_cv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_rs_lin_cv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, cvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_rs_lin_cv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_rs_lin_cv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, cvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_rs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_rs_lin_rv_cs(cvz, i, cvx, i, rsx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_rs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_rs_lin_rv_cs(cvz, i, cvx, i, rsx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_rs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_rs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_rs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_rs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_rs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_rs_lin_rv_rs(cvz, i, cvx, i, rsx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_rs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_rs_lin_rv_rs(cvz, i, cvx, i, rsx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_rs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_rs_lin_rv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_rs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_rs_lin_rv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_sum() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_sum(csz, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_sum() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_sum(csz, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_cv_sum_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.cv_sum_w(csz, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_cv_sum_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.cv_sum_w(csz, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rs_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rs_div_cv(cvz, i, rsx, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rs_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rs_div_cv(cvz, i, rsx, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rs_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rs_div_cv_w(cvz, i + DATA_SIZE / 2, rsx, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rs_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rs_div_cv_w(cvz, i + DATA_SIZE / 2, rsx, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rs_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rs_div_rv(rvz, i, rsx, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rs_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rs_div_rv(rvz, i, rsx, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rs_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rs_div_rv_w(rvz, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rs_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rs_div_rv_w(rvz, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_f(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_f(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_fw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_fw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_10log10_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_10log10_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_10log10_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_10log10_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_abs(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_abs(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_abs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_abs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_abs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_abs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_add_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_add_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_add_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_add_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_add_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_add_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_add_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_add_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_add_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_add_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_add_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_add_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_add_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_add_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_add_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_add_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_cpy() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_cpy(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_cpy() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_cpy(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_cpy_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_cpy_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_cpy_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_cpy_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_cs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_cs_lin_rv_cs(cvz, i, rvx, i, csx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_cs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_cs_lin_rv_cs(cvz, i, rvx, i, csx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_cs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_cs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_cs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_cs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_cvt() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_cvt(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_cvt() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_cvt(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_cvt_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_cvt_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_cvt_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_cvt_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_div_cv(cvz, i, rvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_div_cv(cvz, i, rvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_div_cv_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_div_cv_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_div_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_div_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_div_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_div_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_div_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_div_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_div_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_div_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_div_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_div_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_div_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_div_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_dot_cv(csz, rvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_dot_cv(csz, rvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_dot_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_dot_cv_w(csz, rvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_dot_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_dot_cv_w(csz, rvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_dot_rv(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.rv_dot_rv(rvx, i, rvy, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_dot_rv(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.rv_dot_rv(rvx, i, rvy, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_dot_rv_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.rv_dot_rv_w(rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_dot_rv_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.rv_dot_rv_w(rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_exp() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_exp(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_exp() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_exp(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_exp_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_exp_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_exp_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_exp_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_expi() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_expi(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_expi() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_expi(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_expi_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_expi_f(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_expi_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_expi_f(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_expi_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_expi_fw(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_expi_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_expi_fw(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_expi_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_expi_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_expi_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_expi_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_max(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.rv_max(rvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_max(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.rv_max(rvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_max_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_max_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_max_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_max_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_max_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_max_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_max_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_max_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_max_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.rv_max_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_max_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.rv_max_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_maxarg(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.rv_maxarg(rvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_maxarg(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.rv_maxarg(rvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_maxarg_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.rv_maxarg_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_maxarg_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.rv_maxarg_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_mul_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_mul_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_mul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_mul_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_mul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_mul_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_mul_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_mul_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_mul_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_mul_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_mul_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_mul_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_rs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_rs_lin_rv_cs(cvz, i, rvx, i, rsx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_rs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_rs_lin_rv_cs(cvz, i, rvx, i, rsx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_rs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_rs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_rs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_rs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_rs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_rs_lin_rv_rs(rvz, i, rvx, i, rsx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_rs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_rs_lin_rv_rs(rvz, i, rvx, i, rsx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_rs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOd.rv_rs_lin_rv_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_rs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecd.rv_rs_lin_rv_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_sum(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.rv_sum(rvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_sum(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.rv_sum(rvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOd_rv_sum_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOd.rv_sum_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVecd_rv_sum_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVecd.rv_sum_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+}
\ No newline at end of file
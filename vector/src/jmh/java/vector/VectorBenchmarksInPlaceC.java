@@ -32,6 +32,7 @@ package vector;
 
 import vectorapi.VO;
 import vectorapi.VOVec;
+import vectorapi.VOVecMasked;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -51,7 +52,7 @@ public class VectorBenchmarksInPlaceC {
     @Param({"3", "4", "7", "8", "15", "128", "1024", "65536"})
     public int callSize;
 
-    private final static int MAX_OFFSET = 512 / 32 - 1; // Max vector size in `float`s;
+    private final static int MAX_OFFSET = 512 / Float.SIZE - 1; // Max vector size in `float`s;
     @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
     public int startOffset;
 
@@ -127,6 +128,20 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VO_cv_add_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_add_cs_iw(cvz, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_add_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_add_cs_iw(cvz, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_add_cv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -141,6 +156,34 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_cv_add_cv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_add_cv_i(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_add_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_add_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_add_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_add_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_add_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_add_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_add_rs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -155,6 +198,34 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_cv_add_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_add_rs_i(cvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_add_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_add_rs_iw(cvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_add_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_add_rs_iw(cvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_add_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_add_rs_iw(cvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_add_rv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -169,6 +240,20 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VO_cv_add_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_add_rv_iw(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_add_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_add_rv_iw(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_conj_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -183,6 +268,132 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VO_cv_conj_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_conj_iw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_conj_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_conj_iw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_cv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_cv_cs_i(cvz, i, csz, cvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_cv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_cv_cs_i(cvz, i, csz, cvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_cv_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_cv_cs_iw(cvz, i + DATA_SIZE / 2, csz, cvx, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_cv_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_cv_cs_iw(cvz, i + DATA_SIZE / 2, csz, cvx, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_cv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_cv_rs_i(cvz, i, csz, cvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_cv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_cv_rs_i(cvz, i, csz, cvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_cv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_cv_rs_iw(cvz, i + DATA_SIZE / 2, csz, cvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_cv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_cv_rs_iw(cvz, i + DATA_SIZE / 2, csz, cvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_rv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_rv_cs_i(cvz, i, csz, rvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_rv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_rv_cs_i(cvz, i, csz, rvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_rv_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_rv_cs_iw(cvz, i + DATA_SIZE / 2, csz, rvx, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_rv_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_rv_cs_iw(cvz, i + DATA_SIZE / 2, csz, rvx, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_rv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_rv_rs_i(cvz, i, csz, rvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_rv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_rv_rs_i(cvz, i, csz, rvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_cs_lin_rv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_cs_lin_rv_rs_iw(cvz, i + DATA_SIZE / 2, csz, rvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_cs_lin_rv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_cs_lin_rv_rs_iw(cvz, i + DATA_SIZE / 2, csz, rvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_div_cs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -197,6 +408,20 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VO_cv_div_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_div_cs_iw(cvz, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_div_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_div_cs_iw(cvz, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_div_cv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -211,6 +436,34 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_cv_div_cv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_div_cv_i(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_div_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_div_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_div_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_div_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_div_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_div_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_div_rs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -225,6 +478,34 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_cv_div_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_div_rs_i(cvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_div_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_div_rs_iw(cvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_div_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_div_rs_iw(cvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_div_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_div_rs_iw(cvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_div_rv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -239,6 +520,20 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VO_cv_div_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_div_rv_iw(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_div_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_div_rv_iw(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_exp_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -253,6 +548,48 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VO_cv_exp_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_exp_if(cvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_exp_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_exp_if(cvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_exp_ifw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_exp_ifw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_exp_ifw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_exp_ifw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_exp_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_exp_iw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_exp_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_exp_iw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_max_cv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -267,6 +604,34 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_cv_max_cv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_max_cv_i(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_max_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_max_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_max_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_max_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_max_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_max_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_mul_cs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -281,6 +646,34 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_cv_mul_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_cs_i(cvz, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_cs_iw(cvz, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_cs_iw(cvz, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_mul_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_cs_iw(cvz, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_mul_cv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -295,6 +688,34 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_cv_mul_cv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_cv_i(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_mul_cv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_cv_iw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_mul_rs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -309,6 +730,34 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_cv_mul_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_rs_i(cvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_rs_iw(cvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_rs_iw(cvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_mul_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_rs_iw(cvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_mul_rv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -323,6 +772,20 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VO_cv_mul_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_rv_iw(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_rv_iw(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_p2r_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -337,6 +800,34 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_cv_p2r_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_p2r_i(cvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_p2r_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_p2r_iw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_p2r_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_p2r_iw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_p2r_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_p2r_iw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_r2p_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -351,6 +842,146 @@ public class VectorBenchmarksInPlaceC {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_cv_r2p_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_r2p_i(cvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_r2p_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_r2p_if(cvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_r2p_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_r2p_if(cvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_r2p_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_r2p_if(cvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_r2p_ifw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_r2p_ifw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_r2p_ifw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_r2p_ifw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_r2p_ifw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_r2p_ifw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_r2p_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_r2p_iw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_r2p_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_r2p_iw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_r2p_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_r2p_iw(cvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_cv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_cv_rs_i(cvz, i, rsz, cvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_cv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_cv_rs_i(cvz, i, rsz, cvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_rs_lin_cv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_rs_lin_cv_rs_i(cvz, i, rsz, cvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_cv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_cv_rs_iw(cvz, i + DATA_SIZE / 2, rsz, cvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_cv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_cv_rs_iw(cvz, i + DATA_SIZE / 2, rsz, cvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_rs_lin_cv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_rs_lin_cv_rs_iw(cvz, i + DATA_SIZE / 2, rsz, cvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_rv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_rv_cs_i(cvz, i, rsz, rvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_rv_cs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_rv_cs_i(cvz, i, rsz, rvx, i, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_rv_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_rv_cs_iw(cvz, i + DATA_SIZE / 2, rsz, rvx, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_rv_cs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_rv_cs_iw(cvz, i + DATA_SIZE / 2, rsz, rvx, i + DATA_SIZE / 2, csx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_cv_rs_lin_rv_rs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -364,4 +995,18 @@ public class VectorBenchmarksInPlaceC {
             VOVec.cv_rs_lin_rv_rs_i(cvz, i, rsz, rvx, i, rsx, callSize);
         }
     }
+
+    @Benchmark
+    public void VO_cv_rs_lin_rv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_rv_rs_iw(cvz, i + DATA_SIZE / 2, rsz, rvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_rv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_rv_rs_iw(cvz, i + DATA_SIZE / 2, rsz, rvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
 }
\ No newline at end of file
@@ -32,6 +32,7 @@ package vector;
 
 import vectorapi.VO;
 import vectorapi.VOVec;
+import vectorapi.VOVecMasked;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -51,7 +52,7 @@ public class VectorBenchmarksInPlaceR {
     @Param({"3", "4", "7", "8", "15", "128", "1024", "65536"})
     public int callSize;
 
-    private final static int MAX_OFFSET = 512 / 32 - 1; // Max vector size in `float`s;
+    private final static int MAX_OFFSET = 512 / Float.SIZE - 1; // Max vector size in `float`s;
     @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
     public int startOffset;
 
@@ -127,6 +128,76 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_10log10_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_i(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_10log10_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_10log10_if(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_10log10_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_10log10_if(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_10log10_if() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_if(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_10log10_ifw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_10log10_ifw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_10log10_ifw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_10log10_ifw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_10log10_ifw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_ifw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_10log10_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_10log10_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_10log10_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_10log10_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_10log10_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_10log10_rs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -141,6 +212,34 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_10log10_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_10log10_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_10log10_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_10log10_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_10log10_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_10log10_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_abs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -155,6 +254,34 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_abs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_abs_i(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_abs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_abs_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_abs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_abs_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_abs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_abs_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_add_rs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -169,6 +296,34 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_add_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_add_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_add_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_add_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_add_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_add_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_add_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_add_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_add_rv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -183,6 +338,20 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VO_rv_add_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_add_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_add_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_add_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_div_rs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -197,6 +366,34 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_div_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_div_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_div_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_div_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_div_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_div_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_div_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_div_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_div_rv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -211,6 +408,34 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_div_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_div_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_div_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_div_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_div_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_div_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_div_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_div_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_exp_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -225,6 +450,34 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_exp_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_exp_i(rvz, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_exp_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_exp_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_exp_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_exp_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_exp_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_exp_iw(rvz, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_max_rv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -239,6 +492,34 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_max_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_max_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_max_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_max_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_max_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_max_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_max_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_max_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_mul_rs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -253,6 +534,34 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_mul_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_mul_rs_i(rvz, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_mul_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_mul_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_mul_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_mul_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_mul_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_mul_rs_iw(rvz, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_mul_rv_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -267,6 +576,34 @@ public class VectorBenchmarksInPlaceR {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_mul_rv_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_mul_rv_i(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_mul_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_mul_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_mul_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_mul_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_mul_rv_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_mul_rv_iw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_rs_lin_rv_rs_i() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -280,4 +617,32 @@ public class VectorBenchmarksInPlaceR {
             VOVec.rv_rs_lin_rv_rs_i(rvz, i, rsz, rvx, i, rsx, callSize);
         }
     }
+
+    @Benchmark
+    public void VOVecMasked_rv_rs_lin_rv_rs_i() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_rs_lin_rv_rs_i(rvz, i, rsz, rvx, i, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_rs_lin_rv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_rs_lin_rv_rs_iw(rvz, i + DATA_SIZE / 2, rsz, rvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_rs_lin_rv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_rs_lin_rv_rs_iw(rvz, i + DATA_SIZE / 2, rsz, rvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_rs_lin_rv_rs_iw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_rs_lin_rv_rs_iw(rvz, i + DATA_SIZE / 2, rsz, rvx, i + DATA_SIZE / 2, rsx, callSize);
+        }
+    }
 }
\ No newline at end of file
@@ -32,6 +32,7 @@ package vector;
 
 import vectorapi.VO;
 import vectorapi.VOVec;
+import vectorapi.VOVecMasked;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -51,7 +52,7 @@ public class VectorBenchmarksOutOfPlace {
     @Param({"3", "4", "7", "8", "15", "128", "1024", "65536"})
     public int callSize;
 
-    private final static int MAX_OFFSET = 512 / 32 - 1; // Max vector size in `float`s;
+    private final static int MAX_OFFSET = 512 / Float.SIZE - 1; // Max vector size in `float`s;
     @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
     public int startOffset;
 
@@ -123,688 +124,2116 @@ public class VectorBenchmarksOutOfPlace {
     }
 
     @Benchmark
-    public void VO_cv_10log10() {
+    public void VOVecMasked_cs_div_cv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_10log10(cvz, i, cvx, i, callSize);
+            VOVecMasked.cs_div_cv(cvz, i, csx, cvy, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_10log10() {
+    public void VO_cs_div_cv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_10log10(cvz, i, cvx, i, callSize);
+            VO.cs_div_cv_w(cvz, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_10log10_rs() {
+    public void VOVec_cs_div_cv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_10log10_rs(cvz, i, cvx, i, rsy, callSize);
+            VOVec.cs_div_cv_w(cvz, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_10log10_rs() {
+    public void VOVecMasked_cs_div_cv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_10log10_rs(cvz, i, cvx, i, rsy, callSize);
+            VOVecMasked.cs_div_cv_w(cvz, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_abs() {
+    public void VO_cv_10log10() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_abs(cvz, i, cvx, i, callSize);
+            VO.cv_10log10(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_abs() {
+    public void VOVec_cv_10log10() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_abs(cvz, i, cvx, i, callSize);
+            VOVec.cv_10log10(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_add_cs() {
+    public void VO_cv_10log10_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_add_cs(cvz, i, cvx, i, csy, callSize);
+            VO.cv_10log10_rs(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_add_cs() {
+    public void VOVec_cv_10log10_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_add_cs(cvz, i, cvx, i, csy, callSize);
+            VOVec.cv_10log10_rs(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_add_cv() {
+    public void VO_cv_10log10_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_add_cv(cvz, i, cvx, i, cvy, i, callSize);
+            VO.cv_10log10_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_add_cv() {
+    public void VOVec_cv_10log10_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_add_cv(cvz, i, cvx, i, cvy, i, callSize);
+            VOVec.cv_10log10_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_add_rs() {
+    public void VO_cv_10log10_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_add_rs(cvz, i, cvx, i, rsy, callSize);
+            VO.cv_10log10_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_add_rs() {
+    public void VOVec_cv_10log10_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_add_rs(cvz, i, cvx, i, rsy, callSize);
+            VOVec.cv_10log10_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_add_rv() {
+    public void VO_cv_abs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_add_rv(cvz, i, cvx, i, rvy, i, callSize);
+            VO.cv_abs(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_add_rv() {
+    public void VOVec_cv_abs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_add_rv(cvz, i, cvx, i, rvy, i, callSize);
+            VOVec.cv_abs(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_arg() {
+    public void VO_cv_abs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_arg(cvz, i, cvx, i, callSize);
+            VO.cv_abs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_arg() {
+    public void VOVec_cv_abs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_arg(cvz, i, cvx, i, callSize);
+            VOVec.cv_abs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_argmul_rs() {
+    public void VO_cv_add_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_argmul_rs(cvz, i, cvx, i, rsy, callSize);
+            VO.cv_add_cs(cvz, i, cvx, i, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_argmul_rs() {
+    public void VOVec_cv_add_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_argmul_rs(cvz, i, cvx, i, rsy, callSize);
+            VOVec.cv_add_cs(cvz, i, cvx, i, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_conj() {
+    public void VOVecMasked_cv_add_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_conj(cvz, i, cvx, i, callSize);
+            VOVecMasked.cv_add_cs(cvz, i, cvx, i, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_conj() {
+    public void VO_cv_add_cs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_conj(cvz, i, cvx, i, callSize);
+            VO.cv_add_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_cpy() {
+    public void VOVec_cv_add_cs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_cpy(cvz, i, cvx, i, callSize);
+            VOVec.cv_add_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_cpy() {
+    public void VOVecMasked_cv_add_cs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_cpy(cvz, i, cvx, i, callSize);
+            VOVecMasked.cv_add_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_div_cs() {
+    public void VO_cv_add_cv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_div_cs(cvz, i, cvx, i, csy, callSize);
+            VO.cv_add_cv(cvz, i, cvx, i, cvy, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_div_cs() {
+    public void VOVec_cv_add_cv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_div_cs(cvz, i, cvx, i, csy, callSize);
+            VOVec.cv_add_cv(cvz, i, cvx, i, cvy, i, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_div_cv() {
+    public void VOVecMasked_cv_add_cv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_div_cv(cvz, i, cvx, i, cvy, i, callSize);
+            VOVecMasked.cv_add_cv(cvz, i, cvx, i, cvy, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_div_cv() {
+    public void VO_cv_add_cv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_div_cv(cvz, i, cvx, i, cvy, i, callSize);
+            VO.cv_add_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_div_rs() {
+    public void VOVec_cv_add_cv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_div_rs(cvz, i, cvx, i, rsy, callSize);
+            VOVec.cv_add_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_div_rs() {
+    public void VOVecMasked_cv_add_cv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_div_rs(cvz, i, cvx, i, rsy, callSize);
+            VOVecMasked.cv_add_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_div_rv() {
+    public void VO_cv_add_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_div_rv(cvz, i, cvx, i, rvy, i, callSize);
+            VO.cv_add_rs(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_div_rv() {
+    public void VOVec_cv_add_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_div_rv(cvz, i, cvx, i, rvy, i, callSize);
+            VOVec.cv_add_rs(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_dot_cv() {
+    public void VOVecMasked_cv_add_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_dot_cv(csz, cvx, i, cvy, i, callSize);
+            VOVecMasked.cv_add_rs(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_dot_cv() {
+    public void VO_cv_add_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_dot_cv(csz, cvx, i, cvy, i, callSize);
+            VO.cv_add_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_exp() {
+    public void VOVec_cv_add_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_exp(cvz, i, cvx, i, callSize);
+            VOVec.cv_add_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_exp() {
+    public void VOVecMasked_cv_add_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_exp(cvz, i, cvx, i, callSize);
+            VOVecMasked.cv_add_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_im() {
+    public void VO_cv_add_rv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_im(rvz, i, cvx, i, callSize);
+            VO.cv_add_rv(cvz, i, cvx, i, rvy, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_im() {
+    public void VOVec_cv_add_rv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_im(rvz, i, cvx, i, callSize);
+            VOVec.cv_add_rv(cvz, i, cvx, i, rvy, i, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_max() {
+    public void VO_cv_add_rv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_max(csz, cvx, i, callSize);
+            VO.cv_add_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_max() {
+    public void VOVec_cv_add_rv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_max(csz, cvx, i, callSize);
+            VOVec.cv_add_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_max_cv() {
+    public void VO_cv_arg() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_max_cv(cvz, i, cvx, i, cvy, i, callSize);
+            VO.cv_arg(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_max_cv() {
+    public void VOVec_cv_arg() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_max_cv(cvz, i, cvx, i, cvy, i, callSize);
+            VOVec.cv_arg(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_maxarg(Blackhole bh) {
+    public void VO_cv_arg_f() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            bh.consume(VO.cv_maxarg(cvx, i, callSize));
+            VO.cv_arg_f(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_maxarg(Blackhole bh) {
+    public void VOVec_cv_arg_f() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            bh.consume(VOVec.cv_maxarg(cvx, i, callSize));
+            VOVec.cv_arg_f(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_mul_cs() {
+    public void VO_cv_arg_fw() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_mul_cs(cvz, i, cvx, i, csy, callSize);
+            VO.cv_arg_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_mul_cs() {
+    public void VOVec_cv_arg_fw() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_mul_cs(cvz, i, cvx, i, csy, callSize);
+            VOVec.cv_arg_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_mul_cv() {
+    public void VO_cv_arg_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_mul_cv(cvz, i, cvx, i, cvy, i, callSize);
+            VO.cv_arg_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_mul_cv() {
+    public void VOVec_cv_arg_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_mul_cv(cvz, i, cvx, i, cvy, i, callSize);
+            VOVec.cv_arg_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_mul_rs() {
+    public void VO_cv_argmul_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_mul_rs(cvz, i, cvx, i, rsy, callSize);
+            VO.cv_argmul_rs(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_mul_rs() {
+    public void VOVec_cv_argmul_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_mul_rs(cvz, i, cvx, i, rsy, callSize);
+            VOVec.cv_argmul_rs(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_mul_rv() {
+    public void VO_cv_argmul_rs_f() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_mul_rv(cvz, i, cvx, i, rvy, i, callSize);
+            VO.cv_argmul_rs_f(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_mul_rv() {
+    public void VOVec_cv_argmul_rs_f() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_mul_rv(cvz, i, cvx, i, rvy, i, callSize);
+            VOVec.cv_argmul_rs_f(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_p2r() {
+    public void VO_cv_argmul_rs_fw() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_p2r(cvz, i, cvx, i, callSize);
+            VO.cv_argmul_rs_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_p2r() {
+    public void VOVec_cv_argmul_rs_fw() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_p2r(cvz, i, cvx, i, callSize);
+            VOVec.cv_argmul_rs_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_r2p() {
+    public void VO_cv_argmul_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_r2p(cvz, i, cvx, i, callSize);
+            VO.cv_argmul_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_r2p() {
+    public void VOVec_cv_argmul_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_r2p(cvz, i, cvx, i, callSize);
+            VOVec.cv_argmul_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_re() {
+    public void VO_cv_conj() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_re(rvz, i, cvx, i, callSize);
+            VO.cv_conj(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_re() {
+    public void VOVec_cv_conj() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_re(rvz, i, cvx, i, callSize);
+            VOVec.cv_conj(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_rs_lin_rv_rs() {
+    public void VOVecMasked_cv_conj() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_rs_lin_rv_rs(cvz, i, cvx, i, rsx, rvy, i, rsy, callSize);
+            VOVecMasked.cv_conj(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_rs_lin_rv_rs() {
+    public void VO_cv_conj_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_rs_lin_rv_rs(cvz, i, cvx, i, rsx, rvy, i, rsy, callSize);
+            VO.cv_conj_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_cv_sum() {
+    public void VOVec_cv_conj_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.cv_sum(csz, cvx, i, callSize);
+            VOVec.cv_conj_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_cv_sum() {
+    public void VOVecMasked_cv_conj_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.cv_sum(csz, cvx, i, callSize);
+            VOVecMasked.cv_conj_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rs_div_cv() {
+    public void VO_cv_cpy() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rs_div_cv(cvz, i, rsx, cvy, i, callSize);
+            VO.cv_cpy(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rs_div_cv() {
+    public void VOVec_cv_cpy() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rs_div_cv(cvz, i, rsx, cvy, i, callSize);
+            VOVec.cv_cpy(cvz, i, cvx, i, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rs_div_rv() {
+    public void VO_cv_cpy_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rs_div_rv(rvz, i, rsx, rvy, i, callSize);
+            VO.cv_cpy_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rs_div_rv() {
+    public void VOVec_cv_cpy_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rs_div_rv(rvz, i, rsx, rvy, i, callSize);
+            VOVec.cv_cpy_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_10log10() {
+    public void VO_cv_cs_lin_cv_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_10log10(rvz, i, rvx, i, callSize);
+            VO.cv_cs_lin_cv_cs(cvz, i, cvx, i, csx, cvy, i, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_10log10() {
+    public void VOVec_cv_cs_lin_cv_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_10log10(rvz, i, rvx, i, callSize);
+            VOVec.cv_cs_lin_cv_cs(cvz, i, cvx, i, csx, cvy, i, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_10log10_rs() {
+    public void VO_cv_cs_lin_cv_cs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_10log10_rs(rvz, i, rvx, i, rsy, callSize);
+            VO.cv_cs_lin_cv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_10log10_rs() {
+    public void VOVec_cv_cs_lin_cv_cs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_10log10_rs(rvz, i, rvx, i, rsy, callSize);
+            VOVec.cv_cs_lin_cv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_abs() {
+    public void VO_cv_cs_lin_cv_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_abs(rvz, i, rvx, i, callSize);
+            VO.cv_cs_lin_cv_rs(cvz, i, cvx, i, csx, cvy, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_abs() {
+    public void VOVec_cv_cs_lin_cv_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_abs(rvz, i, rvx, i, callSize);
+            VOVec.cv_cs_lin_cv_rs(cvz, i, cvx, i, csx, cvy, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_add_rs() {
+    public void VO_cv_cs_lin_cv_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_add_rs(rvz, i, rvx, i, rsy, callSize);
+            VO.cv_cs_lin_cv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_add_rs() {
+    public void VOVec_cv_cs_lin_cv_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_add_rs(rvz, i, rvx, i, rsy, callSize);
+            VOVec.cv_cs_lin_cv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, cvy, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_add_rv() {
+    public void VO_cv_cs_lin_rv_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_add_rv(rvz, i, rvx, i, rvy, i, callSize);
+            VO.cv_cs_lin_rv_cs(cvz, i, cvx, i, csx, rvy, i, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_add_rv() {
+    public void VOVec_cv_cs_lin_rv_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_add_rv(rvz, i, rvx, i, rvy, i, callSize);
+            VOVec.cv_cs_lin_rv_cs(cvz, i, cvx, i, csx, rvy, i, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_cpy() {
+    public void VO_cv_cs_lin_rv_cs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_cpy(rvz, i, rvx, i, callSize);
+            VO.cv_cs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_cpy() {
+    public void VOVec_cv_cs_lin_rv_cs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_cpy(rvz, i, rvx, i, callSize);
+            VOVec.cv_cs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_cs_lin_rv_cs() {
+    public void VO_cv_cs_lin_rv_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_cs_lin_rv_cs(cvz, i, rvx, i, csx, rvy, i, csy, callSize);
+            VO.cv_cs_lin_rv_rs(cvz, i, cvx, i, csx, rvy, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_cs_lin_rv_cs() {
+    public void VOVec_cv_cs_lin_rv_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_cs_lin_rv_cs(cvz, i, rvx, i, csx, rvy, i, csy, callSize);
+            VOVec.cv_cs_lin_rv_rs(cvz, i, cvx, i, csx, rvy, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_cvt() {
+    public void VO_cv_cs_lin_rv_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_cvt(cvz, i, rvx, i, callSize);
+            VO.cv_cs_lin_rv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_cvt() {
+    public void VOVec_cv_cs_lin_rv_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_cvt(cvz, i, rvx, i, callSize);
+            VOVec.cv_cs_lin_rv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_div_cv() {
+    public void VO_cv_div_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_div_cv(cvz, i, rvx, i, cvy, i, callSize);
+            VO.cv_div_cs(cvz, i, cvx, i, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_div_cv() {
+    public void VOVec_cv_div_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_div_cv(cvz, i, rvx, i, cvy, i, callSize);
+            VOVec.cv_div_cs(cvz, i, cvx, i, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_div_rs() {
+    public void VO_cv_div_cs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_div_rs(rvz, i, rvx, i, rsy, callSize);
+            VO.cv_div_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_div_rs() {
+    public void VOVec_cv_div_cs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_div_rs(rvz, i, rvx, i, rsy, callSize);
+            VOVec.cv_div_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_div_rv() {
+    public void VO_cv_div_cv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_div_rv(rvz, i, rvx, i, rvy, i, callSize);
+            VO.cv_div_cv(cvz, i, cvx, i, cvy, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_div_rv() {
+    public void VOVec_cv_div_cv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_div_rv(rvz, i, rvx, i, rvy, i, callSize);
+            VOVec.cv_div_cv(cvz, i, cvx, i, cvy, i, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_dot_cv() {
+    public void VOVecMasked_cv_div_cv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_dot_cv(csz, rvx, i, cvy, i, callSize);
+            VOVecMasked.cv_div_cv(cvz, i, cvx, i, cvy, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_dot_cv() {
+    public void VO_cv_div_cv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_dot_cv(csz, rvx, i, cvy, i, callSize);
+            VO.cv_div_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_dot_rv(Blackhole bh) {
+    public void VOVec_cv_div_cv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            bh.consume(VO.rv_dot_rv(rvx, i, rvy, i, callSize));
+            VOVec.cv_div_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_dot_rv(Blackhole bh) {
+    public void VOVecMasked_cv_div_cv_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            bh.consume(VOVec.rv_dot_rv(rvx, i, rvy, i, callSize));
+            VOVecMasked.cv_div_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_exp() {
+    public void VO_cv_div_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_exp(rvz, i, rvx, i, callSize);
+            VO.cv_div_rs(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_exp() {
+    public void VOVec_cv_div_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_exp(rvz, i, rvx, i, callSize);
+            VOVec.cv_div_rs(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_expi() {
+    public void VOVecMasked_cv_div_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_expi(cvz, i, rvx, i, callSize);
+            VOVecMasked.cv_div_rs(cvz, i, cvx, i, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_expi() {
+    public void VO_cv_div_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_expi(cvz, i, rvx, i, callSize);
+            VO.cv_div_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_max(Blackhole bh) {
+    public void VOVec_cv_div_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            bh.consume(VO.rv_max(rvx, i, callSize));
+            VOVec.cv_div_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_max(Blackhole bh) {
+    public void VOVecMasked_cv_div_rs_w() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            bh.consume(VOVec.rv_max(rvx, i, callSize));
+            VOVecMasked.cv_div_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
         }
     }
 
     @Benchmark
-    public void VO_rv_max_rv() {
+    public void VO_cv_div_rv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VO.rv_max_rv(rvz, i, rvx, i, rvy, i, callSize);
+            VO.cv_div_rv(cvz, i, cvx, i, rvy, i, callSize);
         }
     }
 
     @Benchmark
-    public void VOVec_rv_max_rv() {
+    public void VOVec_cv_div_rv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
-            VOVec.rv_max_rv(rvz, i, rvx, i, rvy, i, callSize);
+            VOVec.cv_div_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_div_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_div_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_dot_cv(csz, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_dot_cv(csz, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_dot_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_dot_cv_w(csz, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_dot_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_dot_cv_w(csz, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_dot_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_dot_rv_w(csz, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_dot_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_dot_rv_w(csz, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_exp() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_exp(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_exp() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_exp(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_exp_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_exp_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_exp_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_exp_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_exp_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_exp_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_exp_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_exp_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_exp_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_exp_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_exp_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_exp_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_im() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_im(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_im() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_im(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_im_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_im_w(rvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_im_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_im_w(rvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_max() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_max(csz, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_max() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_max(csz, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_max_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_max_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_max_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_max_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_max_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_max_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_max_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_max_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_max_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_max_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_max_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_max_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_max_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_max_w(csz, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_max_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_max_w(csz, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_maxarg(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VO.cv_maxarg(cvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_maxarg(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVec.cv_maxarg(cvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_maxarg_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VO.cv_maxarg_w(cvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_maxarg_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVec.cv_maxarg_w(cvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_mul_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_cs(cvz, i, cvx, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_mul_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_mul_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_cv(cvz, i, cvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_mul_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_cv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_mul_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_rs(cvz, i, cvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_mul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_mul_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_rv(cvz, i, cvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_mul_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_mul_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_mul_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_mul_rv_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_p2r() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_p2r(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_p2r() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_p2r(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_p2r() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_p2r(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_p2r_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_p2r_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_p2r_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_p2r_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_p2r_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_p2r_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_r2p() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_r2p(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_r2p() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_r2p(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_r2p() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_r2p(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_r2p_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_r2p_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_r2p_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_r2p_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_r2p_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_r2p_f(cvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_r2p_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_r2p_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_r2p_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_r2p_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_r2p_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_r2p_fw(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_r2p_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_r2p_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_r2p_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_r2p_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_r2p_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_r2p_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_re() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_re(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_re() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_re(rvz, i, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_re_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_re_w(rvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_re_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_re_w(rvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_cv_rs(cvz, i, cvx, i, rsx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_cv_rs(cvz, i, cvx, i, rsx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_rs_lin_cv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_rs_lin_cv_rs(cvz, i, cvx, i, rsx, cvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_cv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_cv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, cvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_cv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_cv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, cvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_cv_rs_lin_cv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.cv_rs_lin_cv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, cvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_rv_cs(cvz, i, cvx, i, rsx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_rv_cs(cvz, i, cvx, i, rsx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_rv_rs(cvz, i, cvx, i, rsx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_rv_rs(cvz, i, cvx, i, rsx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_rs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_rs_lin_rv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_rs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_rs_lin_rv_rs_w(cvz, i + DATA_SIZE / 2, cvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_sum() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_sum(csz, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_sum() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_sum(csz, cvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_cv_sum_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.cv_sum_w(csz, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_cv_sum_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.cv_sum_w(csz, cvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rs_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rs_div_cv(cvz, i, rsx, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rs_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rs_div_cv(cvz, i, rsx, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rs_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rs_div_cv(cvz, i, rsx, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rs_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rs_div_cv_w(cvz, i + DATA_SIZE / 2, rsx, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rs_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rs_div_cv_w(cvz, i + DATA_SIZE / 2, rsx, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rs_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rs_div_cv_w(cvz, i + DATA_SIZE / 2, rsx, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rs_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rs_div_rv(rvz, i, rsx, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rs_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rs_div_rv(rvz, i, rsx, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rs_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rs_div_rv(rvz, i, rsx, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rs_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rs_div_rv_w(rvz, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rs_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rs_div_rv_w(rvz, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rs_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rs_div_rv_w(rvz, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_10log10(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_10log10(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_10log10() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_10log10_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_10log10_f(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_10log10_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_10log10_f(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_10log10_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_f(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_10log10_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_10log10_fw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_10log10_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_10log10_fw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_10log10_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_fw(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_10log10_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_10log10_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_10log10_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_10log10_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_10log10_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_10log10_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_10log10_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_10log10_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_10log10_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_10log10_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_10log10_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_10log10_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_10log10_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_10log10_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_10log10_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_10log10_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_abs(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_abs(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_abs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_abs(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_abs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_abs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_abs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_abs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_abs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_abs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_add_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_add_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_add_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_add_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_add_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_add_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_add_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_add_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_add_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_add_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_add_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_add_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_add_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_add_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_add_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_add_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_add_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_add_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_add_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_add_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_add_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_add_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_add_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_add_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_cpy() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_cpy(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_cpy() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_cpy(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_cpy_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_cpy_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_cpy_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_cpy_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_cs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_cs_lin_rv_cs(cvz, i, rvx, i, csx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_cs_lin_rv_cs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_cs_lin_rv_cs(cvz, i, rvx, i, csx, rvy, i, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_cs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_cs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_cs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_cs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, csx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_cvt() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_cvt(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_cvt() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_cvt(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_cvt_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_cvt_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_cvt_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_cvt_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_div_cv(cvz, i, rvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_div_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_div_cv(cvz, i, rvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_div_cv_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_div_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_div_cv_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_div_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_div_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_div_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_div_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_div_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_div_rs(rvz, i, rvx, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_div_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_div_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_div_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_div_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_div_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_div_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_div_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_div_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_div_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_div_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_div_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_div_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_div_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_div_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_dot_cv(csz, rvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_dot_cv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_dot_cv(csz, rvx, i, cvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_dot_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_dot_cv_w(csz, rvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_dot_cv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_dot_cv_w(csz, rvx, i + DATA_SIZE / 2, cvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_dot_rv(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VO.rv_dot_rv(rvx, i, rvy, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_dot_rv(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVec.rv_dot_rv(rvx, i, rvy, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_dot_rv_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VO.rv_dot_rv_w(rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_dot_rv_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVec.rv_dot_rv_w(rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_exp() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_exp(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_exp() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_exp(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_exp() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_exp(rvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_exp_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_exp_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_exp_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_exp_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_exp_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_exp_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_expi() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_expi(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_expi() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_expi(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_expi_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_expi_f(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_expi_f() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_expi_f(cvz, i, rvx, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_expi_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_expi_fw(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_expi_fw() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_expi_fw(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_expi_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_expi_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_expi_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_expi_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_max(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VO.rv_max(rvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_max(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVec.rv_max(rvx, i, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_max_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_max_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_max_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_max_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_max_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_max_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_max_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_max_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_max_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_max_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_max_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_max_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_max_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VO.rv_max_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_max_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVec.rv_max_w(rvx, i + DATA_SIZE / 2, callSize));
         }
     }
 
@@ -822,6 +2251,20 @@ public class VectorBenchmarksOutOfPlace {
         }
     }
 
+    @Benchmark
+    public void VO_rv_maxarg_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VO.rv_maxarg_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_maxarg_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVec.rv_maxarg_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
     @Benchmark
     public void VO_rv_mul_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -836,6 +2279,20 @@ public class VectorBenchmarksOutOfPlace {
         }
     }
 
+    @Benchmark
+    public void VO_rv_mul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_mul_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_mul_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_mul_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_mul_rv() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -850,6 +2307,34 @@ public class VectorBenchmarksOutOfPlace {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_mul_rv() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_mul_rv(rvz, i, rvx, i, rvy, i, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_mul_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_mul_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_mul_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_mul_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_mul_rv_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_mul_rv_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rvy, i + DATA_SIZE / 2, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_rs_lin_rv_cs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -864,6 +2349,20 @@ public class VectorBenchmarksOutOfPlace {
         }
     }
 
+    @Benchmark
+    public void VO_rv_rs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_rs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_rs_lin_rv_cs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_rs_lin_rv_cs_w(cvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, csy, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_rs_lin_rv_rs() {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -878,6 +2377,34 @@ public class VectorBenchmarksOutOfPlace {
         }
     }
 
+    @Benchmark
+    public void VOVecMasked_rv_rs_lin_rv_rs() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_rs_lin_rv_rs(rvz, i, rvx, i, rsx, rvy, i, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VO_rv_rs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VO.rv_rs_lin_rv_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_rs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVec.rv_rs_lin_rv_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
+    @Benchmark
+    public void VOVecMasked_rv_rs_lin_rv_rs_w() {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            VOVecMasked.rv_rs_lin_rv_rs_w(rvz, i + DATA_SIZE / 2, rvx, i + DATA_SIZE / 2, rsx, rvy, i + DATA_SIZE / 2, rsy, callSize);
+        }
+    }
+
     @Benchmark
     public void VO_rv_sum(Blackhole bh) {
         for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
@@ -891,4 +2418,18 @@ public class VectorBenchmarksOutOfPlace {
             bh.consume(VOVec.rv_sum(rvx, i, callSize));
         }
     }
+
+    @Benchmark
+    public void VO_rv_sum_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VO.rv_sum_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
+
+    @Benchmark
+    public void VOVec_rv_sum_w(Blackhole bh) {
+        for (int i = startOffset; i <= DATA_SIZE + startOffset - callSize; i += callSize) {
+            bh.consume(VOVec.rv_sum_w(rvx, i + DATA_SIZE / 2, callSize));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.VOVecBatch;
+
+import java.util.Random;
+
+/**
+ * Multi-channel calls: loop of per-channel VOVec calls vs VOVecBatch, with
+ * channels without gaps and with padding between channels.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Batch {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float cvx[];
+	private float cvy[];
+	private float cvz[];
+	private float rvz[];
+	private float rsz[];
+	private final float csy[] = new float[2];
+
+	@Param({"3", "15", "128", "1024"})
+	private int callSize = 128;
+
+	@Param({"64", "256"})
+	private int channels = 64;
+
+	// 0 is one long vector, 1 breaks it to channels
+	@Param({"0", "1"})
+	private int pad = 0;
+
+	private int stride;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		stride = callSize + pad;
+
+		cvx = new float[stride * channels * 2];
+		cvy = new float[stride * channels * 2];
+		cvz = new float[stride * channels * 2];
+		rvz = new float[stride * channels];
+		rsz = new float[channels];
+
+		for (int i = 0; i < cvx.length; i++) {
+			cvx[i] = r.nextFloat() * 2.0f - 1.0f;
+			cvy[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+		csy[0] = r.nextFloat() * 2.0f - 1.0f;
+		csy[1] = r.nextFloat() * 2.0f - 1.0f;
+	}
+
+	@Benchmark
+	public void VOVec_cv_mul_cv() {
+		for (int ch = 0, i = 0; ch < channels; ch++, i += stride)
+			VOVec.cv_mul_cv(cvz, i, cvx, i, cvy, i, callSize);
+	}
+
+	@Benchmark
+	public void VOVecBatch_cv_mul_cv() {
+		VOVecBatch.cv_mul_cv(cvz, 0, stride, cvx, 0, stride, cvy, 0, stride, callSize, channels);
+	}
+
+	@Benchmark
+	public void VOVec_cv_mul_cs_i() {
+		for (int ch = 0, i = 0; ch < channels; ch++, i += stride)
+			VOVec.cv_mul_cs_i(cvz, i, csy, callSize);
+	}
+
+	@Benchmark
+	public void VOVecBatch_cv_mul_cs_i() {
+		VOVecBatch.cv_mul_cs_i(cvz, 0, stride, csy, callSize, channels);
+	}
+
+	@Benchmark
+	public void VOVec_cv_abs() {
+		for (int ch = 0, i = 0; ch < channels; ch++, i += stride)
+			VOVec.cv_abs(rvz, i, cvx, i, callSize);
+	}
+
+	@Benchmark
+	public void VOVecBatch_cv_abs() {
+		VOVecBatch.cv_abs(rvz, 0, stride, cvx, 0, stride, callSize, channels);
+	}
+
+	@Benchmark
+	public float[] VOVec_rv_sum() {
+		for (int ch = 0, i = 0; ch < channels; ch++, i += stride)
+			rsz[ch] = VOVec.rv_sum(rvz, i, callSize);
+		return rsz;
+	}
+
+	@Benchmark
+	public float[] VOVecBatch_rv_sum() {
+		VOVecBatch.rv_sum(rsz, 0, rvz, 0, stride, callSize, channels);
+		return rsz;
+	}
+}
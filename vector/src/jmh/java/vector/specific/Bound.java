@@ -0,0 +1,129 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.VOVecBound;
+
+import java.util.Random;
+
+/**
+ * Calls of VOVec with complex scalar vs bound operations with the same
+ * scalar, on small calls where building of scalar vectors is large part of
+ * work.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Bound {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private final static int DATA_SIZE = 65536;
+
+	private float x[];
+	private float z[];
+	private final float cs[] = new float[2];
+
+	private VOVecBound.CvAddCs add;
+	private VOVecBound.CvMulCs mul;
+	private VOVecBound.CvDivCs div;
+	private VOVecBound.CsDivCv rdiv;
+
+	@Param({"8", "16", "32", "128", "1024"})
+	private int callSize = 8;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[DATA_SIZE * 2];
+		z = new float[DATA_SIZE * 2];
+		for (int i = 0; i < x.length; i++)
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		cs[0] = r.nextFloat() * 2.0f - 1.0f;
+		cs[1] = r.nextFloat() * 2.0f - 1.0f;
+
+		add = VOVecBound.bindAddCs(cs);
+		mul = VOVecBound.bindMulCs(cs);
+		div = VOVecBound.bindDivCs(cs);
+		rdiv = VOVecBound.bindCsDiv(cs);
+	}
+
+	@Benchmark
+	public void cv_add_cs() {
+		for (int i = 0; i <= DATA_SIZE - callSize; i += callSize)
+			VOVec.cv_add_cs(z, i, x, i, cs, callSize);
+	}
+
+	@Benchmark
+	public void cv_add_cs_bound() {
+		for (int i = 0; i <= DATA_SIZE - callSize; i += callSize)
+			add.apply(z, i, x, i, callSize);
+	}
+
+	@Benchmark
+	public void cv_mul_cs() {
+		for (int i = 0; i <= DATA_SIZE - callSize; i += callSize)
+			VOVec.cv_mul_cs(z, i, x, i, cs, callSize);
+	}
+
+	@Benchmark
+	public void cv_mul_cs_bound() {
+		for (int i = 0; i <= DATA_SIZE - callSize; i += callSize)
+			mul.apply(z, i, x, i, callSize);
+	}
+
+	@Benchmark
+	public void cv_div_cs() {
+		for (int i = 0; i <= DATA_SIZE - callSize; i += callSize)
+			VOVec.cv_div_cs(z, i, x, i, cs, callSize);
+	}
+
+	@Benchmark
+	public void cv_div_cs_bound() {
+		for (int i = 0; i <= DATA_SIZE - callSize; i += callSize)
+			div.apply(z, i, x, i, callSize);
+	}
+
+	@Benchmark
+	public void cs_div_cv() {
+		for (int i = 0; i <= DATA_SIZE - callSize; i += callSize)
+			VOVec.cs_div_cv(z, i, cs, x, i, callSize);
+	}
+
+	@Benchmark
+	public void cs_div_cv_bound() {
+		for (int i = 0; i <= DATA_SIZE - callSize; i += callSize)
+			rdiv.apply(z, i, x, i, callSize);
+	}
+}
@@ -0,0 +1,230 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+
+/** @noinspection PointlessArithmeticExpression, CStyleArrayDeclaration, SameParameterValue */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class CVCSlinCVCS {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static VectorSpecies<Float> FS64 = FloatVector.SPECIES_64;
+
+	private final static VectorMask<Float> MASK_C_RE;
+
+	private final static VectorShuffle<Float> SHUFFLE_CS_TO_CV_SPREAD;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_RE;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_IM;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM;
+
+	static {
+		boolean[] alter = new boolean[EPV + 1];
+		alter[0] = true;
+		for (int i = 1; i < alter.length; i++)
+			alter[i] = !alter[i - 1];
+		MASK_C_RE = VectorMask.fromArray(PFS, alter, 0);
+
+		// [re, im] -> [(re, im), (re, im), (re, im), ...]
+		SHUFFLE_CS_TO_CV_SPREAD = VectorShuffle.fromOp(PFS, i -> i % 2);
+		// [(re0, im0), (re1, im1), ...] -> [(re0, re0), (re1, re1), ...]
+		SHUFFLE_CV_SPREAD_RE = VectorShuffle.fromOp(PFS, i -> i - i % 2);
+		// [(re0, im0), (re1, im1), ...] -> [(im0, im0), (im1, im1), ...]
+		SHUFFLE_CV_SPREAD_IM = VectorShuffle.fromOp(PFS, i -> i - i % 2 + 1);
+		// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+	}
+
+	private float x[];
+	private float y[];
+	private float z[];
+	private float a1[];
+	private float a2[];
+	/** @noinspection unused */
+	@Param({"128"})
+	private int count;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[count * 2];
+		y = new float[count * 2];
+		z = new float[count * 2];
+
+		for (int i = 0; i < y.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			y[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+		a1 = new float[] { r.nextFloat() * 2.0f - 1.0f, r.nextFloat() * 2.0f - 1.0f };
+		a2 = new float[] { r.nextFloat() * 2.0f - 1.0f, r.nextFloat() * 2.0f - 1.0f };
+	}
+
+	@Benchmark
+	public void nv() { cv_cs_lin_cv_cs_0(z, 0, x, 0, a1, y, 0, a2, count); }
+
+	@Benchmark
+	public void naive() { cv_cs_lin_cv_cs_1(z, 0, x, 0, a1, y, 0, a2, count); }
+
+	@Benchmark
+	public void fma() { cv_cs_lin_cv_cs_2(z, 0, x, 0, a1, y, 0, a2, count); }
+
+	@Benchmark
+	public void spread() { cv_cs_lin_cv_cs_3(z, 0, x, 0, a1, y, 0, a2, count); }
+
+	private static void cv_cs_lin_cv_cs_0(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		float k0_1, k1_1, k2_1;
+		float a1s = a1[0] + a1[1];
+		float k0_2, k1_2, k2_2;
+		float a2s = a2[0] + a2[1];
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		while (count-- > 0) {
+			k0_1 = x[xOffset + 0] * a1[0];
+			k1_1 = x[xOffset + 1] * a1[1];
+			k2_1 = (x[xOffset + 0] + x[xOffset + 1]) * a1s;
+			k0_2 = y[yOffset + 0] * a2[0];
+			k1_2 = y[yOffset + 1] * a2[1];
+			k2_2 = (y[yOffset + 0] + y[yOffset + 1]) * a2s;
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	private static void cv_cs_lin_cv_cs_1(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2re = null, va2im = null;
+		if (count >= EPV2) {
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			va2im = FloatVector.broadcast(PFS, a2[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			final FloatVector vxa1 = vx.mul(va1re).add(vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(va1im));
+			final FloatVector vya2 = vy.mul(va2re).add(vy.rearrange(SHUFFLE_CV_SWAP_RE_IM).mul(va2im));
+			vxa1.add(vya2).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		cv_cs_lin_cv_cs_0(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, count);
+	}
+
+	private static void cv_cs_lin_cv_cs_2(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2re = null, va2im = null;
+		if (count >= EPV2) {
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			va2im = FloatVector.broadcast(PFS, a2[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			final FloatVector vya2 = vy.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va2im, vy.mul(va2re));
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vya2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		cv_cs_lin_cv_cs_0(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, count);
+	}
+
+	private static void cv_cs_lin_cv_cs_3(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		FloatVector va1 = null, va1swap = null;
+		FloatVector va2 = null, va2swap = null;
+		if (count >= EPV2) {
+			// va1 is [(a1.re, a1.im), (a1.re, a1.im), ...]
+			va1 = FloatVector.fromArray(FS64, a1, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+			// va1swap is [(-a1.im, a1.re), (-a1.im, a1.re), ...]
+			va1swap = va1.rearrange(SHUFFLE_CV_SWAP_RE_IM).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = FloatVector.fromArray(FS64, a2, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+			va2swap = va2.rearrange(SHUFFLE_CV_SWAP_RE_IM).lanewise(VectorOperators.NEG, MASK_C_RE);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			// x * a1 is spread_re(x) * a1 + spread_im(x) * (-a1.im, a1.re)
+			final FloatVector vya2 = vy.rearrange(SHUFFLE_CV_SPREAD_IM).fma(va2swap, vy.rearrange(SHUFFLE_CV_SPREAD_RE).mul(va2));
+			vx.rearrange(SHUFFLE_CV_SPREAD_IM).fma(va1swap, vx.rearrange(SHUFFLE_CV_SPREAD_RE).fma(va1, vya2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		cv_cs_lin_cv_cs_0(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, count);
+	}
+}
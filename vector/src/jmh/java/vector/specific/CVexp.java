@@ -29,6 +29,8 @@ package vector.specific;
 
 import jdk.incubator.vector.*;
 import org.openjdk.jmh.annotations.*;
+import vectorapi.FastTrig;
+import vectorapi.VOVec;
 
 import java.util.Arrays;
 import java.util.Random;
@@ -124,6 +126,12 @@ public class CVexp {
 	@Benchmark
 	public void epv_epv2() { cv_exp_3(z, 0, x, 0, count); }
 
+	@Benchmark
+	public void nv_f() { cv_exp_0f(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void epv_f() { VOVec.cv_exp_f(z, 0, x, 0, count); }
+
 	private static void cv_exp_0(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -136,6 +144,18 @@ public class CVexp {
 		}
 	}
 
+	private static void cv_exp_0f(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			float g = (float)Math.exp(x[xOffset + 0]);
+			z[zOffset + 0] = g * FastTrig.cos(x[xOffset + 1]);
+			z[zOffset + 1] = g * FastTrig.sin(x[xOffset + 1]);
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
 	private static void cv_exp_1(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -29,6 +29,7 @@ package vector.specific;
 
 import jdk.incubator.vector.*;
 import org.openjdk.jmh.annotations.*;
+import vectorapi.FastTrig;
 
 import java.util.Arrays;
 import java.util.Random;
@@ -47,6 +48,12 @@ public class CVr2p {
 	private final static VectorSpecies<Float> PFS2 = VectorSpecies.of(Float.TYPE, VectorShape.forBitSize(PFS.vectorBitSize() / 2));
 	private final static int EPV2 = PFS2.length();
 
+	private final static FloatVector ATAN_C1 = FloatVector.broadcast(PFS, 0.9998660f);
+	private final static FloatVector ATAN_C3 = FloatVector.broadcast(PFS, -0.3302995f);
+	private final static FloatVector ATAN_C5 = FloatVector.broadcast(PFS, 0.1801410f);
+	private final static FloatVector ATAN_C7 = FloatVector.broadcast(PFS, -0.0851330f);
+	private final static FloatVector ATAN_C9 = FloatVector.broadcast(PFS, 0.0208351f);
+
 	private final static VectorMask<Float> MASK_SECOND_HALF;
 	private final static VectorMask<Float> MASK_C_IM;
 
@@ -123,6 +130,15 @@ public class CVr2p {
 	@Benchmark
 	public void epv_epv2() { cv_r2p_3(z, 0, x, 0, count); }
 
+	@Benchmark
+	public void nv_fast() { cv_r2p_4(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void epv2_poly() { cv_r2p_5(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void epv_poly() { cv_r2p_6(z, 0, x, 0, count); }
+
 	private static void cv_r2p_0(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -263,4 +279,96 @@ public class CVr2p {
 			zOffset += 2;
 		}
 	}
+
+	private static void cv_r2p_4(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = (float)Math.hypot(x[xOffset + 0], x[xOffset + 1]);
+			z[zOffset + 1] = FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	private static void cv_r2p_5(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final FloatVector vrre = vxre.fma(vxre, vxim.mul(vxim)).sqrt();
+			final FloatVector vrim = atan2_poly(vxim, vxre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = (float)Math.hypot(x[xOffset + 0], x[xOffset + 1]);
+			z[zOffset + 1] = FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	private static void cv_r2p_6(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			// Each polynomial is calculated once per complex number, not twice
+			final FloatVector vrre = vxre.fma(vxre, vxim.mul(vxim)).sqrt();
+			final FloatVector vrim = atan2_poly(vxim, vxre);
+
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			xOffset += EPV * 2;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = (float)Math.hypot(x[xOffset + 0], x[xOffset + 1]);
+			z[zOffset + 1] = FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	// Same as VOVec.atan2_f()
+	private static FloatVector atan2_poly(FloatVector y, FloatVector x) {
+		final FloatVector ay = y.abs();
+		final FloatVector ax = x.abs();
+		final FloatVector q = ax.min(ay).div(ax.max(ay).max(Float.MIN_NORMAL));
+		final FloatVector q2 = q.mul(q);
+		FloatVector a = q2.fma(ATAN_C9, ATAN_C7).fma(q2, ATAN_C5).fma(q2, ATAN_C3).fma(q2, ATAN_C1).mul(q);
+		final VectorMask<Float> swap = ay.compare(VectorOperators.GT, ax);
+		a = a.lanewise(VectorOperators.NEG, swap).add(FastTrig._1PI2, swap);
+		final VectorMask<Float> left = x.compare(VectorOperators.LT, 0.0f);
+		a = a.lanewise(VectorOperators.NEG, left).add(FastTrig._2PI2, left);
+		return a.lanewise(VectorOperators.NEG, y.compare(VectorOperators.LT, 0.0f));
+	}
 }
@@ -0,0 +1,139 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VO;
+import vectorapi.VOVec;
+import vectorapi.dsp.Fir;
+
+import java.util.Random;
+
+/**
+ * FIR filtering of block of samples by hand, with ring buffer and dot product
+ * per output, and by {@link Fir} with and without resampling.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Filter {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float rv[];
+	private float cv[];
+	private float z[];
+	private float h[];
+	private float ring[];
+	private int pos;
+
+	private Fir rvRv;
+	private Fir rvCv;
+	private Fir cvCv;
+	private Fir decimator;
+	private Fir interpolator;
+
+	@Param({"4096"})
+	private int count = 4096;
+
+	@Param({"8", "32", "128", "1024"})
+	private int taps = 8;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		rv = new float[count];
+		cv = new float[count * 2];
+		z = new float[count * 2 * 4];
+		h = new float[taps * 2];
+		ring = new float[taps * 2];
+		pos = 0;
+
+		for (int i = 0; i < rv.length; i++)
+			rv[i] = r.nextFloat() * 2.0f - 1.0f;
+		for (int i = 0; i < cv.length; i++)
+			cv[i] = r.nextFloat() * 2.0f - 1.0f;
+		for (int i = 0; i < h.length; i++)
+			h[i] = r.nextFloat() * 2.0f - 1.0f;
+
+		final float rh[] = new float[taps];
+		System.arraycopy(h, 0, rh, 0, taps);
+		rvRv = Fir.rvRv(rh);
+		rvCv = Fir.rvCv(rh);
+		cvCv = Fir.cvCv(h);
+		decimator = Fir.rvRv(rh, 1, 4);
+		interpolator = Fir.rvRv(rh, 4, 1);
+	}
+
+	@Benchmark
+	public void rv_by_hand_nv() {
+		for (int i = 0; i < count; i++) {
+			ring[pos] = rv[i];
+			pos = pos + 1 == taps ? 0 : pos + 1;
+			z[i] = VO.rv_dot_rv_w(ring, pos, h, taps);
+		}
+	}
+
+	@Benchmark
+	public void rv_by_hand() {
+		for (int i = 0; i < count; i++) {
+			ring[pos] = rv[i];
+			pos = pos + 1 == taps ? 0 : pos + 1;
+			z[i] = VOVec.rv_dot_rv_w(ring, pos, h, taps);
+		}
+	}
+
+	@Benchmark
+	public void rv() { rvRv.apply(z, 0, rv, 0, count); }
+
+	@Benchmark
+	public void cv_by_hand() {
+		for (int i = 0; i < count; i++) {
+			ring[pos * 2 + 0] = cv[i * 2 + 0];
+			ring[pos * 2 + 1] = cv[i * 2 + 1];
+			pos = pos + 1 == taps ? 0 : pos + 1;
+			VOVec.cv_dot_rv_w(z, i, ring, pos, h, taps);
+		}
+	}
+
+	@Benchmark
+	public void cv() { rvCv.apply(z, 0, cv, 0, count); }
+
+	@Benchmark
+	public void cv_complex_taps() { cvCv.apply(z, 0, cv, 0, count); }
+
+	@Benchmark
+	public void rv_decimate_4() { decimator.apply(z, 0, rv, 0, count); }
+
+	@Benchmark
+	public void rv_interpolate_4() { interpolator.apply(z, 0, rv, 0, count); }
+}
@@ -0,0 +1,96 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VExpr;
+import vectorapi.VOVec;
+
+import java.util.Random;
+
+/**
+ * Chain |x * y + c| in dB as separate passes of VOVec and as fused VExpr.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(value = 2, jvmArgsAppend = { "-Xmx2g" })
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Fused {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float x[];
+	private float y[];
+	private float t[];
+	private float z[];
+	private final float c[] = new float[2];
+	private VExpr expr;
+
+	// Complex numbers, result is real vector
+	@Param({"65536", "16777216"})
+	private int count = 65536;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[count * 2];
+		y = new float[count * 2];
+		t = new float[count * 2];
+		z = new float[count];
+
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			y[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+		c[0] = r.nextFloat() * 2.0f - 1.0f;
+		c[1] = r.nextFloat() * 2.0f - 1.0f;
+
+		expr = VExpr.cv(x, 0).mul(y, 0).add(c).abs().db10();
+	}
+
+	@Benchmark
+	public void unfused() {
+		VOVec.cv_mul_cv(t, 0, x, 0, y, 0, count);
+		VOVec.cv_add_cs_i(t, 0, c, count);
+		VOVec.cv_abs(z, 0, t, 0, count);
+		VOVec.rv_10log10_i(z, 0, count);
+	}
+
+	@Benchmark
+	public void fused() {
+		expr.into(z, 0, count);
+	}
+
+	@Benchmark
+	public void fused_with_build() {
+		VExpr.cv(x, 0).mul(y, 0).add(c).abs().db10().into(z, 0, count);
+	}
+}
@@ -0,0 +1,113 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.VOVecHalf;
+
+import java.util.Random;
+
+/** @noinspection CStyleArrayDeclaration */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Half {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float x[];
+	private float z[];
+	private short hx[];
+	private short hz[];
+
+	// Complex vectors use 2 * count elements, real ones use count.
+	// Sizes are larger than L2 cache, so memory bandwidth is limiting factor
+	@Param({"1048576", "4194304"})
+	private int count = 1048576;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[count * 2];
+		z = new float[count * 2];
+		hx = new short[count * 2];
+		hz = new short[count * 2];
+
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			hx[i] = Float.floatToFloat16(x[i]);
+		}
+	}
+
+	@Benchmark
+	public void rv_cpy_float() { VOVec.rv_cpy(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void rv_load_h() { VOVecHalf.rv_load_h(z, 0, hx, 0, count); }
+
+	@Benchmark
+	public void rv_load_h_scalar() {
+		// Plain loop, which could be auto-vectorized by compiler
+		for (int i = 0; i < count; i++)
+			z[i] = Float.float16ToFloat(hx[i]);
+	}
+
+	@Benchmark
+	public void rv_store_h() { VOVecHalf.rv_store_h(hz, 0, x, 0, count); }
+
+	@Benchmark
+	public void rv_store_h_scalar() {
+		// Plain loop, which could be auto-vectorized by compiler
+		for (int i = 0; i < count; i++)
+			hz[i] = Float.floatToFloat16(x[i]);
+	}
+
+	@Benchmark
+	public void cv_abs_float() { VOVec.cv_abs(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void cv_abs_h() { VOVecHalf.cv_abs_h(hz, 0, x, 0, count); }
+
+	@Benchmark
+	public void rv_10log10_float() { VOVec.rv_10log10(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void rv_10log10_h() { VOVecHalf.rv_10log10_h(hz, 0, x, 0, count); }
+
+	@Benchmark
+	public void cv_10log10_float() { VOVec.cv_10log10(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void cv_10log10_h() { VOVecHalf.cv_10log10_h(hz, 0, x, 0, count); }
+
+	@Benchmark
+	public void cv_10log10_hh() { VOVecHalf.cv_10log10_hh(hz, 0, hx, 0, count); }
+}
@@ -0,0 +1,125 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.dsp.Biquad;
+
+import java.util.Random;
+
+/**
+ * Cascade of biquads applied to many channels: scalar loop per channel and
+ * {@link Biquad} with channels in lanes, on planar and interleaved data.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Iir {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+	private final static int SECTIONS = 4;
+
+	private float x[][];
+	private float z[][];
+	private float xi[];
+	private float zi[];
+	private float coeffs[];
+	private float state[];
+	private Biquad bq;
+
+	@Param({"1024"})
+	private int count = 1024;
+
+	@Param({"1", "4", "16", "64", "256"})
+	private int channels = 1;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[channels][count];
+		z = new float[channels][count];
+		xi = new float[channels * count];
+		zi = new float[channels * count];
+		coeffs = new float[SECTIONS * 5];
+		state = new float[channels * SECTIONS * 2];
+
+		for (int c = 0; c < channels; c++)
+			for (int n = 0; n < count; n++) {
+				x[c][n] = r.nextFloat() * 2.0f - 1.0f;
+				xi[n * channels + c] = x[c][n];
+			}
+
+		// Stable sections with poles of radius 0.9
+		for (int s = 0; s < SECTIONS; s++) {
+			final double angle = Math.PI * (s + 1) / (SECTIONS + 1);
+			coeffs[s * 5 + 0] = 0.01f;
+			coeffs[s * 5 + 1] = 0.02f;
+			coeffs[s * 5 + 2] = 0.01f;
+			coeffs[s * 5 + 3] = (float)(-1.8 * Math.cos(angle));
+			coeffs[s * 5 + 4] = 0.81f;
+		}
+		bq = new Biquad(coeffs, channels);
+	}
+
+	@Benchmark
+	public void nv() {
+		for (int c = 0; c < channels; c++) {
+			float in[] = x[c];
+			final float out[] = z[c];
+			for (int s = 0; s < SECTIONS; s++) {
+				final float b0 = coeffs[s * 5 + 0];
+				final float b1 = coeffs[s * 5 + 1];
+				final float b2 = coeffs[s * 5 + 2];
+				final float a1 = coeffs[s * 5 + 3];
+				final float a2 = coeffs[s * 5 + 4];
+				float s1 = state[(c * SECTIONS + s) * 2 + 0];
+				float s2 = state[(c * SECTIONS + s) * 2 + 1];
+				for (int n = 0; n < count; n++) {
+					final float v = in[n];
+					final float y = b0 * v + s1;
+					s1 = b1 * v - a1 * y + s2;
+					s2 = b2 * v - a2 * y;
+					out[n] = y;
+				}
+				state[(c * SECTIONS + s) * 2 + 0] = s1;
+				state[(c * SECTIONS + s) * 2 + 1] = s2;
+				in = out;
+			}
+		}
+	}
+
+	@Benchmark
+	public void planar() { bq.apply(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void interleaved() { bq.apply(zi, 0, xi, 0, count); }
+}
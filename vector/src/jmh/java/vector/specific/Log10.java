@@ -0,0 +1,88 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VO;
+import vectorapi.VOVec;
+
+import java.util.Random;
+
+/**
+ * Scalar, lanewise LOG10 and fast (exponent and polynomial of mantissa)
+ * implementations of power and magnitude spectra in dB.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Log10 {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float rv[];
+	private float cv[];
+	private float z[];
+
+	@Param({"128", "4096", "65536"})
+	private int count = 128;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		rv = new float[count];
+		cv = new float[count * 2];
+		z = new float[count];
+
+		for (int i = 0; i < rv.length; i++)
+			rv[i] = r.nextFloat() * 2.0f - 1.0f;
+		for (int i = 0; i < cv.length; i++)
+			cv[i] = r.nextFloat() * 2.0f - 1.0f;
+	}
+
+	@Benchmark
+	public void rv_10log10_nv() { VO.rv_10log10(z, 0, rv, 0, count); }
+
+	@Benchmark
+	public void rv_10log10() { VOVec.rv_10log10(z, 0, rv, 0, count); }
+
+	@Benchmark
+	public void rv_10log10_f() { VOVec.rv_10log10_f(z, 0, rv, 0, count); }
+
+	@Benchmark
+	public void cv_20log10_nv() { VO.cv_20log10(z, 0, cv, 0, count); }
+
+	@Benchmark
+	public void cv_20log10() { VOVec.cv_20log10(z, 0, cv, 0, count); }
+
+	@Benchmark
+	public void cv_20log10_f() { VOVec.cv_20log10_f(z, 0, cv, 0, count); }
+}
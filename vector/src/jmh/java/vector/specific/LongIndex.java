@@ -0,0 +1,110 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVecSeg;
+import vectorapi.VOVecSegLong;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Random;
+
+/**
+ * Overhead of long-indexed wrappers: VOVecSegLong vs int-indexed VOVecSeg on
+ * the same native data. Largest size is two runs of VOVecSegLong.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class LongIndex {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+	private final static long ALIGN = 64; // Cache line and widest vector
+
+	private final float cs[] = new float[2];
+
+	private Arena arena;
+	private MemorySegment x;
+	private MemorySegment y;
+	private MemorySegment z;
+
+	// Complex vectors use 2 * count elements, real ones use count
+	@Param({"128", "4096", "1048576", "33554432"})
+	private int count = 128;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		arena = Arena.ofShared();
+		x = arena.allocate((long)count * 2 * Float.BYTES, ALIGN);
+		y = arena.allocate((long)count * 2 * Float.BYTES, ALIGN);
+		z = arena.allocate((long)count * 2 * Float.BYTES, ALIGN);
+
+		for (long i = 0; i < (long)count * 2; i++) {
+			x.setAtIndex(ValueLayout.JAVA_FLOAT, i, r.nextFloat() * 2.0f - 1.0f);
+			y.setAtIndex(ValueLayout.JAVA_FLOAT, i, r.nextFloat() * 2.0f - 1.0f);
+		}
+	}
+
+	@TearDown
+	public void TearDown() {
+		if (arena != null)
+			arena.close();
+	}
+
+	@Benchmark
+	public void cv_mul_cv_int() { VOVecSeg.cv_mul_cv(z, 0, x, 0, y, 0, count); }
+
+	@Benchmark
+	public void cv_mul_cv_long() { VOVecSegLong.cv_mul_cv(z, 0, x, 0, y, 0, (long)count); }
+
+	@Benchmark
+	public float rv_sum_int() { return VOVecSeg.rv_sum(x, 0, count); }
+
+	@Benchmark
+	public float rv_sum_long() { return VOVecSegLong.rv_sum(x, 0, (long)count); }
+
+	@Benchmark
+	public float[] cv_dot_cv_int() { VOVecSeg.cv_dot_cv(cs, x, 0, y, 0, count); return cs; }
+
+	@Benchmark
+	public float[] cv_dot_cv_long() { VOVecSegLong.cv_dot_cv(cs, x, 0, y, 0, (long)count); return cs; }
+
+	@Benchmark
+	public long cv_maxarg_int() { return VOVecSeg.cv_maxarg(x, 0, count); }
+
+	@Benchmark
+	public long cv_maxarg_long() { return VOVecSegLong.cv_maxarg(x, 0, (long)count); }
+}
@@ -0,0 +1,129 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOPar;
+import vectorapi.VOVec;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Scaling of VOPar over number of threads, to find size at which splitting
+ * starts to pay off for each kernel. Splitting is forced for all sizes,
+ * VOVec is single-thread baseline.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(value = 2, jvmArgsAppend = { "-Xmx2g" })
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Parallel {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float rx[];
+	private float rz[];
+	private float cx[];
+	private float cy[];
+	private float cz[];
+	private final float cs[] = new float[2];
+	private ForkJoinPool pool;
+
+	@Param({"65536", "262144", "1048576", "16777216"})
+	private int count = 65536;
+
+	@Param({"1", "2", "4", "8"})
+	private int threads = 1;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		rx = new float[count];
+		rz = new float[count];
+		cx = new float[count * 2];
+		cy = new float[count * 2];
+		cz = new float[count * 2];
+
+		for (int i = 0; i < rx.length; i++)
+			rx[i] = r.nextFloat() * 2.0f - 1.0f;
+		for (int i = 0; i < cx.length; i++) {
+			cx[i] = r.nextFloat() * 2.0f - 1.0f;
+			cy[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+
+		pool = new ForkJoinPool(threads);
+		VOPar.setPool(pool);
+		VOPar.setThreshold(0);
+	}
+
+	@TearDown
+	public void TearDown() {
+		VOPar.setPool(ForkJoinPool.commonPool());
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public void cv_mul_cv_vec() { VOVec.cv_mul_cv(cz, 0, cx, 0, cy, 0, count); }
+
+	@Benchmark
+	public void cv_mul_cv_par() { VOPar.cv_mul_cv(cz, 0, cx, 0, cy, 0, count); }
+
+	@Benchmark
+	public void cv_abs_vec() { VOVec.cv_abs(rz, 0, cx, 0, count); }
+
+	@Benchmark
+	public void cv_abs_par() { VOPar.cv_abs(rz, 0, cx, 0, count); }
+
+	@Benchmark
+	public void cv_exp_vec() { VOVec.cv_exp(cz, 0, cx, 0, count); }
+
+	@Benchmark
+	public void cv_exp_par() { VOPar.cv_exp(cz, 0, cx, 0, count); }
+
+	@Benchmark
+	public float rv_sum_vec() { return VOVec.rv_sum(rx, 0, count); }
+
+	@Benchmark
+	public float rv_sum_par() { return VOPar.rv_sum(rx, 0, count); }
+
+	@Benchmark
+	public float[] cv_dot_cv_vec() { VOVec.cv_dot_cv(cs, cx, 0, cy, 0, count); return cs; }
+
+	@Benchmark
+	public float[] cv_dot_cv_par() { VOPar.cv_dot_cv(cs, cx, 0, cy, 0, count); return cs; }
+
+	@Benchmark
+	public int rv_maxarg_vec() { return VOVec.rv_maxarg(rx, 0, count); }
+
+	@Benchmark
+	public int rv_maxarg_par() { return VOPar.rv_maxarg(rx, 0, count); }
+}
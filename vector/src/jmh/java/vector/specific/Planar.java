@@ -0,0 +1,156 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import vectorapi.VOVec;
+import vectorapi.VOVecPlanar;
+
+import java.util.Random;
+
+/**
+ * Single kernels and full chain (cross-spectrum with window and magnitude:
+ * |x * conj(y) * w|) in interleaved layout, in planar layout with conversion
+ * of inputs, and in planar layout of all data.
+ *
+ * @noinspection CStyleArrayDeclaration
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Planar {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private float x[];
+	private float y[];
+	private float t[];
+	private float w[];
+	private float z[];
+
+	private float xre[];
+	private float xim[];
+	private float yre[];
+	private float yim[];
+	private float tre[];
+	private float tim[];
+
+	@Param({"128", "4096", "65536"})
+	private int count = 128;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[count * 2];
+		y = new float[count * 2];
+		t = new float[count * 2];
+		w = new float[count];
+		z = new float[count * 2];
+
+		xre = new float[count];
+		xim = new float[count];
+		yre = new float[count];
+		yim = new float[count];
+		tre = new float[count];
+		tim = new float[count];
+
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			y[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+		for (int i = 0; i < w.length; i++)
+			w[i] = r.nextFloat();
+
+		VOVecPlanar.cv_to_pcv(xre, xim, 0, x, 0, count);
+		VOVecPlanar.cv_to_pcv(yre, yim, 0, y, 0, count);
+	}
+
+	@Benchmark
+	public void cv_to_pcv() { VOVecPlanar.cv_to_pcv(tre, tim, 0, x, 0, count); }
+
+	@Benchmark
+	public void pcv_to_cv() { VOVecPlanar.pcv_to_cv(z, 0, xre, xim, 0, count); }
+
+	@Benchmark
+	public void mul_interleaved() { VOVec.cv_mul_cv(z, 0, x, 0, y, 0, count); }
+
+	@Benchmark
+	public void mul_planar() { VOVecPlanar.pcv_mul_pcv(tre, tim, 0, xre, xim, 0, yre, yim, 0, count); }
+
+	@Benchmark
+	public void abs_interleaved() { VOVec.cv_abs(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void abs_planar() { VOVecPlanar.pcv_abs(z, 0, xre, xim, 0, count); }
+
+	@Benchmark
+	public void exp_interleaved() { VOVec.cv_exp(z, 0, x, 0, count); }
+
+	@Benchmark
+	public void exp_planar() { VOVecPlanar.pcv_exp(tre, tim, 0, xre, xim, 0, count); }
+
+	@Benchmark
+	public void chain_interleaved() {
+		VOVec.cv_conjmul_cv(t, 0, x, 0, y, 0, count);
+		VOVec.cv_mul_rv_i(t, 0, w, 0, count);
+		VOVec.cv_abs(z, 0, t, 0, count);
+	}
+
+	@Benchmark
+	public void chain_planar_convert_in() {
+		// Inputs are interleaved and converted first, z and t are used as planar temporary
+		VOVecPlanar.cv_to_pcv(tre, tim, 0, x, 0, count);
+		VOVecPlanar.cv_to_pcv(z, t, 0, y, 0, count);
+		VOVecPlanar.pcv_conjmul_pcv(tre, tim, 0, tre, tim, 0, z, t, 0, count);
+		VOVecPlanar.pcv_mul_rv(tre, tim, 0, tre, tim, 0, w, 0, count);
+		VOVecPlanar.pcv_abs(z, 0, tre, tim, 0, count);
+	}
+
+	@Benchmark
+	public void chain_planar() {
+		VOVecPlanar.pcv_conjmul_pcv(tre, tim, 0, xre, xim, 0, yre, yim, 0, count);
+		VOVecPlanar.pcv_mul_rv(tre, tim, 0, tre, tim, 0, w, 0, count);
+		VOVecPlanar.pcv_abs(z, 0, tre, tim, 0, count);
+	}
+
+	@Benchmark
+	public void chain_complex_interleaved() {
+		// Result is complex and interleaved: x * conj(y) * w
+		VOVec.cv_conjmul_cv(z, 0, x, 0, y, 0, count);
+		VOVec.cv_mul_rv_i(z, 0, w, 0, count);
+	}
+
+	@Benchmark
+	public void chain_complex_planar_convert_out() {
+		VOVecPlanar.pcv_conjmul_pcv(tre, tim, 0, xre, xim, 0, yre, yim, 0, count);
+		VOVecPlanar.pcv_mul_rv(tre, tim, 0, tre, tim, 0, w, 0, count);
+		VOVecPlanar.pcv_to_cv(z, 0, tre, tim, 0, count);
+	}
+}
@@ -29,6 +29,8 @@ package vector.specific;
 
 import jdk.incubator.vector.*;
 import org.openjdk.jmh.annotations.*;
+import vectorapi.FastTrig;
+import vectorapi.VOVec;
 
 import java.util.Random;
 
@@ -121,6 +123,16 @@ public class RVexpi {
 		rv_expi_3a(z, 0, x, 0, count);
 	}
 
+	@Benchmark
+	public void nv_f() {
+		rv_expi_0f(z, 0, x, 0, count);
+	}
+
+	@Benchmark
+	public void pfs_f() {
+		VOVec.rv_expi_f(z, 0, x, 0, count);
+	}
+
 	private static void rv_expi_0(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		while (count-- > 0) {
@@ -131,6 +143,16 @@ public class RVexpi {
 		}
 	}
 
+	private static void rv_expi_0f(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = FastTrig.cos(x[xOffset]);
+			z[zOffset + 1] = FastTrig.sin(x[xOffset]);
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
 	private static void rv_expi_1(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		while (count >= EPV2) {
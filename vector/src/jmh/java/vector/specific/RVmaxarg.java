@@ -0,0 +1,167 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/** @noinspection CStyleArrayDeclaration, SameParameterValue */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class RVmaxarg {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+
+	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static int EPV = PFS.length();
+	private final static VectorSpecies<Integer> PIS = PFS.withLanes(int.class);
+
+	private final static FloatVector NEGATIVE_INFINITY = FloatVector.broadcast(PFS, Float.NEGATIVE_INFINITY);
+	private final static IntVector IOTA = IntVector.zero(PIS).addIndex(1);
+	private final static IntVector NO_INDEX = IntVector.broadcast(PIS, -1);
+
+	private float x[];
+	/** @noinspection unused */
+	@Param({"128", "4096"})
+	private int count;
+
+	@Setup(Level.Trial)
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[count];
+
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+	}
+
+	@Benchmark
+	public void nv(Blackhole bh) { bh.consume(rv_maxarg_0(x, 0, count)); }
+
+	@Benchmark
+	public void max_lanes_and_search(Blackhole bh) { bh.consume(rv_maxarg_1(x, 0, count)); }
+
+	@Benchmark
+	public void index_vector(Blackhole bh) { bh.consume(rv_maxarg_2(x, 0, count)); }
+
+	private static int rv_maxarg_0(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+		while (count-- > 0) {
+			if (max < x[xOffset]) {
+				max = x[xOffset];
+				i = xOffset;
+			}
+			xOffset += 1;
+		}
+		return i;
+	}
+
+	private static int rv_maxarg_1(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+
+		while (count >= EPV) {
+			float localMax = FloatVector.fromArray(PFS, x, xOffset).reduceLanes(VectorOperators.MAX);
+			if (max < localMax) {
+				max = localMax;
+				i = xOffset;
+			}
+			xOffset += EPV;
+			count -= EPV;
+		}
+
+		// Find max in vector
+		if (i >= 0) {
+			int i2 = i;
+			for (int j = i; j < i + EPV; j++) {
+				if (max == x[j]) {
+					i2 = j;
+					break;
+				}
+			}
+			i = i2;
+		}
+
+		while (count-- > 0) {
+			if (max < x[xOffset]) {
+				max = x[xOffset];
+				i = xOffset;
+			}
+			xOffset += 1;
+		}
+		return i;
+	}
+
+	private static int rv_maxarg_2(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+
+		if (count >= EPV) {
+			FloatVector vmax = NEGATIVE_INFINITY;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final int start = xOffset;
+
+			while (count >= EPV) {
+				final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+				final VectorMask<Float> found = vmax.compare(VectorOperators.LT, vx);
+				vmax = vmax.blend(vx, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV;
+				count -= EPV;
+			}
+
+			max = vmax.reduceLanes(VectorOperators.MAX);
+			final int j = vi.reduceLanes(VectorOperators.MIN, vmax.compare(VectorOperators.EQ, max).cast(PIS));
+			if (j >= 0)
+				i = start + j;
+		}
+
+		while (count-- > 0) {
+			if (max < x[xOffset]) {
+				max = x[xOffset];
+				i = xOffset;
+			}
+			xOffset += 1;
+		}
+		return i;
+	}
+}
@@ -0,0 +1,144 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vector.specific;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import vectorapi.VOVec;
+import vectorapi.VOVecSeg;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Random;
+
+/** @noinspection CStyleArrayDeclaration */
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Threads(1)
+@State(Scope.Thread)
+public class Segments {
+	private final static int SEED = 42; // Carefully selected, plucked by hands random number
+	private final static long ALIGN = 64; // Cache line and widest vector
+
+	private float x[];
+	private float y[];
+	private float z[];
+	private final float cs[] = new float[2];
+
+	private Arena arena;
+	private MemorySegment ax;
+	private MemorySegment ay;
+	private MemorySegment az;
+	private MemorySegment ux;
+	private MemorySegment uy;
+	private MemorySegment uz;
+
+	// Complex vectors use 2 * count elements, real ones use count
+	@Param({"128", "4096"})
+	private int count = 128;
+
+	@Setup
+	public void Setup() {
+		Random r = new Random(SEED);
+
+		x = new float[count * 2];
+		y = new float[count * 2];
+		z = new float[count * 2];
+
+		for (int i = 0; i < x.length; i++) {
+			x[i] = r.nextFloat() * 2.0f - 1.0f;
+			y[i] = r.nextFloat() * 2.0f - 1.0f;
+		}
+
+		arena = Arena.ofShared();
+		ax = aligned(x);
+		ay = aligned(y);
+		az = aligned(z);
+		ux = unaligned(x);
+		uy = unaligned(y);
+		uz = unaligned(z);
+	}
+
+	@TearDown
+	public void TearDown() {
+		if (arena != null)
+			arena.close();
+	}
+
+	private MemorySegment aligned(float data[]) {
+		final MemorySegment s = arena.allocate((long)data.length * Float.BYTES, ALIGN);
+		MemorySegment.copy(data, 0, s, ValueLayout.JAVA_FLOAT, 0L, data.length);
+		return s;
+	}
+
+	private MemorySegment unaligned(float data[]) {
+		// Start one float after aligned address, so vectors always cross alignment boundary
+		final long bytes = (long)data.length * Float.BYTES;
+		final MemorySegment s = arena.allocate(bytes + ALIGN, ALIGN).asSlice(Float.BYTES, bytes);
+		MemorySegment.copy(data, 0, s, ValueLayout.JAVA_FLOAT_UNALIGNED, 0L, data.length);
+		return s;
+	}
+
+	@Benchmark
+	public void rv_add_rv_array() { VOVec.rv_add_rv(z, 0, x, 0, y, 0, count); }
+
+	@Benchmark
+	public void rv_add_rv_aligned() { VOVecSeg.rv_add_rv(az, 0, ax, 0, ay, 0, count); }
+
+	@Benchmark
+	public void rv_add_rv_unaligned() { VOVecSeg.rv_add_rv(uz, 0, ux, 0, uy, 0, count); }
+
+	@Benchmark
+	public void cv_mul_cv_array() { VOVec.cv_mul_cv(z, 0, x, 0, y, 0, count); }
+
+	@Benchmark
+	public void cv_mul_cv_aligned() { VOVecSeg.cv_mul_cv(az, 0, ax, 0, ay, 0, count); }
+
+	@Benchmark
+	public void cv_mul_cv_unaligned() { VOVecSeg.cv_mul_cv(uz, 0, ux, 0, uy, 0, count); }
+
+	@Benchmark
+	public void rv_dot_rv_array(Blackhole bh) { bh.consume(VOVec.rv_dot_rv(x, 0, y, 0, count)); }
+
+	@Benchmark
+	public void rv_dot_rv_aligned(Blackhole bh) { bh.consume(VOVecSeg.rv_dot_rv(ax, 0, ay, 0, count)); }
+
+	@Benchmark
+	public void rv_dot_rv_unaligned(Blackhole bh) { bh.consume(VOVecSeg.rv_dot_rv(ux, 0, uy, 0, count)); }
+
+	@Benchmark
+	public void cv_sum_array(Blackhole bh) { VOVec.cv_sum(cs, x, 0, count); bh.consume(cs); }
+
+	@Benchmark
+	public void cv_sum_aligned(Blackhole bh) { VOVecSeg.cv_sum(cs, ax, 0, count); bh.consume(cs); }
+
+	@Benchmark
+	public void cv_sum_unaligned(Blackhole bh) { VOVecSeg.cv_sum(cs, ux, 0, count); bh.consume(cs); }
+}
@@ -42,10 +42,21 @@ my $SKIPPED_OPS = {
 	'minarg'  => 'maxarg'
 };
 
-die "Syntax: $0 <BaseImpl.java> <VectorImpl.java>\n" unless @ARGV == 2;
+die "Syntax: $0 <BaseImpl.java> <VectorImpl.java> [<PartialVectorImpl.java>]\n" unless @ARGV == 2 || @ARGV == 3;
 
 my $BASE = &OpAnalyzer::loadFile($ARGV[0], 1);
 my $VEC  = &OpAnalyzer::loadFile($ARGV[1], 0);
+my ($BASE_CLASS) = $ARGV[0] =~ m!([A-Za-z0-9_]+)\.java$!;
+my ($VEC_CLASS)  = $ARGV[1] =~ m!([A-Za-z0-9_]+)\.java$!;
+# Double-precision implementations get own set of benchmarks with double data
+my $DOUBLE = do {
+	open(my $fh, '<', $ARGV[1]) or die "Can not open \"$ARGV[1]\"\n";
+	local $/;
+	<$fh> =~ /\bDoubleVector\b/;
+};
+# Optional implementation of subset of API, it is benchmarked for methods it has
+my $EXTRA = @ARGV == 3 ? &OpAnalyzer::loadFile($ARGV[2], 0) : {};
+my ($EXTRA_CLASS) = @ARGV == 3 ? $ARGV[2] =~ m!([A-Za-z0-9_]+)\.java$! : ('');
 my $GEN = {};
 
 # Check all methods
@@ -61,7 +72,7 @@ for my $name (sort keys %{$VEC}) {
 my $CODE_INDENT = "            ";
 
 for my $mode ('OutOfPlace', 'InPlaceR', 'InPlaceC') {
-	my $className = 'VectorBenchmarks'.$mode;
+	my $className = 'VectorBenchmarks'.($DOUBLE ? 'Double' : '').$mode;
 	my $FH;
 	open($FH, '>', $className.'.java') or die "Can not open output file \"$className.java\"\n";
 	&generateBenchmarks($FH, $className, $mode);
@@ -122,26 +133,25 @@ sub generateBenchmarks {
 		}
 
 		# Call generators
-		if      ($op->{'type'} eq 'u' &&  $op->{'ip'}) {
-			&generateBenchmark1i($FH, $op, 'VO');
-			&generateBenchmark1i($FH, $op, 'VOVec');
-		} elsif ($op->{'type'} eq 'u' && !$op->{'ip'}) {
-			&generateBenchmark1o($FH, $op, 'VO');
-			&generateBenchmark1o($FH, $op, 'VOVec');
-		} elsif ($op->{'type'} eq 'b' &&  $op->{'ip'}) {
-			&generateBenchmark2i($FH, $op, 'VO');
-			&generateBenchmark2i($FH, $op, 'VOVec');
-		} elsif ($op->{'type'} eq 'b' && !$op->{'ip'}) {
-			&generateBenchmark2o($FH, $op, 'VO');
-			&generateBenchmark2o($FH, $op, 'VOVec');
-		} elsif ($op->{'type'} eq 'q' &&  $op->{'ip'}) {
-			&generateBenchmark4i($FH, $op, 'VO');
-			&generateBenchmark4i($FH, $op, 'VOVec');
-		} elsif ($op->{'type'} eq 'q' && !$op->{'ip'}) {
-			&generateBenchmark4o($FH, $op, 'VO');
-			&generateBenchmark4o($FH, $op, 'VOVec');
-		} else {
-			print STDERR 'Unknown ', ($op->{'ip'} ? 'in-place' : 'out-of-place'), " operation '$name' type '", $op->{'type'}, "'\n";
+		my @imps = ($BASE_CLASS, $VEC_CLASS);
+		push @imps, $EXTRA_CLASS if exists $EXTRA->{$name};
+		for my $imp (@imps) {
+			if      ($op->{'type'} eq 'u' &&  $op->{'ip'}) {
+				&generateBenchmark1i($FH, $op, $imp);
+			} elsif ($op->{'type'} eq 'u' && !$op->{'ip'}) {
+				&generateBenchmark1o($FH, $op, $imp);
+			} elsif ($op->{'type'} eq 'b' &&  $op->{'ip'}) {
+				&generateBenchmark2i($FH, $op, $imp);
+			} elsif ($op->{'type'} eq 'b' && !$op->{'ip'}) {
+				&generateBenchmark2o($FH, $op, $imp);
+			} elsif ($op->{'type'} eq 'q' &&  $op->{'ip'}) {
+				&generateBenchmark4i($FH, $op, $imp);
+			} elsif ($op->{'type'} eq 'q' && !$op->{'ip'}) {
+				&generateBenchmark4o($FH, $op, $imp);
+			} else {
+				print STDERR 'Unknown ', ($op->{'ip'} ? 'in-place' : 'out-of-place'), " operation '$name' type '", $op->{'type'}, "'\n";
+				last;
+			}
 		}
 	}
 
@@ -152,13 +162,15 @@ sub generateBenchmarks {
 sub generateHeader {
 	my ($FH, $class) = @_;
 
+	my $EXTRA_IMPORT = $EXTRA_CLASS ne '' ? "import vectorapi.$EXTRA_CLASS;\n" : '';
+
 	# Generate file header
 	my $header =<<__HEADER;
 /*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\\
 !! THIS FILE IS GENERATED WITH genBenchmarks.pl SCRIPT. DO NOT EDIT! !!
 \\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
 /*****************************************************************************
- * Copyright (c) 2019, Lev Serebryakov <lev\@serebryakov.spb.ru>
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev\@blacklion.dev>
  * All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without
@@ -186,9 +198,9 @@ sub generateHeader {
 
 package vector;
 
-import vectorapi.VO;
-import vectorapi.VOVec;
-
+import vectorapi.$BASE_CLASS;
+import vectorapi.$VEC_CLASS;
+${EXTRA_IMPORT}
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -207,7 +219,7 @@ public class $class {
     \@Param({"3", "4", "7", "8", "15", "128", "1024", "65536"})
     public int callSize;
 
-    private final static int MAX_OFFSET = 512 / 32 - 1; // Max vector size in `float`s;
+    private final static int MAX_OFFSET = 512 / Float.SIZE - 1; // Max vector size in `float`s;
     \@Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
     public int startOffset;
 
@@ -264,6 +276,7 @@ public class $class {
     }
 
 __HEADER
+	$header = &OpAnalyzer::toDouble($header) if $DOUBLE;
 	print $FH $header;
 }
 
@@ -286,7 +299,7 @@ sub generateBenchmark1i {
 	my @args = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args, &OpAnalyzer::generateArg($out, 'z', 'i', $op->{'name'}, 'first argument');
+		push @args, &OpAnalyzer::generateArg($out, 'z', &getOffset($op), $op->{'name'}, 'first argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -306,8 +319,8 @@ sub generateBenchmark1o {
 	my @args = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args, &OpAnalyzer::generateArg($out,       'z', 'i', $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @args, &OpAnalyzer::generateArg($op->{'l'}, 'x', 'i', $op->{'name'}, 'first argument');
+		push @args, &OpAnalyzer::generateArg($out,       'z', &getOffset($op), $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @args, &OpAnalyzer::generateArg($op->{'l'}, 'x', &getOffset($op), $op->{'name'}, 'first argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -331,8 +344,8 @@ sub generateBenchmark2i {
 	my @args = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args, &OpAnalyzer::generateArg($op->{'l'}, 'z', 'i', $op->{'name'}, 'first argument');
-		push @args, &OpAnalyzer::generateArg($op->{'r'}, 'x', 'i', $op->{'name'}, 'second argument');
+		push @args, &OpAnalyzer::generateArg($op->{'l'}, 'z', &getOffset($op), $op->{'name'}, 'first argument');
+		push @args, &OpAnalyzer::generateArg($op->{'r'}, 'x', &getOffset($op), $op->{'name'}, 'second argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -352,9 +365,9 @@ sub generateBenchmark2o {
 	my @args = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args, &OpAnalyzer::generateArg($out,       'z', 'i', $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @args, &OpAnalyzer::generateArg($op->{'l'}, 'x', 'i', $op->{'name'}, 'first argument');
-		push @args, &OpAnalyzer::generateArg($op->{'r'}, 'y', 'i', $op->{'name'}, 'second argument');
+		push @args, &OpAnalyzer::generateArg($out,       'z', &getOffset($op), $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @args, &OpAnalyzer::generateArg($op->{'l'}, 'x', &getOffset($op), $op->{'name'}, 'first argument');
+		push @args, &OpAnalyzer::generateArg($op->{'r'}, 'y', &getOffset($op), $op->{'name'}, 'second argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -383,10 +396,10 @@ sub generateBenchmark4i {
 	my @args = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args, &OpAnalyzer::generateArg($op->{'l1'}, 'z', 'i', $op->{'name'}, 'first argument');
-		push @args, &OpAnalyzer::generateArg($op->{'l2'}, 'z', 'i', $op->{'name'}, 'second argument');
-		push @args, &OpAnalyzer::generateArg($op->{'r1'}, 'x', 'i', $op->{'name'}, 'third argument');
-		push @args, &OpAnalyzer::generateArg($op->{'r2'}, 'x', 'i', $op->{'name'}, 'fourth argument');
+		push @args, &OpAnalyzer::generateArg($op->{'l1'}, 'z', &getOffset($op), $op->{'name'}, 'first argument');
+		push @args, &OpAnalyzer::generateArg($op->{'l2'}, 'z', &getOffset($op), $op->{'name'}, 'second argument');
+		push @args, &OpAnalyzer::generateArg($op->{'r1'}, 'x', &getOffset($op), $op->{'name'}, 'third argument');
+		push @args, &OpAnalyzer::generateArg($op->{'r2'}, 'x', &getOffset($op), $op->{'name'}, 'fourth argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -411,11 +424,11 @@ sub generateBenchmark4o {
 	my @args = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args, &OpAnalyzer::generateArg($out,        'z', 'i', $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @args, &OpAnalyzer::generateArg($op->{'l1'}, 'x', 'i', $op->{'name'}, 'first argument');
-		push @args, &OpAnalyzer::generateArg($op->{'l2'}, 'x', 'i', $op->{'name'}, 'second argument');
-		push @args, &OpAnalyzer::generateArg($op->{'r1'}, 'y', 'i', $op->{'name'}, 'third argument');
-		push @args, &OpAnalyzer::generateArg($op->{'r2'}, 'y', 'i', $op->{'name'}, 'fourth argument');
+		push @args, &OpAnalyzer::generateArg($out,        'z', &getOffset($op), $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @args, &OpAnalyzer::generateArg($op->{'l1'}, 'x', &getOffset($op), $op->{'name'}, 'first argument');
+		push @args, &OpAnalyzer::generateArg($op->{'l2'}, 'x', &getOffset($op), $op->{'name'}, 'second argument');
+		push @args, &OpAnalyzer::generateArg($op->{'r1'}, 'y', &getOffset($op), $op->{'name'}, 'third argument');
+		push @args, &OpAnalyzer::generateArg($op->{'r2'}, 'y', &getOffset($op), $op->{'name'}, 'fourth argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -432,6 +445,12 @@ sub generateBenchmark4o {
 	&generateBenchmarkFooter($FH);
 }
 
+sub getOffset {
+	my ($op) = @_;
+	# Wrapping variants start in the middle of data, so calls cross the end of arrays
+	return $op->{'wrap'} ? 'i + DATA_SIZE / 2' : 'i';
+}
+
 sub generateBenchmarkHeader {
 	my ($FH, $name, $imp, $out) = @_;
 	print $FH "\n";
@@ -113,6 +113,11 @@ public final class FastTrig {
 		return angle;
 	}
 
+	// For double-precision implementations, precision is the same as of float one
+	public static double atan2(double y, double x) {
+		return atan2((float)y, (float)x);
+	}
+
 	// 1024 elements is Ok for MSE ~1.77E-6 and max error of 0.001
 	private static final int COS_TABLE_SIZE = 1024;
 	private static final int COS_TABLE_MASK = COS_TABLE_SIZE - 1;
@@ -158,6 +163,11 @@ public final class FastTrig {
 		}
 	}
 
+	// For double-precision implementations, precision is the same as of float one
+	public static double cos(double x) {
+		return cos((float)x);
+	}
+
 	public static float sin(float x) {
 		// Normalize x to [0, 2*PI], loops is much (2x) faster than
 		// floating point module
@@ -189,6 +199,11 @@ public final class FastTrig {
 		}
 	}
 
+	// For double-precision implementations, precision is the same as of float one
+	public static double sin(double x) {
+		return sin((float)x);
+	}
+
 	public static void sincos(float sc[], float x) {
 		// Normalize x to [0, 2*PI], loops is much (2x) faster than
 		// floating point module
@@ -0,0 +1,245 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chain of {@link VOVec} operations which is evaluated in one pass over data.
+ * <p>
+ * Operations are recorded by builder methods and executed by {@link #into(float[], int, int)}
+ * chunk by chunk: each chunk is small enough to stay in L1 cache, so arguments are read from
+ * memory and result is written to memory only once, and not once per operation.
+ * <p>
+ * Arguments follow convention of {@link VO}: array with offset is vector of same type as
+ * current value (real or complex), array without offset is complex scalar and {@code float}
+ * is real scalar. For example, {@code |x * y + c|} in dB is
+ * {@code VExpr.cv(x, 0).mul(y, 0).add(c).abs().db10().into(z, 0, count)}.
+ * <p>
+ * Expression keeps its own scratch buffers, so it could be evaluated many times, but not
+ * from several threads at once.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+public final class VExpr {
+	// Chunk in complex numbers: two scratch buffers and chunks of two complex arguments fit in 32K L1
+	private final static int CHUNK = 512;
+
+	private interface Step {
+		// Processes chunk in x, which starts at offset in whole vector,
+		// and returns buffer with result, x or z
+		float[] run(float x[], float z[], int offset, int count);
+	}
+
+	private final float src[];
+	private final int srcOffset;
+	private final boolean srcComplex;
+	private final List<Step> steps = new ArrayList<>();
+	private final float buf1[] = new float[CHUNK * 2];
+	private final float buf2[] = new float[CHUNK * 2];
+	private boolean complex;
+
+	private VExpr(float x[], int xOffset, boolean complex) {
+		this.src = x;
+		this.srcOffset = xOffset;
+		this.srcComplex = complex;
+		this.complex = complex;
+	}
+
+	public static VExpr rv(float x[], int xOffset) {
+		return new VExpr(x, xOffset, false);
+	}
+
+	public static VExpr cv(float x[], int xOffset) {
+		return new VExpr(x, xOffset, true);
+	}
+
+	public VExpr add(float y[], int yOffset) {
+		if (complex)
+			return step((x, z, offset, count) -> { VOVec.cv_add_cv_i(x, 0, y, yOffset + offset, count); return x; });
+		return step((x, z, offset, count) -> { VOVec.rv_add_rv_i(x, 0, y, yOffset + offset, count); return x; });
+	}
+
+	public VExpr add(float y[]) {
+		needComplex("add(cs)");
+		return step((x, z, offset, count) -> { VOVec.cv_add_cs_i(x, 0, y, count); return x; });
+	}
+
+	public VExpr add(float y) {
+		if (complex)
+			return step((x, z, offset, count) -> { VOVec.cv_add_rs_i(x, 0, y, count); return x; });
+		return step((x, z, offset, count) -> { VOVec.rv_add_rs_i(x, 0, y, count); return x; });
+	}
+
+	public VExpr sub(float y[], int yOffset) {
+		if (complex)
+			return step((x, z, offset, count) -> { VOVec.cv_sub_cv_i(x, 0, y, yOffset + offset, count); return x; });
+		return step((x, z, offset, count) -> { VOVec.rv_sub_rv_i(x, 0, y, yOffset + offset, count); return x; });
+	}
+
+	public VExpr sub(float y[]) {
+		needComplex("sub(cs)");
+		return step((x, z, offset, count) -> { VOVec.cv_sub_cs_i(x, 0, y, count); return x; });
+	}
+
+	public VExpr sub(float y) {
+		if (complex)
+			return step((x, z, offset, count) -> { VOVec.cv_sub_rs_i(x, 0, y, count); return x; });
+		return step((x, z, offset, count) -> { VOVec.rv_sub_rs_i(x, 0, y, count); return x; });
+	}
+
+	public VExpr mul(float y[], int yOffset) {
+		if (complex)
+			return step((x, z, offset, count) -> { VOVec.cv_mul_cv_i(x, 0, y, yOffset + offset, count); return x; });
+		return step((x, z, offset, count) -> { VOVec.rv_mul_rv_i(x, 0, y, yOffset + offset, count); return x; });
+	}
+
+	public VExpr mul(float y[]) {
+		needComplex("mul(cs)");
+		return step((x, z, offset, count) -> { VOVec.cv_mul_cs_i(x, 0, y, count); return x; });
+	}
+
+	public VExpr mul(float y) {
+		if (complex)
+			return step((x, z, offset, count) -> { VOVec.cv_mul_rs_i(x, 0, y, count); return x; });
+		return step((x, z, offset, count) -> { VOVec.rv_mul_rs_i(x, 0, y, count); return x; });
+	}
+
+	// Complex value multiplied by real vector, like window
+	public VExpr mulRv(float y[], int yOffset) {
+		needComplex("mulRv()");
+		return step((x, z, offset, count) -> { VOVec.cv_mul_rv_i(x, 0, y, yOffset + offset, count); return x; });
+	}
+
+	public VExpr div(float y[], int yOffset) {
+		if (complex)
+			return step((x, z, offset, count) -> { VOVec.cv_div_cv_i(x, 0, y, yOffset + offset, count); return x; });
+		return step((x, z, offset, count) -> { VOVec.rv_div_rv_i(x, 0, y, yOffset + offset, count); return x; });
+	}
+
+	public VExpr div(float y[]) {
+		needComplex("div(cs)");
+		return step((x, z, offset, count) -> { VOVec.cv_div_cs_i(x, 0, y, count); return x; });
+	}
+
+	public VExpr div(float y) {
+		if (complex)
+			return step((x, z, offset, count) -> { VOVec.cv_div_rs_i(x, 0, y, count); return x; });
+		return step((x, z, offset, count) -> { VOVec.rv_div_rs_i(x, 0, y, count); return x; });
+	}
+
+	public VExpr conj() {
+		needComplex("conj()");
+		return step((x, z, offset, count) -> { VOVec.cv_conj_i(x, 0, count); return x; });
+	}
+
+	public VExpr exp() {
+		if (complex)
+			return step((x, z, offset, count) -> { VOVec.cv_exp_i(x, 0, count); return x; });
+		return step((x, z, offset, count) -> { VOVec.rv_exp_i(x, 0, count); return x; });
+	}
+
+	public VExpr abs() {
+		if (complex)
+			return real((x, z, offset, count) -> { VOVec.cv_abs(z, 0, x, 0, count); return z; });
+		return step((x, z, offset, count) -> { VOVec.rv_abs_i(x, 0, count); return x; });
+	}
+
+	public VExpr arg() {
+		needComplex("arg()");
+		return real((x, z, offset, count) -> { VOVec.cv_arg(z, 0, x, 0, count); return z; });
+	}
+
+	public VExpr re() {
+		needComplex("re()");
+		return real((x, z, offset, count) -> { VOVec.cv_re(z, 0, x, 0, count); return z; });
+	}
+
+	public VExpr im() {
+		needComplex("im()");
+		return real((x, z, offset, count) -> { VOVec.cv_im(z, 0, x, 0, count); return z; });
+	}
+
+	// 10 * log10(|x|), power in dB
+	public VExpr db10() {
+		if (complex)
+			return real((x, z, offset, count) -> { VOVec.cv_10log10(z, 0, x, 0, count); return z; });
+		return step((x, z, offset, count) -> { VOVec.rv_10log10_i(x, 0, count); return x; });
+	}
+
+	// 20 * log10(|x|), amplitude in dB
+	public VExpr db20() {
+		if (complex)
+			return real((x, z, offset, count) -> { VOVec.cv_20log10(z, 0, x, 0, count); return z; });
+		return step((x, z, offset, count) -> { VOVec.rv_20log10_i(x, 0, count); return x; });
+	}
+
+	public boolean isComplex() {
+		return complex;
+	}
+
+	// Evaluates whole chain for count elements and stores result (real or complex vector) to z
+	public void into(float z[], int zOffset, int count) {
+		final int srcShift = srcComplex ? 1 : 0;
+		final int dstShift = complex ? 1 : 0;
+		int offset = 0;
+		while (count > 0) {
+			final int work = Math.min(count, CHUNK);
+			float x[] = buf1;
+			float t[] = buf2;
+			System.arraycopy(src, (srcOffset + offset) << srcShift, x, 0, work << srcShift);
+			for (Step s : steps) {
+				final float r[] = s.run(x, t, offset, work);
+				if (r == t) {
+					t = x;
+					x = r;
+				}
+			}
+			System.arraycopy(x, 0, z, (zOffset + offset) << dstShift, work << dstShift);
+			offset += work;
+			count -= work;
+		}
+	}
+
+	private VExpr step(Step s) {
+		steps.add(s);
+		return this;
+	}
+
+	private VExpr real(Step s) {
+		complex = false;
+		return step(s);
+	}
+
+	private void needComplex(String op) {
+		if (!complex)
+			throw new IllegalStateException("Operation " + op + " needs complex value");
+	}
+}
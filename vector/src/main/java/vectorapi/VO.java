@@ -91,6 +91,7 @@ public final class VO {
 
 	public static void cv_add_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset = preWrap(zOffset << 1, z.length);
+		xOffset = preWrap(xOffset, x.length);
 		while (count-- > 0) {
 			z[zOffset + 0] += x[xOffset];
 			zOffset += 2;
@@ -1461,6 +1462,29 @@ public final class VO {
 		}
 	}
 
+	public static void rv_expi_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		while (count-- > 0) {
+			z[zOffset + 0] = FastTrig.cos(x[xOffset]);
+			z[zOffset + 1] = FastTrig.sin(x[xOffset]);
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void rv_expi_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset << 1, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count-- > 0) {
+			z[zOffset + 0] = FastTrig.cos(x[xOffset]);
+			z[zOffset + 1] = FastTrig.sin(x[xOffset]);
+			zOffset += 2;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += 1;
+			if (xOffset == x.length) xOffset = 0;
+		}
+	}
+
 	public static void rv_exp_i(float z[], int zOffset, int count) {
 		while (count-- > 0) {
 			z[zOffset] = (float)Math.exp(z[zOffset]);
@@ -1498,6 +1522,27 @@ public final class VO {
 		}
 	}
 
+	public static void cv_exp_if(float z[], int zOffset, int count) {
+		zOffset <<= 1;
+		while (count-- > 0) {
+			float g = (float)Math.exp(z[zOffset + 0]);
+			z[zOffset + 0] = g * FastTrig.cos(z[zOffset + 1]);
+			z[zOffset + 1] = g * FastTrig.sin(z[zOffset + 1]);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_ifw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset << 1, z.length);
+		while (count-- > 0) {
+			float g = (float)Math.exp(z[zOffset + 0]);
+			z[zOffset + 0] = g * FastTrig.cos(z[zOffset + 1]);
+			z[zOffset + 1] = g * FastTrig.sin(z[zOffset + 1]);
+			zOffset += 2;
+			if (zOffset == z.length) zOffset = 0;
+		}
+	}
+
 	public static void rv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count-- > 0)
 			z[zOffset++] = (float)Math.exp(x[xOffset++]);
@@ -1541,6 +1586,32 @@ public final class VO {
 		}
 	}
 
+	public static void cv_exp_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count-- > 0) {
+			float g = (float)Math.exp(x[xOffset + 0]);
+			z[zOffset + 0] = g * FastTrig.cos(x[xOffset + 1]);
+			z[zOffset + 1] = g * FastTrig.sin(x[xOffset + 1]);
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_exp_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset << 1, z.length);
+		xOffset = preWrap(xOffset << 1, x.length);
+		while (count-- > 0) {
+			float g = (float)Math.exp(x[xOffset + 0]);
+			z[zOffset + 0] = g * FastTrig.cos(x[xOffset + 1]);
+			z[zOffset + 1] = g * FastTrig.sin(x[xOffset + 1]);
+			zOffset += 2;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += 2;
+			if (xOffset == x.length) xOffset = 0;
+		}
+	}
+
 	public static void cv_im(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		xOffset += 1;
@@ -2120,6 +2191,41 @@ public final class VO {
 		z[zOffset + 1] = im;
 	}
 
+	public static void cv_dot_rv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrap(xOffset << 1, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count-- > 0) {
+			re += x[xOffset + 0] * y[yOffset];
+			im += x[xOffset + 1] * y[yOffset];
+			xOffset += 2;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += 1;
+			if (yOffset == y.length) yOffset = 0;
+		}
+		z[0] = re;
+		z[1] = im;
+	}
+
+	public static void cv_dot_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrap(xOffset << 1, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count-- > 0) {
+			re += x[xOffset + 0] * y[yOffset];
+			im += x[xOffset + 1] * y[yOffset];
+			xOffset += 2;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += 1;
+			if (yOffset == y.length) yOffset = 0;
+		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
 	public static void cv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
 		float re = 0.0f;
 		float im = 0.0f;
@@ -3430,9 +3536,11 @@ public final class VO {
 		}
 	}
 
+	// Float.MIN_NORMAL is added to magnitude, as in all vectorized implementations,
+	// so zero and denormals give large negative value and not -Infinity
 	public static void rv_10log10_i(float z[], int zOffset, int count) {
 		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]));
+			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL);
 			zOffset += 1;
 		}
 	}
@@ -3440,22 +3548,31 @@ public final class VO {
 	public static void rv_10log10_iw(float z[], int zOffset, int count) {
 		zOffset = preWrap(zOffset, z.length);
 		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]));
+			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL);
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 		}
 	}
 
+	// Fast versions differ only in vectorized code, which approximates log10()
+	public static void rv_10log10_if(float z[], int zOffset, int count) {
+		rv_10log10_i(z, zOffset, count);
+	}
+
+	public static void rv_10log10_ifw(float z[], int zOffset, int count) {
+		rv_10log10_iw(z, zOffset, count);
+	}
+
 	public static void rv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count-- > 0)
-			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++]));
+			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL);
 	}
 
 	public static void rv_10log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset = preWrap(zOffset, z.length);
 		xOffset = preWrap(xOffset, x.length);
 		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(Math.abs(x[xOffset]));
+			z[zOffset] = 10 * (float)Math.log10(Math.abs(x[xOffset]) + Float.MIN_NORMAL);
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 			xOffset += 1;
@@ -3463,36 +3580,44 @@ public final class VO {
 		}
 	}
 
+	public static void rv_10log10_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		rv_10log10(z, zOffset, x, xOffset, count);
+	}
+
+	public static void rv_10log10_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		rv_10log10_w(z, zOffset, x, xOffset, count);
+	}
+
 	public static void rv_10log10_rs_i(float z[], int zOffset, float base, int count) {
-		base = 10 * (float)Math.log10(Math.abs(base));
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset])) - base;
+			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL) - base;
 			zOffset += 1;
 		}
 	}
 
 	public static void rv_10log10_rs_iw(float z[], int zOffset, float base, int count) {
-		base = 10 * (float)Math.log10(Math.abs(base));
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		zOffset = preWrap(zOffset, z.length);
 		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset])) - base;
+			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL) - base;
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 		}
 	}
 
 	public static void rv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
-		base = 10 * (float)Math.log10(Math.abs(base));
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		while (count-- > 0)
-			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++])) - base;
+			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL) - base;
 	}
 
 	public static void rv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
-		base = 10 * (float)Math.log10(Math.abs(base));
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		zOffset = preWrap(zOffset, z.length);
 		xOffset = preWrap(xOffset, x.length);
 		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(Math.abs(x[xOffset])) - base;
+			z[zOffset] = 10 * (float)Math.log10(Math.abs(x[xOffset]) + Float.MIN_NORMAL) - base;
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 			xOffset += 1;
@@ -3503,7 +3628,7 @@ public final class VO {
 	public static void cv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		while (count-- > 0) {
-			z[zOffset] = 5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]);
+			z[zOffset] = 5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL);
 			zOffset += 1;
 			xOffset += 2;
 		}
@@ -3513,7 +3638,7 @@ public final class VO {
 		zOffset = preWrap(zOffset, z.length);
 		xOffset = preWrap(xOffset << 1, x.length);
 		while (count-- > 0) {
-			z[zOffset] = 5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]);
+			z[zOffset] = 5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL);
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 			xOffset += 2;
@@ -3522,21 +3647,21 @@ public final class VO {
 	}
 
 	public static void cv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
-		base = 10 * (float)Math.log10(Math.abs(base));
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		xOffset <<= 1;
 		while (count-- > 0) {
-			z[zOffset] = 5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]) - base;
+			z[zOffset] = 5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL) - base;
 			zOffset += 1;
 			xOffset += 2;
 		}
 	}
 
 	public static void cv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
-		base = 10 * (float)Math.log10(Math.abs(base));
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		zOffset = preWrap(zOffset, z.length);
 		xOffset = preWrap(xOffset << 1, x.length);
 		while (count-- > 0) {
-			z[zOffset] = 5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]) - base;
+			z[zOffset] = 5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL) - base;
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 			xOffset += 2;
@@ -3546,7 +3671,7 @@ public final class VO {
 
 	public static void rv_20log10_i(float z[], int zOffset, int count) {
 		while (count-- > 0) {
-			z[zOffset] = 20 * (float)Math.log10(Math.abs(z[zOffset]));
+			z[zOffset] = 20 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL);
 			zOffset += 1;
 		}
 	}
@@ -3554,7 +3679,7 @@ public final class VO {
 	public static void rv_20log10_iw(float z[], int zOffset, int count) {
 		zOffset = preWrap(zOffset, z.length);
 		while (count-- > 0) {
-			z[zOffset] = 20 * (float)Math.log10(Math.abs(z[zOffset]));
+			z[zOffset] = 20 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL);
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 		}
@@ -3562,14 +3687,14 @@ public final class VO {
 
 	public static void rv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count-- > 0)
-			z[zOffset++] = 20 * (float)Math.log10(Math.abs(x[xOffset++]));
+			z[zOffset++] = 20 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL);
 	}
 
 	public static void rv_20log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset = preWrap(zOffset, z.length);
 		xOffset = preWrap(xOffset, x.length);
 		while (count-- > 0) {
-			z[zOffset] = 20 * (float)Math.log10(Math.abs(x[xOffset]));
+			z[zOffset] = 20 * (float)Math.log10(Math.abs(x[xOffset]) + Float.MIN_NORMAL);
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 			xOffset += 1;
@@ -3578,35 +3703,35 @@ public final class VO {
 	}
 
 	public static void rv_20log10_rs_i(float z[], int zOffset, float base, int count) {
-		base = 20 * (float)Math.log10(Math.abs(base));
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		while (count-- > 0) {
-			z[zOffset] = 20 * (float)Math.log10(Math.abs(z[zOffset])) - base;
+			z[zOffset] = 20 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL) - base;
 			zOffset += 1;
 		}
 	}
 
 	public static void rv_20log10_rs_iw(float z[], int zOffset, float base, int count) {
-		base = 20 * (float)Math.log10(Math.abs(base));
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		zOffset = preWrap(zOffset, z.length);
 		while (count-- > 0) {
-			z[zOffset] = 20 * (float)Math.log10(Math.abs(z[zOffset])) - base;
+			z[zOffset] = 20 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL) - base;
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 		}
 	}
 
 	public static void rv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
-		base = 20 * (float)Math.log10(Math.abs(base));
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		while (count-- > 0)
-			z[zOffset++] = 20 * (float)Math.log10(Math.abs(x[xOffset++])) - base;
+			z[zOffset++] = 20 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL) - base;
 	}
 
 	public static void rv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
-		base = 20 * (float)Math.log10(Math.abs(base));
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		zOffset = preWrap(zOffset, z.length);
 		xOffset = preWrap(xOffset, x.length);
 		while (count-- > 0) {
-			z[zOffset] = 20 * (float)Math.log10(Math.abs(x[xOffset])) - base;
+			z[zOffset] = 20 * (float)Math.log10(Math.abs(x[xOffset]) + Float.MIN_NORMAL) - base;
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 			xOffset += 1;
@@ -3617,7 +3742,7 @@ public final class VO {
 	public static void cv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]);
+			z[zOffset] = 10 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL);
 			zOffset += 1;
 			xOffset += 2;
 		}
@@ -3627,7 +3752,7 @@ public final class VO {
 		zOffset = preWrap(zOffset, z.length);
 		xOffset = preWrap(xOffset << 1, x.length);
 		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]);
+			z[zOffset] = 10 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL);
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 			xOffset += 2;
@@ -3635,22 +3760,30 @@ public final class VO {
 		}
 	}
 
+	public static void cv_20log10_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		cv_20log10(z, zOffset, x, xOffset, count);
+	}
+
+	public static void cv_20log10_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		cv_20log10_w(z, zOffset, x, xOffset, count);
+	}
+
 	public static void cv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
-		base = 20 * (float)Math.log10(Math.abs(base));
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		xOffset <<= 1;
 		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]) - base;
+			z[zOffset] = 10 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL) - base;
 			zOffset += 1;
 			xOffset += 2;
 		}
 	}
 
 	public static void cv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
-		base = 20 * (float)Math.log10(Math.abs(base));
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		zOffset = preWrap(zOffset, z.length);
 		xOffset = preWrap(xOffset << 1, x.length);
 		while (count-- > 0) {
-			z[zOffset] = 10 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]) - base;
+			z[zOffset] = 10 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL) - base;
 			zOffset += 1;
 			if (zOffset == z.length) zOffset = 0;
 			xOffset += 2;
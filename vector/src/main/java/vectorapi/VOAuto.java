@@ -0,0 +1,9167 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+// Generated by genAuto.pl from VOVec.java, VO.java, VOVecMasked.java, don't edit
+
+package vectorapi;
+
+/**
+ * Calls implementation chosen by {@link VOPlanner} for each operation and
+ * size of call, {@link VOVec} if there is no plan.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOAuto {
+	// Candidates, index in IMPLS is value in plan
+	final static byte IMPL_VOVEC = 0;
+	final static byte IMPL_VO = 1;
+	final static byte IMPL_VOVECMASKED = 2;
+	final static String IMPLS[] = { "VOVec", "VO", "VOVecMasked" };
+
+	// Operations, index in OPS is index of plan
+	final static String OPS[] = {
+		"rv_add_rs_i",
+		"rv_add_rs_iw",
+		"rv_add_rv_i",
+		"rv_add_rv_iw",
+		"cv_add_rs_i",
+		"cv_add_rs_iw",
+		"cv_add_rv_i",
+		"cv_add_rv_iw",
+		"cv_add_cs_i",
+		"cv_add_cs_iw",
+		"cv_add_cv_i",
+		"cv_add_cv_iw",
+		"rv_add_rs",
+		"rv_add_rs_w",
+		"rv_add_rv",
+		"rv_add_rv_w",
+		"cv_add_rs",
+		"cv_add_rs_w",
+		"cv_add_rv",
+		"cv_add_rv_w",
+		"cv_add_cs",
+		"cv_add_cs_w",
+		"cv_add_cv",
+		"cv_add_cv_w",
+		"rv_sub_rs_i",
+		"rv_sub_rs_iw",
+		"rv_sub_rv_i",
+		"rv_sub_rv_iw",
+		"cv_sub_rs_i",
+		"cv_sub_rs_iw",
+		"cv_sub_rv_i",
+		"cv_sub_rv_iw",
+		"cv_sub_cs_i",
+		"cv_sub_cs_iw",
+		"cv_sub_cv_i",
+		"cv_sub_cv_iw",
+		"rv_sub_rs",
+		"rv_sub_rs_w",
+		"rs_sub_rv",
+		"rs_sub_rv_w",
+		"rv_sub_rv",
+		"rv_sub_rv_w",
+		"cv_sub_rs",
+		"cv_sub_rs_w",
+		"rs_sub_cv",
+		"rs_sub_cv_w",
+		"cv_sub_rv",
+		"cv_sub_rv_w",
+		"rv_sub_cv",
+		"rv_sub_cv_w",
+		"cv_sub_cs",
+		"cv_sub_cs_w",
+		"cs_sub_cv",
+		"cs_sub_cv_w",
+		"cv_sub_cv",
+		"cv_sub_cv_w",
+		"rv_mul_rs_i",
+		"rv_mul_rs_iw",
+		"rv_mul_rv_i",
+		"rv_mul_rv_iw",
+		"cv_mul_rs_i",
+		"cv_mul_rs_iw",
+		"cv_mul_rv_i",
+		"cv_mul_rv_iw",
+		"cv_mul_cs_i",
+		"cv_mul_cs_iw",
+		"cv_mul_cv_i",
+		"cv_mul_cv_iw",
+		"rv_mul_rs",
+		"rv_mul_rs_w",
+		"rv_mul_rv",
+		"rv_mul_rv_w",
+		"cv_mul_rs",
+		"cv_mul_rs_w",
+		"cv_mul_rv",
+		"cv_mul_rv_w",
+		"cv_mul_cs",
+		"cv_mul_cs_w",
+		"cv_mul_cv",
+		"cv_mul_cv_w",
+		"rv_div_rs_i",
+		"rv_div_rs_iw",
+		"rv_div_rv_i",
+		"rv_div_rv_iw",
+		"cv_div_rs_i",
+		"cv_div_rs_iw",
+		"cv_div_rv_i",
+		"cv_div_rv_iw",
+		"cv_div_cs_i",
+		"cv_div_cs_iw",
+		"cv_div_cv_i",
+		"cv_div_cv_iw",
+		"rv_div_rs",
+		"rv_div_rs_w",
+		"rs_div_rv",
+		"rs_div_rv_w",
+		"rv_div_rv",
+		"rv_div_rv_w",
+		"cv_div_rs",
+		"cv_div_rs_w",
+		"rs_div_cv",
+		"rs_div_cv_w",
+		"cv_div_rv",
+		"cv_div_rv_w",
+		"rv_div_cv",
+		"rv_div_cv_w",
+		"cv_div_cs",
+		"cv_div_cs_w",
+		"cs_div_cv",
+		"cs_div_cv_w",
+		"cv_div_cv",
+		"cv_div_cv_w",
+		"rv_conjmul_cv",
+		"rv_conjmul_cv_w",
+		"cv_conjmul_cv_i",
+		"cv_conjmul_cv_iw",
+		"cv_conjmul_cv",
+		"cv_conjmul_cv_w",
+		"cv_conj_i",
+		"cv_conj_iw",
+		"cv_conj",
+		"cv_conj_w",
+		"rv_expi",
+		"rv_expi_w",
+		"rv_expi_f",
+		"rv_expi_fw",
+		"rv_exp_i",
+		"rv_exp_iw",
+		"cv_exp_i",
+		"cv_exp_iw",
+		"cv_exp_if",
+		"cv_exp_ifw",
+		"rv_exp",
+		"rv_exp_w",
+		"cv_exp",
+		"cv_exp_w",
+		"cv_exp_f",
+		"cv_exp_fw",
+		"cv_im",
+		"cv_im_w",
+		"cv_re",
+		"cv_re_w",
+		"cv_abs",
+		"cv_abs_w",
+		"cv_arg",
+		"cv_arg_w",
+		"cv_arg_f",
+		"cv_arg_fw",
+		"cv_argmul_rs",
+		"cv_argmul_rs_w",
+		"cv_argmul_rs_f",
+		"cv_argmul_rs_fw",
+		"rv_abs_i",
+		"rv_abs_iw",
+		"rv_abs",
+		"rv_abs_w",
+		"rv_cvt",
+		"rv_cvt_w",
+		"cv_r2p_i",
+		"cv_r2p_iw",
+		"cv_r2p_if",
+		"cv_r2p_ifw",
+		"cv_r2p",
+		"cv_r2p_w",
+		"cv_r2p_f",
+		"cv_r2p_fw",
+		"cv_p2r_i",
+		"cv_p2r_iw",
+		"cv_p2r",
+		"cv_p2r_w",
+		"rv_sum",
+		"rv_sum_w",
+		"cv_sum",
+		"cv_sum_w",
+		"rv_dot_rv",
+		"rv_dot_rv_w",
+		"rv_dot_cv",
+		"rv_dot_cv_w",
+		"cv_dot_rv_w",
+		"cv_dot_cv",
+		"cv_dot_cv_w",
+		"rv_cpy",
+		"rv_cpy_w",
+		"cv_cpy",
+		"cv_cpy_w",
+		"rv_max",
+		"rv_max_w",
+		"rv_max_rv_i",
+		"rv_max_rv_iw",
+		"rv_max_rv",
+		"rv_max_rv_w",
+		"cv_max",
+		"cv_max_w",
+		"cv_max_cv_i",
+		"cv_max_cv_iw",
+		"cv_max_cv",
+		"cv_max_cv_w",
+		"rv_min",
+		"rv_min_w",
+		"rv_min_rv_i",
+		"rv_min_rv_iw",
+		"rv_min_rv",
+		"rv_min_rv_w",
+		"cv_min",
+		"cv_min_w",
+		"cv_min_cv_i",
+		"cv_min_cv_iw",
+		"cv_min_cv",
+		"cv_min_cv_w",
+		"rv_maxarg",
+		"rv_maxarg_w",
+		"cv_maxarg",
+		"cv_maxarg_w",
+		"rv_minarg",
+		"rv_minarg_w",
+		"cv_minarg",
+		"cv_minarg_w",
+		"rv_rs_lin_rv_rs_i",
+		"rv_rs_lin_rv_rs_iw",
+		"rv_rs_lin_rv_rs",
+		"rv_rs_lin_rv_rs_w",
+		"rv_rs_lin_rv_cs",
+		"rv_rs_lin_rv_cs_w",
+		"rv_cs_lin_rv_cs",
+		"rv_cs_lin_rv_cs_w",
+		"cv_rs_lin_rv_rs_i",
+		"cv_rs_lin_rv_rs_iw",
+		"cv_rs_lin_rv_rs",
+		"cv_rs_lin_rv_rs_w",
+		"cv_cs_lin_rv_rs_i",
+		"cv_cs_lin_rv_rs_iw",
+		"cv_cs_lin_rv_rs",
+		"cv_cs_lin_rv_rs_w",
+		"cv_rs_lin_rv_cs_i",
+		"cv_rs_lin_rv_cs_iw",
+		"cv_rs_lin_rv_cs",
+		"cv_rs_lin_rv_cs_w",
+		"cv_cs_lin_rv_cs_i",
+		"cv_cs_lin_rv_cs_iw",
+		"cv_cs_lin_rv_cs",
+		"cv_cs_lin_rv_cs_w",
+		"cv_rs_lin_cv_rs_i",
+		"cv_rs_lin_cv_rs_iw",
+		"cv_rs_lin_cv_rs",
+		"cv_rs_lin_cv_rs_w",
+		"cv_cs_lin_cv_rs_i",
+		"cv_cs_lin_cv_rs_iw",
+		"cv_cs_lin_cv_rs",
+		"cv_cs_lin_cv_rs_w",
+		"cv_cs_lin_cv_cs_i",
+		"cv_cs_lin_cv_cs_iw",
+		"cv_cs_lin_cv_cs",
+		"cv_cs_lin_cv_cs_w",
+		"rv_10log10_i",
+		"rv_10log10_iw",
+		"rv_10log10_if",
+		"rv_10log10_ifw",
+		"rv_10log10",
+		"rv_10log10_w",
+		"rv_10log10_f",
+		"rv_10log10_fw",
+		"rv_10log10_rs_i",
+		"rv_10log10_rs_iw",
+		"rv_10log10_rs",
+		"rv_10log10_rs_w",
+		"cv_10log10",
+		"cv_10log10_w",
+		"cv_10log10_rs",
+		"cv_10log10_rs_w",
+		"rv_20log10_i",
+		"rv_20log10_iw",
+		"rv_20log10",
+		"rv_20log10_w",
+		"rv_20log10_rs_i",
+		"rv_20log10_rs_iw",
+		"rv_20log10_rs",
+		"rv_20log10_rs_w",
+		"cv_20log10",
+		"cv_20log10_w",
+		"cv_20log10_f",
+		"cv_20log10_fw",
+		"cv_20log10_rs",
+		"cv_20log10_rs_w",
+	};
+
+	// Candidates which have each operation
+	final static byte CANDIDATES[][] = {
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO, IMPL_VOVECMASKED },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+		{ IMPL_VOVEC, IMPL_VO },
+	};
+
+	public static void rv_add_rs_i(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[0][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_add_rs_i(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_add_rs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.rv_add_rs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void rv_add_rs_iw(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[1][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_add_rs_iw(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_add_rs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.rv_add_rs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void rv_add_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[2][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_add_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_add_rv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_add_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[3][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_add_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_add_rv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_add_rs_i(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[4][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_rs_i(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_add_rs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_add_rs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_add_rs_iw(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[5][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_rs_iw(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_add_rs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_add_rs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_add_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[6][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_add_rv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_add_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[7][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_add_rv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_add_cs_i(float z[], int zOffset, float x[], int count) {
+		switch (VOPlanner.PLAN[8][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_cs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_add_cs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_add_cs_iw(float z[], int zOffset, float x[], int count) {
+		switch (VOPlanner.PLAN[9][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_cs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_add_cs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_add_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[10][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_add_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_add_cv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_add_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[11][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_add_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_add_cv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[12][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_add_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_add_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.rv_add_rs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rv_add_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[13][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_add_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_add_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.rv_add_rs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[14][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_add_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[15][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_add_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_add_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_add_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[16][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_add_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_add_rs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_add_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[17][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_add_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_add_rs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[18][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_add_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[19][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_add_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_add_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[20][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_cs(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_add_cs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_add_cs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_add_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[21][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_cs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_add_cs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_add_cs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_add_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[22][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_add_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_add_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_add_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[23][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_add_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_add_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_add_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_sub_rs_i(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[24][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_sub_rs_i(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_sub_rs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.rv_sub_rs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void rv_sub_rs_iw(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[25][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_sub_rs_iw(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_sub_rs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.rv_sub_rs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void rv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[26][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_sub_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_sub_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_sub_rv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_sub_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[27][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_sub_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_sub_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_sub_rv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_sub_rs_i(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[28][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_rs_i(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_rs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_sub_rs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_sub_rs_iw(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[29][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_rs_iw(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_rs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_sub_rs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[30][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_sub_rv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_sub_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[31][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_sub_rv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_sub_cs_i(float z[], int zOffset, float x[], int count) {
+		switch (VOPlanner.PLAN[32][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_cs_i(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_cs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_sub_cs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_sub_cs_iw(float z[], int zOffset, float x[], int count) {
+		switch (VOPlanner.PLAN[33][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_cs_iw(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_cs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_sub_cs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_sub_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[34][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_sub_cv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_sub_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[35][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_sub_cv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[36][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_sub_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_sub_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.rv_sub_rs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rv_sub_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[37][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_sub_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_sub_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.rv_sub_rs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rs_sub_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[38][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rs_sub_rv(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rs_sub_rv(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.rs_sub_rv(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void rs_sub_rv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[39][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rs_sub_rv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rs_sub_rv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.rs_sub_rv_w(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void rv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[40][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_sub_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[41][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_sub_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_sub_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_sub_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[42][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_sub_rs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_sub_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[43][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_sub_rs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rs_sub_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[44][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rs_sub_cv(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rs_sub_cv(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.rs_sub_cv(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void rs_sub_cv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[45][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rs_sub_cv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rs_sub_cv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.rs_sub_cv_w(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void cv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[46][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_sub_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[47][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_sub_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[48][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_sub_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[49][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_sub_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_sub_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_sub_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[50][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_cs(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_cs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_sub_cs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_sub_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[51][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_cs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_cs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_sub_cs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cs_sub_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[52][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cs_sub_cv(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cs_sub_cv(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.cs_sub_cv(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void cs_sub_cv_w(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[53][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cs_sub_cv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cs_sub_cv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.cs_sub_cv_w(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void cv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[54][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_sub_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[55][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sub_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_sub_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_sub_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_mul_rs_i(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[56][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_mul_rs_i(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_mul_rs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.rv_mul_rs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void rv_mul_rs_iw(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[57][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_mul_rs_iw(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_mul_rs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.rv_mul_rs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void rv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[58][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_mul_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_mul_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_mul_rv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_mul_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[59][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_mul_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_mul_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_mul_rv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_mul_rs_i(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[60][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_rs_i(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_rs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_mul_rs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_mul_rs_iw(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[61][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_rs_iw(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_rs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_mul_rs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[62][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_mul_rv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_mul_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[63][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_mul_rv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_mul_cs_i(float z[], int zOffset, float x[], int count) {
+		switch (VOPlanner.PLAN[64][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_cs_i(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_cs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_mul_cs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_mul_cs_iw(float z[], int zOffset, float x[], int count) {
+		switch (VOPlanner.PLAN[65][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_cs_iw(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_cs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_mul_cs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_mul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[66][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_mul_cv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_mul_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[67][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_mul_cv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[68][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_mul_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.rv_mul_rs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rv_mul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[69][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_mul_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.rv_mul_rs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[70][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_mul_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[71][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_mul_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_mul_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_mul_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[72][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_mul_rs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_mul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[73][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_mul_rs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[74][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_mul_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[75][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_mul_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_mul_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[76][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_cs(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_cs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_mul_cs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_mul_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[77][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_cs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_cs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_mul_cs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_mul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[78][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_mul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_mul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[79][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_mul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_mul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_mul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_div_rs_i(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[80][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_div_rs_i(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_div_rs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.rv_div_rs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void rv_div_rs_iw(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[81][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_div_rs_iw(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_div_rs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.rv_div_rs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void rv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[82][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_div_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_div_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_div_rv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_div_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[83][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_div_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_div_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_div_rv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_div_rs_i(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[84][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_rs_i(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_div_rs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_div_rs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_div_rs_iw(float z[], int zOffset, float x, int count) {
+		switch (VOPlanner.PLAN[85][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_rs_iw(z, zOffset, x, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_div_rs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_div_rs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[86][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_div_rv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_div_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[87][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_div_rv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_div_cs_i(float z[], int zOffset, float x[], int count) {
+		switch (VOPlanner.PLAN[88][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_cs_i(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_div_cs_i(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_div_cs_iw(float z[], int zOffset, float x[], int count) {
+		switch (VOPlanner.PLAN[89][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_cs_iw(z, zOffset, x, count);
+				return;
+			default:
+				VOVec.cv_div_cs_iw(z, zOffset, x, count);
+		}
+	}
+
+	public static void cv_div_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[90][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_div_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_div_cv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_div_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[91][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_div_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_div_cv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[92][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_div_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_div_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.rv_div_rs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rv_div_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[93][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_div_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_div_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.rv_div_rs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rs_div_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[94][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rs_div_rv(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rs_div_rv(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.rs_div_rv(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void rs_div_rv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[95][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rs_div_rv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rs_div_rv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.rs_div_rv_w(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void rv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[96][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_div_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[97][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_div_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_div_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_div_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[98][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_div_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_div_rs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_div_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[99][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_div_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_div_rs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rs_div_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[100][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rs_div_cv(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rs_div_cv(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.rs_div_cv(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void rs_div_cv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[101][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rs_div_cv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rs_div_cv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.rs_div_cv_w(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void cv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[102][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_div_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[103][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_div_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[104][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_div_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[105][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_div_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_div_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_div_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[106][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_cs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_div_cs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_div_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[107][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_cs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_div_cs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cs_div_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[108][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cs_div_cv(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cs_div_cv(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.cs_div_cv(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void cs_div_cv_w(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[109][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cs_div_cv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cs_div_cv_w(z, zOffset, x, y, yOffset, count);
+				return;
+			default:
+				VOVec.cs_div_cv_w(z, zOffset, x, y, yOffset, count);
+		}
+	}
+
+	public static void cv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[110][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_div_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[111][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_div_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_div_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_div_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[112][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_conjmul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[113][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_conjmul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_conjmul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_conjmul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[114][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_conjmul_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_conjmul_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_conjmul_cv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_conjmul_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[115][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_conjmul_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_conjmul_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_conjmul_cv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[116][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_conjmul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[117][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_conjmul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_conjmul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_conjmul_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_conj_i(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[118][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_conj_i(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_conj_i(z, zOffset, count);
+		}
+	}
+
+	public static void cv_conj_iw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[119][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_conj_iw(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_conj_iw(z, zOffset, count);
+		}
+	}
+
+	public static void cv_conj(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[120][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_conj(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_conj(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_conj(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_conj_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[121][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_conj_w(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_conj_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_conj_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_expi(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[122][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_expi(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_expi(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_expi_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[123][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_expi_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_expi_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_expi_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[124][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_expi_f(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_expi_f(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_expi_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[125][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_expi_fw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_expi_fw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_exp_i(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[126][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_exp_i(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_exp_i(z, zOffset, count);
+				return;
+			default:
+				VOVec.rv_exp_i(z, zOffset, count);
+		}
+	}
+
+	public static void rv_exp_iw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[127][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_exp_iw(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_exp_iw(z, zOffset, count);
+				return;
+			default:
+				VOVec.rv_exp_iw(z, zOffset, count);
+		}
+	}
+
+	public static void cv_exp_i(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[128][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_exp_i(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_exp_i(z, zOffset, count);
+		}
+	}
+
+	public static void cv_exp_iw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[129][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_exp_iw(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_exp_iw(z, zOffset, count);
+		}
+	}
+
+	public static void cv_exp_if(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[130][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_exp_if(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_exp_if(z, zOffset, count);
+		}
+	}
+
+	public static void cv_exp_ifw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[131][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_exp_ifw(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_exp_ifw(z, zOffset, count);
+		}
+	}
+
+	public static void rv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[132][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_exp(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_exp(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_exp(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_exp_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[133][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_exp_w(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_exp_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_exp_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[134][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_exp(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_exp(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_exp_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[135][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_exp_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_exp_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_exp_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[136][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_exp_f(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_exp_f(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_exp_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[137][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_exp_fw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_exp_fw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_im(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[138][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_im(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_im(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_im_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[139][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_im_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_im_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_re(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[140][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_re(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_re(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_re_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[141][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_re_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_re_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[142][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_abs(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_abs(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_abs_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[143][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_abs_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_abs_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_arg(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[144][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_arg(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_arg(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_arg_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[145][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_arg_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_arg_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_arg_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[146][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_arg_f(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_arg_f(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_arg_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[147][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_arg_fw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_arg_fw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_argmul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[148][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_argmul_rs(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_argmul_rs(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_argmul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[149][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_argmul_rs_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_argmul_rs_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_argmul_rs_f(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[150][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_argmul_rs_f(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_argmul_rs_f(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_argmul_rs_fw(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		switch (VOPlanner.PLAN[151][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_argmul_rs_fw(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_argmul_rs_fw(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rv_abs_i(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[152][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_abs_i(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_abs_i(z, zOffset, count);
+				return;
+			default:
+				VOVec.rv_abs_i(z, zOffset, count);
+		}
+	}
+
+	public static void rv_abs_iw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[153][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_abs_iw(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_abs_iw(z, zOffset, count);
+				return;
+			default:
+				VOVec.rv_abs_iw(z, zOffset, count);
+		}
+	}
+
+	public static void rv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[154][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_abs(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_abs(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_abs(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_abs_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[155][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_abs_w(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_abs_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_abs_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_cvt(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[156][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_cvt(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_cvt(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_cvt_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[157][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_cvt_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_cvt_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_r2p_i(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[158][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_r2p_i(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_r2p_i(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_r2p_i(z, zOffset, count);
+		}
+	}
+
+	public static void cv_r2p_iw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[159][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_r2p_iw(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_r2p_iw(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_r2p_iw(z, zOffset, count);
+		}
+	}
+
+	public static void cv_r2p_if(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[160][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_r2p_if(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_r2p_if(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_r2p_if(z, zOffset, count);
+		}
+	}
+
+	public static void cv_r2p_ifw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[161][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_r2p_ifw(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_r2p_ifw(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_r2p_ifw(z, zOffset, count);
+		}
+	}
+
+	public static void cv_r2p(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[162][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_r2p(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_r2p(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_r2p(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_r2p_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[163][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_r2p_w(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_r2p_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_r2p_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_r2p_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[164][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_r2p_f(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_r2p_f(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_r2p_f(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_r2p_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[165][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_r2p_fw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_r2p_fw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_r2p_fw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_p2r_i(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[166][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_p2r_i(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_p2r_i(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_p2r_i(z, zOffset, count);
+		}
+	}
+
+	public static void cv_p2r_iw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[167][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_p2r_iw(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_p2r_iw(z, zOffset, count);
+				return;
+			default:
+				VOVec.cv_p2r_iw(z, zOffset, count);
+		}
+	}
+
+	public static void cv_p2r(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[168][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_p2r(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_p2r(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_p2r(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_p2r_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[169][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_p2r_w(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_p2r_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_p2r_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static float rv_sum(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[170][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_sum(x, xOffset, count);
+			default:
+				return VOVec.rv_sum(x, xOffset, count);
+		}
+	}
+
+	public static float rv_sum_w(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[171][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_sum_w(x, xOffset, count);
+			default:
+				return VOVec.rv_sum_w(x, xOffset, count);
+		}
+	}
+
+	public static void cv_sum(float z[], float x[], int xOffset, int count) {
+		cv_sum(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_sum(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[172][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sum(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_sum(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_sum_w(float z[], float x[], int xOffset, int count) {
+		cv_sum_w(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_sum_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[173][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_sum_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_sum_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static float rv_dot_rv(float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[174][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_dot_rv(x, xOffset, y, yOffset, count);
+			default:
+				return VOVec.rv_dot_rv(x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static float rv_dot_rv_w(float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[175][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_dot_rv_w(x, xOffset, y, count);
+			default:
+				return VOVec.rv_dot_rv_w(x, xOffset, y, count);
+		}
+	}
+
+	public static float rv_dot_rv_w(float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[175][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_dot_rv_w(x, xOffset, y, yOffset, count);
+			default:
+				return VOVec.rv_dot_rv_w(x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		rv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[176][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_dot_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_dot_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_dot_cv_w(float z[], float x[], int xOffset, float y[], int count) {
+		rv_dot_cv_w(z, 0, x, xOffset, y, count);
+	}
+
+	public static void rv_dot_cv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		rv_dot_cv_w(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[177][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_dot_cv_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.rv_dot_cv_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void rv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[177][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_dot_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_dot_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_dot_rv_w(float z[], float x[], int xOffset, float y[], int count) {
+		cv_dot_rv_w(z, 0, x, xOffset, y, count);
+	}
+
+	public static void cv_dot_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[178][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_dot_rv_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_dot_rv_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_dot_rv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		cv_dot_rv_w(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[178][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_dot_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_dot_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		cv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[179][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_dot_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_dot_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_dot_cv_w(float z[], float x[], int xOffset, float y[], int count) {
+		cv_dot_cv_w(z, 0, x, xOffset, y, count);
+	}
+
+	public static void cv_dot_cv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		cv_dot_cv_w(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		switch (VOPlanner.PLAN[180][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_dot_cv_w(z, zOffset, x, xOffset, y, count);
+				return;
+			default:
+				VOVec.cv_dot_cv_w(z, zOffset, x, xOffset, y, count);
+		}
+	}
+
+	public static void cv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[180][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_dot_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_dot_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_cpy(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[181][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_cpy(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_cpy(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_cpy_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[182][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_cpy_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_cpy_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_cpy(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[183][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cpy(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_cpy(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_cpy_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[184][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cpy_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_cpy_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static float rv_max(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[185][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_max(x, xOffset, count);
+			default:
+				return VOVec.rv_max(x, xOffset, count);
+		}
+	}
+
+	public static float rv_max_w(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[186][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_max_w(x, xOffset, count);
+			default:
+				return VOVec.rv_max_w(x, xOffset, count);
+		}
+	}
+
+	public static void rv_max_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[187][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_max_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_max_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_max_rv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_max_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[188][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_max_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_max_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_max_rv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_max_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[189][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_max_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_max_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_max_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_max_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[190][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_max_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_max_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_max_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_max(float z[], float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[191][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_max(z, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_max(z, x, xOffset, count);
+		}
+	}
+
+	public static void cv_max(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[191][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_max(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_max(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_max_w(float z[], float x[], int xOffset, int count) {
+		cv_max_w(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_max_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[192][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_max_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_max_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_max_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[193][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_max_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_max_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_max_cv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_max_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[194][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_max_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_max_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_max_cv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_max_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[195][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_max_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_max_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_max_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_max_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[196][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_max_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_max_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_max_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static float rv_min(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[197][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_min(x, xOffset, count);
+			default:
+				return VOVec.rv_min(x, xOffset, count);
+		}
+	}
+
+	public static float rv_min_w(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[198][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_min_w(x, xOffset, count);
+			default:
+				return VOVec.rv_min_w(x, xOffset, count);
+		}
+	}
+
+	public static void rv_min_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[199][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_min_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_min_rv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_min_rv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_min_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[200][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_min_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_min_rv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_min_rv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_min_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[201][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_min_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_min_rv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_min_rv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void rv_min_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[202][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_min_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_min_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.rv_min_rv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_min(float z[], float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[203][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_min(z, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_min(z, x, xOffset, count);
+		}
+	}
+
+	public static void cv_min(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[203][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_min(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_min(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_min_w(float z[], float x[], int xOffset, int count) {
+		cv_min_w(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_min_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[204][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_min_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_min_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_min_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[205][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_min_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_min_cv_i(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_min_cv_i(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_min_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[206][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_min_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_min_cv_iw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_min_cv_iw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_min_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[207][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_min_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_min_cv(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_min_cv(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static void cv_min_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		switch (VOPlanner.PLAN[208][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_min_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_min_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+				return;
+			default:
+				VOVec.cv_min_cv_w(z, zOffset, x, xOffset, y, yOffset, count);
+		}
+	}
+
+	public static int rv_maxarg(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[209][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_maxarg(x, xOffset, count);
+			default:
+				return VOVec.rv_maxarg(x, xOffset, count);
+		}
+	}
+
+	public static int rv_maxarg_w(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[210][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_maxarg_w(x, xOffset, count);
+			default:
+				return VOVec.rv_maxarg_w(x, xOffset, count);
+		}
+	}
+
+	public static int cv_maxarg(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[211][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.cv_maxarg(x, xOffset, count);
+			default:
+				return VOVec.cv_maxarg(x, xOffset, count);
+		}
+	}
+
+	public static int cv_maxarg_w(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[212][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.cv_maxarg_w(x, xOffset, count);
+			default:
+				return VOVec.cv_maxarg_w(x, xOffset, count);
+		}
+	}
+
+	public static int rv_minarg(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[213][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_minarg(x, xOffset, count);
+			default:
+				return VOVec.rv_minarg(x, xOffset, count);
+		}
+	}
+
+	public static int rv_minarg_w(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[214][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.rv_minarg_w(x, xOffset, count);
+			default:
+				return VOVec.rv_minarg_w(x, xOffset, count);
+		}
+	}
+
+	public static int cv_minarg(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[215][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.cv_minarg(x, xOffset, count);
+			default:
+				return VOVec.cv_minarg(x, xOffset, count);
+		}
+	}
+
+	public static int cv_minarg_w(float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[216][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				return VO.cv_minarg_w(x, xOffset, count);
+			default:
+				return VOVec.cv_minarg_w(x, xOffset, count);
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[217][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[218][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_rs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_rs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.rv_rs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[219][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[220][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_rs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_rs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.rv_rs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void rv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[221][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.rv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void rv_rs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[222][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_rs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.rv_rs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void rv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[223][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.rv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void rv_cs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[224][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_cs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.rv_cs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[225][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[226][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[227][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[228][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[229][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[230][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_rv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[231][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[232][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_rv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[233][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[234][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_rv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_rv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[235][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[236][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[237][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[238][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_rv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_rv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[239][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[240][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_rv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[241][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_rs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[242][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_cv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_rs_lin_cv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_cv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[243][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_rs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[244][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_rs_lin_cv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.cv_rs_lin_cv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_rs_lin_cv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[245][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[246][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_cv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_cv_rs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[247][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		switch (VOPlanner.PLAN[248][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_cv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_cv_rs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[249][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_cv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_cv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[250][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_cv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_cv_cs_iw(z, zOffset, a1, x, xOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[251][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_cv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_cv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		switch (VOPlanner.PLAN[252][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_cs_lin_cv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+				return;
+			default:
+				VOVec.cv_cs_lin_cv_cs_w(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+		}
+	}
+
+	public static void rv_10log10_i(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[253][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_i(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_i(z, zOffset, count);
+				return;
+			default:
+				VOVec.rv_10log10_i(z, zOffset, count);
+		}
+	}
+
+	public static void rv_10log10_iw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[254][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_iw(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_iw(z, zOffset, count);
+				return;
+			default:
+				VOVec.rv_10log10_iw(z, zOffset, count);
+		}
+	}
+
+	public static void rv_10log10_if(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[255][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_if(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_if(z, zOffset, count);
+				return;
+			default:
+				VOVec.rv_10log10_if(z, zOffset, count);
+		}
+	}
+
+	public static void rv_10log10_ifw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[256][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_ifw(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_ifw(z, zOffset, count);
+				return;
+			default:
+				VOVec.rv_10log10_ifw(z, zOffset, count);
+		}
+	}
+
+	public static void rv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[257][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_10log10(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_10log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[258][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_w(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_10log10_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_10log10_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[259][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_f(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_f(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_10log10_f(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_10log10_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[260][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_fw(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_fw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_10log10_fw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_10log10_rs_i(float z[], int zOffset, float base, int count) {
+		switch (VOPlanner.PLAN[261][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_rs_i(z, zOffset, base, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_rs_i(z, zOffset, base, count);
+				return;
+			default:
+				VOVec.rv_10log10_rs_i(z, zOffset, base, count);
+		}
+	}
+
+	public static void rv_10log10_rs_iw(float z[], int zOffset, float base, int count) {
+		switch (VOPlanner.PLAN[262][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_rs_iw(z, zOffset, base, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_rs_iw(z, zOffset, base, count);
+				return;
+			default:
+				VOVec.rv_10log10_rs_iw(z, zOffset, base, count);
+		}
+	}
+
+	public static void rv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		switch (VOPlanner.PLAN[263][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_rs(z, zOffset, x, xOffset, base, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_rs(z, zOffset, x, xOffset, base, count);
+				return;
+			default:
+				VOVec.rv_10log10_rs(z, zOffset, x, xOffset, base, count);
+		}
+	}
+
+	public static void rv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		switch (VOPlanner.PLAN[264][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_10log10_rs_w(z, zOffset, x, xOffset, base, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_10log10_rs_w(z, zOffset, x, xOffset, base, count);
+				return;
+			default:
+				VOVec.rv_10log10_rs_w(z, zOffset, x, xOffset, base, count);
+		}
+	}
+
+	public static void cv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[265][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_10log10(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_10log10(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_10log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[266][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_10log10_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_10log10_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		switch (VOPlanner.PLAN[267][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_10log10_rs(z, zOffset, x, xOffset, base, count);
+				return;
+			default:
+				VOVec.cv_10log10_rs(z, zOffset, x, xOffset, base, count);
+		}
+	}
+
+	public static void cv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		switch (VOPlanner.PLAN[268][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_10log10_rs_w(z, zOffset, x, xOffset, base, count);
+				return;
+			default:
+				VOVec.cv_10log10_rs_w(z, zOffset, x, xOffset, base, count);
+		}
+	}
+
+	public static void rv_20log10_i(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[269][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_20log10_i(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_20log10_i(z, zOffset, count);
+				return;
+			default:
+				VOVec.rv_20log10_i(z, zOffset, count);
+		}
+	}
+
+	public static void rv_20log10_iw(float z[], int zOffset, int count) {
+		switch (VOPlanner.PLAN[270][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_20log10_iw(z, zOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_20log10_iw(z, zOffset, count);
+				return;
+			default:
+				VOVec.rv_20log10_iw(z, zOffset, count);
+		}
+	}
+
+	public static void rv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[271][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_20log10(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_20log10(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_20log10(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_20log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[272][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_20log10_w(z, zOffset, x, xOffset, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_20log10_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.rv_20log10_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void rv_20log10_rs_i(float z[], int zOffset, float base, int count) {
+		switch (VOPlanner.PLAN[273][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_20log10_rs_i(z, zOffset, base, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_20log10_rs_i(z, zOffset, base, count);
+				return;
+			default:
+				VOVec.rv_20log10_rs_i(z, zOffset, base, count);
+		}
+	}
+
+	public static void rv_20log10_rs_iw(float z[], int zOffset, float base, int count) {
+		switch (VOPlanner.PLAN[274][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_20log10_rs_iw(z, zOffset, base, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_20log10_rs_iw(z, zOffset, base, count);
+				return;
+			default:
+				VOVec.rv_20log10_rs_iw(z, zOffset, base, count);
+		}
+	}
+
+	public static void rv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		switch (VOPlanner.PLAN[275][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_20log10_rs(z, zOffset, x, xOffset, base, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_20log10_rs(z, zOffset, x, xOffset, base, count);
+				return;
+			default:
+				VOVec.rv_20log10_rs(z, zOffset, x, xOffset, base, count);
+		}
+	}
+
+	public static void rv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		switch (VOPlanner.PLAN[276][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.rv_20log10_rs_w(z, zOffset, x, xOffset, base, count);
+				return;
+			case IMPL_VOVECMASKED:
+				VOVecMasked.rv_20log10_rs_w(z, zOffset, x, xOffset, base, count);
+				return;
+			default:
+				VOVec.rv_20log10_rs_w(z, zOffset, x, xOffset, base, count);
+		}
+	}
+
+	public static void cv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[277][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_20log10(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_20log10(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_20log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[278][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_20log10_w(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_20log10_w(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_20log10_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[279][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_20log10_f(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_20log10_f(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_20log10_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		switch (VOPlanner.PLAN[280][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_20log10_fw(z, zOffset, x, xOffset, count);
+				return;
+			default:
+				VOVec.cv_20log10_fw(z, zOffset, x, xOffset, count);
+		}
+	}
+
+	public static void cv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		switch (VOPlanner.PLAN[281][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_20log10_rs(z, zOffset, x, xOffset, base, count);
+				return;
+			default:
+				VOVec.cv_20log10_rs(z, zOffset, x, xOffset, base, count);
+		}
+	}
+
+	public static void cv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		switch (VOPlanner.PLAN[282][VOPlanner.sizeClass(count)]) {
+			case IMPL_VO:
+				VO.cv_20log10_rs_w(z, zOffset, x, xOffset, base, count);
+				return;
+			default:
+				VOVec.cv_20log10_rs_w(z, zOffset, x, xOffset, base, count);
+		}
+	}
+
+	// Scratch data for probes: vectors are large enough for complex ones of maximum probe size
+	private final static float PX[] = scratch(VOPlanner.MAX_PROBE_SIZE * 2);
+	private final static float PY[] = scratch(VOPlanner.MAX_PROBE_SIZE * 2);
+	private final static float PZ[] = scratch(VOPlanner.MAX_PROBE_SIZE * 2);
+	private final static float PCS[] = scratch(2);
+	private final static float PCZ[] = scratch(2);
+	private final static float PRS = 0.5f;
+	private static float sink = 0.0f;
+
+	private static float[] scratch(int size) {
+		float x[] = new float[size];
+		for (int i = 0; i < x.length; i++)
+			x[i] = (float)Math.sin(i * 0.1) * 0.5f + 0.25f;
+		return x;
+	}
+
+	// In-place probes overwrite scratch output, planner restores it before each timed sample
+	static void restore() {
+		System.arraycopy(PX, 0, PZ, 0, PZ.length);
+	}
+
+	// Each call of in-place probe works on next part of scratch output, which
+	// is not modified yet: timed sample is never longer than MAX_PROBE_SIZE
+	// elements, and only longer warm-up runs start over from beginning
+	private static int next(int offset, int count) {
+		offset += count;
+		return offset + count > VOPlanner.MAX_PROBE_SIZE ? 0 : offset;
+	}
+
+	static void probe(int op, int impl, int count, int reps) {
+		switch (op) {
+			case 0:
+				probe_rv_add_rs_i(impl, count, reps);
+				break;
+			case 1:
+				probe_rv_add_rs_iw(impl, count, reps);
+				break;
+			case 2:
+				probe_rv_add_rv_i(impl, count, reps);
+				break;
+			case 3:
+				probe_rv_add_rv_iw(impl, count, reps);
+				break;
+			case 4:
+				probe_cv_add_rs_i(impl, count, reps);
+				break;
+			case 5:
+				probe_cv_add_rs_iw(impl, count, reps);
+				break;
+			case 6:
+				probe_cv_add_rv_i(impl, count, reps);
+				break;
+			case 7:
+				probe_cv_add_rv_iw(impl, count, reps);
+				break;
+			case 8:
+				probe_cv_add_cs_i(impl, count, reps);
+				break;
+			case 9:
+				probe_cv_add_cs_iw(impl, count, reps);
+				break;
+			case 10:
+				probe_cv_add_cv_i(impl, count, reps);
+				break;
+			case 11:
+				probe_cv_add_cv_iw(impl, count, reps);
+				break;
+			case 12:
+				probe_rv_add_rs(impl, count, reps);
+				break;
+			case 13:
+				probe_rv_add_rs_w(impl, count, reps);
+				break;
+			case 14:
+				probe_rv_add_rv(impl, count, reps);
+				break;
+			case 15:
+				probe_rv_add_rv_w(impl, count, reps);
+				break;
+			case 16:
+				probe_cv_add_rs(impl, count, reps);
+				break;
+			case 17:
+				probe_cv_add_rs_w(impl, count, reps);
+				break;
+			case 18:
+				probe_cv_add_rv(impl, count, reps);
+				break;
+			case 19:
+				probe_cv_add_rv_w(impl, count, reps);
+				break;
+			case 20:
+				probe_cv_add_cs(impl, count, reps);
+				break;
+			case 21:
+				probe_cv_add_cs_w(impl, count, reps);
+				break;
+			case 22:
+				probe_cv_add_cv(impl, count, reps);
+				break;
+			case 23:
+				probe_cv_add_cv_w(impl, count, reps);
+				break;
+			case 24:
+				probe_rv_sub_rs_i(impl, count, reps);
+				break;
+			case 25:
+				probe_rv_sub_rs_iw(impl, count, reps);
+				break;
+			case 26:
+				probe_rv_sub_rv_i(impl, count, reps);
+				break;
+			case 27:
+				probe_rv_sub_rv_iw(impl, count, reps);
+				break;
+			case 28:
+				probe_cv_sub_rs_i(impl, count, reps);
+				break;
+			case 29:
+				probe_cv_sub_rs_iw(impl, count, reps);
+				break;
+			case 30:
+				probe_cv_sub_rv_i(impl, count, reps);
+				break;
+			case 31:
+				probe_cv_sub_rv_iw(impl, count, reps);
+				break;
+			case 32:
+				probe_cv_sub_cs_i(impl, count, reps);
+				break;
+			case 33:
+				probe_cv_sub_cs_iw(impl, count, reps);
+				break;
+			case 34:
+				probe_cv_sub_cv_i(impl, count, reps);
+				break;
+			case 35:
+				probe_cv_sub_cv_iw(impl, count, reps);
+				break;
+			case 36:
+				probe_rv_sub_rs(impl, count, reps);
+				break;
+			case 37:
+				probe_rv_sub_rs_w(impl, count, reps);
+				break;
+			case 38:
+				probe_rs_sub_rv(impl, count, reps);
+				break;
+			case 39:
+				probe_rs_sub_rv_w(impl, count, reps);
+				break;
+			case 40:
+				probe_rv_sub_rv(impl, count, reps);
+				break;
+			case 41:
+				probe_rv_sub_rv_w(impl, count, reps);
+				break;
+			case 42:
+				probe_cv_sub_rs(impl, count, reps);
+				break;
+			case 43:
+				probe_cv_sub_rs_w(impl, count, reps);
+				break;
+			case 44:
+				probe_rs_sub_cv(impl, count, reps);
+				break;
+			case 45:
+				probe_rs_sub_cv_w(impl, count, reps);
+				break;
+			case 46:
+				probe_cv_sub_rv(impl, count, reps);
+				break;
+			case 47:
+				probe_cv_sub_rv_w(impl, count, reps);
+				break;
+			case 48:
+				probe_rv_sub_cv(impl, count, reps);
+				break;
+			case 49:
+				probe_rv_sub_cv_w(impl, count, reps);
+				break;
+			case 50:
+				probe_cv_sub_cs(impl, count, reps);
+				break;
+			case 51:
+				probe_cv_sub_cs_w(impl, count, reps);
+				break;
+			case 52:
+				probe_cs_sub_cv(impl, count, reps);
+				break;
+			case 53:
+				probe_cs_sub_cv_w(impl, count, reps);
+				break;
+			case 54:
+				probe_cv_sub_cv(impl, count, reps);
+				break;
+			case 55:
+				probe_cv_sub_cv_w(impl, count, reps);
+				break;
+			case 56:
+				probe_rv_mul_rs_i(impl, count, reps);
+				break;
+			case 57:
+				probe_rv_mul_rs_iw(impl, count, reps);
+				break;
+			case 58:
+				probe_rv_mul_rv_i(impl, count, reps);
+				break;
+			case 59:
+				probe_rv_mul_rv_iw(impl, count, reps);
+				break;
+			case 60:
+				probe_cv_mul_rs_i(impl, count, reps);
+				break;
+			case 61:
+				probe_cv_mul_rs_iw(impl, count, reps);
+				break;
+			case 62:
+				probe_cv_mul_rv_i(impl, count, reps);
+				break;
+			case 63:
+				probe_cv_mul_rv_iw(impl, count, reps);
+				break;
+			case 64:
+				probe_cv_mul_cs_i(impl, count, reps);
+				break;
+			case 65:
+				probe_cv_mul_cs_iw(impl, count, reps);
+				break;
+			case 66:
+				probe_cv_mul_cv_i(impl, count, reps);
+				break;
+			case 67:
+				probe_cv_mul_cv_iw(impl, count, reps);
+				break;
+			case 68:
+				probe_rv_mul_rs(impl, count, reps);
+				break;
+			case 69:
+				probe_rv_mul_rs_w(impl, count, reps);
+				break;
+			case 70:
+				probe_rv_mul_rv(impl, count, reps);
+				break;
+			case 71:
+				probe_rv_mul_rv_w(impl, count, reps);
+				break;
+			case 72:
+				probe_cv_mul_rs(impl, count, reps);
+				break;
+			case 73:
+				probe_cv_mul_rs_w(impl, count, reps);
+				break;
+			case 74:
+				probe_cv_mul_rv(impl, count, reps);
+				break;
+			case 75:
+				probe_cv_mul_rv_w(impl, count, reps);
+				break;
+			case 76:
+				probe_cv_mul_cs(impl, count, reps);
+				break;
+			case 77:
+				probe_cv_mul_cs_w(impl, count, reps);
+				break;
+			case 78:
+				probe_cv_mul_cv(impl, count, reps);
+				break;
+			case 79:
+				probe_cv_mul_cv_w(impl, count, reps);
+				break;
+			case 80:
+				probe_rv_div_rs_i(impl, count, reps);
+				break;
+			case 81:
+				probe_rv_div_rs_iw(impl, count, reps);
+				break;
+			case 82:
+				probe_rv_div_rv_i(impl, count, reps);
+				break;
+			case 83:
+				probe_rv_div_rv_iw(impl, count, reps);
+				break;
+			case 84:
+				probe_cv_div_rs_i(impl, count, reps);
+				break;
+			case 85:
+				probe_cv_div_rs_iw(impl, count, reps);
+				break;
+			case 86:
+				probe_cv_div_rv_i(impl, count, reps);
+				break;
+			case 87:
+				probe_cv_div_rv_iw(impl, count, reps);
+				break;
+			case 88:
+				probe_cv_div_cs_i(impl, count, reps);
+				break;
+			case 89:
+				probe_cv_div_cs_iw(impl, count, reps);
+				break;
+			case 90:
+				probe_cv_div_cv_i(impl, count, reps);
+				break;
+			case 91:
+				probe_cv_div_cv_iw(impl, count, reps);
+				break;
+			case 92:
+				probe_rv_div_rs(impl, count, reps);
+				break;
+			case 93:
+				probe_rv_div_rs_w(impl, count, reps);
+				break;
+			case 94:
+				probe_rs_div_rv(impl, count, reps);
+				break;
+			case 95:
+				probe_rs_div_rv_w(impl, count, reps);
+				break;
+			case 96:
+				probe_rv_div_rv(impl, count, reps);
+				break;
+			case 97:
+				probe_rv_div_rv_w(impl, count, reps);
+				break;
+			case 98:
+				probe_cv_div_rs(impl, count, reps);
+				break;
+			case 99:
+				probe_cv_div_rs_w(impl, count, reps);
+				break;
+			case 100:
+				probe_rs_div_cv(impl, count, reps);
+				break;
+			case 101:
+				probe_rs_div_cv_w(impl, count, reps);
+				break;
+			case 102:
+				probe_cv_div_rv(impl, count, reps);
+				break;
+			case 103:
+				probe_cv_div_rv_w(impl, count, reps);
+				break;
+			case 104:
+				probe_rv_div_cv(impl, count, reps);
+				break;
+			case 105:
+				probe_rv_div_cv_w(impl, count, reps);
+				break;
+			case 106:
+				probe_cv_div_cs(impl, count, reps);
+				break;
+			case 107:
+				probe_cv_div_cs_w(impl, count, reps);
+				break;
+			case 108:
+				probe_cs_div_cv(impl, count, reps);
+				break;
+			case 109:
+				probe_cs_div_cv_w(impl, count, reps);
+				break;
+			case 110:
+				probe_cv_div_cv(impl, count, reps);
+				break;
+			case 111:
+				probe_cv_div_cv_w(impl, count, reps);
+				break;
+			case 112:
+				probe_rv_conjmul_cv(impl, count, reps);
+				break;
+			case 113:
+				probe_rv_conjmul_cv_w(impl, count, reps);
+				break;
+			case 114:
+				probe_cv_conjmul_cv_i(impl, count, reps);
+				break;
+			case 115:
+				probe_cv_conjmul_cv_iw(impl, count, reps);
+				break;
+			case 116:
+				probe_cv_conjmul_cv(impl, count, reps);
+				break;
+			case 117:
+				probe_cv_conjmul_cv_w(impl, count, reps);
+				break;
+			case 118:
+				probe_cv_conj_i(impl, count, reps);
+				break;
+			case 119:
+				probe_cv_conj_iw(impl, count, reps);
+				break;
+			case 120:
+				probe_cv_conj(impl, count, reps);
+				break;
+			case 121:
+				probe_cv_conj_w(impl, count, reps);
+				break;
+			case 122:
+				probe_rv_expi(impl, count, reps);
+				break;
+			case 123:
+				probe_rv_expi_w(impl, count, reps);
+				break;
+			case 124:
+				probe_rv_expi_f(impl, count, reps);
+				break;
+			case 125:
+				probe_rv_expi_fw(impl, count, reps);
+				break;
+			case 126:
+				probe_rv_exp_i(impl, count, reps);
+				break;
+			case 127:
+				probe_rv_exp_iw(impl, count, reps);
+				break;
+			case 128:
+				probe_cv_exp_i(impl, count, reps);
+				break;
+			case 129:
+				probe_cv_exp_iw(impl, count, reps);
+				break;
+			case 130:
+				probe_cv_exp_if(impl, count, reps);
+				break;
+			case 131:
+				probe_cv_exp_ifw(impl, count, reps);
+				break;
+			case 132:
+				probe_rv_exp(impl, count, reps);
+				break;
+			case 133:
+				probe_rv_exp_w(impl, count, reps);
+				break;
+			case 134:
+				probe_cv_exp(impl, count, reps);
+				break;
+			case 135:
+				probe_cv_exp_w(impl, count, reps);
+				break;
+			case 136:
+				probe_cv_exp_f(impl, count, reps);
+				break;
+			case 137:
+				probe_cv_exp_fw(impl, count, reps);
+				break;
+			case 138:
+				probe_cv_im(impl, count, reps);
+				break;
+			case 139:
+				probe_cv_im_w(impl, count, reps);
+				break;
+			case 140:
+				probe_cv_re(impl, count, reps);
+				break;
+			case 141:
+				probe_cv_re_w(impl, count, reps);
+				break;
+			case 142:
+				probe_cv_abs(impl, count, reps);
+				break;
+			case 143:
+				probe_cv_abs_w(impl, count, reps);
+				break;
+			case 144:
+				probe_cv_arg(impl, count, reps);
+				break;
+			case 145:
+				probe_cv_arg_w(impl, count, reps);
+				break;
+			case 146:
+				probe_cv_arg_f(impl, count, reps);
+				break;
+			case 147:
+				probe_cv_arg_fw(impl, count, reps);
+				break;
+			case 148:
+				probe_cv_argmul_rs(impl, count, reps);
+				break;
+			case 149:
+				probe_cv_argmul_rs_w(impl, count, reps);
+				break;
+			case 150:
+				probe_cv_argmul_rs_f(impl, count, reps);
+				break;
+			case 151:
+				probe_cv_argmul_rs_fw(impl, count, reps);
+				break;
+			case 152:
+				probe_rv_abs_i(impl, count, reps);
+				break;
+			case 153:
+				probe_rv_abs_iw(impl, count, reps);
+				break;
+			case 154:
+				probe_rv_abs(impl, count, reps);
+				break;
+			case 155:
+				probe_rv_abs_w(impl, count, reps);
+				break;
+			case 156:
+				probe_rv_cvt(impl, count, reps);
+				break;
+			case 157:
+				probe_rv_cvt_w(impl, count, reps);
+				break;
+			case 158:
+				probe_cv_r2p_i(impl, count, reps);
+				break;
+			case 159:
+				probe_cv_r2p_iw(impl, count, reps);
+				break;
+			case 160:
+				probe_cv_r2p_if(impl, count, reps);
+				break;
+			case 161:
+				probe_cv_r2p_ifw(impl, count, reps);
+				break;
+			case 162:
+				probe_cv_r2p(impl, count, reps);
+				break;
+			case 163:
+				probe_cv_r2p_w(impl, count, reps);
+				break;
+			case 164:
+				probe_cv_r2p_f(impl, count, reps);
+				break;
+			case 165:
+				probe_cv_r2p_fw(impl, count, reps);
+				break;
+			case 166:
+				probe_cv_p2r_i(impl, count, reps);
+				break;
+			case 167:
+				probe_cv_p2r_iw(impl, count, reps);
+				break;
+			case 168:
+				probe_cv_p2r(impl, count, reps);
+				break;
+			case 169:
+				probe_cv_p2r_w(impl, count, reps);
+				break;
+			case 170:
+				probe_rv_sum(impl, count, reps);
+				break;
+			case 171:
+				probe_rv_sum_w(impl, count, reps);
+				break;
+			case 172:
+				probe_cv_sum(impl, count, reps);
+				break;
+			case 173:
+				probe_cv_sum_w(impl, count, reps);
+				break;
+			case 174:
+				probe_rv_dot_rv(impl, count, reps);
+				break;
+			case 175:
+				probe_rv_dot_rv_w(impl, count, reps);
+				break;
+			case 176:
+				probe_rv_dot_cv(impl, count, reps);
+				break;
+			case 177:
+				probe_rv_dot_cv_w(impl, count, reps);
+				break;
+			case 178:
+				probe_cv_dot_rv_w(impl, count, reps);
+				break;
+			case 179:
+				probe_cv_dot_cv(impl, count, reps);
+				break;
+			case 180:
+				probe_cv_dot_cv_w(impl, count, reps);
+				break;
+			case 181:
+				probe_rv_cpy(impl, count, reps);
+				break;
+			case 182:
+				probe_rv_cpy_w(impl, count, reps);
+				break;
+			case 183:
+				probe_cv_cpy(impl, count, reps);
+				break;
+			case 184:
+				probe_cv_cpy_w(impl, count, reps);
+				break;
+			case 185:
+				probe_rv_max(impl, count, reps);
+				break;
+			case 186:
+				probe_rv_max_w(impl, count, reps);
+				break;
+			case 187:
+				probe_rv_max_rv_i(impl, count, reps);
+				break;
+			case 188:
+				probe_rv_max_rv_iw(impl, count, reps);
+				break;
+			case 189:
+				probe_rv_max_rv(impl, count, reps);
+				break;
+			case 190:
+				probe_rv_max_rv_w(impl, count, reps);
+				break;
+			case 191:
+				probe_cv_max(impl, count, reps);
+				break;
+			case 192:
+				probe_cv_max_w(impl, count, reps);
+				break;
+			case 193:
+				probe_cv_max_cv_i(impl, count, reps);
+				break;
+			case 194:
+				probe_cv_max_cv_iw(impl, count, reps);
+				break;
+			case 195:
+				probe_cv_max_cv(impl, count, reps);
+				break;
+			case 196:
+				probe_cv_max_cv_w(impl, count, reps);
+				break;
+			case 197:
+				probe_rv_min(impl, count, reps);
+				break;
+			case 198:
+				probe_rv_min_w(impl, count, reps);
+				break;
+			case 199:
+				probe_rv_min_rv_i(impl, count, reps);
+				break;
+			case 200:
+				probe_rv_min_rv_iw(impl, count, reps);
+				break;
+			case 201:
+				probe_rv_min_rv(impl, count, reps);
+				break;
+			case 202:
+				probe_rv_min_rv_w(impl, count, reps);
+				break;
+			case 203:
+				probe_cv_min(impl, count, reps);
+				break;
+			case 204:
+				probe_cv_min_w(impl, count, reps);
+				break;
+			case 205:
+				probe_cv_min_cv_i(impl, count, reps);
+				break;
+			case 206:
+				probe_cv_min_cv_iw(impl, count, reps);
+				break;
+			case 207:
+				probe_cv_min_cv(impl, count, reps);
+				break;
+			case 208:
+				probe_cv_min_cv_w(impl, count, reps);
+				break;
+			case 209:
+				probe_rv_maxarg(impl, count, reps);
+				break;
+			case 210:
+				probe_rv_maxarg_w(impl, count, reps);
+				break;
+			case 211:
+				probe_cv_maxarg(impl, count, reps);
+				break;
+			case 212:
+				probe_cv_maxarg_w(impl, count, reps);
+				break;
+			case 213:
+				probe_rv_minarg(impl, count, reps);
+				break;
+			case 214:
+				probe_rv_minarg_w(impl, count, reps);
+				break;
+			case 215:
+				probe_cv_minarg(impl, count, reps);
+				break;
+			case 216:
+				probe_cv_minarg_w(impl, count, reps);
+				break;
+			case 217:
+				probe_rv_rs_lin_rv_rs_i(impl, count, reps);
+				break;
+			case 218:
+				probe_rv_rs_lin_rv_rs_iw(impl, count, reps);
+				break;
+			case 219:
+				probe_rv_rs_lin_rv_rs(impl, count, reps);
+				break;
+			case 220:
+				probe_rv_rs_lin_rv_rs_w(impl, count, reps);
+				break;
+			case 221:
+				probe_rv_rs_lin_rv_cs(impl, count, reps);
+				break;
+			case 222:
+				probe_rv_rs_lin_rv_cs_w(impl, count, reps);
+				break;
+			case 223:
+				probe_rv_cs_lin_rv_cs(impl, count, reps);
+				break;
+			case 224:
+				probe_rv_cs_lin_rv_cs_w(impl, count, reps);
+				break;
+			case 225:
+				probe_cv_rs_lin_rv_rs_i(impl, count, reps);
+				break;
+			case 226:
+				probe_cv_rs_lin_rv_rs_iw(impl, count, reps);
+				break;
+			case 227:
+				probe_cv_rs_lin_rv_rs(impl, count, reps);
+				break;
+			case 228:
+				probe_cv_rs_lin_rv_rs_w(impl, count, reps);
+				break;
+			case 229:
+				probe_cv_cs_lin_rv_rs_i(impl, count, reps);
+				break;
+			case 230:
+				probe_cv_cs_lin_rv_rs_iw(impl, count, reps);
+				break;
+			case 231:
+				probe_cv_cs_lin_rv_rs(impl, count, reps);
+				break;
+			case 232:
+				probe_cv_cs_lin_rv_rs_w(impl, count, reps);
+				break;
+			case 233:
+				probe_cv_rs_lin_rv_cs_i(impl, count, reps);
+				break;
+			case 234:
+				probe_cv_rs_lin_rv_cs_iw(impl, count, reps);
+				break;
+			case 235:
+				probe_cv_rs_lin_rv_cs(impl, count, reps);
+				break;
+			case 236:
+				probe_cv_rs_lin_rv_cs_w(impl, count, reps);
+				break;
+			case 237:
+				probe_cv_cs_lin_rv_cs_i(impl, count, reps);
+				break;
+			case 238:
+				probe_cv_cs_lin_rv_cs_iw(impl, count, reps);
+				break;
+			case 239:
+				probe_cv_cs_lin_rv_cs(impl, count, reps);
+				break;
+			case 240:
+				probe_cv_cs_lin_rv_cs_w(impl, count, reps);
+				break;
+			case 241:
+				probe_cv_rs_lin_cv_rs_i(impl, count, reps);
+				break;
+			case 242:
+				probe_cv_rs_lin_cv_rs_iw(impl, count, reps);
+				break;
+			case 243:
+				probe_cv_rs_lin_cv_rs(impl, count, reps);
+				break;
+			case 244:
+				probe_cv_rs_lin_cv_rs_w(impl, count, reps);
+				break;
+			case 245:
+				probe_cv_cs_lin_cv_rs_i(impl, count, reps);
+				break;
+			case 246:
+				probe_cv_cs_lin_cv_rs_iw(impl, count, reps);
+				break;
+			case 247:
+				probe_cv_cs_lin_cv_rs(impl, count, reps);
+				break;
+			case 248:
+				probe_cv_cs_lin_cv_rs_w(impl, count, reps);
+				break;
+			case 249:
+				probe_cv_cs_lin_cv_cs_i(impl, count, reps);
+				break;
+			case 250:
+				probe_cv_cs_lin_cv_cs_iw(impl, count, reps);
+				break;
+			case 251:
+				probe_cv_cs_lin_cv_cs(impl, count, reps);
+				break;
+			case 252:
+				probe_cv_cs_lin_cv_cs_w(impl, count, reps);
+				break;
+			case 253:
+				probe_rv_10log10_i(impl, count, reps);
+				break;
+			case 254:
+				probe_rv_10log10_iw(impl, count, reps);
+				break;
+			case 255:
+				probe_rv_10log10_if(impl, count, reps);
+				break;
+			case 256:
+				probe_rv_10log10_ifw(impl, count, reps);
+				break;
+			case 257:
+				probe_rv_10log10(impl, count, reps);
+				break;
+			case 258:
+				probe_rv_10log10_w(impl, count, reps);
+				break;
+			case 259:
+				probe_rv_10log10_f(impl, count, reps);
+				break;
+			case 260:
+				probe_rv_10log10_fw(impl, count, reps);
+				break;
+			case 261:
+				probe_rv_10log10_rs_i(impl, count, reps);
+				break;
+			case 262:
+				probe_rv_10log10_rs_iw(impl, count, reps);
+				break;
+			case 263:
+				probe_rv_10log10_rs(impl, count, reps);
+				break;
+			case 264:
+				probe_rv_10log10_rs_w(impl, count, reps);
+				break;
+			case 265:
+				probe_cv_10log10(impl, count, reps);
+				break;
+			case 266:
+				probe_cv_10log10_w(impl, count, reps);
+				break;
+			case 267:
+				probe_cv_10log10_rs(impl, count, reps);
+				break;
+			case 268:
+				probe_cv_10log10_rs_w(impl, count, reps);
+				break;
+			case 269:
+				probe_rv_20log10_i(impl, count, reps);
+				break;
+			case 270:
+				probe_rv_20log10_iw(impl, count, reps);
+				break;
+			case 271:
+				probe_rv_20log10(impl, count, reps);
+				break;
+			case 272:
+				probe_rv_20log10_w(impl, count, reps);
+				break;
+			case 273:
+				probe_rv_20log10_rs_i(impl, count, reps);
+				break;
+			case 274:
+				probe_rv_20log10_rs_iw(impl, count, reps);
+				break;
+			case 275:
+				probe_rv_20log10_rs(impl, count, reps);
+				break;
+			case 276:
+				probe_rv_20log10_rs_w(impl, count, reps);
+				break;
+			case 277:
+				probe_cv_20log10(impl, count, reps);
+				break;
+			case 278:
+				probe_cv_20log10_w(impl, count, reps);
+				break;
+			case 279:
+				probe_cv_20log10_f(impl, count, reps);
+				break;
+			case 280:
+				probe_cv_20log10_fw(impl, count, reps);
+				break;
+			case 281:
+				probe_cv_20log10_rs(impl, count, reps);
+				break;
+			case 282:
+				probe_cv_20log10_rs_w(impl, count, reps);
+				break;
+		}
+	}
+
+	private static void probe_rv_add_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_add_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_add_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_add_rs_i(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_add_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_add_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_add_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_add_rs_iw(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_add_rv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_add_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_add_rv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_add_rv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_add_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_add_rv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_add_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_add_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_add_rs_i(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_add_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_add_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_add_rs_iw(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_rv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_add_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_add_rv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_rv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_add_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_add_rv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_cs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_add_cs_i(PZ, offset, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_add_cs_i(PZ, offset, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_cs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_add_cs_iw(PZ, offset, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_add_cs_iw(PZ, offset, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_cv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_add_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_add_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_add_cv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_cv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_add_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_add_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_add_cv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_add_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_add_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_add_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_add_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_add_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_add_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_add_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_add_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_add_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_add_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_add_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_add_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_add_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_add_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_add_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_add_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_add_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_add_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_add_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_add_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_add_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_add_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_add_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_add_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_add_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_add_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_cs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_add_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_add_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_add_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_cs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_add_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_add_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_add_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_add_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_add_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_add_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_add_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_add_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_add_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_add_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sub_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_sub_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_sub_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_sub_rs_i(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sub_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_sub_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_sub_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_sub_rs_iw(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sub_rv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_sub_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_sub_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_sub_rv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sub_rv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_sub_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_sub_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_sub_rv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_sub_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_sub_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_sub_rs_i(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_sub_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_sub_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_sub_rs_iw(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_rv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_sub_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_sub_rv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_rv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_sub_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_sub_rv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_cs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_sub_cs_i(PZ, offset, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_sub_cs_i(PZ, offset, PCS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_sub_cs_i(PZ, offset, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_cs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_sub_cs_iw(PZ, offset, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_sub_cs_iw(PZ, offset, PCS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_sub_cs_iw(PZ, offset, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_cv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_sub_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_sub_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_sub_cv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_cv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_sub_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_sub_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_sub_cv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sub_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_sub_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_sub_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_sub_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sub_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_sub_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_sub_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_sub_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rs_sub_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rs_sub_rv(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rs_sub_rv(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rs_sub_rv(PZ, 0, PRS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rs_sub_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rs_sub_rv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rs_sub_rv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rs_sub_rv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sub_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_sub_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_sub_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_sub_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sub_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_sub_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_sub_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_sub_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_sub_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_sub_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_sub_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_sub_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_sub_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_sub_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rs_sub_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rs_sub_cv(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rs_sub_cv(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rs_sub_cv(PZ, 0, PRS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rs_sub_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rs_sub_cv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rs_sub_cv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rs_sub_cv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_sub_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_sub_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_sub_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_sub_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sub_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_sub_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_sub_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sub_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_sub_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_sub_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_cs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_sub_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_sub_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_sub_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_cs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_sub_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_sub_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_sub_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cs_sub_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cs_sub_cv(PZ, 0, PCS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cs_sub_cv(PZ, 0, PCS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cs_sub_cv(PZ, 0, PCS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cs_sub_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cs_sub_cv_w(PZ, 0, PCS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cs_sub_cv_w(PZ, 0, PCS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cs_sub_cv_w(PZ, 0, PCS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_sub_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_sub_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_sub_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sub_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_sub_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_sub_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_sub_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_mul_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_mul_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_mul_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_mul_rs_i(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_mul_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_mul_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_mul_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_mul_rs_iw(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_mul_rv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_mul_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_mul_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_mul_rv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_mul_rv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_mul_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_mul_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_mul_rv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_mul_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_mul_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_mul_rs_i(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_mul_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_mul_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_mul_rs_iw(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_rv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_mul_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_mul_rv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_rv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_mul_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_mul_rv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_cs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_mul_cs_i(PZ, offset, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_mul_cs_i(PZ, offset, PCS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_mul_cs_i(PZ, offset, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_cs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_mul_cs_iw(PZ, offset, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_mul_cs_iw(PZ, offset, PCS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_mul_cs_iw(PZ, offset, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_cv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_mul_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_mul_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_mul_cv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_cv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_mul_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_mul_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_mul_cv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_mul_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_mul_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_mul_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_mul_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_mul_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_mul_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_mul_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_mul_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_mul_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_mul_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_mul_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_mul_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_mul_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_mul_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_mul_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_mul_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_mul_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_mul_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_mul_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_mul_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_mul_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_mul_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_mul_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_mul_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_cs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_mul_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_mul_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_mul_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_cs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_mul_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_mul_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_mul_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_mul_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_mul_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_mul_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_mul_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_mul_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_mul_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_mul_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_div_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_div_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_div_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_div_rs_i(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_div_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_div_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_div_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_div_rs_iw(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_div_rv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_div_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_div_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_div_rv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_div_rv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_div_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_div_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_div_rv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_div_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_div_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_div_rs_i(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_div_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_div_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_div_rs_iw(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_rv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_div_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_div_rv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_rv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_div_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_div_rv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_cs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_div_cs_i(PZ, offset, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_div_cs_i(PZ, offset, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_cs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_div_cs_iw(PZ, offset, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_div_cs_iw(PZ, offset, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_cv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_div_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_div_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_div_cv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_cv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_div_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_div_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_div_cv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_div_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_div_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_div_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_div_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_div_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_div_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_div_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_div_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rs_div_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rs_div_rv(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rs_div_rv(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rs_div_rv(PZ, 0, PRS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rs_div_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rs_div_rv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rs_div_rv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rs_div_rv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_div_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_div_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_div_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_div_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_div_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_div_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_div_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_div_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_div_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_div_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_div_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_div_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_div_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_div_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rs_div_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rs_div_cv(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rs_div_cv(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rs_div_cv(PZ, 0, PRS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rs_div_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rs_div_cv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rs_div_cv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rs_div_cv_w(PZ, 0, PRS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_div_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_div_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_div_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_div_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_div_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_div_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_div_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_div_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_div_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_div_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_cs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_div_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_div_cs(PZ, 0, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_cs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_div_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_div_cs_w(PZ, 0, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cs_div_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cs_div_cv(PZ, 0, PCS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cs_div_cv(PZ, 0, PCS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cs_div_cv(PZ, 0, PCS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cs_div_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cs_div_cv_w(PZ, 0, PCS, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cs_div_cv_w(PZ, 0, PCS, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cs_div_cv_w(PZ, 0, PCS, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_div_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_div_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_div_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_div_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_div_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_div_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_div_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_conjmul_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_conjmul_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_conjmul_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_conjmul_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_conjmul_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_conjmul_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_conjmul_cv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_conjmul_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_conjmul_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_conjmul_cv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_conjmul_cv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_conjmul_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_conjmul_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_conjmul_cv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_conjmul_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_conjmul_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_conjmul_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_conjmul_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_conjmul_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_conjmul_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_conjmul_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_conjmul_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_conj_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_conj_i(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_conj_i(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_conj_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_conj_iw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_conj_iw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_conj(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_conj(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_conj(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_conj(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_conj_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_conj_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_conj_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_conj_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_expi(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_expi(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_expi(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_expi_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_expi_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_expi_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_expi_f(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_expi_f(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_expi_f(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_expi_fw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_expi_fw(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_expi_fw(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_exp_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_exp_i(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_exp_i(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_exp_i(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_exp_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_exp_iw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_exp_iw(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_exp_iw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_exp_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_exp_i(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_exp_i(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_exp_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_exp_iw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_exp_iw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_exp_if(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_exp_if(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_exp_if(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_exp_ifw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_exp_ifw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_exp_ifw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_exp(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_exp(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_exp(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_exp(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_exp_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_exp_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_exp_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_exp_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_exp(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_exp(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_exp(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_exp_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_exp_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_exp_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_exp_f(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_exp_f(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_exp_f(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_exp_fw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_exp_fw(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_exp_fw(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_im(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_im(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_im(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_im_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_im_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_im_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_re(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_re(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_re(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_re_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_re_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_re_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_abs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_abs(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_abs(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_abs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_abs_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_abs_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_arg(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_arg(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_arg(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_arg_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_arg_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_arg_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_arg_f(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_arg_f(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_arg_f(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_arg_fw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_arg_fw(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_arg_fw(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_argmul_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_argmul_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_argmul_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_argmul_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_argmul_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_argmul_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_argmul_rs_f(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_argmul_rs_f(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_argmul_rs_f(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_argmul_rs_fw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_argmul_rs_fw(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_argmul_rs_fw(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_abs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_abs_i(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_abs_i(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_abs_i(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_abs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_abs_iw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_abs_iw(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_abs_iw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_abs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_abs(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_abs(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_abs(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_abs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_abs_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_abs_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_abs_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_cvt(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_cvt(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_cvt(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_cvt_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_cvt_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_cvt_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_r2p_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_r2p_i(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_r2p_i(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_r2p_i(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_r2p_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_r2p_iw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_r2p_iw(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_r2p_iw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_r2p_if(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_r2p_if(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_r2p_if(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_r2p_if(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_r2p_ifw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_r2p_ifw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_r2p_ifw(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_r2p_ifw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_r2p(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_r2p(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_r2p(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_r2p(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_r2p_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_r2p_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_r2p_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_r2p_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_r2p_f(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_r2p_f(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_r2p_f(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_r2p_f(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_r2p_fw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_r2p_fw(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_r2p_fw(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_r2p_fw(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_p2r_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_p2r_i(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_p2r_i(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_p2r_i(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_p2r_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_p2r_iw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_p2r_iw(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_p2r_iw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_p2r(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_p2r(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_p2r(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_p2r(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_p2r_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_p2r_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_p2r_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_p2r_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sum(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_sum(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_sum(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_sum_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_sum_w(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_sum_w(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sum(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_sum(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_sum(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_sum_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_sum_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_sum_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_dot_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_dot_rv(PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_dot_rv(PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_dot_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_dot_rv_w(PX, 0, PY, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_dot_rv_w(PX, 0, PY, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_dot_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_dot_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_dot_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_dot_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_dot_cv_w(PZ, 0, PX, 0, PY, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_dot_cv_w(PZ, 0, PX, 0, PY, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_dot_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_dot_rv_w(PZ, 0, PX, 0, PY, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_dot_rv_w(PZ, 0, PX, 0, PY, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_dot_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_dot_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_dot_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_dot_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_dot_cv_w(PZ, 0, PX, 0, PY, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_dot_cv_w(PZ, 0, PX, 0, PY, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_cpy(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_cpy(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_cpy(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_cpy_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_cpy_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_cpy_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cpy(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_cpy(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_cpy(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cpy_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_cpy_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_cpy_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_max(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_max(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_max(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_max_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_max_w(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_max_w(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_max_rv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_max_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_max_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_max_rv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_max_rv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_max_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_max_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_max_rv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_max_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_max_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_max_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_max_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_max_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_max_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_max_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_max_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_max(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_max(PCZ, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_max(PCZ, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_max_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_max_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_max_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_max_cv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_max_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_max_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_max_cv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_max_cv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_max_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_max_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_max_cv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_max_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_max_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_max_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_max_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_max_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_max_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_max_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_max_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_min(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_min(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_min(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_min_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_min_w(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_min_w(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_min_rv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_min_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_min_rv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_min_rv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_min_rv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_min_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_min_rv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_min_rv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_min_rv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_min_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_min_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_min_rv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_min_rv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_min_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_min_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_min_rv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_min(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_min(PCZ, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_min(PCZ, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_min_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_min_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_min_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_min_cv_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_min_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_min_cv_i(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_min_cv_i(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_min_cv_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_min_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_min_cv_iw(PZ, offset, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_min_cv_iw(PZ, offset, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_min_cv(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_min_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_min_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_min_cv(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_min_cv_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_min_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_min_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_min_cv_w(PZ, 0, PX, 0, PY, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_maxarg(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_maxarg(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_maxarg(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_maxarg_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_maxarg_w(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_maxarg_w(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_maxarg(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.cv_maxarg(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.cv_maxarg(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_maxarg_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.cv_maxarg_w(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.cv_maxarg_w(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_minarg(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_minarg(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_minarg(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_minarg_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.rv_minarg_w(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.rv_minarg_w(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_minarg(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.cv_minarg(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.cv_minarg(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_minarg_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					sink += VOVec.cv_minarg_w(PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					sink += VO.cv_minarg_w(PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_rs_lin_rv_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_rs_lin_rv_rs_i(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_rs_lin_rv_rs_i(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_rs_lin_rv_rs_i(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_rs_lin_rv_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_rs_lin_rv_rs_iw(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_rs_lin_rv_rs_iw(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_rs_lin_rv_rs_iw(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_rs_lin_rv_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_rs_lin_rv_rs(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_rs_lin_rv_rs(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_rs_lin_rv_rs(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_rs_lin_rv_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_rs_lin_rv_rs_w(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_rs_lin_rv_rs_w(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_rs_lin_rv_rs_w(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_rs_lin_rv_cs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_rs_lin_rv_cs(PZ, 0, PX, 0, PRS, PY, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_rs_lin_rv_cs(PZ, 0, PX, 0, PRS, PY, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_rs_lin_rv_cs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_rs_lin_rv_cs_w(PZ, 0, PX, 0, PRS, PY, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_rs_lin_rv_cs_w(PZ, 0, PX, 0, PRS, PY, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_cs_lin_rv_cs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_cs_lin_rv_cs(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_cs_lin_rv_cs(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_cs_lin_rv_cs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_cs_lin_rv_cs_w(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_cs_lin_rv_cs_w(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_rv_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_rs_lin_rv_rs_i(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_rs_lin_rv_rs_i(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_rv_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_rs_lin_rv_rs_iw(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_rs_lin_rv_rs_iw(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_rv_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_rs_lin_rv_rs(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_rs_lin_rv_rs(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_rv_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_rs_lin_rv_rs_w(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_rs_lin_rv_rs_w(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_rv_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_cs_lin_rv_rs_i(PZ, offset, PCS, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_cs_lin_rv_rs_i(PZ, offset, PCS, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_rv_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_cs_lin_rv_rs_iw(PZ, offset, PCS, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_cs_lin_rv_rs_iw(PZ, offset, PCS, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_rv_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_cs_lin_rv_rs(PZ, 0, PX, 0, PCS, PY, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_cs_lin_rv_rs(PZ, 0, PX, 0, PCS, PY, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_rv_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_cs_lin_rv_rs_w(PZ, 0, PX, 0, PCS, PY, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_cs_lin_rv_rs_w(PZ, 0, PX, 0, PCS, PY, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_rv_cs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_rs_lin_rv_cs_i(PZ, offset, PRS, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_rs_lin_rv_cs_i(PZ, offset, PRS, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_rv_cs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_rs_lin_rv_cs_iw(PZ, offset, PRS, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_rs_lin_rv_cs_iw(PZ, offset, PRS, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_rv_cs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_rs_lin_rv_cs(PZ, 0, PX, 0, PRS, PY, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_rs_lin_rv_cs(PZ, 0, PX, 0, PRS, PY, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_rv_cs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_rs_lin_rv_cs_w(PZ, 0, PX, 0, PRS, PY, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_rs_lin_rv_cs_w(PZ, 0, PX, 0, PRS, PY, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_rv_cs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_cs_lin_rv_cs_i(PZ, offset, PCS, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_cs_lin_rv_cs_i(PZ, offset, PCS, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_rv_cs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_cs_lin_rv_cs_iw(PZ, offset, PCS, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_cs_lin_rv_cs_iw(PZ, offset, PCS, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_rv_cs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_cs_lin_rv_cs(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_cs_lin_rv_cs(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_rv_cs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_cs_lin_rv_cs_w(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_cs_lin_rv_cs_w(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_cv_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_rs_lin_cv_rs_i(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_rs_lin_cv_rs_i(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_rs_lin_cv_rs_i(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_cv_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_rs_lin_cv_rs_iw(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_rs_lin_cv_rs_iw(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.cv_rs_lin_cv_rs_iw(PZ, offset, PRS, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_cv_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_rs_lin_cv_rs(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_rs_lin_cv_rs(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_rs_lin_cv_rs(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_rs_lin_cv_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_rs_lin_cv_rs_w(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_rs_lin_cv_rs_w(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.cv_rs_lin_cv_rs_w(PZ, 0, PX, 0, PRS, PY, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_cv_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_cs_lin_cv_rs_i(PZ, offset, PCS, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_cs_lin_cv_rs_i(PZ, offset, PCS, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_cv_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_cs_lin_cv_rs_iw(PZ, offset, PCS, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_cs_lin_cv_rs_iw(PZ, offset, PCS, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_cv_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_cs_lin_cv_rs(PZ, 0, PX, 0, PCS, PY, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_cs_lin_cv_rs(PZ, 0, PX, 0, PCS, PY, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_cv_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_cs_lin_cv_rs_w(PZ, 0, PX, 0, PCS, PY, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_cs_lin_cv_rs_w(PZ, 0, PX, 0, PCS, PY, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_cv_cs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_cs_lin_cv_cs_i(PZ, offset, PCS, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_cs_lin_cv_cs_i(PZ, offset, PCS, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_cv_cs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.cv_cs_lin_cv_cs_iw(PZ, offset, PCS, PX, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.cv_cs_lin_cv_cs_iw(PZ, offset, PCS, PX, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_cv_cs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_cs_lin_cv_cs(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_cs_lin_cv_cs(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_cs_lin_cv_cs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_cs_lin_cv_cs_w(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_cs_lin_cv_cs_w(PZ, 0, PX, 0, PCS, PY, 0, PCS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_10log10_i(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_10log10_i(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_10log10_i(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_10log10_iw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_10log10_iw(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_10log10_iw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_if(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_10log10_if(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_10log10_if(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_10log10_if(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_ifw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_10log10_ifw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_10log10_ifw(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_10log10_ifw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_10log10(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_10log10(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_10log10(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_10log10_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_10log10_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_10log10_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_f(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_10log10_f(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_10log10_f(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_10log10_f(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_fw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_10log10_fw(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_10log10_fw(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_10log10_fw(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_10log10_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_10log10_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_10log10_rs_i(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_10log10_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_10log10_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_10log10_rs_iw(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_10log10_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_10log10_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_10log10_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_10log10_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_10log10_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_10log10_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_10log10_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_10log10(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_10log10(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_10log10(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_10log10_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_10log10_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_10log10_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_10log10_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_10log10_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_10log10_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_10log10_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_10log10_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_10log10_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_20log10_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_20log10_i(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_20log10_i(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_20log10_i(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_20log10_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_20log10_iw(PZ, offset, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_20log10_iw(PZ, offset, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_20log10_iw(PZ, offset, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_20log10(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_20log10(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_20log10(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_20log10(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_20log10_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_20log10_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_20log10_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_20log10_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_20log10_rs_i(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_20log10_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_20log10_rs_i(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_20log10_rs_i(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_20log10_rs_iw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVec.rv_20log10_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VO:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VO.rv_20log10_rs_iw(PZ, offset, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				for (int offset = 0; reps-- > 0; offset = next(offset, count))
+					VOVecMasked.rv_20log10_rs_iw(PZ, offset, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_20log10_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_20log10_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_20log10_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_20log10_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_rv_20log10_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.rv_20log10_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.rv_20log10_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VOVECMASKED:
+				while (reps-- > 0)
+					VOVecMasked.rv_20log10_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_20log10(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_20log10(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_20log10(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_20log10_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_20log10_w(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_20log10_w(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_20log10_f(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_20log10_f(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_20log10_f(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_20log10_fw(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_20log10_fw(PZ, 0, PX, 0, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_20log10_fw(PZ, 0, PX, 0, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_20log10_rs(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_20log10_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_20log10_rs(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+
+	private static void probe_cv_20log10_rs_w(int impl, int count, int reps) {
+		switch (impl) {
+			case IMPL_VOVEC:
+				while (reps-- > 0)
+					VOVec.cv_20log10_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+			case IMPL_VO:
+				while (reps-- > 0)
+					VO.cv_20log10_rs_w(PZ, 0, PX, 0, PRS, count);
+				break;
+		}
+	}
+}
@@ -0,0 +1,1408 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+// Generated by genParallel.pl from VOVec.java, don't edit
+
+package vectorapi;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join wrappers over {@link VOVec}.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOPar {
+	// Elements per task: multiple of cache line for real and complex vectors of any vector size
+	private final static int CHUNK = 16384;
+	// Calls shorter than this are passed to VOVec as-is
+	private final static int DEFAULT_THRESHOLD = 262144;
+
+	private static volatile ForkJoinPool pool = ForkJoinPool.commonPool();
+	private static volatile int threshold = DEFAULT_THRESHOLD;
+
+	public static ForkJoinPool getPool() {
+		return pool;
+	}
+
+	public static void setPool(ForkJoinPool pool) {
+		if (pool == null)
+			throw new NullPointerException("pool");
+		VOPar.pool = pool;
+	}
+
+	public static int getThreshold() {
+		return threshold;
+	}
+
+	public static void setThreshold(int threshold) {
+		if (threshold < 0)
+			throw new IllegalArgumentException("Threshold must be non-negative, got " + threshold);
+		VOPar.threshold = threshold;
+	}
+
+	public static void rv_add_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < threshold) {
+			VOVec.rv_add_rs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_add_rs_i(z, zOffset + o, x, n));
+	}
+
+	public static void rv_add_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_add_rv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_add_rv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_add_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < threshold) {
+			VOVec.cv_add_rs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_add_rs_i(z, zOffset + o, x, n));
+	}
+
+	public static void cv_add_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_add_rv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_add_rv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_add_cs_i(float z[], int zOffset, float x[], int count) {
+		if (count < threshold) {
+			VOVec.cv_add_cs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_add_cs_i(z, zOffset + o, x, n));
+	}
+
+	public static void cv_add_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_add_cv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_add_cv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < threshold) {
+			VOVec.rv_add_rs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_add_rs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void rv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_add_rv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < threshold) {
+			VOVec.cv_add_rs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_add_rs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void cv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_add_rv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_add_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < threshold) {
+			VOVec.cv_add_cs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_add_cs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void cv_add_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_add_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_add_cv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void rv_sub_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < threshold) {
+			VOVec.rv_sub_rs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_sub_rs_i(z, zOffset + o, x, n));
+	}
+
+	public static void rv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_sub_rv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_sub_rv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_sub_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < threshold) {
+			VOVec.cv_sub_rs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_sub_rs_i(z, zOffset + o, x, n));
+	}
+
+	public static void cv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_sub_rv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_sub_rv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_sub_cs_i(float z[], int zOffset, float x[], int count) {
+		if (count < threshold) {
+			VOVec.cv_sub_cs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_sub_cs_i(z, zOffset + o, x, n));
+	}
+
+	public static void cv_sub_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_sub_cv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_sub_cv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < threshold) {
+			VOVec.rv_sub_rs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_sub_rs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void rs_sub_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rs_sub_rv(z, zOffset, x, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rs_sub_rv(z, zOffset + o, x, y, yOffset + o, n));
+	}
+
+	public static void rv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_sub_rv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < threshold) {
+			VOVec.cv_sub_rs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_sub_rs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void rs_sub_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rs_sub_cv(z, zOffset, x, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rs_sub_cv(z, zOffset + o, x, y, yOffset + o, n));
+	}
+
+	public static void cv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_sub_rv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void rv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_sub_cv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_sub_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < threshold) {
+			VOVec.cv_sub_cs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_sub_cs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void cs_sub_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cs_sub_cv(z, zOffset, x, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cs_sub_cv(z, zOffset + o, x, y, yOffset + o, n));
+	}
+
+	public static void cv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_sub_cv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void rv_mul_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < threshold) {
+			VOVec.rv_mul_rs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_mul_rs_i(z, zOffset + o, x, n));
+	}
+
+	public static void rv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_mul_rv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_mul_rv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_mul_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < threshold) {
+			VOVec.cv_mul_rs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_mul_rs_i(z, zOffset + o, x, n));
+	}
+
+	public static void cv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_mul_rv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_mul_rv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_mul_cs_i(float z[], int zOffset, float x[], int count) {
+		if (count < threshold) {
+			VOVec.cv_mul_cs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_mul_cs_i(z, zOffset + o, x, n));
+	}
+
+	public static void cv_mul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_mul_cv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_mul_cv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < threshold) {
+			VOVec.rv_mul_rs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_mul_rs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void rv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_mul_rv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < threshold) {
+			VOVec.cv_mul_rs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_mul_rs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void cv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_mul_rv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_mul_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < threshold) {
+			VOVec.cv_mul_cs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_mul_cs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void cv_mul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_mul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_mul_cv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void rv_div_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < threshold) {
+			VOVec.rv_div_rs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_div_rs_i(z, zOffset + o, x, n));
+	}
+
+	public static void rv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_div_rv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_div_rv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_div_rs_i(float z[], int zOffset, float x, int count) {
+		if (count < threshold) {
+			VOVec.cv_div_rs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_div_rs_i(z, zOffset + o, x, n));
+	}
+
+	public static void cv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_div_rv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_div_rv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_div_cs_i(float z[], int zOffset, float x[], int count) {
+		if (count < threshold) {
+			VOVec.cv_div_cs_i(z, zOffset, x, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_div_cs_i(z, zOffset + o, x, n));
+	}
+
+	public static void cv_div_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_div_cv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_div_cv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < threshold) {
+			VOVec.rv_div_rs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_div_rs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void rs_div_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rs_div_rv(z, zOffset, x, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rs_div_rv(z, zOffset + o, x, y, yOffset + o, n));
+	}
+
+	public static void rv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_div_rv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < threshold) {
+			VOVec.cv_div_rs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_div_rs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void rs_div_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rs_div_cv(z, zOffset, x, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rs_div_cv(z, zOffset + o, x, y, yOffset + o, n));
+	}
+
+	public static void cv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_div_rv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void rv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_div_cv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_div_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		if (count < threshold) {
+			VOVec.cv_div_cs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_div_cs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void cs_div_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cs_div_cv(z, zOffset, x, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cs_div_cv(z, zOffset + o, x, y, yOffset + o, n));
+	}
+
+	public static void cv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_div_cv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void rv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_conjmul_cv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_conjmul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_conjmul_cv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_conjmul_cv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_conjmul_cv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_conj_i(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_conj_i(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_conj_i(z, zOffset + o, n));
+	}
+
+	public static void cv_conj(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_conj(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_conj(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_expi(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_expi(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_expi(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_expi_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_expi_f(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_expi_f(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_exp_i(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_exp_i(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_exp_i(z, zOffset + o, n));
+	}
+
+	public static void cv_exp_i(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_exp_i(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_exp_i(z, zOffset + o, n));
+	}
+
+	public static void cv_exp_if(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_exp_if(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_exp_if(z, zOffset + o, n));
+	}
+
+	public static void rv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_exp(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_exp(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_exp(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_exp(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_exp_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_exp_f(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_exp_f(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_im(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_im(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_im(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_re(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_re(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_re(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_abs(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_abs(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_arg(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_arg(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_arg(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_arg_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_arg_f(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_arg_f(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_argmul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < threshold) {
+			VOVec.cv_argmul_rs(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_argmul_rs(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void cv_argmul_rs_f(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		if (count < threshold) {
+			VOVec.cv_argmul_rs_f(z, zOffset, x, xOffset, y, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_argmul_rs_f(z, zOffset + o, x, xOffset + o, y, n));
+	}
+
+	public static void rv_abs_i(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_abs_i(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_abs_i(z, zOffset + o, n));
+	}
+
+	public static void rv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_abs(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_abs(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_cvt(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_cvt(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_cvt(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_r2p_i(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_r2p_i(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_r2p_i(z, zOffset + o, n));
+	}
+
+	public static void cv_r2p_if(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_r2p_if(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_r2p_if(z, zOffset + o, n));
+	}
+
+	public static void cv_r2p(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_r2p(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_r2p(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_r2p_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_r2p_f(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_r2p_f(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_p2r_i(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_p2r_i(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_p2r_i(z, zOffset + o, n));
+	}
+
+	public static void cv_p2r(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_p2r(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_p2r(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static float rv_sum(float x[], int xOffset, int count) {
+		if (count < threshold) {
+			return VOVec.rv_sum(x, xOffset, count);
+		}
+		final float p[] = new float[chunks(count)];
+		run(count, (c, o, n) -> p[c] = VOVec.rv_sum(x, xOffset + o, n));
+		return rs_sum(p);
+	}
+
+	public static void cv_sum(float z[], float x[], int xOffset, int count) {
+		cv_sum(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_sum(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_sum(z, zOffset, x, xOffset, count);
+			return;
+		}
+		final float p[] = new float[chunks(count) * 2];
+		run(count, (c, o, n) -> VOVec.cv_sum(p, c, x, xOffset + o, n));
+		cs_sum(z, zOffset, p);
+	}
+
+	public static float rv_dot_rv(float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			return VOVec.rv_dot_rv(x, xOffset, y, yOffset, count);
+		}
+		final float p[] = new float[chunks(count)];
+		run(count, (c, o, n) -> p[c] = VOVec.rv_dot_rv(x, xOffset + o, y, yOffset + o, n));
+		return rs_sum(p);
+	}
+
+	public static void rv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		rv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_dot_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		final float p[] = new float[chunks(count) * 2];
+		run(count, (c, o, n) -> VOVec.rv_dot_cv(p, c, x, xOffset + o, y, yOffset + o, n));
+		cs_sum(z, zOffset, p);
+	}
+
+	public static void cv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		cv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_dot_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		final float p[] = new float[chunks(count) * 2];
+		run(count, (c, o, n) -> VOVec.cv_dot_cv(p, c, x, xOffset + o, y, yOffset + o, n));
+		cs_sum(z, zOffset, p);
+	}
+
+	public static void rv_cpy(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_cpy(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_cpy(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_cpy(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_cpy(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_cpy(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static float rv_max(float x[], int xOffset, int count) {
+		if (count < threshold) {
+			return VOVec.rv_max(x, xOffset, count);
+		}
+		final float p[] = new float[chunks(count)];
+		run(count, (c, o, n) -> p[c] = VOVec.rv_max(x, xOffset + o, n));
+		return rs_max(p);
+	}
+
+	public static void rv_max_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_max_rv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_max_rv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_max_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_max_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_max_rv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_max(float z[], float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_max(z, x, xOffset, count);
+			return;
+		}
+		final float p[] = new float[chunks(count) * 2];
+		run(count, (c, o, n) -> VOVec.cv_max(p, c, x, xOffset + o, n));
+		cs_max(z, 0, p);
+	}
+
+	public static void cv_max(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_max(z, zOffset, x, xOffset, count);
+			return;
+		}
+		final float p[] = new float[chunks(count) * 2];
+		run(count, (c, o, n) -> VOVec.cv_max(p, c, x, xOffset + o, n));
+		cs_max(z, zOffset, p);
+	}
+
+	public static void cv_max_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_max_cv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_max_cv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_max_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_max_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_max_cv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static float rv_min(float x[], int xOffset, int count) {
+		if (count < threshold) {
+			return VOVec.rv_min(x, xOffset, count);
+		}
+		final float p[] = new float[chunks(count)];
+		run(count, (c, o, n) -> p[c] = VOVec.rv_min(x, xOffset + o, n));
+		return rs_min(p);
+	}
+
+	public static void rv_min_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_min_rv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_min_rv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_min_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_min_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_min_rv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static void cv_min(float z[], float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_min(z, x, xOffset, count);
+			return;
+		}
+		final float p[] = new float[chunks(count) * 2];
+		run(count, (c, o, n) -> VOVec.cv_min(p, c, x, xOffset + o, n));
+		cs_min(z, 0, p);
+	}
+
+	public static void cv_min(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_min(z, zOffset, x, xOffset, count);
+			return;
+		}
+		final float p[] = new float[chunks(count) * 2];
+		run(count, (c, o, n) -> VOVec.cv_min(p, c, x, xOffset + o, n));
+		cs_min(z, zOffset, p);
+	}
+
+	public static void cv_min_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_min_cv_i(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_min_cv_i(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_min_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_min_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_min_cv(z, zOffset + o, x, xOffset + o, y, yOffset + o, n));
+	}
+
+	public static int rv_maxarg(float x[], int xOffset, int count) {
+		if (count < threshold) {
+			return VOVec.rv_maxarg(x, xOffset, count);
+		}
+		final int p[] = new int[chunks(count)];
+		run(count, (c, o, n) -> p[c] = VOVec.rv_maxarg(x, xOffset + o, n));
+		return rv_maxarg(x, p);
+	}
+
+	public static int cv_maxarg(float x[], int xOffset, int count) {
+		if (count < threshold) {
+			return VOVec.cv_maxarg(x, xOffset, count);
+		}
+		final int p[] = new int[chunks(count)];
+		run(count, (c, o, n) -> p[c] = VOVec.cv_maxarg(x, xOffset + o, n));
+		return cv_maxarg(x, p);
+	}
+
+	public static int rv_minarg(float x[], int xOffset, int count) {
+		if (count < threshold) {
+			return VOVec.rv_minarg(x, xOffset, count);
+		}
+		final int p[] = new int[chunks(count)];
+		run(count, (c, o, n) -> p[c] = VOVec.rv_minarg(x, xOffset + o, n));
+		return rv_minarg(x, p);
+	}
+
+	public static int cv_minarg(float x[], int xOffset, int count) {
+		if (count < threshold) {
+			return VOVec.cv_minarg(x, xOffset, count);
+		}
+		final int p[] = new int[chunks(count)];
+		run(count, (c, o, n) -> p[c] = VOVec.cv_minarg(x, xOffset + o, n));
+		return cv_minarg(x, p);
+	}
+
+	public static void rv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		if (count < threshold) {
+			VOVec.rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_rs_lin_rv_rs_i(z, zOffset + o, a1, x, xOffset + o, a2, n));
+	}
+
+	public static void rv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		if (count < threshold) {
+			VOVec.rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_rs_lin_rv_rs(z, zOffset + o, x, xOffset + o, a1, y, yOffset + o, a2, n));
+	}
+
+	public static void rv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		if (count < threshold) {
+			VOVec.rv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_rs_lin_rv_cs(z, zOffset + o, x, xOffset + o, a1, y, yOffset + o, a2, n));
+	}
+
+	public static void rv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		if (count < threshold) {
+			VOVec.rv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_cs_lin_rv_cs(z, zOffset + o, x, xOffset + o, a1, y, yOffset + o, a2, n));
+	}
+
+	public static void cv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		if (count < threshold) {
+			VOVec.cv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_rs_lin_rv_rs_i(z, zOffset + o, a1, x, xOffset + o, a2, n));
+	}
+
+	public static void cv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		if (count < threshold) {
+			VOVec.cv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_rs_lin_rv_rs(z, zOffset + o, x, xOffset + o, a1, y, yOffset + o, a2, n));
+	}
+
+	public static void cv_cs_lin_rv_rs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		if (count < threshold) {
+			VOVec.cv_cs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_cs_lin_rv_rs_i(z, zOffset + o, a1, x, xOffset + o, a2, n));
+	}
+
+	public static void cv_cs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		if (count < threshold) {
+			VOVec.cv_cs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_cs_lin_rv_rs(z, zOffset + o, x, xOffset + o, a1, y, yOffset + o, a2, n));
+	}
+
+	public static void cv_rs_lin_rv_cs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2[], int count) {
+		if (count < threshold) {
+			VOVec.cv_rs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_rs_lin_rv_cs_i(z, zOffset + o, a1, x, xOffset + o, a2, n));
+	}
+
+	public static void cv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		if (count < threshold) {
+			VOVec.cv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_rs_lin_rv_cs(z, zOffset + o, x, xOffset + o, a1, y, yOffset + o, a2, n));
+	}
+
+	public static void cv_cs_lin_rv_cs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		if (count < threshold) {
+			VOVec.cv_cs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_cs_lin_rv_cs_i(z, zOffset + o, a1, x, xOffset + o, a2, n));
+	}
+
+	public static void cv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		if (count < threshold) {
+			VOVec.cv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_cs_lin_rv_cs(z, zOffset + o, x, xOffset + o, a1, y, yOffset + o, a2, n));
+	}
+
+	public static void cv_rs_lin_cv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		if (count < threshold) {
+			VOVec.cv_rs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_rs_lin_cv_rs_i(z, zOffset + o, a1, x, xOffset + o, a2, n));
+	}
+
+	public static void cv_rs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		if (count < threshold) {
+			VOVec.cv_rs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_rs_lin_cv_rs(z, zOffset + o, x, xOffset + o, a1, y, yOffset + o, a2, n));
+	}
+
+	public static void cv_cs_lin_cv_rs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		if (count < threshold) {
+			VOVec.cv_cs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_cs_lin_cv_rs_i(z, zOffset + o, a1, x, xOffset + o, a2, n));
+	}
+
+	public static void cv_cs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		if (count < threshold) {
+			VOVec.cv_cs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_cs_lin_cv_rs(z, zOffset + o, x, xOffset + o, a1, y, yOffset + o, a2, n));
+	}
+
+	public static void cv_cs_lin_cv_cs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		if (count < threshold) {
+			VOVec.cv_cs_lin_cv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_cs_lin_cv_cs_i(z, zOffset + o, a1, x, xOffset + o, a2, n));
+	}
+
+	public static void cv_cs_lin_cv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		if (count < threshold) {
+			VOVec.cv_cs_lin_cv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_cs_lin_cv_cs(z, zOffset + o, x, xOffset + o, a1, y, yOffset + o, a2, n));
+	}
+
+	public static void rv_10log10_i(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_10log10_i(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_10log10_i(z, zOffset + o, n));
+	}
+
+	public static void rv_10log10_if(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_10log10_if(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_10log10_if(z, zOffset + o, n));
+	}
+
+	public static void rv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_10log10(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_10log10(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_10log10_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_10log10_f(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_10log10_f(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_10log10_rs_i(float z[], int zOffset, float base, int count) {
+		if (count < threshold) {
+			VOVec.rv_10log10_rs_i(z, zOffset, base, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_10log10_rs_i(z, zOffset + o, base, n));
+	}
+
+	public static void rv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < threshold) {
+			VOVec.rv_10log10_rs(z, zOffset, x, xOffset, base, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_10log10_rs(z, zOffset + o, x, xOffset + o, base, n));
+	}
+
+	public static void cv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_10log10(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_10log10(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < threshold) {
+			VOVec.cv_10log10_rs(z, zOffset, x, xOffset, base, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_10log10_rs(z, zOffset + o, x, xOffset + o, base, n));
+	}
+
+	public static void rv_20log10_i(float z[], int zOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_20log10_i(z, zOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_20log10_i(z, zOffset + o, n));
+	}
+
+	public static void rv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.rv_20log10(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_20log10(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void rv_20log10_rs_i(float z[], int zOffset, float base, int count) {
+		if (count < threshold) {
+			VOVec.rv_20log10_rs_i(z, zOffset, base, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_20log10_rs_i(z, zOffset + o, base, n));
+	}
+
+	public static void rv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < threshold) {
+			VOVec.rv_20log10_rs(z, zOffset, x, xOffset, base, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.rv_20log10_rs(z, zOffset + o, x, xOffset + o, base, n));
+	}
+
+	public static void cv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_20log10(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_20log10(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_20log10_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		if (count < threshold) {
+			VOVec.cv_20log10_f(z, zOffset, x, xOffset, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_20log10_f(z, zOffset + o, x, xOffset + o, n));
+	}
+
+	public static void cv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		if (count < threshold) {
+			VOVec.cv_20log10_rs(z, zOffset, x, xOffset, base, count);
+			return;
+		}
+		run(count, (c, o, n) -> VOVec.cv_20log10_rs(z, zOffset + o, x, xOffset + o, base, n));
+	}
+
+	@FunctionalInterface
+	private interface Chunk {
+		void run(int chunk, int offset, int count);
+	}
+
+	// Tasks are never serialized, kernel lambda is not serializable anyway
+	private final static class Split extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final transient Chunk kernel;
+		private final int count;
+		private final int from;
+		private final int to;
+
+		Split(Chunk kernel, int count, int from, int to) {
+			this.kernel = kernel;
+			this.count = count;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				final int offset = from * CHUNK;
+				kernel.run(from, offset, Math.min(CHUNK, count - offset));
+				return;
+			}
+			final int mid = (from + to) >>> 1;
+			invokeAll(new Split(kernel, count, from, mid), new Split(kernel, count, mid, to));
+		}
+	}
+
+	private static int chunks(int count) {
+		return (count + CHUNK - 1) / CHUNK;
+	}
+
+	private static void run(int count, Chunk kernel) {
+		if (count <= 0)
+			return;
+		pool.invoke(new Split(kernel, count, 0, chunks(count)));
+	}
+
+	private static float rs_sum(float p[]) {
+		float sum = 0.0f;
+		for (int i = 0; i < p.length; i++)
+			sum += p[i];
+		return sum;
+	}
+
+	private static void cs_sum(float z[], int zOffset, float p[]) {
+		float re = 0.0f;
+		float im = 0.0f;
+		for (int i = 0; i < p.length; i += 2) {
+			re += p[i + 0];
+			im += p[i + 1];
+		}
+		z[(zOffset << 1) + 0] = re;
+		z[(zOffset << 1) + 1] = im;
+	}
+
+	private static float rs_max(float p[]) {
+		float max = Float.NEGATIVE_INFINITY;
+		for (int i = 0; i < p.length; i++)
+			if (max < p[i])
+				max = p[i];
+		return max;
+	}
+
+	private static float rs_min(float p[]) {
+		float min = Float.POSITIVE_INFINITY;
+		for (int i = 0; i < p.length; i++)
+			if (min > p[i])
+				min = p[i];
+		return min;
+	}
+
+	private static void cs_max(float z[], int zOffset, float p[]) {
+		float max = Float.NEGATIVE_INFINITY;
+		int j = 0;
+		for (int i = 0; i < p.length; i += 2) {
+			final float abs = p[i + 0] * p[i + 0] + p[i + 1] * p[i + 1];
+			if (max < abs) {
+				max = abs;
+				j = i;
+			}
+		}
+		z[(zOffset << 1) + 0] = p[j + 0];
+		z[(zOffset << 1) + 1] = p[j + 1];
+	}
+
+	private static void cs_min(float z[], int zOffset, float p[]) {
+		float min = Float.POSITIVE_INFINITY;
+		int j = 0;
+		for (int i = 0; i < p.length; i += 2) {
+			final float abs = p[i + 0] * p[i + 0] + p[i + 1] * p[i + 1];
+			if (min > abs) {
+				min = abs;
+				j = i;
+			}
+		}
+		z[(zOffset << 1) + 0] = p[j + 0];
+		z[(zOffset << 1) + 1] = p[j + 1];
+	}
+
+	// Partial indices are absolute ones, -1 if chunk has no candidate, ties go to the first chunk
+	private static int rv_maxarg(float x[], int p[]) {
+		float max = Float.NEGATIVE_INFINITY;
+		int j = -1;
+		for (int i = 0; i < p.length; i++) {
+			if (p[i] >= 0 && max < x[p[i]]) {
+				max = x[p[i]];
+				j = p[i];
+			}
+		}
+		return j;
+	}
+
+	private static int rv_minarg(float x[], int p[]) {
+		float min = Float.POSITIVE_INFINITY;
+		int j = -1;
+		for (int i = 0; i < p.length; i++) {
+			if (p[i] >= 0 && min > x[p[i]]) {
+				min = x[p[i]];
+				j = p[i];
+			}
+		}
+		return j;
+	}
+
+	private static int cv_maxarg(float x[], int p[]) {
+		float max = Float.NEGATIVE_INFINITY;
+		int j = -1;
+		for (int i = 0; i < p.length; i++) {
+			if (p[i] < 0)
+				continue;
+			final float abs = x[(p[i] << 1) + 0] * x[(p[i] << 1) + 0] + x[(p[i] << 1) + 1] * x[(p[i] << 1) + 1];
+			if (max < abs) {
+				max = abs;
+				j = p[i];
+			}
+		}
+		return j;
+	}
+
+	private static int cv_minarg(float x[], int p[]) {
+		float min = Float.POSITIVE_INFINITY;
+		int j = -1;
+		for (int i = 0; i < p.length; i++) {
+			if (p[i] < 0)
+				continue;
+			final float abs = x[(p[i] << 1) + 0] * x[(p[i] << 1) + 0] + x[(p[i] << 1) + 1] * x[(p[i] << 1) + 1];
+			if (min > abs) {
+				min = abs;
+				j = p[i];
+			}
+		}
+		return j;
+	}
+}
@@ -0,0 +1,248 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import jdk.incubator.vector.FloatVector;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Chooses fastest implementation of each operation of {@link VOAuto} for each
+ * size class of calls by timing all candidates on this machine, and saves and
+ * loads these choices ("wisdom") to and from file.
+ *
+ * Size class of call is 0 for empty calls, {@code k} for calls with
+ * {@code 2^(k-1) <= count < 2^k} and the last one for all larger calls.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+public final class VOPlanner {
+	public final static int SIZE_CLASSES = 18;
+	// Representative size of last class, see representative()
+	final static int MAX_PROBE_SIZE = 98304;
+
+	// Elements processed in one timed sample, to make samples of small calls long enough for timer,
+	// it is not more than MAX_PROBE_SIZE, so in-place calls of sample never get results of previous ones
+	private final static int SAMPLE_WORK = 65536;
+	private final static int SAMPLES = 7;
+	// Calls of each candidate before timing, to make JIT compile it
+	private final static int WARMUP_CALLS = 20000;
+	// Size of warm-up calls, with main loop and tail for any vector size
+	private final static int WARMUP_SIZE = 67;
+	// Candidate must be that much faster than default implementation to replace it, to not flip on noise
+	private final static double MARGIN = 0.95;
+
+	private final static String WISDOM_HEADER = "# VOAuto wisdom";
+	private final static String PLATFORM = "platform";
+
+	// Index of implementation in VOAuto.IMPLS for each operation and size class, 0 (default) if not planned
+	final static byte PLAN[][] = new byte[VOAuto.OPS.length][SIZE_CLASSES];
+
+	public static int sizeClass(int count) {
+		if (count <= 0)
+			return 0;
+		return Math.min(SIZE_CLASSES - 1, 32 - Integer.numberOfLeadingZeros(count));
+	}
+
+	// Size in the middle of class, which is used for timing
+	public static int representative(int sizeClass) {
+		if (sizeClass <= 0)
+			return 0;
+		return (3 << (sizeClass - 1)) >> 1;
+	}
+
+	// Description of platform, wisdom from other platform is not loaded
+	public static String platform() {
+		return System.getProperty("os.name") + "/" + System.getProperty("os.arch") +
+				" vector-bits=" + FloatVector.SPECIES_PREFERRED.vectorBitSize() +
+				" cpus=" + Runtime.getRuntime().availableProcessors() +
+				" vm=" + System.getProperty("java.vm.version");
+	}
+
+	public static String[] operations() {
+		return VOAuto.OPS.clone();
+	}
+
+	// Name of implementation which is used for calls of given size
+	public static String implementation(String op, int count) {
+		return VOAuto.IMPLS[PLAN[index(op)][sizeClass(count)]];
+	}
+
+	public static void plan() {
+		for (int op = 0; op < VOAuto.OPS.length; op++)
+			planOp(op);
+	}
+
+	public static void plan(String op) {
+		planOp(index(op));
+	}
+
+	// Returns to default implementation for all operations
+	public static void forget() {
+		for (int op = 0; op < PLAN.length; op++)
+			for (int sc = 0; sc < SIZE_CLASSES; sc++)
+				PLAN[op][sc] = VOAuto.IMPL_VOVEC;
+	}
+
+	public static void exportWisdom(Path file) throws IOException {
+		try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			w.write(WISDOM_HEADER);
+			w.newLine();
+			w.write(PLATFORM + " " + platform());
+			w.newLine();
+			for (int op = 0; op < VOAuto.OPS.length; op++) {
+				StringBuilder sb = new StringBuilder(VOAuto.OPS[op]);
+				for (int sc = 0; sc < SIZE_CLASSES; sc++)
+					sb.append(' ').append(VOAuto.IMPLS[PLAN[op][sc]]);
+				w.write(sb.toString());
+				w.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Loads wisdom, saved by {@link #exportWisdom(Path)}. Unknown operations and
+	 * implementations are skipped, operations absent in file are not changed.
+	 *
+	 * @return {@code false} if wisdom was saved on other platform and is not loaded
+	 * @throws IOException if file could not be read or it is not wisdom file
+	 */
+	public static boolean importWisdom(Path file) throws IOException {
+		final byte plan[][] = new byte[PLAN.length][];
+		try (BufferedReader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line = r.readLine();
+			if (line == null || !line.equals(WISDOM_HEADER))
+				throw new IOException("\"" + file + "\" is not wisdom file");
+			line = r.readLine();
+			if (line == null || !line.startsWith(PLATFORM + " "))
+				throw new IOException("\"" + file + "\" has no platform");
+			if (!line.substring(PLATFORM.length() + 1).equals(platform()))
+				return false;
+			while ((line = r.readLine()) != null) {
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
+				final String f[] = line.split(" ");
+				if (f.length != SIZE_CLASSES + 1)
+					throw new IOException("Invalid line in \"" + file + "\": \"" + line + "\"");
+				final int op = find(VOAuto.OPS, f[0]);
+				if (op < 0)
+					continue;
+				plan[op] = new byte[SIZE_CLASSES];
+				for (int sc = 0; sc < SIZE_CLASSES; sc++) {
+					final int impl = find(VOAuto.IMPLS, f[sc + 1]);
+					plan[op][sc] = isCandidate(op, impl) ? (byte)impl : VOAuto.IMPL_VOVEC;
+				}
+			}
+		}
+		for (int op = 0; op < plan.length; op++)
+			if (plan[op] != null)
+				System.arraycopy(plan[op], 0, PLAN[op], 0, SIZE_CLASSES);
+		return true;
+	}
+
+	/**
+	 * Loads wisdom if file exists and was saved on this platform, or plans all
+	 * operations and saves wisdom to file otherwise.
+	 */
+	public static void importOrPlan(Path file) throws IOException {
+		if (Files.isReadable(file) && importWisdom(file))
+			return;
+		plan();
+		exportWisdom(file);
+	}
+
+	private static void planOp(int op) {
+		final byte candidates[] = VOAuto.CANDIDATES[op];
+		if (candidates.length < 2)
+			return;
+
+		for (byte impl : candidates) {
+			VOAuto.probe(op, impl, 1, WARMUP_CALLS);
+			VOAuto.probe(op, impl, WARMUP_SIZE, WARMUP_CALLS);
+			VOAuto.probe(op, impl, MAX_PROBE_SIZE, 1);
+		}
+
+		for (int sc = 1; sc < SIZE_CLASSES; sc++) {
+			final int count = representative(sc);
+			final int reps = Math.max(1, SAMPLE_WORK / count);
+			byte best = VOAuto.IMPL_VOVEC;
+			long bestTime = (long)(time(op, VOAuto.IMPL_VOVEC, count, reps) * MARGIN);
+			for (byte impl : candidates) {
+				if (impl == VOAuto.IMPL_VOVEC)
+					continue;
+				final long t = time(op, impl, count, reps);
+				if (t < bestTime) {
+					best = impl;
+					bestTime = t;
+				}
+			}
+			PLAN[op][sc] = best;
+		}
+		// Empty calls are the same as shortest ones
+		PLAN[op][0] = PLAN[op][1];
+	}
+
+	private static long time(int op, int impl, int count, int reps) {
+		long best = Long.MAX_VALUE;
+		for (int s = 0; s < SAMPLES; s++) {
+			// Every sample of every candidate starts from the same data, not from results of previous ones
+			VOAuto.restore();
+			final long start = System.nanoTime();
+			VOAuto.probe(op, impl, count, reps);
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		return best;
+	}
+
+	private static int index(String op) {
+		final int i = find(VOAuto.OPS, op);
+		if (i < 0)
+			throw new IllegalArgumentException("Unknown operation \"" + op + "\"");
+		return i;
+	}
+
+	private static boolean isCandidate(int op, int impl) {
+		for (byte c : VOAuto.CANDIDATES[op])
+			if (c == impl)
+				return true;
+		return false;
+	}
+
+	private static int find(String names[], String name) {
+		for (int i = 0; i < names.length; i++)
+			if (names[i].equals(name))
+				return i;
+		return -1;
+	}
+}
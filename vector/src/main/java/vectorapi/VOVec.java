@@ -40,24 +40,7 @@ public final class VOVec {
 	//@TODO: Global idea: check extraction of complex multiply/division code
 	//       to helper methods (and pray for inlining)
 	/* Missing methods which make sense:
-		cv_cs_lin_cv_cs
-		cv_cs_lin_cv_cs_i
-		cv_cs_lin_cv_rs
-		cv_cs_lin_cv_rs_i
-		cv_cs_lin_rv_cs
-		cv_cs_lin_rv_cs_i
-		cv_cs_lin_rv_rs
-		cv_cs_lin_rv_rs_i
-		cv_rs_lin_cv_rs
-		cv_rs_lin_cv_rs_i
-		cv_rs_lin_rv_cs
-		cv_rs_lin_rv_cs_i
-		cv_rs_lin_rv_rs
-		cv_rs_lin_rv_rs_i
-		rv_cs_lin_rv_cs
-		rv_rs_lin_rv_cs
-
-		And some one-complex-return function with "offset" result placement
+		Some one-complex-return function with "offset" result placement
 	 */
 	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
 	private final static VectorSpecies<Float> PFS2 = VectorSpecies.of(Float.TYPE, VectorShape.forBitSize(PFS.vectorBitSize() / 2));
@@ -71,6 +54,52 @@ public final class VOVec {
 	private final static VectorMask<Float> MASK_C_IM;
 	private final static VectorMask<Float> MASK_SECOND_HALF;
 	private final static FloatVector ZERO = FloatVector.zero(PFS);
+	private final static FloatVector ONE = FloatVector.broadcast(PFS, 1.0f);
+	private final static FloatVector NEG_INF = FloatVector.broadcast(PFS, Float.NEGATIVE_INFINITY);
+	private final static FloatVector POS_INF = FloatVector.broadcast(PFS, Float.POSITIVE_INFINITY);
+	// Indices for arg-functions, lane-to-lane with PFS
+	private final static VectorSpecies<Integer> PIS = PFS.withLanes(int.class);
+	private final static IntVector IOTA = IntVector.zero(PIS).addIndex(1);
+	private final static IntVector NO_INDEX = IntVector.broadcast(PIS, -1);
+	private final static FloatVector ATAN_C1 = FloatVector.broadcast(PFS, 0.9998660f);
+	private final static FloatVector ATAN_C3 = FloatVector.broadcast(PFS, -0.3302995f);
+	private final static FloatVector ATAN_C5 = FloatVector.broadcast(PFS, 0.1801410f);
+	private final static FloatVector ATAN_C7 = FloatVector.broadcast(PFS, -0.0851330f);
+	private final static FloatVector ATAN_C9 = FloatVector.broadcast(PFS, 0.0208351f);
+	// 1.5 * 2^23: x + ROUND_MAGIC is rounded to integer, which is in low bits of mantissa
+	private final static FloatVector ROUND_MAGIC = FloatVector.broadcast(PFS, 12582912.0f);
+	private final static int ROUND_MAGIC_BITS = 0x4B400000;
+	// Cephes expf(): ln(2) in two parts and polynomial for exp(r) on [-ln(2)/2, ln(2)/2]
+	private final static FloatVector EXP_LO = FloatVector.broadcast(PFS, -104.0f);
+	private final static FloatVector EXP_HI = FloatVector.broadcast(PFS, 89.0f);
+	private final static FloatVector EXP_LOG2E = FloatVector.broadcast(PFS, 1.44269504088896341f);
+	private final static FloatVector EXP_NEG_LN2_HI = FloatVector.broadcast(PFS, -0.693359375f);
+	private final static FloatVector EXP_NEG_LN2_LO = FloatVector.broadcast(PFS, 2.12194440e-4f);
+	private final static FloatVector EXP_C0 = FloatVector.broadcast(PFS, 5.0000001201e-1f);
+	private final static FloatVector EXP_C1 = FloatVector.broadcast(PFS, 1.6666665459e-1f);
+	private final static FloatVector EXP_C2 = FloatVector.broadcast(PFS, 4.1665795894e-2f);
+	private final static FloatVector EXP_C3 = FloatVector.broadcast(PFS, 8.3334519073e-3f);
+	private final static FloatVector EXP_C4 = FloatVector.broadcast(PFS, 1.3981999507e-3f);
+	private final static FloatVector EXP_C5 = FloatVector.broadcast(PFS, 1.9875691500e-4f);
+	// Cephes sinf()/cosf(): PI/2 in three parts and polynomials for sin(r) and cos(r) on [-PI/4, PI/4]
+	private final static FloatVector SC_2_PI = FloatVector.broadcast(PFS, (float)(2.0 / Math.PI));
+	private final static FloatVector SC_NEG_PI2_A = FloatVector.broadcast(PFS, -1.5703125f);
+	private final static FloatVector SC_NEG_PI2_B = FloatVector.broadcast(PFS, -4.837512969970703125e-4f);
+	private final static FloatVector SC_NEG_PI2_C = FloatVector.broadcast(PFS, -7.54978995489188216e-8f);
+	private final static FloatVector SIN_C3 = FloatVector.broadcast(PFS, -1.6666654611e-1f);
+	private final static FloatVector SIN_C5 = FloatVector.broadcast(PFS, 8.3321608736e-3f);
+	private final static FloatVector SIN_C7 = FloatVector.broadcast(PFS, -1.9515295891e-4f);
+	private final static FloatVector COS_C2 = FloatVector.broadcast(PFS, -0.5f);
+	private final static FloatVector COS_C4 = FloatVector.broadcast(PFS, 4.166664568298827e-2f);
+	private final static FloatVector COS_C6 = FloatVector.broadcast(PFS, -1.388731625493765e-3f);
+	private final static FloatVector COS_C8 = FloatVector.broadcast(PFS, 2.443315711809948e-5f);
+	// Bits of sqrt(2)/2, mantissa is reduced to [sqrt(2)/2, sqrt(2)), and polynomial for log10(1 + f) on it
+	private final static int LOG_SQRT_HALF_BITS = 0x3F3504F3;
+	private final static FloatVector LOG10_2 = FloatVector.broadcast(PFS, (float)Math.log10(2.0));
+	private final static FloatVector LOG_C1 = FloatVector.broadcast(PFS, 0.4340132176876068f);
+	private final static FloatVector LOG_C2 = FloatVector.broadcast(PFS, -0.21821817755699158f);
+	private final static FloatVector LOG_C3 = FloatVector.broadcast(PFS, 0.15578532218933105f);
+	private final static FloatVector LOG_C4 = FloatVector.broadcast(PFS, -0.09922552853822708f);
 	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_RE;
 	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_BOTH;
 	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_RE_LOW;
@@ -173,6 +202,18 @@ public final class VOVec {
 			z[zOffset++] += x;
 	}
 
+	public static void rv_add_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_add_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_add_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -187,6 +228,21 @@ public final class VOVec {
 			z[zOffset++] += x[xOffset++];
 	}
 
+	public static void rv_add_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_add_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_add_rs_i(float z[], int zOffset, float x, int count) {
 		FloatVector vx = null;
 		if (count >= EPV2)
@@ -209,6 +265,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_add_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_add_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 
@@ -229,6 +297,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_add_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_add_cs_i(float z[], int zOffset, float x[], int count) {
 		FloatVector vx = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -251,6 +334,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_cs_iw(float z[], int zOffset, float x[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_add_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_add_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -273,6 +368,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_add_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -287,6 +397,21 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] + y;
 	}
 
+	public static void rv_add_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_add_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -303,6 +428,24 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] + y[yOffset++];
 	}
 
+	public static void rv_add_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_add_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		if (count >= EPV2)
@@ -329,6 +472,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_add_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -354,6 +512,24 @@ public final class VOVec {
 
 	}
 
+	public static void cv_add_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_add_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_add_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
 		FloatVector vy = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -380,6 +556,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_add_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_add_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -405,6 +596,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_add_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_add_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_sub_rs_i(float z[], int zOffset, float x, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -418,6 +627,18 @@ public final class VOVec {
 			z[zOffset++] -= x;
 	}
 
+	public static void rv_sub_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_sub_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -433,6 +654,21 @@ public final class VOVec {
 			z[zOffset++] -= x[xOffset++];
 	}
 
+	public static void rv_sub_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_sub_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_sub_rs_i(float z[], int zOffset, float x, int count) {
 		FloatVector vx = null;
 		if (count >= EPV2)
@@ -455,6 +691,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_sub_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 
@@ -475,6 +723,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_sub_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_sub_cs_i(float z[], int zOffset, float x[], int count) {
 		FloatVector vx = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -498,6 +761,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_cs_iw(float z[], int zOffset, float x[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_sub_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_sub_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -520,6 +795,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_sub_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -534,6 +824,21 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] - y;
 	}
 
+	public static void rv_sub_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_sub_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rs_sub_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		if (count >= EPV)
@@ -552,6 +857,21 @@ public final class VOVec {
 			z[zOffset++] = x - y[yOffset++];
 	}
 
+	public static void rs_sub_rv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, y.length - yOffset));
+			rs_sub_rv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -568,6 +888,24 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] - y[yOffset++];
 	}
 
+	public static void rv_sub_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		if (count >= EPV2)
@@ -594,6 +932,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_sub_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rs_sub_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		if (count >= EPV2)
@@ -619,6 +972,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void rs_sub_cv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			rs_sub_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -643,6 +1011,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_sub_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		yOffset <<= 1;
 		zOffset <<= 1;
@@ -668,6 +1054,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_sub_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min(x.length - xOffset, (y.length - yOffset) >> 1)));
+			rv_sub_cv(z, zOffset >> 1, x, xOffset, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_sub_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
 		FloatVector vy = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -694,6 +1098,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_sub_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cs_sub_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -720,6 +1139,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cs_sub_cv_w(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			cs_sub_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -745,6 +1179,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_sub_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_sub_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_mul_rs_i(float z[], int zOffset, float x, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -758,6 +1210,18 @@ public final class VOVec {
 			z[zOffset++] *= x;
 	}
 
+	public static void rv_mul_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_mul_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -773,6 +1237,21 @@ public final class VOVec {
 			z[zOffset++] *= x[xOffset++];
 	}
 
+	public static void rv_mul_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_mul_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_mul_rs_i(float z[], int zOffset, float x, int count) {
 		zOffset <<= 1;
 
@@ -791,6 +1270,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_mul_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 
@@ -813,6 +1304,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_mul_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_mul_cs_i(float z[], int zOffset, float x[], int count) {
 		FloatVector vxre = null, vxim = null;
 		if (count >= EPV2) {
@@ -859,6 +1365,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_cs_iw(float z[], int zOffset, float x[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_mul_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_mul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -910,6 +1428,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_mul_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		//@DONE: it is fater thab vx.mul(y)
@@ -928,6 +1461,21 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] * y;
 	}
 
+	public static void rv_mul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_mul_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -944,6 +1492,24 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] * y[yOffset++];
 	}
 
+	public static void rv_mul_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		//@DONE: it is fater thab vx.mul(y)
@@ -970,6 +1536,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_mul_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -993,6 +1574,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_mul_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_mul_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
 		FloatVector vyre = null, vyim = null;
 		if (count >= EPV2) {
@@ -1040,6 +1639,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_mul_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_mul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -1091,6 +1705,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_mul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_mul_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_div_rs_i(float z[], int zOffset, float x, int count) {
 		FloatVector vx = null;
 		//@DONE: it is fater thab vz.mul(x)
@@ -1109,6 +1741,18 @@ public final class VOVec {
 			z[zOffset++] /= x;
 	}
 
+	public static void rv_div_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_div_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -1124,6 +1768,21 @@ public final class VOVec {
 			z[zOffset++] /= x[xOffset++];
 	}
 
+	public static void rv_div_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_div_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_div_rs_i(float z[], int zOffset, float x, int count) {
 		FloatVector vx = null;
 		//@DONE: it is fater thab vz.mul(x)
@@ -1147,6 +1806,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_div_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 
@@ -1169,6 +1840,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_div_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_div_cs_i(float z[], int zOffset, float x[], int count) {
 		FloatVector vxre = null;
 		FloatVector vxim = null;
@@ -1221,6 +1907,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_cs_iw(float z[], int zOffset, float x[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_div_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_div_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -1273,6 +1971,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_div_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		//@DONE: it is fater thab vx.div(y)
@@ -1292,6 +2005,21 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] / y;
 	}
 
+	public static void rv_div_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_div_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rs_div_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		if (count >= EPV)
@@ -1310,6 +2038,21 @@ public final class VOVec {
 			z[zOffset++] = x / y[yOffset++];
 	}
 
+	public static void rs_div_rv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, y.length - yOffset));
+			rs_div_rv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -1326,6 +2069,24 @@ public final class VOVec {
 			z[zOffset++] = x[xOffset++] / y[yOffset++];
 	}
 
+	public static void rv_div_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_div_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		//@DONE: it is fater thab vx.div(y)
@@ -1352,6 +2113,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_div_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rs_div_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		if (count >= EPV2) {
@@ -1401,6 +2177,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void rs_div_cv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			rs_div_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -1426,6 +2217,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_div_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		zOffset <<= 1;
 		yOffset <<= 1;
@@ -1475,6 +2284,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_div_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min(x.length - xOffset, (y.length - yOffset) >> 1)));
+			rv_div_cv(z, zOffset >> 1, x, xOffset, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_div_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
 		FloatVector vyre = null;
 		FloatVector vyim = null;
@@ -1528,6 +2355,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_div_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cs_div_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
 		FloatVector vx = null;
 		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
@@ -1580,6 +2422,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cs_div_cv_w(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			cs_div_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -1632,6 +2489,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_div_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_div_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		zOffset <<= 1;
 		yOffset <<= 1;
@@ -1657,6 +2532,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_conjmul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min(x.length - xOffset, (y.length - yOffset) >> 1)));
+			rv_conjmul_cv(z, zOffset >> 1, x, xOffset, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_conjmul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -1706,6 +2599,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_conjmul_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_conjmul_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -1758,6 +2666,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_conjmul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_conjmul_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_conj_i(float z[], int zOffset, int count) {
 		zOffset <<= 1;
 
@@ -1776,6 +2702,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_conj_iw(float z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_conj_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_conj(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -1797,6 +2735,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_conj_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_conj(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_expi(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		while (count >= EPV) {
@@ -1834,6 +2787,57 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_expi_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			rv_expi(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_expi_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// Sine and cosine share range reduction and are stored as TWO z vectors
+			expi_f(z, zOffset, ONE, vx);
+
+			// We stored twice as much complex numbers
+			xOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = FastTrig.cos(x[xOffset]);
+			z[zOffset + 1] = FastTrig.sin(x[xOffset]);
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_expi_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			rv_expi_f(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_exp_i(float z[], int zOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -1849,6 +2853,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_exp_iw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_exp_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_exp_i(float z[], int zOffset, int count) {
 		zOffset <<= 1;
 
@@ -1893,6 +2909,62 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_exp_iw(float z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_exp_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_if(float z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vz1 = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vz2 = FloatVector.fromArray(PFS, z, zOffset + EPV);
+
+			final FloatVector vz1re = vz1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vz1im = vz1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vz2re = vz2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vz2im = vz2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vzreexp = exp_f(vz1re.blend(vz2re, MASK_SECOND_HALF));
+			final FloatVector vzim = vz1im.blend(vz2im, MASK_SECOND_HALF);
+
+			// Multiply sine and cosine by exp(re) and store twice
+			expi_f(z, zOffset, vzreexp, vzim);
+
+			// We loaded and stored twice as many numbers
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float g = (float)Math.exp(z[zOffset + 0]);
+			z[zOffset + 0] = g * FastTrig.cos(z[zOffset + 1]);
+			z[zOffset + 1] = g * FastTrig.sin(z[zOffset + 1]);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_ifw(float z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_exp_if(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -1907,6 +2979,21 @@ public final class VOVec {
 			z[zOffset++] = (float)Math.exp(x[xOffset++]);
 	}
 
+	public static void rv_exp_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_exp(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -1954,18 +3041,83 @@ public final class VOVec {
 		}
 	}
 
-	public static void cv_im(float z[], int zOffset, float x[], int xOffset, int count) {
+	public static void cv_exp_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_exp(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_f(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
+		zOffset <<= 1;
 
 		while (count >= EPV) {
-			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_IM, 0)
 			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
 			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
 
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
 			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
 			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxreexp = exp_f(vx1re.blend(vx2re, MASK_SECOND_HALF));
 			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
-			vxim.intoArray(z, zOffset);
+
+			// Multiply sine and cosine by exp(re) and store twice
+			expi_f(z, zOffset, vxreexp, vxim);
+
+			// We loaded and stored twice as many numbers
+			xOffset += EPV * 2;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float g = (float)Math.exp(x[xOffset + 0]);
+			z[zOffset + 0] = g * FastTrig.cos(x[xOffset + 1]);
+			z[zOffset + 1] = g * FastTrig.sin(x[xOffset + 1]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_exp_f(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_im(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_IM, 0)
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+			vxim.intoArray(z, zOffset);
 
 			xOffset += EPV * 2;
 			zOffset += EPV;
@@ -1979,6 +3131,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_im_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_im(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_re(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 
@@ -2003,6 +3170,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_re_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_re(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 
@@ -2033,6 +3215,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_abs_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_abs(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_arg(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 
@@ -2063,6 +3260,66 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_arg_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_arg(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_arg_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			atan2_f(vxim, vxre).intoArray(z, zOffset);
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_arg_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_arg_f(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_argmul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
 		FloatVector vy = null;
 		//@DONE: it is fater thab ...mul(y)
@@ -2099,6 +3356,72 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_argmul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_argmul_rs(z, zOffset, x, xOffset >> 1, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_argmul_rs_f(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab ...mul(y)
+		if (count >= EPV)
+			vy = FloatVector.broadcast(PFS, y);
+
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			atan2_f(vxim, vxre).mul(vy).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = y * FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_argmul_rs_fw(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_argmul_rs_f(z, zOffset, x, xOffset >> 1, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_abs_i(float z[], int zOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
@@ -2114,6 +3437,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_abs_iw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_abs_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2128,6 +3463,21 @@ public final class VOVec {
 			z[zOffset++] = Math.abs(x[xOffset++]);
 	}
 
+	public static void rv_abs_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_abs(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_cvt(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		while (count >= EPV2) {
@@ -2148,6 +3498,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_cvt_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			rv_cvt(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_r2p_i(float z[], int zOffset, int count) {
 		zOffset <<= 1;
 
@@ -2180,6 +3545,63 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_r2p_iw(float z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_r2p_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_if(float z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			// Fast version doesn't protect from overflow, as Math.hypot() does
+			final FloatVector vrre = vzre.fma(vzre, vzim.mul(vzim)).sqrt();
+			final FloatVector vrim = atan2_f(vzim, vzre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float abs, arg;
+		while (count-- > 0) {
+			abs = (float)Math.hypot(z[zOffset + 0], z[zOffset + 1]);
+			arg = FastTrig.atan2(z[zOffset + 1], z[zOffset + 0]);
+			z[zOffset + 0] = abs;
+			z[zOffset + 1] = arg;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_ifw(float z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_r2p_if(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_r2p(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -2212,6 +3634,69 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_r2p_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_r2p(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			// Fast version doesn't protect from overflow, as Math.hypot() does
+			final FloatVector vrre = vxre.fma(vxre, vxim.mul(vxim)).sqrt();
+			final FloatVector vrim = atan2_f(vxim, vxre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = (float)Math.hypot(x[xOffset + 0], x[xOffset + 1]);
+			z[zOffset + 1] = FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_r2p_f(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_p2r_i(float z[], int zOffset, int count) {
 		zOffset <<= 1;
 
@@ -2245,6 +3730,18 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_p2r_iw(float z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_p2r_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_p2r(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -2278,79 +3775,158 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_p2r_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_p2r(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static float rv_sum(float x[], int xOffset, int count) {
-		float sum = 0.0f;
+		// Independent accumulators hide latency of addition and there is only one reduction at the end
+		// See specific.RVsum benchmark
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		FloatVector vsum3 = FloatVector.zero(PFS);
+		FloatVector vsum4 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
 
-		while (count >= EPV) {
-			sum += FloatVector.fromArray(PFS, x, xOffset).reduceLanes(VectorOperators.ADD);
+		while (count >= EPVx4) {
+			vsum1 = vsum1.add(FloatVector.fromArray(PFS, x, xOffset));
+			vsum2 = vsum2.add(FloatVector.fromArray(PFS, x, xOffset + EPV));
+			vsum3 = vsum3.add(FloatVector.fromArray(PFS, x, xOffset + EPVx2));
+			vsum4 = vsum4.add(FloatVector.fromArray(PFS, x, xOffset + EPVx3));
+
+			xOffset += EPVx4;
+			count -= EPVx4;
+		}
+
+		if (count >= EPVx2) {
+			vsum1 = vsum1.add(FloatVector.fromArray(PFS, x, xOffset));
+			vsum2 = vsum2.add(FloatVector.fromArray(PFS, x, xOffset + EPV));
+
+			xOffset += EPVx2;
+			count -= EPVx2;
+		}
+
+		if (count >= EPV) {
+			vsum3 = vsum3.add(FloatVector.fromArray(PFS, x, xOffset));
 
 			xOffset += EPV;
 			count -= EPV;
 		}
 
+		float sum = 0.0f;
 		while (count-- > 0)
 			sum += x[xOffset++];
+
+		if (needLanes)
+			sum += vsum1.add(vsum2).add(vsum3.add(vsum4)).reduceLanes(VectorOperators.ADD);
 		return sum;
 	}
 
-	public static void cv_sum(float z[], float x[], int xOffset, int count) {
-		float re = 0.0f;
-		float im = 0.0f;
-		xOffset <<= 1;
-
-		while (count >= EPV2) {
-			//@TODO Check, can we pack and process twice elements, and save result twice
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-
-			// It is faster than addLanes(MASK)
-			re += vx.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
-			im += vx.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
-
-			xOffset += EPV;
-			count -= EPV2;
+	public static float rv_sum_w(float x[], int xOffset, int count) {
+		float sum = 0.0f;
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, x.length - xOffset);
+			sum += rv_sum(x, xOffset, work);
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
 		}
+		return sum;
+	}
 
-		while (count-- > 0) {
-			re += x[xOffset + 0];
-			im += x[xOffset + 1];
-			xOffset += 2;
-		}
-		z[0] = re;
-		z[1] = im;
+	public static void cv_sum(float z[], float x[], int xOffset, int count) {
+		cv_sum(z, 0, x, xOffset, count);
 	}
 
 	public static void cv_sum(float z[], int zOffset, float x[], int xOffset, int count) {
-		float re = 0.0f;
-		float im = 0.0f;
+		// Sums of real and imaginary parts are accumulated in place, and split only once at the end
+		// See specific.CVsum benchmark
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV2;
 		xOffset <<= 1;
 		zOffset <<= 1;
 
-		while (count >= EPV2) {
-			//@TODO Check, can we pack and process twice elements, and save result twice
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+		while (count >= EPV) {
+			vsum1 = vsum1.add(FloatVector.fromArray(PFS, x, xOffset));
+			vsum2 = vsum2.add(FloatVector.fromArray(PFS, x, xOffset + EPV));
 
-			// It is faster than addLanes(MASK)
-			re += vx.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
-			im += vx.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+			xOffset += EPVx2;
+			count -= EPV;
+		}
+
+		if (count >= EPV2) {
+			vsum1 = vsum1.add(FloatVector.fromArray(PFS, x, xOffset));
 
 			xOffset += EPV;
 			count -= EPV2;
 		}
 
+		float re = 0.0f;
+		float im = 0.0f;
 		while (count-- > 0) {
 			re += x[xOffset + 0];
 			im += x[xOffset + 1];
 			xOffset += 2;
 		}
+
+		if (needLanes) {
+			// vsum is [(sum.re, sum.im), (sum.re, sum.im), ...]
+			final FloatVector vsum = vsum1.add(vsum2);
+			// It is faster than addLanes(MASK)
+			re += vsum.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+			im += vsum.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+		}
 		z[zOffset + 0] = re;
 		z[zOffset + 1] = im;
 	}
 
-	public static float rv_dot_rv(float x[], int xOffset, float y[], int yOffset, int count) {
-		float sum = 0.0f;
+	public static void cv_sum_w(float z[], float x[], int xOffset, int count) {
+		cv_sum_w(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_sum_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (x.length - xOffset) >> 1);
+			cv_sum(sum, x, xOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
 
-		// Strange, but accumulating EPV-sized vector ad one addLines() at end is slower
+	public static float rv_dot_rv(float x[], int xOffset, float y[], int yOffset, int count) {
+		// Independent accumulators hide latency of fma and there is only one reduction at the end
 		// See specific.RVdotRV benchmark
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		FloatVector vsum3 = FloatVector.zero(PFS);
+		FloatVector vsum4 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+
 		while (count >= EPVx4) {
 			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
 			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
@@ -2361,34 +3937,94 @@ public final class VOVec {
 			final FloatVector vx4 = FloatVector.fromArray(PFS, x, xOffset + EPVx3);
 			final FloatVector vy4 = FloatVector.fromArray(PFS, y, yOffset + EPVx3);
 
-			// Strange, but it is better than 3 fma and one mul
-			sum += vx1.fma(vy1, vx2.mul(vy2)).add(vx3.fma(vy3, vx4.mul(vy4))).reduceLanes(VectorOperators.ADD);
+			vsum1 = vx1.fma(vy1, vsum1);
+			vsum2 = vx2.fma(vy2, vsum2);
+			vsum3 = vx3.fma(vy3, vsum3);
+			vsum4 = vx4.fma(vy4, vsum4);
 
 			xOffset += EPVx4;
 			yOffset += EPVx4;
 			count -= EPVx4;
 		}
 
-		while (count >= EPV) {
+		if (count >= EPVx2) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + EPV);
+
+			vsum1 = vx1.fma(vy1, vsum1);
+			vsum2 = vx2.fma(vy2, vsum2);
+
+			xOffset += EPVx2;
+			yOffset += EPVx2;
+			count -= EPVx2;
+		}
+
+		if (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
 			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
-			sum += vx.mul(vy).reduceLanes(VectorOperators.ADD);
+
+			vsum3 = vx.fma(vy, vsum3);
 
 			xOffset += EPV;
 			yOffset += EPV;
 			count -= EPV;
 		}
 
+		float sum = 0.0f;
 		while (count-- > 0)
 			sum += x[xOffset++] * y[yOffset++];
 
+		if (needLanes)
+			sum += vsum1.add(vsum2).add(vsum3.add(vsum4)).reduceLanes(VectorOperators.ADD);
+		return sum;
+	}
+
+	public static float rv_dot_rv_w(float x[], int xOffset, float y[], int count) {
+		float sum = 0.0f;
+		xOffset = preWrap(xOffset, x.length);
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = Math.min(count, x.length - xOffset);
+			sum += rv_dot_rv(x, xOffset, y, yOffset, work);
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			count -= work;
+		}
+		return sum;
+	}
+
+	public static float rv_dot_rv_w(float x[], int xOffset, float y[], int yOffset, int count) {
+		float sum = 0.0f;
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(x.length - xOffset, y.length - yOffset));
+			sum += rv_dot_rv(x, xOffset, y, yOffset, work);
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
 		return sum;
 	}
 
 	public static void rv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
-		float re = 0.0f;
-		float im = 0.0f;
+		rv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		// Vector accumulators and only one reduction at the end
+		FloatVector vsumre = FloatVector.zero(PFS);
+		FloatVector vsumim = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
 		yOffset <<= 1;
+		zOffset <<= 1;
 
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2405,104 +4041,190 @@ public final class VOVec {
 			final FloatVector vyre = vy1re.blend(vy2re, MASK_SECOND_HALF);
 			final FloatVector vyim = vy1im.blend(vy2im, MASK_SECOND_HALF);
 
-			re += vx.mul(vyre).reduceLanes(VectorOperators.ADD);
-			im += vx.mul(vyim).reduceLanes(VectorOperators.ADD);
+			vsumre = vx.fma(vyre, vsumre);
+			vsumim = vx.fma(vyim, vsumim);
 
 			xOffset += EPV;
 			yOffset += EPV * 2; // We load twice as much complex numbers
 			count -= EPV;
 		}
 
+		float re = 0.0f;
+		float im = 0.0f;
 		while (count-- > 0) {
 			re += x[xOffset] * y[yOffset + 0];
 			im += x[xOffset] * y[yOffset + 1];
 			xOffset += 1;
 			yOffset += 2;
 		}
-		z[0] = re;
-		z[1] = im;
+
+		if (needLanes) {
+			re += vsumre.reduceLanes(VectorOperators.ADD);
+			im += vsumim.reduceLanes(VectorOperators.ADD);
+		}
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
 	}
 
-	public static void rv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+	public static void rv_dot_cv_w(float z[], float x[], int xOffset, float y[], int count) {
+		rv_dot_cv_w(z, 0, x, xOffset, y, count);
+	}
+
+	public static void rv_dot_cv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		rv_dot_cv_w(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		final float sum[] = new float[2];
 		float re = 0.0f;
 		float im = 0.0f;
-		yOffset <<= 1;
+		xOffset = preWrap(xOffset, x.length);
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = Math.min(count, x.length - xOffset);
+			rv_dot_cv(sum, x, xOffset, y, yOffset, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			count -= work;
+		}
 		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
 
-		while (count >= EPV) {
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			//@DONE: It is faster than FloatVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
-			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
-			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + PFS.length());
-
-			final FloatVector vy1re = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
-			final FloatVector vy1im = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
-
-			final FloatVector vy2re = vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
-			final FloatVector vy2im = vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
-
-			final FloatVector vyre = vy1re.blend(vy2re, MASK_SECOND_HALF);
-			final FloatVector vyim = vy1im.blend(vy2im, MASK_SECOND_HALF);
+	public static void rv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(x.length - xOffset, (y.length - yOffset) >> 1));
+			rv_dot_cv(sum, x, xOffset, y, yOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
 
-			re += vx.mul(vyre).reduceLanes(VectorOperators.ADD);
-			im += vx.mul(vyim).reduceLanes(VectorOperators.ADD);
+	public static void cv_dot_rv_w(float z[], float x[], int xOffset, float y[], int count) {
+		cv_dot_rv_w(z, 0, x, xOffset, y, count);
+	}
 
-			xOffset += EPV;
-			yOffset += EPV * 2; // We load twice as much complex numbers
-			count -= EPV;
+	public static void cv_dot_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		// There is no cv_dot_rv(), but dot product is commutative
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrapCv(xOffset, x.length);
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = Math.min(count, (x.length - xOffset) >> 1);
+			rv_dot_cv(sum, y, yOffset, x, xOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			count -= work;
 		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
 
-		while (count-- > 0) {
-			re += x[xOffset] * y[yOffset + 0];
-			im += x[xOffset] * y[yOffset + 1];
-			xOffset += 1;
-			yOffset += 2;
+	public static void cv_dot_rv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		cv_dot_rv_w(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((x.length - xOffset) >> 1, y.length - yOffset));
+			rv_dot_cv(sum, y, yOffset, x, xOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
 		}
+		zOffset <<= 1;
 		z[zOffset + 0] = re;
 		z[zOffset + 1] = im;
 	}
 
 	public static void cv_dot_cv(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
-		float re = 0.0f;
-		float im = 0.0f;
+		cv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		// Products by real and imaginary parts of y are accumulated separately,
+		// and combined to complex result only once at the end
+		// See specific.CVdotCV benchmark
+		FloatVector vsumyre1 = FloatVector.zero(PFS);
+		FloatVector vsumyim1 = FloatVector.zero(PFS);
+		FloatVector vsumyre2 = FloatVector.zero(PFS);
+		FloatVector vsumyim2 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV2;
 		xOffset <<= 1;
 		yOffset <<= 1;
+		zOffset <<= 1;
 
-		while (count >= EPV2) {
+		while (count >= EPV) {
 			//@DONE: one load & two reshuffles are faster
 			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
-			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
-			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
-			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
-			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
-			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
-
+			final FloatVector vy1 = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vy2 = FloatVector.fromArray(PFS, y, yOffset + EPV);
 			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
 
-			// vmulyre is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
-			final FloatVector vmulyre = vx.mul(vyre);
-			// vmulyim is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
-			final FloatVector vmulyim = vx.mul(vyim);
-			// vmulximswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
-			final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			// vsumyre is [(x[0].re * y[0].re, x[0].im * y[0].re), ...] accumulated
+			vsumyre1 = vx1.fma(vy1.rearrange(SHUFFLE_CV_SPREAD_RE), vsumyre1);
+			vsumyre2 = vx2.fma(vy2.rearrange(SHUFFLE_CV_SPREAD_RE), vsumyre2);
+			// vsumyim is [(x[0].re * y[0].im, x[0].im * y[0].im), ...] accumulated
+			vsumyim1 = vx1.fma(vy1.rearrange(SHUFFLE_CV_SPREAD_IM), vsumyim1);
+			vsumyim2 = vx2.fma(vy2.rearrange(SHUFFLE_CV_SPREAD_IM), vsumyim2);
 
-			//@DONE: vmulyre.sub(vmulximswap, MASK_C_RE) / vmulyre.add(vmulximswap, MASK_C_IM) are slower
-			// vrre is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
-			final FloatVector vrre = vmulyre.sub(vmulximswap);
-			// vrim is ([?, x[0].im * y.re + x[0].re * y.im], ...)
-			final FloatVector vrim = vmulyre.add(vmulximswap);
+			xOffset += EPVx2;
+			yOffset += EPVx2;
+			count -= EPV;
+		}
 
-			// It is faster than addLanes(MASK)
-			// And it is same as reshuffle + reshape, but easier to understand
-			re += vrre.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
-			im += vrim.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+		if (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			vsumyre1 = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_RE), vsumyre1);
+			vsumyim1 = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_IM), vsumyim1);
 
 			xOffset += EPV;
 			yOffset += EPV;
 			count -= EPV2;
 		}
 
+		float re = 0.0f;
+		float im = 0.0f;
 		float k0, k1;
 		while (count-- > 0) {
 			k0 = x[xOffset + 0] * y[yOffset + 0];
@@ -2512,60 +4234,71 @@ public final class VOVec {
 			xOffset += 2;
 			yOffset += 2;
 		}
-		z[0] = re;
-		z[1] = im;
-	}
 
-	public static void cv_dot_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
-		float re = 0.0f;
-		float im = 0.0f;
-		xOffset <<= 1;
-		yOffset <<= 1;
-		zOffset <<= 1;
-
-		while (count >= EPV2) {
-			//@DONE: one load & two reshuffles are faster
-			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
-			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
-			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
-			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
-			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
-			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
-
-			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
-			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+		if (needLanes) {
+			// vmulyre is [(sum(x.re * y.re), sum(x.im * y.re)), ...]
+			final FloatVector vmulyre = vsumyre1.add(vsumyre2);
+			// vmulximswap is [(sum(x.im * y.im), sum(x.re * y.im)), ...]
+			final FloatVector vmulximswap = vsumyim1.add(vsumyim2).rearrange(SHUFFLE_CV_SWAP_RE_IM);
 
-			// vmulyre is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
-			final FloatVector vmulyre = vx.mul(vyre);
-			// vmulyim is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
-			final FloatVector vmulyim = vx.mul(vyim);
-			// vmulximswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
-			final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			// It is faster than addLanes(MASK)
+			// And it is same as reshuffle + reshape, but easier to understand
+			re += vmulyre.sub(vmulximswap).rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+			im += vmulyre.add(vmulximswap).rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+		}
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
 
-			//@DONE: vmulyre.sub(vmulximswap, MASK_C_RE) / vmulyre.add(vmulximswap, MASK_C_IM) are slower
-			// vrre is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
-			final FloatVector vrre = vmulyre.sub(vmulximswap);
-			// vrim is ([?, x[0].im * y.re + x[0].re * y.im], ...)
-			final FloatVector vrim = vmulyre.add(vmulximswap);
+	public static void cv_dot_cv_w(float z[], float x[], int xOffset, float y[], int count) {
+		cv_dot_cv_w(z, 0, x, xOffset, y, count);
+	}
 
-			// It is faster than addLanes(MASK)
-			re += vrre.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
-			im += vrim.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+	public static void cv_dot_cv_w(float z[], float x[], int xOffset, float y[], int yOffset, int count) {
+		cv_dot_cv_w(z, 0, x, xOffset, y, yOffset, count);
+	}
 
-			xOffset += EPV;
-			yOffset += EPV;
-			count -= EPV2;
+	public static void cv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrapCv(xOffset, x.length);
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = Math.min(count, (x.length - xOffset) >> 1);
+			cv_dot_cv(sum, x, xOffset >> 1, y, yOffset, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			count -= work;
 		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
 
-		float k0, k1;
-		while (count-- > 0) {
-			k0 = x[xOffset + 0] * y[yOffset + 0];
-			k1 = x[xOffset + 1] * y[yOffset + 1];
-			re += k0 - k1;
-			im += (x[xOffset + 0] + x[xOffset + 1]) * (y[yOffset + 0] + y[yOffset + 1]) - k0 - k1;
-			xOffset += 2;
-			yOffset += 2;
+	public static void cv_dot_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1));
+			cv_dot_cv(sum, x, xOffset >> 1, y, yOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
 		}
+		zOffset <<= 1;
 		z[zOffset + 0] = re;
 		z[zOffset + 1] = im;
 	}
@@ -2582,6 +4315,21 @@ public final class VOVec {
 		System.arraycopy(x, xOffset, z, zOffset, count);
 	}
 
+	public static void rv_cpy_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_cpy(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_cpy(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 		zOffset <<= 1;
@@ -2597,6 +4345,21 @@ public final class VOVec {
 		System.arraycopy(x, xOffset, z, zOffset, count * 2);
 	}
 
+	public static void cv_cpy_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_cpy(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static float rv_max(float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
 
@@ -2617,6 +4380,22 @@ public final class VOVec {
 		return max;
 	}
 
+	public static float rv_max_w(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, x.length - xOffset);
+			final float localMax = rv_max(x, xOffset, work);
+			if (max < localMax)
+				max = localMax;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return max;
+	}
+
 	public static void rv_max_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2636,6 +4415,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_max_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_max_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_max_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2656,6 +4450,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_max_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_max_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_max(float z[], float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
 		int i = -1;
@@ -2748,6 +4560,18 @@ public final class VOVec {
 		z[zOffset + 1] = x[i + 1];
 	}
 
+	public static void cv_max_w(float z[], float x[], int xOffset, int count) {
+		cv_max_w(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_max_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		// Value of max is the value at its index
+		final int i = cv_maxarg_w(x, xOffset, count) << 1;
+		zOffset <<= 1;
+		z[zOffset + 0] = x[i + 0];
+		z[zOffset + 1] = x[i + 1];
+	}
+
 	public static void cv_max_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -2790,6 +4614,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_max_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_max_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_max_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -2838,6 +4677,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_max_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_max_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static float rv_min(float x[], int xOffset, int count) {
 		float min = Float.POSITIVE_INFINITY;
 
@@ -2857,6 +4714,22 @@ public final class VOVec {
 		return min;
 	}
 
+	public static float rv_min_w(float x[], int xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, x.length - xOffset);
+			final float localMin = rv_min(x, xOffset, work);
+			if (min > localMin)
+				min = localMin;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return min;
+	}
+
 	public static void rv_min_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2876,6 +4749,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_min_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_min_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_min_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
@@ -2896,6 +4784,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_min_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_min_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_min(float z[], float x[], int xOffset, int count) {
 		float min = Float.POSITIVE_INFINITY;
 		int i = -1;
@@ -2990,6 +4896,18 @@ public final class VOVec {
 		z[zOffset + 1] = x[i + 1];
 	}
 
+	public static void cv_min_w(float z[], float x[], int xOffset, int count) {
+		cv_min_w(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_min_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		// Value of min is the value at its index
+		final int i = cv_minarg_w(x, xOffset, count) << 1;
+		zOffset <<= 1;
+		z[zOffset + 0] = x[i + 0];
+		z[zOffset + 1] = x[i + 1];
+	}
+
 	public static void cv_min_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
 		zOffset <<= 1;
 		xOffset <<= 1;
@@ -3032,6 +4950,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_min_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_min_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_min_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
 		xOffset <<= 1;
 		yOffset <<= 1;
@@ -3080,31 +5013,52 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_min_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_min_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static int rv_maxarg(float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
 		int i = -1;
 
-		while (count >= EPV) {
-			float localMax = FloatVector.fromArray(PFS, x, xOffset).reduceLanes(VectorOperators.MAX);
-			if (max < localMax) {
-				max = localMax;
-				i = xOffset;
+		if (count >= EPV) {
+			// Each lane keeps its own maximum and number of element where it is found first
+			FloatVector vmax = NEG_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final int start = xOffset;
+
+			while (count >= EPV) {
+				final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Float> found = vmax.compare(VectorOperators.LT, vx);
+				vmax = vmax.blend(vx, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV;
+				count -= EPV;
 			}
-			xOffset += EPV;
-			count -= EPV;
-		}
 
-		// Find max in vector
-		if (i >= 0) {
-			int i2 = i;
-			for (int j = i; j < i + EPV; j++) {
-				// We could compare here, as max got from here
-				if (max == x[j]) {
-					i2 = j;
-					break;
-				}
-			}
-			i = i2;
+			// First index among lanes which have global maximum
+			max = vmax.reduceLanes(VectorOperators.MAX);
+			final int j = vi.reduceLanes(VectorOperators.MIN, vmax.compare(VectorOperators.EQ, max).cast(PIS));
+			if (j >= 0)
+				i = start + j;
 		}
 
 		while (count-- > 0) {
@@ -3117,38 +5071,69 @@ public final class VOVec {
 		return i;
 	}
 
-	public static int cv_maxarg(float x[], int xOffset, int count) {
+	public static int rv_maxarg_w(float x[], int xOffset, int count) {
 		float max = Float.NEGATIVE_INFINITY;
 		int i = -1;
-		final float aabs[] = count >= EPV ? new float[EPV] : null;
-		xOffset <<= 1;
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, x.length - xOffset);
+			final int j = rv_maxarg(x, xOffset, work);
+			// Strict comparison: first run wins on ties, as in scalar version
+			if (j >= 0 && max < x[j]) {
+				max = x[j];
+				i = j;
+			}
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
 
-		while (count >= EPV) {
-			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
-			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+	public static int cv_maxarg(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+		xOffset <<= 1;
 
-			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
-			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+		if (count >= EPV) {
+			// Each lane keeps its own maximum and number of element where it is found first
+			FloatVector vmax = NEG_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final int start = xOffset;
 
-			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
-			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+			while (count >= EPV) {
+				//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
 
-			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
-			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+				final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+				final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
 
-			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+				final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+				final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
 
-			vxabs.intoArray(aabs, 0);
-			for (int j = 0; j < EPV; j++) {
-				if (max < aabs[j]) {
-					max = aabs[j];
-					i = xOffset + (j << 1);
-				}
+				final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+				final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+				final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Float> found = vmax.compare(VectorOperators.LT, vxabs);
+				vmax = vmax.blend(vxabs, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV * 2;
+				count -= EPV;
 			}
 
-			xOffset += EPV * 2;
-			count -= EPV;
+			// First index among lanes which have global maximum
+			max = vmax.reduceLanes(VectorOperators.MAX);
+			final int j = vi.reduceLanes(VectorOperators.MIN, vmax.compare(VectorOperators.EQ, max).cast(PIS));
+			if (j >= 0)
+				i = start + (j << 1);
 		}
 
 		while (count-- > 0) {
@@ -3163,32 +5148,57 @@ public final class VOVec {
 		return i >> 1;
 	}
 
+	public static int cv_maxarg_w(float x[], int xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		int i = -1;
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (x.length - xOffset) >> 1);
+			final int j = cv_maxarg(x, xOffset >> 1, work);
+			if (j >= 0) {
+				// Strict comparison: first run wins on ties, as in scalar version
+				final float abs = x[(j << 1) + 0] * x[(j << 1) + 0] + x[(j << 1) + 1] * x[(j << 1) + 1];
+				if (max < abs) {
+					max = abs;
+					i = j;
+				}
+			}
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
 	public static int rv_minarg(float x[], int xOffset, int count) {
 		float min = Float.POSITIVE_INFINITY;
 		int i = -1;
 
-		while (count >= EPV) {
-			float localMin = FloatVector.fromArray(PFS, x, xOffset).reduceLanes(VectorOperators.MIN);
-			if (min > localMin) {
-				min = localMin;
-				i = xOffset;
+		if (count >= EPV) {
+			// Each lane keeps its own minimum and number of element where it is found first
+			FloatVector vmin = POS_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final int start = xOffset;
+
+			while (count >= EPV) {
+				final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Float> found = vmin.compare(VectorOperators.GT, vx);
+				vmin = vmin.blend(vx, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV;
+				count -= EPV;
 			}
 
-			xOffset += EPV;
-			count -= EPV;
-		}
-
-		// Find min in vector
-		if (i >= 0) {
-			int i2 = i;
-			for (int j = i; j < i + EPV; j++) {
-				// We could compare here, as min got from here
-				if (min == x[j]) {
-					i2 = j;
-					break;
-				}
-			}
-			i = i2;
+			// First index among lanes which have global minimum
+			min = vmin.reduceLanes(VectorOperators.MIN);
+			final int j = vi.reduceLanes(VectorOperators.MIN, vmin.compare(VectorOperators.EQ, min).cast(PIS));
+			if (j >= 0)
+				i = start + j;
 		}
 
 		while (count-- > 0) {
@@ -3201,38 +5211,69 @@ public final class VOVec {
 		return i;
 	}
 
+	public static int rv_minarg_w(float x[], int xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		int i = -1;
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, x.length - xOffset);
+			final int j = rv_minarg(x, xOffset, work);
+			// Strict comparison: first run wins on ties, as in scalar version
+			if (j >= 0 && min > x[j]) {
+				min = x[j];
+				i = j;
+			}
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
 	public static int cv_minarg(float x[], int xOffset, int count) {
 		float min = Float.POSITIVE_INFINITY;
 		int i = -1;
-		final float aabs[] = count >= EPV ? new float[EPV] : null;
 		xOffset <<= 1;
 
-		while (count >= EPV) {
-			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
-			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+		if (count >= EPV) {
+			// Each lane keeps its own minimum and number of element where it is found first
+			FloatVector vmin = POS_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final int start = xOffset;
 
-			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
-			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+			while (count >= EPV) {
+				//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+				final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+				final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
 
-			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
-			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+				final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+				final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
 
-			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
-			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+				final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+				final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
 
-			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+				final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+				final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
 
-			vxabs.intoArray(aabs, 0);
-			for (int j = 0; j < EPV; j++) {
-				if (min > aabs[j]) {
-					min = aabs[j];
-					i = xOffset + (j << 1);
-				}
+				final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Float> found = vmin.compare(VectorOperators.GT, vxabs);
+				vmin = vmin.blend(vxabs, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV * 2;
+				count -= EPV;
 			}
 
-			xOffset += EPV * 2;
-			count -= EPV;
+			// First index among lanes which have global minimum
+			min = vmin.reduceLanes(VectorOperators.MIN);
+			final int j = vi.reduceLanes(VectorOperators.MIN, vmin.compare(VectorOperators.EQ, min).cast(PIS));
+			if (j >= 0)
+				i = start + (j << 1);
 		}
 
 		while (count-- > 0) {
@@ -3247,6 +5288,29 @@ public final class VOVec {
 		return i >> 1;
 	}
 
+	public static int cv_minarg_w(float x[], int xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		int i = -1;
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (x.length - xOffset) >> 1);
+			final int j = cv_minarg(x, xOffset >> 1, work);
+			if (j >= 0) {
+				// Strict comparison: first run wins on ties, as in scalar version
+				final float abs = x[(j << 1) + 0] * x[(j << 1) + 0] + x[(j << 1) + 1] * x[(j << 1) + 1];
+				if (min > abs) {
+					min = abs;
+					i = j;
+				}
+			}
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
 	public static void rv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
 		FloatVector va1 = null;
 		FloatVector va2 = null;
@@ -3273,6 +5337,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_rs_lin_rv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
 		FloatVector va1 = null;
 		FloatVector va2 = null;
@@ -3282,166 +5361,964 @@ public final class VOVec {
 			va2 = FloatVector.broadcast(PFS, a2);
 		}
 
-		while (count >= EPV) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] * a1 + y[yOffset++] * a2;
+	}
+
+	public static void rv_rs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		FloatVector va1 = null;
+		FloatVector va2re = null;
+		FloatVector va2im = null;
+		if (count >= EPV) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			va2im = FloatVector.broadcast(PFS, a2[1]);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			final FloatVector vrre = vx.fma(va1, vy.mul(va2re));
+			final FloatVector vrim = vy.mul(va2im);
+
+			// Store twice
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset] * a1 + y[yOffset] * a2[0];
+			z[zOffset + 1] = y[yOffset] * a2[1];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_rs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_rs_lin_rv_cs(z, zOffset >> 1, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		FloatVector va1re = null;
+		FloatVector va1im = null;
+		FloatVector va2re = null;
+		FloatVector va2im = null;
+		if (count >= EPV) {
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			va1im = FloatVector.broadcast(PFS, a1[1]);
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			va2im = FloatVector.broadcast(PFS, a2[1]);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			final FloatVector vrre = vx.fma(va1re, vy.mul(va2re));
+			final FloatVector vrim = vx.fma(va1im, vy.mul(va2im));
+
+			// Store twice
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset] * a1[0] + y[yOffset] * a2[0];
+			z[zOffset + 1] = x[xOffset] * a1[1] + y[yOffset] * a2[1];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_cs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_cs_lin_rv_cs(z, zOffset >> 1, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS2, a2);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS2, x, xOffset);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+
+			// Rearrange of vx gives zeroes in im-parts and it could be added without any masks or blends
+			vz.fma(va1, vx.mul(va2).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE)).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = z[zOffset + 0] * a1 + x[xOffset] * a2;
+			z[zOffset + 1] = z[zOffset + 1] * a1;
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_rs_lin_rv_rs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS2, a2);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS2, y, yOffset);
+
+			// Rearrange of vy gives zeroes in im-parts and it could be added without any masks or blends
+			vx.fma(va1, vy.mul(va2).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * a1 + y[yOffset] * a2;
+			z[zOffset + 1] = x[xOffset + 1] * a1;
+			xOffset += 2;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_rs_lin_rv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS2, a2);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS2, x, xOffset);
+
+			// Rearrange of vx gives zeroes in im-parts and it could be added without any masks or blends
+			final FloatVector vxa2 = vx.mul(va2).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im)
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vxa2)).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * a1[0];
+			k1 = z[zOffset + 1] * a1[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + x[xOffset] * a2;
+			z[zOffset + 1] = k2 - k0 - k1;
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_cs_lin_rv_rs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS2, a2);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS2, y, yOffset);
+
+			// Rearrange of vy gives zeroes in im-parts and it could be added without any masks or blends
+			final FloatVector vya2 = vy.mul(va2).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im)
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vya2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * a1[0];
+			k1 = x[xOffset + 1] * a1[1];
+			k2 = (x[xOffset + 0] + x[xOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + y[yOffset] * a2;
+			z[zOffset + 1] = k2 - k0 - k1;
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_cs_lin_rv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2[], int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0], x[0]), (x[1], x[1]), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = z[zOffset + 0] * a1 + x[xOffset] * a2[0];
+			z[zOffset + 1] = z[zOffset + 1] * a1 + x[xOffset] * a2[1];
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_rs_lin_rv_cs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0], y[0]), (y[1], y[1]), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS2, y, yOffset).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * a1 + y[yOffset] * a2[0];
+			z[zOffset + 1] = x[xOffset + 1] * a1 + y[yOffset] * a2[1];
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_rs_lin_rv_cs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0], x[0]), (x[1], x[1]), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im)
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vx.mul(va2))).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * a1[0];
+			k1 = z[zOffset + 1] * a1[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + x[xOffset] * a2[0];
+			z[zOffset + 1] = k2 - k0 - k1 + x[xOffset] * a2[1];
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_cs_lin_rv_cs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0], y[0]), (y[1], y[1]), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS2, y, yOffset).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im)
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vy.mul(va2))).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * a1[0];
+			k1 = x[xOffset + 1] * a1[1];
+			k2 = (x[xOffset + 0] + x[xOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + y[yOffset] * a2[0];
+			z[zOffset + 1] = k2 - k0 - k1 + y[yOffset] * a2[1];
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_cs_lin_rv_cs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = z[zOffset + 0] * a1 + x[xOffset + 0] * a2;
+			z[zOffset + 1] = z[zOffset + 1] * a1 + x[xOffset + 1] * a2;
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_rs_lin_cv_rs_i(z, zOffset >> 1, a1, x, xOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
 			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
 			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
 
 			xOffset += EPV;
 			yOffset += EPV;
 			zOffset += EPV;
-			count -= EPV;
+			count -= EPV2;
 		}
 
-		while (count-- > 0)
-			z[zOffset++] = x[xOffset++] * a1 + y[yOffset++] * a2;
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * a1 + y[yOffset + 0] * a2;
+			z[zOffset + 1] = x[xOffset + 1] * a1 + y[yOffset + 1] * a2;
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
 	}
 
-	public static void rv_rs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2[], int count) {
-		FloatVector va1 = null;
-		FloatVector va2re = null;
-		FloatVector va2im = null;
-		if (count >= EPV) {
-			va1 = FloatVector.broadcast(PFS, a1);
-			va2re = FloatVector.broadcast(PFS, a2[0]);
-			va2im = FloatVector.broadcast(PFS, a2[1]);
+	public static void cv_rs_lin_cv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_rs_lin_cv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS, a2);
 		}
 
 		zOffset <<= 1;
+		xOffset <<= 1;
 
-		while (count >= EPV) {
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
 
-			final FloatVector vrre = vx.fma(va1, vy.mul(va2re));
-			final FloatVector vrim = vy.mul(va2im);
-
-			// Store twice
-			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
-			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im)
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vx.mul(va2))).intoArray(z, zOffset);
 
 			xOffset += EPV;
-			yOffset += EPV;
-			zOffset += EPV * 2;
-			count -= EPV;
+			zOffset += EPV;
+			count -= EPV2;
 		}
 
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
 		while (count-- > 0) {
-			z[zOffset + 0] = x[xOffset] * a1 + y[yOffset] * a2[0];
-			z[zOffset + 1] = y[yOffset] * a2[1];
-			xOffset += 1;
-			yOffset += 1;
+			k0 = z[zOffset + 0] * a1[0];
+			k1 = z[zOffset + 1] * a1[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + x[xOffset + 0] * a2;
+			z[zOffset + 1] = k2 - k0 - k1 + x[xOffset + 1] * a2;
 			zOffset += 2;
+			xOffset += 2;
 		}
 	}
 
-	public static void rv_cs_lin_rv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
-		FloatVector va1re = null;
-		FloatVector va1im = null;
-		FloatVector va2re = null;
-		FloatVector va2im = null;
-		if (count >= EPV) {
+	public static void cv_cs_lin_cv_rs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_cs_lin_cv_rs_i(z, zOffset >> 1, a1, x, xOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
 			va1re = FloatVector.broadcast(PFS, a1[0]);
-			va1im = FloatVector.broadcast(PFS, a1[1]);
-			va2re = FloatVector.broadcast(PFS, a2[0]);
-			va2im = FloatVector.broadcast(PFS, a2[1]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS, a2);
 		}
 
 		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
 
-		while (count >= EPV) {
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
 			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
 
-			final FloatVector vrre = vx.fma(va1re, vy.mul(va2re));
-			final FloatVector vrim = vx.fma(va1im, vy.mul(va2im));
-
-			// Store twice
-			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
-			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im)
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vy.mul(va2))).intoArray(z, zOffset);
 
 			xOffset += EPV;
 			yOffset += EPV;
-			zOffset += EPV * 2;
-			count -= EPV;
+			zOffset += EPV;
+			count -= EPV2;
 		}
 
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
 		while (count-- > 0) {
-			z[zOffset + 0] = x[xOffset] * a1[0] + y[yOffset] * a2[0];
-			z[zOffset + 1] = x[xOffset] * a1[1] + y[yOffset] * a2[1];
-			xOffset += 1;
-			yOffset += 1;
+			k0 = x[xOffset + 0] * a1[0];
+			k1 = x[xOffset + 1] * a1[1];
+			k2 = (x[xOffset + 0] + x[xOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + y[yOffset + 0] * a2;
+			z[zOffset + 1] = k2 - k0 - k1 + y[yOffset + 1] * a2;
 			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
 		}
 	}
 
-	public static void cv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
-		FloatVector va1 = null;
-		FloatVector va2 = null;
+	public static void cv_cs_lin_cv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_cs_lin_cv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_i(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2re = null, va2im = null;
 		if (count >= EPV2) {
-			va1 = FloatVector.broadcast(PFS, a1);
-			va2 = FloatVector.broadcast(PFS2, a2);
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2re is [(a2.re, a2.re), (a2.re, a2.re), ...]
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			// va2im is [(-a2.im, a2.im), (-a2.im, a2.im), ...]
+			va2im = FloatVector.broadcast(PFS, a2[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
 		}
 
 		zOffset <<= 1;
+		xOffset <<= 1;
 
 		while (count >= EPV2) {
-			final FloatVector vx = FloatVector.fromArray(PFS2, x, xOffset);
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
 
-			// Rearrange of vx gives zeroes in im-parts and it could be added without any masks or blends
-			vz.fma(va1, vx.mul(va2).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE)).intoArray(z, zOffset);
+			// x * a2 is x * a2.re + swap(x) * (-a2.im, a2.im)
+			final FloatVector vxa2 = vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va2im, vx.mul(va2re));
+			// z * a1 + x * a2, z * a1 is calculated same way
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vxa2)).intoArray(z, zOffset);
 
-			xOffset += EPV2;
+			xOffset += EPV;
 			zOffset += EPV;
 			count -= EPV2;
 		}
 
+		float k0_1, k1_1, k2_1;
+		float a1s = a1[0] + a1[1];
+		float k0_2, k1_2, k2_2;
+		float a2s = a2[0] + a2[1];
 		while (count-- > 0) {
-			z[zOffset + 0] = z[zOffset + 0] * a1 + x[xOffset] * a2;
-			z[zOffset + 1] = z[zOffset + 1] * a1;
-			xOffset += 1;
+			k0_1 = z[zOffset + 0] * a1[0];
+			k1_1 = z[zOffset + 1] * a1[1];
+			k2_1 = (z[zOffset + 0] + z[zOffset + 1]) * a1s;
+			k0_2 = x[xOffset + 0] * a2[0];
+			k1_2 = x[xOffset + 1] * a2[1];
+			k2_2 = (x[xOffset + 0] + x[xOffset + 1]) * a2s;
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
 			zOffset += 2;
+			xOffset += 2;
 		}
 	}
 
-	public static void cv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
-		FloatVector va1 = null;
-		FloatVector va2 = null;
+	public static void cv_cs_lin_cv_cs_iw(float z[], int zOffset, float a1[], float x[], int xOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_cs_lin_cv_cs_i(z, zOffset >> 1, a1, x, xOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2re = null, va2im = null;
 		if (count >= EPV2) {
-			va1 = FloatVector.broadcast(PFS, a1);
-			va2 = FloatVector.broadcast(PFS2, a2);
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2re is [(a2.re, a2.re), (a2.re, a2.re), ...]
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			// va2im is [(-a2.im, a2.im), (-a2.im, a2.im), ...]
+			va2im = FloatVector.broadcast(PFS, a2[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
 		}
 
-		xOffset <<= 1;
 		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
 
 		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			final FloatVector vy = FloatVector.fromArray(PFS2, y, yOffset);
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
 
-			// Rearrange of vy gives zeroes in im-parts and it could be added without any masks or blends
-			vx.fma(va1, vy.mul(va2).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE)).intoArray(z, zOffset);
+			// y * a2 is y * a2.re + swap(y) * (-a2.im, a2.im)
+			final FloatVector vya2 = vy.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va2im, vy.mul(va2re));
+			// x * a1 + y * a2, x * a1 is calculated same way
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vya2)).intoArray(z, zOffset);
 
 			xOffset += EPV;
-			yOffset += EPV2;
+			yOffset += EPV;
 			zOffset += EPV;
 			count -= EPV2;
 		}
 
+		float k0_1, k1_1, k2_1;
+		float a1s = a1[0] + a1[1];
+		float k0_2, k1_2, k2_2;
+		float a2s = a2[0] + a2[1];
 		while (count-- > 0) {
-			z[zOffset + 0] = x[xOffset + 0] * a1 + y[yOffset] * a2;
-			z[zOffset + 1] = x[xOffset + 1] * a1;
-			xOffset += 2;
-			yOffset += 1;
+			k0_1 = x[xOffset + 0] * a1[0];
+			k1_1 = x[xOffset + 1] * a1[1];
+			k2_1 = (x[xOffset + 0] + x[xOffset + 1]) * a1s;
+			k0_2 = y[yOffset + 0] * a2[0];
+			k1_2 = y[yOffset + 1] * a2[1];
+			k2_2 = (y[yOffset + 0] + y[yOffset + 1]) * a2s;
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
 			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_w(float z[], int zOffset, float x[], int xOffset, float a1[], float y[], int yOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_cs_lin_cv_cs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
 		}
 	}
 
 	public static void rv_10log10_i(float z[], int zOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
-			vz.abs().lanewise(VectorOperators.LOG10).mul(10.0f).intoArray(z, zOffset);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 10 * (float)Math.log10(Math.abs(z[zOffset]) + Float.MIN_NORMAL);
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_10log10_iw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_10log10_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_if(float z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			log10_f(vz.abs().add(Float.MIN_NORMAL)).mul(10.0f).intoArray(z, zOffset);
 
 			zOffset += EPV;
 			count -= EPV;
@@ -3453,10 +6330,52 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_10log10_ifw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_10log10_if(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			vx.abs().lanewise(VectorOperators.LOG10).mul(10.0f).intoArray(z, zOffset);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL);
+	}
+
+	public static void rv_10log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_10log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// MIN_NORMAL keeps zero and denormals away from exponent tricks, as in scalar code
+			log10_f(vx.abs().add(Float.MIN_NORMAL)).mul(10.0f).intoArray(z, zOffset);
 
 			xOffset += EPV;
 			zOffset += EPV;
@@ -3467,12 +6386,27 @@ public final class VOVec {
 			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL);
 	}
 
+	public static void rv_10log10_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_10log10_f(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_10log10_rs_i(float z[], int zOffset, float base, int count) {
 		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
-			vz.abs().lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoArray(z, zOffset);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoArray(z, zOffset);
 
 			zOffset += EPV;
 			count -= EPV;
@@ -3484,12 +6418,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_10log10_rs_iw(float z[], int zOffset, float base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_10log10_rs_i(z, zOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
 		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			vx.abs().lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoArray(z, zOffset);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoArray(z, zOffset);
 
 			xOffset += EPV;
 			zOffset += EPV;
@@ -3500,6 +6446,21 @@ public final class VOVec {
 			z[zOffset++] = 10 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL) - base;
 	}
 
+	public static void rv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_10log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 
@@ -3519,7 +6480,7 @@ public final class VOVec {
 
 			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
 
-			vxabs.lanewise(VectorOperators.LOG10).mul(5.0f).intoArray(z, zOffset);
+			vxabs.add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(5.0f).intoArray(z, zOffset);
 
 			// We load twice as much complex numbers
 			xOffset += EPV * 2;
@@ -3534,6 +6495,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_10log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_10log10(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
 		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		xOffset <<= 1;
@@ -3554,7 +6530,7 @@ public final class VOVec {
 
 			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
 
-			vxabs.lanewise(VectorOperators.LOG10).mul(5.0f).sub(base).intoArray(z, zOffset);
+			vxabs.add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(5.0f).sub(base).intoArray(z, zOffset);
 
 			// We load twice as much complex numbers
 			xOffset += EPV * 2;
@@ -3569,10 +6545,25 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_10log10_rs(z, zOffset, x, xOffset >> 1, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_20log10_i(float z[], int zOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
-			vz.abs().lanewise(VectorOperators.LOG10).mul(20.0f).intoArray(z, zOffset);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).intoArray(z, zOffset);
 
 			zOffset += EPV;
 			count -= EPV;
@@ -3584,10 +6575,22 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_20log10_iw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_20log10_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			vx.abs().lanewise(VectorOperators.LOG10).mul(20.0f).intoArray(z, zOffset);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).intoArray(z, zOffset);
 
 			xOffset += EPV;
 			zOffset += EPV;
@@ -3598,12 +6601,27 @@ public final class VOVec {
 			z[zOffset++] = 20 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL);
 	}
 
+	public static void rv_20log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_20log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_20log10_rs_i(float z[], int zOffset, float base, int count) {
 		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 
 		while (count >= EPV) {
 			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
-			vz.abs().lanewise(VectorOperators.LOG10).mul(20.0f).sub(base).intoArray(z, zOffset);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).sub(base).intoArray(z, zOffset);
 
 			zOffset += EPV;
 			count -= EPV;
@@ -3615,12 +6633,24 @@ public final class VOVec {
 		}
 	}
 
+	public static void rv_20log10_rs_iw(float z[], int zOffset, float base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_20log10_rs_i(z, zOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void rv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
 		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 
 		while (count >= EPV) {
 			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
-			vx.abs().lanewise(VectorOperators.LOG10).mul(20.0f).sub(base).intoArray(z, zOffset);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).sub(base).intoArray(z, zOffset);
 
 			xOffset += EPV;
 			zOffset += EPV;
@@ -3631,6 +6661,21 @@ public final class VOVec {
 			z[zOffset++] = 20 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL) - base;
 	}
 
+	public static void rv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_20log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
 		xOffset <<= 1;
 
@@ -3650,7 +6695,56 @@ public final class VOVec {
 
 			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
 
-			vxabs.lanewise(VectorOperators.LOG10).mul(10.0f).intoArray(z, zOffset);
+			vxabs.add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 10 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL);
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_20log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_20log10(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_20log10_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			// 20 * log10(|x|) is 10 * log10(|x|^2)
+			log10_f(vxabs.add(Float.MIN_NORMAL)).mul(10.0f).intoArray(z, zOffset);
 
 			// We load twice as much complex numbers
 			xOffset += EPV * 2;
@@ -3665,6 +6759,21 @@ public final class VOVec {
 		}
 	}
 
+	public static void cv_20log10_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_20log10_f(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
 	public static void cv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
 		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
 		xOffset <<= 1;
@@ -3685,7 +6794,7 @@ public final class VOVec {
 
 			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
 
-			vxabs.lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoArray(z, zOffset);
+			vxabs.add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoArray(z, zOffset);
 
 			// We load twice as much complex numbers
 			xOffset += EPV * 2;
@@ -3699,4 +6808,105 @@ public final class VOVec {
 			zOffset += 1;
 		}
 	}
+
+	public static void cv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_20log10_rs(z, zOffset, x, xOffset >> 1, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	private static int preWrap(int i, int length) {
+		// Unlike VO.preWrap() it maps -length to 0 too, as runs loop can not tolerate offset == length
+		i %= length;
+		return (i < 0) ? (i + length) : i;
+	}
+
+	// Complex version of preWrap(), returns offset in floats; odd-length buffer has no room for last element's imaginary part
+	private static int preWrapCv(int i, int length) {
+		if ((length & 1) != 0)
+			throw new IllegalArgumentException("Complex vector must have even length, got " + length);
+		return preWrap(i << 1, length);
+	}
+
+	// Branch-free atan2() with max error about 1.2E-5, which is much better than FastTrig.atan2() gives
+	private static FloatVector atan2_f(FloatVector y, FloatVector x) {
+		final FloatVector ay = y.abs();
+		final FloatVector ax = x.abs();
+		// Reduce to [0, 1] and don't divide by zero: atan2(0, 0) is 0 as in FastTrig.atan2(), other ratios are exact, even for denormals
+		final FloatVector m = ax.max(ay);
+		final FloatVector q = ax.min(ay).div(m.blend(1.0f, m.compare(VectorOperators.EQ, 0.0f)));
+		final FloatVector q2 = q.mul(q);
+		// Abramowitz & Stegun 4.4.47, |error| <= 1E-5 on [0, 1]
+		FloatVector a = q2.fma(ATAN_C9, ATAN_C7).fma(q2, ATAN_C5).fma(q2, ATAN_C3).fma(q2, ATAN_C1).mul(q);
+		// [45, 90] is PI/2 - angle
+		final VectorMask<Float> swap = ay.compare(VectorOperators.GT, ax);
+		a = a.lanewise(VectorOperators.NEG, swap).add(FastTrig._1PI2, swap);
+		// [90, 180] is PI - angle
+		final VectorMask<Float> left = x.compare(VectorOperators.LT, 0.0f);
+		a = a.lanewise(VectorOperators.NEG, left).add(FastTrig._2PI2, left);
+		// Lower half-plane is -angle
+		return a.lanewise(VectorOperators.NEG, y.compare(VectorOperators.LT, 0.0f));
+	}
+
+	// exp() with max relative error about 8.5E-8: x = n * ln(2) + r, exp(x) = 2^n * exp(r)
+	private static FloatVector exp_f(FloatVector x) {
+		// Outside of this range result is 0 or infinity anyway, and n stays small enough for two halves of 2^n
+		final FloatVector vx = x.max(EXP_LO).min(EXP_HI);
+		final FloatVector vt = vx.fma(EXP_LOG2E, ROUND_MAGIC);
+		final FloatVector vn = vt.sub(ROUND_MAGIC);
+		final FloatVector vr = vn.fma(EXP_NEG_LN2_HI, vx).add(vn.mul(EXP_NEG_LN2_LO));
+		final FloatVector vr2 = vr.mul(vr);
+		final FloatVector vp = vr.fma(EXP_C5, EXP_C4).fma(vr, EXP_C3).fma(vr, EXP_C2).fma(vr, EXP_C1).fma(vr, EXP_C0).fma(vr2, vr).add(ONE);
+		// 2^n is built as 2^(n/2) * 2^(n - n/2), as denormal and infinite results need exponent out of range
+		final IntVector vni = vt.reinterpretAsInts().sub(ROUND_MAGIC_BITS);
+		final IntVector vn1 = vni.lanewise(VectorOperators.ASHR, 1);
+		final IntVector vn2 = vni.sub(vn1);
+		return vp.mul(vn1.add(127).lanewise(VectorOperators.LSHL, 23).reinterpretAsFloats())
+			.mul(vn2.add(127).lanewise(VectorOperators.LSHL, 23).reinterpretAsFloats());
+	}
+
+	// log10() of positive normal x with max error about 3.1E-5, which is 0.0003 dB of 10 * log10().
+	// x = 2^e * m, m in [sqrt(2)/2, sqrt(2)), and log10(x) = e * log10(2) + log10(m). Infinity and NaN are not handled.
+	private static FloatVector log10_f(FloatVector x) {
+		final IntVector vb = x.reinterpretAsInts();
+		final IntVector ve = vb.sub(LOG_SQRT_HALF_BITS).lanewise(VectorOperators.ASHR, 23);
+		final FloatVector vf = vb.sub(ve.lanewise(VectorOperators.LSHL, 23)).reinterpretAsFloats().sub(ONE);
+		// Exponent is converted to float by magic number too
+		final FloatVector ve2f = ve.add(ROUND_MAGIC_BITS).reinterpretAsFloats().sub(ROUND_MAGIC);
+		final FloatVector vp = vf.fma(LOG_C4, LOG_C3).fma(vf, LOG_C2).fma(vf, LOG_C1).mul(vf);
+		return ve2f.fma(LOG10_2, vp);
+	}
+
+	// Stores (g * cos(x), g * sin(x)) of packed g and x as TWO complex vectors. Sine and cosine share
+	// range reduction x = n * PI/2 + r, |r| <= PI/4, and n mod 4 selects polynomial and sign for each one.
+	// Max error is about 7E-8 for |x| <= 8192, for larger arguments reduction loses precision.
+	private static void expi_f(float z[], int zOffset, FloatVector vg, FloatVector vx) {
+		final FloatVector vt = vx.fma(SC_2_PI, ROUND_MAGIC);
+		final FloatVector vn = vt.sub(ROUND_MAGIC);
+		final FloatVector vr = vn.fma(SC_NEG_PI2_A, vx).add(vn.mul(SC_NEG_PI2_B)).add(vn.mul(SC_NEG_PI2_C));
+		final FloatVector vr2 = vr.mul(vr);
+		final FloatVector vps = vr2.fma(SIN_C7, SIN_C5).fma(vr2, SIN_C3).mul(vr2).fma(vr, vr);
+		final FloatVector vpc = vr2.fma(COS_C8, COS_C6).fma(vr2, COS_C4).fma(vr2, COS_C2).fma(vr2, ONE);
+		// Low bits of rounded x * 2/PI are n mod 4: odd quadrants swap sine and cosine
+		final IntVector vq = vt.reinterpretAsInts();
+		final VectorMask<Float> swap = vq.and(1).compare(VectorOperators.NE, 0).cast(PFS);
+		final VectorMask<Float> negc = vq.add(1).and(2).compare(VectorOperators.NE, 0).cast(PFS);
+		final VectorMask<Float> negs = vq.and(2).compare(VectorOperators.NE, 0).cast(PFS);
+		final FloatVector vc = vpc.blend(vps, swap).lanewise(VectorOperators.NEG, negc);
+		final FloatVector vs = vps.blend(vpc, swap).lanewise(VectorOperators.NEG, negs);
+
+		final FloatVector vrre = vg.mul(vc);
+		final FloatVector vrim = vg.mul(vs);
+		vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+		vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+	}
 }
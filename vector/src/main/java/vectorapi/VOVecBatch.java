@@ -0,0 +1,2507 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+// Generated by genBatch.pl from VOVec.java, don't edit
+
+package vectorapi;
+
+/**
+ * Multi-channel wrappers over {@link VOVec}.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOVecBatch {
+	public static void rv_add_rs_i(float z[], int zOffset, int zStride, float x, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_add_rs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_add_rs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_add_rs_i(float z[][], int zOffset, float x, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_add_rs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void rv_add_rv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_add_rv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_add_rv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_add_rv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_add_rv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_add_rs_i(float z[], int zOffset, int zStride, float x, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_add_rs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_add_rs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_add_rs_i(float z[][], int zOffset, float x, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_add_rs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void cv_add_rv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_add_rv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_add_rv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_add_rv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_add_rv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_add_cs_i(float z[], int zOffset, int zStride, float x[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_add_cs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_add_cs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_add_cs_i(float z[][], int zOffset, float x[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_add_cs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void cv_add_cv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_add_cv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_add_cv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_add_cv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_add_cv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_add_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_add_rs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_add_rs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_add_rs(float z[][], int zOffset, float x[][], int xOffset, float y, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_add_rs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void rv_add_rv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_add_rv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_add_rv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_add_rv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_add_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_add_rs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_add_rs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_add_rs(float z[][], int zOffset, float x[][], int xOffset, float y, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_add_rs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void cv_add_rv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_add_rv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_add_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_add_rv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_add_rv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_add_cs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_add_cs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_add_cs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_add_cs(float z[][], int zOffset, float x[][], int xOffset, float y[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_add_cs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void cv_add_cv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_add_cv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_add_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_add_cv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_add_cv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void rv_sub_rs_i(float z[], int zOffset, int zStride, float x, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_sub_rs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_sub_rs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_sub_rs_i(float z[][], int zOffset, float x, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_sub_rs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void rv_sub_rv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_sub_rv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_sub_rv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_sub_rv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_sub_rv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_sub_rs_i(float z[], int zOffset, int zStride, float x, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_sub_rs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_sub_rs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_sub_rs_i(float z[][], int zOffset, float x, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_sub_rs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void cv_sub_rv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_sub_rv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_sub_rv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_sub_rv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_sub_rv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_sub_cs_i(float z[], int zOffset, int zStride, float x[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_sub_cs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_sub_cs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_sub_cs_i(float z[][], int zOffset, float x[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_sub_cs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void cv_sub_cv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_sub_cv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_sub_cv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_sub_cv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_sub_cv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_sub_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_sub_rs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_sub_rs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_sub_rs(float z[][], int zOffset, float x[][], int xOffset, float y, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_sub_rs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void rs_sub_rv(float z[], int zOffset, int zStride, float x, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && yStride == count) {
+			VOVec.rs_sub_rv(z, zOffset, x, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rs_sub_rv(z, zOffset, x, y, yOffset, count);
+			zOffset += zStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rs_sub_rv(float z[][], int zOffset, float x, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rs_sub_rv(z[ch], zOffset, x, y[ch], yOffset, count);
+	}
+
+	public static void rv_sub_rv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_sub_rv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_sub_rv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_sub_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_sub_rs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_sub_rs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_sub_rs(float z[][], int zOffset, float x[][], int xOffset, float y, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_sub_rs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void rs_sub_cv(float z[], int zOffset, int zStride, float x, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && yStride == count) {
+			VOVec.rs_sub_cv(z, zOffset, x, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rs_sub_cv(z, zOffset, x, y, yOffset, count);
+			zOffset += zStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rs_sub_cv(float z[][], int zOffset, float x, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rs_sub_cv(z[ch], zOffset, x, y[ch], yOffset, count);
+	}
+
+	public static void cv_sub_rv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_sub_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_sub_rv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_sub_rv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void rv_sub_cv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_sub_cv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_sub_cv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_sub_cs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_sub_cs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_sub_cs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_sub_cs(float z[][], int zOffset, float x[][], int xOffset, float y[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_sub_cs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void cs_sub_cv(float z[], int zOffset, int zStride, float x[], float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && yStride == count) {
+			VOVec.cs_sub_cv(z, zOffset, x, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cs_sub_cv(z, zOffset, x, y, yOffset, count);
+			zOffset += zStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cs_sub_cv(float z[][], int zOffset, float x[], float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cs_sub_cv(z[ch], zOffset, x, y[ch], yOffset, count);
+	}
+
+	public static void cv_sub_cv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_sub_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_sub_cv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_sub_cv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void rv_mul_rs_i(float z[], int zOffset, int zStride, float x, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_mul_rs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_mul_rs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_mul_rs_i(float z[][], int zOffset, float x, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_mul_rs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void rv_mul_rv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_mul_rv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_mul_rv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_mul_rv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_mul_rv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_mul_rs_i(float z[], int zOffset, int zStride, float x, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_mul_rs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_mul_rs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_mul_rs_i(float z[][], int zOffset, float x, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_mul_rs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void cv_mul_rv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_mul_rv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_mul_rv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_mul_rv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_mul_rv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_mul_cs_i(float z[], int zOffset, int zStride, float x[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_mul_cs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_mul_cs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_mul_cs_i(float z[][], int zOffset, float x[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_mul_cs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void cv_mul_cv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_mul_cv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_mul_cv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_mul_cv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_mul_cv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_mul_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_mul_rs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_mul_rs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_mul_rs(float z[][], int zOffset, float x[][], int xOffset, float y, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_mul_rs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void rv_mul_rv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_mul_rv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_mul_rv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_mul_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_mul_rs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_mul_rs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_mul_rs(float z[][], int zOffset, float x[][], int xOffset, float y, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_mul_rs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void cv_mul_rv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_mul_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_mul_rv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_mul_rv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_mul_cs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_mul_cs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_mul_cs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_mul_cs(float z[][], int zOffset, float x[][], int xOffset, float y[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_mul_cs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void cv_mul_cv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_mul_cv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_mul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_mul_cv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_mul_cv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void rv_div_rs_i(float z[], int zOffset, int zStride, float x, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_div_rs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_div_rs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_div_rs_i(float z[][], int zOffset, float x, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_div_rs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void rv_div_rv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_div_rv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_div_rv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_div_rv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_div_rv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_div_rs_i(float z[], int zOffset, int zStride, float x, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_div_rs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_div_rs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_div_rs_i(float z[][], int zOffset, float x, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_div_rs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void cv_div_rv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_div_rv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_div_rv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_div_rv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_div_rv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_div_cs_i(float z[], int zOffset, int zStride, float x[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_div_cs_i(z, zOffset, x, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_div_cs_i(z, zOffset, x, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_div_cs_i(float z[][], int zOffset, float x[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_div_cs_i(z[ch], zOffset, x, count);
+	}
+
+	public static void cv_div_cv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_div_cv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_div_cv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_div_cv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_div_cv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_div_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_div_rs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_div_rs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_div_rs(float z[][], int zOffset, float x[][], int xOffset, float y, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_div_rs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void rs_div_rv(float z[], int zOffset, int zStride, float x, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && yStride == count) {
+			VOVec.rs_div_rv(z, zOffset, x, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rs_div_rv(z, zOffset, x, y, yOffset, count);
+			zOffset += zStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rs_div_rv(float z[][], int zOffset, float x, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rs_div_rv(z[ch], zOffset, x, y[ch], yOffset, count);
+	}
+
+	public static void rv_div_rv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_div_rv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_div_rv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_div_rv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_div_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_div_rs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_div_rs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_div_rs(float z[][], int zOffset, float x[][], int xOffset, float y, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_div_rs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void rs_div_cv(float z[], int zOffset, int zStride, float x, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && yStride == count) {
+			VOVec.rs_div_cv(z, zOffset, x, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rs_div_cv(z, zOffset, x, y, yOffset, count);
+			zOffset += zStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rs_div_cv(float z[][], int zOffset, float x, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rs_div_cv(z[ch], zOffset, x, y[ch], yOffset, count);
+	}
+
+	public static void cv_div_rv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_div_rv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_div_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_div_rv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_div_rv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void rv_div_cv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_div_cv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_div_cv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_div_cv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_div_cs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_div_cs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_div_cs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_div_cs(float z[][], int zOffset, float x[][], int xOffset, float y[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_div_cs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void cs_div_cv(float z[], int zOffset, int zStride, float x[], float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && yStride == count) {
+			VOVec.cs_div_cv(z, zOffset, x, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cs_div_cv(z, zOffset, x, y, yOffset, count);
+			zOffset += zStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cs_div_cv(float z[][], int zOffset, float x[], float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cs_div_cv(z[ch], zOffset, x, y[ch], yOffset, count);
+	}
+
+	public static void cv_div_cv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_div_cv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_div_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_div_cv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_div_cv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void rv_conjmul_cv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_conjmul_cv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_conjmul_cv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_conjmul_cv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_conjmul_cv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_conjmul_cv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_conjmul_cv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_conjmul_cv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_conjmul_cv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_conjmul_cv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_conjmul_cv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_conj_i(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_conj_i(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_conj_i(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_conj_i(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_conj_i(z[ch], zOffset, count);
+	}
+
+	public static void cv_conj(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_conj(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_conj(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_conj(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_conj(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_expi(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_expi(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_expi(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_expi(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_expi(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_expi_f(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_expi_f(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_expi_f(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_expi_f(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_expi_f(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_exp_i(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_exp_i(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_exp_i(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_exp_i(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_exp_i(z[ch], zOffset, count);
+	}
+
+	public static void cv_exp_i(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_exp_i(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_exp_i(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_exp_i(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_exp_i(z[ch], zOffset, count);
+	}
+
+	public static void cv_exp_if(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_exp_if(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_exp_if(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_exp_if(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_exp_if(z[ch], zOffset, count);
+	}
+
+	public static void rv_exp(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_exp(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_exp(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_exp(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_exp(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_exp(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_exp(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_exp(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_exp(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_exp(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_exp_f(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_exp_f(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_exp_f(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_exp_f(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_exp_f(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_im(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_im(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_im(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_im(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_im(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_re(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_re(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_re(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_re(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_re(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_abs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_abs(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_abs(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_abs(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_abs(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_arg(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_arg(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_arg(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_arg(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_arg(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_arg_f(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_arg_f(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_arg_f(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_arg_f(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_arg_f(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_argmul_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_argmul_rs(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_argmul_rs(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_argmul_rs(float z[][], int zOffset, float x[][], int xOffset, float y, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_argmul_rs(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void cv_argmul_rs_f(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_argmul_rs_f(z, zOffset, x, xOffset, y, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_argmul_rs_f(z, zOffset, x, xOffset, y, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_argmul_rs_f(float z[][], int zOffset, float x[][], int xOffset, float y, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_argmul_rs_f(z[ch], zOffset, x[ch], xOffset, y, count);
+	}
+
+	public static void rv_abs_i(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_abs_i(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_abs_i(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_abs_i(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_abs_i(z[ch], zOffset, count);
+	}
+
+	public static void rv_abs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_abs(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_abs(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_abs(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_abs(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_cvt(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_cvt(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_cvt(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_cvt(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_cvt(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_r2p_i(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_r2p_i(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_r2p_i(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_r2p_i(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_r2p_i(z[ch], zOffset, count);
+	}
+
+	public static void cv_r2p_if(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_r2p_if(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_r2p_if(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_r2p_if(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_r2p_if(z[ch], zOffset, count);
+	}
+
+	public static void cv_r2p(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_r2p(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_r2p(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_r2p(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_r2p(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_r2p_f(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_r2p_f(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_r2p_f(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_r2p_f(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_r2p_f(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_p2r_i(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.cv_p2r_i(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_p2r_i(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void cv_p2r_i(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_p2r_i(z[ch], zOffset, count);
+	}
+
+	public static void cv_p2r(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_p2r(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_p2r(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_p2r(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_p2r(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_sum(float z[], int zOffset, float x[], int xOffset, int xStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			z[zOffset + ch] = VOVec.rv_sum(x, xOffset, count);
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_sum(float z[], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			z[zOffset + ch] = VOVec.rv_sum(x[ch], xOffset, count);
+	}
+
+	public static void cv_sum(float z[], int zOffset, float x[], int xOffset, int xStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_sum(z, zOffset + ch, x, xOffset, count);
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_sum(float z[], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			VOVec.cv_sum(z, zOffset + ch, x[ch], xOffset, count);
+	}
+
+	public static void rv_dot_rv(float z[], int zOffset, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			z[zOffset + ch] = VOVec.rv_dot_rv(x, xOffset, y, yOffset, count);
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_dot_rv(float z[], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			z[zOffset + ch] = VOVec.rv_dot_rv(x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void rv_dot_cv(float z[], int zOffset, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_dot_cv(z, zOffset + ch, x, xOffset, y, yOffset, count);
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_dot_cv(float z[], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			VOVec.rv_dot_cv(z, zOffset + ch, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_dot_cv(float z[], int zOffset, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_dot_cv(z, zOffset + ch, x, xOffset, y, yOffset, count);
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_dot_cv(float z[], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			VOVec.cv_dot_cv(z, zOffset + ch, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void rv_cpy(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_cpy(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_cpy(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_cpy(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_cpy(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_cpy(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_cpy(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_cpy(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_cpy(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_cpy(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_max(float z[], int zOffset, float x[], int xOffset, int xStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			z[zOffset + ch] = VOVec.rv_max(x, xOffset, count);
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_max(float z[], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			z[zOffset + ch] = VOVec.rv_max(x[ch], xOffset, count);
+	}
+
+	public static void rv_max_rv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_max_rv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_max_rv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_max_rv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_max_rv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_max_rv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_max_rv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_max_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_max_rv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_max_rv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_max(float z[], int zOffset, float x[], int xOffset, int xStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_max(z, zOffset + ch, x, xOffset, count);
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_max(float z[], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			VOVec.cv_max(z, zOffset + ch, x[ch], xOffset, count);
+	}
+
+	public static void cv_max_cv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_max_cv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_max_cv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_max_cv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_max_cv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_max_cv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_max_cv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_max_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_max_cv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_max_cv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void rv_min(float z[], int zOffset, float x[], int xOffset, int xStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			z[zOffset + ch] = VOVec.rv_min(x, xOffset, count);
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_min(float z[], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			z[zOffset + ch] = VOVec.rv_min(x[ch], xOffset, count);
+	}
+
+	public static void rv_min_rv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_min_rv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_min_rv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_min_rv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_min_rv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_min_rv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_min_rv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_min_rv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_min_rv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_min_rv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void cv_min(float z[], int zOffset, float x[], int xOffset, int xStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_min(z, zOffset + ch, x, xOffset, count);
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_min(float z[], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			VOVec.cv_min(z, zOffset + ch, x[ch], xOffset, count);
+	}
+
+	public static void cv_min_cv_i(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_min_cv_i(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_min_cv_i(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_min_cv_i(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_min_cv_i(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_min_cv(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float y[], int yOffset, int yStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_min_cv(z, zOffset, x, xOffset, y, yOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_min_cv(z, zOffset, x, xOffset, y, yOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_min_cv(float z[][], int zOffset, float x[][], int xOffset, float y[][], int yOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_min_cv(z[ch], zOffset, x[ch], xOffset, y[ch], yOffset, count);
+	}
+
+	public static void rv_maxarg(int z[], int zOffset, float x[], int xOffset, int xStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			z[zOffset + ch] = VOVec.rv_maxarg(x, xOffset, count);
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_maxarg(int z[], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			z[zOffset + ch] = VOVec.rv_maxarg(x[ch], xOffset, count);
+	}
+
+	public static void cv_maxarg(int z[], int zOffset, float x[], int xOffset, int xStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			z[zOffset + ch] = VOVec.cv_maxarg(x, xOffset, count);
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_maxarg(int z[], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			z[zOffset + ch] = VOVec.cv_maxarg(x[ch], xOffset, count);
+	}
+
+	public static void rv_minarg(int z[], int zOffset, float x[], int xOffset, int xStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			z[zOffset + ch] = VOVec.rv_minarg(x, xOffset, count);
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_minarg(int z[], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			z[zOffset + ch] = VOVec.rv_minarg(x[ch], xOffset, count);
+	}
+
+	public static void cv_minarg(int z[], int zOffset, float x[], int xOffset, int xStride, int count, int channels) {
+		for (int ch = 0; ch < channels; ch++) {
+			z[zOffset + ch] = VOVec.cv_minarg(x, xOffset, count);
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_minarg(int z[], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < x.length; ch++)
+			z[zOffset + ch] = VOVec.cv_minarg(x[ch], xOffset, count);
+	}
+
+	public static void rv_rs_lin_rv_rs_i(float z[], int zOffset, int zStride, float a1, float x[], int xOffset, int xStride, float a2, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs_i(float z[][], int zOffset, float a1, float x[][], int xOffset, float a2, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_rs_lin_rv_rs_i(z[ch], zOffset, a1, x[ch], xOffset, a2, count);
+	}
+
+	public static void rv_rs_lin_rv_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float a1, float y[], int yOffset, int yStride, float a2, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs(float z[][], int zOffset, float x[][], int xOffset, float a1, float y[][], int yOffset, float a2, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_rs_lin_rv_rs(z[ch], zOffset, x[ch], xOffset, a1, y[ch], yOffset, a2, count);
+	}
+
+	public static void rv_rs_lin_rv_cs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float a1, float y[], int yOffset, int yStride, float a2[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_rs_lin_rv_cs(float z[][], int zOffset, float x[][], int xOffset, float a1, float y[][], int yOffset, float a2[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_rs_lin_rv_cs(z[ch], zOffset, x[ch], xOffset, a1, y[ch], yOffset, a2, count);
+	}
+
+	public static void rv_cs_lin_rv_cs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float a1[], float y[], int yOffset, int yStride, float a2[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.rv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.rv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void rv_cs_lin_rv_cs(float z[][], int zOffset, float x[][], int xOffset, float a1[], float y[][], int yOffset, float a2[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.rv_cs_lin_rv_cs(z[ch], zOffset, x[ch], xOffset, a1, y[ch], yOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_rs_i(float z[], int zOffset, int zStride, float a1, float x[], int xOffset, int xStride, float a2, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_i(float z[][], int zOffset, float a1, float x[][], int xOffset, float a2, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_rs_lin_rv_rs_i(z[ch], zOffset, a1, x[ch], xOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float a1, float y[], int yOffset, int yStride, float a2, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs(float z[][], int zOffset, float x[][], int xOffset, float a1, float y[][], int yOffset, float a2, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_rs_lin_rv_rs(z[ch], zOffset, x[ch], xOffset, a1, y[ch], yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_rs_i(float z[], int zOffset, int zStride, float a1[], float x[], int xOffset, int xStride, float a2, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_cs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_cs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_i(float z[][], int zOffset, float a1[], float x[][], int xOffset, float a2, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_cs_lin_rv_rs_i(z[ch], zOffset, a1, x[ch], xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float a1[], float y[], int yOffset, int yStride, float a2, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_cs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_cs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs(float z[][], int zOffset, float x[][], int xOffset, float a1[], float y[][], int yOffset, float a2, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_cs_lin_rv_rs(z[ch], zOffset, x[ch], xOffset, a1, y[ch], yOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_cs_i(float z[], int zOffset, int zStride, float a1, float x[], int xOffset, int xStride, float a2[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_rs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_rs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_i(float z[][], int zOffset, float a1, float x[][], int xOffset, float a2[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_rs_lin_rv_cs_i(z[ch], zOffset, a1, x[ch], xOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_rv_cs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float a1, float y[], int yOffset, int yStride, float a2[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs(float z[][], int zOffset, float x[][], int xOffset, float a1, float y[][], int yOffset, float a2[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_rs_lin_rv_cs(z[ch], zOffset, x[ch], xOffset, a1, y[ch], yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_cs_i(float z[], int zOffset, int zStride, float a1[], float x[], int xOffset, int xStride, float a2[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_cs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_cs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_i(float z[][], int zOffset, float a1[], float x[][], int xOffset, float a2[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_cs_lin_rv_cs_i(z[ch], zOffset, a1, x[ch], xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_rv_cs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float a1[], float y[], int yOffset, int yStride, float a2[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs(float z[][], int zOffset, float x[][], int xOffset, float a1[], float y[][], int yOffset, float a2[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_cs_lin_rv_cs(z[ch], zOffset, x[ch], xOffset, a1, y[ch], yOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_cv_rs_i(float z[], int zOffset, int zStride, float a1, float x[], int xOffset, int xStride, float a2, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_rs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_rs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_i(float z[][], int zOffset, float a1, float x[][], int xOffset, float a2, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_rs_lin_cv_rs_i(z[ch], zOffset, a1, x[ch], xOffset, a2, count);
+	}
+
+	public static void cv_rs_lin_cv_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float a1, float y[], int yOffset, int yStride, float a2, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_rs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.cv_rs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs(float z[][], int zOffset, float x[][], int xOffset, float a1, float y[][], int yOffset, float a2, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.cv_rs_lin_cv_rs(z[ch], zOffset, x[ch], xOffset, a1, y[ch], yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_rs_i(float z[], int zOffset, int zStride, float a1[], float x[], int xOffset, int xStride, float a2, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_cs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_cs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_i(float z[][], int zOffset, float a1[], float x[][], int xOffset, float a2, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_cs_lin_cv_rs_i(z[ch], zOffset, a1, x[ch], xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float a1[], float y[], int yOffset, int yStride, float a2, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_cs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_cs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs(float z[][], int zOffset, float x[][], int xOffset, float a1[], float y[][], int yOffset, float a2, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_cs_lin_cv_rs(z[ch], zOffset, x[ch], xOffset, a1, y[ch], yOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_cs_i(float z[], int zOffset, int zStride, float a1[], float x[], int xOffset, int xStride, float a2[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_cs_lin_cv_cs_i(z, zOffset, a1, x, xOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_cs_lin_cv_cs_i(z, zOffset, a1, x, xOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_i(float z[][], int zOffset, float a1[], float x[][], int xOffset, float a2[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_cs_lin_cv_cs_i(z[ch], zOffset, a1, x[ch], xOffset, a2, count);
+	}
+
+	public static void cv_cs_lin_cv_cs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float a1[], float y[], int yOffset, int yStride, float a2[], int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count && yStride == count) {
+			VOVec.cv_cs_lin_cv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_cs_lin_cv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, count);
+			zOffset += zStride;
+			xOffset += xStride;
+			yOffset += yStride;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs(float z[][], int zOffset, float x[][], int xOffset, float a1[], float y[][], int yOffset, float a2[], int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_cs_lin_cv_cs(z[ch], zOffset, x[ch], xOffset, a1, y[ch], yOffset, a2, count);
+	}
+
+	public static void rv_10log10_i(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_10log10_i(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_10log10_i(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_10log10_i(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_10log10_i(z[ch], zOffset, count);
+	}
+
+	public static void rv_10log10_if(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_10log10_if(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_10log10_if(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_10log10_if(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_10log10_if(z[ch], zOffset, count);
+	}
+
+	public static void rv_10log10(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_10log10(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_10log10(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_10log10(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_10log10(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_10log10_f(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_10log10_f(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_10log10_f(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_10log10_f(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_10log10_f(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_10log10_rs_i(float z[], int zOffset, int zStride, float base, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_10log10_rs_i(z, zOffset, base, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_10log10_rs_i(z, zOffset, base, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_10log10_rs_i(float z[][], int zOffset, float base, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_10log10_rs_i(z[ch], zOffset, base, count);
+	}
+
+	public static void rv_10log10_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float base, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_10log10_rs(z, zOffset, x, xOffset, base, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_10log10_rs(z, zOffset, x, xOffset, base, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_10log10_rs(float z[][], int zOffset, float x[][], int xOffset, float base, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_10log10_rs(z[ch], zOffset, x[ch], xOffset, base, count);
+	}
+
+	public static void cv_10log10(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_10log10(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_10log10(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_10log10(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_10log10(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_10log10_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float base, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_10log10_rs(z, zOffset, x, xOffset, base, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_10log10_rs(z, zOffset, x, xOffset, base, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_10log10_rs(float z[][], int zOffset, float x[][], int xOffset, float base, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_10log10_rs(z[ch], zOffset, x[ch], xOffset, base, count);
+	}
+
+	public static void rv_20log10_i(float z[], int zOffset, int zStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_20log10_i(z, zOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_20log10_i(z, zOffset, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_20log10_i(float z[][], int zOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_20log10_i(z[ch], zOffset, count);
+	}
+
+	public static void rv_20log10(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_20log10(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_20log10(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_20log10(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_20log10(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void rv_20log10_rs_i(float z[], int zOffset, int zStride, float base, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count) {
+			VOVec.rv_20log10_rs_i(z, zOffset, base, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_20log10_rs_i(z, zOffset, base, count);
+			zOffset += zStride;
+		}
+	}
+
+	public static void rv_20log10_rs_i(float z[][], int zOffset, float base, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_20log10_rs_i(z[ch], zOffset, base, count);
+	}
+
+	public static void rv_20log10_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float base, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.rv_20log10_rs(z, zOffset, x, xOffset, base, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVecMasked.rv_20log10_rs(z, zOffset, x, xOffset, base, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void rv_20log10_rs(float z[][], int zOffset, float x[][], int xOffset, float base, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVecMasked.rv_20log10_rs(z[ch], zOffset, x[ch], xOffset, base, count);
+	}
+
+	public static void cv_20log10(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_20log10(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_20log10(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_20log10(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_20log10(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_20log10_f(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_20log10_f(z, zOffset, x, xOffset, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_20log10_f(z, zOffset, x, xOffset, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_20log10_f(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_20log10_f(z[ch], zOffset, x[ch], xOffset, count);
+	}
+
+	public static void cv_20log10_rs(float z[], int zOffset, int zStride, float x[], int xOffset, int xStride, float base, int count, int channels) {
+		// Channels without gaps are one long vector
+		if (zStride == count && xStride == count) {
+			VOVec.cv_20log10_rs(z, zOffset, x, xOffset, base, count * channels);
+			return;
+		}
+		for (int ch = 0; ch < channels; ch++) {
+			VOVec.cv_20log10_rs(z, zOffset, x, xOffset, base, count);
+			zOffset += zStride;
+			xOffset += xStride;
+		}
+	}
+
+	public static void cv_20log10_rs(float z[][], int zOffset, float x[][], int xOffset, float base, int count) {
+		for (int ch = 0; ch < z.length; ch++)
+			VOVec.cv_20log10_rs(z[ch], zOffset, x[ch], xOffset, base, count);
+	}
+}
@@ -0,0 +1,370 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+/**
+ * Operations of {@link VOVec} with complex scalar bound once: broadcast and
+ * spread vectors of scalar are built by {@code bind*()} and reused by all
+ * calls. Value of scalar is copied, so later changes of array don't affect
+ * bound operation. Results are the same as results of {@link VOVec}.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOVecBound {
+	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static VectorMask<Float> MASK_C_IM;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_RE;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_IM;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM;
+
+	static {
+		boolean[] alter = new boolean[EPV + 1];
+		alter[0] = true;
+		for (int i = 1; i < alter.length; i++)
+			alter[i] = !alter[i - 1];
+		MASK_C_IM = VectorMask.fromArray(PFS, alter, 1);
+
+		// [(re0, im0), (re1, im1), ...] -> [(re0, re0), (re1, re1), ...]
+		SHUFFLE_CV_SPREAD_RE = VectorShuffle.fromOp(PFS, i -> i - i % 2);
+		// [(re0, im0), (re1, im1), ...] -> [(im0, im0), (im1, im1), ...]
+		SHUFFLE_CV_SPREAD_IM = VectorShuffle.fromOp(PFS, i -> i - i % 2 + 1);
+		// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+	}
+
+	public static CvAddCs bindAddCs(float y[]) {
+		return new CvAddCs(y);
+	}
+
+	public static CvSubCs bindSubCs(float y[]) {
+		return new CvSubCs(y);
+	}
+
+	public static CsSubCv bindCsSub(float x[]) {
+		return new CsSubCv(x);
+	}
+
+	public static CvMulCs bindMulCs(float y[]) {
+		return new CvMulCs(y);
+	}
+
+	public static CvDivCs bindDivCs(float y[]) {
+		return new CvDivCs(y);
+	}
+
+	public static CsDivCv bindCsDiv(float x[]) {
+		return new CsDivCv(x);
+	}
+
+	// [(y.re, y.im), (y.re, y.im), ...]
+	private static FloatVector spread(float re, float im) {
+		return FloatVector.broadcast(PFS, re).blend(FloatVector.broadcast(PFS, im), MASK_C_IM);
+	}
+
+	/** {@code cv + cs}, see {@link VOVec#cv_add_cs(float[], int, float[], int, float[], int)}. */
+	public final static class CvAddCs {
+		private final float re;
+		private final float im;
+		private final FloatVector vy;
+
+		private CvAddCs(float y[]) {
+			re = y[0];
+			im = y[1];
+			vy = spread(re, im);
+		}
+
+		public void apply(float z[], int zOffset, float x[], int xOffset, int count) {
+			xOffset <<= 1;
+			zOffset <<= 1;
+
+			while (count >= EPV2) {
+				final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+				vx.add(vy).intoArray(z, zOffset);
+
+				xOffset += EPV;
+				zOffset += EPV;
+				count -= EPV2;
+			}
+
+			while (count-- > 0) {
+				z[zOffset + 0] = x[xOffset + 0] + re;
+				z[zOffset + 1] = x[xOffset + 1] + im;
+				xOffset += 2;
+				zOffset += 2;
+			}
+		}
+
+		public void apply_i(float z[], int zOffset, int count) {
+			apply(z, zOffset, z, zOffset, count);
+		}
+	}
+
+	/** {@code cv - cs}, see {@link VOVec#cv_sub_cs(float[], int, float[], int, float[], int)}. */
+	public final static class CvSubCs {
+		private final float re;
+		private final float im;
+		private final FloatVector vy;
+
+		private CvSubCs(float y[]) {
+			re = y[0];
+			im = y[1];
+			vy = spread(re, im);
+		}
+
+		public void apply(float z[], int zOffset, float x[], int xOffset, int count) {
+			xOffset <<= 1;
+			zOffset <<= 1;
+
+			while (count >= EPV2) {
+				final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+				vx.sub(vy).intoArray(z, zOffset);
+
+				xOffset += EPV;
+				zOffset += EPV;
+				count -= EPV2;
+			}
+
+			while (count-- > 0) {
+				z[zOffset + 0] = x[xOffset + 0] - re;
+				z[zOffset + 1] = x[xOffset + 1] - im;
+				xOffset += 2;
+				zOffset += 2;
+			}
+		}
+
+		public void apply_i(float z[], int zOffset, int count) {
+			apply(z, zOffset, z, zOffset, count);
+		}
+	}
+
+	/** {@code cs - cv}, see {@link VOVec#cs_sub_cv(float[], int, float[], float[], int, int)}. */
+	public final static class CsSubCv {
+		private final float re;
+		private final float im;
+		private final FloatVector vx;
+
+		private CsSubCv(float x[]) {
+			re = x[0];
+			im = x[1];
+			vx = spread(re, im);
+		}
+
+		public void apply(float z[], int zOffset, float y[], int yOffset, int count) {
+			yOffset <<= 1;
+			zOffset <<= 1;
+
+			while (count >= EPV2) {
+				final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+				vx.sub(vy).intoArray(z, zOffset);
+
+				yOffset += EPV;
+				zOffset += EPV;
+				count -= EPV2;
+			}
+
+			while (count-- > 0) {
+				z[zOffset + 0] = re - y[yOffset + 0];
+				z[zOffset + 1] = im - y[yOffset + 1];
+				yOffset += 2;
+				zOffset += 2;
+			}
+		}
+
+		public void apply_i(float z[], int zOffset, int count) {
+			apply(z, zOffset, z, zOffset, count);
+		}
+	}
+
+	/** {@code cv * cs}, see {@link VOVec#cv_mul_cs(float[], int, float[], int, float[], int)}. */
+	public final static class CvMulCs {
+		private final float re;
+		private final float im;
+		// [(y.re, y.re), (y.re, y.re), ...]
+		private final FloatVector vyre;
+		// [(y.im, y.im), (y.im, y.im), ...]
+		private final FloatVector vyim;
+
+		private CvMulCs(float y[]) {
+			re = y[0];
+			im = y[1];
+			vyre = FloatVector.broadcast(PFS, re);
+			vyim = FloatVector.broadcast(PFS, im);
+		}
+
+		public void apply(float z[], int zOffset, float x[], int xOffset, int count) {
+			zOffset <<= 1;
+			xOffset <<= 1;
+			while (count >= EPV2) {
+				final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+				final FloatVector vmulyre = vx.mul(vyre);
+				final FloatVector vmulyim = vx.mul(vyim);
+				final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+				final FloatVector vrre = vmulyre.sub(vmulximswap);
+				final FloatVector vrim = vmulyre.add(vmulximswap);
+
+				vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+				xOffset += EPV;
+				zOffset += EPV;
+				count -= EPV2;
+			}
+
+			// Imaginary part first, as z could be x
+			float k0, k1;
+			while (count-- > 0) {
+				k0 = x[xOffset + 0] * re;
+				k1 = x[xOffset + 1] * im;
+				z[zOffset + 1] = (x[xOffset + 0] + x[xOffset + 1]) * (re + im) - k0 - k1;
+				z[zOffset + 0] = k0 - k1;
+				xOffset += 2;
+				zOffset += 2;
+			}
+		}
+
+		public void apply_i(float z[], int zOffset, int count) {
+			apply(z, zOffset, z, zOffset, count);
+		}
+	}
+
+	/** {@code cv / cs}, see {@link VOVec#cv_div_cs(float[], int, float[], int, float[], int)}. */
+	public final static class CvDivCs {
+		private final float re;
+		private final float im;
+		private final float sq;
+		private final FloatVector vyre;
+		private final FloatVector vyim;
+		// [(|y|^2, |y|^2), (|y|^2, |y|^2), ...]
+		private final FloatVector vysq;
+
+		private CvDivCs(float y[]) {
+			re = y[0];
+			im = y[1];
+			sq = re * re + im * im;
+			vyre = FloatVector.broadcast(PFS, re);
+			vyim = FloatVector.broadcast(PFS, im);
+			vysq = vyre.fma(vyre, vyim.mul(vyim));
+		}
+
+		public void apply(float z[], int zOffset, float x[], int xOffset, int count) {
+			xOffset <<= 1;
+			zOffset <<= 1;
+
+			while (count >= EPV2) {
+				final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+				final FloatVector vmulxre = vx.mul(vyre);
+				final FloatVector vmulxim = vx.mul(vyim);
+				final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+				final FloatVector vrre = vmulxre.add(vmulximswap);
+				final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+				vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
+
+				xOffset += EPV;
+				zOffset += EPV;
+				count -= EPV2;
+			}
+
+			while (count-- > 0) {
+				final float xre = x[xOffset + 0];
+				final float xim = x[xOffset + 1];
+				z[zOffset + 0] = (xre * re + xim * im) / sq;
+				z[zOffset + 1] = (xim * re - xre * im) / sq;
+				xOffset += 2;
+				zOffset += 2;
+			}
+		}
+
+		public void apply_i(float z[], int zOffset, int count) {
+			apply(z, zOffset, z, zOffset, count);
+		}
+	}
+
+	/** {@code cs / cv}, see {@link VOVec#cs_div_cv(float[], int, float[], float[], int, int)}. */
+	public final static class CsDivCv {
+		private final float re;
+		private final float im;
+		private final FloatVector vx;
+
+		private CsDivCv(float x[]) {
+			re = x[0];
+			im = x[1];
+			vx = spread(re, im);
+		}
+
+		public void apply(float z[], int zOffset, float y[], int yOffset, int count) {
+			zOffset <<= 1;
+			yOffset <<= 1;
+
+			while (count >= EPV2) {
+				final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+				final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+				final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+				final FloatVector vmulxre = vx.mul(vyre);
+				final FloatVector vmulxim = vx.mul(vyim);
+				final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+				final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+				final FloatVector vrre = vmulxre.add(vmulximswap);
+				final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+				vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
+
+				yOffset += EPV;
+				zOffset += EPV;
+				count -= EPV2;
+			}
+
+			float sq;
+			while (count-- > 0) {
+				final float yre = y[yOffset + 0];
+				final float yim = y[yOffset + 1];
+				sq = yre * yre + yim * yim;
+				z[zOffset + 0] = (re * yre + im * yim) / sq;
+				z[zOffset + 1] = (im * yre - re * yim) / sq;
+				yOffset += 2;
+				zOffset += 2;
+			}
+		}
+
+		public void apply_i(float z[], int zOffset, int count) {
+			apply(z, zOffset, z, zOffset, count);
+		}
+	}
+}
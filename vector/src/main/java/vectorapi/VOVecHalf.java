@@ -0,0 +1,277 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+import java.util.Arrays;
+
+/**
+ * Kernels which keep real and complex vectors in half-precision storage
+ * ({@code short[]} with IEEE 754 binary16 values), but compute in {@code float}
+ * lanes. Half-precision is converted to and from {@code float} with integer
+ * lane operations, scalar tails use {@link Float#float16ToFloat(short)} and
+ * {@link Float#floatToFloat16(float)}, both round to nearest even.
+ * Suffix {@code _h} means that result is stored in half-precision and
+ * {@code _hh} means that argument is stored in half-precision too.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOVecHalf {
+	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	// Same number of lanes as PFS: ints of same shape and shorts of half of it
+	private final static VectorSpecies<Integer> PIS = PFS.withLanes(int.class);
+	private final static VectorSpecies<Short> PSS = VectorSpecies.of(Short.TYPE, VectorShape.forBitSize(PFS.vectorBitSize() / 2));
+	private final static VectorMask<Float> MASK_SECOND_HALF;
+
+	// Half-precision exponent at place of float one
+	private final static int H_EXP = 0x7c00 << 13;
+	// Difference of exponent biases
+	private final static int H_REBIAS = (127 - 15) << 23;
+	// Smallest normal half-precision number, 2^-14
+	private final static float H_MIN_NORMAL = 0x1.0p-14f;
+	// Smallest float which is too large for half-precision
+	private final static int H_OVERFLOW = (127 + 16) << 23;
+	// Smallest float which is normal in half-precision
+	private final static int H_SUBNORMAL = (127 - 14) << 23;
+	// Adding 0.5 puts subnormal half-precision mantissa to lowest bits of float, rounded
+	private final static float H_SUBNORMAL_MAGIC = 0.5f;
+	private final static int H_SUBNORMAL_MAGIC_BITS = Float.floatToRawIntBits(H_SUBNORMAL_MAGIC);
+	private final static int F_INF = 0xff << 23;
+	private final static short H_INF = 0x7c00;
+	private final static short H_NAN = 0x7e00;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_SECOND;
+
+	static {
+		boolean[] secondhalf = new boolean[EPV];
+		Arrays.fill(secondhalf, PFS.length() / 2, secondhalf.length, true);
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ..., re_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.fromOp(PFS, i -> (i < EPV2) ? i * 2 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ..., im_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.fromOp(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., re0, re1, ..., re_len]
+		SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.fromOp(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., im0, im1, ..., im_len]
+		SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.fromOp(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+	}
+
+	public static void rv_load_h(float z[], int zOffset, short x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final ShortVector vx = ShortVector.fromArray(PSS, x, xOffset);
+			h2f(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = Float.float16ToFloat(x[xOffset++]);
+	}
+
+	public static void cv_load_h(float z[], int zOffset, short x[], int xOffset, int count) {
+		// Conversion is element-wise, so complex vector is real one of twice size
+		rv_load_h(z, zOffset << 1, x, xOffset << 1, count << 1);
+	}
+
+	public static void rv_store_h(short z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			f2h(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = Float.floatToFloat16(x[xOffset++]);
+	}
+
+	public static void cv_store_h(short z[], int zOffset, float x[], int xOffset, int count) {
+		// Conversion is element-wise, so complex vector is real one of twice size
+		rv_store_h(z, zOffset << 1, x, xOffset << 1, count << 1);
+	}
+
+	public static void cv_abs_h(short z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			f2h(vxre.lanewise(VectorOperators.HYPOT, vxim)).intoArray(z, zOffset);
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = Float.floatToFloat16((float)Math.hypot(x[xOffset + 0], x[xOffset + 1]));
+			xOffset += 2;
+		}
+	}
+
+	public static void rv_10log10_h(short z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			f2h(vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = Float.floatToFloat16(10 * (float)Math.log10(Math.abs(x[xOffset++]) + Float.MIN_NORMAL));
+	}
+
+	public static void cv_10log10_h(short z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			f2h(vxabs.add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(5.0f)).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = Float.floatToFloat16(5 * (float)Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Float.MIN_NORMAL));
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_10log10_hh(short z[], int zOffset, short x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			// Two half-vectors of shorts make full vector of floats
+			final FloatVector vx1 = h2f(ShortVector.fromArray(PSS, x, xOffset));
+			final FloatVector vx2 = h2f(ShortVector.fromArray(PSS, x, xOffset + EPV));
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			f2h(vxabs.add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(5.0f)).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float re = Float.float16ToFloat(x[xOffset + 0]);
+			final float im = Float.float16ToFloat(x[xOffset + 1]);
+			z[zOffset] = Float.floatToFloat16(5 * (float)Math.log10(re * re + im * im + Float.MIN_NORMAL));
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	// Same as Float.float16ToFloat() for all lanes
+	private static FloatVector h2f(ShortVector h) {
+		final IntVector vh = (IntVector)h.convertShape(VectorOperators.S2I, PIS, 0);
+		// Exponent and mantissa are moved to place of float ones and exponent is re-biased
+		final IntVector em = vh.and(0x7fff).lanewise(VectorOperators.LSHL, 13);
+		final IntVector exp = em.and(H_EXP);
+		IntVector o = em.add(H_REBIAS);
+		// Infinities and NaNs have maximal exponent
+		o = o.add(H_REBIAS, exp.compare(VectorOperators.EQ, H_EXP));
+		// Zeroes and subnormals are normalized by FPU: they are (1 + mantissa) * 2^-14 - 2^-14
+		final FloatVector sub = o.add(1 << 23).reinterpretAsFloats().sub(H_MIN_NORMAL);
+		final FloatVector f = o.reinterpretAsFloats().blend(sub, exp.compare(VectorOperators.EQ, 0).cast(PFS));
+		// Sign is copied as is
+		return f.reinterpretAsInts().or(vh.and(0x8000).lanewise(VectorOperators.LSHL, 16)).reinterpretAsFloats();
+	}
+
+	// Same as Float.floatToFloat16() for all lanes, except payload of NaNs
+	private static ShortVector f2h(FloatVector v) {
+		final IntVector vi = v.reinterpretAsInts();
+		final IntVector sign = vi.and(0x80000000);
+		final IntVector abs = vi.and(0x7fffffff);
+		// Too large numbers become infinities
+		final IntVector big = IntVector.broadcast(PIS, H_INF).blend(H_NAN, abs.compare(VectorOperators.GT, F_INF));
+		// Subnormals are rounded by FPU
+		final IntVector small = abs.reinterpretAsFloats().add(H_SUBNORMAL_MAGIC).reinterpretAsInts().sub(H_SUBNORMAL_MAGIC_BITS);
+		// Normals are re-biased and rounded to nearest even by hand
+		final IntVector odd = abs.lanewise(VectorOperators.LSHR, 13).and(1);
+		final IntVector normal = abs.sub(H_REBIAS - 0xfff).add(odd).lanewise(VectorOperators.LSHR, 13);
+		final IntVector o = normal
+				.blend(small, abs.compare(VectorOperators.LT, H_SUBNORMAL))
+				.blend(big, abs.compare(VectorOperators.GE, H_OVERFLOW))
+				.or(sign.lanewise(VectorOperators.LSHR, 16));
+		return (ShortVector)o.convertShape(VectorOperators.I2S, PSS, 0);
+	}
+}
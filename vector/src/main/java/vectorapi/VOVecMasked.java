@@ -0,0 +1,3573 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+// Generated by genMasked.pl from VOVec.java, don't edit
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+import java.util.Arrays;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOVecMasked {
+	//@TODO: Global idea: check extraction of complex multiply/division code
+	//       to helper methods (and pray for inlining)
+	/* Missing methods which make sense:
+		Some one-complex-return function with "offset" result placement
+	 */
+	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static VectorSpecies<Float> PFS2 = VectorSpecies.of(Float.TYPE, VectorShape.forBitSize(PFS.vectorBitSize() / 2));
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx3 = EPV * 3;
+	private final static int EPVx4 = EPV * 4;
+	private final static VectorSpecies<Float> FS64 = FloatVector.SPECIES_64;
+	private final static VectorMask<Float> MASK_C_RE;
+	private final static VectorMask<Float> MASK_C_IM;
+	private final static VectorMask<Float> MASK_SECOND_HALF;
+	private final static FloatVector ZERO = FloatVector.zero(PFS);
+	private final static FloatVector ONE = FloatVector.broadcast(PFS, 1.0f);
+	private final static FloatVector NEG_INF = FloatVector.broadcast(PFS, Float.NEGATIVE_INFINITY);
+	private final static FloatVector POS_INF = FloatVector.broadcast(PFS, Float.POSITIVE_INFINITY);
+	// Indices for arg-functions, lane-to-lane with PFS
+	private final static VectorSpecies<Integer> PIS = PFS.withLanes(int.class);
+	private final static IntVector IOTA = IntVector.zero(PIS).addIndex(1);
+	private final static IntVector NO_INDEX = IntVector.broadcast(PIS, -1);
+	private final static FloatVector ATAN_C1 = FloatVector.broadcast(PFS, 0.9998660f);
+	private final static FloatVector ATAN_C3 = FloatVector.broadcast(PFS, -0.3302995f);
+	private final static FloatVector ATAN_C5 = FloatVector.broadcast(PFS, 0.1801410f);
+	private final static FloatVector ATAN_C7 = FloatVector.broadcast(PFS, -0.0851330f);
+	private final static FloatVector ATAN_C9 = FloatVector.broadcast(PFS, 0.0208351f);
+	// 1.5 * 2^23: x + ROUND_MAGIC is rounded to integer, which is in low bits of mantissa
+	private final static FloatVector ROUND_MAGIC = FloatVector.broadcast(PFS, 12582912.0f);
+	private final static int ROUND_MAGIC_BITS = 0x4B400000;
+	// Cephes expf(): ln(2) in two parts and polynomial for exp(r) on [-ln(2)/2, ln(2)/2]
+	private final static FloatVector EXP_LO = FloatVector.broadcast(PFS, -104.0f);
+	private final static FloatVector EXP_HI = FloatVector.broadcast(PFS, 89.0f);
+	private final static FloatVector EXP_LOG2E = FloatVector.broadcast(PFS, 1.44269504088896341f);
+	private final static FloatVector EXP_NEG_LN2_HI = FloatVector.broadcast(PFS, -0.693359375f);
+	private final static FloatVector EXP_NEG_LN2_LO = FloatVector.broadcast(PFS, 2.12194440e-4f);
+	private final static FloatVector EXP_C0 = FloatVector.broadcast(PFS, 5.0000001201e-1f);
+	private final static FloatVector EXP_C1 = FloatVector.broadcast(PFS, 1.6666665459e-1f);
+	private final static FloatVector EXP_C2 = FloatVector.broadcast(PFS, 4.1665795894e-2f);
+	private final static FloatVector EXP_C3 = FloatVector.broadcast(PFS, 8.3334519073e-3f);
+	private final static FloatVector EXP_C4 = FloatVector.broadcast(PFS, 1.3981999507e-3f);
+	private final static FloatVector EXP_C5 = FloatVector.broadcast(PFS, 1.9875691500e-4f);
+	// Cephes sinf()/cosf(): PI/2 in three parts and polynomials for sin(r) and cos(r) on [-PI/4, PI/4]
+	private final static FloatVector SC_2_PI = FloatVector.broadcast(PFS, (float)(2.0 / Math.PI));
+	private final static FloatVector SC_NEG_PI2_A = FloatVector.broadcast(PFS, -1.5703125f);
+	private final static FloatVector SC_NEG_PI2_B = FloatVector.broadcast(PFS, -4.837512969970703125e-4f);
+	private final static FloatVector SC_NEG_PI2_C = FloatVector.broadcast(PFS, -7.54978995489188216e-8f);
+	private final static FloatVector SIN_C3 = FloatVector.broadcast(PFS, -1.6666654611e-1f);
+	private final static FloatVector SIN_C5 = FloatVector.broadcast(PFS, 8.3321608736e-3f);
+	private final static FloatVector SIN_C7 = FloatVector.broadcast(PFS, -1.9515295891e-4f);
+	private final static FloatVector COS_C2 = FloatVector.broadcast(PFS, -0.5f);
+	private final static FloatVector COS_C4 = FloatVector.broadcast(PFS, 4.166664568298827e-2f);
+	private final static FloatVector COS_C6 = FloatVector.broadcast(PFS, -1.388731625493765e-3f);
+	private final static FloatVector COS_C8 = FloatVector.broadcast(PFS, 2.443315711809948e-5f);
+	// Bits of sqrt(2)/2, mantissa is reduced to [sqrt(2)/2, sqrt(2)), and polynomial for log10(1 + f) on it
+	private final static int LOG_SQRT_HALF_BITS = 0x3F3504F3;
+	private final static FloatVector LOG10_2 = FloatVector.broadcast(PFS, (float)Math.log10(2.0));
+	private final static FloatVector LOG_C1 = FloatVector.broadcast(PFS, 0.4340132176876068f);
+	private final static FloatVector LOG_C2 = FloatVector.broadcast(PFS, -0.21821817755699158f);
+	private final static FloatVector LOG_C3 = FloatVector.broadcast(PFS, 0.15578532218933105f);
+	private final static FloatVector LOG_C4 = FloatVector.broadcast(PFS, -0.09922552853822708f);
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_RE;
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_BOTH;
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_RE_LOW;
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_IM_LOW;
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_RE_HIGH;
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_IM_HIGH;
+	private final static VectorShuffle<Float> SHUFFLE_CS_TO_CV_SPREAD;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_RE;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_IM;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_SECOND;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_FRONT_RE;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_FRONT_IM;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND;
+
+
+	static {
+		boolean[] alter = new boolean[EPV + 1];
+
+		alter[0] = true;
+		for (int i = 1; i < alter.length; i++)
+			alter[i] = !alter[i - 1];
+		MASK_C_RE = VectorMask.fromArray(PFS, alter, 0);
+		MASK_C_IM = VectorMask.fromArray(PFS, alter, 1);
+
+		boolean[] secondhalf = new boolean[EPV];
+		Arrays.fill(secondhalf, PFS.length() / 2, secondhalf.length, true);
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
+
+		// [r0, r1, ...] -> [(r0, ?), (r1, ?), ...], take ? from last element for now
+		SHUFFLE_RV_TO_CV_RE = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? (i / 2) : (EPV - 1));
+		// [r0, r1, ...] -> [(r0, r0), (r1, r1), ...]
+		SHUFFLE_RV_TO_CV_BOTH = VectorShuffle.fromOp(PFS, i -> i / 2);
+
+		// [r0, r1, ..., r_len] -> [(r0, ?), (r1, ?), ... (r_{len/2}, ?)]
+		SHUFFLE_RV_TO_CV_RE_LOW = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? (i / 2) : 0);
+		// [r0, r1, ..., r_len] -> [(?, r0), (?, r1), ... (?, r_{len/2})]
+		SHUFFLE_RV_TO_CV_IM_LOW = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? 0 : (i / 2));
+
+		// [..., r_{len/2} ..., r_len] -> [(r_{len/2}, ?), ..., (r_len, ?)]
+		SHUFFLE_RV_TO_CV_RE_HIGH = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? (i / 2 + EPV / 2) : 0);
+		// [..., r_{len/2} ..., r_len] -> [(?, r_{len/2}), ..., (?, r_len)]
+		SHUFFLE_RV_TO_CV_IM_HIGH = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? 0 : (i / 2 + EPV / 2));
+
+		// [re, im] -> [(re, im), (re, im), (re, im), ...]
+		SHUFFLE_CS_TO_CV_SPREAD = VectorShuffle.fromOp(PFS, i -> i % 2);
+
+		// [(re0, im0), (re1, im1), ...] -> [(re0, re0), (re1, re1), ...]
+		SHUFFLE_CV_SPREAD_RE = VectorShuffle.fromOp(PFS, i -> i - i % 2);
+		// [(re0, im0), (re1, im1), ...] -> [(im0, im0), (im1, im1), ...]
+		SHUFFLE_CV_SPREAD_IM = VectorShuffle.fromOp(PFS, i -> i - i % 2 + 1);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ..., re_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.fromOp(PFS, i -> (i < EPV2) ? i * 2 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ..., im_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.fromOp(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., re0, re1, ..., re_len]
+		SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.fromOp(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., im0, im1, ..., im_len]
+		SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.fromOp(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+
+		// [re0, re1, re2, ...] -> [(re0, ?), (re1, ?), ..., (re_{len/2}, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i / 2 : 0);
+		// [im0, im1, im2, ...] -> [(?, im0), (?, im1), ..., (?, im_{len/2})]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST = VectorShuffle.fromOp(PFS, i -> (i % 2 == 1) ? i / 2 : 0);
+		// [..., re_{len/2}, ..., re_len] -> [(re_{len/2}, ?), ..., (re_len, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i / 2 + EPV2 : 0);
+		// [..., im_{len/2}, ..., im_len] -> [(?, im_{len/2}), ..., (?, im_len)]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND = VectorShuffle.fromOp(PFS, i -> (i % 2 == 1) ? i / 2 + EPV2 : 0);
+
+		// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ...]
+		SHUFFLE_CV_TO_CV_FRONT_RE = VectorShuffle.fromOp(PFS, i -> i * 2 < EPV ? i * 2 : i);
+
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ...]
+		SHUFFLE_CV_TO_CV_FRONT_IM = VectorShuffle.fromOp(PFS, i -> i * 2 + 1 < EPV ? i * 2 + 1 : i);
+	}
+
+	public static void rv_add_rs_i(float z[], int zOffset, float x, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.add(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.add(x).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_add_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_add_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rs_i(float z[], int zOffset, float x, int count) {
+		FloatVector vx = null;
+		if (count > 0)
+			vx = FloatVector.zero(PFS).blend(x, MASK_C_RE);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			//@DONE: it is faster than add(x, MASK_C_RE)
+			vz.add(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.add(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_add_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_add_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vz.add(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vz.add(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_add_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_add_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.add(y).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.add(y).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_add_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_add_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.add(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_add_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_add_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		FloatVector vy = null;
+		if (count > 0)
+			vy = FloatVector.zero(PFS).blend(y, MASK_C_RE);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			//@DONE: it is faster than add(y, MASK_C_RE)
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.add(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_add_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_add_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		FloatVector vy = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count > 0)
+			vy = FloatVector.fromArray(FS64, y, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.add(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_add_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_add_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.add(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_add_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_add_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rs_i(float z[], int zOffset, float x, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.sub(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.sub(x).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_sub_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_sub_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vz.sub(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vz.sub(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_sub_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_sub_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rs_i(float z[], int zOffset, float x, int count) {
+		FloatVector vx = null;
+		if (count > 0)
+			vx = FloatVector.zero(PFS).blend(x, MASK_C_RE);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			//@DONE: it is faster than sub(x, MASK_C_RE)
+			vz.sub(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.sub(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_sub_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_sub_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cs_i(float z[], int zOffset, float x[], int count) {
+		FloatVector vx = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count > 0)
+			vx = FloatVector.fromArray(FS64, x, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.sub(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.sub(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_sub_cs_iw(float z[], int zOffset, float x[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_sub_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vz.sub(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vz.sub(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_sub_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_sub_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.sub(y).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.sub(y).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_sub_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_sub_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_sub_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		FloatVector vx = null;
+		if (count > 0)
+			vx = FloatVector.broadcast(PFS, x);
+
+		while (count >= EPV) {
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.sub(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rs_sub_rv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, y.length - yOffset));
+			rs_sub_rv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.sub(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_sub_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		FloatVector vy = null;
+		if (count > 0)
+			vy = FloatVector.zero(PFS).blend(y, MASK_C_RE);
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: it is faster than add(x, MASK_C_RE)
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.sub(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_sub_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_sub_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_sub_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		FloatVector vx = null;
+		if (count > 0)
+			vx = FloatVector.broadcast(PFS, x).blend(FloatVector.zero(PFS), MASK_C_IM);
+
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.sub(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rs_sub_cv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			rs_sub_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		FloatVector vy = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count > 0)
+			vy = FloatVector.fromArray(FS64, y, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.sub(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_sub_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_sub_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cs_sub_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		FloatVector vx = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count > 0)
+			vx = FloatVector.fromArray(FS64, x, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.sub(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cs_sub_cv_w(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			cs_sub_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.sub(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_sub_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_sub_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rs_i(float z[], int zOffset, float x, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.mul(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.mul(x).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_mul_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_mul_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.mul(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.mul(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_mul_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_mul_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rs_i(float z[], int zOffset, float x, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.mul(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.mul(x).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_mul_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_mul_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cs_i(float z[], int zOffset, float x[], int count) {
+		FloatVector vxre = null, vxim = null;
+		if (count > 0) {
+			// vxre is [(x.re, x.re), (x.re, x.re), ...]
+			vxre = FloatVector.broadcast(PFS, x[0]);
+			// vxim is [(x.im, x.im), (x.im, x.im), ...]
+			vxim = FloatVector.broadcast(PFS, x[1]);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final FloatVector vmulxre = vz.mul(vxre);
+			// vmulxim [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final FloatVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre ([z[0].re * x.re - z[0].im * x.im, ?], ...)
+			final FloatVector vrre = vmulxre.sub(vmulximswap);
+			// vrim ([?, z[0].im * x.re + z[0].re * x.im], ...)
+			final FloatVector vrim = vmulxre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vmulxre = vz.mul(vxre);
+			final FloatVector vmulxim = vz.mul(vxim);
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			final FloatVector vrre = vmulxre.sub(vmulximswap);
+			final FloatVector vrim = vmulxre.add(vmulximswap);
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_mul_cs_iw(float z[], int zOffset, float x[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_mul_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre is [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final FloatVector vmulxre = vz.mul(vxre);
+
+			// vmulxre is [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final FloatVector vmulxim = vz.mul(vxim);
+
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([z[0].re * x.re - z[0].im * x.im, ?], ...)
+			final FloatVector vrre = vmulxre.sub(vmulximswap);
+			// vrim is ([?, z[0].im * x.re + z[0].re * x.im], ...)
+			final FloatVector vrim = vmulxre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vmulxre = vz.mul(vxre);
+			final FloatVector vmulxim = vz.mul(vxim);
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			final FloatVector vrre = vmulxre.sub(vmulximswap);
+			final FloatVector vrim = vmulxre.add(vmulximswap);
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_mul_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_mul_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			vx.mul(vy).intoArray(z, zOffset);
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.mul(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_mul_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab vx.mul(y)
+		if (count > 0)
+			vy = FloatVector.broadcast(PFS, y);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.mul(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.mul(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_mul_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_mul_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cs(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		FloatVector vyre = null, vyim = null;
+		if (count > 0) {
+			// vyre is [(y.re, y.re), (y.re, y.re), ...]
+			vyre = FloatVector.broadcast(PFS, y[0]);
+			// vyim is [(y.im, y.im), (y.im, y.im), ...]
+			vyim = FloatVector.broadcast(PFS, y[1]);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			// vmulyre [(x[0].re * y.re, x[0].im * y.re), (x[1].re * y.re, x[1].im * y.re), ...]
+			final FloatVector vmulyre = vx.mul(vyre);
+			// vmulyim [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y.im), ...]
+			final FloatVector vmulyim = vx.mul(vyim);
+			// vmulximswap [(x[0].im * y.im, x[0].re y x.im), (x[1].im * y.im, x[1].re * y.im), ...]
+			final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// it is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
+			final FloatVector vrre = vmulyre.sub(vmulximswap);
+			// it is ([?, x[0].im * y.re + x[0].re * y.im], ...)
+			final FloatVector vrim = vmulyre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vmulyre = vx.mul(vyre);
+			final FloatVector vmulyim = vx.mul(vyim);
+			final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			final FloatVector vrre = vmulyre.sub(vmulximswap);
+			final FloatVector vrim = vmulyre.add(vmulximswap);
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_mul_cs_w(float z[], int zOffset, float x[], int xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_mul_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			// vmulyre is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final FloatVector vmulyre = vx.mul(vyre);
+			// vmulyim is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
+			final FloatVector vmulyim = vx.mul(vyim);
+			// vmulximswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
+			final FloatVector vrre = vmulyre.sub(vmulximswap);
+			// vrim is ([?, x[0].im * y.re + x[0].re * y.im], ...)
+			final FloatVector vrim = vmulyre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vmulyre = vx.mul(vyre);
+			final FloatVector vmulyim = vx.mul(vyim);
+			final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			final FloatVector vrre = vmulyre.sub(vmulximswap);
+			final FloatVector vrim = vmulyre.add(vmulximswap);
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_mul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_mul_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rs_i(float z[], int zOffset, float x, int count) {
+		FloatVector vx = null;
+		//@DONE: it is fater thab vz.mul(x)
+		if (count > 0)
+			vx = FloatVector.broadcast(PFS, x);
+
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.div(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.div(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_div_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_div_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.div(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.div(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_div_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_div_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rs_i(float z[], int zOffset, float x, int count) {
+		FloatVector vx = null;
+		//@DONE: it is fater thab vz.mul(x)
+		if (count > 0)
+			vx = FloatVector.broadcast(PFS, x);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.div(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.div(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_div_rs_iw(float z[], int zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_div_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre is [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final FloatVector vmulxre = vz.mul(vxre);
+			// vmulxim is [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final FloatVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vxsq is [(x[0].re * x[0].re + x[0].im * x[0].im, x[0].re * x[0].re + x[0].im * x[0].im), (x[1].re * x[1].re + x[1].im * x[1].im, x[1].re * x[1].re + x[1].im * x[1].im), ...]
+			final FloatVector vxsq = vxre.fma(vxre, vxim.mul(vxim));
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([z[0].re * x[0].re - z[0].im * x[0].im, ?], ...)
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			// vrim is ([?, z[0].im * x.re - z[0].re * x.im], ...)
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vxsq).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vmulxre = vz.mul(vxre);
+			final FloatVector vmulxim = vz.mul(vxim);
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			final FloatVector vxsq = vxre.fma(vxre, vxim.mul(vxim));
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+			vrre.blend(vrim, MASK_C_IM).div(vxsq).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_div_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_div_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab vx.div(y)
+		if (count > 0)
+			vy = FloatVector.broadcast(PFS, y);
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.div(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.div(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_div_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_div_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_div_rv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		FloatVector vx = null;
+		if (count > 0)
+			vx = FloatVector.broadcast(PFS, x);
+
+		while (count >= EPV) {
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.div(vy).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.div(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rs_div_rv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, y.length - yOffset));
+			rs_div_rv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.div(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.div(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_div_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_div_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rs(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab vx.div(y)
+		if (count > 0)
+			vy = FloatVector.broadcast(PFS, y);
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.div(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.div(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_div_rs_w(float z[], int zOffset, float x[], int xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_div_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_div_cv(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		FloatVector vx = null;
+		if (count > 0) {
+			// vx is [(x[0], 0), (x[1], 0), ...]
+			vx = FloatVector.broadcast(PFS, x).blend(0.0f, MASK_C_IM);
+		}
+
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vmulxre is [(x * y[0].re, 0), (x * y[1].re, 0), ...]
+			final FloatVector vmulxre = vx.mul(vyre);
+			// vmulxim is [(x * y[0].im, 0), (x * y[1].im, 0), ...]
+			final FloatVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(0, x * y[0].im), (0, x * y[1].im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vysq is [(y[0].re * y[0].re + y[0].im * y[0].im, y[0].re * y[0].re + y[0].im * y[0].im), (y[1].re * y[1].re + y[1].im * y[1].im, y[1].re * y[1].re + y[1].im * y[1].im), ...]
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			// Now blend real parts and negated imaginary parts and divide by abs(y)^2
+			final FloatVector vr = vmulxre.blend(vmulximswap.neg(), MASK_C_IM).div(vysq);
+			// Save
+			vr.intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vmulxre = vx.mul(vyre);
+			final FloatVector vmulxim = vx.mul(vyim);
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+			final FloatVector vr = vmulxre.blend(vmulximswap.neg(), MASK_C_IM).div(vysq);
+			vr.intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rs_div_cv_w(float z[], int zOffset, float x, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			rs_div_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cs_div_cv(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		FloatVector vx = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count > 0)
+			vx = FloatVector.fromArray(FS64, x, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vmulxre [(x.re * y[0].re, x.im * y[0].re), (x.re * y[1].re, x.im * y[1].re), ...]
+			final FloatVector vmulxre = vx.mul(vyre);
+			// vmulxim [(x.re * y[0].im, x.im * y[0].im), (x.re * y[1].im, x.im * y[1].im), ...]
+			final FloatVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(x.im * y[0].im, x.re * y[0].im), (x.im * y[1].im, x.re * y[1].im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// Get abs to divide
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is [(x.re * y[0].re + x.im * y[0].im, ?), (x.re * y[1].re + x.im * y[1].im, ?), ...]
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			// vrim it is [(?, x.im * y[0].re - x.re * y[0].im), (?, x.im * y[1].re - x.re * y[1].im), ...]
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vmulxre = vx.mul(vyre);
+			final FloatVector vmulxim = vx.mul(vyim);
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cs_div_cv_w(float z[], int zOffset, float x[], float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			cs_div_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vmulxre [(x[0].re * y[0].re, x[0].im * y[0].re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final FloatVector vmulxre = vx.mul(vyre);
+			// vmulxim [(x[0].re * y[0].im, x[0].im * y[0].im), (x[1].re * y[1].im, x[1].im * y[1].im), ...]
+			final FloatVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(x[0].im * y[0].im, x[0].re * y[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vysq is [(y[0].re * y[0].re + y[0].im * y[0].im, y[0].re * y[0].re + y[0].im * y[0].im), (y[1].re * y[1].re + y[1].im * y[1].im, y[1].re * y[1].re + y[1].im * y[1].im), ...]
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is [(x[0].re * y[0].re + x[0].im * y[0].im, ?), (x[1].re * y[1].re + x[1].im * y[1].im, ?), ...]
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			// vrim it is [(?, x[0].im * y[0].re - x[0].re * y[0].im), (?, x[1].im * y[1].re - x[1].re * y[1].im), ...]
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vmulxre = vx.mul(vyre);
+			final FloatVector vmulxim = vx.mul(vyim);
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_div_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_div_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conjmul_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre is [(z[0].re * x[0].re, z[0].im * x[0].re), (z[1].re * x[0].re, z[1].im * x[0].re), ...]
+			final FloatVector vmulxre = vz.mul(vxre);
+			// vmulxim is [(z[0].re * x[0].im, z[0].im * x[0].im), (z[1].re * x[1].im, z[1].im * x[1].im), ...]
+			final FloatVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x[0].im, z[0].re * x[0].im), (z[1].im * x[1].im, z[1].re * x[1].im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre it is [(z[0].re * x[0].re + z[0].im * x[0].im, ?), (z[1].re * x[1].re + z[1].im * x[1].im, ?)]
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			// vrim it is [(?, z[0].im * x[0].re - z[0].re * x[0].im), (?, z[1].im * x[1].re - z[1].re * x[1].im), ...]
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vmulxre = vz.mul(vxre);
+			final FloatVector vmulxim = vz.mul(vxim);
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_conjmul_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_conjmul_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conjmul_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// Load x
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			// vmuly is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final FloatVector vmulyre = vx.mul(vyre);
+			// vmuly is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
+			final FloatVector vmulyim = vx.mul(vyim);
+			// vmulyswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final FloatVector vmulyimswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre it is [(x[0].re * y[0].re + x[0].im * y[0].im, ?), (x[1].re * y[1].re + x[1].im * y[1].im, ?)]
+			final FloatVector vrre = vmulyre.add(vmulyimswap);
+			// vrim it is [(?, x[0].im * y[0].re - x[0].re * y[0].im), (?, x[1].im * y[1].re - x[1].re * y[1].im), ...]
+			final FloatVector vrim = vmulyre.sub(vmulyimswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vmulyre = vx.mul(vyre);
+			final FloatVector vmulyim = vx.mul(vyim);
+			final FloatVector vmulyimswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+			final FloatVector vrre = vmulyre.add(vmulyimswap);
+			final FloatVector vrim = vmulyre.sub(vmulyimswap);
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_conjmul_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_conjmul_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conj(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.lanewise(VectorOperators.NEG, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.lanewise(VectorOperators.NEG, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_conj_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_conj(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_exp_i(float z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.lanewise(VectorOperators.EXP).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.lanewise(VectorOperators.EXP).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_exp_iw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_exp_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_exp(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.lanewise(VectorOperators.EXP).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.lanewise(VectorOperators.EXP).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_exp_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_exp(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_abs_i(float z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.abs().intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.abs().intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_abs_iw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_abs_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_abs(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.abs().intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.abs().intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_abs_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_abs(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_i(float z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			final FloatVector vrre = vzre.lanewise(VectorOperators.HYPOT, vzim);
+			final FloatVector vrim = vzim.lanewise(VectorOperators.ATAN2, vzre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vrre = vzre.lanewise(VectorOperators.HYPOT, vzim);
+			final FloatVector vrim = vzim.lanewise(VectorOperators.ATAN2, vzre);
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_r2p_iw(float z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_r2p_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_if(float z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			// Fast version doesn't protect from overflow, as Math.hypot() does
+			final FloatVector vrre = vzre.fma(vzre, vzim.mul(vzim)).sqrt();
+			final FloatVector vrim = atan2_f(vzim, vzre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vrre = vzre.fma(vzre, vzim.mul(vzim)).sqrt();
+			final FloatVector vrim = atan2_f(vzim, vzre);
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_r2p_ifw(float z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_r2p_if(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			final FloatVector vrre = vxre.lanewise(VectorOperators.HYPOT, vxim);
+			final FloatVector vrim = vxim.lanewise(VectorOperators.ATAN2, vxre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vrre = vxre.lanewise(VectorOperators.HYPOT, vxim);
+			final FloatVector vrim = vxim.lanewise(VectorOperators.ATAN2, vxre);
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_r2p_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_r2p(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			// Fast version doesn't protect from overflow, as Math.hypot() does
+			final FloatVector vrre = vxre.fma(vxre, vxim.mul(vxim)).sqrt();
+			final FloatVector vrim = atan2_f(vxim, vxre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vrre = vxre.fma(vxre, vxim.mul(vxim)).sqrt();
+			final FloatVector vrim = atan2_f(vxim, vxre);
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_r2p_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_r2p_f(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_p2r_i(float z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			//@TODO: check, do we need pack and process twice elements, and save result twice
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: .cos(MASK_C_IM)/.sin(MASK_C_RE) is much slower
+			final FloatVector vrre = vzre.mul(vzim.lanewise(VectorOperators.COS));
+			final FloatVector vrim = vzre.mul(vzim.lanewise(VectorOperators.SIN));
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vrre = vzre.mul(vzim.lanewise(VectorOperators.COS));
+			final FloatVector vrim = vzre.mul(vzim.lanewise(VectorOperators.SIN));
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_p2r_iw(float z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_p2r_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_p2r(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			//@TODO: check, do we need pack and process twice elements, and save result twice
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: .cos(MASK_C_IM)/.sin(MASK_C_RE) is much slower
+			final FloatVector vrre = vxre.mul(vxim.lanewise(VectorOperators.COS));
+			final FloatVector vrim = vxre.mul(vxim.lanewise(VectorOperators.SIN));
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vrre = vxre.mul(vxim.lanewise(VectorOperators.COS));
+			final FloatVector vrim = vxre.mul(vxim.lanewise(VectorOperators.SIN));
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_p2r_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_p2r(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_max_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.max(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.max(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_max_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_max_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_max_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.max(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.max(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_max_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_max_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_max_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			// vzre is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final FloatVector vzabs = vzre.fma(vzre, vzim.mul(vzim));
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			VectorMask<Float> xGz = vxabs.compare(VectorOperators.GT, vzabs);
+			vx.intoArray(z, zOffset, xGz);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vzabs = vzre.fma(vzre, vzim.mul(vzim));
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			VectorMask<Float> xGz = vxabs.compare(VectorOperators.GT, vzabs);
+			vx.intoArray(z, zOffset, xGz.and(tail));
+		}
+	}
+
+	public static void cv_max_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_max_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_max_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			final FloatVector vyabs = vyre.fma(vyre, vyim.mul(vyim));
+
+			VectorMask<Float> xGy = vxabs.compare(VectorOperators.GT, vyabs);
+			vy.blend(vx, xGy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			final FloatVector vyabs = vyre.fma(vyre, vyim.mul(vyim));
+			VectorMask<Float> xGy = vxabs.compare(VectorOperators.GT, vyabs);
+			vy.blend(vx, xGy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_max_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_max_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_min_rv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.min(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.min(vx).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_min_rv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_min_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_min_rv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.min(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.min(vy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_min_rv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_min_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_min_cv_i(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			// vzre is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final FloatVector vzabs = vzre.fma(vzre, vzim.mul(vzim));
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			VectorMask<Float> xLz = vxabs.compare(VectorOperators.LT, vzabs);
+			vx.intoArray(z, zOffset, xLz);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vzabs = vzre.fma(vzre, vzim.mul(vzim));
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			VectorMask<Float> xLz = vxabs.compare(VectorOperators.LT, vzabs);
+			vx.intoArray(z, zOffset, xLz.and(tail));
+		}
+	}
+
+	public static void cv_min_cv_iw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_min_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_min_cv(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			final FloatVector vyabs = vyre.fma(vyre, vyim.mul(vyim));
+
+			VectorMask<Float> xLy = vxabs.compare(VectorOperators.LT, vyabs);
+			vy.blend(vx, xLy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			final FloatVector vyabs = vyre.fma(vyre, vyim.mul(vyim));
+			VectorMask<Float> xLy = vxabs.compare(VectorOperators.LT, vyabs);
+			vy.blend(vx, xLy).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_min_cv_w(float z[], int zOffset, float x[], int xOffset, float y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_min_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		//@DONE: it is fater thab ...mul(a1)
+		if (count > 0) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		//@DONE: it is fater thab ...mul(a1)
+		if (count > 0) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_i(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count > 0) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_iw(float z[], int zOffset, float a1, float x[], int xOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_rs_lin_cv_rs_i(z, zOffset >> 1, a1, x, xOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count > 0) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count << 1);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset, tail);
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_w(float z[], int zOffset, float x[], int xOffset, float a1, float y[], int yOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_rs_lin_cv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_i(float z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_10log10_iw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_10log10_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_if(float z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			log10_f(vz.abs().add(Float.MIN_NORMAL)).mul(10.0f).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			log10_f(vz.abs().add(Float.MIN_NORMAL)).mul(10.0f).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_10log10_ifw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_10log10_if(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_10log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_10log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_f(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			// MIN_NORMAL keeps zero and denormals away from exponent tricks, as in scalar code
+			log10_f(vx.abs().add(Float.MIN_NORMAL)).mul(10.0f).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			log10_f(vx.abs().add(Float.MIN_NORMAL)).mul(10.0f).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_10log10_fw(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_10log10_f(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_rs_i(float z[], int zOffset, float base, int count) {
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_10log10_rs_iw(float z[], int zOffset, float base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_10log10_rs_i(z, zOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_10log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_10log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_i(float z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_20log10_iw(float z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_20log10_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10(float z[], int zOffset, float x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_20log10_w(float z[], int zOffset, float x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_20log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_rs_i(float z[], int zOffset, float base, int count) {
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).sub(base).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vz = FloatVector.fromArray(PFS, z, zOffset, tail);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).sub(base).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_20log10_rs_iw(float z[], int zOffset, float base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_20log10_rs_i(z, zOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_rs(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).sub(base).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		// Tail is processed as one more partial vector
+		if (count > 0) {
+			final VectorMask<Float> tail = PFS.indexInRange(0, count);
+			final FloatVector vx = FloatVector.fromArray(PFS, x, xOffset, tail);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).sub(base).intoArray(z, zOffset, tail);
+		}
+	}
+
+	public static void rv_20log10_rs_w(float z[], int zOffset, float x[], int xOffset, float base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_20log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	private static int preWrap(int i, int length) {
+		// Unlike VO.preWrap() it maps -length to 0 too, as runs loop can not tolerate offset == length
+		i %= length;
+		return (i < 0) ? (i + length) : i;
+	}
+
+	// Complex version of preWrap(), returns offset in floats; odd-length buffer has no room for last element's imaginary part
+	private static int preWrapCv(int i, int length) {
+		if ((length & 1) != 0)
+			throw new IllegalArgumentException("Complex vector must have even length, got " + length);
+		return preWrap(i << 1, length);
+	}
+
+	// Branch-free atan2() with max error about 1.2E-5, which is much better than FastTrig.atan2() gives
+	private static FloatVector atan2_f(FloatVector y, FloatVector x) {
+		final FloatVector ay = y.abs();
+		final FloatVector ax = x.abs();
+		// Reduce to [0, 1] and don't divide by zero: atan2(0, 0) is 0 as in FastTrig.atan2(), other ratios are exact, even for denormals
+		final FloatVector m = ax.max(ay);
+		final FloatVector q = ax.min(ay).div(m.blend(1.0f, m.compare(VectorOperators.EQ, 0.0f)));
+		final FloatVector q2 = q.mul(q);
+		// Abramowitz & Stegun 4.4.47, |error| <= 1E-5 on [0, 1]
+		FloatVector a = q2.fma(ATAN_C9, ATAN_C7).fma(q2, ATAN_C5).fma(q2, ATAN_C3).fma(q2, ATAN_C1).mul(q);
+		// [45, 90] is PI/2 - angle
+		final VectorMask<Float> swap = ay.compare(VectorOperators.GT, ax);
+		a = a.lanewise(VectorOperators.NEG, swap).add(FastTrig._1PI2, swap);
+		// [90, 180] is PI - angle
+		final VectorMask<Float> left = x.compare(VectorOperators.LT, 0.0f);
+		a = a.lanewise(VectorOperators.NEG, left).add(FastTrig._2PI2, left);
+		// Lower half-plane is -angle
+		return a.lanewise(VectorOperators.NEG, y.compare(VectorOperators.LT, 0.0f));
+	}
+
+	// exp() with max relative error about 8.5E-8: x = n * ln(2) + r, exp(x) = 2^n * exp(r)
+	private static FloatVector exp_f(FloatVector x) {
+		// Outside of this range result is 0 or infinity anyway, and n stays small enough for two halves of 2^n
+		final FloatVector vx = x.max(EXP_LO).min(EXP_HI);
+		final FloatVector vt = vx.fma(EXP_LOG2E, ROUND_MAGIC);
+		final FloatVector vn = vt.sub(ROUND_MAGIC);
+		final FloatVector vr = vn.fma(EXP_NEG_LN2_HI, vx).add(vn.mul(EXP_NEG_LN2_LO));
+		final FloatVector vr2 = vr.mul(vr);
+		final FloatVector vp = vr.fma(EXP_C5, EXP_C4).fma(vr, EXP_C3).fma(vr, EXP_C2).fma(vr, EXP_C1).fma(vr, EXP_C0).fma(vr2, vr).add(ONE);
+		// 2^n is built as 2^(n/2) * 2^(n - n/2), as denormal and infinite results need exponent out of range
+		final IntVector vni = vt.reinterpretAsInts().sub(ROUND_MAGIC_BITS);
+		final IntVector vn1 = vni.lanewise(VectorOperators.ASHR, 1);
+		final IntVector vn2 = vni.sub(vn1);
+		return vp.mul(vn1.add(127).lanewise(VectorOperators.LSHL, 23).reinterpretAsFloats())
+			.mul(vn2.add(127).lanewise(VectorOperators.LSHL, 23).reinterpretAsFloats());
+	}
+
+	// log10() of positive normal x with max error about 3.1E-5, which is 0.0003 dB of 10 * log10().
+	// x = 2^e * m, m in [sqrt(2)/2, sqrt(2)), and log10(x) = e * log10(2) + log10(m). Infinity and NaN are not handled.
+	private static FloatVector log10_f(FloatVector x) {
+		final IntVector vb = x.reinterpretAsInts();
+		final IntVector ve = vb.sub(LOG_SQRT_HALF_BITS).lanewise(VectorOperators.ASHR, 23);
+		final FloatVector vf = vb.sub(ve.lanewise(VectorOperators.LSHL, 23)).reinterpretAsFloats().sub(ONE);
+		// Exponent is converted to float by magic number too
+		final FloatVector ve2f = ve.add(ROUND_MAGIC_BITS).reinterpretAsFloats().sub(ROUND_MAGIC);
+		final FloatVector vp = vf.fma(LOG_C4, LOG_C3).fma(vf, LOG_C2).fma(vf, LOG_C1).mul(vf);
+		return ve2f.fma(LOG10_2, vp);
+	}
+
+	// Stores (g * cos(x), g * sin(x)) of packed g and x as TWO complex vectors. Sine and cosine share
+	// range reduction x = n * PI/2 + r, |r| <= PI/4, and n mod 4 selects polynomial and sign for each one.
+	// Max error is about 7E-8 for |x| <= 8192, for larger arguments reduction loses precision.
+	private static void expi_f(float z[], int zOffset, FloatVector vg, FloatVector vx) {
+		final FloatVector vt = vx.fma(SC_2_PI, ROUND_MAGIC);
+		final FloatVector vn = vt.sub(ROUND_MAGIC);
+		final FloatVector vr = vn.fma(SC_NEG_PI2_A, vx).add(vn.mul(SC_NEG_PI2_B)).add(vn.mul(SC_NEG_PI2_C));
+		final FloatVector vr2 = vr.mul(vr);
+		final FloatVector vps = vr2.fma(SIN_C7, SIN_C5).fma(vr2, SIN_C3).mul(vr2).fma(vr, vr);
+		final FloatVector vpc = vr2.fma(COS_C8, COS_C6).fma(vr2, COS_C4).fma(vr2, COS_C2).fma(vr2, ONE);
+		// Low bits of rounded x * 2/PI are n mod 4: odd quadrants swap sine and cosine
+		final IntVector vq = vt.reinterpretAsInts();
+		final VectorMask<Float> swap = vq.and(1).compare(VectorOperators.NE, 0).cast(PFS);
+		final VectorMask<Float> negc = vq.add(1).and(2).compare(VectorOperators.NE, 0).cast(PFS);
+		final VectorMask<Float> negs = vq.and(2).compare(VectorOperators.NE, 0).cast(PFS);
+		final FloatVector vc = vpc.blend(vps, swap).lanewise(VectorOperators.NEG, negc);
+		final FloatVector vs = vps.blend(vpc, swap).lanewise(VectorOperators.NEG, negs);
+
+		final FloatVector vrre = vg.mul(vc);
+		final FloatVector vrim = vg.mul(vs);
+		vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+		vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+	}
+}
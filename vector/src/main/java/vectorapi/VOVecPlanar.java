@@ -0,0 +1,370 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+import java.util.Arrays;
+
+/**
+ * Complex vectors in planar (split) layout: real parts in one array and
+ * imaginary parts in other, with same offset for both. Kernels on such
+ * vectors don't need any shuffles, only converters to and from interleaved
+ * layout of {@link VOVec} do. Complex scalars are interleaved as everywhere.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOVecPlanar {
+	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static VectorMask<Float> MASK_C_IM;
+	private final static VectorMask<Float> MASK_SECOND_HALF;
+	private final static FloatVector ZERO = FloatVector.zero(PFS);
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_SECOND;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND;
+
+	static {
+		boolean[] alter = new boolean[EPV + 1];
+
+		alter[0] = true;
+		for (int i = 1; i < alter.length; i++)
+			alter[i] = !alter[i - 1];
+		MASK_C_IM = VectorMask.fromArray(PFS, alter, 1);
+
+		boolean[] secondhalf = new boolean[EPV];
+		Arrays.fill(secondhalf, PFS.length() / 2, secondhalf.length, true);
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ..., re_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.fromOp(PFS, i -> (i < EPV2) ? i * 2 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ..., im_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.fromOp(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., re0, re1, ..., re_len]
+		SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.fromOp(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., im0, im1, ..., im_len]
+		SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.fromOp(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+
+		// [re0, re1, re2, ...] -> [(re0, ?), (re1, ?), ..., (re_{len/2}, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i / 2 : 0);
+		// [im0, im1, im2, ...] -> [(?, im0), (?, im1), ..., (?, im_{len/2})]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST = VectorShuffle.fromOp(PFS, i -> (i % 2 == 1) ? i / 2 : 0);
+		// [..., re_{len/2}, ..., re_len] -> [(re_{len/2}, ?), ..., (re_len, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i / 2 + EPV2 : 0);
+		// [..., im_{len/2}, ..., im_len] -> [(?, im_{len/2}), ..., (?, im_len)]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND = VectorShuffle.fromOp(PFS, i -> (i % 2 == 1) ? i / 2 + EPV2 : 0);
+	}
+
+	public static void cv_to_pcv(float zre[], float zim[], int zOffset, float x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromArray(PFS, x, xOffset);
+			final FloatVector vx2 = FloatVector.fromArray(PFS, x, xOffset + EPV);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			vx1re.blend(vx2re, MASK_SECOND_HALF).intoArray(zre, zOffset);
+			vx1im.blend(vx2im, MASK_SECOND_HALF).intoArray(zim, zOffset);
+
+			// We load twice as much numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			zre[zOffset] = x[xOffset + 0];
+			zim[zOffset] = x[xOffset + 1];
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void pcv_to_cv(float z[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+
+			vxre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vxim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+			vxre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vxim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			// We store twice as much numbers
+			xOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = xre[xOffset];
+			z[zOffset + 1] = xim[xOffset];
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void pcv_add_pcv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		while (count >= EPV) {
+			FloatVector.fromArray(PFS, xre, xOffset).add(FloatVector.fromArray(PFS, yre, yOffset)).intoArray(zre, zOffset);
+			FloatVector.fromArray(PFS, xim, xOffset).add(FloatVector.fromArray(PFS, yim, yOffset)).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			zre[zOffset] = xre[xOffset] + yre[yOffset];
+			zim[zOffset] = xim[xOffset] + yim[yOffset];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pcv_sub_pcv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		while (count >= EPV) {
+			FloatVector.fromArray(PFS, xre, xOffset).sub(FloatVector.fromArray(PFS, yre, yOffset)).intoArray(zre, zOffset);
+			FloatVector.fromArray(PFS, xim, xOffset).sub(FloatVector.fromArray(PFS, yim, yOffset)).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			zre[zOffset] = xre[xOffset] - yre[yOffset];
+			zim[zOffset] = xim[xOffset] - yim[yOffset];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pcv_mul_pcv_i(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		pcv_mul_pcv(zre, zim, zOffset, zre, zim, zOffset, xre, xim, xOffset, count);
+	}
+
+	public static void pcv_mul_pcv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+			final FloatVector vyre = FloatVector.fromArray(PFS, yre, yOffset);
+			final FloatVector vyim = FloatVector.fromArray(PFS, yim, yOffset);
+
+			// (a + bi) * (c + di) = (ac - bd) + (ad + bc)i
+			vxre.fma(vyre, vxim.mul(vyim).neg()).intoArray(zre, zOffset);
+			vxre.fma(vyim, vxim.mul(vyre)).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float re = xre[xOffset] * yre[yOffset] - xim[xOffset] * yim[yOffset];
+			final float im = xre[xOffset] * yim[yOffset] + xim[xOffset] * yre[yOffset];
+			zre[zOffset] = re;
+			zim[zOffset] = im;
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pcv_conjmul_pcv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float yre[], float yim[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+			final FloatVector vyre = FloatVector.fromArray(PFS, yre, yOffset);
+			final FloatVector vyim = FloatVector.fromArray(PFS, yim, yOffset);
+
+			// (a + bi) * (c - di) = (ac + bd) + (bc - ad)i
+			vxre.fma(vyre, vxim.mul(vyim)).intoArray(zre, zOffset);
+			vxim.fma(vyre, vxre.mul(vyim).neg()).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float re = xre[xOffset] * yre[yOffset] + xim[xOffset] * yim[yOffset];
+			final float im = xim[xOffset] * yre[yOffset] - xre[xOffset] * yim[yOffset];
+			zre[zOffset] = re;
+			zim[zOffset] = im;
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pcv_mul_cs(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float y[], int count) {
+		final float yre = y[0];
+		final float yim = y[1];
+
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+
+			vxre.mul(yre).sub(vxim.mul(yim)).intoArray(zre, zOffset);
+			vxre.mul(yim).add(vxim.mul(yre)).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float re = xre[xOffset] * yre - xim[xOffset] * yim;
+			final float im = xre[xOffset] * yim + xim[xOffset] * yre;
+			zre[zOffset] = re;
+			zim[zOffset] = im;
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pcv_mul_rv(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, float y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vy = FloatVector.fromArray(PFS, y, yOffset);
+
+			FloatVector.fromArray(PFS, xre, xOffset).mul(vy).intoArray(zre, zOffset);
+			FloatVector.fromArray(PFS, xim, xOffset).mul(vy).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			zre[zOffset] = xre[xOffset] * y[yOffset];
+			zim[zOffset] = xim[xOffset] * y[yOffset];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pcv_abs(float z[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vxre = FloatVector.fromArray(PFS, xre, xOffset);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+
+			vxre.lanewise(VectorOperators.HYPOT, vxim).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = (float)Math.hypot(xre[xOffset], xim[xOffset]);
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pcv_exp(float zre[], float zim[], int zOffset, float xre[], float xim[], int xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vxreexp = FloatVector.fromArray(PFS, xre, xOffset).lanewise(VectorOperators.EXP);
+			final FloatVector vxim = FloatVector.fromArray(PFS, xim, xOffset);
+
+			vxreexp.mul(vxim.lanewise(VectorOperators.COS)).intoArray(zre, zOffset);
+			vxreexp.mul(vxim.lanewise(VectorOperators.SIN)).intoArray(zim, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			final float g = (float)Math.exp(xre[xOffset]);
+			final float im = xim[xOffset];
+			zre[zOffset] = g * (float)Math.cos(im);
+			zim[zOffset] = g * (float)Math.sin(im);
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void pcv_exp_i(float zre[], float zim[], int zOffset, int count) {
+		pcv_exp(zre, zim, zOffset, zre, zim, zOffset, count);
+	}
+
+	public static void pcv_sum(float z[], float xre[], float xim[], int xOffset, int count) {
+		float re = 0.0f;
+		float im = 0.0f;
+
+		if (count >= EPV) {
+			FloatVector vre = ZERO;
+			FloatVector vim = ZERO;
+
+			while (count >= EPV) {
+				vre = vre.add(FloatVector.fromArray(PFS, xre, xOffset));
+				vim = vim.add(FloatVector.fromArray(PFS, xim, xOffset));
+
+				xOffset += EPV;
+				count -= EPV;
+			}
+
+			re = vre.reduceLanes(VectorOperators.ADD);
+			im = vim.reduceLanes(VectorOperators.ADD);
+		}
+
+		while (count-- > 0) {
+			re += xre[xOffset];
+			im += xim[xOffset];
+			xOffset += 1;
+		}
+
+		z[0] = re;
+		z[1] = im;
+	}
+}
@@ -0,0 +1,6924 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+// Generated by genSegments.pl from VOVec.java, don't edit
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+import java.util.Arrays;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOVecSeg {
+	//@TODO: Global idea: check extraction of complex multiply/division code
+	//       to helper methods (and pray for inlining)
+	/* Missing methods which make sense:
+		Some one-complex-return function with "offset" result placement
+	 */
+	private final static ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED;
+	private final static ByteOrder ORDER = ByteOrder.nativeOrder();
+	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static VectorSpecies<Float> PFS2 = VectorSpecies.of(Float.TYPE, VectorShape.forBitSize(PFS.vectorBitSize() / 2));
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx3 = EPV * 3;
+	private final static int EPVx4 = EPV * 4;
+	private final static VectorSpecies<Float> FS64 = FloatVector.SPECIES_64;
+	private final static VectorMask<Float> MASK_C_RE;
+	private final static VectorMask<Float> MASK_C_IM;
+	private final static VectorMask<Float> MASK_SECOND_HALF;
+	private final static FloatVector ZERO = FloatVector.zero(PFS);
+	private final static FloatVector ONE = FloatVector.broadcast(PFS, 1.0f);
+	private final static FloatVector NEG_INF = FloatVector.broadcast(PFS, Float.NEGATIVE_INFINITY);
+	private final static FloatVector POS_INF = FloatVector.broadcast(PFS, Float.POSITIVE_INFINITY);
+	// Indices for arg-functions, lane-to-lane with PFS
+	private final static VectorSpecies<Integer> PIS = PFS.withLanes(int.class);
+	private final static IntVector IOTA = IntVector.zero(PIS).addIndex(1);
+	private final static IntVector NO_INDEX = IntVector.broadcast(PIS, -1);
+	private final static FloatVector ATAN_C1 = FloatVector.broadcast(PFS, 0.9998660f);
+	private final static FloatVector ATAN_C3 = FloatVector.broadcast(PFS, -0.3302995f);
+	private final static FloatVector ATAN_C5 = FloatVector.broadcast(PFS, 0.1801410f);
+	private final static FloatVector ATAN_C7 = FloatVector.broadcast(PFS, -0.0851330f);
+	private final static FloatVector ATAN_C9 = FloatVector.broadcast(PFS, 0.0208351f);
+	// 1.5 * 2^23: x + ROUND_MAGIC is rounded to integer, which is in low bits of mantissa
+	private final static FloatVector ROUND_MAGIC = FloatVector.broadcast(PFS, 12582912.0f);
+	private final static int ROUND_MAGIC_BITS = 0x4B400000;
+	// Cephes expf(): ln(2) in two parts and polynomial for exp(r) on [-ln(2)/2, ln(2)/2]
+	private final static FloatVector EXP_LO = FloatVector.broadcast(PFS, -104.0f);
+	private final static FloatVector EXP_HI = FloatVector.broadcast(PFS, 89.0f);
+	private final static FloatVector EXP_LOG2E = FloatVector.broadcast(PFS, 1.44269504088896341f);
+	private final static FloatVector EXP_NEG_LN2_HI = FloatVector.broadcast(PFS, -0.693359375f);
+	private final static FloatVector EXP_NEG_LN2_LO = FloatVector.broadcast(PFS, 2.12194440e-4f);
+	private final static FloatVector EXP_C0 = FloatVector.broadcast(PFS, 5.0000001201e-1f);
+	private final static FloatVector EXP_C1 = FloatVector.broadcast(PFS, 1.6666665459e-1f);
+	private final static FloatVector EXP_C2 = FloatVector.broadcast(PFS, 4.1665795894e-2f);
+	private final static FloatVector EXP_C3 = FloatVector.broadcast(PFS, 8.3334519073e-3f);
+	private final static FloatVector EXP_C4 = FloatVector.broadcast(PFS, 1.3981999507e-3f);
+	private final static FloatVector EXP_C5 = FloatVector.broadcast(PFS, 1.9875691500e-4f);
+	// Cephes sinf()/cosf(): PI/2 in three parts and polynomials for sin(r) and cos(r) on [-PI/4, PI/4]
+	private final static FloatVector SC_2_PI = FloatVector.broadcast(PFS, (float)(2.0 / Math.PI));
+	private final static FloatVector SC_NEG_PI2_A = FloatVector.broadcast(PFS, -1.5703125f);
+	private final static FloatVector SC_NEG_PI2_B = FloatVector.broadcast(PFS, -4.837512969970703125e-4f);
+	private final static FloatVector SC_NEG_PI2_C = FloatVector.broadcast(PFS, -7.54978995489188216e-8f);
+	private final static FloatVector SIN_C3 = FloatVector.broadcast(PFS, -1.6666654611e-1f);
+	private final static FloatVector SIN_C5 = FloatVector.broadcast(PFS, 8.3321608736e-3f);
+	private final static FloatVector SIN_C7 = FloatVector.broadcast(PFS, -1.9515295891e-4f);
+	private final static FloatVector COS_C2 = FloatVector.broadcast(PFS, -0.5f);
+	private final static FloatVector COS_C4 = FloatVector.broadcast(PFS, 4.166664568298827e-2f);
+	private final static FloatVector COS_C6 = FloatVector.broadcast(PFS, -1.388731625493765e-3f);
+	private final static FloatVector COS_C8 = FloatVector.broadcast(PFS, 2.443315711809948e-5f);
+	// Bits of sqrt(2)/2, mantissa is reduced to [sqrt(2)/2, sqrt(2)), and polynomial for log10(1 + f) on it
+	private final static int LOG_SQRT_HALF_BITS = 0x3F3504F3;
+	private final static FloatVector LOG10_2 = FloatVector.broadcast(PFS, (float)Math.log10(2.0));
+	private final static FloatVector LOG_C1 = FloatVector.broadcast(PFS, 0.4340132176876068f);
+	private final static FloatVector LOG_C2 = FloatVector.broadcast(PFS, -0.21821817755699158f);
+	private final static FloatVector LOG_C3 = FloatVector.broadcast(PFS, 0.15578532218933105f);
+	private final static FloatVector LOG_C4 = FloatVector.broadcast(PFS, -0.09922552853822708f);
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_RE;
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_BOTH;
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_RE_LOW;
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_IM_LOW;
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_RE_HIGH;
+	private final static VectorShuffle<Float> SHUFFLE_RV_TO_CV_IM_HIGH;
+	private final static VectorShuffle<Float> SHUFFLE_CS_TO_CV_SPREAD;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_RE;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SPREAD_IM;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_PACK_IM_SECOND;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_FRONT_RE;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_FRONT_IM;
+
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND;
+
+
+	static {
+		boolean[] alter = new boolean[EPV + 1];
+
+		alter[0] = true;
+		for (int i = 1; i < alter.length; i++)
+			alter[i] = !alter[i - 1];
+		MASK_C_RE = VectorMask.fromArray(PFS, alter, 0);
+		MASK_C_IM = VectorMask.fromArray(PFS, alter, 1);
+
+		boolean[] secondhalf = new boolean[EPV];
+		Arrays.fill(secondhalf, PFS.length() / 2, secondhalf.length, true);
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
+
+		// [r0, r1, ...] -> [(r0, ?), (r1, ?), ...], take ? from last element for now
+		SHUFFLE_RV_TO_CV_RE = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? (i / 2) : (EPV - 1));
+		// [r0, r1, ...] -> [(r0, r0), (r1, r1), ...]
+		SHUFFLE_RV_TO_CV_BOTH = VectorShuffle.fromOp(PFS, i -> i / 2);
+
+		// [r0, r1, ..., r_len] -> [(r0, ?), (r1, ?), ... (r_{len/2}, ?)]
+		SHUFFLE_RV_TO_CV_RE_LOW = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? (i / 2) : 0);
+		// [r0, r1, ..., r_len] -> [(?, r0), (?, r1), ... (?, r_{len/2})]
+		SHUFFLE_RV_TO_CV_IM_LOW = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? 0 : (i / 2));
+
+		// [..., r_{len/2} ..., r_len] -> [(r_{len/2}, ?), ..., (r_len, ?)]
+		SHUFFLE_RV_TO_CV_RE_HIGH = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? (i / 2 + EPV / 2) : 0);
+		// [..., r_{len/2} ..., r_len] -> [(?, r_{len/2}), ..., (?, r_len)]
+		SHUFFLE_RV_TO_CV_IM_HIGH = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? 0 : (i / 2 + EPV / 2));
+
+		// [re, im] -> [(re, im), (re, im), (re, im), ...]
+		SHUFFLE_CS_TO_CV_SPREAD = VectorShuffle.fromOp(PFS, i -> i % 2);
+
+		// [(re0, im0), (re1, im1), ...] -> [(re0, re0), (re1, re1), ...]
+		SHUFFLE_CV_SPREAD_RE = VectorShuffle.fromOp(PFS, i -> i - i % 2);
+		// [(re0, im0), (re1, im1), ...] -> [(im0, im0), (im1, im1), ...]
+		SHUFFLE_CV_SPREAD_IM = VectorShuffle.fromOp(PFS, i -> i - i % 2 + 1);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ..., re_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.fromOp(PFS, i -> (i < EPV2) ? i * 2 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ..., im_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.fromOp(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., re0, re1, ..., re_len]
+		SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.fromOp(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., im0, im1, ..., im_len]
+		SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.fromOp(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+
+		// [re0, re1, re2, ...] -> [(re0, ?), (re1, ?), ..., (re_{len/2}, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i / 2 : 0);
+		// [im0, im1, im2, ...] -> [(?, im0), (?, im1), ..., (?, im_{len/2})]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST = VectorShuffle.fromOp(PFS, i -> (i % 2 == 1) ? i / 2 : 0);
+		// [..., re_{len/2}, ..., re_len] -> [(re_{len/2}, ?), ..., (re_len, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i / 2 + EPV2 : 0);
+		// [..., im_{len/2}, ..., im_len] -> [(?, im_{len/2}), ..., (?, im_len)]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND = VectorShuffle.fromOp(PFS, i -> (i % 2 == 1) ? i / 2 + EPV2 : 0);
+
+		// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ...]
+		SHUFFLE_CV_TO_CV_FRONT_RE = VectorShuffle.fromOp(PFS, i -> i * 2 < EPV ? i * 2 : i);
+
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ...]
+		SHUFFLE_CV_TO_CV_FRONT_IM = VectorShuffle.fromOp(PFS, i -> i * 2 + 1 < EPV ? i * 2 + 1 : i);
+	}
+
+	public static void rv_add_rs_i(MemorySegment z, long zOffset, float x, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.add(x).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset, z.getAtIndex(FLOAT, zOffset++) + x);
+	}
+
+	public static void rv_add_rs_iw(MemorySegment z, long zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_add_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vz.add(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset, z.getAtIndex(FLOAT, zOffset++) + (x.getAtIndex(FLOAT, xOffset++)));
+	}
+
+	public static void rv_add_rv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_add_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rs_i(MemorySegment z, long zOffset, float x, int count) {
+		FloatVector vx = null;
+		if (count >= EPV2)
+			vx = FloatVector.zero(PFS).blend(x, MASK_C_RE);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			//@DONE: it is faster than add(x, MASK_C_RE)
+			vz.add(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) + x);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_rs_iw(MemorySegment z, long zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_add_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+			vz.add(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) + (x.getAtIndex(FLOAT, xOffset++)));
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_rv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			cv_add_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cs_i(MemorySegment z, long zOffset, float x[], int count) {
+		FloatVector vx = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vx = FloatVector.fromArray(FS64, x, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.add(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) + (x[0]));
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) + (x[1]));
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cs_iw(MemorySegment z, long zOffset, float x[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_add_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vz.add(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) + (x.getAtIndex(FLOAT, xOffset + 0)));
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) + (x.getAtIndex(FLOAT, xOffset + 1)));
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_add_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.add(y).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset++) + y);
+	}
+
+	public static void rv_add_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_add_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.add(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset++) + y.getAtIndex(FLOAT, yOffset++));
+	}
+
+	public static void rv_add_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, Math.min(length(x) - xOffset, length(y) - yOffset)));
+			rv_add_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		FloatVector vy = null;
+		if (count >= EPV2)
+			vy = FloatVector.zero(PFS).blend(y, MASK_C_RE);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			//@DONE: it is faster than add(y, MASK_C_RE)
+			vx.add(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) + y);
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1));
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_add_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_add_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			//@DONE: It is faster than FloatVector.fromArray(PFS, y, yOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS2, y, yOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+			vx.add(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) + y.getAtIndex(FLOAT, yOffset++));
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1));
+			zOffset += 2;
+			xOffset += 2;
+		}
+
+	}
+
+	public static void cv_add_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, length(y) - yOffset)));
+			cv_add_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		FloatVector vy = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vy = FloatVector.fromArray(FS64, y, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.add(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) + y[0]);
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) + y[1]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_add_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.add(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) + y.getAtIndex(FLOAT, yOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) + y.getAtIndex(FLOAT, yOffset + 1));
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1)));
+			cv_add_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rs_i(MemorySegment z, long zOffset, float x, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.sub(x).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset, z.getAtIndex(FLOAT, zOffset++) - x);
+	}
+
+	public static void rv_sub_rs_iw(MemorySegment z, long zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_sub_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vz.sub(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset, z.getAtIndex(FLOAT, zOffset++) - (x.getAtIndex(FLOAT, xOffset++)));
+	}
+
+	public static void rv_sub_rv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_sub_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rs_i(MemorySegment z, long zOffset, float x, int count) {
+		FloatVector vx = null;
+		if (count >= EPV2)
+			vx = FloatVector.zero(PFS).blend(x, MASK_C_RE);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			//@DONE: it is faster than sub(x, MASK_C_RE)
+			vz.sub(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) - x);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_rs_iw(MemorySegment z, long zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_sub_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+			vz.sub(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) - (x.getAtIndex(FLOAT, xOffset++)));
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_rv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			cv_sub_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cs_i(MemorySegment z, long zOffset, float x[], int count) {
+		FloatVector vx = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vx = FloatVector.fromArray(FS64, x, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.sub(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) - (x[0]));
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) - (x[1]));
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cs_iw(MemorySegment z, long zOffset, float x[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_sub_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vz.sub(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) - (x.getAtIndex(FLOAT, xOffset + 0)));
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) - (x.getAtIndex(FLOAT, xOffset + 1)));
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_sub_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.sub(y).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset++) - y);
+	}
+
+	public static void rv_sub_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_sub_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_sub_rv(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, int count) {
+		FloatVector vx = null;
+		if (count >= EPV)
+			vx = FloatVector.broadcast(PFS, x);
+
+		while (count >= EPV) {
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.sub(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x - y.getAtIndex(FLOAT, yOffset++));
+	}
+
+	public static void rs_sub_rv_w(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(y) - yOffset));
+			rs_sub_rv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.sub(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset++) - y.getAtIndex(FLOAT, yOffset++));
+	}
+
+	public static void rv_sub_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, Math.min(length(x) - xOffset, length(y) - yOffset)));
+			rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		FloatVector vy = null;
+		if (count >= EPV2)
+			vy = FloatVector.zero(PFS).blend(y, MASK_C_RE);
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: it is faster than add(x, MASK_C_RE)
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.sub(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) - y);
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1));
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_sub_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_sub_cv(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, int count) {
+		FloatVector vx = null;
+		if (count >= EPV2)
+			vx = FloatVector.broadcast(PFS, x).blend(FloatVector.zero(PFS), MASK_C_IM);
+
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.sub(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x - y.getAtIndex(FLOAT, yOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 1, -y.getAtIndex(FLOAT, yOffset + 1));
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rs_sub_cv_w(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(y) - yOffset) >> 1));
+			rs_sub_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			//@DONE: It is faster than FloatVector.fromArray(PFS, y, yOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS2, y, yOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+			vx.sub(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) - y.getAtIndex(FLOAT, yOffset++));
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1));
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, length(y) - yOffset)));
+			cv_sub_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.sub(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset) - y.getAtIndex(FLOAT, yOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 1, -y.getAtIndex(FLOAT, yOffset + 1));
+			xOffset += 1;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_sub_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min(length(x) - xOffset, (length(y) - yOffset) >> 1)));
+			rv_sub_cv(z, zOffset >> 1, x, xOffset, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		FloatVector vy = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vy = FloatVector.fromArray(FS64, y, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.sub(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) - y[0]);
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) - y[1]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_sub_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cs_sub_cv(MemorySegment z, long zOffset, float x[], MemorySegment y, long yOffset, int count) {
+		FloatVector vx = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vx = FloatVector.fromArray(FS64, x, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.sub(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x[0] - y.getAtIndex(FLOAT, yOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 1, x[1] - y.getAtIndex(FLOAT, yOffset + 1));
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cs_sub_cv_w(MemorySegment z, long zOffset, float x[], MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(y) - yOffset) >> 1));
+			cs_sub_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.sub(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) - y.getAtIndex(FLOAT, yOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) - y.getAtIndex(FLOAT, yOffset + 1));
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1)));
+			cv_sub_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rs_i(MemorySegment z, long zOffset, float x, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.mul(x).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset, z.getAtIndex(FLOAT, zOffset++) * x);
+	}
+
+	public static void rv_mul_rs_iw(MemorySegment z, long zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_mul_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.mul(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset, z.getAtIndex(FLOAT, zOffset++) * (x.getAtIndex(FLOAT, xOffset++)));
+	}
+
+	public static void rv_mul_rv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_mul_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rs_i(MemorySegment z, long zOffset, float x, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.mul(x).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) * x);
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) * x);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_rs_iw(MemorySegment z, long zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_mul_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.mul(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) * (x.getAtIndex(FLOAT, xOffset)));
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) * (x.getAtIndex(FLOAT, xOffset)));
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_rv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			cv_mul_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cs_i(MemorySegment z, long zOffset, float x[], int count) {
+		FloatVector vxre = null, vxim = null;
+		if (count >= EPV2) {
+			// vxre is [(x.re, x.re), (x.re, x.re), ...]
+			vxre = FloatVector.broadcast(PFS, x[0]);
+			// vxim is [(x.im, x.im), (x.im, x.im), ...]
+			vxim = FloatVector.broadcast(PFS, x[1]);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+
+			// vmulxre [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final FloatVector vmulxre = vz.mul(vxre);
+			// vmulxim [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final FloatVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre ([z[0].re * x.re - z[0].im * x.im, ?], ...)
+			final FloatVector vrre = vmulxre.sub(vmulximswap);
+			// vrim ([?, z[0].im * x.re + z[0].re * x.im], ...)
+			final FloatVector vrim = vmulxre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z.getAtIndex(FLOAT, zOffset + 0) * x[0];
+			k1 = z.getAtIndex(FLOAT, zOffset + 1) * x[1];
+			k2 = (z.getAtIndex(FLOAT, zOffset + 0) + z.getAtIndex(FLOAT, zOffset + 1)) * (x[0] + x[1]);
+			z.setAtIndex(FLOAT, zOffset + 0, k0 - k1);
+			z.setAtIndex(FLOAT, zOffset + 1, k2 - k0 - k1);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cs_iw(MemorySegment z, long zOffset, float x[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_mul_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+
+			// vmulxre is [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final FloatVector vmulxre = vz.mul(vxre);
+
+			// vmulxre is [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final FloatVector vmulxim = vz.mul(vxim);
+
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([z[0].re * x.re - z[0].im * x.im, ?], ...)
+			final FloatVector vrre = vmulxre.sub(vmulximswap);
+			// vrim is ([?, z[0].im * x.re + z[0].re * x.im], ...)
+			final FloatVector vrim = vmulxre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z.getAtIndex(FLOAT, zOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0);
+			k1 = z.getAtIndex(FLOAT, zOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1);
+			k2 = (z.getAtIndex(FLOAT, zOffset + 0) + z.getAtIndex(FLOAT, zOffset + 1)) * (x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1));
+			z.setAtIndex(FLOAT, zOffset + 0, k0 - k1);
+			z.setAtIndex(FLOAT, zOffset + 1, k2 - k0 - k1);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_mul_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab vx.mul(y)
+		if (count >= EPV)
+			vy = FloatVector.broadcast(PFS, y);
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.mul(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset++) * y);
+	}
+
+	public static void rv_mul_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_mul_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+
+			vx.mul(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset++) * y.getAtIndex(FLOAT, yOffset++));
+	}
+
+	public static void rv_mul_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, Math.min(length(x) - xOffset, length(y) - yOffset)));
+			rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab vx.mul(y)
+		if (count >= EPV2)
+			vy = FloatVector.broadcast(PFS, y);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.mul(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) * y);
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) * y);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_mul_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			//@DONE: It is faster than FloatVector.fromArray(PFS, y, yOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS2, y, yOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			vx.mul(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+			yOffset += EPV2;
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) * y.getAtIndex(FLOAT, yOffset));
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) * y.getAtIndex(FLOAT, yOffset));
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_mul_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, length(y) - yOffset)));
+			cv_mul_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		FloatVector vyre = null, vyim = null;
+		if (count >= EPV2) {
+			// vyre is [(y.re, y.re), (y.re, y.re), ...]
+			vyre = FloatVector.broadcast(PFS, y[0]);
+			// vyim is [(y.im, y.im), (y.im, y.im), ...]
+			vyim = FloatVector.broadcast(PFS, y[1]);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+
+			// vmulyre [(x[0].re * y.re, x[0].im * y.re), (x[1].re * y.re, x[1].im * y.re), ...]
+			final FloatVector vmulyre = vx.mul(vyre);
+			// vmulyim [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y.im), ...]
+			final FloatVector vmulyim = vx.mul(vyim);
+			// vmulximswap [(x[0].im * y.im, x[0].re y x.im), (x[1].im * y.im, x[1].re * y.im), ...]
+			final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// it is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
+			final FloatVector vrre = vmulyre.sub(vmulximswap);
+			// it is ([?, x[0].im * y.re + x[0].re * y.im], ...)
+			final FloatVector vrim = vmulyre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1;
+		while (count-- > 0) {
+			k0 = x.getAtIndex(FLOAT, xOffset + 0) * y[0];
+			k1 = x.getAtIndex(FLOAT, xOffset + 1) * y[1];
+			z.setAtIndex(FLOAT, zOffset + 0, k0 - k1);
+			z.setAtIndex(FLOAT, zOffset + 1, (x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1)) * (y[0] + y[1]) - k0 - k1);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_mul_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+
+			// vmulyre is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final FloatVector vmulyre = vx.mul(vyre);
+			// vmulyim is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
+			final FloatVector vmulyim = vx.mul(vyim);
+			// vmulximswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final FloatVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
+			final FloatVector vrre = vmulyre.sub(vmulximswap);
+			// vrim is ([?, x[0].im * y.re + x[0].re * y.im], ...)
+			final FloatVector vrim = vmulyre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1;
+		while (count-- > 0) {
+			k0 = x.getAtIndex(FLOAT, xOffset + 0) * y.getAtIndex(FLOAT, yOffset + 0);
+			k1 = x.getAtIndex(FLOAT, xOffset + 1) * y.getAtIndex(FLOAT, yOffset + 1);
+			z.setAtIndex(FLOAT, zOffset + 0, k0 - k1);
+			z.setAtIndex(FLOAT, zOffset + 1, (x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1)) * (y.getAtIndex(FLOAT, yOffset + 0) + y.getAtIndex(FLOAT, yOffset + 1)) - k0 - k1);
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1)));
+			cv_mul_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rs_i(MemorySegment z, long zOffset, float x, int count) {
+		FloatVector vx = null;
+		//@DONE: it is fater thab vz.mul(x)
+		if (count >= EPV)
+			vx = FloatVector.broadcast(PFS, x);
+
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.div(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset, z.getAtIndex(FLOAT, zOffset++) / x);
+	}
+
+	public static void rv_div_rs_iw(MemorySegment z, long zOffset, float x, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_div_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.div(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset, z.getAtIndex(FLOAT, zOffset++) / (x.getAtIndex(FLOAT, xOffset++)));
+	}
+
+	public static void rv_div_rv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_div_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rs_i(MemorySegment z, long zOffset, float x, int count) {
+		FloatVector vx = null;
+		//@DONE: it is fater thab vz.mul(x)
+		if (count >= EPV2)
+			vx = FloatVector.broadcast(PFS, x);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.div(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) / x);
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) / x);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_rs_iw(MemorySegment z, long zOffset, float x, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_div_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.div(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) / (x.getAtIndex(FLOAT, xOffset)));
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) / (x.getAtIndex(FLOAT, xOffset)));
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_rv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			cv_div_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cs_i(MemorySegment z, long zOffset, float x[], int count) {
+		FloatVector vxre = null;
+		FloatVector vxim = null;
+		FloatVector vxsq = null;
+
+		if (count >= EPV2) {
+			// vxre is [(x.re, x.re), (x.re, x.re), ...]
+			vxre = FloatVector.broadcast(PFS, x[0]);
+			// vxim is [(x.im, x.im), (x.im, x.im), ...]
+			vxim = FloatVector.broadcast(PFS, x[1]);
+			// vxsq is [(x.re * x.re + x.im * x.im, x.re * x.re + x.im * x.im), ...]
+			vxsq = vxre.fma(vxre, vxim.mul(vxim));
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+
+			// vmulxre is [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final FloatVector vmulxre = vz.mul(vxre);
+			// vmulxm is [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final FloatVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([z[0].re * x.re + z[0].im * x.im, ?], ...)
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			// vrim is ([?, z[0].im * x.re - z[0].re * x.im], ...)
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vxsq).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float re, im, sq = 0;
+		if (count > 0)
+			sq = x[0] * x[0] + x[1] * x[1];
+		while (count-- > 0) {
+			re = (z.getAtIndex(FLOAT, zOffset + 0) * x[0] + z.getAtIndex(FLOAT, zOffset + 1) * x[1]) / sq;
+			im = (z.getAtIndex(FLOAT, zOffset + 1) * x[0] - z.getAtIndex(FLOAT, zOffset + 0) * x[1]) / sq;
+			z.setAtIndex(FLOAT, zOffset + 0, re);
+			z.setAtIndex(FLOAT, zOffset + 1, im);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_cs_iw(MemorySegment z, long zOffset, float x[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_div_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+
+			// vmulxre is [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final FloatVector vmulxre = vz.mul(vxre);
+			// vmulxim is [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final FloatVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vxsq is [(x[0].re * x[0].re + x[0].im * x[0].im, x[0].re * x[0].re + x[0].im * x[0].im), (x[1].re * x[1].re + x[1].im * x[1].im, x[1].re * x[1].re + x[1].im * x[1].im), ...]
+			final FloatVector vxsq = vxre.fma(vxre, vxim.mul(vxim));
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([z[0].re * x[0].re - z[0].im * x[0].im, ?], ...)
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			// vrim is ([?, z[0].im * x.re - z[0].re * x.im], ...)
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vxsq).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float re, im, sq;
+		while (count-- > 0) {
+			sq = x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1);
+			re = (z.getAtIndex(FLOAT, zOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + z.getAtIndex(FLOAT, zOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1)) / sq;
+			im = (z.getAtIndex(FLOAT, zOffset + 1) * x.getAtIndex(FLOAT, xOffset + 0) - z.getAtIndex(FLOAT, zOffset + 0) * x.getAtIndex(FLOAT, xOffset + 1)) / sq;
+			z.setAtIndex(FLOAT, zOffset + 0, re);
+			z.setAtIndex(FLOAT, zOffset + 1, im);
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_div_cv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_div_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab vx.div(y)
+		if (count >= EPV)
+			vy = FloatVector.broadcast(PFS, y);
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.div(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset++) / y);
+	}
+
+	public static void rv_div_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_div_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_div_rv(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, int count) {
+		FloatVector vx = null;
+		if (count >= EPV)
+			vx = FloatVector.broadcast(PFS, x);
+
+		while (count >= EPV) {
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.div(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x / y.getAtIndex(FLOAT, yOffset++));
+	}
+
+	public static void rs_div_rv_w(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(y) - yOffset));
+			rs_div_rv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.div(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset++) / y.getAtIndex(FLOAT, yOffset++));
+	}
+
+	public static void rv_div_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, Math.min(length(x) - xOffset, length(y) - yOffset)));
+			rv_div_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab vx.div(y)
+		if (count >= EPV2)
+			vy = FloatVector.broadcast(PFS, y);
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.div(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) / y);
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) / y);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_div_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_div_cv(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, int count) {
+		FloatVector vx = null;
+		if (count >= EPV2) {
+			// vx is [(x[0], 0), (x[1], 0), ...]
+			vx = FloatVector.broadcast(PFS, x).blend(0.0f, MASK_C_IM);
+		}
+
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vmulxre is [(x * y[0].re, 0), (x * y[1].re, 0), ...]
+			final FloatVector vmulxre = vx.mul(vyre);
+			// vmulxim is [(x * y[0].im, 0), (x * y[1].im, 0), ...]
+			final FloatVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(0, x * y[0].im), (0, x * y[1].im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vysq is [(y[0].re * y[0].re + y[0].im * y[0].im, y[0].re * y[0].re + y[0].im * y[0].im), (y[1].re * y[1].re + y[1].im * y[1].im, y[1].re * y[1].re + y[1].im * y[1].im), ...]
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			// Now blend real parts and negated imaginary parts and divide by abs(y)^2
+			final FloatVector vr = vmulxre.blend(vmulximswap.neg(), MASK_C_IM).div(vysq);
+			// Save
+			vr.intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float sq;
+		while (count-- > 0) {
+			sq = y.getAtIndex(FLOAT, yOffset + 0) * y.getAtIndex(FLOAT, yOffset + 0) + y.getAtIndex(FLOAT, yOffset + 1) * y.getAtIndex(FLOAT, yOffset + 1);
+			z.setAtIndex(FLOAT, zOffset + 0, x * y.getAtIndex(FLOAT, yOffset + 0) / sq);
+			z.setAtIndex(FLOAT, zOffset + 1, -x * y.getAtIndex(FLOAT, yOffset + 1) / sq);
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rs_div_cv_w(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(y) - yOffset) >> 1));
+			rs_div_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			//@DONE: It is faster than FloatVector.fromArray(PFS, y, yOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS2, y, yOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			vx.div(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			yOffset += EPV2;
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) / y.getAtIndex(FLOAT, yOffset));
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) / y.getAtIndex(FLOAT, yOffset));
+			xOffset += 2;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, length(y) - yOffset)));
+			cv_div_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			// vx is [(x[0], 0), (x[1], 0), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+
+			// vmulxre is [(x[0] * y[0].re, 0), (x[1] * y[1].re, 0), ...]
+			final FloatVector vmulxre = vx.mul(vyre);
+			// vmulxim is [(x[0] * y[0].im, 0), (x[1] * y[1].im, 0), ...]
+			final FloatVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(0, x[0] * y[0].im), (0, x[1] * y[1].im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vysq is [(y[0].re * y[0].re + y[0].im * y[0].im, y[0].re * y[0].re + y[0].im * y[0].im), (y[1].re * y[1].re + y[1].im * y[1].im, y[1].re * y[1].re + y[1].im * y[1].im), ...]
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			// Now blend real parts and negated imaginary parts and divide by abs(y)^2
+			final FloatVector vr = vmulxre.blend(vmulximswap.neg(), MASK_C_IM).div(vysq);
+			// Save
+			vr.intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float sq;
+		while (count-- > 0) {
+			sq = y.getAtIndex(FLOAT, yOffset + 0) * y.getAtIndex(FLOAT, yOffset + 0) + y.getAtIndex(FLOAT, yOffset + 1) * y.getAtIndex(FLOAT, yOffset + 1);
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset) * y.getAtIndex(FLOAT, yOffset + 0) / sq);
+			z.setAtIndex(FLOAT, zOffset + 1, -x.getAtIndex(FLOAT, xOffset) * y.getAtIndex(FLOAT, yOffset + 1) / sq);
+			xOffset += 1;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_div_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min(length(x) - xOffset, (length(y) - yOffset) >> 1)));
+			rv_div_cv(z, zOffset >> 1, x, xOffset, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		FloatVector vyre = null;
+		FloatVector vyim = null;
+		FloatVector vysq = null;
+
+		if (count >= EPV2) {
+			// vyre is [(y.re, y.re), (y.re, y.re), ...]
+			vyre = FloatVector.broadcast(PFS, y[0]);
+			// vyim is [(y.im, y.im), (y.im, y.im), ...]
+			vyim = FloatVector.broadcast(PFS, y[1]);
+			// vysq is [(y.re * y.re + y.im * y.im, y.re * y.re + y.im * y.im), (y.re * y.re + y.im * y.im, y.re * y.re + y.im * y.im), ...]
+			vysq = vyre.fma(vyre, vyim.mul(vyim));
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+
+			// vmulxre is [(x[0].re * y.re, x[0].im * y.re), (x[1].re * y.re, x[1].im * y.re), ...]
+			final FloatVector vmulxre = vx.mul(vyre);
+			// vmulxim is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y.im), ...]
+			final FloatVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(x[0].im * y.im, x[0].re * y.im), (x[1].im * y.im, x[1].re * y.im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([x[0].re * y.re + x[0].im * y.im, ?], ...)
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			// vrim is ([?, x[0].im * y.re - x[0].re * y.im], ...)
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float sq = 0;
+		if (count > 0)
+			sq = y[0] * y[0] + y[1] * y[1];
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, (x.getAtIndex(FLOAT, xOffset + 0) * y[0] + x.getAtIndex(FLOAT, xOffset + 1) * y[1]) / sq);
+			z.setAtIndex(FLOAT, zOffset + 1, (x.getAtIndex(FLOAT, xOffset + 1) * y[0] - x.getAtIndex(FLOAT, xOffset + 0) * y[1]) / sq);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_cs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_div_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cs_div_cv(MemorySegment z, long zOffset, float x[], MemorySegment y, long yOffset, int count) {
+		FloatVector vx = null;
+		//@DONE: It is faster than FloatVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vx = FloatVector.fromArray(FS64, x, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vmulxre [(x.re * y[0].re, x.im * y[0].re), (x.re * y[1].re, x.im * y[1].re), ...]
+			final FloatVector vmulxre = vx.mul(vyre);
+			// vmulxim [(x.re * y[0].im, x.im * y[0].im), (x.re * y[1].im, x.im * y[1].im), ...]
+			final FloatVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(x.im * y[0].im, x.re * y[0].im), (x.im * y[1].im, x.re * y[1].im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// Get abs to divide
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is [(x.re * y[0].re + x.im * y[0].im, ?), (x.re * y[1].re + x.im * y[1].im, ?), ...]
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			// vrim it is [(?, x.im * y[0].re - x.re * y[0].im), (?, x.im * y[1].re - x.re * y[1].im), ...]
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float sq;
+		while (count-- > 0) {
+			sq = y.getAtIndex(FLOAT, yOffset + 0) * y.getAtIndex(FLOAT, yOffset + 0) + y.getAtIndex(FLOAT, yOffset + 1) * y.getAtIndex(FLOAT, yOffset + 1);
+			z.setAtIndex(FLOAT, zOffset + 0, (x[0] * y.getAtIndex(FLOAT, yOffset + 0) + x[1] * y.getAtIndex(FLOAT, yOffset + 1)) / sq);
+			z.setAtIndex(FLOAT, zOffset + 1, (x[1] * y.getAtIndex(FLOAT, yOffset + 0) - x[0] * y.getAtIndex(FLOAT, yOffset + 1)) / sq);
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cs_div_cv_w(MemorySegment z, long zOffset, float x[], MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(y) - yOffset) >> 1));
+			cs_div_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vmulxre [(x[0].re * y[0].re, x[0].im * y[0].re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final FloatVector vmulxre = vx.mul(vyre);
+			// vmulxim [(x[0].re * y[0].im, x[0].im * y[0].im), (x[1].re * y[1].im, x[1].im * y[1].im), ...]
+			final FloatVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(x[0].im * y[0].im, x[0].re * y[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vysq is [(y[0].re * y[0].re + y[0].im * y[0].im, y[0].re * y[0].re + y[0].im * y[0].im), (y[1].re * y[1].re + y[1].im * y[1].im, y[1].re * y[1].re + y[1].im * y[1].im), ...]
+			final FloatVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is [(x[0].re * y[0].re + x[0].im * y[0].im, ?), (x[1].re * y[1].re + x[1].im * y[1].im, ?), ...]
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			// vrim it is [(?, x[0].im * y[0].re - x[0].re * y[0].im), (?, x[1].im * y[1].re - x[1].re * y[1].im), ...]
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float sq;
+		while (count-- > 0) {
+			sq = y.getAtIndex(FLOAT, yOffset + 0) * y.getAtIndex(FLOAT, yOffset + 0) + y.getAtIndex(FLOAT, yOffset + 1) * y.getAtIndex(FLOAT, yOffset + 1);
+			z.setAtIndex(FLOAT, zOffset + 0, (x.getAtIndex(FLOAT, xOffset + 0) * y.getAtIndex(FLOAT, yOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * y.getAtIndex(FLOAT, yOffset + 1)) / sq);
+			z.setAtIndex(FLOAT, zOffset + 1, (x.getAtIndex(FLOAT, xOffset + 1) * y.getAtIndex(FLOAT, yOffset + 0) - x.getAtIndex(FLOAT, xOffset + 0) * y.getAtIndex(FLOAT, yOffset + 1)) / sq);
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1)));
+			cv_div_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_conjmul_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.mul(vy.lanewise(VectorOperators.NEG, MASK_C_IM)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset) * y.getAtIndex(FLOAT, yOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 1, -x.getAtIndex(FLOAT, xOffset) * y.getAtIndex(FLOAT, yOffset + 1));
+			xOffset += 1;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_conjmul_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min(length(x) - xOffset, (length(y) - yOffset) >> 1)));
+			rv_conjmul_cv(z, zOffset >> 1, x, xOffset, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conjmul_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+
+			// vmulxre is [(z[0].re * x[0].re, z[0].im * x[0].re), (z[1].re * x[0].re, z[1].im * x[0].re), ...]
+			final FloatVector vmulxre = vz.mul(vxre);
+			// vmulxim is [(z[0].re * x[0].im, z[0].im * x[0].im), (z[1].re * x[1].im, z[1].im * x[1].im), ...]
+			final FloatVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x[0].im, z[0].re * x[0].im), (z[1].im * x[1].im, z[1].re * x[1].im), ...]
+			final FloatVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre it is [(z[0].re * x[0].re + z[0].im * x[0].im, ?), (z[1].re * x[1].re + z[1].im * x[1].im, ?)]
+			final FloatVector vrre = vmulxre.add(vmulximswap);
+			// vrim it is [(?, z[0].im * x[0].re - z[0].re * x[0].im), (?, z[1].im * x[1].re - z[1].re * x[1].im), ...]
+			final FloatVector vrim = vmulxre.sub(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z.getAtIndex(FLOAT, zOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0);
+			k1 = z.getAtIndex(FLOAT, zOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1);
+			k2 = (z.getAtIndex(FLOAT, zOffset + 0) + z.getAtIndex(FLOAT, zOffset + 1)) * (x.getAtIndex(FLOAT, xOffset + 0) - x.getAtIndex(FLOAT, xOffset + 1));
+			z.setAtIndex(FLOAT, zOffset + 0, k0 + k1);
+			z.setAtIndex(FLOAT, zOffset + 1, k2 - k0 + k1);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conjmul_cv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_conjmul_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conjmul_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// Load x
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+
+			// vmuly is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final FloatVector vmulyre = vx.mul(vyre);
+			// vmuly is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
+			final FloatVector vmulyim = vx.mul(vyim);
+			// vmulyswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final FloatVector vmulyimswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre it is [(x[0].re * y[0].re + x[0].im * y[0].im, ?), (x[1].re * y[1].re + x[1].im * y[1].im, ?)]
+			final FloatVector vrre = vmulyre.add(vmulyimswap);
+			// vrim it is [(?, x[0].im * y[0].re - x[0].re * y[0].im), (?, x[1].im * y[1].re - x[1].re * y[1].im), ...]
+			final FloatVector vrim = vmulyre.sub(vmulyimswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1;
+		while (count-- > 0) {
+			k0 = x.getAtIndex(FLOAT, xOffset + 0) * y.getAtIndex(FLOAT, yOffset + 0);
+			k1 = x.getAtIndex(FLOAT, xOffset + 1) * y.getAtIndex(FLOAT, yOffset + 1);
+			z.setAtIndex(FLOAT, zOffset + 0, k0 + k1);
+			z.setAtIndex(FLOAT, zOffset + 1, (x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1)) * (y.getAtIndex(FLOAT, yOffset + 0) - y.getAtIndex(FLOAT, yOffset + 1)) - k0 + k1);
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conjmul_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1)));
+			cv_conjmul_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conj_i(MemorySegment z, long zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.lanewise(VectorOperators.NEG, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		zOffset++;
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, -z.getAtIndex(FLOAT, zOffset)); // + 1
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conj_iw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_conj_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conj(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.lanewise(VectorOperators.NEG, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 1, -x.getAtIndex(FLOAT, xOffset + 1));
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conj_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_conj(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_expi(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		while (count >= EPV) {
+			//@DONE: check, do we need pack and process twice elements, and save result twice
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vzre = vx.lanewise(VectorOperators.COS);
+			final FloatVector vzim = vx.lanewise(VectorOperators.SIN);
+			// And now we should combine TWO z vectors from re/im, as they are packed without empty slots
+			vzre.rearrange(SHUFFLE_RV_TO_CV_RE_LOW).blend(vzim.rearrange(SHUFFLE_RV_TO_CV_IM_LOW), MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+			vzre.rearrange(SHUFFLE_RV_TO_CV_RE_HIGH).blend(vzim.rearrange(SHUFFLE_RV_TO_CV_IM_HIGH), MASK_C_IM).intoMemorySegment(z, (zOffset + EPV) * Float.BYTES, ORDER);
+
+			// We stored twice as much complex numbers
+			xOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+		// If we have half-vector
+		if (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vzre = vx.lanewise(VectorOperators.COS).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			final FloatVector vzim = vx.lanewise(VectorOperators.SIN).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			vzre.blend(vzim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, (float)Math.cos(x.getAtIndex(FLOAT, xOffset)));
+			z.setAtIndex(FLOAT, zOffset + 1, (float)Math.sin(x.getAtIndex(FLOAT, xOffset)));
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_expi_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			rv_expi(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_expi_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// Sine and cosine share range reduction and are stored as TWO z vectors
+			expi_f(z, zOffset, ONE, vx);
+
+			// We stored twice as much complex numbers
+			xOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, FastTrig.cos(x.getAtIndex(FLOAT, xOffset)));
+			z.setAtIndex(FLOAT, zOffset + 1, FastTrig.sin(x.getAtIndex(FLOAT, xOffset)));
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_expi_fw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			rv_expi_f(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_exp_i(MemorySegment z, long zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.lanewise(VectorOperators.EXP).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, (float)Math.exp(z.getAtIndex(FLOAT, zOffset)));
+			zOffset++;
+		}
+	}
+
+	public static void rv_exp_iw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_exp_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_i(MemorySegment z, long zOffset, int count) {
+		zOffset <<= 1;
+
+		// To process
+		while (count >= EPV) {
+			//@DONE: one load & two reshuffles are faster
+			//@DONE: it is better than process one vector
+			final FloatVector vz1 = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			final FloatVector vz2 = FloatVector.fromMemorySegment(PFS, z, (zOffset + EPV) * Float.BYTES, ORDER);
+
+			// Ger vz1re/vz1im till vz2 is loading
+			final FloatVector vz1re = vz1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vz1im = vz1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			// Ger vz2re/vz2im
+			final FloatVector vz2re = vz2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vz2im = vz2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			// Combine them
+			final FloatVector vzreexp = vz1re.blend(vz2re, MASK_SECOND_HALF).lanewise(VectorOperators.EXP);
+			final FloatVector vzim = vz1im.blend(vz2im, MASK_SECOND_HALF);
+
+			final FloatVector vrre = vzreexp.mul(vzim.lanewise(VectorOperators.COS));
+			final FloatVector vrim = vzreexp.mul(vzim.lanewise(VectorOperators.SIN));
+
+			// And combine & store twice
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoMemorySegment(z, (zOffset + EPV) * Float.BYTES, ORDER);
+
+			// We loaded and stored twice as many numbers
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		//@DONE: Don't process obe PFS-sized vector, it is too expensive to setup for only one
+
+		while (count-- > 0) {
+			float g = (float)Math.exp(z.getAtIndex(FLOAT, zOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 0, g * (float)Math.cos(z.getAtIndex(FLOAT, zOffset + 1)));
+			z.setAtIndex(FLOAT, zOffset + 1, g * (float)Math.sin(z.getAtIndex(FLOAT, zOffset + 1)));
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_iw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_exp_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_if(MemorySegment z, long zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vz1 = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			final FloatVector vz2 = FloatVector.fromMemorySegment(PFS, z, (zOffset + EPV) * Float.BYTES, ORDER);
+
+			final FloatVector vz1re = vz1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vz1im = vz1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vz2re = vz2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vz2im = vz2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vzreexp = exp_f(vz1re.blend(vz2re, MASK_SECOND_HALF));
+			final FloatVector vzim = vz1im.blend(vz2im, MASK_SECOND_HALF);
+
+			// Multiply sine and cosine by exp(re) and store twice
+			expi_f(z, zOffset, vzreexp, vzim);
+
+			// We loaded and stored twice as many numbers
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float g = (float)Math.exp(z.getAtIndex(FLOAT, zOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 0, g * FastTrig.cos(z.getAtIndex(FLOAT, zOffset + 1)));
+			z.setAtIndex(FLOAT, zOffset + 1, g * FastTrig.sin(z.getAtIndex(FLOAT, zOffset + 1)));
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_ifw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_exp_if(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_exp(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.lanewise(VectorOperators.EXP).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, (float)Math.exp(x.getAtIndex(FLOAT, xOffset++)));
+	}
+
+	public static void rv_exp_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_exp(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		// To process
+		while (count >= EPV) {
+			//@DONE: one load & two reshuffles are faster
+			//@DONE: it is better than process one vector
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER);
+
+			// Ger vx1re/vx1im till vx2 is loading
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			// Ger vx2re/vx2im
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			// Combine them
+			final FloatVector vxreexp = vx1re.blend(vx2re, MASK_SECOND_HALF).lanewise(VectorOperators.EXP);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vrre = vxreexp.mul(vxim.lanewise(VectorOperators.COS));
+			final FloatVector vrim = vxreexp.mul(vxim.lanewise(VectorOperators.SIN));
+
+			// And combine & store twice
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoMemorySegment(z, (zOffset + EPV) * Float.BYTES, ORDER);
+
+			// We loaded and stored twice as many numbers
+			xOffset += EPV * 2;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		//@DONE: Don't process obe PFS-sized vector, it is too expensive to setup for only one
+
+		while (count-- > 0) {
+			float g = (float)Math.exp(x.getAtIndex(FLOAT, xOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 0, g * (float)Math.cos(x.getAtIndex(FLOAT, xOffset + 1)));
+			z.setAtIndex(FLOAT, zOffset + 1, g * (float)Math.sin(x.getAtIndex(FLOAT, xOffset + 1)));
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_exp(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxreexp = exp_f(vx1re.blend(vx2re, MASK_SECOND_HALF));
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			// Multiply sine and cosine by exp(re) and store twice
+			expi_f(z, zOffset, vxreexp, vxim);
+
+			// We loaded and stored twice as many numbers
+			xOffset += EPV * 2;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float g = (float)Math.exp(x.getAtIndex(FLOAT, xOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 0, g * FastTrig.cos(x.getAtIndex(FLOAT, xOffset + 1)));
+			z.setAtIndex(FLOAT, zOffset + 1, g * FastTrig.sin(x.getAtIndex(FLOAT, xOffset + 1)));
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_fw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_exp_f(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_im(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_IM, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER);
+
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+			vxim.intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		xOffset += 1;
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset)); // + 1
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_im_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_im(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_re(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_RE, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			vxre.intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset));
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_re_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_re(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_abs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			vxre.lanewise(VectorOperators.HYPOT, vxim).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset++, (float)Math.hypot(x.getAtIndex(FLOAT, xOffset + 0), x.getAtIndex(FLOAT, xOffset + 1)));
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_abs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_abs(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_arg(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			vxim.lanewise(VectorOperators.ATAN2, vxre).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset++, (float)Math.atan2(x.getAtIndex(FLOAT, xOffset + 1), x.getAtIndex(FLOAT, xOffset + 0)));
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_arg_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_arg(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_arg_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			atan2_f(vxim, vxre).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset++, FastTrig.atan2(x.getAtIndex(FLOAT, xOffset + 1), x.getAtIndex(FLOAT, xOffset + 0)));
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_arg_fw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_arg_f(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_argmul_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab ...mul(y)
+		if (count >= EPV)
+			vy = FloatVector.broadcast(PFS, y);
+
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			vxim.lanewise(VectorOperators.ATAN2, vxre).mul(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset++, y * (float)Math.atan2(x.getAtIndex(FLOAT, xOffset + 1), x.getAtIndex(FLOAT, xOffset + 0)));
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_argmul_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_argmul_rs(z, zOffset, x, xOffset >> 1, y, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_argmul_rs_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		FloatVector vy = null;
+		//@DONE: it is fater thab ...mul(y)
+		if (count >= EPV)
+			vy = FloatVector.broadcast(PFS, y);
+
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			atan2_f(vxim, vxre).mul(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset++, y * FastTrig.atan2(x.getAtIndex(FLOAT, xOffset + 1), x.getAtIndex(FLOAT, xOffset + 0)));
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_argmul_rs_fw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_argmul_rs_f(z, zOffset, x, xOffset >> 1, y, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_abs_i(MemorySegment z, long zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.abs().intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, Math.abs(z.getAtIndex(FLOAT, zOffset)));
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_abs_iw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_abs_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_abs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.abs().intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, Math.abs(x.getAtIndex(FLOAT, xOffset++)));
+	}
+
+	public static void rv_abs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_abs(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_cvt(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		while (count >= EPV2) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+			vx.intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset));
+			z.setAtIndex(FLOAT, zOffset + 1, 0.0f);
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void rv_cvt_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			rv_cvt(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_i(MemorySegment z, long zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			final FloatVector vrre = vzre.lanewise(VectorOperators.HYPOT, vzim);
+			final FloatVector vrim = vzim.lanewise(VectorOperators.ATAN2, vzre);
+
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float abs, arg;
+		while (count-- > 0) {
+			abs = (float)Math.hypot(z.getAtIndex(FLOAT, zOffset + 0), z.getAtIndex(FLOAT, zOffset + 1));
+			arg = (float)Math.atan2(z.getAtIndex(FLOAT, zOffset + 1), z.getAtIndex(FLOAT, zOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 0, abs);
+			z.setAtIndex(FLOAT, zOffset + 1, arg);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_iw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_r2p_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_if(MemorySegment z, long zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			// Fast version doesn't protect from overflow, as Math.hypot() does
+			final FloatVector vrre = vzre.fma(vzre, vzim.mul(vzim)).sqrt();
+			final FloatVector vrim = atan2_f(vzim, vzre);
+
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float abs, arg;
+		while (count-- > 0) {
+			abs = (float)Math.hypot(z.getAtIndex(FLOAT, zOffset + 0), z.getAtIndex(FLOAT, zOffset + 1));
+			arg = FastTrig.atan2(z.getAtIndex(FLOAT, zOffset + 1), z.getAtIndex(FLOAT, zOffset + 0));
+			z.setAtIndex(FLOAT, zOffset + 0, abs);
+			z.setAtIndex(FLOAT, zOffset + 1, arg);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_ifw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_r2p_if(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			final FloatVector vrre = vxre.lanewise(VectorOperators.HYPOT, vxim);
+			final FloatVector vrim = vxim.lanewise(VectorOperators.ATAN2, vxre);
+
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, (float)Math.hypot(x.getAtIndex(FLOAT, xOffset + 0), x.getAtIndex(FLOAT, xOffset + 1)));
+			z.setAtIndex(FLOAT, zOffset + 1, (float)Math.atan2(x.getAtIndex(FLOAT, xOffset + 1), x.getAtIndex(FLOAT, xOffset + 0)));
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_r2p(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			// Fast version doesn't protect from overflow, as Math.hypot() does
+			final FloatVector vrre = vxre.fma(vxre, vxim.mul(vxim)).sqrt();
+			final FloatVector vrim = atan2_f(vxim, vxre);
+
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, (float)Math.hypot(x.getAtIndex(FLOAT, xOffset + 0), x.getAtIndex(FLOAT, xOffset + 1)));
+			z.setAtIndex(FLOAT, zOffset + 1, FastTrig.atan2(x.getAtIndex(FLOAT, xOffset + 1), x.getAtIndex(FLOAT, xOffset + 0)));
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_fw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_r2p_f(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_p2r_i(MemorySegment z, long zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			//@TODO: check, do we need pack and process twice elements, and save result twice
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: .cos(MASK_C_IM)/.sin(MASK_C_RE) is much slower
+			final FloatVector vrre = vzre.mul(vzim.lanewise(VectorOperators.COS));
+			final FloatVector vrim = vzre.mul(vzim.lanewise(VectorOperators.SIN));
+
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float re, im;
+		while (count-- > 0) {
+			re = z.getAtIndex(FLOAT, zOffset + 0) * (float)Math.cos(z.getAtIndex(FLOAT, zOffset + 1));
+			im = z.getAtIndex(FLOAT, zOffset + 0) * (float)Math.sin(z.getAtIndex(FLOAT, zOffset + 1));
+			z.setAtIndex(FLOAT, zOffset + 0, re);
+			z.setAtIndex(FLOAT, zOffset + 1, im);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_p2r_iw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(z) - zOffset) >> 1);
+			cv_p2r_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_p2r(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			//@TODO: check, do we need pack and process twice elements, and save result twice
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: .cos(MASK_C_IM)/.sin(MASK_C_RE) is much slower
+			final FloatVector vrre = vxre.mul(vxim.lanewise(VectorOperators.COS));
+			final FloatVector vrim = vxre.mul(vxim.lanewise(VectorOperators.SIN));
+
+			vrre.blend(vrim, MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) * (float)Math.cos(x.getAtIndex(FLOAT, xOffset + 1)));
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 0) * (float)Math.sin(x.getAtIndex(FLOAT, xOffset + 1)));
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_p2r_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_p2r(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static float rv_sum(MemorySegment x, long xOffset, int count) {
+		// Independent accumulators hide latency of addition and there is only one reduction at the end
+		// See specific.RVsum benchmark
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		FloatVector vsum3 = FloatVector.zero(PFS);
+		FloatVector vsum4 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+
+		while (count >= EPVx4) {
+			vsum1 = vsum1.add(FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER));
+			vsum2 = vsum2.add(FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER));
+			vsum3 = vsum3.add(FloatVector.fromMemorySegment(PFS, x, (xOffset + EPVx2) * Float.BYTES, ORDER));
+			vsum4 = vsum4.add(FloatVector.fromMemorySegment(PFS, x, (xOffset + EPVx3) * Float.BYTES, ORDER));
+
+			xOffset += EPVx4;
+			count -= EPVx4;
+		}
+
+		if (count >= EPVx2) {
+			vsum1 = vsum1.add(FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER));
+			vsum2 = vsum2.add(FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER));
+
+			xOffset += EPVx2;
+			count -= EPVx2;
+		}
+
+		if (count >= EPV) {
+			vsum3 = vsum3.add(FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER));
+
+			xOffset += EPV;
+			count -= EPV;
+		}
+
+		float sum = 0.0f;
+		while (count-- > 0)
+			sum += x.getAtIndex(FLOAT, xOffset++);
+
+		if (needLanes)
+			sum += vsum1.add(vsum2).add(vsum3.add(vsum4)).reduceLanes(VectorOperators.ADD);
+		return sum;
+	}
+
+	public static float rv_sum_w(MemorySegment x, long xOffset, int count) {
+		float sum = 0.0f;
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(x) - xOffset);
+			sum += rv_sum(x, xOffset, work);
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+		return sum;
+	}
+
+	public static void cv_sum(float z[], MemorySegment x, long xOffset, int count) {
+		cv_sum(MemorySegment.ofArray(z), 0, x, xOffset, count);
+	}
+
+	public static void cv_sum(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		// Sums of real and imaginary parts are accumulated in place, and split only once at the end
+		// See specific.CVsum benchmark
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV2;
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			vsum1 = vsum1.add(FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER));
+			vsum2 = vsum2.add(FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER));
+
+			xOffset += EPVx2;
+			count -= EPV;
+		}
+
+		if (count >= EPV2) {
+			vsum1 = vsum1.add(FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER));
+
+			xOffset += EPV;
+			count -= EPV2;
+		}
+
+		float re = 0.0f;
+		float im = 0.0f;
+		while (count-- > 0) {
+			re += x.getAtIndex(FLOAT, xOffset + 0);
+			im += x.getAtIndex(FLOAT, xOffset + 1);
+			xOffset += 2;
+		}
+
+		if (needLanes) {
+			// vsum is [(sum.re, sum.im), (sum.re, sum.im), ...]
+			final FloatVector vsum = vsum1.add(vsum2);
+			// It is faster than addLanes(MASK)
+			re += vsum.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+			im += vsum.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+		}
+		z.setAtIndex(FLOAT, zOffset + 0, re);
+		z.setAtIndex(FLOAT, zOffset + 1, im);
+	}
+
+	public static void cv_sum_w(float z[], MemorySegment x, long xOffset, int count) {
+		cv_sum_w(MemorySegment.ofArray(z), 0, x, xOffset, count);
+	}
+
+	public static void cv_sum_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(x) - xOffset) >> 1);
+			cv_sum(sum, x, xOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z.setAtIndex(FLOAT, zOffset + 0, re);
+		z.setAtIndex(FLOAT, zOffset + 1, im);
+	}
+
+	public static float rv_dot_rv(MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		// Independent accumulators hide latency of fma and there is only one reduction at the end
+		// See specific.RVdotRV benchmark
+		FloatVector vsum1 = FloatVector.zero(PFS);
+		FloatVector vsum2 = FloatVector.zero(PFS);
+		FloatVector vsum3 = FloatVector.zero(PFS);
+		FloatVector vsum4 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+
+		while (count >= EPVx4) {
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy1 = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER);
+			final FloatVector vy2 = FloatVector.fromMemorySegment(PFS, y, (yOffset + EPV) * Float.BYTES, ORDER);
+			final FloatVector vx3 = FloatVector.fromMemorySegment(PFS, x, (xOffset + EPVx2) * Float.BYTES, ORDER);
+			final FloatVector vy3 = FloatVector.fromMemorySegment(PFS, y, (yOffset + EPVx2) * Float.BYTES, ORDER);
+			final FloatVector vx4 = FloatVector.fromMemorySegment(PFS, x, (xOffset + EPVx3) * Float.BYTES, ORDER);
+			final FloatVector vy4 = FloatVector.fromMemorySegment(PFS, y, (yOffset + EPVx3) * Float.BYTES, ORDER);
+
+			vsum1 = vx1.fma(vy1, vsum1);
+			vsum2 = vx2.fma(vy2, vsum2);
+			vsum3 = vx3.fma(vy3, vsum3);
+			vsum4 = vx4.fma(vy4, vsum4);
+
+			xOffset += EPVx4;
+			yOffset += EPVx4;
+			count -= EPVx4;
+		}
+
+		if (count >= EPVx2) {
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy1 = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER);
+			final FloatVector vy2 = FloatVector.fromMemorySegment(PFS, y, (yOffset + EPV) * Float.BYTES, ORDER);
+
+			vsum1 = vx1.fma(vy1, vsum1);
+			vsum2 = vx2.fma(vy2, vsum2);
+
+			xOffset += EPVx2;
+			yOffset += EPVx2;
+			count -= EPVx2;
+		}
+
+		if (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+
+			vsum3 = vx.fma(vy, vsum3);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV;
+		}
+
+		float sum = 0.0f;
+		while (count-- > 0)
+			sum += x.getAtIndex(FLOAT, xOffset++) * y.getAtIndex(FLOAT, yOffset++);
+
+		if (needLanes)
+			sum += vsum1.add(vsum2).add(vsum3.add(vsum4)).reduceLanes(VectorOperators.ADD);
+		return sum;
+	}
+
+	public static float rv_dot_rv_w(MemorySegment x, long xOffset, float y[], int count) {
+		float sum = 0.0f;
+		xOffset = preWrap(xOffset, length(x));
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = (int)Math.min(count, length(x) - xOffset);
+			sum += rv_dot_rv(x, xOffset, MemorySegment.ofArray(y), yOffset, work);
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			count -= work;
+		}
+		return sum;
+	}
+
+	public static float rv_dot_rv_w(MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		float sum = 0.0f;
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(x) - xOffset, length(y) - yOffset));
+			sum += rv_dot_rv(x, xOffset, y, yOffset, work);
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+		return sum;
+	}
+
+	public static void rv_dot_cv(float z[], MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		rv_dot_cv(MemorySegment.ofArray(z), 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		// Vector accumulators and only one reduction at the end
+		FloatVector vsumre = FloatVector.zero(PFS);
+		FloatVector vsumim = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			//@DONE: It is faster than FloatVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vy1 = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			final FloatVector vy2 = FloatVector.fromMemorySegment(PFS, y, (yOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vy1re = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vy1im = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vy2re = vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vy2im = vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vyre = vy1re.blend(vy2re, MASK_SECOND_HALF);
+			final FloatVector vyim = vy1im.blend(vy2im, MASK_SECOND_HALF);
+
+			vsumre = vx.fma(vyre, vsumre);
+			vsumim = vx.fma(vyim, vsumim);
+
+			xOffset += EPV;
+			yOffset += EPV * 2; // We load twice as much complex numbers
+			count -= EPV;
+		}
+
+		float re = 0.0f;
+		float im = 0.0f;
+		while (count-- > 0) {
+			re += x.getAtIndex(FLOAT, xOffset) * y.getAtIndex(FLOAT, yOffset + 0);
+			im += x.getAtIndex(FLOAT, xOffset) * y.getAtIndex(FLOAT, yOffset + 1);
+			xOffset += 1;
+			yOffset += 2;
+		}
+
+		if (needLanes) {
+			re += vsumre.reduceLanes(VectorOperators.ADD);
+			im += vsumim.reduceLanes(VectorOperators.ADD);
+		}
+		z.setAtIndex(FLOAT, zOffset + 0, re);
+		z.setAtIndex(FLOAT, zOffset + 1, im);
+	}
+
+	public static void rv_dot_cv_w(float z[], MemorySegment x, long xOffset, float y[], int count) {
+		rv_dot_cv_w(MemorySegment.ofArray(z), 0, x, xOffset, y, count);
+	}
+
+	public static void rv_dot_cv_w(float z[], MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		rv_dot_cv_w(MemorySegment.ofArray(z), 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrap(xOffset, length(x));
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = (int)Math.min(count, length(x) - xOffset);
+			rv_dot_cv(sum, x, xOffset, MemorySegment.ofArray(y), yOffset, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z.setAtIndex(FLOAT, zOffset + 0, re);
+		z.setAtIndex(FLOAT, zOffset + 1, im);
+	}
+
+	public static void rv_dot_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(x) - xOffset, (length(y) - yOffset) >> 1));
+			rv_dot_cv(sum, x, xOffset, y, yOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z.setAtIndex(FLOAT, zOffset + 0, re);
+		z.setAtIndex(FLOAT, zOffset + 1, im);
+	}
+
+	public static void cv_dot_rv_w(float z[], MemorySegment x, long xOffset, float y[], int count) {
+		cv_dot_rv_w(MemorySegment.ofArray(z), 0, x, xOffset, y, count);
+	}
+
+	public static void cv_dot_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		// There is no cv_dot_rv(), but dot product is commutative
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrapCv(xOffset, length(x));
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = (int)Math.min(count, (length(x) - xOffset) >> 1);
+			rv_dot_cv(sum, MemorySegment.ofArray(y), yOffset, x, xOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z.setAtIndex(FLOAT, zOffset + 0, re);
+		z.setAtIndex(FLOAT, zOffset + 1, im);
+	}
+
+	public static void cv_dot_rv_w(float z[], MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		cv_dot_rv_w(MemorySegment.ofArray(z), 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(x) - xOffset) >> 1, length(y) - yOffset));
+			rv_dot_cv(sum, y, yOffset, x, xOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z.setAtIndex(FLOAT, zOffset + 0, re);
+		z.setAtIndex(FLOAT, zOffset + 1, im);
+	}
+
+	public static void cv_dot_cv(float z[], MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		cv_dot_cv(MemorySegment.ofArray(z), 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		// Products by real and imaginary parts of y are accumulated separately,
+		// and combined to complex result only once at the end
+		// See specific.CVdotCV benchmark
+		FloatVector vsumyre1 = FloatVector.zero(PFS);
+		FloatVector vsumyim1 = FloatVector.zero(PFS);
+		FloatVector vsumyre2 = FloatVector.zero(PFS);
+		FloatVector vsumyim2 = FloatVector.zero(PFS);
+		final boolean needLanes = count >= EPV2;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy1 = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			final FloatVector vy2 = FloatVector.fromMemorySegment(PFS, y, (yOffset + EPV) * Float.BYTES, ORDER);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER);
+
+			// vsumyre is [(x[0].re * y[0].re, x[0].im * y[0].re), ...] accumulated
+			vsumyre1 = vx1.fma(vy1.rearrange(SHUFFLE_CV_SPREAD_RE), vsumyre1);
+			vsumyre2 = vx2.fma(vy2.rearrange(SHUFFLE_CV_SPREAD_RE), vsumyre2);
+			// vsumyim is [(x[0].re * y[0].im, x[0].im * y[0].im), ...] accumulated
+			vsumyim1 = vx1.fma(vy1.rearrange(SHUFFLE_CV_SPREAD_IM), vsumyim1);
+			vsumyim2 = vx2.fma(vy2.rearrange(SHUFFLE_CV_SPREAD_IM), vsumyim2);
+
+			xOffset += EPVx2;
+			yOffset += EPVx2;
+			count -= EPV;
+		}
+
+		if (count >= EPV2) {
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+
+			vsumyre1 = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_RE), vsumyre1);
+			vsumyim1 = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_IM), vsumyim1);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV2;
+		}
+
+		float re = 0.0f;
+		float im = 0.0f;
+		float k0, k1;
+		while (count-- > 0) {
+			k0 = x.getAtIndex(FLOAT, xOffset + 0) * y.getAtIndex(FLOAT, yOffset + 0);
+			k1 = x.getAtIndex(FLOAT, xOffset + 1) * y.getAtIndex(FLOAT, yOffset + 1);
+			re += k0 - k1;
+			im += (x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1)) * (y.getAtIndex(FLOAT, yOffset + 0) + y.getAtIndex(FLOAT, yOffset + 1)) - k0 - k1;
+			xOffset += 2;
+			yOffset += 2;
+		}
+
+		if (needLanes) {
+			// vmulyre is [(sum(x.re * y.re), sum(x.im * y.re)), ...]
+			final FloatVector vmulyre = vsumyre1.add(vsumyre2);
+			// vmulximswap is [(sum(x.im * y.im), sum(x.re * y.im)), ...]
+			final FloatVector vmulximswap = vsumyim1.add(vsumyim2).rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// It is faster than addLanes(MASK)
+			// And it is same as reshuffle + reshape, but easier to understand
+			re += vmulyre.sub(vmulximswap).rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+			im += vmulyre.add(vmulximswap).rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reinterpretShape(PFS2, 0).reinterpretAsFloats().reduceLanes(VectorOperators.ADD);
+		}
+		z.setAtIndex(FLOAT, zOffset + 0, re);
+		z.setAtIndex(FLOAT, zOffset + 1, im);
+	}
+
+	public static void cv_dot_cv_w(float z[], MemorySegment x, long xOffset, float y[], int count) {
+		cv_dot_cv_w(MemorySegment.ofArray(z), 0, x, xOffset, y, count);
+	}
+
+	public static void cv_dot_cv_w(float z[], MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		cv_dot_cv_w(MemorySegment.ofArray(z), 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrapCv(xOffset, length(x));
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = (int)Math.min(count, (length(x) - xOffset) >> 1);
+			cv_dot_cv(sum, x, xOffset >> 1, MemorySegment.ofArray(y), yOffset, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z.setAtIndex(FLOAT, zOffset + 0, re);
+		z.setAtIndex(FLOAT, zOffset + 1, im);
+	}
+
+	public static void cv_dot_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		final float sum[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1));
+			cv_dot_cv(sum, x, xOffset >> 1, y, yOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z.setAtIndex(FLOAT, zOffset + 0, re);
+		z.setAtIndex(FLOAT, zOffset + 1, im);
+	}
+
+	public static void rv_cpy(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		// Just for fun: maybe, it is faster than System.arraycopy()? :-)
+		while (count >= EPV) {
+			FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+		MemorySegment.copy(x, xOffset * Float.BYTES, z, zOffset * Float.BYTES, count * Float.BYTES);
+	}
+
+	public static void rv_cpy_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_cpy(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cpy(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		// Just for fun: maybe, it is faster than System.arraycopy()? :-)
+		while (count >= EPV2) {
+			FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+		MemorySegment.copy(x, xOffset * Float.BYTES, z, zOffset * Float.BYTES, (count * 2) * Float.BYTES);
+	}
+
+	public static void cv_cpy_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_cpy(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static float rv_max(MemorySegment x, long xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+
+		while (count >= EPV) {
+			float localMax = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER).reduceLanes(VectorOperators.MAX);
+			if (max < localMax)
+				max = localMax;
+
+			xOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			if (max < x.getAtIndex(FLOAT, xOffset))
+				max = x.getAtIndex(FLOAT, xOffset);
+			xOffset += 1;
+		}
+		return max;
+	}
+
+	public static float rv_max_w(MemorySegment x, long xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(x) - xOffset);
+			final float localMax = rv_max(x, xOffset, work);
+			if (max < localMax)
+				max = localMax;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+		return max;
+	}
+
+	public static void rv_max_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.max(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			if (x.getAtIndex(FLOAT, xOffset) > z.getAtIndex(FLOAT, zOffset))
+				z.setAtIndex(FLOAT, zOffset, x.getAtIndex(FLOAT, xOffset));
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_max_rv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_max_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_max_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.max(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, x.getAtIndex(FLOAT, xOffset) > y.getAtIndex(FLOAT, yOffset) ? x.getAtIndex(FLOAT, xOffset) : y.getAtIndex(FLOAT, yOffset));
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_max_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, Math.min(length(x) - xOffset, length(y) - yOffset)));
+			rv_max_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_max(float z[], MemorySegment x, long xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		long i = -1;
+		final float aabs[] = count >= EPV ? new float[EPV] : null;
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + EPV) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.intoArray(aabs, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (max < aabs[j]) {
+					max = aabs[j];
+					i = xOffset + (j << 1);
+				}
+			}
+
+			xOffset += EPVx2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float abs = x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1);
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		z[0] = x.getAtIndex(FLOAT, i + 0);
+		z[1] = x.getAtIndex(FLOAT, i + 1);
+	}
+
+	public static void cv_max(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		long i = -1;
+		final float aabs[] = count >= EPV ? new float[EPV] : null;
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			vxabs.intoArray(aabs, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (max < aabs[j]) {
+					max = aabs[j];
+					i = xOffset + (j << 1);
+				}
+			}
+
+			xOffset += EPVx2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float abs = x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1);
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, i + 0));
+		z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, i + 1));
+	}
+
+	public static void cv_max_w(float z[], MemorySegment x, long xOffset, int count) {
+		cv_max_w(MemorySegment.ofArray(z), 0, x, xOffset, count);
+	}
+
+	public static void cv_max_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		// Value of max is the value at its index
+		final long i = cv_maxarg_w(x, xOffset, count) << 1;
+		zOffset <<= 1;
+		z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, i + 0));
+		z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, i + 1));
+	}
+
+	public static void cv_max_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+
+			// vzre is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final FloatVector vzabs = vzre.fma(vzre, vzim.mul(vzim));
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			VectorMask<Float> xGz = vxabs.compare(VectorOperators.GT, vzabs);
+			vx.intoMemorySegment(z, zOffset * Float.BYTES, ORDER, xGz);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			if ((x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1)) > (z.getAtIndex(FLOAT, zOffset + 0) * z.getAtIndex(FLOAT, zOffset + 0) + z.getAtIndex(FLOAT, zOffset + 1) * z.getAtIndex(FLOAT, zOffset + 1))) {
+				z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0));
+				z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1));
+			}
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_max_cv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_max_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_max_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			final FloatVector vyabs = vyre.fma(vyre, vyim.mul(vyim));
+
+			VectorMask<Float> xGy = vxabs.compare(VectorOperators.GT, vyabs);
+			vy.blend(vx, xGy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			if ((x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1)) > (y.getAtIndex(FLOAT, yOffset + 0) * y.getAtIndex(FLOAT, yOffset + 0) + y.getAtIndex(FLOAT, yOffset + 1) * y.getAtIndex(FLOAT, yOffset + 1))) {
+				z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0));
+				z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1));
+			} else {
+				z.setAtIndex(FLOAT, zOffset + 0, y.getAtIndex(FLOAT, yOffset + 0));
+				z.setAtIndex(FLOAT, zOffset + 1, y.getAtIndex(FLOAT, yOffset + 1));
+			}
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_max_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1)));
+			cv_max_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static float rv_min(MemorySegment x, long xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+
+		while (count >= EPV) {
+			float localMin = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER).reduceLanes(VectorOperators.MIN);
+			if (min > localMin)
+				min = localMin;
+			xOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			if (min > x.getAtIndex(FLOAT, xOffset))
+				min = x.getAtIndex(FLOAT, xOffset);
+			xOffset += 1;
+		}
+		return min;
+	}
+
+	public static float rv_min_w(MemorySegment x, long xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(x) - xOffset);
+			final float localMin = rv_min(x, xOffset, work);
+			if (min > localMin)
+				min = localMin;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+		return min;
+	}
+
+	public static void rv_min_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.min(vx).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			if (x.getAtIndex(FLOAT, xOffset) < z.getAtIndex(FLOAT, zOffset))
+				z.setAtIndex(FLOAT, zOffset, x.getAtIndex(FLOAT, xOffset));
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_min_rv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_min_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_min_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.min(vy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, x.getAtIndex(FLOAT, xOffset) < y.getAtIndex(FLOAT, yOffset) ? x.getAtIndex(FLOAT, xOffset) : y.getAtIndex(FLOAT, yOffset));
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_min_rv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, Math.min(length(x) - xOffset, length(y) - yOffset)));
+			rv_min_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_min(float z[], MemorySegment x, long xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		long i = -1;
+		final float aabs[] = count >= EPV ? new float[EPV] : null;
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.intoArray(aabs, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (min > aabs[j]) {
+					min = aabs[j];
+					i = xOffset + (j << 1);
+				}
+			}
+
+			xOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float abs = x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1);
+			if (min > abs) {
+				min = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		z[0] = x.getAtIndex(FLOAT, i + 0);
+		z[1] = x.getAtIndex(FLOAT, i + 1);
+	}
+
+	public static void cv_min(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		long i = -1;
+		final float aabs[] = count >= EPV ? new float[EPV] : null;
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			float localMin = vxabs.reduceLanes(VectorOperators.MIN);
+
+			vxabs.intoArray(aabs, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (min > aabs[j]) {
+					min = aabs[j];
+					i = xOffset + (j << 1);
+				}
+			}
+
+			xOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float abs = x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1);
+			if (min > abs) {
+				min = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, i + 0));
+		z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, i + 1));
+	}
+
+	public static void cv_min_w(float z[], MemorySegment x, long xOffset, int count) {
+		cv_min_w(MemorySegment.ofArray(z), 0, x, xOffset, count);
+	}
+
+	public static void cv_min_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		// Value of min is the value at its index
+		final long i = cv_minarg_w(x, xOffset, count) << 1;
+		zOffset <<= 1;
+		z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, i + 0));
+		z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, i + 1));
+	}
+
+	public static void cv_min_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+
+			// vzre is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final FloatVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final FloatVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final FloatVector vzabs = vzre.fma(vzre, vzim.mul(vzim));
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			VectorMask<Float> xLz = vxabs.compare(VectorOperators.LT, vzabs);
+			vx.intoMemorySegment(z, zOffset * Float.BYTES, ORDER, xLz);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			if ((x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1)) < (z.getAtIndex(FLOAT, zOffset + 0) * z.getAtIndex(FLOAT, zOffset + 0) + z.getAtIndex(FLOAT, zOffset + 1) * z.getAtIndex(FLOAT, zOffset + 1))) {
+				z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0));
+				z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1));
+			}
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_min_cv_iw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_min_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_min_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final FloatVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final FloatVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final FloatVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final FloatVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			final FloatVector vyabs = vyre.fma(vyre, vyim.mul(vyim));
+
+			VectorMask<Float> xLy = vxabs.compare(VectorOperators.LT, vyabs);
+			vy.blend(vx, xLy).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			if ((x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1)) < (y.getAtIndex(FLOAT, yOffset + 0) * y.getAtIndex(FLOAT, yOffset + 0) + y.getAtIndex(FLOAT, yOffset + 1) * y.getAtIndex(FLOAT, yOffset + 1))) {
+				z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0));
+				z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1));
+			} else {
+				z.setAtIndex(FLOAT, zOffset + 0, y.getAtIndex(FLOAT, yOffset + 0));
+				z.setAtIndex(FLOAT, zOffset + 1, y.getAtIndex(FLOAT, yOffset + 1));
+			}
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_min_cv_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1)));
+			cv_min_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static long rv_maxarg(MemorySegment x, long xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		long i = -1;
+
+		if (count >= EPV) {
+			// Each lane keeps its own maximum and number of element where it is found first
+			FloatVector vmax = NEG_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final long start = xOffset;
+
+			while (count >= EPV) {
+				final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Float> found = vmax.compare(VectorOperators.LT, vx);
+				vmax = vmax.blend(vx, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV;
+				count -= EPV;
+			}
+
+			// First index among lanes which have global maximum
+			max = vmax.reduceLanes(VectorOperators.MAX);
+			final long j = vi.reduceLanes(VectorOperators.MIN, vmax.compare(VectorOperators.EQ, max).cast(PIS));
+			if (j >= 0)
+				i = start + j;
+		}
+
+		while (count-- > 0) {
+			if (max < x.getAtIndex(FLOAT, xOffset)) {
+				max = x.getAtIndex(FLOAT, xOffset);
+				i = xOffset;
+			}
+			xOffset += 1;
+		}
+		return i;
+	}
+
+	public static long rv_maxarg_w(MemorySegment x, long xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		long i = -1;
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(x) - xOffset);
+			final long j = rv_maxarg(x, xOffset, work);
+			// Strict comparison: first run wins on ties, as in scalar version
+			if (j >= 0 && max < x.getAtIndex(FLOAT, j)) {
+				max = x.getAtIndex(FLOAT, j);
+				i = j;
+			}
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static long cv_maxarg(MemorySegment x, long xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		long i = -1;
+		xOffset <<= 1;
+
+		if (count >= EPV) {
+			// Each lane keeps its own maximum and number of element where it is found first
+			FloatVector vmax = NEG_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final long start = xOffset;
+
+			while (count >= EPV) {
+				//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+				final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+				final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+				final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+				final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+				final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+				final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+				final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+				final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+				final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Float> found = vmax.compare(VectorOperators.LT, vxabs);
+				vmax = vmax.blend(vxabs, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV * 2;
+				count -= EPV;
+			}
+
+			// First index among lanes which have global maximum
+			max = vmax.reduceLanes(VectorOperators.MAX);
+			final long j = vi.reduceLanes(VectorOperators.MIN, vmax.compare(VectorOperators.EQ, max).cast(PIS));
+			if (j >= 0)
+				i = start + (j << 1);
+		}
+
+		while (count-- > 0) {
+			float abs = x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1);
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+
+		return i >> 1;
+	}
+
+	public static long cv_maxarg_w(MemorySegment x, long xOffset, int count) {
+		float max = Float.NEGATIVE_INFINITY;
+		long i = -1;
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(x) - xOffset) >> 1);
+			final long j = cv_maxarg(x, xOffset >> 1, work);
+			if (j >= 0) {
+				// Strict comparison: first run wins on ties, as in scalar version
+				final float abs = x.getAtIndex(FLOAT, (j << 1) + 0) * x.getAtIndex(FLOAT, (j << 1) + 0) + x.getAtIndex(FLOAT, (j << 1) + 1) * x.getAtIndex(FLOAT, (j << 1) + 1);
+				if (max < abs) {
+					max = abs;
+					i = j;
+				}
+			}
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static long rv_minarg(MemorySegment x, long xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		long i = -1;
+
+		if (count >= EPV) {
+			// Each lane keeps its own minimum and number of element where it is found first
+			FloatVector vmin = POS_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final long start = xOffset;
+
+			while (count >= EPV) {
+				final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Float> found = vmin.compare(VectorOperators.GT, vx);
+				vmin = vmin.blend(vx, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV;
+				count -= EPV;
+			}
+
+			// First index among lanes which have global minimum
+			min = vmin.reduceLanes(VectorOperators.MIN);
+			final long j = vi.reduceLanes(VectorOperators.MIN, vmin.compare(VectorOperators.EQ, min).cast(PIS));
+			if (j >= 0)
+				i = start + j;
+		}
+
+		while (count-- > 0) {
+			if (min > x.getAtIndex(FLOAT, xOffset)) {
+				min = x.getAtIndex(FLOAT, xOffset);
+				i = xOffset;
+			}
+			xOffset += 1;
+		}
+		return i;
+	}
+
+	public static long rv_minarg_w(MemorySegment x, long xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		long i = -1;
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(x) - xOffset);
+			final long j = rv_minarg(x, xOffset, work);
+			// Strict comparison: first run wins on ties, as in scalar version
+			if (j >= 0 && min > x.getAtIndex(FLOAT, j)) {
+				min = x.getAtIndex(FLOAT, j);
+				i = j;
+			}
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static long cv_minarg(MemorySegment x, long xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		long i = -1;
+		xOffset <<= 1;
+
+		if (count >= EPV) {
+			// Each lane keeps its own minimum and number of element where it is found first
+			FloatVector vmin = POS_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final long start = xOffset;
+
+			while (count >= EPV) {
+				//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+				final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+				final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+				final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+				final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+				final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+				final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+				final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+				final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+				final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Float> found = vmin.compare(VectorOperators.GT, vxabs);
+				vmin = vmin.blend(vxabs, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV * 2;
+				count -= EPV;
+			}
+
+			// First index among lanes which have global minimum
+			min = vmin.reduceLanes(VectorOperators.MIN);
+			final long j = vi.reduceLanes(VectorOperators.MIN, vmin.compare(VectorOperators.EQ, min).cast(PIS));
+			if (j >= 0)
+				i = start + (j << 1);
+		}
+
+		while (count-- > 0) {
+			float abs = x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1);
+			if (min > abs) {
+				min = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+
+		return i >> 1;
+	}
+
+	public static long cv_minarg_w(MemorySegment x, long xOffset, int count) {
+		float min = Float.POSITIVE_INFINITY;
+		long i = -1;
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, (length(x) - xOffset) >> 1);
+			final long j = cv_minarg(x, xOffset >> 1, work);
+			if (j >= 0) {
+				// Strict comparison: first run wins on ties, as in scalar version
+				final float abs = x.getAtIndex(FLOAT, (j << 1) + 0) * x.getAtIndex(FLOAT, (j << 1) + 0) + x.getAtIndex(FLOAT, (j << 1) + 1) * x.getAtIndex(FLOAT, (j << 1) + 1);
+				if (min > abs) {
+					min = abs;
+					i = j;
+				}
+			}
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static void rv_rs_lin_rv_rs_i(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		//@DONE: it is fater thab ...mul(a1)
+		if (count >= EPV) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.fma(va1, vx.mul(va2)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, z.getAtIndex(FLOAT, zOffset) * a1 + x.getAtIndex(FLOAT, xOffset) * a2);
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs_iw(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		//@DONE: it is fater thab ...mul(a1)
+		if (count >= EPV) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+			vx.fma(va1, vy.mul(va2)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, x.getAtIndex(FLOAT, xOffset++) * a1 + y.getAtIndex(FLOAT, yOffset++) * a2);
+	}
+
+	public static void rv_rs_lin_rv_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, Math.min(length(x) - xOffset, length(y) - yOffset)));
+			rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_rs_lin_rv_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2[], int count) {
+		FloatVector va1 = null;
+		FloatVector va2re = null;
+		FloatVector va2im = null;
+		if (count >= EPV) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			va2im = FloatVector.broadcast(PFS, a2[1]);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+
+			final FloatVector vrre = vx.fma(va1, vy.mul(va2re));
+			final FloatVector vrim = vy.mul(va2im);
+
+			// Store twice
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoMemorySegment(z, (zOffset + EPV) * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset) * a1 + y.getAtIndex(FLOAT, yOffset) * a2[0]);
+			z.setAtIndex(FLOAT, zOffset + 1, y.getAtIndex(FLOAT, yOffset) * a2[1]);
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_rs_lin_rv_cs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min(length(x) - xOffset, length(y) - yOffset)));
+			rv_rs_lin_rv_cs(z, zOffset >> 1, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_cs_lin_rv_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2[], int count) {
+		FloatVector va1re = null;
+		FloatVector va1im = null;
+		FloatVector va2re = null;
+		FloatVector va2im = null;
+		if (count >= EPV) {
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			va1im = FloatVector.broadcast(PFS, a1[1]);
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			va2im = FloatVector.broadcast(PFS, a2[1]);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+
+			final FloatVector vrre = vx.fma(va1re, vy.mul(va2re));
+			final FloatVector vrim = vx.fma(va1im, vy.mul(va2im));
+
+			// Store twice
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoMemorySegment(z, (zOffset + EPV) * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset) * a1[0] + y.getAtIndex(FLOAT, yOffset) * a2[0]);
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset) * a1[1] + y.getAtIndex(FLOAT, yOffset) * a2[1]);
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_cs_lin_rv_cs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min(length(x) - xOffset, length(y) - yOffset)));
+			rv_cs_lin_rv_cs(z, zOffset >> 1, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_i(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS2, a2);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+
+			// Rearrange of vx gives zeroes in im-parts and it could be added without any masks or blends
+			vz.fma(va1, vx.mul(va2).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) * a1 + x.getAtIndex(FLOAT, xOffset) * a2);
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) * a1);
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_iw(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			cv_rs_lin_rv_rs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS2, a2);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS2, y, yOffset * Float.BYTES, ORDER);
+
+			// Rearrange of vy gives zeroes in im-parts and it could be added without any masks or blends
+			vx.fma(va1, vy.mul(va2).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) * a1 + y.getAtIndex(FLOAT, yOffset) * a2);
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) * a1);
+			xOffset += 2;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, length(y) - yOffset)));
+			cv_rs_lin_rv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_i(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS2, a2);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER);
+
+			// Rearrange of vx gives zeroes in im-parts and it could be added without any masks or blends
+			final FloatVector vxa2 = vx.mul(va2).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im)
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vxa2)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = z.getAtIndex(FLOAT, zOffset + 0) * a1[0];
+			k1 = z.getAtIndex(FLOAT, zOffset + 1) * a1[1];
+			k2 = (z.getAtIndex(FLOAT, zOffset + 0) + z.getAtIndex(FLOAT, zOffset + 1)) * a1s;
+			z.setAtIndex(FLOAT, zOffset + 0, k0 - k1 + x.getAtIndex(FLOAT, xOffset) * a2);
+			z.setAtIndex(FLOAT, zOffset + 1, k2 - k0 - k1);
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_iw(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			cv_cs_lin_rv_rs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS2, a2);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS2, y, yOffset * Float.BYTES, ORDER);
+
+			// Rearrange of vy gives zeroes in im-parts and it could be added without any masks or blends
+			final FloatVector vya2 = vy.mul(va2).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_RE);
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im)
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vya2)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = x.getAtIndex(FLOAT, xOffset + 0) * a1[0];
+			k1 = x.getAtIndex(FLOAT, xOffset + 1) * a1[1];
+			k2 = (x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1)) * a1s;
+			z.setAtIndex(FLOAT, zOffset + 0, k0 - k1 + y.getAtIndex(FLOAT, yOffset) * a2);
+			z.setAtIndex(FLOAT, zOffset + 1, k2 - k0 - k1);
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, length(y) - yOffset)));
+			cv_cs_lin_rv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_i(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2[], int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			// vx is [(x[0], x[0]), (x[1], x[1]), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			vz.fma(va1, vx.mul(va2)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) * a1 + x.getAtIndex(FLOAT, xOffset) * a2[0]);
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) * a1 + x.getAtIndex(FLOAT, xOffset) * a2[1]);
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_iw(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			cv_rs_lin_rv_cs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2[], int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vy is [(y[0], y[0]), (y[1], y[1]), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS2, y, yOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			vx.fma(va1, vy.mul(va2)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) * a1 + y.getAtIndex(FLOAT, yOffset) * a2[0]);
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) * a1 + y.getAtIndex(FLOAT, yOffset) * a2[1]);
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, length(y) - yOffset)));
+			cv_rs_lin_rv_cs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_i(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			// vx is [(x[0], x[0]), (x[1], x[1]), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS2, x, xOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im)
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vx.mul(va2))).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = z.getAtIndex(FLOAT, zOffset + 0) * a1[0];
+			k1 = z.getAtIndex(FLOAT, zOffset + 1) * a1[1];
+			k2 = (z.getAtIndex(FLOAT, zOffset + 0) + z.getAtIndex(FLOAT, zOffset + 1)) * a1s;
+			z.setAtIndex(FLOAT, zOffset + 0, k0 - k1 + x.getAtIndex(FLOAT, xOffset) * a2[0]);
+			z.setAtIndex(FLOAT, zOffset + 1, k2 - k0 - k1 + x.getAtIndex(FLOAT, xOffset) * a2[1]);
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_iw(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, length(x) - xOffset));
+			cv_cs_lin_rv_cs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = FloatVector.fromArray(FS64, a2, 0).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vy is [(y[0], y[0]), (y[1], y[1]), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS2, y, yOffset * Float.BYTES, ORDER).reinterpretShape(PFS, 0).reinterpretAsFloats().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im)
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vy.mul(va2))).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = x.getAtIndex(FLOAT, xOffset + 0) * a1[0];
+			k1 = x.getAtIndex(FLOAT, xOffset + 1) * a1[1];
+			k2 = (x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1)) * a1s;
+			z.setAtIndex(FLOAT, zOffset + 0, k0 - k1 + y.getAtIndex(FLOAT, yOffset) * a2[0]);
+			z.setAtIndex(FLOAT, zOffset + 1, k2 - k0 - k1 + y.getAtIndex(FLOAT, yOffset) * a2[1]);
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrap(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, length(y) - yOffset)));
+			cv_cs_lin_rv_cs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_i(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+
+			vz.fma(va1, vx.mul(va2)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, z.getAtIndex(FLOAT, zOffset + 0) * a1 + x.getAtIndex(FLOAT, xOffset + 0) * a2);
+			z.setAtIndex(FLOAT, zOffset + 1, z.getAtIndex(FLOAT, zOffset + 1) * a1 + x.getAtIndex(FLOAT, xOffset + 1) * a2);
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_iw(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_rs_lin_cv_rs_i(z, zOffset >> 1, a1, x, xOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2, int count) {
+		FloatVector va1 = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			va1 = FloatVector.broadcast(PFS, a1);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+
+			vx.fma(va1, vy.mul(va2)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset + 0, x.getAtIndex(FLOAT, xOffset + 0) * a1 + y.getAtIndex(FLOAT, yOffset + 0) * a2);
+			z.setAtIndex(FLOAT, zOffset + 1, x.getAtIndex(FLOAT, xOffset + 1) * a1 + y.getAtIndex(FLOAT, yOffset + 1) * a2);
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1)));
+			cv_rs_lin_cv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_i(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im)
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vx.mul(va2))).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = z.getAtIndex(FLOAT, zOffset + 0) * a1[0];
+			k1 = z.getAtIndex(FLOAT, zOffset + 1) * a1[1];
+			k2 = (z.getAtIndex(FLOAT, zOffset + 0) + z.getAtIndex(FLOAT, zOffset + 1)) * a1s;
+			z.setAtIndex(FLOAT, zOffset + 0, k0 - k1 + x.getAtIndex(FLOAT, xOffset + 0) * a2);
+			z.setAtIndex(FLOAT, zOffset + 1, k2 - k0 - k1 + x.getAtIndex(FLOAT, xOffset + 1) * a2);
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_iw(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_cs_lin_cv_rs_i(z, zOffset >> 1, a1, x, xOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2, int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = FloatVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im)
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vy.mul(va2))).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0, k1, k2;
+		float a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = x.getAtIndex(FLOAT, xOffset + 0) * a1[0];
+			k1 = x.getAtIndex(FLOAT, xOffset + 1) * a1[1];
+			k2 = (x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1)) * a1s;
+			z.setAtIndex(FLOAT, zOffset + 0, k0 - k1 + y.getAtIndex(FLOAT, yOffset + 0) * a2);
+			z.setAtIndex(FLOAT, zOffset + 1, k2 - k0 - k1 + y.getAtIndex(FLOAT, yOffset + 1) * a2);
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2, int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1)));
+			cv_cs_lin_cv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_i(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2re = null, va2im = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2re is [(a2.re, a2.re), (a2.re, a2.re), ...]
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			// va2im is [(-a2.im, a2.im), (-a2.im, a2.im), ...]
+			va2im = FloatVector.broadcast(PFS, a2[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+
+			// x * a2 is x * a2.re + swap(x) * (-a2.im, a2.im)
+			final FloatVector vxa2 = vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va2im, vx.mul(va2re));
+			// z * a1 + x * a2, z * a1 is calculated same way
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vxa2)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0_1, k1_1, k2_1;
+		float a1s = a1[0] + a1[1];
+		float k0_2, k1_2, k2_2;
+		float a2s = a2[0] + a2[1];
+		while (count-- > 0) {
+			k0_1 = z.getAtIndex(FLOAT, zOffset + 0) * a1[0];
+			k1_1 = z.getAtIndex(FLOAT, zOffset + 1) * a1[1];
+			k2_1 = (z.getAtIndex(FLOAT, zOffset + 0) + z.getAtIndex(FLOAT, zOffset + 1)) * a1s;
+			k0_2 = x.getAtIndex(FLOAT, xOffset + 0) * a2[0];
+			k1_2 = x.getAtIndex(FLOAT, xOffset + 1) * a2[1];
+			k2_2 = (x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1)) * a2s;
+			z.setAtIndex(FLOAT, zOffset + 0, k0_1 - k1_1 + k0_2 - k1_2);
+			z.setAtIndex(FLOAT, zOffset + 1, k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2);
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_iw(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, (length(x) - xOffset) >> 1));
+			cv_cs_lin_cv_cs_i(z, zOffset >> 1, a1, x, xOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2[], int count) {
+		FloatVector va1re = null, va1im = null;
+		FloatVector va2re = null, va2im = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = FloatVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = FloatVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2re is [(a2.re, a2.re), (a2.re, a2.re), ...]
+			va2re = FloatVector.broadcast(PFS, a2[0]);
+			// va2im is [(-a2.im, a2.im), (-a2.im, a2.im), ...]
+			va2im = FloatVector.broadcast(PFS, a2[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final FloatVector vy = FloatVector.fromMemorySegment(PFS, y, yOffset * Float.BYTES, ORDER);
+
+			// y * a2 is y * a2.re + swap(y) * (-a2.im, a2.im)
+			final FloatVector vya2 = vy.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va2im, vy.mul(va2re));
+			// x * a1 + y * a2, x * a1 is calculated same way
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vya2)).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		float k0_1, k1_1, k2_1;
+		float a1s = a1[0] + a1[1];
+		float k0_2, k1_2, k2_2;
+		float a2s = a2[0] + a2[1];
+		while (count-- > 0) {
+			k0_1 = x.getAtIndex(FLOAT, xOffset + 0) * a1[0];
+			k1_1 = x.getAtIndex(FLOAT, xOffset + 1) * a1[1];
+			k2_1 = (x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1)) * a1s;
+			k0_2 = y.getAtIndex(FLOAT, yOffset + 0) * a2[0];
+			k1_2 = y.getAtIndex(FLOAT, yOffset + 1) * a2[1];
+			k2_2 = (y.getAtIndex(FLOAT, yOffset + 0) + y.getAtIndex(FLOAT, yOffset + 1)) * a2s;
+			z.setAtIndex(FLOAT, zOffset + 0, k0_1 - k1_1 + k0_2 - k1_2);
+			z.setAtIndex(FLOAT, zOffset + 1, k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2);
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2[], int count) {
+		zOffset = preWrapCv(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		yOffset = preWrapCv(yOffset, length(y));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min((length(z) - zOffset) >> 1, Math.min((length(x) - xOffset) >> 1, (length(y) - yOffset) >> 1)));
+			cv_cs_lin_cv_cs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == length(y)) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_i(MemorySegment z, long zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, 10 * (float)Math.log10(Math.abs(z.getAtIndex(FLOAT, zOffset)) + Float.MIN_NORMAL));
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_10log10_iw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_10log10_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_if(MemorySegment z, long zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			log10_f(vz.abs().add(Float.MIN_NORMAL)).mul(10.0f).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, 10 * (float)Math.log10(Math.abs(z.getAtIndex(FLOAT, zOffset)) + Float.MIN_NORMAL));
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_10log10_ifw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_10log10_if(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, 10 * (float)Math.log10(Math.abs(x.getAtIndex(FLOAT, xOffset++)) + Float.MIN_NORMAL));
+	}
+
+	public static void rv_10log10_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_10log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			// MIN_NORMAL keeps zero and denormals away from exponent tricks, as in scalar code
+			log10_f(vx.abs().add(Float.MIN_NORMAL)).mul(10.0f).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, 10 * (float)Math.log10(Math.abs(x.getAtIndex(FLOAT, xOffset++)) + Float.MIN_NORMAL));
+	}
+
+	public static void rv_10log10_fw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_10log10_f(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_rs_i(MemorySegment z, long zOffset, float base, int count) {
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, 10 * (float)Math.log10(Math.abs(z.getAtIndex(FLOAT, zOffset)) + Float.MIN_NORMAL) - base);
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_10log10_rs_iw(MemorySegment z, long zOffset, float base, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_10log10_rs_i(z, zOffset, base, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, int count) {
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, 10 * (float)Math.log10(Math.abs(x.getAtIndex(FLOAT, xOffset++)) + Float.MIN_NORMAL) - base);
+	}
+
+	public static void rv_10log10_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_10log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_10log10(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(5.0f).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, 5 * (float)Math.log10(x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1) + Float.MIN_NORMAL));
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_10log10_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_10log10(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_10log10_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, int count) {
+		base = 10 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(5.0f).sub(base).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, 5 * (float)Math.log10(x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1) + Float.MIN_NORMAL) - base);
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_10log10_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_10log10_rs(z, zOffset, x, xOffset >> 1, base, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_i(MemorySegment z, long zOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, 20 * (float)Math.log10(Math.abs(z.getAtIndex(FLOAT, zOffset)) + Float.MIN_NORMAL));
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_20log10_iw(MemorySegment z, long zOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_20log10_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, 20 * (float)Math.log10(Math.abs(x.getAtIndex(FLOAT, xOffset++)) + Float.MIN_NORMAL));
+	}
+
+	public static void rv_20log10_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_20log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_rs_i(MemorySegment z, long zOffset, float base, int count) {
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final FloatVector vz = FloatVector.fromMemorySegment(PFS, z, zOffset * Float.BYTES, ORDER);
+			vz.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).sub(base).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, 20 * (float)Math.log10(Math.abs(z.getAtIndex(FLOAT, zOffset)) + Float.MIN_NORMAL) - base);
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_20log10_rs_iw(MemorySegment z, long zOffset, float base, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, length(z) - zOffset);
+			rv_20log10_rs_i(z, zOffset, base, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, int count) {
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final FloatVector vx = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			vx.abs().add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0f).sub(base).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z.setAtIndex(FLOAT, zOffset++, 20 * (float)Math.log10(Math.abs(x.getAtIndex(FLOAT, xOffset++)) + Float.MIN_NORMAL) - base);
+	}
+
+	public static void rv_20log10_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrap(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, length(x) - xOffset));
+			rv_20log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_20log10(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, 10 * (float)Math.log10(x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1) + Float.MIN_NORMAL));
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_20log10_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_20log10(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_20log10_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			// 20 * log10(|x|) is 10 * log10(|x|^2)
+			log10_f(vxabs.add(Float.MIN_NORMAL)).mul(10.0f).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, 10 * (float)Math.log10(x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1) + Float.MIN_NORMAL));
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_20log10_fw(MemorySegment z, long zOffset, MemorySegment x, long xOffset, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_20log10_f(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_20log10_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, int count) {
+		base = 20 * (float)Math.log10(Math.abs(base) + Float.MIN_NORMAL);
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than FloatVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final FloatVector vx1 = FloatVector.fromMemorySegment(PFS, x, xOffset * Float.BYTES, ORDER);
+			final FloatVector vx2 = FloatVector.fromMemorySegment(PFS, x, (xOffset + PFS.length()) * Float.BYTES, ORDER);
+
+			final FloatVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final FloatVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final FloatVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final FloatVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final FloatVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final FloatVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final FloatVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.add(Float.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0f).sub(base).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z.setAtIndex(FLOAT, zOffset, 10 * (float)Math.log10(x.getAtIndex(FLOAT, xOffset + 0) * x.getAtIndex(FLOAT, xOffset + 0) + x.getAtIndex(FLOAT, xOffset + 1) * x.getAtIndex(FLOAT, xOffset + 1) + Float.MIN_NORMAL) - base);
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_20log10_rs_w(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, int count) {
+		zOffset = preWrap(zOffset, length(z));
+		xOffset = preWrapCv(xOffset, length(x));
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = (int)Math.min(count, Math.min(length(z) - zOffset, (length(x) - xOffset) >> 1));
+			cv_20log10_rs(z, zOffset, x, xOffset >> 1, base, work);
+			zOffset += work;
+			if (zOffset == length(z)) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == length(x)) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	private static long preWrap(long i, long length) {
+		// Unlike VO.preWrap() it maps -length to 0 too, as runs loop can not tolerate offset == length
+		i %= length;
+		return (i < 0) ? (i + length) : i;
+	}
+
+	private static long length(MemorySegment s) {
+		return s.byteSize() / Float.BYTES;
+	}
+
+	// Complex version of preWrap(), returns offset in floats; odd-length buffer has no room for last element's imaginary part
+	private static long preWrapCv(long i, long length) {
+		if ((length & 1) != 0)
+			throw new IllegalArgumentException("Complex vector must have even length, got " + length);
+		return preWrap(i << 1, length);
+	}
+
+	// Branch-free atan2() with max error about 1.2E-5, which is much better than FastTrig.atan2() gives
+	private static FloatVector atan2_f(FloatVector y, FloatVector x) {
+		final FloatVector ay = y.abs();
+		final FloatVector ax = x.abs();
+		// Reduce to [0, 1] and don't divide by zero: atan2(0, 0) is 0 as in FastTrig.atan2(), other ratios are exact, even for denormals
+		final FloatVector m = ax.max(ay);
+		final FloatVector q = ax.min(ay).div(m.blend(1.0f, m.compare(VectorOperators.EQ, 0.0f)));
+		final FloatVector q2 = q.mul(q);
+		// Abramowitz & Stegun 4.4.47, |error| <= 1E-5 on [0, 1]
+		FloatVector a = q2.fma(ATAN_C9, ATAN_C7).fma(q2, ATAN_C5).fma(q2, ATAN_C3).fma(q2, ATAN_C1).mul(q);
+		// [45, 90] is PI/2 - angle
+		final VectorMask<Float> swap = ay.compare(VectorOperators.GT, ax);
+		a = a.lanewise(VectorOperators.NEG, swap).add(FastTrig._1PI2, swap);
+		// [90, 180] is PI - angle
+		final VectorMask<Float> left = x.compare(VectorOperators.LT, 0.0f);
+		a = a.lanewise(VectorOperators.NEG, left).add(FastTrig._2PI2, left);
+		// Lower half-plane is -angle
+		return a.lanewise(VectorOperators.NEG, y.compare(VectorOperators.LT, 0.0f));
+	}
+
+	// exp() with max relative error about 8.5E-8: x = n * ln(2) + r, exp(x) = 2^n * exp(r)
+	private static FloatVector exp_f(FloatVector x) {
+		// Outside of this range result is 0 or infinity anyway, and n stays small enough for two halves of 2^n
+		final FloatVector vx = x.max(EXP_LO).min(EXP_HI);
+		final FloatVector vt = vx.fma(EXP_LOG2E, ROUND_MAGIC);
+		final FloatVector vn = vt.sub(ROUND_MAGIC);
+		final FloatVector vr = vn.fma(EXP_NEG_LN2_HI, vx).add(vn.mul(EXP_NEG_LN2_LO));
+		final FloatVector vr2 = vr.mul(vr);
+		final FloatVector vp = vr.fma(EXP_C5, EXP_C4).fma(vr, EXP_C3).fma(vr, EXP_C2).fma(vr, EXP_C1).fma(vr, EXP_C0).fma(vr2, vr).add(ONE);
+		// 2^n is built as 2^(n/2) * 2^(n - n/2), as denormal and infinite results need exponent out of range
+		final IntVector vni = vt.reinterpretAsInts().sub(ROUND_MAGIC_BITS);
+		final IntVector vn1 = vni.lanewise(VectorOperators.ASHR, 1);
+		final IntVector vn2 = vni.sub(vn1);
+		return vp.mul(vn1.add(127).lanewise(VectorOperators.LSHL, 23).reinterpretAsFloats())
+			.mul(vn2.add(127).lanewise(VectorOperators.LSHL, 23).reinterpretAsFloats());
+	}
+
+	// log10() of positive normal x with max error about 3.1E-5, which is 0.0003 dB of 10 * log10().
+	// x = 2^e * m, m in [sqrt(2)/2, sqrt(2)), and log10(x) = e * log10(2) + log10(m). Infinity and NaN are not handled.
+	private static FloatVector log10_f(FloatVector x) {
+		final IntVector vb = x.reinterpretAsInts();
+		final IntVector ve = vb.sub(LOG_SQRT_HALF_BITS).lanewise(VectorOperators.ASHR, 23);
+		final FloatVector vf = vb.sub(ve.lanewise(VectorOperators.LSHL, 23)).reinterpretAsFloats().sub(ONE);
+		// Exponent is converted to float by magic number too
+		final FloatVector ve2f = ve.add(ROUND_MAGIC_BITS).reinterpretAsFloats().sub(ROUND_MAGIC);
+		final FloatVector vp = vf.fma(LOG_C4, LOG_C3).fma(vf, LOG_C2).fma(vf, LOG_C1).mul(vf);
+		return ve2f.fma(LOG10_2, vp);
+	}
+
+	// Stores (g * cos(x), g * sin(x)) of packed g and x as TWO complex vectors. Sine and cosine share
+	// range reduction x = n * PI/2 + r, |r| <= PI/4, and n mod 4 selects polynomial and sign for each one.
+	// Max error is about 7E-8 for |x| <= 8192, for larger arguments reduction loses precision.
+	private static void expi_f(MemorySegment z, long zOffset, FloatVector vg, FloatVector vx) {
+		final FloatVector vt = vx.fma(SC_2_PI, ROUND_MAGIC);
+		final FloatVector vn = vt.sub(ROUND_MAGIC);
+		final FloatVector vr = vn.fma(SC_NEG_PI2_A, vx).add(vn.mul(SC_NEG_PI2_B)).add(vn.mul(SC_NEG_PI2_C));
+		final FloatVector vr2 = vr.mul(vr);
+		final FloatVector vps = vr2.fma(SIN_C7, SIN_C5).fma(vr2, SIN_C3).mul(vr2).fma(vr, vr);
+		final FloatVector vpc = vr2.fma(COS_C8, COS_C6).fma(vr2, COS_C4).fma(vr2, COS_C2).fma(vr2, ONE);
+		// Low bits of rounded x * 2/PI are n mod 4: odd quadrants swap sine and cosine
+		final IntVector vq = vt.reinterpretAsInts();
+		final VectorMask<Float> swap = vq.and(1).compare(VectorOperators.NE, 0).cast(PFS);
+		final VectorMask<Float> negc = vq.add(1).and(2).compare(VectorOperators.NE, 0).cast(PFS);
+		final VectorMask<Float> negs = vq.and(2).compare(VectorOperators.NE, 0).cast(PFS);
+		final FloatVector vc = vpc.blend(vps, swap).lanewise(VectorOperators.NEG, negc);
+		final FloatVector vs = vps.blend(vpc, swap).lanewise(VectorOperators.NEG, negs);
+
+		final FloatVector vrre = vg.mul(vc);
+		final FloatVector vrim = vg.mul(vs);
+		vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoMemorySegment(z, zOffset * Float.BYTES, ORDER);
+		vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoMemorySegment(z, (zOffset + EPV) * Float.BYTES, ORDER);
+	}
+}
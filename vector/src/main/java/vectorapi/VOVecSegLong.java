@@ -0,0 +1,1604 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+// Generated by genSegments.pl from VOVec.java, don't edit
+
+// Generated by genLong.pl from VOVecSeg.java, don't edit
+
+package vectorapi;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Wrappers over {@link VOVecSeg} with {@code long} counts, for vectors
+ * longer than 2^31 elements.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOVecSegLong {
+	// Elements per call of VOVecSeg: multiple of any vector length, and byte size of complex run fits into int
+	final static int RUN = 1 << 24;
+
+	private final static ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED;
+
+	public static void rv_add_rs_i(MemorySegment z, long zOffset, float x, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_add_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_add_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rs_i(MemorySegment z, long zOffset, float x, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_add_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_add_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cs_i(MemorySegment z, long zOffset, float x[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_add_cs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_add_cv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_add_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_add_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_add_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_add_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_add_cs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_add_cv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rs_i(MemorySegment z, long zOffset, float x, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_sub_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_sub_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rs_i(MemorySegment z, long zOffset, float x, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_sub_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_sub_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cs_i(MemorySegment z, long zOffset, float x[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_sub_cs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_sub_cv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_sub_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rs_sub_rv(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rs_sub_rv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_sub_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rs_sub_cv(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rs_sub_cv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_sub_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_sub_cv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_sub_cs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cs_sub_cv(MemorySegment z, long zOffset, float x[], MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cs_sub_cv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_sub_cv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rs_i(MemorySegment z, long zOffset, float x, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_mul_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_mul_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rs_i(MemorySegment z, long zOffset, float x, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_mul_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_mul_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cs_i(MemorySegment z, long zOffset, float x[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_mul_cs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_mul_cv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_mul_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_mul_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_mul_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_mul_cs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_mul_cv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rs_i(MemorySegment z, long zOffset, float x, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_div_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_div_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rs_i(MemorySegment z, long zOffset, float x, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_div_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_div_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cs_i(MemorySegment z, long zOffset, float x[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_div_cs_i(z, zOffset, x, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_div_cv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_div_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rs_div_rv(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rs_div_rv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_div_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_div_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rs_div_cv(MemorySegment z, long zOffset, float x, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rs_div_cv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_div_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_div_cv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_div_cs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cs_div_cv(MemorySegment z, long zOffset, float x[], MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cs_div_cv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_div_cv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_conjmul_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_conjmul_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_conjmul_cv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_conjmul_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_conjmul_cv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_conj_i(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_conj_i(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_conj(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_conj(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_expi(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_expi(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_expi_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_expi_f(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_exp_i(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_exp_i(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_i(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_exp_i(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_if(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_exp_if(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_exp(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_exp(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_exp(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_exp_f(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_im(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_im(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_re(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_re(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_abs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_abs(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_arg(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_arg(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_arg_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_arg_f(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_argmul_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_argmul_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_argmul_rs_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float y, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_argmul_rs_f(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_abs_i(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_abs_i(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_abs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_abs(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_cvt(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_cvt(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_i(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_r2p_i(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_if(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_r2p_if(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_r2p(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_r2p_f(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_p2r_i(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_p2r_i(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_p2r(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_p2r(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static float rv_sum(MemorySegment x, long xOffset, long count) {
+		float sum = 0.0f;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			sum += VOVecSeg.rv_sum(x, xOffset, work);
+			xOffset += work;
+			count -= work;
+		}
+		return sum;
+	}
+
+	public static void cv_sum(float z[], MemorySegment x, long xOffset, long count) {
+		cv_sum(MemorySegment.ofArray(z), 0, x, xOffset, count);
+	}
+
+	public static void cv_sum(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		final float p[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_sum(p, x, xOffset, work);
+			re += p[0];
+			im += p[1];
+			xOffset += work;
+			count -= work;
+		}
+		z.setAtIndex(FLOAT, (zOffset << 1) + 0, re);
+		z.setAtIndex(FLOAT, (zOffset << 1) + 1, im);
+	}
+
+	public static float rv_dot_rv(MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		float sum = 0.0f;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			sum += VOVecSeg.rv_dot_rv(x, xOffset, y, yOffset, work);
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+		return sum;
+	}
+
+	public static void rv_dot_cv(float z[], MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		rv_dot_cv(MemorySegment.ofArray(z), 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		final float p[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_dot_cv(p, x, xOffset, y, yOffset, work);
+			re += p[0];
+			im += p[1];
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+		z.setAtIndex(FLOAT, (zOffset << 1) + 0, re);
+		z.setAtIndex(FLOAT, (zOffset << 1) + 1, im);
+	}
+
+	public static void cv_dot_cv(float z[], MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		cv_dot_cv(MemorySegment.ofArray(z), 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		final float p[] = new float[2];
+		float re = 0.0f;
+		float im = 0.0f;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_dot_cv(p, x, xOffset, y, yOffset, work);
+			re += p[0];
+			im += p[1];
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+		z.setAtIndex(FLOAT, (zOffset << 1) + 0, re);
+		z.setAtIndex(FLOAT, (zOffset << 1) + 1, im);
+	}
+
+	public static void rv_cpy(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_cpy(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_cpy(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_cpy(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static float rv_max(MemorySegment x, long xOffset, long count) {
+		float max = Float.NEGATIVE_INFINITY;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			final float r = VOVecSeg.rv_max(x, xOffset, work);
+			if (max < r)
+				max = r;
+			xOffset += work;
+			count -= work;
+		}
+		return max;
+	}
+
+	public static void rv_max_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_max_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_max_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_max_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_max(float z[], MemorySegment x, long xOffset, long count) {
+		final float p[] = new float[2];
+		float max = Float.NEGATIVE_INFINITY;
+		float re = 0.0f;
+		float im = 0.0f;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_max(p, x, xOffset, work);
+			final float abs = cabs(p[0], p[1]);
+			if (max < abs) {
+				max = abs;
+				re = p[0];
+				im = p[1];
+			}
+			xOffset += work;
+			count -= work;
+		}
+		z[0] = re;
+		z[1] = im;
+	}
+
+	public static void cv_max(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		final float p[] = new float[2];
+		float max = Float.NEGATIVE_INFINITY;
+		float re = 0.0f;
+		float im = 0.0f;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_max(p, x, xOffset, work);
+			final float abs = cabs(p[0], p[1]);
+			if (max < abs) {
+				max = abs;
+				re = p[0];
+				im = p[1];
+			}
+			xOffset += work;
+			count -= work;
+		}
+		z.setAtIndex(FLOAT, (zOffset << 1) + 0, re);
+		z.setAtIndex(FLOAT, (zOffset << 1) + 1, im);
+	}
+
+	public static void cv_max_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_max_cv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_max_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_max_cv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static float rv_min(MemorySegment x, long xOffset, long count) {
+		float min = Float.POSITIVE_INFINITY;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			final float r = VOVecSeg.rv_min(x, xOffset, work);
+			if (min > r)
+				min = r;
+			xOffset += work;
+			count -= work;
+		}
+		return min;
+	}
+
+	public static void rv_min_rv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_min_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_min_rv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_min_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_min(float z[], MemorySegment x, long xOffset, long count) {
+		final float p[] = new float[2];
+		float min = Float.POSITIVE_INFINITY;
+		float re = 0.0f;
+		float im = 0.0f;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_min(p, x, xOffset, work);
+			final float abs = cabs(p[0], p[1]);
+			if (min > abs) {
+				min = abs;
+				re = p[0];
+				im = p[1];
+			}
+			xOffset += work;
+			count -= work;
+		}
+		z[0] = re;
+		z[1] = im;
+	}
+
+	public static void cv_min(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		final float p[] = new float[2];
+		float min = Float.POSITIVE_INFINITY;
+		float re = 0.0f;
+		float im = 0.0f;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_min(p, x, xOffset, work);
+			final float abs = cabs(p[0], p[1]);
+			if (min > abs) {
+				min = abs;
+				re = p[0];
+				im = p[1];
+			}
+			xOffset += work;
+			count -= work;
+		}
+		z.setAtIndex(FLOAT, (zOffset << 1) + 0, re);
+		z.setAtIndex(FLOAT, (zOffset << 1) + 1, im);
+	}
+
+	public static void cv_min_cv_i(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_min_cv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_min_cv(MemorySegment z, long zOffset, MemorySegment x, long xOffset, MemorySegment y, long yOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_min_cv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static long rv_maxarg(MemorySegment x, long xOffset, long count) {
+		float v = Float.NEGATIVE_INFINITY;
+		long i = -1;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			final long r = VOVecSeg.rv_maxarg(x, xOffset, work);
+			if (r >= 0 && v < x.getAtIndex(FLOAT, r)) {
+				v = x.getAtIndex(FLOAT, r);
+				i = r;
+			}
+			xOffset += work;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static long cv_maxarg(MemorySegment x, long xOffset, long count) {
+		float v = Float.NEGATIVE_INFINITY;
+		long i = -1;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			final long r = VOVecSeg.cv_maxarg(x, xOffset, work);
+			if (r >= 0 && v < cabs(x, r)) {
+				v = cabs(x, r);
+				i = r;
+			}
+			xOffset += work;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static long rv_minarg(MemorySegment x, long xOffset, long count) {
+		float v = Float.POSITIVE_INFINITY;
+		long i = -1;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			final long r = VOVecSeg.rv_minarg(x, xOffset, work);
+			if (r >= 0 && v > x.getAtIndex(FLOAT, r)) {
+				v = x.getAtIndex(FLOAT, r);
+				i = r;
+			}
+			xOffset += work;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static long cv_minarg(MemorySegment x, long xOffset, long count) {
+		float v = Float.POSITIVE_INFINITY;
+		long i = -1;
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			final long r = VOVecSeg.cv_minarg(x, xOffset, work);
+			if (r >= 0 && v > cabs(x, r)) {
+				v = cabs(x, r);
+				i = r;
+			}
+			xOffset += work;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static void rv_rs_lin_rv_rs_i(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_rs_lin_rv_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_cs_lin_rv_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_i(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_i(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_cs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_cs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_i(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_rs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_rs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_i(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_cs_lin_rv_cs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_cs_lin_rv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_i(MemorySegment z, long zOffset, float a1, MemorySegment x, long xOffset, float a2, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_rs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1, MemorySegment y, long yOffset, float a2, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_rs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_i(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_cs_lin_cv_rs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_cs_lin_cv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_i(MemorySegment z, long zOffset, float a1[], MemorySegment x, long xOffset, float a2[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_cs_lin_cv_cs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float a1[], MemorySegment y, long yOffset, float a2[], long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_cs_lin_cv_cs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			xOffset += work;
+			yOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_i(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_10log10_i(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_if(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_10log10_if(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_10log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_10log10_f(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_rs_i(MemorySegment z, long zOffset, float base, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_10log10_rs_i(z, zOffset, base, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_10log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_10log10(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_10log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_10log10_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_10log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_i(MemorySegment z, long zOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_20log10_i(z, zOffset, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_20log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_rs_i(MemorySegment z, long zOffset, float base, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_20log10_rs_i(z, zOffset, base, work);
+			zOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.rv_20log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_20log10(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_20log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_20log10_f(MemorySegment z, long zOffset, MemorySegment x, long xOffset, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_20log10_f(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	public static void cv_20log10_rs(MemorySegment z, long zOffset, MemorySegment x, long xOffset, float base, long count) {
+		while (count > 0) {
+			final int work = (int)Math.min(count, RUN);
+			VOVecSeg.cv_20log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			xOffset += work;
+			count -= work;
+		}
+	}
+
+	private static float cabs(float re, float im) {
+		return re * re + im * im;
+	}
+
+	private static float cabs(MemorySegment x, long i) {
+		final float re = x.getAtIndex(FLOAT, (i << 1) + 0);
+		final float im = x.getAtIndex(FLOAT, (i << 1) + 1);
+		return re * re + im * im;
+	}
+}
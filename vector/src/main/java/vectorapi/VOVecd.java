@@ -0,0 +1,6882 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+// Generated by genDouble.pl from VOVecd.java, don't edit
+
+package vectorapi;
+
+import jdk.incubator.vector.*;
+
+import java.util.Arrays;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class VOVecd {
+	//@TODO: Global idea: check extraction of complex multiply/division code
+	//       to helper methods (and pray for inlining)
+	/* Missing methods which make sense:
+		Some one-complex-return function with "offset" result placement
+	 */
+	private final static VectorSpecies<Double> PFS = DoubleVector.SPECIES_PREFERRED;
+	private final static VectorSpecies<Double> PFS2 = VectorSpecies.of(Double.TYPE, VectorShape.forBitSize(PFS.vectorBitSize() / 2));
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx3 = EPV * 3;
+	private final static int EPVx4 = EPV * 4;
+	private final static VectorSpecies<Double> DS128 = DoubleVector.SPECIES_128;
+	private final static VectorMask<Double> MASK_C_RE;
+	private final static VectorMask<Double> MASK_C_IM;
+	private final static VectorMask<Double> MASK_SECOND_HALF;
+	private final static DoubleVector ZERO = DoubleVector.zero(PFS);
+	private final static DoubleVector ONE = DoubleVector.broadcast(PFS, 1.0);
+	private final static DoubleVector NEG_INF = DoubleVector.broadcast(PFS, Double.NEGATIVE_INFINITY);
+	private final static DoubleVector POS_INF = DoubleVector.broadcast(PFS, Double.POSITIVE_INFINITY);
+	// Indices for arg-functions, lane-to-lane with PFS
+	private final static VectorSpecies<Integer> PIS = VectorSpecies.of(int.class, VectorShape.forBitSize(PFS.vectorBitSize() / 2));
+	private final static IntVector IOTA = IntVector.zero(PIS).addIndex(1);
+	private final static IntVector NO_INDEX = IntVector.broadcast(PIS, -1);
+	private final static DoubleVector ATAN_C1 = DoubleVector.broadcast(PFS, 0.9998660);
+	private final static DoubleVector ATAN_C3 = DoubleVector.broadcast(PFS, -0.3302995);
+	private final static DoubleVector ATAN_C5 = DoubleVector.broadcast(PFS, 0.1801410);
+	private final static DoubleVector ATAN_C7 = DoubleVector.broadcast(PFS, -0.0851330);
+	private final static DoubleVector ATAN_C9 = DoubleVector.broadcast(PFS, 0.0208351);
+	// 1.5 * 2^23: x + ROUND_MAGIC is rounded to integer, which is in low bits of mantissa
+	private final static DoubleVector ROUND_MAGIC = DoubleVector.broadcast(PFS, 12582912.0);
+	private final static int ROUND_MAGIC_BITS = 0x4B400000;
+	// Cephes expf(): ln(2) in two parts and polynomial for exp(r) on [-ln(2)/2, ln(2)/2]
+	private final static DoubleVector EXP_LO = DoubleVector.broadcast(PFS, -104.0);
+	private final static DoubleVector EXP_HI = DoubleVector.broadcast(PFS, 89.0);
+	private final static DoubleVector EXP_LOG2E = DoubleVector.broadcast(PFS, 1.44269504088896341);
+	private final static DoubleVector EXP_NEG_LN2_HI = DoubleVector.broadcast(PFS, -0.693359375);
+	private final static DoubleVector EXP_NEG_LN2_LO = DoubleVector.broadcast(PFS, 2.12194440e-4);
+	private final static DoubleVector EXP_C0 = DoubleVector.broadcast(PFS, 5.0000001201e-1);
+	private final static DoubleVector EXP_C1 = DoubleVector.broadcast(PFS, 1.6666665459e-1);
+	private final static DoubleVector EXP_C2 = DoubleVector.broadcast(PFS, 4.1665795894e-2);
+	private final static DoubleVector EXP_C3 = DoubleVector.broadcast(PFS, 8.3334519073e-3);
+	private final static DoubleVector EXP_C4 = DoubleVector.broadcast(PFS, 1.3981999507e-3);
+	private final static DoubleVector EXP_C5 = DoubleVector.broadcast(PFS, 1.9875691500e-4);
+	// Cephes sinf()/cosf(): PI/2 in three parts and polynomials for sin(r) and cos(r) on [-PI/4, PI/4]
+	private final static DoubleVector SC_2_PI = DoubleVector.broadcast(PFS, 2.0 / Math.PI);
+	private final static DoubleVector SC_NEG_PI2_A = DoubleVector.broadcast(PFS, -1.5703125);
+	private final static DoubleVector SC_NEG_PI2_B = DoubleVector.broadcast(PFS, -4.837512969970703125e-4);
+	private final static DoubleVector SC_NEG_PI2_C = DoubleVector.broadcast(PFS, -7.54978995489188216e-8);
+	private final static DoubleVector SIN_C3 = DoubleVector.broadcast(PFS, -1.6666654611e-1);
+	private final static DoubleVector SIN_C5 = DoubleVector.broadcast(PFS, 8.3321608736e-3);
+	private final static DoubleVector SIN_C7 = DoubleVector.broadcast(PFS, -1.9515295891e-4);
+	private final static DoubleVector COS_C2 = DoubleVector.broadcast(PFS, -0.5);
+	private final static DoubleVector COS_C4 = DoubleVector.broadcast(PFS, 4.166664568298827e-2);
+	private final static DoubleVector COS_C6 = DoubleVector.broadcast(PFS, -1.388731625493765e-3);
+	private final static DoubleVector COS_C8 = DoubleVector.broadcast(PFS, 2.443315711809948e-5);
+	// Bits of sqrt(2)/2, mantissa is reduced to [sqrt(2)/2, sqrt(2)), and polynomial for log10(1 + f) on it
+	private final static int LOG_SQRT_HALF_BITS = 0x3F3504F3;
+	private final static DoubleVector LOG10_2 = DoubleVector.broadcast(PFS, Math.log10(2.0));
+	private final static DoubleVector LOG_C1 = DoubleVector.broadcast(PFS, 0.4340132176876068);
+	private final static DoubleVector LOG_C2 = DoubleVector.broadcast(PFS, -0.21821817755699158);
+	private final static DoubleVector LOG_C3 = DoubleVector.broadcast(PFS, 0.15578532218933105);
+	private final static DoubleVector LOG_C4 = DoubleVector.broadcast(PFS, -0.09922552853822708);
+	private final static VectorShuffle<Double> SHUFFLE_RV_TO_CV_RE;
+	private final static VectorShuffle<Double> SHUFFLE_RV_TO_CV_BOTH;
+	private final static VectorShuffle<Double> SHUFFLE_RV_TO_CV_RE_LOW;
+	private final static VectorShuffle<Double> SHUFFLE_RV_TO_CV_IM_LOW;
+	private final static VectorShuffle<Double> SHUFFLE_RV_TO_CV_RE_HIGH;
+	private final static VectorShuffle<Double> SHUFFLE_RV_TO_CV_IM_HIGH;
+	private final static VectorShuffle<Double> SHUFFLE_CS_TO_CV_SPREAD;
+	private final static VectorShuffle<Double> SHUFFLE_CV_SWAP_RE_IM;
+	private final static VectorShuffle<Double> SHUFFLE_CV_SPREAD_RE;
+	private final static VectorShuffle<Double> SHUFFLE_CV_SPREAD_IM;
+
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_PACK_RE_FIRST;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_PACK_IM_FIRST;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_PACK_RE_SECOND;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_PACK_IM_SECOND;
+
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_FRONT_RE;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_FRONT_IM;
+
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND;
+	private final static VectorShuffle<Double> SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND;
+
+
+	static {
+		boolean[] alter = new boolean[EPV + 1];
+
+		alter[0] = true;
+		for (int i = 1; i < alter.length; i++)
+			alter[i] = !alter[i - 1];
+		MASK_C_RE = VectorMask.fromArray(PFS, alter, 0);
+		MASK_C_IM = VectorMask.fromArray(PFS, alter, 1);
+
+		boolean[] secondhalf = new boolean[EPV];
+		Arrays.fill(secondhalf, PFS.length() / 2, secondhalf.length, true);
+		MASK_SECOND_HALF = VectorMask.fromArray(PFS, secondhalf, 0);
+
+		// [r0, r1, ...] -> [(r0, ?), (r1, ?), ...], take ? from last element for now
+		SHUFFLE_RV_TO_CV_RE = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? (i / 2) : (EPV - 1));
+		// [r0, r1, ...] -> [(r0, r0), (r1, r1), ...]
+		SHUFFLE_RV_TO_CV_BOTH = VectorShuffle.fromOp(PFS, i -> i / 2);
+
+		// [r0, r1, ..., r_len] -> [(r0, ?), (r1, ?), ... (r_{len/2}, ?)]
+		SHUFFLE_RV_TO_CV_RE_LOW = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? (i / 2) : 0);
+		// [r0, r1, ..., r_len] -> [(?, r0), (?, r1), ... (?, r_{len/2})]
+		SHUFFLE_RV_TO_CV_IM_LOW = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? 0 : (i / 2));
+
+		// [..., r_{len/2} ..., r_len] -> [(r_{len/2}, ?), ..., (r_len, ?)]
+		SHUFFLE_RV_TO_CV_RE_HIGH = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? (i / 2 + EPV / 2) : 0);
+		// [..., r_{len/2} ..., r_len] -> [(?, r_{len/2}), ..., (?, r_len)]
+		SHUFFLE_RV_TO_CV_IM_HIGH = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? 0 : (i / 2 + EPV / 2));
+
+		// [re, im] -> [(re, im), (re, im), (re, im), ...]
+		SHUFFLE_CS_TO_CV_SPREAD = VectorShuffle.fromOp(PFS, i -> i % 2);
+
+		// [(re0, im0), (re1, im1), ...] -> [(re0, re0), (re1, re1), ...]
+		SHUFFLE_CV_SPREAD_RE = VectorShuffle.fromOp(PFS, i -> i - i % 2);
+		// [(re0, im0), (re1, im1), ...] -> [(im0, im0), (im1, im1), ...]
+		SHUFFLE_CV_SPREAD_IM = VectorShuffle.fromOp(PFS, i -> i - i % 2 + 1);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ..., re_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_RE_FIRST = VectorShuffle.fromOp(PFS, i -> (i < EPV2) ? i * 2 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ..., im_len, ?, ...]
+		SHUFFLE_CV_TO_CV_PACK_IM_FIRST = VectorShuffle.fromOp(PFS, i -> (i < EPV2) ? i * 2 + 1 : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., re0, re1, ..., re_len]
+		SHUFFLE_CV_TO_CV_PACK_RE_SECOND = VectorShuffle.fromOp(PFS, i -> (i >= EPV2) ? i * 2 - EPV : 0);
+		// [(re0, im0), (re1, im1), ...] -> [?, ..., im0, im1, ..., im_len]
+		SHUFFLE_CV_TO_CV_PACK_IM_SECOND = VectorShuffle.fromOp(PFS, i -> (i >= EPV2) ? i * 2 - EPV + 1 : 0);
+
+		// [re0, re1, re2, ...] -> [(re0, ?), (re1, ?), ..., (re_{len/2}, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i / 2 : 0);
+		// [im0, im1, im2, ...] -> [(?, im0), (?, im1), ..., (?, im_{len/2})]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST = VectorShuffle.fromOp(PFS, i -> (i % 2 == 1) ? i / 2 : 0);
+		// [..., re_{len/2}, ..., re_len] -> [(re_{len/2}, ?), ..., (re_len, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i / 2 + EPV2 : 0);
+		// [..., im_{len/2}, ..., im_len] -> [(?, im_{len/2}), ..., (?, im_len)]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND = VectorShuffle.fromOp(PFS, i -> (i % 2 == 1) ? i / 2 + EPV2 : 0);
+
+		// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+
+		// [(re0, im0), (re1, im1), ...] -> [re0, re1, ...]
+		SHUFFLE_CV_TO_CV_FRONT_RE = VectorShuffle.fromOp(PFS, i -> i * 2 < EPV ? i * 2 : i);
+
+		// [(re0, im0), (re1, im1), ...] -> [im0, im1, ...]
+		SHUFFLE_CV_TO_CV_FRONT_IM = VectorShuffle.fromOp(PFS, i -> i * 2 + 1 < EPV ? i * 2 + 1 : i);
+	}
+
+	public static void rv_add_rs_i(double z[], int zOffset, double x, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.add(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] += x;
+	}
+
+	public static void rv_add_rs_iw(double z[], int zOffset, double x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_add_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vz.add(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+		while (count-- > 0)
+			z[zOffset++] += x[xOffset++];
+	}
+
+	public static void rv_add_rv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_add_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rs_i(double z[], int zOffset, double x, int count) {
+		DoubleVector vx = null;
+		if (count >= EPV2)
+			vx = DoubleVector.zero(PFS).blend(x, MASK_C_RE);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			//@DONE: it is faster than add(x, MASK_C_RE)
+			vz.add(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] += x;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_rs_iw(double z[], int zOffset, double x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_add_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE);
+			vz.add(vx).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] += x[xOffset++];
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_rv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_add_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cs_i(double z[], int zOffset, double x[], int count) {
+		DoubleVector vx = null;
+		//@DONE: It is faster than DoubleVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vx = DoubleVector.fromArray(DS128, x, 0).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.add(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+		while (count-- > 0) {
+			z[zOffset + 0] += x[0];
+			z[zOffset + 1] += x[1];
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cs_iw(double z[], int zOffset, double x[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_add_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vz.add(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] += x[xOffset + 0];
+			z[zOffset + 1] += x[xOffset + 1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_add_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.add(y).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] + y;
+	}
+
+	public static void rv_add_rs_w(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_add_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_add_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] + y[yOffset++];
+	}
+
+	public static void rv_add_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_add_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		DoubleVector vy = null;
+		if (count >= EPV2)
+			vy = DoubleVector.zero(PFS).blend(y, MASK_C_RE);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			//@DONE: it is faster than add(y, MASK_C_RE)
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] + y;
+			z[zOffset + 1] = x[xOffset + 1];
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_add_rs_w(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_add_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, y, yOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final DoubleVector vy = DoubleVector.fromArray(PFS2, y, yOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE);
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] + y[yOffset++];
+			z[zOffset + 1] = x[xOffset + 1];
+			zOffset += 2;
+			xOffset += 2;
+		}
+
+	}
+
+	public static void cv_add_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_add_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cs(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		DoubleVector vy = null;
+		//@DONE: It is faster than DoubleVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vy = DoubleVector.fromArray(DS128, y, 0).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] + y[0];
+			z[zOffset + 1] = x[xOffset + 1] + y[1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cs_w(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_add_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_add_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.add(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] + y[yOffset + 0];
+			z[zOffset + 1] = x[xOffset + 1] + y[yOffset + 1];
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_add_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_add_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rs_i(double z[], int zOffset, double x, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.sub(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] -= x;
+	}
+
+	public static void rv_sub_rs_iw(double z[], int zOffset, double x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_sub_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vz.sub(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] -= x[xOffset++];
+	}
+
+	public static void rv_sub_rv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_sub_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rs_i(double z[], int zOffset, double x, int count) {
+		DoubleVector vx = null;
+		if (count >= EPV2)
+			vx = DoubleVector.zero(PFS).blend(x, MASK_C_RE);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			//@DONE: it is faster than sub(x, MASK_C_RE)
+			vz.sub(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] -= x;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_rs_iw(double z[], int zOffset, double x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_sub_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE);
+			vz.sub(vx).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] -= x[xOffset++];
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_rv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_sub_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cs_i(double z[], int zOffset, double x[], int count) {
+		DoubleVector vx = null;
+		//@DONE: It is faster than DoubleVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vx = DoubleVector.fromArray(DS128, x, 0).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.sub(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] -= x[0];
+			z[zOffset + 1] -= x[1];
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cs_iw(double z[], int zOffset, double x[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_sub_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vz.sub(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] -= x[xOffset + 0];
+			z[zOffset + 1] -= x[xOffset + 1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_sub_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.sub(y).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] - y;
+	}
+
+	public static void rv_sub_rs_w(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_sub_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_sub_rv(double z[], int zOffset, double x, double y[], int yOffset, int count) {
+		DoubleVector vx = null;
+		if (count >= EPV)
+			vx = DoubleVector.broadcast(PFS, x);
+
+		while (count >= EPV) {
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x - y[yOffset++];
+	}
+
+	public static void rs_sub_rv_w(double z[], int zOffset, double x, double y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, y.length - yOffset));
+			rs_sub_rv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] - y[yOffset++];
+	}
+
+	public static void rv_sub_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_sub_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		DoubleVector vy = null;
+		if (count >= EPV2)
+			vy = DoubleVector.zero(PFS).blend(y, MASK_C_RE);
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: it is faster than add(x, MASK_C_RE)
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] - y;
+			z[zOffset + 1] = x[xOffset + 1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_rs_w(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_sub_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_sub_cv(double z[], int zOffset, double x, double y[], int yOffset, int count) {
+		DoubleVector vx = null;
+		if (count >= EPV2)
+			vx = DoubleVector.broadcast(PFS, x).blend(DoubleVector.zero(PFS), MASK_C_IM);
+
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x - y[yOffset + 0];
+			z[zOffset + 1] = -y[yOffset + 1];
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rs_sub_cv_w(double z[], int zOffset, double x, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			rs_sub_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, y, yOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final DoubleVector vy = DoubleVector.fromArray(PFS2, y, yOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] - y[yOffset++];
+			z[zOffset + 1] = x[xOffset + 1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_sub_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_sub_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset] - y[yOffset + 0];
+			z[zOffset + 1] = -y[yOffset + 1];
+			xOffset += 1;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_sub_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min(x.length - xOffset, (y.length - yOffset) >> 1)));
+			rv_sub_cv(z, zOffset >> 1, x, xOffset, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cs(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		DoubleVector vy = null;
+		//@DONE: It is faster than DoubleVector.fromArray(PFS, y, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vy = DoubleVector.fromArray(DS128, y, 0).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] - y[0];
+			z[zOffset + 1] = x[xOffset + 1] - y[1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cs_w(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_sub_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cs_sub_cv(double z[], int zOffset, double x[], double y[], int yOffset, int count) {
+		DoubleVector vx = null;
+		//@DONE: It is faster than DoubleVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vx = DoubleVector.fromArray(DS128, x, 0).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[0] - y[yOffset + 0];
+			z[zOffset + 1] = x[1] - y[yOffset + 1];
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cs_sub_cv_w(double z[], int zOffset, double x[], double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			cs_sub_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_sub_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.sub(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] - y[yOffset + 0];
+			z[zOffset + 1] = x[xOffset + 1] - y[yOffset + 1];
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_sub_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_sub_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rs_i(double z[], int zOffset, double x, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.mul(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] *= x;
+	}
+
+	public static void rv_mul_rs_iw(double z[], int zOffset, double x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_mul_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.mul(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] *= x[xOffset++];
+	}
+
+	public static void rv_mul_rv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_mul_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rs_i(double z[], int zOffset, double x, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.mul(x).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] *= x;
+			z[zOffset + 1] *= x;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_rs_iw(double z[], int zOffset, double x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_mul_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.mul(vx).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] *= x[xOffset];
+			z[zOffset + 1] *= x[xOffset];
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_rv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_mul_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cs_i(double z[], int zOffset, double x[], int count) {
+		DoubleVector vxre = null, vxim = null;
+		if (count >= EPV2) {
+			// vxre is [(x.re, x.re), (x.re, x.re), ...]
+			vxre = DoubleVector.broadcast(PFS, x[0]);
+			// vxim is [(x.im, x.im), (x.im, x.im), ...]
+			vxim = DoubleVector.broadcast(PFS, x[1]);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final DoubleVector vmulxre = vz.mul(vxre);
+			// vmulxim [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final DoubleVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre ([z[0].re * x.re - z[0].im * x.im, ?], ...)
+			final DoubleVector vrre = vmulxre.sub(vmulximswap);
+			// vrim ([?, z[0].im * x.re + z[0].re * x.im], ...)
+			final DoubleVector vrim = vmulxre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * x[0];
+			k1 = z[zOffset + 1] * x[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (x[0] + x[1]);
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = k2 - k0 - k1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cs_iw(double z[], int zOffset, double x[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_mul_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre is [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final DoubleVector vmulxre = vz.mul(vxre);
+
+			// vmulxre is [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final DoubleVector vmulxim = vz.mul(vxim);
+
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([z[0].re * x.re - z[0].im * x.im, ?], ...)
+			final DoubleVector vrre = vmulxre.sub(vmulximswap);
+			// vrim is ([?, z[0].im * x.re + z[0].re * x.im], ...)
+			final DoubleVector vrim = vmulxre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * x[xOffset + 0];
+			k1 = z[zOffset + 1] * x[xOffset + 1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (x[xOffset + 0] + x[xOffset + 1]);
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = k2 - k0 - k1;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_mul_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		DoubleVector vy = null;
+		//@DONE: it is fater thab vx.mul(y)
+		if (count >= EPV)
+			vy = DoubleVector.broadcast(PFS, y);
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.mul(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] * y;
+	}
+
+	public static void rv_mul_rs_w(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_mul_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_mul_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			vx.mul(vy).intoArray(z, zOffset);
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] * y[yOffset++];
+	}
+
+	public static void rv_mul_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_mul_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		DoubleVector vy = null;
+		//@DONE: it is fater thab vx.mul(y)
+		if (count >= EPV2)
+			vy = DoubleVector.broadcast(PFS, y);
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.mul(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * y;
+			z[zOffset + 1] = x[xOffset + 1] * y;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_rs_w(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_mul_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, y, yOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final DoubleVector vy = DoubleVector.fromArray(PFS2, y, yOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			vx.mul(vy).intoArray(z, zOffset);
+			yOffset += EPV2;
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * y[yOffset];
+			z[zOffset + 1] = x[xOffset + 1] * y[yOffset];
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_mul_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_mul_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cs(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		DoubleVector vyre = null, vyim = null;
+		if (count >= EPV2) {
+			// vyre is [(y.re, y.re), (y.re, y.re), ...]
+			vyre = DoubleVector.broadcast(PFS, y[0]);
+			// vyim is [(y.im, y.im), (y.im, y.im), ...]
+			vyim = DoubleVector.broadcast(PFS, y[1]);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// vmulyre [(x[0].re * y.re, x[0].im * y.re), (x[1].re * y.re, x[1].im * y.re), ...]
+			final DoubleVector vmulyre = vx.mul(vyre);
+			// vmulyim [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y.im), ...]
+			final DoubleVector vmulyim = vx.mul(vyim);
+			// vmulximswap [(x[0].im * y.im, x[0].re y x.im), (x[1].im * y.im, x[1].re * y.im), ...]
+			final DoubleVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// it is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
+			final DoubleVector vrre = vmulyre.sub(vmulximswap);
+			// it is ([?, x[0].im * y.re + x[0].re * y.im], ...)
+			final DoubleVector vrim = vmulyre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[0];
+			k1 = x[xOffset + 1] * y[1];
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = (x[xOffset + 0] + x[xOffset + 1]) * (y[0] + y[1]) - k0 - k1;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cs_w(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_mul_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_mul_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final DoubleVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final DoubleVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// vmulyre is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final DoubleVector vmulyre = vx.mul(vyre);
+			// vmulyim is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
+			final DoubleVector vmulyim = vx.mul(vyim);
+			// vmulximswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final DoubleVector vmulximswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([x[0].re * y.re - x[0].im * y.im, ?], ...)
+			final DoubleVector vrre = vmulyre.sub(vmulximswap);
+			// vrim is ([?, x[0].im * y.re + x[0].re * y.im], ...)
+			final DoubleVector vrim = vmulyre.add(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[yOffset + 0];
+			k1 = x[xOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = k0 - k1;
+			z[zOffset + 1] = (x[xOffset + 0] + x[xOffset + 1]) * (y[yOffset + 0] + y[yOffset + 1]) - k0 - k1;
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_mul_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_mul_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rs_i(double z[], int zOffset, double x, int count) {
+		DoubleVector vx = null;
+		//@DONE: it is fater thab vz.mul(x)
+		if (count >= EPV)
+			vx = DoubleVector.broadcast(PFS, x);
+
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.div(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] /= x;
+	}
+
+	public static void rv_div_rs_iw(double z[], int zOffset, double x, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_div_rs_i(z, zOffset, x, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.div(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] /= x[xOffset++];
+	}
+
+	public static void rv_div_rv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_div_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rs_i(double z[], int zOffset, double x, int count) {
+		DoubleVector vx = null;
+		//@DONE: it is fater thab vz.mul(x)
+		if (count >= EPV2)
+			vx = DoubleVector.broadcast(PFS, x);
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.div(vx).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] /= x;
+			z[zOffset + 1] /= x;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_rs_iw(double z[], int zOffset, double x, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_div_rs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.div(vx).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] /= x[xOffset];
+			z[zOffset + 1] /= x[xOffset];
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_rv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_div_rv_i(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cs_i(double z[], int zOffset, double x[], int count) {
+		DoubleVector vxre = null;
+		DoubleVector vxim = null;
+		DoubleVector vxsq = null;
+
+		if (count >= EPV2) {
+			// vxre is [(x.re, x.re), (x.re, x.re), ...]
+			vxre = DoubleVector.broadcast(PFS, x[0]);
+			// vxim is [(x.im, x.im), (x.im, x.im), ...]
+			vxim = DoubleVector.broadcast(PFS, x[1]);
+			// vxsq is [(x.re * x.re + x.im * x.im, x.re * x.re + x.im * x.im), ...]
+			vxsq = vxre.fma(vxre, vxim.mul(vxim));
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre is [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final DoubleVector vmulxre = vz.mul(vxre);
+			// vmulxm is [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final DoubleVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([z[0].re * x.re + z[0].im * x.im, ?], ...)
+			final DoubleVector vrre = vmulxre.add(vmulximswap);
+			// vrim is ([?, z[0].im * x.re - z[0].re * x.im], ...)
+			final DoubleVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vxsq).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double re, im, sq = 0;
+		if (count > 0)
+			sq = x[0] * x[0] + x[1] * x[1];
+		while (count-- > 0) {
+			re = (z[zOffset + 0] * x[0] + z[zOffset + 1] * x[1]) / sq;
+			im = (z[zOffset + 1] * x[0] - z[zOffset + 0] * x[1]) / sq;
+			z[zOffset + 0] = re;
+			z[zOffset + 1] = im;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_cs_iw(double z[], int zOffset, double x[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_div_cs_i(z, zOffset >> 1, x, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre is [(z[0].re * x.re, z[0].im * x.re), (z[1].re * x.re, z[1].im * x.re), ...]
+			final DoubleVector vmulxre = vz.mul(vxre);
+			// vmulxim is [(z[0].re * x.im, z[0].im * x.im), (z[1].re * x.im, z[1].im * x.im), ...]
+			final DoubleVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x.im, z[0].re * x.im), (z[1].im * x.im, z[1].re * x.im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vxsq is [(x[0].re * x[0].re + x[0].im * x[0].im, x[0].re * x[0].re + x[0].im * x[0].im), (x[1].re * x[1].re + x[1].im * x[1].im, x[1].re * x[1].re + x[1].im * x[1].im), ...]
+			final DoubleVector vxsq = vxre.fma(vxre, vxim.mul(vxim));
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([z[0].re * x[0].re - z[0].im * x[0].im, ?], ...)
+			final DoubleVector vrre = vmulxre.add(vmulximswap);
+			// vrim is ([?, z[0].im * x.re - z[0].re * x.im], ...)
+			final DoubleVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vxsq).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double re, im, sq;
+		while (count-- > 0) {
+			sq = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			re = (z[zOffset + 0] * x[xOffset + 0] + z[zOffset + 1] * x[xOffset + 1]) / sq;
+			im = (z[zOffset + 1] * x[xOffset + 0] - z[zOffset + 0] * x[xOffset + 1]) / sq;
+			z[zOffset + 0] = re;
+			z[zOffset + 1] = im;
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_div_cv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_div_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		DoubleVector vy = null;
+		//@DONE: it is fater thab vx.div(y)
+		if (count >= EPV)
+			vy = DoubleVector.broadcast(PFS, y);
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.div(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] / y;
+	}
+
+	public static void rv_div_rs_w(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_div_rs(z, zOffset, x, xOffset, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_div_rv(double z[], int zOffset, double x, double y[], int yOffset, int count) {
+		DoubleVector vx = null;
+		if (count >= EPV)
+			vx = DoubleVector.broadcast(PFS, x);
+
+		while (count >= EPV) {
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.div(vy).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x / y[yOffset++];
+	}
+
+	public static void rs_div_rv_w(double z[], int zOffset, double x, double y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, y.length - yOffset));
+			rs_div_rv(z, zOffset, x, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.div(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] / y[yOffset++];
+	}
+
+	public static void rv_div_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_div_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		DoubleVector vy = null;
+		//@DONE: it is fater thab vx.div(y)
+		if (count >= EPV2)
+			vy = DoubleVector.broadcast(PFS, y);
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.div(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] / y;
+			z[zOffset + 1] = x[xOffset + 1] / y;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_rs_w(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_div_rs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rs_div_cv(double z[], int zOffset, double x, double y[], int yOffset, int count) {
+		DoubleVector vx = null;
+		if (count >= EPV2) {
+			// vx is [(x[0], 0), (x[1], 0), ...]
+			vx = DoubleVector.broadcast(PFS, x).blend(0.0, MASK_C_IM);
+		}
+
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final DoubleVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final DoubleVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vmulxre is [(x * y[0].re, 0), (x * y[1].re, 0), ...]
+			final DoubleVector vmulxre = vx.mul(vyre);
+			// vmulxim is [(x * y[0].im, 0), (x * y[1].im, 0), ...]
+			final DoubleVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(0, x * y[0].im), (0, x * y[1].im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vysq is [(y[0].re * y[0].re + y[0].im * y[0].im, y[0].re * y[0].re + y[0].im * y[0].im), (y[1].re * y[1].re + y[1].im * y[1].im, y[1].re * y[1].re + y[1].im * y[1].im), ...]
+			final DoubleVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			// Now blend real parts and negated imaginary parts and divide by abs(y)^2
+			final DoubleVector vr = vmulxre.blend(vmulximswap.neg(), MASK_C_IM).div(vysq);
+			// Save
+			vr.intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double sq;
+		while (count-- > 0) {
+			sq = y[yOffset + 0] * y[yOffset + 0] + y[yOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = x * y[yOffset + 0] / sq;
+			z[zOffset + 1] = -x * y[yOffset + 1] / sq;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rs_div_cv_w(double z[], int zOffset, double x, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			rs_div_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, y, yOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final DoubleVector vy = DoubleVector.fromArray(PFS2, y, yOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			vx.div(vy).intoArray(z, zOffset);
+
+			yOffset += EPV2;
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] / y[yOffset];
+			z[zOffset + 1] = x[xOffset + 1] / y[yOffset];
+			xOffset += 2;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_div_rv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_div_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final DoubleVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final DoubleVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			// vx is [(x[0], 0), (x[1], 0), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE);
+
+			// vmulxre is [(x[0] * y[0].re, 0), (x[1] * y[1].re, 0), ...]
+			final DoubleVector vmulxre = vx.mul(vyre);
+			// vmulxim is [(x[0] * y[0].im, 0), (x[1] * y[1].im, 0), ...]
+			final DoubleVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(0, x[0] * y[0].im), (0, x[1] * y[1].im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vysq is [(y[0].re * y[0].re + y[0].im * y[0].im, y[0].re * y[0].re + y[0].im * y[0].im), (y[1].re * y[1].re + y[1].im * y[1].im, y[1].re * y[1].re + y[1].im * y[1].im), ...]
+			final DoubleVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			// Now blend real parts and negated imaginary parts and divide by abs(y)^2
+			final DoubleVector vr = vmulxre.blend(vmulximswap.neg(), MASK_C_IM).div(vysq);
+			// Save
+			vr.intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double sq;
+		while (count-- > 0) {
+			sq = y[yOffset + 0] * y[yOffset + 0] + y[yOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = x[xOffset] * y[yOffset + 0] / sq;
+			z[zOffset + 1] = -x[xOffset] * y[yOffset + 1] / sq;
+			xOffset += 1;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_div_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min(x.length - xOffset, (y.length - yOffset) >> 1)));
+			rv_div_cv(z, zOffset >> 1, x, xOffset, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cs(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		DoubleVector vyre = null;
+		DoubleVector vyim = null;
+		DoubleVector vysq = null;
+
+		if (count >= EPV2) {
+			// vyre is [(y.re, y.re), (y.re, y.re), ...]
+			vyre = DoubleVector.broadcast(PFS, y[0]);
+			// vyim is [(y.im, y.im), (y.im, y.im), ...]
+			vyim = DoubleVector.broadcast(PFS, y[1]);
+			// vysq is [(y.re * y.re + y.im * y.im, y.re * y.re + y.im * y.im), (y.re * y.re + y.im * y.im, y.re * y.re + y.im * y.im), ...]
+			vysq = vyre.fma(vyre, vyim.mul(vyim));
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// vmulxre is [(x[0].re * y.re, x[0].im * y.re), (x[1].re * y.re, x[1].im * y.re), ...]
+			final DoubleVector vmulxre = vx.mul(vyre);
+			// vmulxim is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y.im), ...]
+			final DoubleVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(x[0].im * y.im, x[0].re * y.im), (x[1].im * y.im, x[1].re * y.im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is ([x[0].re * y.re + x[0].im * y.im, ?], ...)
+			final DoubleVector vrre = vmulxre.add(vmulximswap);
+			// vrim is ([?, x[0].im * y.re - x[0].re * y.im], ...)
+			final DoubleVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double sq = 0;
+		if (count > 0)
+			sq = y[0] * y[0] + y[1] * y[1];
+		while (count-- > 0) {
+			z[zOffset + 0] = (x[xOffset + 0] * y[0] + x[xOffset + 1] * y[1]) / sq;
+			z[zOffset + 1] = (x[xOffset + 1] * y[0] - x[xOffset + 0] * y[1]) / sq;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_cs_w(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_div_cs(z, zOffset >> 1, x, xOffset >> 1, y, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cs_div_cv(double z[], int zOffset, double x[], double y[], int yOffset, int count) {
+		DoubleVector vx = null;
+		//@DONE: It is faster than DoubleVector.fromArray(PFS, x, 0, LOAD_CS_TO_CV_SPREAD, 0)
+		if (count >= EPV2)
+			vx = DoubleVector.fromArray(DS128, x, 0).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final DoubleVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final DoubleVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vmulxre [(x.re * y[0].re, x.im * y[0].re), (x.re * y[1].re, x.im * y[1].re), ...]
+			final DoubleVector vmulxre = vx.mul(vyre);
+			// vmulxim [(x.re * y[0].im, x.im * y[0].im), (x.re * y[1].im, x.im * y[1].im), ...]
+			final DoubleVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(x.im * y[0].im, x.re * y[0].im), (x.im * y[1].im, x.re * y[1].im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// Get abs to divide
+			final DoubleVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is [(x.re * y[0].re + x.im * y[0].im, ?), (x.re * y[1].re + x.im * y[1].im, ?), ...]
+			final DoubleVector vrre = vmulxre.add(vmulximswap);
+			// vrim it is [(?, x.im * y[0].re - x.re * y[0].im), (?, x.im * y[1].re - x.re * y[1].im), ...]
+			final DoubleVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
+
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double sq;
+		while (count-- > 0) {
+			sq = y[yOffset + 0] * y[yOffset + 0] + y[yOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = (x[0] * y[yOffset + 0] + x[1] * y[yOffset + 1]) / sq;
+			z[zOffset + 1] = (x[1] * y[yOffset + 0] - x[0] * y[yOffset + 1]) / sq;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cs_div_cv_w(double z[], int zOffset, double x[], double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (y.length - yOffset) >> 1));
+			cs_div_cv(z, zOffset >> 1, x, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_div_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final DoubleVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final DoubleVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vmulxre [(x[0].re * y[0].re, x[0].im * y[0].re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final DoubleVector vmulxre = vx.mul(vyre);
+			// vmulxim [(x[0].re * y[0].im, x[0].im * y[0].im), (x[1].re * y[1].im, x[1].im * y[1].im), ...]
+			final DoubleVector vmulxim = vx.mul(vyim);
+			// vmulximswap is [(x[0].im * y[0].im, x[0].re * y[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// vysq is [(y[0].re * y[0].re + y[0].im * y[0].im, y[0].re * y[0].re + y[0].im * y[0].im), (y[1].re * y[1].re + y[1].im * y[1].im, y[1].re * y[1].re + y[1].im * y[1].im), ...]
+			final DoubleVector vysq = vyre.fma(vyre, vyim.mul(vyim));
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre is [(x[0].re * y[0].re + x[0].im * y[0].im, ?), (x[1].re * y[1].re + x[1].im * y[1].im, ?), ...]
+			final DoubleVector vrre = vmulxre.add(vmulximswap);
+			// vrim it is [(?, x[0].im * y[0].re - x[0].re * y[0].im), (?, x[1].im * y[1].re - x[1].re * y[1].im), ...]
+			final DoubleVector vrim = vmulxre.sub(vmulximswap);
+
+			// Divide, Blend together & save
+			vrre.blend(vrim, MASK_C_IM).div(vysq).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double sq;
+		while (count-- > 0) {
+			sq = y[yOffset + 0] * y[yOffset + 0] + y[yOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = (x[xOffset + 0] * y[yOffset + 0] + x[xOffset + 1] * y[yOffset + 1]) / sq;
+			z[zOffset + 1] = (x[xOffset + 1] * y[yOffset + 0] - x[xOffset + 0] * y[yOffset + 1]) / sq;
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_div_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_div_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_conjmul_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.mul(vy.lanewise(VectorOperators.NEG, MASK_C_IM)).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset] * y[yOffset + 0];
+			z[zOffset + 1] = -x[xOffset] * y[yOffset + 1];
+			xOffset += 1;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_conjmul_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min(x.length - xOffset, (y.length - yOffset) >> 1)));
+			rv_conjmul_cv(z, zOffset >> 1, x, xOffset, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conjmul_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+
+			// vmulxre is [(z[0].re * x[0].re, z[0].im * x[0].re), (z[1].re * x[0].re, z[1].im * x[0].re), ...]
+			final DoubleVector vmulxre = vz.mul(vxre);
+			// vmulxim is [(z[0].re * x[0].im, z[0].im * x[0].im), (z[1].re * x[1].im, z[1].im * x[1].im), ...]
+			final DoubleVector vmulxim = vz.mul(vxim);
+			// vmulximswap is [(z[0].im * x[0].im, z[0].re * x[0].im), (z[1].im * x[1].im, z[1].re * x[1].im), ...]
+			final DoubleVector vmulximswap = vmulxim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre it is [(z[0].re * x[0].re + z[0].im * x[0].im, ?), (z[1].re * x[1].re + z[1].im * x[1].im, ?)]
+			final DoubleVector vrre = vmulxre.add(vmulximswap);
+			// vrim it is [(?, z[0].im * x[0].re - z[0].re * x[0].im), (?, z[1].im * x[1].re - z[1].re * x[1].im), ...]
+			final DoubleVector vrim = vmulxre.sub(vmulximswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * x[xOffset + 0];
+			k1 = z[zOffset + 1] * x[xOffset + 1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * (x[xOffset + 0] - x[xOffset + 1]);
+			z[zOffset + 0] = k0 + k1;
+			z[zOffset + 1] = k2 - k0 + k1;
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conjmul_cv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_conjmul_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conjmul_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final DoubleVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final DoubleVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// Load x
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// vmuly is [(x[0].re * y[0].re, x[0].im * y.re), (x[1].re * y[1].re, x[1].im * y[1].re), ...]
+			final DoubleVector vmulyre = vx.mul(vyre);
+			// vmuly is [(x[0].re * y.im, x[0].im * y.im), (x[1].re * y.im, x[1].im * y[1].im), ...]
+			final DoubleVector vmulyim = vx.mul(vyim);
+			// vmulyswap is [(x[0].im * y[0].im, x[0].re * x[0].im), (x[1].im * y[1].im, x[1].re * y[1].im), ...]
+			final DoubleVector vmulyimswap = vmulyim.rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			//@DONE: Looks like sub(vmulximswap, MASK_C_RE) and add(vmulximswap, MASK_C_IM) is slower
+			// vrre it is [(x[0].re * y[0].re + x[0].im * y[0].im, ?), (x[1].re * y[1].re + x[1].im * y[1].im, ?)]
+			final DoubleVector vrre = vmulyre.add(vmulyimswap);
+			// vrim it is [(?, x[0].im * y[0].re - x[0].re * y[0].im), (?, x[1].im * y[1].re - x[1].re * y[1].im), ...]
+			final DoubleVector vrim = vmulyre.sub(vmulyimswap);
+
+			// Blend together & save
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[yOffset + 0];
+			k1 = x[xOffset + 1] * y[yOffset + 1];
+			z[zOffset + 0] = k0 + k1;
+			z[zOffset + 1] = (x[xOffset + 0] + x[xOffset + 1]) * (y[yOffset + 0] - y[yOffset + 1]) - k0 + k1;
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conjmul_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_conjmul_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conj_i(double z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.lanewise(VectorOperators.NEG, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		zOffset++;
+		while (count-- > 0) {
+			z[zOffset] = -z[zOffset]; // + 1
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conj_iw(double z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_conj_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_conj(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.lanewise(VectorOperators.NEG, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0];
+			z[zOffset + 1] = -x[xOffset + 1];
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_conj_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_conj(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_expi(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		while (count >= EPV) {
+			//@DONE: check, do we need pack and process twice elements, and save result twice
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_RV_TO_CV_BOTH, 0);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vzre = vx.lanewise(VectorOperators.COS);
+			final DoubleVector vzim = vx.lanewise(VectorOperators.SIN);
+			// And now we should combine TWO z vectors from re/im, as they are packed without empty slots
+			vzre.rearrange(SHUFFLE_RV_TO_CV_RE_LOW).blend(vzim.rearrange(SHUFFLE_RV_TO_CV_IM_LOW), MASK_C_IM).intoArray(z, zOffset);
+			vzre.rearrange(SHUFFLE_RV_TO_CV_RE_HIGH).blend(vzim.rearrange(SHUFFLE_RV_TO_CV_IM_HIGH), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			// We stored twice as much complex numbers
+			xOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+		// If we have half-vector
+		if (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset);
+			final DoubleVector vzre = vx.lanewise(VectorOperators.COS).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			final DoubleVector vzim = vx.lanewise(VectorOperators.SIN).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+			vzre.blend(vzim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = Math.cos(x[xOffset]);
+			z[zOffset + 1] = Math.sin(x[xOffset]);
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_expi_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			rv_expi(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_expi_f(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// Sine and cosine share range reduction and are stored as TWO z vectors
+			expi_f(z, zOffset, ONE, vx);
+
+			// We stored twice as much complex numbers
+			xOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = FastTrig.cos(x[xOffset]);
+			z[zOffset + 1] = FastTrig.sin(x[xOffset]);
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_expi_fw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			rv_expi_f(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_exp_i(double z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.lanewise(VectorOperators.EXP).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = Math.exp(z[zOffset]);
+			zOffset++;
+		}
+	}
+
+	public static void rv_exp_iw(double z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_exp_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_i(double z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		// To process
+		while (count >= EPV) {
+			//@DONE: one load & two reshuffles are faster
+			//@DONE: it is better than process one vector
+			final DoubleVector vz1 = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vz2 = DoubleVector.fromArray(PFS, z, zOffset + EPV);
+
+			// Ger vz1re/vz1im till vz2 is loading
+			final DoubleVector vz1re = vz1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vz1im = vz1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			// Ger vz2re/vz2im
+			final DoubleVector vz2re = vz2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vz2im = vz2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			// Combine them
+			final DoubleVector vzreexp = vz1re.blend(vz2re, MASK_SECOND_HALF).lanewise(VectorOperators.EXP);
+			final DoubleVector vzim = vz1im.blend(vz2im, MASK_SECOND_HALF);
+
+			final DoubleVector vrre = vzreexp.mul(vzim.lanewise(VectorOperators.COS));
+			final DoubleVector vrim = vzreexp.mul(vzim.lanewise(VectorOperators.SIN));
+
+			// And combine & store twice
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			// We loaded and stored twice as many numbers
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		//@DONE: Don't process obe PFS-sized vector, it is too expensive to setup for only one
+
+		while (count-- > 0) {
+			double g = Math.exp(z[zOffset + 0]);
+			z[zOffset + 0] = g * Math.cos(z[zOffset + 1]);
+			z[zOffset + 1] = g * Math.sin(z[zOffset + 1]);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_iw(double z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_exp_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_if(double z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final DoubleVector vz1 = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vz2 = DoubleVector.fromArray(PFS, z, zOffset + EPV);
+
+			final DoubleVector vz1re = vz1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vz1im = vz1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vz2re = vz2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vz2im = vz2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vzreexp = exp_f(vz1re.blend(vz2re, MASK_SECOND_HALF));
+			final DoubleVector vzim = vz1im.blend(vz2im, MASK_SECOND_HALF);
+
+			// Multiply sine and cosine by exp(re) and store twice
+			expi_f(z, zOffset, vzreexp, vzim);
+
+			// We loaded and stored twice as many numbers
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			double g = Math.exp(z[zOffset + 0]);
+			z[zOffset + 0] = g * FastTrig.cos(z[zOffset + 1]);
+			z[zOffset + 1] = g * FastTrig.sin(z[zOffset + 1]);
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_ifw(double z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_exp_if(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_exp(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.lanewise(VectorOperators.EXP).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = Math.exp(x[xOffset++]);
+	}
+
+	public static void rv_exp_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_exp(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		// To process
+		while (count >= EPV) {
+			//@DONE: one load & two reshuffles are faster
+			//@DONE: it is better than process one vector
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+
+			// Ger vx1re/vx1im till vx2 is loading
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			// Ger vx2re/vx2im
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			// Combine them
+			final DoubleVector vxreexp = vx1re.blend(vx2re, MASK_SECOND_HALF).lanewise(VectorOperators.EXP);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vrre = vxreexp.mul(vxim.lanewise(VectorOperators.COS));
+			final DoubleVector vrim = vxreexp.mul(vxim.lanewise(VectorOperators.SIN));
+
+			// And combine & store twice
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			// We loaded and stored twice as many numbers
+			xOffset += EPV * 2;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		//@DONE: Don't process obe PFS-sized vector, it is too expensive to setup for only one
+
+		while (count-- > 0) {
+			double g = Math.exp(x[xOffset + 0]);
+			z[zOffset + 0] = g * Math.cos(x[xOffset + 1]);
+			z[zOffset + 1] = g * Math.sin(x[xOffset + 1]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_exp(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_exp_f(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxreexp = exp_f(vx1re.blend(vx2re, MASK_SECOND_HALF));
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			// Multiply sine and cosine by exp(re) and store twice
+			expi_f(z, zOffset, vxreexp, vxim);
+
+			// We loaded and stored twice as many numbers
+			xOffset += EPV * 2;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			double g = Math.exp(x[xOffset + 0]);
+			z[zOffset + 0] = g * FastTrig.cos(x[xOffset + 1]);
+			z[zOffset + 1] = g * FastTrig.sin(x[xOffset + 1]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_exp_fw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_exp_f(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_im(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_IM, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+			vxim.intoArray(z, zOffset);
+
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		xOffset += 1;
+		while (count-- > 0) {
+			z[zOffset++] = x[xOffset]; // + 1
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_im_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_im(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_re(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_RE, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			vxre.intoArray(z, zOffset);
+
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = x[xOffset];
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_re_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_re(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_abs(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			vxre.lanewise(VectorOperators.HYPOT, vxim).intoArray(z, zOffset);
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = Math.hypot(x[xOffset + 0], x[xOffset + 1]);
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_abs_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_abs(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_arg(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			vxim.lanewise(VectorOperators.ATAN2, vxre).intoArray(z, zOffset);
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = Math.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_arg_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_arg(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_arg_f(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			atan2_f(vxim, vxre).intoArray(z, zOffset);
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_arg_fw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_arg_f(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_argmul_rs(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		DoubleVector vy = null;
+		//@DONE: it is fater thab ...mul(y)
+		if (count >= EPV)
+			vy = DoubleVector.broadcast(PFS, y);
+
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			vxim.lanewise(VectorOperators.ATAN2, vxre).mul(vy).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = y * Math.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_argmul_rs_w(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_argmul_rs(z, zOffset, x, xOffset >> 1, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_argmul_rs_f(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		DoubleVector vy = null;
+		//@DONE: it is fater thab ...mul(y)
+		if (count >= EPV)
+			vy = DoubleVector.broadcast(PFS, y);
+
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			atan2_f(vxim, vxre).mul(vy).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset++] = y * FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_argmul_rs_fw(double z[], int zOffset, double x[], int xOffset, double y, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_argmul_rs_f(z, zOffset, x, xOffset >> 1, y, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_abs_i(double z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.abs().intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = Math.abs(z[zOffset]);
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_abs_iw(double z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_abs_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_abs(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.abs().intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = Math.abs(x[xOffset++]);
+	}
+
+	public static void rv_abs_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_abs(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_cvt(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		while (count >= EPV2) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, MASK_C_RE, LOAD_RV_TO_CV_RE, 0);
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE);
+			vx.intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset];
+			z[zOffset + 1] = 0.0;
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void rv_cvt_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			rv_cvt(z, zOffset >> 1, x, xOffset, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_i(double z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final DoubleVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final DoubleVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			final DoubleVector vrre = vzre.lanewise(VectorOperators.HYPOT, vzim);
+			final DoubleVector vrim = vzim.lanewise(VectorOperators.ATAN2, vzre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double abs, arg;
+		while (count-- > 0) {
+			abs = Math.hypot(z[zOffset + 0], z[zOffset + 1]);
+			arg = Math.atan2(z[zOffset + 1], z[zOffset + 0]);
+			z[zOffset + 0] = abs;
+			z[zOffset + 1] = arg;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_iw(double z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_r2p_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_if(double z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final DoubleVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final DoubleVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			// Fast version doesn't protect from overflow, as Math.hypot() does
+			final DoubleVector vrre = vzre.fma(vzre, vzim.mul(vzim)).sqrt();
+			final DoubleVector vrim = atan2_f(vzim, vzre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double abs, arg;
+		while (count-- > 0) {
+			abs = Math.hypot(z[zOffset + 0], z[zOffset + 1]);
+			arg = FastTrig.atan2(z[zOffset + 1], z[zOffset + 0]);
+			z[zOffset + 0] = abs;
+			z[zOffset + 1] = arg;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_ifw(double z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_r2p_if(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			final DoubleVector vrre = vxre.lanewise(VectorOperators.HYPOT, vxim);
+			final DoubleVector vrim = vxim.lanewise(VectorOperators.ATAN2, vxre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = Math.hypot(x[xOffset + 0], x[xOffset + 1]);
+			z[zOffset + 1] = Math.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_r2p(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_r2p_f(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: Masks are insanely expensive here
+			// Fast version doesn't protect from overflow, as Math.hypot() does
+			final DoubleVector vrre = vxre.fma(vxre, vxim.mul(vxim)).sqrt();
+			final DoubleVector vrim = atan2_f(vxim, vxre);
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = Math.hypot(x[xOffset + 0], x[xOffset + 1]);
+			z[zOffset + 1] = FastTrig.atan2(x[xOffset + 1], x[xOffset + 0]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_r2p_fw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_r2p_f(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_p2r_i(double z[], int zOffset, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			//@TODO: check, do we need pack and process twice elements, and save result twice
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			// vzreezp is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final DoubleVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final DoubleVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: .cos(MASK_C_IM)/.sin(MASK_C_RE) is much slower
+			final DoubleVector vrre = vzre.mul(vzim.lanewise(VectorOperators.COS));
+			final DoubleVector vrim = vzre.mul(vzim.lanewise(VectorOperators.SIN));
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double re, im;
+		while (count-- > 0) {
+			re = z[zOffset + 0] * Math.cos(z[zOffset + 1]);
+			im = z[zOffset + 0] * Math.sin(z[zOffset + 1]);
+			z[zOffset + 0] = re;
+			z[zOffset + 1] = im;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_p2r_iw(double z[], int zOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (z.length - zOffset) >> 1);
+			cv_p2r_i(z, zOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_p2r(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			//@TODO: check, do we need pack and process twice elements, and save result twice
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vxreexp is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			//@DONE: .cos(MASK_C_IM)/.sin(MASK_C_RE) is much slower
+			final DoubleVector vrre = vxre.mul(vxim.lanewise(VectorOperators.COS));
+			final DoubleVector vrim = vxre.mul(vxim.lanewise(VectorOperators.SIN));
+
+			vrre.blend(vrim, MASK_C_IM).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * Math.cos(x[xOffset + 1]);
+			z[zOffset + 1] = x[xOffset + 0] * Math.sin(x[xOffset + 1]);
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_p2r_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_p2r(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static double rv_sum(double x[], int xOffset, int count) {
+		// Independent accumulators hide latency of addition and there is only one reduction at the end
+		// See specific.RVsum benchmark
+		DoubleVector vsum1 = DoubleVector.zero(PFS);
+		DoubleVector vsum2 = DoubleVector.zero(PFS);
+		DoubleVector vsum3 = DoubleVector.zero(PFS);
+		DoubleVector vsum4 = DoubleVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+
+		while (count >= EPVx4) {
+			vsum1 = vsum1.add(DoubleVector.fromArray(PFS, x, xOffset));
+			vsum2 = vsum2.add(DoubleVector.fromArray(PFS, x, xOffset + EPV));
+			vsum3 = vsum3.add(DoubleVector.fromArray(PFS, x, xOffset + EPVx2));
+			vsum4 = vsum4.add(DoubleVector.fromArray(PFS, x, xOffset + EPVx3));
+
+			xOffset += EPVx4;
+			count -= EPVx4;
+		}
+
+		if (count >= EPVx2) {
+			vsum1 = vsum1.add(DoubleVector.fromArray(PFS, x, xOffset));
+			vsum2 = vsum2.add(DoubleVector.fromArray(PFS, x, xOffset + EPV));
+
+			xOffset += EPVx2;
+			count -= EPVx2;
+		}
+
+		if (count >= EPV) {
+			vsum3 = vsum3.add(DoubleVector.fromArray(PFS, x, xOffset));
+
+			xOffset += EPV;
+			count -= EPV;
+		}
+
+		double sum = 0.0;
+		while (count-- > 0)
+			sum += x[xOffset++];
+
+		if (needLanes)
+			sum += vsum1.add(vsum2).add(vsum3.add(vsum4)).reduceLanes(VectorOperators.ADD);
+		return sum;
+	}
+
+	public static double rv_sum_w(double x[], int xOffset, int count) {
+		double sum = 0.0;
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, x.length - xOffset);
+			sum += rv_sum(x, xOffset, work);
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return sum;
+	}
+
+	public static void cv_sum(double z[], double x[], int xOffset, int count) {
+		cv_sum(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_sum(double z[], int zOffset, double x[], int xOffset, int count) {
+		// Sums of real and imaginary parts are accumulated in place, and split only once at the end
+		// See specific.CVsum benchmark
+		DoubleVector vsum1 = DoubleVector.zero(PFS);
+		DoubleVector vsum2 = DoubleVector.zero(PFS);
+		final boolean needLanes = count >= EPV2;
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			vsum1 = vsum1.add(DoubleVector.fromArray(PFS, x, xOffset));
+			vsum2 = vsum2.add(DoubleVector.fromArray(PFS, x, xOffset + EPV));
+
+			xOffset += EPVx2;
+			count -= EPV;
+		}
+
+		if (count >= EPV2) {
+			vsum1 = vsum1.add(DoubleVector.fromArray(PFS, x, xOffset));
+
+			xOffset += EPV;
+			count -= EPV2;
+		}
+
+		double re = 0.0;
+		double im = 0.0;
+		while (count-- > 0) {
+			re += x[xOffset + 0];
+			im += x[xOffset + 1];
+			xOffset += 2;
+		}
+
+		if (needLanes) {
+			// vsum is [(sum.re, sum.im), (sum.re, sum.im), ...]
+			final DoubleVector vsum = vsum1.add(vsum2);
+			// It is faster than addLanes(MASK)
+			re += vsum.rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reinterpretShape(PFS2, 0).reinterpretAsDoubles().reduceLanes(VectorOperators.ADD);
+			im += vsum.rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reinterpretShape(PFS2, 0).reinterpretAsDoubles().reduceLanes(VectorOperators.ADD);
+		}
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void cv_sum_w(double z[], double x[], int xOffset, int count) {
+		cv_sum_w(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_sum_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		final double sum[] = new double[2];
+		double re = 0.0;
+		double im = 0.0;
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (x.length - xOffset) >> 1);
+			cv_sum(sum, x, xOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static double rv_dot_rv(double x[], int xOffset, double y[], int yOffset, int count) {
+		// Independent accumulators hide latency of fma and there is only one reduction at the end
+		// See specific.RVdotRV benchmark
+		DoubleVector vsum1 = DoubleVector.zero(PFS);
+		DoubleVector vsum2 = DoubleVector.zero(PFS);
+		DoubleVector vsum3 = DoubleVector.zero(PFS);
+		DoubleVector vsum4 = DoubleVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+
+		while (count >= EPVx4) {
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy1 = DoubleVector.fromArray(PFS, y, yOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+			final DoubleVector vy2 = DoubleVector.fromArray(PFS, y, yOffset + EPV);
+			final DoubleVector vx3 = DoubleVector.fromArray(PFS, x, xOffset + EPVx2);
+			final DoubleVector vy3 = DoubleVector.fromArray(PFS, y, yOffset + EPVx2);
+			final DoubleVector vx4 = DoubleVector.fromArray(PFS, x, xOffset + EPVx3);
+			final DoubleVector vy4 = DoubleVector.fromArray(PFS, y, yOffset + EPVx3);
+
+			vsum1 = vx1.fma(vy1, vsum1);
+			vsum2 = vx2.fma(vy2, vsum2);
+			vsum3 = vx3.fma(vy3, vsum3);
+			vsum4 = vx4.fma(vy4, vsum4);
+
+			xOffset += EPVx4;
+			yOffset += EPVx4;
+			count -= EPVx4;
+		}
+
+		if (count >= EPVx2) {
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy1 = DoubleVector.fromArray(PFS, y, yOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+			final DoubleVector vy2 = DoubleVector.fromArray(PFS, y, yOffset + EPV);
+
+			vsum1 = vx1.fma(vy1, vsum1);
+			vsum2 = vx2.fma(vy2, vsum2);
+
+			xOffset += EPVx2;
+			yOffset += EPVx2;
+			count -= EPVx2;
+		}
+
+		if (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			vsum3 = vx.fma(vy, vsum3);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV;
+		}
+
+		double sum = 0.0;
+		while (count-- > 0)
+			sum += x[xOffset++] * y[yOffset++];
+
+		if (needLanes)
+			sum += vsum1.add(vsum2).add(vsum3.add(vsum4)).reduceLanes(VectorOperators.ADD);
+		return sum;
+	}
+
+	public static double rv_dot_rv_w(double x[], int xOffset, double y[], int count) {
+		double sum = 0.0;
+		xOffset = preWrap(xOffset, x.length);
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = Math.min(count, x.length - xOffset);
+			sum += rv_dot_rv(x, xOffset, y, yOffset, work);
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			count -= work;
+		}
+		return sum;
+	}
+
+	public static double rv_dot_rv_w(double x[], int xOffset, double y[], int yOffset, int count) {
+		double sum = 0.0;
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(x.length - xOffset, y.length - yOffset));
+			sum += rv_dot_rv(x, xOffset, y, yOffset, work);
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+		return sum;
+	}
+
+	public static void rv_dot_cv(double z[], double x[], int xOffset, double y[], int yOffset, int count) {
+		rv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		// Vector accumulators and only one reduction at the end
+		DoubleVector vsumre = DoubleVector.zero(PFS);
+		DoubleVector vsumim = DoubleVector.zero(PFS);
+		final boolean needLanes = count >= EPV;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, y, yOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vy1 = DoubleVector.fromArray(PFS, y, yOffset);
+			final DoubleVector vy2 = DoubleVector.fromArray(PFS, y, yOffset + PFS.length());
+
+			final DoubleVector vy1re = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vy1im = vy1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vy2re = vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vy2im = vy2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vyre = vy1re.blend(vy2re, MASK_SECOND_HALF);
+			final DoubleVector vyim = vy1im.blend(vy2im, MASK_SECOND_HALF);
+
+			vsumre = vx.fma(vyre, vsumre);
+			vsumim = vx.fma(vyim, vsumim);
+
+			xOffset += EPV;
+			yOffset += EPV * 2; // We load twice as much complex numbers
+			count -= EPV;
+		}
+
+		double re = 0.0;
+		double im = 0.0;
+		while (count-- > 0) {
+			re += x[xOffset] * y[yOffset + 0];
+			im += x[xOffset] * y[yOffset + 1];
+			xOffset += 1;
+			yOffset += 2;
+		}
+
+		if (needLanes) {
+			re += vsumre.reduceLanes(VectorOperators.ADD);
+			im += vsumim.reduceLanes(VectorOperators.ADD);
+		}
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void rv_dot_cv_w(double z[], double x[], int xOffset, double y[], int count) {
+		rv_dot_cv_w(z, 0, x, xOffset, y, count);
+	}
+
+	public static void rv_dot_cv_w(double z[], double x[], int xOffset, double y[], int yOffset, int count) {
+		rv_dot_cv_w(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void rv_dot_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		final double sum[] = new double[2];
+		double re = 0.0;
+		double im = 0.0;
+		xOffset = preWrap(xOffset, x.length);
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = Math.min(count, x.length - xOffset);
+			rv_dot_cv(sum, x, xOffset, y, yOffset, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void rv_dot_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		final double sum[] = new double[2];
+		double re = 0.0;
+		double im = 0.0;
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(x.length - xOffset, (y.length - yOffset) >> 1));
+			rv_dot_cv(sum, x, xOffset, y, yOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void cv_dot_rv_w(double z[], double x[], int xOffset, double y[], int count) {
+		cv_dot_rv_w(z, 0, x, xOffset, y, count);
+	}
+
+	public static void cv_dot_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		// There is no cv_dot_rv(), but dot product is commutative
+		final double sum[] = new double[2];
+		double re = 0.0;
+		double im = 0.0;
+		xOffset = preWrapCv(xOffset, x.length);
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = Math.min(count, (x.length - xOffset) >> 1);
+			rv_dot_cv(sum, y, yOffset, x, xOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void cv_dot_rv_w(double z[], double x[], int xOffset, double y[], int yOffset, int count) {
+		cv_dot_rv_w(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		final double sum[] = new double[2];
+		double re = 0.0;
+		double im = 0.0;
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((x.length - xOffset) >> 1, y.length - yOffset));
+			rv_dot_cv(sum, y, yOffset, x, xOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void cv_dot_cv(double z[], double x[], int xOffset, double y[], int yOffset, int count) {
+		cv_dot_cv(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		// Products by real and imaginary parts of y are accumulated separately,
+		// and combined to complex result only once at the end
+		// See specific.CVdotCV benchmark
+		DoubleVector vsumyre1 = DoubleVector.zero(PFS);
+		DoubleVector vsumyim1 = DoubleVector.zero(PFS);
+		DoubleVector vsumyre2 = DoubleVector.zero(PFS);
+		DoubleVector vsumyim2 = DoubleVector.zero(PFS);
+		final boolean needLanes = count >= EPV2;
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: one load & two reshuffles are faster
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy1 = DoubleVector.fromArray(PFS, y, yOffset);
+			final DoubleVector vy2 = DoubleVector.fromArray(PFS, y, yOffset + EPV);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+
+			// vsumyre is [(x[0].re * y[0].re, x[0].im * y[0].re), ...] accumulated
+			vsumyre1 = vx1.fma(vy1.rearrange(SHUFFLE_CV_SPREAD_RE), vsumyre1);
+			vsumyre2 = vx2.fma(vy2.rearrange(SHUFFLE_CV_SPREAD_RE), vsumyre2);
+			// vsumyim is [(x[0].re * y[0].im, x[0].im * y[0].im), ...] accumulated
+			vsumyim1 = vx1.fma(vy1.rearrange(SHUFFLE_CV_SPREAD_IM), vsumyim1);
+			vsumyim2 = vx2.fma(vy2.rearrange(SHUFFLE_CV_SPREAD_IM), vsumyim2);
+
+			xOffset += EPVx2;
+			yOffset += EPVx2;
+			count -= EPV;
+		}
+
+		if (count >= EPV2) {
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			vsumyre1 = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_RE), vsumyre1);
+			vsumyim1 = vx.fma(vy.rearrange(SHUFFLE_CV_SPREAD_IM), vsumyim1);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			count -= EPV2;
+		}
+
+		double re = 0.0;
+		double im = 0.0;
+		double k0, k1;
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * y[yOffset + 0];
+			k1 = x[xOffset + 1] * y[yOffset + 1];
+			re += k0 - k1;
+			im += (x[xOffset + 0] + x[xOffset + 1]) * (y[yOffset + 0] + y[yOffset + 1]) - k0 - k1;
+			xOffset += 2;
+			yOffset += 2;
+		}
+
+		if (needLanes) {
+			// vmulyre is [(sum(x.re * y.re), sum(x.im * y.re)), ...]
+			final DoubleVector vmulyre = vsumyre1.add(vsumyre2);
+			// vmulximswap is [(sum(x.im * y.im), sum(x.re * y.im)), ...]
+			final DoubleVector vmulximswap = vsumyim1.add(vsumyim2).rearrange(SHUFFLE_CV_SWAP_RE_IM);
+
+			// It is faster than addLanes(MASK)
+			// And it is same as reshuffle + reshape, but easier to understand
+			re += vmulyre.sub(vmulximswap).rearrange(SHUFFLE_CV_TO_CV_FRONT_RE).reinterpretShape(PFS2, 0).reinterpretAsDoubles().reduceLanes(VectorOperators.ADD);
+			im += vmulyre.add(vmulximswap).rearrange(SHUFFLE_CV_TO_CV_FRONT_IM).reinterpretShape(PFS2, 0).reinterpretAsDoubles().reduceLanes(VectorOperators.ADD);
+		}
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void cv_dot_cv_w(double z[], double x[], int xOffset, double y[], int count) {
+		cv_dot_cv_w(z, 0, x, xOffset, y, count);
+	}
+
+	public static void cv_dot_cv_w(double z[], double x[], int xOffset, double y[], int yOffset, int count) {
+		cv_dot_cv_w(z, 0, x, xOffset, y, yOffset, count);
+	}
+
+	public static void cv_dot_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int count) {
+		final double sum[] = new double[2];
+		double re = 0.0;
+		double im = 0.0;
+		xOffset = preWrapCv(xOffset, x.length);
+		int yOffset = 0;
+		while (count > 0) {
+			// How much could we process without wrapping? y is not wrapped at all
+			final int work = Math.min(count, (x.length - xOffset) >> 1);
+			cv_dot_cv(sum, x, xOffset >> 1, y, yOffset, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void cv_dot_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		final double sum[] = new double[2];
+		double re = 0.0;
+		double im = 0.0;
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1));
+			cv_dot_cv(sum, x, xOffset >> 1, y, yOffset >> 1, work);
+			re += sum[0];
+			im += sum[1];
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+		zOffset <<= 1;
+		z[zOffset + 0] = re;
+		z[zOffset + 1] = im;
+	}
+
+	public static void rv_cpy(double z[], int zOffset, double x[], int xOffset, int count) {
+		// Just for fun: maybe, it is faster than System.arraycopy()? :-)
+		while (count >= EPV) {
+			DoubleVector.fromArray(PFS, x, xOffset).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+		System.arraycopy(x, xOffset, z, zOffset, count);
+	}
+
+	public static void rv_cpy_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_cpy(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cpy(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		// Just for fun: maybe, it is faster than System.arraycopy()? :-)
+		while (count >= EPV2) {
+			DoubleVector.fromArray(PFS, x, xOffset).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+		System.arraycopy(x, xOffset, z, zOffset, count * 2);
+	}
+
+	public static void cv_cpy_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_cpy(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static double rv_max(double x[], int xOffset, int count) {
+		double max = Double.NEGATIVE_INFINITY;
+
+		while (count >= EPV) {
+			double localMax = DoubleVector.fromArray(PFS, x, xOffset).reduceLanes(VectorOperators.MAX);
+			if (max < localMax)
+				max = localMax;
+
+			xOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			if (max < x[xOffset])
+				max = x[xOffset];
+			xOffset += 1;
+		}
+		return max;
+	}
+
+	public static double rv_max_w(double x[], int xOffset, int count) {
+		double max = Double.NEGATIVE_INFINITY;
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, x.length - xOffset);
+			final double localMax = rv_max(x, xOffset, work);
+			if (max < localMax)
+				max = localMax;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return max;
+	}
+
+	public static void rv_max_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.max(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			if (x[xOffset] > z[zOffset])
+				z[zOffset] = x[xOffset];
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_max_rv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_max_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_max_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.max(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = x[xOffset] > y[yOffset] ? x[xOffset] : y[yOffset];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_max_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_max_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_max(double z[], double x[], int xOffset, int count) {
+		double max = Double.NEGATIVE_INFINITY;
+		int i = -1;
+		final double aabs[] = count >= EPV ? new double[EPV] : null;
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + EPV);
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.intoArray(aabs, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (max < aabs[j]) {
+					max = aabs[j];
+					i = xOffset + (j << 1);
+				}
+			}
+
+			xOffset += EPVx2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			double abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		z[0] = x[i + 0];
+		z[1] = x[i + 1];
+	}
+
+	public static void cv_max(double z[], int zOffset, double x[], int xOffset, int count) {
+		double max = Double.NEGATIVE_INFINITY;
+		int i = -1;
+		final double aabs[] = count >= EPV ? new double[EPV] : null;
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			vxabs.intoArray(aabs, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (max < aabs[j]) {
+					max = aabs[j];
+					i = xOffset + (j << 1);
+				}
+			}
+
+			xOffset += EPVx2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			double abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		z[zOffset + 0] = x[i + 0];
+		z[zOffset + 1] = x[i + 1];
+	}
+
+	public static void cv_max_w(double z[], double x[], int xOffset, int count) {
+		cv_max_w(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_max_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		// Value of max is the value at its index
+		final int i = cv_maxarg_w(x, xOffset, count) << 1;
+		zOffset <<= 1;
+		z[zOffset + 0] = x[i + 0];
+		z[zOffset + 1] = x[i + 1];
+	}
+
+	public static void cv_max_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// vzre is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final DoubleVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final DoubleVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final DoubleVector vzabs = vzre.fma(vzre, vzim.mul(vzim));
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			VectorMask<Double> xGz = vxabs.compare(VectorOperators.GT, vzabs);
+			vx.intoArray(z, zOffset, xGz);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			if ((x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]) > (z[zOffset + 0] * z[zOffset + 0] + z[zOffset + 1] * z[zOffset + 1])) {
+				z[zOffset + 0] = x[xOffset + 0];
+				z[zOffset + 1] = x[xOffset + 1];
+			}
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_max_cv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_max_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_max_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final DoubleVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final DoubleVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			final DoubleVector vyabs = vyre.fma(vyre, vyim.mul(vyim));
+
+			VectorMask<Double> xGy = vxabs.compare(VectorOperators.GT, vyabs);
+			vy.blend(vx, xGy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			if ((x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]) > (y[yOffset + 0] * y[yOffset + 0] + y[yOffset + 1] * y[yOffset + 1])) {
+				z[zOffset + 0] = x[xOffset + 0];
+				z[zOffset + 1] = x[xOffset + 1];
+			} else {
+				z[zOffset + 0] = y[yOffset + 0];
+				z[zOffset + 1] = y[yOffset + 1];
+			}
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_max_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_max_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static double rv_min(double x[], int xOffset, int count) {
+		double min = Double.POSITIVE_INFINITY;
+
+		while (count >= EPV) {
+			double localMin = DoubleVector.fromArray(PFS, x, xOffset).reduceLanes(VectorOperators.MIN);
+			if (min > localMin)
+				min = localMin;
+			xOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			if (min > x[xOffset])
+				min = x[xOffset];
+			xOffset += 1;
+		}
+		return min;
+	}
+
+	public static double rv_min_w(double x[], int xOffset, int count) {
+		double min = Double.POSITIVE_INFINITY;
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, x.length - xOffset);
+			final double localMin = rv_min(x, xOffset, work);
+			if (min > localMin)
+				min = localMin;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return min;
+	}
+
+	public static void rv_min_rv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.min(vx).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			if (x[xOffset] < z[zOffset])
+				z[zOffset] = x[xOffset];
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_min_rv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_min_rv_i(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_min_rv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.min(vy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = x[xOffset] < y[yOffset] ? x[xOffset] : y[yOffset];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_min_rv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_min_rv(z, zOffset, x, xOffset, y, yOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_min(double z[], double x[], int xOffset, int count) {
+		double min = Double.POSITIVE_INFINITY;
+		int i = -1;
+		final double aabs[] = count >= EPV ? new double[EPV] : null;
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.intoArray(aabs, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (min > aabs[j]) {
+					min = aabs[j];
+					i = xOffset + (j << 1);
+				}
+			}
+
+			xOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			double abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (min > abs) {
+				min = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		z[0] = x[i + 0];
+		z[1] = x[i + 1];
+	}
+
+	public static void cv_min(double z[], int zOffset, double x[], int xOffset, int count) {
+		double min = Double.POSITIVE_INFINITY;
+		int i = -1;
+		final double aabs[] = count >= EPV ? new double[EPV] : null;
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			double localMin = vxabs.reduceLanes(VectorOperators.MIN);
+
+			vxabs.intoArray(aabs, 0);
+			for (int j = 0; j < EPV; j++) {
+				if (min > aabs[j]) {
+					min = aabs[j];
+					i = xOffset + (j << 1);
+				}
+			}
+
+			xOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			double abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (min > abs) {
+				min = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+		z[zOffset + 0] = x[i + 0];
+		z[zOffset + 1] = x[i + 1];
+	}
+
+	public static void cv_min_w(double z[], double x[], int xOffset, int count) {
+		cv_min_w(z, 0, x, xOffset, count);
+	}
+
+	public static void cv_min_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		// Value of min is the value at its index
+		final int i = cv_minarg_w(x, xOffset, count) << 1;
+		zOffset <<= 1;
+		z[zOffset + 0] = x[i + 0];
+		z[zOffset + 1] = x[i + 1];
+	}
+
+	public static void cv_min_cv_i(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// vzre is [(z[0].re, z[0].re), (z[1].re, z[1].re), ...]
+			final DoubleVector vzre = vz.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vzim is [(z[0].im, z[0].im), (z[1].im, z[1].im), ...]
+			final DoubleVector vzim = vz.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final DoubleVector vzabs = vzre.fma(vzre, vzim.mul(vzim));
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			VectorMask<Double> xLz = vxabs.compare(VectorOperators.LT, vzabs);
+			vx.intoArray(z, zOffset, xLz);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			if ((x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]) < (z[zOffset + 0] * z[zOffset + 0] + z[zOffset + 1] * z[zOffset + 1])) {
+				z[zOffset + 0] = x[xOffset + 0];
+				z[zOffset + 1] = x[xOffset + 1];
+			}
+			xOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_min_cv_iw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_min_cv_i(z, zOffset >> 1, x, xOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_min_cv(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		xOffset <<= 1;
+		yOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			//@DONE: one load & two reshuffles are faster
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			// vxre is [(x[0].re, x[0].re), (x[1].re, x[1].re), ...]
+			final DoubleVector vxre = vx.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vxim is [(x[0].im, x[0].im), (x[1].im, x[1].im), ...]
+			final DoubleVector vxim = vx.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			// vyre is [(y[0].re, y[0].re), (y[1].re, y[1].re), ...]
+			final DoubleVector vyre = vy.rearrange(SHUFFLE_CV_SPREAD_RE);
+			// vyim is [(y[0].im, y[0].im), (y[1].im, y[1].im), ...]
+			final DoubleVector vyim = vy.rearrange(SHUFFLE_CV_SPREAD_IM);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+			final DoubleVector vyabs = vyre.fma(vyre, vyim.mul(vyim));
+
+			VectorMask<Double> xLy = vxabs.compare(VectorOperators.LT, vyabs);
+			vy.blend(vx, xLy).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			if ((x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1]) < (y[yOffset + 0] * y[yOffset + 0] + y[yOffset + 1] * y[yOffset + 1])) {
+				z[zOffset + 0] = x[xOffset + 0];
+				z[zOffset + 1] = x[xOffset + 1];
+			} else {
+				z[zOffset + 0] = y[yOffset + 0];
+				z[zOffset + 1] = y[yOffset + 1];
+			}
+			xOffset += 2;
+			yOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_min_cv_w(double z[], int zOffset, double x[], int xOffset, double y[], int yOffset, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_min_cv(z, zOffset >> 1, x, xOffset >> 1, y, yOffset >> 1, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static int rv_maxarg(double x[], int xOffset, int count) {
+		double max = Double.NEGATIVE_INFINITY;
+		int i = -1;
+
+		if (count >= EPV) {
+			// Each lane keeps its own maximum and number of element where it is found first
+			DoubleVector vmax = NEG_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final int start = xOffset;
+
+			while (count >= EPV) {
+				final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Double> found = vmax.compare(VectorOperators.LT, vx);
+				vmax = vmax.blend(vx, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV;
+				count -= EPV;
+			}
+
+			// First index among lanes which have global maximum
+			max = vmax.reduceLanes(VectorOperators.MAX);
+			final int j = vi.reduceLanes(VectorOperators.MIN, vmax.compare(VectorOperators.EQ, max).cast(PIS));
+			if (j >= 0)
+				i = start + j;
+		}
+
+		while (count-- > 0) {
+			if (max < x[xOffset]) {
+				max = x[xOffset];
+				i = xOffset;
+			}
+			xOffset += 1;
+		}
+		return i;
+	}
+
+	public static int rv_maxarg_w(double x[], int xOffset, int count) {
+		double max = Double.NEGATIVE_INFINITY;
+		int i = -1;
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, x.length - xOffset);
+			final int j = rv_maxarg(x, xOffset, work);
+			// Strict comparison: first run wins on ties, as in scalar version
+			if (j >= 0 && max < x[j]) {
+				max = x[j];
+				i = j;
+			}
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static int cv_maxarg(double x[], int xOffset, int count) {
+		double max = Double.NEGATIVE_INFINITY;
+		int i = -1;
+		xOffset <<= 1;
+
+		if (count >= EPV) {
+			// Each lane keeps its own maximum and number of element where it is found first
+			DoubleVector vmax = NEG_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final int start = xOffset;
+
+			while (count >= EPV) {
+				//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+				final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+				final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+				final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+				final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+				final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+				final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+				final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+				final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+				final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Double> found = vmax.compare(VectorOperators.LT, vxabs);
+				vmax = vmax.blend(vxabs, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV * 2;
+				count -= EPV;
+			}
+
+			// First index among lanes which have global maximum
+			max = vmax.reduceLanes(VectorOperators.MAX);
+			final int j = vi.reduceLanes(VectorOperators.MIN, vmax.compare(VectorOperators.EQ, max).cast(PIS));
+			if (j >= 0)
+				i = start + (j << 1);
+		}
+
+		while (count-- > 0) {
+			double abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (max < abs) {
+				max = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+
+		return i >> 1;
+	}
+
+	public static int cv_maxarg_w(double x[], int xOffset, int count) {
+		double max = Double.NEGATIVE_INFINITY;
+		int i = -1;
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (x.length - xOffset) >> 1);
+			final int j = cv_maxarg(x, xOffset >> 1, work);
+			if (j >= 0) {
+				// Strict comparison: first run wins on ties, as in scalar version
+				final double abs = x[(j << 1) + 0] * x[(j << 1) + 0] + x[(j << 1) + 1] * x[(j << 1) + 1];
+				if (max < abs) {
+					max = abs;
+					i = j;
+				}
+			}
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static int rv_minarg(double x[], int xOffset, int count) {
+		double min = Double.POSITIVE_INFINITY;
+		int i = -1;
+
+		if (count >= EPV) {
+			// Each lane keeps its own minimum and number of element where it is found first
+			DoubleVector vmin = POS_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final int start = xOffset;
+
+			while (count >= EPV) {
+				final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Double> found = vmin.compare(VectorOperators.GT, vx);
+				vmin = vmin.blend(vx, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV;
+				count -= EPV;
+			}
+
+			// First index among lanes which have global minimum
+			min = vmin.reduceLanes(VectorOperators.MIN);
+			final int j = vi.reduceLanes(VectorOperators.MIN, vmin.compare(VectorOperators.EQ, min).cast(PIS));
+			if (j >= 0)
+				i = start + j;
+		}
+
+		while (count-- > 0) {
+			if (min > x[xOffset]) {
+				min = x[xOffset];
+				i = xOffset;
+			}
+			xOffset += 1;
+		}
+		return i;
+	}
+
+	public static int rv_minarg_w(double x[], int xOffset, int count) {
+		double min = Double.POSITIVE_INFINITY;
+		int i = -1;
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, x.length - xOffset);
+			final int j = rv_minarg(x, xOffset, work);
+			// Strict comparison: first run wins on ties, as in scalar version
+			if (j >= 0 && min > x[j]) {
+				min = x[j];
+				i = j;
+			}
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static int cv_minarg(double x[], int xOffset, int count) {
+		double min = Double.POSITIVE_INFINITY;
+		int i = -1;
+		xOffset <<= 1;
+
+		if (count >= EPV) {
+			// Each lane keeps its own minimum and number of element where it is found first
+			DoubleVector vmin = POS_INF;
+			IntVector vi = NO_INDEX;
+			IntVector vj = IOTA;
+			final int start = xOffset;
+
+			while (count >= EPV) {
+				//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+				final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+				final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+				final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+				final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+				final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+				final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+				final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+				final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+				final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+				// Strict comparison keeps first index in each lane
+				final VectorMask<Double> found = vmin.compare(VectorOperators.GT, vxabs);
+				vmin = vmin.blend(vxabs, found);
+				vi = vi.blend(vj, found.cast(PIS));
+				vj = vj.add(EPV);
+
+				xOffset += EPV * 2;
+				count -= EPV;
+			}
+
+			// First index among lanes which have global minimum
+			min = vmin.reduceLanes(VectorOperators.MIN);
+			final int j = vi.reduceLanes(VectorOperators.MIN, vmin.compare(VectorOperators.EQ, min).cast(PIS));
+			if (j >= 0)
+				i = start + (j << 1);
+		}
+
+		while (count-- > 0) {
+			double abs = x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1];
+			if (min > abs) {
+				min = abs;
+				i = xOffset;
+			}
+			xOffset += 2;
+		}
+
+		return i >> 1;
+	}
+
+	public static int cv_minarg_w(double x[], int xOffset, int count) {
+		double min = Double.POSITIVE_INFINITY;
+		int i = -1;
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, (x.length - xOffset) >> 1);
+			final int j = cv_minarg(x, xOffset >> 1, work);
+			if (j >= 0) {
+				// Strict comparison: first run wins on ties, as in scalar version
+				final double abs = x[(j << 1) + 0] * x[(j << 1) + 0] + x[(j << 1) + 1] * x[(j << 1) + 1];
+				if (min > abs) {
+					min = abs;
+					i = j;
+				}
+			}
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+		return i;
+	}
+
+	public static void rv_rs_lin_rv_rs_i(double z[], int zOffset, double a1, double x[], int xOffset, double a2, int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2 = null;
+		//@DONE: it is fater thab ...mul(a1)
+		if (count >= EPV) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			va2 = DoubleVector.broadcast(PFS, a2);
+		}
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = z[zOffset] * a1 + x[xOffset] * a2;
+			xOffset += 1;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs_iw(double z[], int zOffset, double a1, double x[], int xOffset, double a2, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_rs_lin_rv_rs_i(z, zOffset, a1, x, xOffset, a2, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_rs_lin_rv_rs(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2, int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2 = null;
+		//@DONE: it is fater thab ...mul(a1)
+		if (count >= EPV) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			va2 = DoubleVector.broadcast(PFS, a2);
+		}
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = x[xOffset++] * a1 + y[yOffset++] * a2;
+	}
+
+	public static void rv_rs_lin_rv_rs_w(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_rs_lin_rv_rs(z, zOffset, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_rs_lin_rv_cs(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2[], int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2re = null;
+		DoubleVector va2im = null;
+		if (count >= EPV) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			va2re = DoubleVector.broadcast(PFS, a2[0]);
+			va2im = DoubleVector.broadcast(PFS, a2[1]);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			final DoubleVector vrre = vx.fma(va1, vy.mul(va2re));
+			final DoubleVector vrim = vy.mul(va2im);
+
+			// Store twice
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset] * a1 + y[yOffset] * a2[0];
+			z[zOffset + 1] = y[yOffset] * a2[1];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_rs_lin_rv_cs_w(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_rs_lin_rv_cs(z, zOffset >> 1, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_cs_lin_rv_cs(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2[], int count) {
+		DoubleVector va1re = null;
+		DoubleVector va1im = null;
+		DoubleVector va2re = null;
+		DoubleVector va2im = null;
+		if (count >= EPV) {
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			va1im = DoubleVector.broadcast(PFS, a1[1]);
+			va2re = DoubleVector.broadcast(PFS, a2[0]);
+			va2im = DoubleVector.broadcast(PFS, a2[1]);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			final DoubleVector vrre = vx.fma(va1re, vy.mul(va2re));
+			final DoubleVector vrim = vx.fma(va1im, vy.mul(va2im));
+
+			// Store twice
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+			vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV * 2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset] * a1[0] + y[yOffset] * a2[0];
+			z[zOffset + 1] = x[xOffset] * a1[1] + y[yOffset] * a2[1];
+			xOffset += 1;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void rv_cs_lin_rv_cs_w(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min(x.length - xOffset, y.length - yOffset)));
+			rv_cs_lin_rv_cs(z, zOffset >> 1, x, xOffset, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_i(double z[], int zOffset, double a1, double x[], int xOffset, double a2, int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			va2 = DoubleVector.broadcast(PFS2, a2);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset);
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+
+			// Rearrange of vx gives zeroes in im-parts and it could be added without any masks or blends
+			vz.fma(va1, vx.mul(va2).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE)).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = z[zOffset + 0] * a1 + x[xOffset] * a2;
+			z[zOffset + 1] = z[zOffset + 1] * a1;
+			xOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_iw(double z[], int zOffset, double a1, double x[], int xOffset, double a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_rs_lin_rv_rs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2, int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			va2 = DoubleVector.broadcast(PFS2, a2);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS2, y, yOffset);
+
+			// Rearrange of vy gives zeroes in im-parts and it could be added without any masks or blends
+			vx.fma(va1, vy.mul(va2).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * a1 + y[yOffset] * a2;
+			z[zOffset + 1] = x[xOffset + 1] * a1;
+			xOffset += 2;
+			yOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_rv_rs_w(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_rs_lin_rv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_i(double z[], int zOffset, double a1[], double x[], int xOffset, double a2, int count) {
+		DoubleVector va1re = null, va1im = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = DoubleVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = DoubleVector.broadcast(PFS2, a2);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset);
+
+			// Rearrange of vx gives zeroes in im-parts and it could be added without any masks or blends
+			final DoubleVector vxa2 = vx.mul(va2).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE);
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im)
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vxa2)).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		double a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * a1[0];
+			k1 = z[zOffset + 1] * a1[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + x[xOffset] * a2;
+			z[zOffset + 1] = k2 - k0 - k1;
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_iw(double z[], int zOffset, double a1[], double x[], int xOffset, double a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_cs_lin_rv_rs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2, int count) {
+		DoubleVector va1re = null, va1im = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = DoubleVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = DoubleVector.broadcast(PFS2, a2);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS2, y, yOffset);
+
+			// Rearrange of vy gives zeroes in im-parts and it could be added without any masks or blends
+			final DoubleVector vya2 = vy.mul(va2).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_RE);
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im)
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vya2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		double a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * a1[0];
+			k1 = x[xOffset + 1] * a1[1];
+			k2 = (x[xOffset + 0] + x[xOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + y[yOffset] * a2;
+			z[zOffset + 1] = k2 - k0 - k1;
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_rs_w(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_cs_lin_rv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_i(double z[], int zOffset, double a1, double x[], int xOffset, double a2[], int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = DoubleVector.fromArray(DS128, a2, 0).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0], x[0]), (x[1], x[1]), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = z[zOffset + 0] * a1 + x[xOffset] * a2[0];
+			z[zOffset + 1] = z[zOffset + 1] * a1 + x[xOffset] * a2[1];
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_iw(double z[], int zOffset, double a1, double x[], int xOffset, double a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_rs_lin_rv_cs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2[], int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = DoubleVector.fromArray(DS128, a2, 0).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0], y[0]), (y[1], y[1]), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS2, y, yOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * a1 + y[yOffset] * a2[0];
+			z[zOffset + 1] = x[xOffset + 1] * a1 + y[yOffset] * a2[1];
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_rs_lin_rv_cs_w(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_rs_lin_rv_cs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_i(double z[], int zOffset, double a1[], double x[], int xOffset, double a2[], int count) {
+		DoubleVector va1re = null, va1im = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = DoubleVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = DoubleVector.fromArray(DS128, a2, 0).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0], x[0]), (x[1], x[1]), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS2, x, xOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im)
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vx.mul(va2))).intoArray(z, zOffset);
+
+			xOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		double a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * a1[0];
+			k1 = z[zOffset + 1] * a1[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + x[xOffset] * a2[0];
+			z[zOffset + 1] = k2 - k0 - k1 + x[xOffset] * a2[1];
+			zOffset += 2;
+			xOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_iw(double z[], int zOffset, double a1[], double x[], int xOffset, double a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, x.length - xOffset));
+			cv_cs_lin_rv_cs_i(z, zOffset >> 1, a1, x, xOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2[], int count) {
+		DoubleVector va1re = null, va1im = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = DoubleVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2 is [(a2.re, a2.im), (a2.re, a2.im), ...]
+			va2 = DoubleVector.fromArray(DS128, a2, 0).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_CS_TO_CV_SPREAD);
+		}
+
+		xOffset <<= 1;
+		zOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0], y[0]), (y[1], y[1]), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS2, y, yOffset).reinterpretShape(PFS, 0).reinterpretAsDoubles().rearrange(SHUFFLE_RV_TO_CV_BOTH);
+
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im)
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vy.mul(va2))).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV2;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		double a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * a1[0];
+			k1 = x[xOffset + 1] * a1[1];
+			k2 = (x[xOffset + 0] + x[xOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + y[yOffset] * a2[0];
+			z[zOffset + 1] = k2 - k0 - k1 + y[yOffset] * a2[1];
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 1;
+		}
+	}
+
+	public static void cv_cs_lin_rv_cs_w(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrap(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, y.length - yOffset)));
+			cv_cs_lin_rv_cs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_i(double z[], int zOffset, double a1, double x[], int xOffset, double a2, int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			va2 = DoubleVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			vz.fma(va1, vx.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = z[zOffset + 0] * a1 + x[xOffset + 0] * a2;
+			z[zOffset + 1] = z[zOffset + 1] * a1 + x[xOffset + 1] * a2;
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_iw(double z[], int zOffset, double a1, double x[], int xOffset, double a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_rs_lin_cv_rs_i(z, zOffset >> 1, a1, x, xOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2, int count) {
+		DoubleVector va1 = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			va1 = DoubleVector.broadcast(PFS, a1);
+			va2 = DoubleVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			vx.fma(va1, vy.mul(va2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		while (count-- > 0) {
+			z[zOffset + 0] = x[xOffset + 0] * a1 + y[yOffset + 0] * a2;
+			z[zOffset + 1] = x[xOffset + 1] * a1 + y[yOffset + 1] * a2;
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void cv_rs_lin_cv_rs_w(double z[], int zOffset, double x[], int xOffset, double a1, double y[], int yOffset, double a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_rs_lin_cv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_i(double z[], int zOffset, double a1[], double x[], int xOffset, double a2, int count) {
+		DoubleVector va1re = null, va1im = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = DoubleVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = DoubleVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// z * a1 is z * a1.re + swap(z) * (-a1.im, a1.im)
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vx.mul(va2))).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		double a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = z[zOffset + 0] * a1[0];
+			k1 = z[zOffset + 1] * a1[1];
+			k2 = (z[zOffset + 0] + z[zOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + x[xOffset + 0] * a2;
+			z[zOffset + 1] = k2 - k0 - k1 + x[xOffset + 1] * a2;
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_iw(double z[], int zOffset, double a1[], double x[], int xOffset, double a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_cs_lin_cv_rs_i(z, zOffset >> 1, a1, x, xOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2, int count) {
+		DoubleVector va1re = null, va1im = null;
+		DoubleVector va2 = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = DoubleVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			va2 = DoubleVector.broadcast(PFS, a2);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			// x * a1 is x * a1.re + swap(x) * (-a1.im, a1.im)
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vy.mul(va2))).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0, k1, k2;
+		double a1s = a1[0] + a1[1];
+		while (count-- > 0) {
+			k0 = x[xOffset + 0] * a1[0];
+			k1 = x[xOffset + 1] * a1[1];
+			k2 = (x[xOffset + 0] + x[xOffset + 1]) * a1s;
+			z[zOffset + 0] = k0 - k1 + y[yOffset + 0] * a2;
+			z[zOffset + 1] = k2 - k0 - k1 + y[yOffset + 1] * a2;
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_rs_w(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2, int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_cs_lin_cv_rs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_i(double z[], int zOffset, double a1[], double x[], int xOffset, double a2[], int count) {
+		DoubleVector va1re = null, va1im = null;
+		DoubleVector va2re = null, va2im = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = DoubleVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2re is [(a2.re, a2.re), (a2.re, a2.re), ...]
+			va2re = DoubleVector.broadcast(PFS, a2[0]);
+			// va2im is [(-a2.im, a2.im), (-a2.im, a2.im), ...]
+			va2im = DoubleVector.broadcast(PFS, a2[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vz is [(z[0].re, z[0].im), (z[1].re, z[1].im), ...]
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+
+			// x * a2 is x * a2.re + swap(x) * (-a2.im, a2.im)
+			final DoubleVector vxa2 = vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va2im, vx.mul(va2re));
+			// z * a1 + x * a2, z * a1 is calculated same way
+			vz.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vz.fma(va1re, vxa2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0_1, k1_1, k2_1;
+		double a1s = a1[0] + a1[1];
+		double k0_2, k1_2, k2_2;
+		double a2s = a2[0] + a2[1];
+		while (count-- > 0) {
+			k0_1 = z[zOffset + 0] * a1[0];
+			k1_1 = z[zOffset + 1] * a1[1];
+			k2_1 = (z[zOffset + 0] + z[zOffset + 1]) * a1s;
+			k0_2 = x[xOffset + 0] * a2[0];
+			k1_2 = x[xOffset + 1] * a2[1];
+			k2_2 = (x[xOffset + 0] + x[xOffset + 1]) * a2s;
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
+			zOffset += 2;
+			xOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_iw(double z[], int zOffset, double a1[], double x[], int xOffset, double a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, (x.length - xOffset) >> 1));
+			cv_cs_lin_cv_cs_i(z, zOffset >> 1, a1, x, xOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2[], int count) {
+		DoubleVector va1re = null, va1im = null;
+		DoubleVector va2re = null, va2im = null;
+		if (count >= EPV2) {
+			// va1re is [(a1.re, a1.re), (a1.re, a1.re), ...]
+			va1re = DoubleVector.broadcast(PFS, a1[0]);
+			// va1im is [(-a1.im, a1.im), (-a1.im, a1.im), ...]
+			va1im = DoubleVector.broadcast(PFS, a1[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+			// va2re is [(a2.re, a2.re), (a2.re, a2.re), ...]
+			va2re = DoubleVector.broadcast(PFS, a2[0]);
+			// va2im is [(-a2.im, a2.im), (-a2.im, a2.im), ...]
+			va2im = DoubleVector.broadcast(PFS, a2[1]).lanewise(VectorOperators.NEG, MASK_C_RE);
+		}
+
+		zOffset <<= 1;
+		xOffset <<= 1;
+		yOffset <<= 1;
+
+		while (count >= EPV2) {
+			// vx is [(x[0].re, x[0].im), (x[1].re, x[1].im), ...]
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// vy is [(y[0].re, y[0].im), (y[1].re, y[1].im), ...]
+			final DoubleVector vy = DoubleVector.fromArray(PFS, y, yOffset);
+
+			// y * a2 is y * a2.re + swap(y) * (-a2.im, a2.im)
+			final DoubleVector vya2 = vy.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va2im, vy.mul(va2re));
+			// x * a1 + y * a2, x * a1 is calculated same way
+			vx.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(va1im, vx.fma(va1re, vya2)).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			yOffset += EPV;
+			zOffset += EPV;
+			count -= EPV2;
+		}
+
+		double k0_1, k1_1, k2_1;
+		double a1s = a1[0] + a1[1];
+		double k0_2, k1_2, k2_2;
+		double a2s = a2[0] + a2[1];
+		while (count-- > 0) {
+			k0_1 = x[xOffset + 0] * a1[0];
+			k1_1 = x[xOffset + 1] * a1[1];
+			k2_1 = (x[xOffset + 0] + x[xOffset + 1]) * a1s;
+			k0_2 = y[yOffset + 0] * a2[0];
+			k1_2 = y[yOffset + 1] * a2[1];
+			k2_2 = (y[yOffset + 0] + y[yOffset + 1]) * a2s;
+			z[zOffset + 0] = k0_1 - k1_1 + k0_2 - k1_2;
+			z[zOffset + 1] = k2_1 - k0_1 - k1_1 + k2_2 - k0_2 - k1_2;
+			zOffset += 2;
+			xOffset += 2;
+			yOffset += 2;
+		}
+	}
+
+	public static void cv_cs_lin_cv_cs_w(double z[], int zOffset, double x[], int xOffset, double a1[], double y[], int yOffset, double a2[], int count) {
+		zOffset = preWrapCv(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		yOffset = preWrapCv(yOffset, y.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min((z.length - zOffset) >> 1, Math.min((x.length - xOffset) >> 1, (y.length - yOffset) >> 1)));
+			cv_cs_lin_cv_cs(z, zOffset >> 1, x, xOffset >> 1, a1, y, yOffset >> 1, a2, work);
+			zOffset += work << 1;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			yOffset += work << 1;
+			if (yOffset == y.length) yOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_i(double z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.abs().add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 10 * Math.log10(Math.abs(z[zOffset]) + Double.MIN_NORMAL);
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_10log10_iw(double z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_10log10_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_if(double z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			log10_f(vz.abs().add(Double.MIN_NORMAL)).mul(10.0).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 10 * Math.log10(Math.abs(z[zOffset]) + Double.MIN_NORMAL);
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_10log10_ifw(double z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_10log10_if(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.abs().add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = 10 * Math.log10(Math.abs(x[xOffset++]) + Double.MIN_NORMAL);
+	}
+
+	public static void rv_10log10_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_10log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_f(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			// MIN_NORMAL keeps zero and denormals away from exponent tricks, as in scalar code
+			log10_f(vx.abs().add(Double.MIN_NORMAL)).mul(10.0).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = 10 * Math.log10(Math.abs(x[xOffset++]) + Double.MIN_NORMAL);
+	}
+
+	public static void rv_10log10_fw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_10log10_f(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_rs_i(double z[], int zOffset, double base, int count) {
+		base = 10 * Math.log10(Math.abs(base) + Double.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.abs().add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0).sub(base).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 10 * Math.log10(Math.abs(z[zOffset]) + Double.MIN_NORMAL) - base;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_10log10_rs_iw(double z[], int zOffset, double base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_10log10_rs_i(z, zOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_10log10_rs(double z[], int zOffset, double x[], int xOffset, double base, int count) {
+		base = 10 * Math.log10(Math.abs(base) + Double.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.abs().add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0).sub(base).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = 10 * Math.log10(Math.abs(x[xOffset++]) + Double.MIN_NORMAL) - base;
+	}
+
+	public static void rv_10log10_rs_w(double z[], int zOffset, double x[], int xOffset, double base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_10log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_10log10(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(5.0).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 5 * Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Double.MIN_NORMAL);
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_10log10_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_10log10(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_10log10_rs(double z[], int zOffset, double x[], int xOffset, double base, int count) {
+		base = 10 * Math.log10(Math.abs(base) + Double.MIN_NORMAL);
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(5.0).sub(base).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 5 * Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Double.MIN_NORMAL) - base;
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_10log10_rs_w(double z[], int zOffset, double x[], int xOffset, double base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_10log10_rs(z, zOffset, x, xOffset >> 1, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_i(double z[], int zOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.abs().add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 20 * Math.log10(Math.abs(z[zOffset]) + Double.MIN_NORMAL);
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_20log10_iw(double z[], int zOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_20log10_i(z, zOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10(double z[], int zOffset, double x[], int xOffset, int count) {
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.abs().add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = 20 * Math.log10(Math.abs(x[xOffset++]) + Double.MIN_NORMAL);
+	}
+
+	public static void rv_20log10_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_20log10(z, zOffset, x, xOffset, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_rs_i(double z[], int zOffset, double base, int count) {
+		base = 20 * Math.log10(Math.abs(base) + Double.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final DoubleVector vz = DoubleVector.fromArray(PFS, z, zOffset);
+			vz.abs().add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0).sub(base).intoArray(z, zOffset);
+
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 20 * Math.log10(Math.abs(z[zOffset]) + Double.MIN_NORMAL) - base;
+			zOffset += 1;
+		}
+	}
+
+	public static void rv_20log10_rs_iw(double z[], int zOffset, double base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, z.length - zOffset);
+			rv_20log10_rs_i(z, zOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void rv_20log10_rs(double z[], int zOffset, double x[], int xOffset, double base, int count) {
+		base = 20 * Math.log10(Math.abs(base) + Double.MIN_NORMAL);
+
+		while (count >= EPV) {
+			final DoubleVector vx = DoubleVector.fromArray(PFS, x, xOffset);
+			vx.abs().add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(20.0).sub(base).intoArray(z, zOffset);
+
+			xOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0)
+			z[zOffset++] = 20 * Math.log10(Math.abs(x[xOffset++]) + Double.MIN_NORMAL) - base;
+	}
+
+	public static void rv_20log10_rs_w(double z[], int zOffset, double x[], int xOffset, double base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrap(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, x.length - xOffset));
+			rv_20log10_rs(z, zOffset, x, xOffset, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_20log10(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 10 * Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Double.MIN_NORMAL);
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_20log10_w(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_20log10(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_20log10_f(double z[], int zOffset, double x[], int xOffset, int count) {
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			// 20 * log10(|x|) is 10 * log10(|x|^2)
+			log10_f(vxabs.add(Double.MIN_NORMAL)).mul(10.0).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 10 * Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Double.MIN_NORMAL);
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_20log10_fw(double z[], int zOffset, double x[], int xOffset, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_20log10_f(z, zOffset, x, xOffset >> 1, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	public static void cv_20log10_rs(double z[], int zOffset, double x[], int xOffset, double base, int count) {
+		base = 20 * Math.log10(Math.abs(base) + Double.MIN_NORMAL);
+		xOffset <<= 1;
+
+		while (count >= EPV) {
+			//@DONE: It is faster than DoubleVector.fromArray(PFS, x, xOffset, LOAD_CV_TO_CV_PACK_{RE|IM}, 0)
+			final DoubleVector vx1 = DoubleVector.fromArray(PFS, x, xOffset);
+			final DoubleVector vx2 = DoubleVector.fromArray(PFS, x, xOffset + PFS.length());
+
+			final DoubleVector vx1re = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_FIRST);
+			final DoubleVector vx1im = vx1.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_FIRST);
+
+			final DoubleVector vx2re = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_RE_SECOND);
+			final DoubleVector vx2im = vx2.rearrange(SHUFFLE_CV_TO_CV_PACK_IM_SECOND);
+
+			final DoubleVector vxre = vx1re.blend(vx2re, MASK_SECOND_HALF);
+			final DoubleVector vxim = vx1im.blend(vx2im, MASK_SECOND_HALF);
+
+			final DoubleVector vxabs = vxre.fma(vxre, vxim.mul(vxim));
+
+			vxabs.add(Double.MIN_NORMAL).lanewise(VectorOperators.LOG10).mul(10.0).sub(base).intoArray(z, zOffset);
+
+			// We load twice as much complex numbers
+			xOffset += EPV * 2;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			z[zOffset] = 10 * Math.log10(x[xOffset + 0] * x[xOffset + 0] + x[xOffset + 1] * x[xOffset + 1] + Double.MIN_NORMAL) - base;
+			xOffset += 2;
+			zOffset += 1;
+		}
+	}
+
+	public static void cv_20log10_rs_w(double z[], int zOffset, double x[], int xOffset, double base, int count) {
+		zOffset = preWrap(zOffset, z.length);
+		xOffset = preWrapCv(xOffset, x.length);
+		while (count > 0) {
+			// How much could we process without wrapping?
+			final int work = Math.min(count, Math.min(z.length - zOffset, (x.length - xOffset) >> 1));
+			cv_20log10_rs(z, zOffset, x, xOffset >> 1, base, work);
+			zOffset += work;
+			if (zOffset == z.length) zOffset = 0;
+			xOffset += work << 1;
+			if (xOffset == x.length) xOffset = 0;
+			count -= work;
+		}
+	}
+
+	private static int preWrap(int i, int length) {
+		// Unlike VOd.preWrap() it maps -length to 0 too, as runs loop can not tolerate offset == length
+		i %= length;
+		return (i < 0) ? (i + length) : i;
+	}
+
+	// Complex version of preWrap(), returns offset in floats; odd-length buffer has no room for last element's imaginary part
+	private static int preWrapCv(int i, int length) {
+		if ((length & 1) != 0)
+			throw new IllegalArgumentException("Complex vector must have even length, got " + length);
+		return preWrap(i << 1, length);
+	}
+
+	// Branch-free atan2() with max error about 1.2E-5, which is much better than FastTrig.atan2() gives
+	private static DoubleVector atan2_f(DoubleVector y, DoubleVector x) {
+		final DoubleVector ay = y.abs();
+		final DoubleVector ax = x.abs();
+		// Reduce to [0, 1] and don't divide by zero: atan2(0, 0) is 0 as in FastTrig.atan2(), other ratios are exact, even for denormals
+		final DoubleVector m = ax.max(ay);
+		final DoubleVector q = ax.min(ay).div(m.blend(1.0, m.compare(VectorOperators.EQ, 0.0)));
+		final DoubleVector q2 = q.mul(q);
+		// Abramowitz & Stegun 4.4.47, |error| <= 1E-5 on [0, 1]
+		DoubleVector a = q2.fma(ATAN_C9, ATAN_C7).fma(q2, ATAN_C5).fma(q2, ATAN_C3).fma(q2, ATAN_C1).mul(q);
+		// [45, 90] is PI/2 - angle
+		final VectorMask<Double> swap = ay.compare(VectorOperators.GT, ax);
+		a = a.lanewise(VectorOperators.NEG, swap).add((Math.PI / 2), swap);
+		// [90, 180] is PI - angle
+		final VectorMask<Double> left = x.compare(VectorOperators.LT, 0.0);
+		a = a.lanewise(VectorOperators.NEG, left).add(Math.PI, left);
+		// Lower half-plane is -angle
+		return a.lanewise(VectorOperators.NEG, y.compare(VectorOperators.LT, 0.0));
+	}
+
+	// Library function, polynomial one is for floats
+	private static DoubleVector exp_f(DoubleVector x) {
+		return x.lanewise(VectorOperators.EXP);
+	}
+
+	// Library function, polynomial one is for floats
+	private static DoubleVector log10_f(DoubleVector x) {
+		return x.lanewise(VectorOperators.LOG10);
+	}
+
+	// Stores (g * cos(x), g * sin(x)) of packed g and x as TWO complex vectors, with library functions
+	private static void expi_f(double z[], int zOffset, DoubleVector vg, DoubleVector vx) {
+		final DoubleVector vc = vx.lanewise(VectorOperators.COS);
+		final DoubleVector vs = vx.lanewise(VectorOperators.SIN);
+
+		final DoubleVector vrre = vg.mul(vc);
+		final DoubleVector vrim = vg.mul(vs);
+		vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+		vrre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vrim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+	}
+}
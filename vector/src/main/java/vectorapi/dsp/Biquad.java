@@ -0,0 +1,236 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+
+import java.util.Arrays;
+
+/**
+ * Cascade of biquad (second order IIR) sections, which is applied to many
+ * channels with the same coefficients. IIR filter could not be vectorized
+ * along time, as each output depends on previous ones, so channels are put
+ * into vector lanes and each vector operation advances as many channels by
+ * one sample as there are lanes. Channels which don't fill whole vector are
+ * processed one by one, as tails are.
+ * <p>
+ * Each section is in transposed direct form II with coefficients
+ * {@code {b0, b1, b2, a1, a2}} ({@code a0} is 1):
+ * <pre>
+ * y = b0 * x + s1
+ * s1 = b1 * x - a1 * y + s2
+ * s2 = b2 * x - a2 * y
+ * </pre>
+ * State of each section and channel is kept between calls. Data could be
+ * interleaved by frames ({@code x[frame * channels + channel]}), which is
+ * native layout for lanes, or planar ({@code x[channel][frame]}), which is
+ * transposed by blocks to scratch buffer and back.
+ * <p>
+ * Filter is not thread-safe.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class Biquad {
+	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static int EPV = PFS.length();
+
+	// Frames in transposed block of planar data
+	private final static int BLOCK = 256;
+
+	private final int sections;
+	private final int channels;
+	private final float b0[];
+	private final float b1[];
+	private final float b2[];
+	// Negated a1 and a2, to use fma()
+	private final float na1[];
+	private final float na2[];
+	// State, [section * channels + channel]
+	private final float s1[];
+	private final float s2[];
+	// Transposed block of planar data, [frame * EPV + lane]
+	private final float t[];
+
+	/**
+	 * Creates cascade of {@code coeffs.length / 5} sections, each of which is
+	 * described by {@code b0, b1, b2, a1, a2}, for {@code channels} channels.
+	 */
+	public Biquad(float coeffs[], int channels) {
+		if (coeffs.length == 0 || coeffs.length % 5 != 0)
+			throw new IllegalArgumentException("Coefficients must be 5 per section, got " + coeffs.length);
+		if (channels < 1)
+			throw new IllegalArgumentException("Number of channels must be positive, got " + channels);
+
+		this.sections = coeffs.length / 5;
+		this.channels = channels;
+		b0 = new float[sections];
+		b1 = new float[sections];
+		b2 = new float[sections];
+		na1 = new float[sections];
+		na2 = new float[sections];
+		for (int s = 0; s < sections; s++) {
+			b0[s] = coeffs[s * 5 + 0];
+			b1[s] = coeffs[s * 5 + 1];
+			b2[s] = coeffs[s * 5 + 2];
+			na1[s] = -coeffs[s * 5 + 3];
+			na2[s] = -coeffs[s * 5 + 4];
+		}
+		s1 = new float[sections * channels];
+		s2 = new float[sections * channels];
+		t = new float[BLOCK * EPV];
+	}
+
+	/** Clears state of all sections and channels. */
+	public void reset() {
+		Arrays.fill(s1, 0.0f);
+		Arrays.fill(s2, 0.0f);
+	}
+
+	/** Number of sections in cascade. */
+	public int sections() {
+		return sections;
+	}
+
+	/** Number of channels. */
+	public int channels() {
+		return channels;
+	}
+
+	/**
+	 * Filters {@code count} frames of data interleaved by frames, starting
+	 * from frame {@code xOffset}, to {@code z} starting from frame
+	 * {@code zOffset}. {@code z} could be the same as {@code x}.
+	 */
+	public void apply(float z[], int zOffset, float x[], int xOffset, int count) {
+		int c = 0;
+		for (; c + EPV <= channels; c += EPV)
+			group(z, zOffset * channels + c, x, xOffset * channels + c, channels, count, c);
+		for (; c < channels; c++)
+			channel(z, zOffset * channels + c, x, xOffset * channels + c, channels, count, c);
+	}
+
+	/** In-place version of {@link #apply(float[], int, float[], int, int)}. */
+	public void apply_i(float z[], int zOffset, int count) {
+		apply(z, zOffset, z, zOffset, count);
+	}
+
+	/**
+	 * Filters {@code count} samples of each channel of planar data, starting
+	 * from {@code xOffset} in each {@code x[channel]}, to {@code z[channel]}
+	 * starting from {@code zOffset}. {@code z} could be the same as {@code x}.
+	 */
+	public void apply(float z[][], int zOffset, float x[][], int xOffset, int count) {
+		int c = 0;
+		for (; c + EPV <= channels; c += EPV) {
+			int done = 0;
+			while (done < count) {
+				final int work = Math.min(count - done, BLOCK);
+				for (int l = 0; l < EPV; l++) {
+					final float xc[] = x[c + l];
+					for (int n = 0; n < work; n++)
+						t[n * EPV + l] = xc[xOffset + done + n];
+				}
+				group(t, 0, t, 0, EPV, work, c);
+				for (int l = 0; l < EPV; l++) {
+					final float zc[] = z[c + l];
+					for (int n = 0; n < work; n++)
+						zc[zOffset + done + n] = t[n * EPV + l];
+				}
+				done += work;
+			}
+		}
+		for (; c < channels; c++)
+			channel(z[c], zOffset, x[c], xOffset, 1, count, c);
+	}
+
+	/** In-place version of {@link #apply(float[][], int, float[][], int, int)}. */
+	public void apply_i(float z[][], int zOffset, int count) {
+		apply(z, zOffset, z, zOffset, count);
+	}
+
+	// Runs cascade for channels [c, c + EPV), frame n is at offset + n * stride
+	private void group(float z[], int zOffset, float x[], int xOffset, int stride, int count, int c) {
+		// Section by section over whole block, so state stays in registers during time loop
+		for (int s = 0; s < sections; s++) {
+			final FloatVector vb0 = FloatVector.broadcast(PFS, b0[s]);
+			final FloatVector vb1 = FloatVector.broadcast(PFS, b1[s]);
+			final FloatVector vb2 = FloatVector.broadcast(PFS, b2[s]);
+			final FloatVector vna1 = FloatVector.broadcast(PFS, na1[s]);
+			final FloatVector vna2 = FloatVector.broadcast(PFS, na2[s]);
+			final int sOffset = s * channels + c;
+			FloatVector vs1 = FloatVector.fromArray(PFS, s1, sOffset);
+			FloatVector vs2 = FloatVector.fromArray(PFS, s2, sOffset);
+
+			int xo = xOffset;
+			int zo = zOffset;
+			for (int n = 0; n < count; n++) {
+				final FloatVector vx = FloatVector.fromArray(PFS, x, xo);
+				final FloatVector vy = vx.fma(vb0, vs1);
+				vs1 = vy.fma(vna1, vx.fma(vb1, vs2));
+				vs2 = vy.fma(vna2, vx.mul(vb2));
+				vy.intoArray(z, zo);
+				xo += stride;
+				zo += stride;
+			}
+
+			vs1.intoArray(s1, sOffset);
+			vs2.intoArray(s2, sOffset);
+			// Next sections work in place
+			x = z;
+			xOffset = zOffset;
+		}
+	}
+
+	// Runs cascade for one channel c, sample n is at offset + n * stride
+	private void channel(float z[], int zOffset, float x[], int xOffset, int stride, int count, int c) {
+		for (int s = 0; s < sections; s++) {
+			final int sOffset = s * channels + c;
+			float st1 = s1[sOffset];
+			float st2 = s2[sOffset];
+
+			int xo = xOffset;
+			int zo = zOffset;
+			for (int n = 0; n < count; n++) {
+				final float v = x[xo];
+				final float y = b0[s] * v + st1;
+				st1 = b1[s] * v + na1[s] * y + st2;
+				st2 = b2[s] * v + na2[s] * y;
+				z[zo] = y;
+				xo += stride;
+				zo += stride;
+			}
+
+			s1[sOffset] = st1;
+			s2[sOffset] = st2;
+			x = z;
+			xOffset = zOffset;
+		}
+	}
+}
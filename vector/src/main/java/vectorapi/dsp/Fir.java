@@ -0,0 +1,448 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+package vectorapi.dsp;
+
+import jdk.incubator.vector.*;
+
+import vectorapi.VOVec;
+
+import java.util.Arrays;
+
+/**
+ * FIR filter with state: delay line is kept between calls, so long signal
+ * could be filtered by blocks of any size. Taps and data could be real or
+ * complex (interleaved), see factory methods, and filter could resample
+ * signal by rational factor {@code up / down} (interpolate, decimate or both).
+ * <p>
+ * Delay line is ring buffer which is larger than filter, and last
+ * {@code taps - 1} samples are copied to its start when it is full, so window
+ * of each output is always contiguous. Without resampling blocks of outputs
+ * are computed at once, one vector of outputs per accumulator and one broadcast
+ * tap per step, so there are no reductions at all. With resampling each output
+ * is computed by polyphase sub-filter with dot product of {@link VOVec}.
+ * <p>
+ * Filter is not thread-safe.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration
+ */
+@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class Fir {
+	private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+	private final static int EPV = PFS.length();
+	private final static int EPV2 = EPV / 2;
+	private final static int EPVx2 = EPV * 2;
+	private final static int EPVx3 = EPV * 3;
+	private final static int EPVx4 = EPV * 4;
+	private final static FloatVector SIGN_C_RE;
+	private final static VectorMask<Float> MASK_C_IM;
+	private final static VectorShuffle<Float> SHUFFLE_CV_SWAP_RE_IM;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND;
+	private final static VectorShuffle<Float> SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND;
+
+	// Samples between copies of history to start of delay line
+	private final static int BLOCK = 4096;
+
+	private final static int RV_RV = 0;
+	private final static int RV_CV = 1;
+	private final static int CV_RV = 2;
+	private final static int CV_CV = 3;
+
+	static {
+		boolean[] alter = new boolean[EPV + 1];
+		alter[0] = true;
+		for (int i = 1; i < alter.length; i++)
+			alter[i] = !alter[i - 1];
+		MASK_C_IM = VectorMask.fromArray(PFS, alter, 1);
+
+		// [-1, 1, -1, 1, ...]
+		SIGN_C_RE = FloatVector.broadcast(PFS, -1.0f).blend(1.0f, MASK_C_IM);
+
+		// [(re0, im0), (re1, im1), ...] -> [(im0, re0), (im1, re1), ...]
+		SHUFFLE_CV_SWAP_RE_IM = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i + 1 : i - 1);
+
+		// [re0, re1, re2, ...] -> [(re0, ?), (re1, ?), ..., (re_{len/2}, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i / 2 : 0);
+		// [im0, im1, im2, ...] -> [(?, im0), (?, im1), ..., (?, im_{len/2})]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST = VectorShuffle.fromOp(PFS, i -> (i % 2 == 1) ? i / 2 : 0);
+		// [..., re_{len/2}, ..., re_len] -> [(re_{len/2}, ?), ..., (re_len, ?)]
+		SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND = VectorShuffle.fromOp(PFS, i -> (i % 2 == 0) ? i / 2 + EPV2 : 0);
+		// [..., im_{len/2}, ..., im_len] -> [(?, im_{len/2}), ..., (?, im_len)]
+		SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND = VectorShuffle.fromOp(PFS, i -> (i % 2 == 1) ? i / 2 + EPV2 : 0);
+	}
+
+	private final int kind;
+	private final int taps;
+	private final int up;
+	private final int down;
+	// Taps of each phase, reversed and padded to the same length
+	private final int phaseTaps;
+	// Real parts (or real taps), planar
+	private final float hre[];
+	// Imaginary parts, planar, only for complex taps without resampling
+	private final float him[];
+	// Interleaved complex taps, only for complex taps with resampling
+	private final float hc[];
+
+	// Delay line, interleaved for complex data
+	private final int dataStep;
+	private final int history;
+	private final int capacity;
+	private final float d[];
+	// Place of next sample in delay line, in samples
+	private int pos;
+	// Position of next output at upsampled rate: up * (place of last sample of window) + phase
+	private int next;
+
+	/** Real taps for real data, output is real. */
+	public static Fir rvRv(float h[]) {
+		return new Fir(RV_RV, h, 1, 1);
+	}
+
+	/** Real taps for real data, output is real, resampled by {@code up / down}. */
+	public static Fir rvRv(float h[], int up, int down) {
+		return new Fir(RV_RV, h, up, down);
+	}
+
+	/** Real taps for complex data, output is complex. */
+	public static Fir rvCv(float h[]) {
+		return new Fir(RV_CV, h, 1, 1);
+	}
+
+	/** Real taps for complex data, output is complex, resampled by {@code up / down}. */
+	public static Fir rvCv(float h[], int up, int down) {
+		return new Fir(RV_CV, h, up, down);
+	}
+
+	/** Complex taps for real data, output is complex. */
+	public static Fir cvRv(float h[]) {
+		return new Fir(CV_RV, h, 1, 1);
+	}
+
+	/** Complex taps for real data, output is complex, resampled by {@code up / down}. */
+	public static Fir cvRv(float h[], int up, int down) {
+		return new Fir(CV_RV, h, up, down);
+	}
+
+	/** Complex taps for complex data, output is complex. */
+	public static Fir cvCv(float h[]) {
+		return new Fir(CV_CV, h, 1, 1);
+	}
+
+	/** Complex taps for complex data, output is complex, resampled by {@code up / down}. */
+	public static Fir cvCv(float h[], int up, int down) {
+		return new Fir(CV_CV, h, up, down);
+	}
+
+	private Fir(int kind, float h[], int up, int down) {
+		final boolean complexTaps = kind == CV_RV || kind == CV_CV;
+		if (up < 1 || down < 1)
+			throw new IllegalArgumentException("Resampling factors must be positive, got " + up + "/" + down);
+		if (h.length == 0 || (complexTaps && h.length % 2 != 0))
+			throw new IllegalArgumentException("Taps must be non-empty real or complex vector, got " + h.length + " numbers");
+
+		this.kind = kind;
+		this.taps = complexTaps ? h.length / 2 : h.length;
+		this.up = up;
+		this.down = down;
+		this.phaseTaps = (taps + up - 1) / up;
+
+		// Tap of phase p which is applied to sample n - i is h[p + i * up]
+		final boolean resample = up != 1 || down != 1;
+		hre = new float[up * phaseTaps];
+		him = complexTaps && !resample ? new float[up * phaseTaps] : null;
+		hc = complexTaps && resample ? new float[up * phaseTaps * 2] : null;
+		for (int p = 0; p < up; p++) {
+			for (int j = 0; j < phaseTaps; j++) {
+				final int k = p + (phaseTaps - 1 - j) * up;
+				if (k >= taps)
+					continue;
+				final int t = p * phaseTaps + j;
+				if (!complexTaps) {
+					hre[t] = h[k];
+				} else if (hc == null) {
+					hre[t] = h[k * 2 + 0];
+					him[t] = h[k * 2 + 1];
+				} else {
+					hc[t * 2 + 0] = h[k * 2 + 0];
+					hc[t * 2 + 1] = h[k * 2 + 1];
+				}
+			}
+		}
+
+		dataStep = (kind == RV_CV || kind == CV_CV) ? 2 : 1;
+		history = phaseTaps - 1;
+		capacity = history + Math.max(BLOCK, history + 1);
+		d = new float[capacity * dataStep];
+		reset();
+	}
+
+	/** Clears delay line, as if filter was just created. */
+	public void reset() {
+		Arrays.fill(d, 0.0f);
+		pos = history;
+		next = history * up;
+	}
+
+	/** Number of taps of filter. */
+	public int taps() {
+		return taps;
+	}
+
+	/** Maximum number of outputs which could be produced from {@code count} samples. */
+	public int maxOutput(int count) {
+		return (int)(((long)count * up + down - 1) / down);
+	}
+
+	/**
+	 * Filters {@code count} samples of {@code x} starting from {@code xOffset}
+	 * and stores outputs to {@code z} starting from {@code zOffset}. Offsets and
+	 * count are in real or complex numbers, depending on type of data and output.
+	 * Without resampling there are {@code count} outputs, otherwise there are
+	 * up to {@link #maxOutput(int)} of them.
+	 *
+	 * @return number of stored outputs.
+	 */
+	public int apply(float z[], int zOffset, float x[], int xOffset, int count) {
+		final int start = zOffset;
+		while (count > 0) {
+			final int work = Math.min(count, capacity - pos);
+			System.arraycopy(x, xOffset * dataStep, d, pos * dataStep, work * dataStep);
+
+			if (up == 1 && down == 1) {
+				final int dOffset = pos - history;
+				switch (kind) {
+					case RV_RV:
+						rv_fir(z, zOffset, d, dOffset, hre, taps, 1, work);
+						break;
+					case RV_CV:
+						rv_fir(z, zOffset << 1, d, dOffset << 1, hre, taps, 2, work << 1);
+						break;
+					case CV_RV:
+						cv_fir_rv(z, zOffset, d, dOffset, hre, him, taps, work);
+						break;
+					case CV_CV:
+						cv_fir_cv(z, zOffset, d, dOffset, hre, him, taps, work);
+						break;
+				}
+				zOffset += work;
+			} else {
+				// Outputs which windows end before end of new data are ready
+				final int end = (pos + work) * up;
+				while (next < end) {
+					final int last = next / up;
+					final int t = (next - last * up) * phaseTaps;
+					final int dOffset = last - history;
+					switch (kind) {
+						case RV_RV:
+							z[zOffset] = VOVec.rv_dot_rv(hre, t, d, dOffset, phaseTaps);
+							break;
+						case RV_CV:
+							VOVec.rv_dot_cv(z, zOffset, hre, t, d, dOffset, phaseTaps);
+							break;
+						case CV_RV:
+							VOVec.rv_dot_cv(z, zOffset, d, dOffset, hc, t, phaseTaps);
+							break;
+						case CV_CV:
+							VOVec.cv_dot_cv(z, zOffset, hc, t, d, dOffset, phaseTaps);
+							break;
+					}
+					zOffset += 1;
+					next += down;
+				}
+			}
+
+			pos += work;
+			xOffset += work;
+			count -= work;
+			if (pos == capacity) {
+				// Move history to start of delay line
+				System.arraycopy(d, (capacity - history) * dataStep, d, 0, history * dataStep);
+				next -= (capacity - history) * up;
+				pos = history;
+			}
+		}
+		return zOffset - start;
+	}
+
+	// z[i] = sum(h[j] * d[dOffset + i + j * step]), offsets and count are in floats
+	private static void rv_fir(float z[], int zOffset, float d[], int dOffset, float h[], int taps, int step, int count) {
+		// Each accumulator is vector of outputs, so there are no reductions and taps are loaded once for 4 vectors
+		// See specific.RVdotRV benchmark about number of accumulators
+		// Accumulators are created by zero() and not taken from constant, as otherwise they are boxed in inner loop
+		while (count >= EPVx4) {
+			FloatVector vz1 = FloatVector.zero(PFS);
+			FloatVector vz2 = FloatVector.zero(PFS);
+			FloatVector vz3 = FloatVector.zero(PFS);
+			FloatVector vz4 = FloatVector.zero(PFS);
+			int o = dOffset;
+			for (int j = 0; j < taps; j++) {
+				final FloatVector vh = FloatVector.broadcast(PFS, h[j]);
+				vz1 = FloatVector.fromArray(PFS, d, o).fma(vh, vz1);
+				vz2 = FloatVector.fromArray(PFS, d, o + EPV).fma(vh, vz2);
+				vz3 = FloatVector.fromArray(PFS, d, o + EPVx2).fma(vh, vz3);
+				vz4 = FloatVector.fromArray(PFS, d, o + EPVx3).fma(vh, vz4);
+				o += step;
+			}
+			vz1.intoArray(z, zOffset);
+			vz2.intoArray(z, zOffset + EPV);
+			vz3.intoArray(z, zOffset + EPVx2);
+			vz4.intoArray(z, zOffset + EPVx3);
+
+			dOffset += EPVx4;
+			zOffset += EPVx4;
+			count -= EPVx4;
+		}
+
+		while (count >= EPV) {
+			FloatVector vz = FloatVector.zero(PFS);
+			int o = dOffset;
+			for (int j = 0; j < taps; j++) {
+				vz = FloatVector.fromArray(PFS, d, o).fma(FloatVector.broadcast(PFS, h[j]), vz);
+				o += step;
+			}
+			vz.intoArray(z, zOffset);
+
+			dOffset += EPV;
+			zOffset += EPV;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float sum = 0.0f;
+			int o = dOffset;
+			for (int j = 0; j < taps; j++) {
+				sum += h[j] * d[o];
+				o += step;
+			}
+			z[zOffset++] = sum;
+			dOffset += 1;
+		}
+	}
+
+	// Complex taps, real data: real and imaginary parts of outputs are accumulated separately and interleaved at the end
+	private static void cv_fir_rv(float z[], int zOffset, float d[], int dOffset, float hre[], float him[], int taps, int count) {
+		zOffset <<= 1;
+
+		while (count >= EPVx2) {
+			FloatVector vzre1 = FloatVector.zero(PFS);
+			FloatVector vzim1 = FloatVector.zero(PFS);
+			FloatVector vzre2 = FloatVector.zero(PFS);
+			FloatVector vzim2 = FloatVector.zero(PFS);
+			int o = dOffset;
+			for (int j = 0; j < taps; j++) {
+				final FloatVector vhre = FloatVector.broadcast(PFS, hre[j]);
+				final FloatVector vhim = FloatVector.broadcast(PFS, him[j]);
+				final FloatVector vd1 = FloatVector.fromArray(PFS, d, o);
+				final FloatVector vd2 = FloatVector.fromArray(PFS, d, o + EPV);
+				vzre1 = vd1.fma(vhre, vzre1);
+				vzim1 = vd1.fma(vhim, vzim1);
+				vzre2 = vd2.fma(vhre, vzre2);
+				vzim2 = vd2.fma(vhim, vzim2);
+				o += 1;
+			}
+			unpack(z, zOffset, vzre1, vzim1);
+			unpack(z, zOffset + EPVx2, vzre2, vzim2);
+
+			dOffset += EPVx2;
+			zOffset += EPVx4;
+			count -= EPVx2;
+		}
+
+		while (count-- > 0) {
+			float re = 0.0f;
+			float im = 0.0f;
+			int o = dOffset;
+			for (int j = 0; j < taps; j++) {
+				re += hre[j] * d[o];
+				im += him[j] * d[o];
+				o += 1;
+			}
+			z[zOffset + 0] = re;
+			z[zOffset + 1] = im;
+			dOffset += 1;
+			zOffset += 2;
+		}
+	}
+
+	// Complex taps, complex data: data is multiplied by real and imaginary parts of taps
+	// separately, and second sum is swapped and added with signs at the end
+	private static void cv_fir_cv(float z[], int zOffset, float d[], int dOffset, float hre[], float him[], int taps, int count) {
+		zOffset <<= 1;
+		dOffset <<= 1;
+
+		while (count >= EPV) {
+			FloatVector vzre1 = FloatVector.zero(PFS);
+			FloatVector vzim1 = FloatVector.zero(PFS);
+			FloatVector vzre2 = FloatVector.zero(PFS);
+			FloatVector vzim2 = FloatVector.zero(PFS);
+			int o = dOffset;
+			for (int j = 0; j < taps; j++) {
+				final FloatVector vhre = FloatVector.broadcast(PFS, hre[j]);
+				final FloatVector vhim = FloatVector.broadcast(PFS, him[j]);
+				final FloatVector vd1 = FloatVector.fromArray(PFS, d, o);
+				final FloatVector vd2 = FloatVector.fromArray(PFS, d, o + EPV);
+				vzre1 = vd1.fma(vhre, vzre1);
+				vzim1 = vd1.fma(vhim, vzim1);
+				vzre2 = vd2.fma(vhre, vzre2);
+				vzim2 = vd2.fma(vhim, vzim2);
+				o += 2;
+			}
+			// (re * hre - im * him, im * hre + re * him)
+			vzim1.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(SIGN_C_RE, vzre1).intoArray(z, zOffset);
+			vzim2.rearrange(SHUFFLE_CV_SWAP_RE_IM).fma(SIGN_C_RE, vzre2).intoArray(z, zOffset + EPV);
+
+			// We process twice as much complex numbers
+			dOffset += EPVx2;
+			zOffset += EPVx2;
+			count -= EPV;
+		}
+
+		while (count-- > 0) {
+			float re = 0.0f;
+			float im = 0.0f;
+			int o = dOffset;
+			for (int j = 0; j < taps; j++) {
+				re += hre[j] * d[o + 0] - him[j] * d[o + 1];
+				im += hre[j] * d[o + 1] + him[j] * d[o + 0];
+				o += 2;
+			}
+			z[zOffset + 0] = re;
+			z[zOffset + 1] = im;
+			dOffset += 2;
+			zOffset += 2;
+		}
+	}
+
+	private static void unpack(float z[], int zOffset, FloatVector vre, FloatVector vim) {
+		vre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_FIRST).blend(vim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_FIRST), MASK_C_IM).intoArray(z, zOffset);
+		vre.rearrange(SHUFFLE_CV_TO_CV_UNPACK_RE_SECOND).blend(vim.rearrange(SHUFFLE_CV_TO_CV_UNPACK_IM_SECOND), MASK_C_IM).intoArray(z, zOffset + EPV);
+	}
+}
@@ -4,16 +4,17 @@ package OpAnalyzer;
 use strict;
 use warnings;
 
-sub cannotVectorize {
-	my $name = shift;
-	return $name =~ /_i?[fw]+$/;
-}
-
 sub parseOp {
 	my ($name, $rtype) = @_;
 
+	# Fast variants are the same operations with approximated trigonometry
+	my $base = $name;
+	my $fast = ($base =~ s/_f$// || $base =~ s/_fw$/_w/ || $base =~ s/_if$/_i/ || $base =~ s/_ifw$/_iw/) ? 1 : 0;
+	# Wrapping variants are the same operations, only offsets are treated differently
+	my $wrap = ($base =~ s/_w$// || $base =~ s/_iw$/_i/) ? 1 : 0;
+
 	my $res;
-	if      ($name =~ /^(rs|rv|cs|cv)_([a-z0-9]{2,})_(rs|rv|cs|cv)(_i)?$/) {
+	if      ($base =~ /^(rs|rv|cs|cv)_([a-z0-9]{2,})_(rs|rv|cs|cv)(_i)?$/) {
 		$res = {
 			'type' => 'b',
 			'l'    => $1,
@@ -21,14 +22,14 @@ sub parseOp {
 			'r'    => $3,
 			'ip'   => defined($4) && $4 eq '_i'
 		};
-	} elsif ($name =~ /^(rs|rv|cs|cv)_([a-z0-9]{2,})(_i)?$/) {
+	} elsif ($base =~ /^(rs|rv|cs|cv)_([a-z0-9]{2,})(_i)?$/) {
 		$res = {
 			'type' => 'u',
 			'l'    => $1,
 			'op'   => $2,
 			'ip'   => defined($3) && $3 eq '_i'
 		};
-	} elsif ($name =~ /^(rs|rv|cs|cv)_(rs|rv|cs|cv)_([a-z0-9]{2,})_(rs|rv|cs|cv)_(rs|rv|cs|cv)(_i)?$/) {
+	} elsif ($base =~ /^(rs|rv|cs|cv)_(rs|rv|cs|cv)_([a-z0-9]{2,})_(rs|rv|cs|cv)_(rs|rv|cs|cv)(_i)?$/) {
 		$res = {
 			'type' => 'q',
 			'l1'   => $1,
@@ -43,6 +44,8 @@ sub parseOp {
 	}
 	$res->{'name'} = $name;
 	$res->{'rt'} = $rtype;
+	$res->{'wrap'} = $wrap;
+	$res->{'fast'} = $fast;
 	return $res;
 }
 
@@ -69,8 +72,9 @@ sub getOutType {
 	}
 
 	die "Invalid method return type of operation '".$op->{'name'}."': '".$op->{'rt'}."', need 'void'\n" if (&_isVector($ot) || &_isComplex($ot)) && $op->{'rt'} ne 'void';
-	die "Invalid method return type of operation '".$op->{'name'}."': '".$op->{'rt'}."', need 'float'\n" if $ot eq 'rs' && $op->{'rt'} ne 'float';
-	die "Invalid method return type of operation '".$op->{'name'}."': '".$op->{'rt'}."', need 'int'\n" if $ot eq 'int' && $op->{'rt'} ne 'int';
+	die "Invalid method return type of operation '".$op->{'name'}."': '".$op->{'rt'}."', need 'float'\n" if $ot eq 'rs' && $op->{'rt'} ne 'float' && $op->{'rt'} ne 'double';
+	# Indices are long in MemorySegment implementations
+	die "Invalid method return type of operation '".$op->{'name'}."': '".$op->{'rt'}."', need 'int'\n" if $ot eq 'int' && $op->{'rt'} ne 'int' && $op->{'rt'} ne 'long';
 
 	return $ot;
 }
@@ -167,6 +171,25 @@ sub generateArg {
 	}
 }
 
+# Replaces float types, literals and casts with double ones in Java code
+sub toDouble {
+	my $code = shift;
+	# Casts of results of Math functions are not needed anymore
+	$code =~ s/\(float\)(?=Math\.)//g;
+	# Neither are casts of floating-point expressions which are whole arguments,
+	# initializers or right sides, and widening casts of float array elements
+	$code =~ s/(?<=[=,{] )\(float\)(\(((?:[^()]++|(?1))*)\))(?=[;,)]| \})/my $e = $2; $e =~ m!\d\.\d|Math\.! ? $e : "(float)$1"/ge;
+	$code =~ s/\(double\)(?=[a-z]\w*\[)//g;
+	$code =~ s/\bfloat\b/double/g;
+	$code =~ s/\bFloat(?=\b|Vector\b)/Double/g;
+	$code =~ s/\breinterpretAsFloats\b/reinterpretAsDoubles/g;
+	$code =~ s/\bnextFloat\b/nextDouble/g;
+	# Literals: 1f, 1.0f, 1e-3f, 0x1.0p-24f
+	$code =~ s/\b(0x[0-9a-fA-F]*\.?[0-9a-fA-F]*[pP][-+]?\d+|\d+\.\d*(?:[eE][-+]?\d+)?|\d+[eE][-+]?\d+)[fF]\b/$1/g;
+	$code =~ s/\b(\d+)[fF]\b/$1.0/g;
+	return $code;
+}
+
 sub loadFile {
 	my ($name, $base) = @_;
 	open(my $fh, '<', $name) or die "Can npot open \"$name\"\n";
@@ -179,12 +202,7 @@ sub loadFile {
 		next unless /^public static (\S+) ([a-z0-9_]+)\(.+?\) \{$/;
 		my $rt = $1;
 		my $name = $2;
-		# Check if $name is or _w or _iw or _f or _fw
 		$total++;
-		if (&cannotVectorize($name)) {
-			print STDERR "Vectorized version implements strange method: \"$name\"\n" unless $base;
-			next;
-		}
 		$rv->{$name} = $rt;
 		$loaded++;
 	}
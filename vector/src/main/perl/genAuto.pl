@@ -0,0 +1,231 @@
+#! /usr/bin/perl -w
+#***************************************************************************
+# Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+# All rights reserved.
+#
+# Redistribution and use in source and binary forms, with or without
+# modification, are permitted provided that the following conditions are met:
+#
+# 1. Redistributions of source code must retain the above copyright notice,
+#    this list of conditions and the following disclaimer.
+#
+# 2. Redistributions in binary form must reproduce the above copyright
+#    notice, this list of conditions and the following disclaimer in the
+#    documentation and/or other materials provided with the distribution.
+#
+# THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+# AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+# IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+# ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+# BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+# OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+# OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+# INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+# IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+# ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+# POSSIBILITY OF SUCH DAMAGE.
+#***************************************************************************
+
+# Generates dispatcher which calls one of candidate implementations for each
+# call, chosen by VOPlanner for operation and size class of call. First class
+# is default one, which is used until plan is made or loaded from wisdom, all
+# its methods are wrapped. Other classes are candidates for methods which have
+# exactly the same signature. Also generates probes: tight loops of calls of
+# each candidate on scratch data, which are timed by planner.
+use warnings;
+use strict;
+use FindBin;
+use lib $FindBin::Bin;
+use OpAnalyzer;
+
+die "Syntax: $0 <DefaultImpl.java> <CandidateImpl.java>... <AutoImpl.java>\n" unless @ARGV >= 3;
+
+my $DST = pop(@ARGV);
+my ($DST_CLASS) = $DST =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid destination name \"$DST\"\n";
+
+# All implementations: name and set of signatures
+my @IMPLS = ();
+my %SIGS = ();
+my $code;
+for my $src (@ARGV) {
+	my ($class) = $src =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid source name \"$src\"\n";
+	open(my $IN, '<', $src) or die "Can not open \"$src\"\n";
+	my $c = do { local $/; <$IN> };
+	close($IN);
+	$code = $c unless defined $code;
+	push @IMPLS, $class;
+	$SIGS{$class}->{"$2($3)"} = 1 while $c =~ /^\tpublic static (\S+) ([a-z0-9_]+)\((.+?)\) \{$/mg;
+}
+my $DEFAULT = $IMPLS[0];
+
+my ($LICENSE) = $code =~ /^(.*?)^package /ms or die "Can not find package in \"$DEFAULT\"\n";
+
+my @OPS = ();
+my %OPINDEX = ();
+my @CANDIDATES = ();
+my $methods = '';
+my $probes = '';
+my $probeSwitch = '';
+while ($code =~ /^\tpublic static (\S+) ([a-z0-9_]+)\((.+?)\) \{\n(.*?)^\t\}\n/msg) {
+	my ($rt, $name, $params, $body) = ($1, $2, $3, $4);
+	my $method = "\tpublic static $rt $name($params) {\n";
+
+	# Overloads which only pass default arguments stay the same
+	if ($body =~ /^\t\t(?:return )?$name\([^;]+\);\n\z/) {
+		$methods .= $method.$body."\t}\n\n";
+		next;
+	}
+
+	my @candidates = grep { exists $SIGS{$IMPLS[$_]}->{"$name($params)"} } 0..$#IMPLS;
+	# Overloads share one plan
+	my $new = !exists $OPINDEX{$name};
+	if ($new) {
+		$OPINDEX{$name} = scalar(@OPS);
+		push @OPS, $name;
+		push @CANDIDATES, \@candidates;
+	}
+	my $op = $OPINDEX{$name};
+
+	my @names = map { /([a-zA-Z0-9_]+)(?:\[\])?$/ } split(/\s*,\s*/, $params);
+	my $args = join(', ', @names);
+	my $ret = $rt eq 'void' ? '' : 'return ';
+
+	$method .= "\t\tswitch (VOPlanner.PLAN[$op][VOPlanner.sizeClass(count)]) {\n";
+	for my $i (@candidates[1..$#candidates]) {
+		$method .= "\t\t\tcase ".&implConst($i).":\n";
+		$method .= "\t\t\t\t$ret$IMPLS[$i].$name($args);\n";
+		$method .= "\t\t\t\treturn;\n" if $rt eq 'void';
+	}
+	$method .= "\t\t\tdefault:\n";
+	$method .= "\t\t\t\t$ret$DEFAULT.$name($args);\n";
+	$method .= "\t\t}\n";
+	$methods .= $method."\t}\n\n";
+
+	next unless $new;
+
+	# Probe: same arguments for all candidates, scratch vectors are large enough for complex ones
+	my $parsed = &OpAnalyzer::parseOp($name, $rt);
+	my $types = &argTypes($parsed);
+	# In-place calls go through scratch output, so each one gets fresh data
+	my $ip = $parsed->{'ip'};
+	my $pargs = join(', ', map { $ip && $_ eq 'zOffset' ? 'offset' : &probeArg($_, $params, $types) } @names);
+	my $sink = $rt eq 'void' ? '' : 'sink += ';
+	$probeSwitch .= "\t\t\tcase $op:\n\t\t\t\tprobe_$name(impl, count, reps);\n\t\t\t\tbreak;\n";
+	$probes .= "\tprivate static void probe_$name(int impl, int count, int reps) {\n";
+	$probes .= "\t\tswitch (impl) {\n";
+	for my $i (@candidates) {
+		$probes .= "\t\t\tcase ".&implConst($i).":\n";
+		$probes .= $ip ? "\t\t\t\tfor (int offset = 0; reps-- > 0; offset = next(offset, count))\n" : "\t\t\t\twhile (reps-- > 0)\n";
+		$probes .= "\t\t\t\t\t$sink$IMPLS[$i].$name($pargs);\n";
+		$probes .= "\t\t\t\tbreak;\n";
+	}
+	$probes .= "\t\t}\n";
+	$probes .= "\t}\n\n";
+}
+$probes =~ s/\n\z//;
+
+my $consts = join('', map { "\tfinal static byte ".&implConst($_)." = $_;\n" } 0..$#IMPLS);
+my $impls = join(', ', map { "\"$_\"" } @IMPLS);
+my $ops = join('', map { "\t\t\"$_\",\n" } @OPS);
+my $cands = join('', map { "\t\t{ ".join(', ', map { &implConst($_) } @$_)." },\n" } @CANDIDATES);
+
+open(my $OUT, '>', $DST) or die "Can not open \"$DST\"\n";
+print $OUT $LICENSE;
+print $OUT "// Generated by genAuto.pl from ".join(', ', map { "$_.java" } @IMPLS).", don't edit\n\n";
+print $OUT <<__HEADER__;
+package vectorapi;
+
+/**
+ * Calls implementation chosen by {\@link VOPlanner} for each operation and
+ * size of call, {\@link $DEFAULT} if there is no plan.
+ *
+ * \@author Lev Serebryakov
+ * \@noinspection CStyleArrayDeclaration
+ */
+\@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class $DST_CLASS {
+	// Candidates, index in IMPLS is value in plan
+$consts	final static String IMPLS[] = { $impls };
+
+	// Operations, index in OPS is index of plan
+	final static String OPS[] = {
+$ops	};
+
+	// Candidates which have each operation
+	final static byte CANDIDATES[][] = {
+$cands	};
+
+__HEADER__
+print $OUT $methods;
+print $OUT <<__PROBES__;
+	// Scratch data for probes: vectors are large enough for complex ones of maximum probe size
+	private final static float PX[] = scratch(VOPlanner.MAX_PROBE_SIZE * 2);
+	private final static float PY[] = scratch(VOPlanner.MAX_PROBE_SIZE * 2);
+	private final static float PZ[] = scratch(VOPlanner.MAX_PROBE_SIZE * 2);
+	private final static float PCS[] = scratch(2);
+	private final static float PCZ[] = scratch(2);
+	private final static float PRS = 0.5f;
+	private static float sink = 0.0f;
+
+	private static float[] scratch(int size) {
+		float x[] = new float[size];
+		for (int i = 0; i < x.length; i++)
+			x[i] = (float)Math.sin(i * 0.1) * 0.5f + 0.25f;
+		return x;
+	}
+
+	// In-place probes overwrite scratch output, planner restores it before each timed sample
+	static void restore() {
+		System.arraycopy(PX, 0, PZ, 0, PZ.length);
+	}
+
+	// Each call of in-place probe works on next part of scratch output, which
+	// is not modified yet: timed sample is never longer than MAX_PROBE_SIZE
+	// elements, and only longer warm-up runs start over from beginning
+	private static int next(int offset, int count) {
+		offset += count;
+		return offset + count > VOPlanner.MAX_PROBE_SIZE ? 0 : offset;
+	}
+
+	static void probe(int op, int impl, int count, int reps) {
+		switch (op) {
+$probeSwitch		}
+	}
+
+$probes}
+__PROBES__
+close($OUT);
+
+print STDERR "\"$DST\": ".scalar(@OPS)." operations, ".scalar(@IMPLS)." implementations\n";
+
+exit 0;
+
+sub implConst {
+	my $i = shift;
+	return 'IMPL_'.uc($IMPLS[$i]);
+}
+
+# Types of input arguments by names
+sub argTypes {
+	my $op = shift;
+	if ($op->{'type'} eq 'u') {
+		return { 'x' => $op->{'l'} };
+	} elsif ($op->{'type'} eq 'b') {
+		return $op->{'ip'} ? { 'x' => $op->{'r'} } : { 'x' => $op->{'l'}, 'y' => $op->{'r'} };
+	}
+	return $op->{'ip'} ? { 'a1' => $op->{'l2'}, 'x' => $op->{'r1'}, 'a2' => $op->{'r2'} } :
+		{ 'x' => $op->{'l1'}, 'a1' => $op->{'l2'}, 'y' => $op->{'r1'}, 'a2' => $op->{'r2'} };
+}
+
+sub probeArg {
+	my ($n, $params, $types) = @_;
+	return 'count' if $n eq 'count';
+	return '0' if $n =~ /Offset$/;
+	if ($params =~ /\bfloat $n\[\]/) {
+		# Vector if there is offset or operation says so, complex scalar otherwise
+		return 'P'.uc($n) if $params =~ /\bint ${n}Offset\b/ || ($types->{$n} // '') =~ /v$/;
+		return $n eq 'z' ? 'PCZ' : 'PCS';
+	}
+	return 'PRS' if $params =~ /\bfloat $n\b/;
+	die "Unknown argument \"$n\" in ($params)\n";
+}
@@ -0,0 +1,160 @@
+#! /usr/bin/perl -w
+#***************************************************************************
+# Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+# All rights reserved.
+#
+# Redistribution and use in source and binary forms, with or without
+# modification, are permitted provided that the following conditions are met:
+#
+# 1. Redistributions of source code must retain the above copyright notice,
+#    this list of conditions and the following disclaimer.
+#
+# 2. Redistributions in binary form must reproduce the above copyright
+#    notice, this list of conditions and the following disclaimer in the
+#    documentation and/or other materials provided with the distribution.
+#
+# THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+# AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+# IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+# ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+# BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+# OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+# OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+# INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+# IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+# ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+# POSSIBILITY OF SUCH DAMAGE.
+#***************************************************************************
+
+# Generates batched (multi-channel) flavor of vectorized implementation.
+# Each method gets two variants: with flat array of channels, where each
+# vector argument has its own stride (distance between channels, in elements)
+# and with 2D arrays [channel][sample]. Element-wise kernels are called on
+# whole batch as one long vector when channels are stored without gaps, and
+# per channel otherwise, with masked-tail kernel if it exists. Reductions store
+# result of each channel to output array. Wrapping variants are omitted.
+use warnings;
+use strict;
+use FindBin;
+use lib $FindBin::Bin;
+use OpAnalyzer;
+
+die "Syntax: $0 <VectorImpl.java> <MaskedImpl.java> <BatchImpl.java>\n" unless @ARGV == 3;
+
+my ($SRC, $MASKED, $DST) = @ARGV;
+my ($SRC_CLASS) = $SRC =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid source name \"$SRC\"\n";
+my ($MASKED_CLASS) = $MASKED =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid masked name \"$MASKED\"\n";
+my ($DST_CLASS) = $DST =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid destination name \"$DST\"\n";
+
+open(my $IN, '<', $SRC) or die "Can not open \"$SRC\"\n";
+my $code = do { local $/; <$IN> };
+close($IN);
+
+open($IN, '<', $MASKED) or die "Can not open \"$MASKED\"\n";
+my %MASKED = map { $_ => 1 } (do { local $/; <$IN> } =~ /^\tpublic static \S+ ([a-z0-9_]+)\(/mg);
+close($IN);
+
+my ($LICENSE) = $code =~ /^(.*?)^package /ms or die "Can not find package in \"$SRC\"\n";
+
+my $total = 0;
+my $converted = 0;
+my $methods = '';
+while ($code =~ /^\tpublic static (\S+) ([a-z0-9_]+)\((.+?)\) \{\n(.*?)^\t\}\n/msg) {
+	my ($rt, $name, $params, $body) = ($1, $2, $3, $4);
+	$total++;
+	my $m = &convertMethod($rt, $name, $params, $body);
+	next unless defined $m;
+	$methods .= $m;
+	$converted++;
+}
+$methods =~ s/\n\z//;
+
+open(my $OUT, '>', $DST) or die "Can not open \"$DST\"\n";
+print $OUT $LICENSE;
+print $OUT "// Generated by genBatch.pl from $SRC_CLASS.java, don't edit\n\n";
+print $OUT <<__HEADER__;
+package vectorapi;
+
+/**
+ * Multi-channel wrappers over {\@link $SRC_CLASS}.
+ *
+ * \@author Lev Serebryakov
+ * \@noinspection CStyleArrayDeclaration
+ */
+\@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class $DST_CLASS {
+__HEADER__
+print $OUT $methods;
+print $OUT "}\n";
+close($OUT);
+
+print STDERR "\"$DST\": converted $converted out of $total methods\n";
+
+exit 0;
+
+sub convertMethod {
+	my ($rt, $name, $params, $body) = @_;
+	my $op = &OpAnalyzer::parseOp($name, $rt);
+	return undef if $op->{'wrap'};
+	my $ot = &OpAnalyzer::getOutType($op);
+	my $reduction = $ot eq 'rs' || $ot eq 'cs' || $ot eq 'int';
+
+	my @params = split(/\s*,\s*/, $params);
+	my @names = map { /([a-zA-Z0-9_]+)(?:\[\])?$/ } @params;
+	die "Last argument of \"$name\" is not count\n" unless $names[-1] eq 'count';
+
+	# Complex reductions without result offset are only shortcuts
+	if ($ot eq 'cs') {
+		return undef unless $names[1] eq 'zOffset';
+		splice(@params, 0, 2);
+		splice(@names, 0, 2);
+	}
+	my @vec = map { /^([a-z]+)Offset$/ ? ($1) : () } @names;
+	die "Method \"$name\" has no vector arguments\n" unless @vec;
+
+	# Output of reductions: one value per channel
+	my ($out, $outType) = ('', '');
+	if ($reduction) {
+		$outType = $ot eq 'int' ? 'int' : 'float';
+		$out = "$outType z[], int zOffset, ";
+	}
+
+	my $impl = !$reduction && exists $MASKED{$name} ? $MASKED_CLASS : $SRC_CLASS;
+	my $args = join(', ', @names);
+	my $method = '';
+
+	# Flat channels with strides
+	my $sp = join(', ', map { my $p = $_; $p =~ /\bint ([a-z]+)Offset$/ ? ($p, "int $1Stride") : ($p) } @params);
+	$method .= "\tpublic static void $name($out$sp, int channels) {\n";
+	if (!$reduction) {
+		$method .= "\t\t// Channels without gaps are one long vector\n";
+		$method .= "\t\tif (".join(' && ', map { "${_}Stride == count" } @vec).") {\n";
+		(my $all = $args) =~ s/\bcount$/count * channels/;
+		$method .= "\t\t\t$SRC_CLASS.$name($all);\n";
+		$method .= "\t\t\treturn;\n";
+		$method .= "\t\t}\n";
+	}
+	$method .= "\t\tfor (int ch = 0; ch < channels; ch++) {\n";
+	$method .= "\t\t\t".&callOne($ot, $impl, $name, $args)."\n";
+	$method .= join('', map { "\t\t\t${_}Offset += ${_}Stride;\n" } @vec);
+	$method .= "\t\t}\n";
+	$method .= "\t}\n\n";
+
+	# 2D arrays
+	my %v = map { $_ => 1 } @vec;
+	my $ap = join(', ', map { my $p = $_; $p =~ /^float ([a-z]+)\[\]$/ && exists $v{$1} ? "float $1\[\]\[\]" : $p } @params);
+	(my $aargs = $args) =~ s/\b([a-z]+)\b(?=, \1Offset\b)/$1\[ch\]/g;
+	$method .= "\tpublic static void $name($out$ap) {\n";
+	$method .= "\t\tfor (int ch = 0; ch < $vec[0].length; ch++)\n";
+	$method .= "\t\t\t".&callOne($ot, $impl, $name, $aargs)."\n";
+	$method .= "\t}\n\n";
+
+	return $method;
+}
+
+sub callOne {
+	my ($ot, $impl, $name, $args) = @_;
+	return "$impl.$name(z, zOffset + ch, $args);" if $ot eq 'cs';
+	return "z[zOffset + ch] = $impl.$name($args);" if $ot eq 'rs' || $ot eq 'int';
+	return "$impl.$name($args);";
+}
@@ -0,0 +1,88 @@
+#! /usr/bin/perl -w
+#***************************************************************************
+# Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+# All rights reserved.
+#
+# Redistribution and use in source and binary forms, with or without
+# modification, are permitted provided that the following conditions are met:
+#
+# 1. Redistributions of source code must retain the above copyright notice,
+#    this list of conditions and the following disclaimer.
+#
+# 2. Redistributions in binary form must reproduce the above copyright
+#    notice, this list of conditions and the following disclaimer in the
+#    documentation and/or other materials provided with the distribution.
+#
+# THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+# AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+# IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+# ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+# BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+# OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+# OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+# INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+# IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+# ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+# POSSIBILITY OF SUCH DAMAGE.
+#***************************************************************************
+
+# Generates double-precision flavor of implementation from float one.
+# Types, literals and class names are replaced, all code stays the same.
+# Vectors of doubles have half of lanes of vectors of floats of same
+# shape, so species which depend on it are replaced too.
+use warnings;
+use strict;
+
+use Cwd qw(abs_path);
+use FindBin;
+use lib abs_path($FindBin::Bin);
+
+use OpAnalyzer;
+
+die "Syntax: $0 <FloatImpl.java> <DoubleImpl.java>\n" unless @ARGV == 2;
+
+my ($SRC, $DST) = @ARGV;
+my ($SRC_CLASS) = $SRC =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid source name \"$SRC\"\n";
+my ($DST_CLASS) = $DST =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid destination name \"$DST\"\n";
+
+open(my $IN, '<', $SRC) or die "Can not open \"$SRC\"\n";
+my $code = do { local $/; <$IN> };
+close($IN);
+
+$code =~ s/^package /\/\/ Generated by genDouble.pl from $SRC_CLASS.java, don't edit\n\n$&/m
+	or die "Can not find package in \"$SRC\"\n";
+$code =~ s/public final class $SRC_CLASS \{/public final class $DST_CLASS {/
+	or die "Can not find class \"$SRC_CLASS\" in \"$SRC\"\n";
+
+# Species: complex scalar is 128 bits now, and indices need same number of lanes in half of bits
+$code =~ s/\bFloatVector\.SPECIES_64\b/DoubleVector.SPECIES_128/g;
+$code =~ s/\bFS64\b/DS128/g;
+$code =~ s/\bPFS\.withLanes\(int\.class\)/VectorSpecies.of(int.class, VectorShape.forBitSize(PFS.vectorBitSize() \/ 2))/g;
+
+# Constants of table-based FastTrig are floats, use precise ones
+$code =~ s/\bFastTrig\._1PI2\b/(Math.PI \/ 2)/g;
+$code =~ s/\bFastTrig\._2PI2\b/Math.PI/g;
+
+# Fast exp(), log10() and sincos() build and split floats by bits, double flavor uses library functions instead
+for my $f ([ 'exp_f', 'EXP' ], [ 'log10_f', 'LOG10' ]) {
+	my ($name, $op) = @$f;
+	$code =~ s/(?:^\t\/\/[^\n]*\n)*(^\tprivate static FloatVector $name\(FloatVector x\) \{\n).+?(^\t\}\n)/\t\/\/ Library function, polynomial one is for floats\n$1\t\treturn x.lanewise(VectorOperators.$op);\n$2/ms
+		or die "Can not find $name() in \"$SRC\"\n" if $code =~ /\b$name\(/;
+}
+$code =~ s/(?:^\t\/\/[^\n]*\n)*(^\tprivate static void expi_f\(.+?\{\n).+?(^\t\tfinal FloatVector vrre )/\t\/\/ Stores (g * cos(x), g * sin(x)) of packed g and x as TWO complex vectors, with library functions\n$1\t\tfinal FloatVector vc = vx.lanewise(VectorOperators.COS);\n\t\tfinal FloatVector vs = vx.lanewise(VectorOperators.SIN);\n\n$2/ms
+	or die "Can not find expi_f() in \"$SRC\"\n" if $code =~ /\bexpi_f\(/;
+
+$code = &OpAnalyzer::toDouble($code);
+
+# References to other generated classes
+$code =~ s/\b(VO|VOVec)\b/$1d/g;
+
+my $total = () = $code =~ /^\tpublic static \S+ [a-z0-9_]+\(/mg;
+
+open(my $OUT, '>', $DST) or die "Can not open \"$DST\"\n";
+print $OUT $code;
+close($OUT);
+
+print STDERR "\"$DST\": converted $total methods\n";
+
+exit 0;
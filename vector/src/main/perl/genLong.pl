@@ -0,0 +1,178 @@
+#! /usr/bin/perl -w
+#***************************************************************************
+# Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+# All rights reserved.
+#
+# Redistribution and use in source and binary forms, with or without
+# modification, are permitted provided that the following conditions are met:
+#
+# 1. Redistributions of source code must retain the above copyright notice,
+#    this list of conditions and the following disclaimer.
+#
+# 2. Redistributions in binary form must reproduce the above copyright
+#    notice, this list of conditions and the following disclaimer in the
+#    documentation and/or other materials provided with the distribution.
+#
+# THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+# AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+# IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+# ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+# BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+# OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+# OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+# INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+# IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+# ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+# POSSIBILITY OF SUCH DAMAGE.
+#***************************************************************************
+
+# Generates long-indexed flavor of MemorySegment implementation. Each method
+# takes long count and calls source method on runs of RUN elements, which are
+# multiple of any vector length, so only last run has scalar tail. Results of
+# reductions are combined over runs. Wrapping variants are omitted.
+use warnings;
+use strict;
+use FindBin;
+use lib $FindBin::Bin;
+use OpAnalyzer;
+
+die "Syntax: $0 <SegmentImpl.java> <LongImpl.java>\n" unless @ARGV == 2;
+
+my ($SRC, $DST) = @ARGV;
+my ($SRC_CLASS) = $SRC =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid source name \"$SRC\"\n";
+my ($DST_CLASS) = $DST =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid destination name \"$DST\"\n";
+
+open(my $IN, '<', $SRC) or die "Can not open \"$SRC\"\n";
+my $code = do { local $/; <$IN> };
+close($IN);
+
+my ($LICENSE) = $code =~ /^(.*?)^package /ms or die "Can not find package in \"$SRC\"\n";
+
+my $total = 0;
+my $converted = 0;
+my $methods = '';
+while ($code =~ /^\tpublic static (\S+) ([a-z0-9_]+)\((.+?)\) \{\n(.*?)^\t\}\n/msg) {
+	my ($rt, $name, $params, $body) = ($1, $2, $3, $4);
+	$total++;
+	my $m = &convertMethod($rt, $name, $params, $body);
+	next unless defined $m;
+	$methods .= $m;
+	$converted++;
+}
+
+open(my $OUT, '>', $DST) or die "Can not open \"$DST\"\n";
+print $OUT $LICENSE;
+print $OUT "// Generated by genLong.pl from $SRC_CLASS.java, don't edit\n\n";
+print $OUT <<__HEADER__;
+package vectorapi;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Wrappers over {\@link $SRC_CLASS} with {\@code long} counts, for vectors
+ * longer than 2^31 elements.
+ *
+ * \@author Lev Serebryakov
+ * \@noinspection CStyleArrayDeclaration
+ */
+\@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class $DST_CLASS {
+	// Elements per call of $SRC_CLASS: multiple of any vector length, and byte size of complex run fits into int
+	final static int RUN = 1 << 24;
+
+	private final static ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED;
+
+__HEADER__
+print $OUT $methods;
+print $OUT <<'__FOOTER__';
+	private static float cabs(float re, float im) {
+		return re * re + im * im;
+	}
+
+	private static float cabs(MemorySegment x, long i) {
+		final float re = x.getAtIndex(FLOAT, (i << 1) + 0);
+		final float im = x.getAtIndex(FLOAT, (i << 1) + 1);
+		return re * re + im * im;
+	}
+}
+__FOOTER__
+close($OUT);
+
+print STDERR "\"$DST\": converted $converted out of $total methods\n";
+
+exit 0;
+
+sub convertMethod {
+	my ($rt, $name, $params, $body) = @_;
+	my $op = &OpAnalyzer::parseOp($name, $rt);
+	return undef if $op->{'wrap'};
+
+	$params =~ s/\bint count$/long count/ or die "Last argument of \"$name\" is not count\n";
+	my $method = "\tpublic static $rt $name($params) {\n";
+
+	# Overloads which only pass default arguments stay the same
+	return $method.$body."\t}\n\n" if $body =~ /^\t\t(?:return )?$name\([^;]+\);\n\z/;
+
+	my @names = map { /([a-zA-Z0-9_]+)(?:\[\])?$/ } split(/\s*,\s*/, $params);
+	my @vec = map { /^([a-z]+)Offset$/ ? ($1) : () } @names;
+	my $ot = &OpAnalyzer::getOutType($op);
+	my $red = $op->{'op'} eq 'dot' ? 'sum' : $op->{'op'};
+
+	# Complex result is not a vector, even if it has offset
+	my $zSeg = $params =~ /^MemorySegment z, long zOffset, /;
+	@vec = grep { $_ ne 'z' } @vec if $ot eq 'cs';
+	my @args = @names;
+	splice(@args, 0, $zSeg ? 2 : 1, 'p') if $ot eq 'cs';
+	my $args = join(', ', @args);
+	$args =~ s/\bcount$/work/;
+
+	my $pre = '';
+	my $call = "$SRC_CLASS.$name($args);";
+	my $post = '';
+	my $stepz = 1;
+	if      ($ot eq 'rs' && $red eq 'sum') {
+		$pre = "\t\tfloat sum = 0.0f;\n";
+		$call = "sum += $SRC_CLASS.$name($args);";
+		$post = "\t\treturn sum;\n";
+	} elsif ($ot eq 'rs') {
+		my ($v, $cmp) = $red eq 'max' ? ('Float.NEGATIVE_INFINITY', '<') : ('Float.POSITIVE_INFINITY', '>');
+		$pre = "\t\tfloat $red = $v;\n";
+		$call = "final float r = $SRC_CLASS.$name($args);\n\t\t\tif ($red $cmp r)\n\t\t\t\t$red = r;";
+		$post = "\t\treturn $red;\n";
+	} elsif ($ot eq 'cs') {
+		$pre = "\t\tfinal float p[] = new float[2];\n";
+		if ($red eq 'sum') {
+			$pre .= "\t\tfloat re = 0.0f;\n\t\tfloat im = 0.0f;\n";
+			$call .= "\n\t\t\tre += p[0];\n\t\t\tim += p[1];";
+		} else {
+			my ($v, $cmp) = $red eq 'max' ? ('Float.NEGATIVE_INFINITY', '<') : ('Float.POSITIVE_INFINITY', '>');
+			$pre .= "\t\tfloat $red = $v;\n\t\tfloat re = 0.0f;\n\t\tfloat im = 0.0f;\n";
+			$call .= "\n\t\t\tfinal float abs = cabs(p[0], p[1]);\n\t\t\tif ($red $cmp abs) {\n\t\t\t\t$red = abs;\n\t\t\t\tre = p[0];\n\t\t\t\tim = p[1];\n\t\t\t}";
+		}
+		if ($zSeg) {
+			$post = "\t\tz.setAtIndex(FLOAT, (zOffset << 1) + 0, re);\n\t\tz.setAtIndex(FLOAT, (zOffset << 1) + 1, im);\n";
+		} else {
+			$post = "\t\tz[0] = re;\n\t\tz[1] = im;\n";
+		}
+	} elsif ($ot eq 'int') {
+		# Indices are absolute, value is taken from vector again
+		my ($v, $cmp) = $op->{'op'} eq 'maxarg' ? ('Float.NEGATIVE_INFINITY', '<') : ('Float.POSITIVE_INFINITY', '>');
+		my $get = $op->{'l'} eq 'cv' ? 'cabs(x, r)' : 'x.getAtIndex(FLOAT, r)';
+		$pre = "\t\tfloat v = $v;\n\t\tlong i = -1;\n";
+		$call = "final long r = $SRC_CLASS.$name($args);\n\t\t\tif (r >= 0 && v $cmp $get) {\n\t\t\t\tv = $get;\n\t\t\t\ti = r;\n\t\t\t}";
+		$post = "\t\treturn i;\n";
+	} elsif ($rt ne 'void') {
+		die "Element-wise \"$name\" returns \"$rt\"\n";
+	}
+
+	$method .= $pre;
+	$method .= "\t\twhile (count > 0) {\n";
+	$method .= "\t\t\tfinal int work = (int)Math.min(count, RUN);\n";
+	$method .= "\t\t\t$call\n";
+	$method .= join('', map { "\t\t\t${_}Offset += work;\n" } @vec);
+	$method .= "\t\t\tcount -= work;\n";
+	$method .= "\t\t}\n";
+	$method .= $post;
+	return $method."\t}\n\n";
+}
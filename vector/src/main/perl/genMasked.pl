@@ -0,0 +1,137 @@
+#! /usr/bin/perl -w
+#***************************************************************************
+# Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+# All rights reserved.
+#
+# Redistribution and use in source and binary forms, with or without
+# modification, are permitted provided that the following conditions are met:
+#
+# 1. Redistributions of source code must retain the above copyright notice,
+#    this list of conditions and the following disclaimer.
+#
+# 2. Redistributions in binary form must reproduce the above copyright
+#    notice, this list of conditions and the following disclaimer in the
+#    documentation and/or other materials provided with the distribution.
+#
+# THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+# AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+# IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+# ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+# BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+# OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+# OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+# INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+# IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+# ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+# POSSIBILITY OF SUCH DAMAGE.
+#***************************************************************************
+
+# Generates masked-tail flavor of vectorized implementation from default one.
+# Scalar tail of each element-wise kernel is replaced with one more pass of
+# main loop body with loads and stores masked by PFS.indexInRange(). Kernels
+# which could not be converted (reductions, packing of several vectors, etc.)
+# and wrapping variants of them are omitted, so result contains only methods
+# which really differ from source.
+use warnings;
+use strict;
+
+die "Syntax: $0 <VectorImpl.java> <MaskedImpl.java>\n" unless @ARGV == 2;
+
+my ($SRC, $DST) = @ARGV;
+my ($SRC_CLASS) = $SRC =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid source name \"$SRC\"\n";
+my ($DST_CLASS) = $DST =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid destination name \"$DST\"\n";
+
+open(my $IN, '<', $SRC) or die "Can not open \"$SRC\"\n";
+my $code = do { local $/; <$IN> };
+close($IN);
+
+my $total = 0;
+my $converted = 0;
+my %KEPT = ();
+
+# Header: class name
+$code =~ s/^package /\/\/ Generated by genMasked.pl from $SRC_CLASS.java, don't edit\n\n$&/m
+	or die "Can not find package in \"$SRC\"\n";
+$code =~ s/public final class $SRC_CLASS \{/public final class $DST_CLASS {/
+	or die "Can not find class \"$SRC_CLASS\" in \"$SRC\"\n";
+
+# Kernels first, as wrapping variants depend on them
+$code =~ s/^\tpublic static (\S+) ([a-z0-9_]+)\((.+?)\) \{\n(.*?)^\t\}\n\n?/&convertMethod($1, $2, $3, $4)/msge;
+# Wrapping variants are kept only if all called kernels are kept
+$code =~ s/^\tpublic static (\S+) ([a-z0-9_]+)\((.+?)\) \{\n(.*?)^\t\}\n\n?/&keepWrap($1, $2, $3, $4)/msge;
+
+open(my $OUT, '>', $DST) or die "Can not open \"$DST\"\n";
+print $OUT $code;
+close($OUT);
+
+print STDERR "\"$DST\": converted $converted out of $total methods\n";
+
+exit 0;
+
+sub convertMethod {
+	my ($rt, $name, $params, $body) = @_;
+	my $method = "\tpublic static $rt $name($params) {\n";
+
+	# Wraps are processed on second pass
+	return $method.$body."\t}\n\n" if $body =~ /\bpreWrap(?:Cv)?\(/;
+
+	$total++;
+
+	# Only one main loop followed by scalar tail is supported
+	my ($pre, $epv, $loop, $post) = $body =~ /^(.*?)\t\twhile \(count >= (EPV2?)\) \{\n(.*?)^\t\t\}\n\n(.*)$/ms;
+	return '' unless defined $post;
+	return '' unless $post =~ /^(\t\tfloat [a-z0-9, ]+;\n)?\t\twhile \(count-- > 0\)/ && $post !~ /^\t\t(?!while|float|\t|\}|$)/m;
+	return '' if $loop =~ /\bwhile\b/;
+
+	# All pointers must advance by same whole vector
+	my @steps = $loop =~ /^\t\t\t[a-z]Offset \+= (\S+);\n/mg;
+	return '' unless @steps && !grep { $_ ne 'EPV' } @steps;
+	return '' unless $loop =~ s/^((?:\t\t\t[a-z]Offset \+= EPV;\n)+)\t\t\tcount -= $epv;\n\z//m;
+	my $steps = $1;
+	(my $stripped = $loop) =~ s/\/\/.*$//mg;
+
+	# Body must be element-wise: no reductions, no accumulators, no partial vectors
+	return '' if $stripped =~ /\b(reduceLanes|count|EPV2?|EPVx\d|PFS2|FS64|convert|reinterpret)\b|\+=|-=|\*=|\/=/;
+	# Loads and stores must be plain full-vector ones
+	my @loads = $stripped =~ /\bfromArray\(([^()]*)\)/g;
+	my @stores = $stripped =~ /\bintoArray\(([^()]*)\)/g;
+	return '' unless (() = $stripped =~ /\bfromArray\(/g) == @loads && (() = $stripped =~ /\bintoArray\(/g) == @stores && @stores;
+	return '' if grep { !/^PFS, [a-z], [a-z]Offset$/ } @loads;
+	return '' if grep { !/^[a-z], [a-z]Offset(, [A-Za-z0-9]+)?$/ } @stores;
+
+	# Tail: same body with masked loads and stores
+	my $tail = $stripped;
+	$tail =~ s/[ \t]+$//mg;
+	$tail =~ s/^\n+//;
+	$tail =~ s/\n\n+/\n/g;
+	$tail =~ s/\bfromArray\(PFS, ([a-z]), ([a-z]Offset)\)/fromArray(PFS, $1, $2, tail)/g;
+	$tail =~ s/\bintoArray\(([a-z]), ([a-z]Offset), ([A-Za-z0-9]+)\)/intoArray($1, $2, $3.and(tail))/g;
+	$tail =~ s/\bintoArray\(([a-z]), ([a-z]Offset)\)/intoArray($1, $2, tail)/g;
+	my $limit = $epv eq 'EPV' ? 'count' : 'count << 1';
+
+	# Broadcasts are needed for tail too
+	$pre =~ s/\bif \(count >= $epv\)/if (count > 0)/g;
+	$pre =~ s/\bcount >= $epv \?/count > 0 ?/g;
+
+	$converted++;
+	$KEPT{$name} = 1;
+	return $method.$pre."\t\twhile (count >= $epv) {\n".$loop.$steps."\t\t\tcount -= $epv;\n\t\t}\n\n".
+		"\t\t// Tail is processed as one more partial vector\n".
+		"\t\tif (count > 0) {\n".
+		"\t\t\tfinal VectorMask<Float> tail = PFS.indexInRange(0, $limit);\n".
+		$tail.
+		"\t\t}\n".
+		"\t}\n\n";
+}
+
+sub keepWrap {
+	my ($rt, $name, $params, $body) = @_;
+	my $method = "\tpublic static $rt $name($params) {\n".$body."\t}\n\n";
+	return $method unless $body =~ /\bpreWrap(?:Cv)?\(/;
+	$total++;
+	# All called kernels must be present
+	my @calls = grep { /^[rc][vs]_/ } ($body =~ /\b([a-z0-9_]+)\(/g);
+	return '' if !@calls || grep { !exists $KEPT{$_} } @calls;
+	$converted++;
+	return $method;
+}
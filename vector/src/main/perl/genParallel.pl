@@ -0,0 +1,325 @@
+#! /usr/bin/perl -w
+#***************************************************************************
+# Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+# All rights reserved.
+#
+# Redistribution and use in source and binary forms, with or without
+# modification, are permitted provided that the following conditions are met:
+#
+# 1. Redistributions of source code must retain the above copyright notice,
+#    this list of conditions and the following disclaimer.
+#
+# 2. Redistributions in binary form must reproduce the above copyright
+#    notice, this list of conditions and the following disclaimer in the
+#    documentation and/or other materials provided with the distribution.
+#
+# THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+# AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+# IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+# ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+# BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+# OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+# OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+# INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+# IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+# ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+# POSSIBILITY OF SUCH DAMAGE.
+#***************************************************************************
+
+# Generates fork-join flavor of vectorized implementation from default one.
+# Each method of source class becomes wrapper which splits call to chunks of
+# fixed size and runs source method on each chunk as separate task. Partial
+# results of reductions are stored per chunk and combined in order of chunks,
+# so result doesn't depend on number of threads or order of execution.
+# Wrapping variants are omitted, as chunks of them could not be addressed by
+# plain offsets.
+use warnings;
+use strict;
+use FindBin;
+use lib $FindBin::Bin;
+use OpAnalyzer;
+
+die "Syntax: $0 <VectorImpl.java> <ParallelImpl.java>\n" unless @ARGV == 2;
+
+my ($SRC, $DST) = @ARGV;
+my ($SRC_CLASS) = $SRC =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid source name \"$SRC\"\n";
+my ($DST_CLASS) = $DST =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid destination name \"$DST\"\n";
+
+open(my $IN, '<', $SRC) or die "Can not open \"$SRC\"\n";
+my $code = do { local $/; <$IN> };
+close($IN);
+
+my ($LICENSE) = $code =~ /^(.*?)^package /ms or die "Can not find package in \"$SRC\"\n";
+
+my $total = 0;
+my $converted = 0;
+my $methods = '';
+while ($code =~ /^\tpublic static (\S+) ([a-z0-9_]+)\((.+?)\) \{\n(.*?)^\t\}\n/msg) {
+	my ($rt, $name, $params, $body) = ($1, $2, $3, $4);
+	$total++;
+	my $m = &convertMethod($rt, $name, $params, $body);
+	next unless defined $m;
+	$methods .= $m;
+	$converted++;
+}
+
+open(my $OUT, '>', $DST) or die "Can not open \"$DST\"\n";
+print $OUT $LICENSE;
+print $OUT "// Generated by genParallel.pl from $SRC_CLASS.java, don't edit\n\n";
+print $OUT <<__HEADER__;
+package vectorapi;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join wrappers over {\@link $SRC_CLASS}.
+ *
+ * \@author Lev Serebryakov
+ * \@noinspection CStyleArrayDeclaration
+ */
+\@SuppressWarnings({"PointlessArithmeticExpression", "UnusedDeclaration"})
+public final class $DST_CLASS {
+	// Elements per task: multiple of cache line for real and complex vectors of any vector size
+	private final static int CHUNK = 16384;
+	// Calls shorter than this are passed to $SRC_CLASS as-is
+	private final static int DEFAULT_THRESHOLD = 262144;
+
+	private static volatile ForkJoinPool pool = ForkJoinPool.commonPool();
+	private static volatile int threshold = DEFAULT_THRESHOLD;
+
+	public static ForkJoinPool getPool() {
+		return pool;
+	}
+
+	public static void setPool(ForkJoinPool pool) {
+		if (pool == null)
+			throw new NullPointerException("pool");
+		$DST_CLASS.pool = pool;
+	}
+
+	public static int getThreshold() {
+		return threshold;
+	}
+
+	public static void setThreshold(int threshold) {
+		if (threshold < 0)
+			throw new IllegalArgumentException("Threshold must be non-negative, got " + threshold);
+		$DST_CLASS.threshold = threshold;
+	}
+
+__HEADER__
+print $OUT $methods;
+print $OUT <<'__FOOTER__';
+	@FunctionalInterface
+	private interface Chunk {
+		void run(int chunk, int offset, int count);
+	}
+
+	// Tasks are never serialized, kernel lambda is not serializable anyway
+	private final static class Split extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final transient Chunk kernel;
+		private final int count;
+		private final int from;
+		private final int to;
+
+		Split(Chunk kernel, int count, int from, int to) {
+			this.kernel = kernel;
+			this.count = count;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				final int offset = from * CHUNK;
+				kernel.run(from, offset, Math.min(CHUNK, count - offset));
+				return;
+			}
+			final int mid = (from + to) >>> 1;
+			invokeAll(new Split(kernel, count, from, mid), new Split(kernel, count, mid, to));
+		}
+	}
+
+	private static int chunks(int count) {
+		return (count + CHUNK - 1) / CHUNK;
+	}
+
+	private static void run(int count, Chunk kernel) {
+		if (count <= 0)
+			return;
+		pool.invoke(new Split(kernel, count, 0, chunks(count)));
+	}
+
+	private static float rs_sum(float p[]) {
+		float sum = 0.0f;
+		for (int i = 0; i < p.length; i++)
+			sum += p[i];
+		return sum;
+	}
+
+	private static void cs_sum(float z[], int zOffset, float p[]) {
+		float re = 0.0f;
+		float im = 0.0f;
+		for (int i = 0; i < p.length; i += 2) {
+			re += p[i + 0];
+			im += p[i + 1];
+		}
+		z[(zOffset << 1) + 0] = re;
+		z[(zOffset << 1) + 1] = im;
+	}
+
+	private static float rs_max(float p[]) {
+		float max = Float.NEGATIVE_INFINITY;
+		for (int i = 0; i < p.length; i++)
+			if (max < p[i])
+				max = p[i];
+		return max;
+	}
+
+	private static float rs_min(float p[]) {
+		float min = Float.POSITIVE_INFINITY;
+		for (int i = 0; i < p.length; i++)
+			if (min > p[i])
+				min = p[i];
+		return min;
+	}
+
+	private static void cs_max(float z[], int zOffset, float p[]) {
+		float max = Float.NEGATIVE_INFINITY;
+		int j = 0;
+		for (int i = 0; i < p.length; i += 2) {
+			final float abs = p[i + 0] * p[i + 0] + p[i + 1] * p[i + 1];
+			if (max < abs) {
+				max = abs;
+				j = i;
+			}
+		}
+		z[(zOffset << 1) + 0] = p[j + 0];
+		z[(zOffset << 1) + 1] = p[j + 1];
+	}
+
+	private static void cs_min(float z[], int zOffset, float p[]) {
+		float min = Float.POSITIVE_INFINITY;
+		int j = 0;
+		for (int i = 0; i < p.length; i += 2) {
+			final float abs = p[i + 0] * p[i + 0] + p[i + 1] * p[i + 1];
+			if (min > abs) {
+				min = abs;
+				j = i;
+			}
+		}
+		z[(zOffset << 1) + 0] = p[j + 0];
+		z[(zOffset << 1) + 1] = p[j + 1];
+	}
+
+	// Partial indices are absolute ones, -1 if chunk has no candidate, ties go to the first chunk
+	private static int rv_maxarg(float x[], int p[]) {
+		float max = Float.NEGATIVE_INFINITY;
+		int j = -1;
+		for (int i = 0; i < p.length; i++) {
+			if (p[i] >= 0 && max < x[p[i]]) {
+				max = x[p[i]];
+				j = p[i];
+			}
+		}
+		return j;
+	}
+
+	private static int rv_minarg(float x[], int p[]) {
+		float min = Float.POSITIVE_INFINITY;
+		int j = -1;
+		for (int i = 0; i < p.length; i++) {
+			if (p[i] >= 0 && min > x[p[i]]) {
+				min = x[p[i]];
+				j = p[i];
+			}
+		}
+		return j;
+	}
+
+	private static int cv_maxarg(float x[], int p[]) {
+		float max = Float.NEGATIVE_INFINITY;
+		int j = -1;
+		for (int i = 0; i < p.length; i++) {
+			if (p[i] < 0)
+				continue;
+			final float abs = x[(p[i] << 1) + 0] * x[(p[i] << 1) + 0] + x[(p[i] << 1) + 1] * x[(p[i] << 1) + 1];
+			if (max < abs) {
+				max = abs;
+				j = p[i];
+			}
+		}
+		return j;
+	}
+
+	private static int cv_minarg(float x[], int p[]) {
+		float min = Float.POSITIVE_INFINITY;
+		int j = -1;
+		for (int i = 0; i < p.length; i++) {
+			if (p[i] < 0)
+				continue;
+			final float abs = x[(p[i] << 1) + 0] * x[(p[i] << 1) + 0] + x[(p[i] << 1) + 1] * x[(p[i] << 1) + 1];
+			if (min > abs) {
+				min = abs;
+				j = p[i];
+			}
+		}
+		return j;
+	}
+}
+__FOOTER__
+close($OUT);
+
+print STDERR "\"$DST\": converted $converted out of $total methods\n";
+
+exit 0;
+
+sub convertMethod {
+	my ($rt, $name, $params, $body) = @_;
+	my $op = &OpAnalyzer::parseOp($name, $rt);
+	return undef if $op->{'wrap'};
+
+	my $method = "\tpublic static $rt $name($params) {\n";
+
+	# Overloads which only pass default arguments stay the same
+	return $method.$body."\t}\n\n" if $body =~ /^\t\t(?:return )?$name\([^;]+\);\n\z/;
+
+	my @names = map { /([a-zA-Z0-9_]+)(?:\[\])?$/ } split(/\s*,\s*/, $params);
+	die "Last argument of \"$name\" is not count\n" unless $names[-1] eq 'count';
+	my %vec = map { /^([a-z]+)Offset$/ ? ($1 => 1) : () } @names;
+	my $args = join(', ', @names);
+	(my $chunk = $args) =~ s/\b([a-z]+Offset)\b/$1 + o/g;
+	$chunk =~ s/\bcount$/n/;
+
+	$method .= "\t\tif (count < threshold) {\n";
+	$method .= "\t\t\t".($rt eq 'void' ? '' : 'return ')."$SRC_CLASS.$name($args);\n";
+	$method .= "\t\t\treturn;\n" if $rt eq 'void';
+	$method .= "\t\t}\n";
+
+	my $ot = &OpAnalyzer::getOutType($op);
+	my $combine = $op->{'op'} eq 'dot' ? 'sum' : $op->{'op'};
+	if      ($ot eq 'rs') {
+		$method .= "\t\tfinal float p[] = new float[chunks(count)];\n";
+		$method .= "\t\trun(count, (c, o, n) -> p[c] = $SRC_CLASS.$name($chunk));\n";
+		$method .= "\t\treturn rs_$combine(p);\n";
+	} elsif ($ot eq 'cs') {
+		# Partial results are stored by offset variant of source method
+		die "Complex reduction \"$name\" must have z first\n" unless $chunk =~ s/^z, (zOffset \+ o, )?//;
+		my $zOffset = defined $1 ? 'zOffset' : '0';
+		$method .= "\t\tfinal float p[] = new float[chunks(count) * 2];\n";
+		$method .= "\t\trun(count, (c, o, n) -> $SRC_CLASS.$name(p, c, $chunk));\n";
+		$method .= "\t\tcs_$combine(z, $zOffset, p);\n";
+	} elsif ($ot eq 'int') {
+		$method .= "\t\tfinal int p[] = new int[chunks(count)];\n";
+		$method .= "\t\trun(count, (c, o, n) -> p[c] = $SRC_CLASS.$name($chunk));\n";
+		$method .= "\t\treturn ".$op->{'l'}."_$combine(x, p);\n";
+	} else {
+		die "Element-wise \"$name\" returns \"$rt\"\n" unless $rt eq 'void' && exists $vec{'z'};
+		$method .= "\t\trun(count, (c, o, n) -> $SRC_CLASS.$name($chunk));\n";
+	}
+	return $method."\t}\n\n";
+}
@@ -0,0 +1,301 @@
+#! /usr/bin/perl -w
+#***************************************************************************
+# Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+# All rights reserved.
+#
+# Redistribution and use in source and binary forms, with or without
+# modification, are permitted provided that the following conditions are met:
+#
+# 1. Redistributions of source code must retain the above copyright notice,
+#    this list of conditions and the following disclaimer.
+#
+# 2. Redistributions in binary form must reproduce the above copyright
+#    notice, this list of conditions and the following disclaimer in the
+#    documentation and/or other materials provided with the distribution.
+#
+# THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+# AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+# IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+# ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+# BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+# OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+# OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+# INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+# IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+# ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+# POSSIBILITY OF SUCH DAMAGE.
+#***************************************************************************
+
+# Generates MemorySegment flavor of vectorized implementation from array one.
+# Each vector argument (array which has its own offset argument) becomes
+# MemorySegment with long element offset, scalar arguments stay arrays.
+use warnings;
+use strict;
+
+die "Syntax: $0 <VectorImpl.java> <SegmentImpl.java>\n" unless @ARGV == 2;
+
+my ($SRC, $DST) = @ARGV;
+my ($SRC_CLASS) = $SRC =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid source name \"$SRC\"\n";
+my ($DST_CLASS) = $DST =~ m!([A-Za-z0-9_]+)\.java$! or die "Invalid destination name \"$DST\"\n";
+
+open(my $IN, '<', $SRC) or die "Can not open \"$SRC\"\n";
+my $code = do { local $/; <$IN> };
+close($IN);
+
+my $converted = 0;
+
+# Signatures of all methods: positions of vector arguments for each arity
+my %SIGS = ();
+my %INDEX = ();
+while ($code =~ /^\tpublic static (\S+) ([a-z0-9_]+)\((.+?)\) \{$/mg) {
+	my ($rt, $name, $params) = ($1, $2, $3);
+	my @p = split(/\s*,\s*/, $params);
+	my %vec = map { $_ => 1 } &vectorArgs($params);
+	# 0: not an array, 1: plain array, 2: vector
+	push @{$SIGS{$name}->{scalar(@p)}}, [ map { $p[$_] =~ /^float ([a-z]+)\[\]$/ ? (exists $vec{$1} ? 2 : 1) : 0 } 0..$#p ];
+	$INDEX{$name} = 1 if $rt eq 'int';
+}
+
+# Header: imports, class name and helpers
+$code =~ s/^(import jdk\.incubator\.vector\.\*;\n)/$1\nimport java.lang.foreign.MemorySegment;\nimport java.lang.foreign.ValueLayout;\nimport java.nio.ByteOrder;\n/m
+	or die "Can not find imports in \"$SRC\"\n";
+$code =~ s/^package /\/\/ Generated by genSegments.pl from $SRC_CLASS.java, don't edit\n\n$&/m
+	or die "Can not find package in \"$SRC\"\n";
+$code =~ s/public final class $SRC_CLASS \{/public final class $DST_CLASS {/
+	or die "Can not find class \"$SRC_CLASS\" in \"$SRC\"\n";
+$code =~ s/^(\tprivate final static VectorSpecies<Float> PFS = .+?\n)/\tprivate final static ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED;\n\tprivate final static ByteOrder ORDER = ByteOrder.nativeOrder();\n$1/m
+	or die "Can not find PFS in \"$SRC\"\n";
+
+# Methods
+$code =~ s/^\t(public) static (\S+) ([a-z0-9_]+)\((.+?)\) \{\n(.*?)^\t\}\n/&convertMethod($1, $2, $3, $4, $5)/msge;
+# Helpers which store vectors
+$code =~ s/^\t(private) static (void) ([a-z0-9_]+)\(((?:[^)]*, )?float [a-z]+\[\], int [a-z]+Offset\b.*?)\) \{\n(.*?)^\t\}\n/&convertMethod($1, $2, $3, $4, $5)/msge;
+
+# Helpers
+$code =~ s/^\tprivate static int preWrap\(int i, int length\) \{\n/\tprivate static long preWrap(long i, long length) {\n/m
+	or die "Can not find preWrap() in \"$SRC\"\n";
+$code =~ s/^\tprivate static int preWrapCv\(int i, int length\) \{\n/\tprivate static long preWrapCv(long i, long length) {\n/m
+	or die "Can not find preWrapCv() in \"$SRC\"\n";
+$code =~ s/^(\tprivate static long preWrap\(.+?^\t\}\n)/$1\n\tprivate static long length(MemorySegment s) {\n\t\treturn s.byteSize() \/ Float.BYTES;\n\t}\n/ms;
+
+open(my $OUT, '>', $DST) or die "Can not open \"$DST\"\n";
+print $OUT $code;
+close($OUT);
+
+print STDERR "\"$DST\": converted $converted methods\n";
+
+exit 0;
+
+sub convertMethod {
+	my ($vis, $rt, $name, $params, $body) = @_;
+
+	my %vec = map { $_ => 1 } &vectorArgs($params);
+	my %arr = map { $_ => 1 } grep { !exists $vec{$_} } ($params =~ /\bfloat ([a-z]+)\[\]/g, $body =~ /\bfloat ([a-z]+)\[\] = /g);
+
+	for my $v (keys %vec) {
+		$params =~ s/\bfloat $v\[\]/MemorySegment $v/;
+		$params =~ s/\bint ${v}Offset\b/long ${v}Offset/;
+	}
+
+	$body = &convertCode($body, \%vec, \%arr);
+
+	# Runs are limited by count, so they fit into int
+	$body =~ s/\bfinal int work = Math\.min\(/final int work = (int)Math.min(/g;
+
+	# Indices of elements are long now
+	if ($rt eq 'int') {
+		$rt = 'long';
+		$body =~ s/\bint (i|i2) = /long $1 = /g;
+		$body =~ s/\bfor \(int j = i;/for (long j = i;/g;
+		$body =~ s/\bfinal int j = /final long j = /g;
+	}
+	# And so are locals which hold them
+	my $index = join('|', (map { "${_}Offset" } keys %vec), keys %INDEX);
+	if ($index ne '') {
+		for my $l ($body =~ /\bint ([a-z0-9]+) = /g) {
+			next if $body =~ /\bint $l = \(int\)/;
+			$body =~ s/\bint $l = /long $l = /g if $body =~ /\b$l = [^;]*\b(?:$index)\b/;
+		}
+	}
+
+	$converted++ if $vis eq 'public';
+	return "\t$vis static $rt $name($params) {\n$body\t}\n";
+}
+
+sub convertCode {
+	my ($text, $vec, $arr) = @_;
+	my $res = '';
+	my $pos = 0;
+	my $len = length($text);
+
+	while ($pos < $len) {
+		# Comments are copied as-is
+		if (substr($text, $pos, 2) eq '//') {
+			my $eol = index($text, "\n", $pos);
+			$eol = $len if $eol < 0;
+			$res .= substr($text, $pos, $eol - $pos);
+			$pos = $eol;
+			next;
+		}
+
+		# Vector loads and stores
+		if (substr($text, $pos) =~ /^FloatVector\.fromArray\(/) {
+			my $open = $pos + length('FloatVector.fromArray');
+			my ($args, $end) = &balanced($text, $open, '(', ')');
+			my @a = &splitArgs($args);
+			if ((@a == 3 || @a == 4) && exists $vec->{$a[1]}) {
+				$res .= 'FloatVector.fromMemorySegment('.$a[0].', '.$a[1].', '.&bytes(&convertCode($a[2], $vec, $arr)).', ORDER'.(@a == 4 ? ', '.$a[3] : '').')';
+				$pos = $end;
+				next;
+			}
+		}
+		if (substr($text, $pos) =~ /^\.intoArray\(/) {
+			my $open = $pos + length('.intoArray');
+			my ($args, $end) = &balanced($text, $open, '(', ')');
+			my @a = &splitArgs($args);
+			if ((@a == 2 || @a == 3) && exists $vec->{$a[0]}) {
+				$res .= '.intoMemorySegment('.$a[0].', '.&bytes(&convertCode($a[1], $vec, $arr)).', ORDER'.(@a == 3 ? ', '.$a[2] : '').')';
+				$pos = $end;
+				next;
+			}
+		}
+
+		# Bulk copies
+		if (substr($text, $pos) =~ /^System\.arraycopy\(/) {
+			my $open = $pos + length('System.arraycopy');
+			my ($args, $end) = &balanced($text, $open, '(', ')');
+			my @a = map { &convertCode($_, $vec, $arr) } &splitArgs($args);
+			if (@a == 5 && exists $vec->{$a[0]} && exists $vec->{$a[2]}) {
+				$res .= 'MemorySegment.copy('.join(', ', $a[0], &bytes($a[1]), $a[2], &bytes($a[3]), &bytes($a[4])).')';
+				$pos = $end;
+				next;
+			}
+		}
+
+		# Identifiers: vector elements and lengths
+		if (substr($text, $pos) =~ /^([A-Za-z_][A-Za-z0-9_]*)/) {
+			my $id = $1;
+			my $prev = $pos > 0 ? substr($text, $pos - 1, 1) : '';
+			my $next = $pos + length($id);
+			# Calls of other methods: plain arrays become segments where needed
+			if ($prev !~ /[A-Za-z0-9_.]/ && exists $SIGS{$id} && substr($text, $next, 1) eq '(') {
+				my ($args, $end) = &balanced($text, $next, '(', ')');
+				my @a = map { &convertCode($_, $vec, $arr) } &splitArgs($args);
+				# Overload is selected by positions of arrays
+				my ($sig) = grep { my $s = $_; !grep { ($s->[$_] != 0) != (exists $vec->{$a[$_]} || exists $arr->{$a[$_]}) } 0..$#a } @{$SIGS{$id}->{scalar(@a)} || []};
+				if ($sig) {
+					for my $i (0..$#a) {
+						$a[$i] = "MemorySegment.ofArray($a[$i])" if $sig->[$i] == 2 && exists $arr->{$a[$i]};
+					}
+					$res .= "$id(".join(', ', @a).')';
+					$pos = $end;
+					next;
+				}
+			}
+			if ($prev !~ /[A-Za-z0-9_.]/ && exists $vec->{$id}) {
+				if (substr($text, $next) =~ /^\.length\b/) {
+					$res .= "length($id)";
+					$pos = $next + length('.length');
+					next;
+				}
+				if (substr($text, $next, 1) eq '[') {
+					my ($idx, $end) = &balanced($text, $next, '[', ']');
+					$idx = &convertCode($idx, $vec, $arr);
+					if (substr($text, $end) =~ /^(\s*([-+*\/]?)=)(?!=)/) {
+						my $op = $2;
+						my $rstart = $end + length($1);
+						my $rend = &statementEnd($text, $rstart);
+						my $rhs = &convertCode(substr($text, $rstart, $rend - $rstart), $vec, $arr);
+						$rhs =~ s/^\s+//;
+						if ($op eq '') {
+							$res .= "$id.setAtIndex(FLOAT, $idx, $rhs)";
+						} else {
+							# Index is evaluated before value, so only second one could have side effects
+							(my $idx1 = $idx) =~ s/(\+\+|--)//g;
+							$rhs = "($rhs)" unless $rhs =~ /^[A-Za-z0-9_.]+$/;
+							$res .= "$id.setAtIndex(FLOAT, $idx1, $id.getAtIndex(FLOAT, $idx) $op $rhs)";
+						}
+						$pos = $rend;
+					} else {
+						$res .= "$id.getAtIndex(FLOAT, $idx)";
+						$pos = $end;
+					}
+					next;
+				}
+			}
+			$res .= $id;
+			$pos = $next;
+			next;
+		}
+
+		$res .= substr($text, $pos, 1);
+		$pos++;
+	}
+	return $res;
+}
+
+# Vector arguments are arrays with offsets, others are complex scalars
+sub vectorArgs {
+	my $params = shift;
+	my %offsets = map { $_ => 1 } ($params =~ /\bint ([a-z]+)Offset\b/g);
+	return grep { exists $offsets{$_} } ($params =~ /\bfloat ([a-z]+)\[\]/g);
+}
+
+# Returns content between balanced brackets starting at $pos and position after closing one
+sub balanced {
+	my ($text, $pos, $open, $close) = @_;
+	die "Internal error: expected \"$open\"\n" unless substr($text, $pos, 1) eq $open;
+	my $depth = 0;
+	for (my $i = $pos; $i < length($text); $i++) {
+		my $c = substr($text, $i, 1);
+		if ($c eq '(' || $c eq '[') {
+			$depth++;
+		} elsif ($c eq ')' || $c eq ']') {
+			$depth--;
+			return (substr($text, $pos + 1, $i - $pos - 1), $i + 1) if $depth == 0;
+		}
+	}
+	die "Unbalanced \"$open\" at $pos\n";
+}
+
+# Position of ';' which ends statement started at $pos
+sub statementEnd {
+	my ($text, $pos) = @_;
+	my $depth = 0;
+	for (my $i = $pos; $i < length($text); $i++) {
+		my $c = substr($text, $i, 1);
+		if ($c eq '(' || $c eq '[') {
+			$depth++;
+		} elsif ($c eq ')' || $c eq ']') {
+			$depth--;
+		} elsif ($c eq ';' && $depth == 0) {
+			return $i;
+		}
+	}
+	die "Unterminated statement at $pos\n";
+}
+
+sub splitArgs {
+	my $args = shift;
+	my @res = ();
+	my $depth = 0;
+	my $cur = '';
+	for my $c (split //, $args) {
+		if ($c eq ',' && $depth == 0) {
+			push @res, $cur;
+			$cur = '';
+			next;
+		}
+		$depth++ if $c eq '(' || $c eq '[';
+		$depth-- if $c eq ')' || $c eq ']';
+		$cur .= $c;
+	}
+	push @res, $cur;
+	s/^\s+|\s+$//g for @res;
+	return @res;
+}
+
+sub bytes {
+	my $offset = shift;
+	return ($offset =~ /^[A-Za-z0-9_]+$/) ? "$offset * Float.BYTES" : "($offset) * Float.BYTES";
+}
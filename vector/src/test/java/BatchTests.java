@@ -0,0 +1,198 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+import vectorapi.VOVec;
+import vectorapi.VOVecBatch;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Batched kernels are checked against per-channel calls of {@link VOVec}, both
+ * for channels without gaps (one long vector) and with padding between them.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class BatchTests {
+    private static final float EPSILON = 0.0001f;
+
+    private static final int MAX_CHANNELS = 17;
+    private static final int MAX_COUNT = 257;
+    private static final int MAX_PAD = 5;
+    private static final int MAX_OFFSET = 1;
+    private static final int DATA_SIZE = MAX_CHANNELS * (MAX_COUNT + MAX_PAD) + MAX_OFFSET;
+
+    private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        for (int count : new int[] { 1, PFS.length() - 1, PFS.length() + 1, 128, MAX_COUNT })
+            for (int channels : new int[] { 1, 3, MAX_CHANNELS })
+                for (int pad : new int[] { 0, MAX_PAD })
+                    rv.add(Arguments.of(count, channels, pad, pad == 0 ? 0 : MAX_OFFSET));
+        return rv.stream();
+    }
+
+    private static float rvx[];
+    private static float rvy[];
+    private static float cvx[];
+    private static float cvy[];
+    private static float csy[];
+
+    @BeforeAll
+    public static void Setup() {
+        rvx = new float[DATA_SIZE];
+        rvy = new float[DATA_SIZE];
+        for (int i = 0; i < rvx.length; i++) {
+            rvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            rvy[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        cvx = new float[DATA_SIZE * 2];
+        cvy = new float[DATA_SIZE * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            cvy[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        csy = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+    }
+
+    private static float[][] split(float x[], int offset, int stride, int channels, int length) {
+        float rv[][] = new float[channels][length];
+        for (int ch = 0; ch < channels; ch++)
+            System.arraycopy(x, offset + ch * stride, rv[ch], 0, Math.min(length, x.length - offset - ch * stride));
+        return rv;
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv({0}, {1}, {2}, {3})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv(int count, int channels, int pad, int offset) {
+        int stride = count + pad;
+        float z1[] = new float[(stride * channels + offset) * 2];
+        float z2[] = new float[(stride * channels + offset) * 2];
+        for (int ch = 0; ch < channels; ch++)
+            VOVec.cv_mul_cv(z1, offset + ch * stride, cvx, offset + ch * stride, cvy, ch * stride, count);
+        VOVecBatch.cv_mul_cv(z2, offset, stride, cvx, offset, stride, cvy, 0, stride, count, channels);
+        assertArrayEquals(z1, z2, EPSILON);
+
+        float x[][] = split(cvx, offset * 2, stride * 2, channels, count * 2);
+        float y[][] = split(cvy, 0, stride * 2, channels, count * 2);
+        float z[][] = new float[channels][count * 2];
+        VOVecBatch.cv_mul_cv(z, 0, x, 0, y, 0, count);
+        for (int ch = 0; ch < channels; ch++) {
+            float e[] = new float[count * 2];
+            VOVec.cv_mul_cv(e, 0, x[ch], 0, y[ch], 0, count);
+            assertArrayEquals(e, z[ch], EPSILON);
+        }
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_i({0}, {1}, {2}, {3})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_i(int count, int channels, int pad, int offset) {
+        int stride = count + pad;
+        float z1[] = cvx.clone();
+        float z2[] = cvx.clone();
+        for (int ch = 0; ch < channels; ch++)
+            VOVec.cv_mul_cs_i(z1, offset + ch * stride, csy, count);
+        VOVecBatch.cv_mul_cs_i(z2, offset, stride, csy, count, channels);
+        assertArrayEquals(z1, z2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs({0}, {1}, {2}, {3})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs(int count, int channels, int pad, int offset) {
+        int stride = count + pad;
+        float z1[] = new float[stride * channels + offset];
+        float z2[] = new float[stride * channels + offset];
+        for (int ch = 0; ch < channels; ch++)
+            VOVec.rv_rs_lin_rv_rs(z1, offset + ch * stride, rvx, ch * stride, csy[0], rvy, offset + ch * stride, csy[1], count);
+        VOVecBatch.rv_rs_lin_rv_rs(z2, offset, stride, rvx, 0, stride, csy[0], rvy, offset, stride, csy[1], count, channels);
+        assertArrayEquals(z1, z2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_abs({0}, {1}, {2}, {3})")
+    @MethodSource("params")
+    public void Test_cv_abs(int count, int channels, int pad, int offset) {
+        int stride = count + pad;
+        float z1[] = new float[stride * channels];
+        float z2[] = new float[stride * channels];
+        for (int ch = 0; ch < channels; ch++)
+            VOVec.cv_abs(z1, ch * stride, cvx, offset + ch * stride, count);
+        VOVecBatch.cv_abs(z2, 0, stride, cvx, offset, stride, count, channels);
+        assertArrayEquals(z1, z2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sum({0}, {1}, {2}, {3})")
+    @MethodSource("params")
+    public void Test_rv_sum(int count, int channels, int pad, int offset) {
+        int stride = count + pad;
+        float z[] = new float[channels + 1];
+        VOVecBatch.rv_sum(z, 1, rvx, offset, stride, count, channels);
+        for (int ch = 0; ch < channels; ch++)
+            assertEquals(VOVec.rv_sum(rvx, offset + ch * stride, count), z[ch + 1]);
+
+        float x[][] = split(rvx, offset, stride, channels, count);
+        VOVecBatch.rv_sum(z, 0, x, 0, count);
+        for (int ch = 0; ch < channels; ch++)
+            assertEquals(VOVec.rv_sum(x[ch], 0, count), z[ch]);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv({0}, {1}, {2}, {3})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv(int count, int channels, int pad, int offset) {
+        int stride = count + pad;
+        float z[] = new float[channels * 2];
+        float e[] = new float[2];
+        VOVecBatch.cv_dot_cv(z, 0, cvx, offset, stride, cvy, 0, stride, count, channels);
+        for (int ch = 0; ch < channels; ch++) {
+            VOVec.cv_dot_cv(e, cvx, offset + ch * stride, cvy, ch * stride, count);
+            assertEquals(e[0], z[ch * 2 + 0]);
+            assertEquals(e[1], z[ch * 2 + 1]);
+        }
+    }
+
+    @ParameterizedTest(name = "cv_maxarg({0}, {1}, {2}, {3})")
+    @MethodSource("params")
+    public void Test_cv_maxarg(int count, int channels, int pad, int offset) {
+        int stride = count + pad;
+        int z[] = new int[channels];
+        VOVecBatch.cv_maxarg(z, 0, cvx, offset, stride, count, channels);
+        for (int ch = 0; ch < channels; ch++)
+            assertEquals(VOVec.cv_maxarg(cvx, offset + ch * stride, count), z[ch]);
+    }
+}
@@ -0,0 +1,163 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+import vectorapi.dsp.Biquad;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.stream.Stream;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Biquad cascades are compared with per-channel filtering in {@code double}s,
+ * with signal fed in blocks of random sizes.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class BiquadTests {
+    private static final int DATA_SIZE = 2000;
+    private static final int MAX_BLOCK = 700;
+    private static final float EPSILON = 0.0001f;
+
+    private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        for (int channels : new int[] { 1, 3, PFS.length() - 1, PFS.length(), PFS.length() + 1, PFS.length() * 2 + 3, 64 })
+            for (int sections : new int[] { 1, 2, 5 })
+                rv.add(Arguments.of(channels, sections));
+        return rv.stream();
+    }
+
+    @ParameterizedTest(name = "interleaved({0}, {1})")
+    @MethodSource("params")
+    public void Test_interleaved(int channels, int sections) {
+        Random r = new Random(channels * 10 + sections);
+        float coeffs[] = coeffs(r, sections);
+        float x[][] = signal(r, channels);
+        double expected[][] = filter(coeffs, x);
+
+        float xi[] = new float[channels * DATA_SIZE];
+        for (int c = 0; c < channels; c++)
+            for (int n = 0; n < DATA_SIZE; n++)
+                xi[n * channels + c] = x[c][n];
+
+        Biquad bq = new Biquad(coeffs, channels);
+        float z[] = new float[channels * DATA_SIZE];
+        int done = 0;
+        while (done < DATA_SIZE) {
+            int block = Math.min(DATA_SIZE - done, r.nextInt(MAX_BLOCK) + 1);
+            // Check in-place processing too
+            if (r.nextBoolean()) {
+                bq.apply(z, done, xi, done, block);
+            } else {
+                System.arraycopy(xi, done * channels, z, done * channels, block * channels);
+                bq.apply_i(z, done, block);
+            }
+            done += block;
+        }
+
+        for (int c = 0; c < channels; c++)
+            for (int n = 0; n < DATA_SIZE; n++)
+                assertEquals((float)expected[c][n], z[n * channels + c], EPSILON, "Channel " + c + ", sample " + n);
+    }
+
+    @ParameterizedTest(name = "planar({0}, {1})")
+    @MethodSource("params")
+    public void Test_planar(int channels, int sections) {
+        Random r = new Random(channels * 10 + sections);
+        float coeffs[] = coeffs(r, sections);
+        float x[][] = signal(r, channels);
+        double expected[][] = filter(coeffs, x);
+
+        Biquad bq = new Biquad(coeffs, channels);
+        float z[][] = new float[channels][DATA_SIZE];
+        int done = 0;
+        while (done < DATA_SIZE) {
+            int block = Math.min(DATA_SIZE - done, r.nextInt(MAX_BLOCK) + 1);
+            bq.apply(z, done, x, done, block);
+            done += block;
+        }
+
+        for (int c = 0; c < channels; c++)
+            for (int n = 0; n < DATA_SIZE; n++)
+                assertEquals((float)expected[c][n], z[c][n], EPSILON, "Channel " + c + ", sample " + n);
+    }
+
+    // Stable sections with poles of radius from 0.5 to 0.95 and gain about 1
+    private static float[] coeffs(Random r, int sections) {
+        float coeffs[] = new float[sections * 5];
+        for (int s = 0; s < sections; s++) {
+            double radius = 0.5 + r.nextDouble() * 0.45;
+            double angle = r.nextDouble() * Math.PI;
+            double gain = (1.0 - radius) * (1.0 - radius);
+            coeffs[s * 5 + 0] = (float)(gain * r.nextDouble());
+            coeffs[s * 5 + 1] = (float)(gain * r.nextDouble());
+            coeffs[s * 5 + 2] = (float)(gain * r.nextDouble());
+            coeffs[s * 5 + 3] = (float)(-2.0 * radius * Math.cos(angle));
+            coeffs[s * 5 + 4] = (float)(radius * radius);
+        }
+        return coeffs;
+    }
+
+    private static float[][] signal(Random r, int channels) {
+        float x[][] = new float[channels][DATA_SIZE];
+        for (int c = 0; c < channels; c++)
+            for (int n = 0; n < DATA_SIZE; n++)
+                x[c][n] = r.nextFloat() * 2.0f - 1.0f;
+        return x;
+    }
+
+    private static double[][] filter(float coeffs[], float x[][]) {
+        double y[][] = new double[x.length][];
+        for (int c = 0; c < x.length; c++) {
+            double v[] = new double[x[c].length];
+            for (int n = 0; n < v.length; n++)
+                v[n] = x[c][n];
+            for (int s = 0; s < coeffs.length / 5; s++) {
+                double s1 = 0.0;
+                double s2 = 0.0;
+                for (int n = 0; n < v.length; n++) {
+                    double in = v[n];
+                    double out = coeffs[s * 5 + 0] * in + s1;
+                    s1 = coeffs[s * 5 + 1] * in - coeffs[s * 5 + 3] * out + s2;
+                    s2 = coeffs[s * 5 + 2] * in - coeffs[s * 5 + 4] * out;
+                    v[n] = out;
+                }
+            }
+            y[c] = v;
+        }
+        return y;
+    }
+}
@@ -0,0 +1,173 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+import vectorapi.VOVec;
+import vectorapi.VOVecBound;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Bound operations must give exactly the same results as {@link VOVec}.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class BoundTests {
+    private static final int DATA_SIZE = 65536;
+    private static final int MAX_OFFSET = 1;
+
+    private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        for (int size : new int[] { 1, PFS.length() / 2 - 1, PFS.length() / 2, PFS.length() - 1, PFS.length(), PFS.length() + 1, PFS.length() * 2 + 1, DATA_SIZE }) {
+            if (size == 0)
+                continue;
+            rv.add(Arguments.of(size, 0));
+            rv.add(Arguments.of(size, 1));
+        }
+        return rv.stream();
+    }
+
+    private static float cvx[];
+    private static float cs[];
+
+    @BeforeAll
+    public static void Setup() {
+        cvx = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++)
+            cvx[i] = (float)(Math.random() * 2.0 - 1.0);
+        cs = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+    }
+
+    @ParameterizedTest(name = "cv_add_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.cv_add_cs(z1, 0, cvx, offset, cs, size);
+        VOVecBound.bindAddCs(cs).apply(z2, 0, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+
+        z1 = cvx.clone();
+        z2 = cvx.clone();
+        VOVec.cv_add_cs_i(z1, offset, cs, size);
+        VOVecBound.bindAddCs(cs).apply_i(z2, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.cv_sub_cs(z1, 0, cvx, offset, cs, size);
+        VOVecBound.bindSubCs(cs).apply(z2, 0, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+
+        z1 = cvx.clone();
+        z2 = cvx.clone();
+        VOVec.cv_sub_cs_i(z1, offset, cs, size);
+        VOVecBound.bindSubCs(cs).apply_i(z2, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "cs_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_sub_cv(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.cs_sub_cv(z1, 0, cs, cvx, offset, size);
+        VOVecBound.bindCsSub(cs).apply(z2, 0, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.cv_mul_cs(z1, 0, cvx, offset, cs, size);
+        VOVecBound.bindMulCs(cs).apply(z2, 0, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+
+        z1 = cvx.clone();
+        z2 = cvx.clone();
+        VOVec.cv_mul_cs_i(z1, offset, cs, size);
+        VOVecBound.bindMulCs(cs).apply_i(z2, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.cv_div_cs(z1, 0, cvx, offset, cs, size);
+        VOVecBound.bindDivCs(cs).apply(z2, 0, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+
+        z1 = cvx.clone();
+        z2 = cvx.clone();
+        VOVec.cv_div_cs_i(z1, offset, cs, size);
+        VOVecBound.bindDivCs(cs).apply_i(z2, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "cs_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_div_cv(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.cs_div_cv(z1, 0, cs, cvx, offset, size);
+        VOVecBound.bindCsDiv(cs).apply(z2, 0, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "bound_copy({0}, {1})")
+    @MethodSource("params")
+    public void Test_bound_copy(int size, int offset) {
+        // Scalar is copied by bind, later changes are not seen
+        float y[] = cs.clone();
+        VOVecBound.CvMulCs op = VOVecBound.bindMulCs(y);
+        y[0] += 1.0f;
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.cv_mul_cs(z1, 0, cvx, offset, cs, size);
+        op.apply(z2, 0, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+}
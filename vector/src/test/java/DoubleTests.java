@@ -0,0 +1,3319 @@
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\
+!! THIS FILE IS GENERATED WITH genTests.pl SCRIPT. DO NOT EDIT! !!
+\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+import vectorapi.VOd;
+import vectorapi.VOVecd;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class DoubleTests {
+    private static final double EPSILON = 0.0001;
+    private static final double EPSILON_APPROX = 0.0001;
+    // FastTrig.atan2() max error is 0.002 and vectorized one is much more precise
+    private static final double EPSILON_FAST = 0.0025;
+    // FastTrig.cos() and FastTrig.sin() max error is 0.0015 and exp() of test data is up to e
+    private static final double EPSILON_FAST_EXP = 0.005;
+    // Fast 10log10() and 20log10() are precise enough for display, to 0.01 dB
+    private static final double EPSILON_FAST_DB = 0.01;
+
+    private static final int DATA_SIZE = 65536;
+    private static final int MAX_OFFSET = 1;
+
+    private final static VectorSpecies<Double> PFS = DoubleVector.SPECIES_PREFERRED;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        rv.add(Arguments.of(1, 0));
+        rv.add(Arguments.of(1, 1));
+        // Vectors of two elements (doubles on 128-bit hardware) have no such size
+        if (PFS.length() / 2 - 1 > 0) {
+            rv.add(Arguments.of(PFS.length() / 2 - 1, 0));
+            rv.add(Arguments.of(PFS.length() / 2 - 1, 1));
+        }
+        rv.add(Arguments.of(PFS.length() / 2, 0));
+        rv.add(Arguments.of(PFS.length() / 2, 1));
+        rv.add(Arguments.of(PFS.length() - 1, 0));
+        rv.add(Arguments.of(PFS.length() - 1, 1));
+        rv.add(Arguments.of(PFS.length(), 0));
+        rv.add(Arguments.of(PFS.length(), 1));
+        rv.add(Arguments.of(PFS.length() + 1, 0));
+        rv.add(Arguments.of(PFS.length() + 1, 1));
+        rv.add(Arguments.of(PFS.length() * 2, 0));
+        rv.add(Arguments.of(PFS.length() * 2, 1));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 0));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 1));
+        rv.add(Arguments.of(DATA_SIZE, 0));
+        rv.add(Arguments.of(DATA_SIZE, 1));
+        return rv.stream();
+    }
+
+    private static double rvx[];
+    private static double rvy[];
+    private static double rvz[];
+
+    private static double cvx[];
+    private static double cvy[];
+    private static double cvz[];
+
+    private static double rsx;
+    private static double rsy;
+    private static double rsz;
+
+    private static double csx[];
+    private static double csy[];
+    private static double csz[];
+
+    @BeforeAll
+    public static void Setup() {
+        rvx = new double[DATA_SIZE + MAX_OFFSET];
+        rvy = new double[DATA_SIZE + MAX_OFFSET];
+        rvz = new double[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvx.length; i++) {
+            rvx[i] = Math.random() * 2.0 - 1.0;
+            rvy[i] = Math.random() * 2.0 - 1.0;
+            rvz[i] = Math.random() * 2.0 - 1.0;
+        }
+
+        cvx = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvz = new double[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = Math.random() * 2.0 - 1.0;
+            cvy[i] = Math.random() * 2.0 - 1.0;
+            cvz[i] = Math.random() * 2.0 - 1.0;
+        }
+
+        rsx = Math.random() * 2.0 - 1.0;
+        rsy = Math.random() * 2.0 - 1.0;
+        rsz = Math.random() * 2.0 - 1.0;
+
+        csx = new double[] { Math.random() * 2.0 - 1.0, Math.random() * 2.0 - 1.0 };
+        csy = new double[] { Math.random() * 2.0 - 1.0, Math.random() * 2.0 - 1.0 };
+        csz = new double[] { Math.random() * 2.0 - 1.0, Math.random() * 2.0 - 1.0 };
+    }
+
+
+    @ParameterizedTest(name = "cs_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_div_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cs_div_cv(cvz1, 0, csx, cvy, offset, size);
+        VOVecd.cs_div_cv(cvz2, 0, csx, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cs_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_div_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cs_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cs_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cs_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_sub_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cs_sub_cv(cvz1, 0, csx, cvy, offset, size);
+        VOVecd.cs_sub_cv(cvz2, 0, csx, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cs_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_sub_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cs_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cs_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_10log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_10log10(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_10log10(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_10log10_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecd.cv_10log10_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_10log10_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.cv_10log10_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_10log10_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_10log10_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_20log10(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_20log10(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_f(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_20log10_f(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_20log10_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_fw(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_20log10_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_20log10_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_20log10_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecd.cv_20log10_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_20log10_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.cv_20log10_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_20log10_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_20log10_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_abs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_abs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_abs(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_abs(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_abs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_abs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_abs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_abs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_add_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecd.cv_add_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_add_cs_i(cvz1, offset, csx, size);
+        VOVecd.cv_add_cs_i(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_add_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVecd.cv_add_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_add_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecd.cv_add_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_add_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_add_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_add_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_add_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_add_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_add_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_add_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_add_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_add_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecd.cv_add_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_add_rs_i(cvz1, offset, rsx, size);
+        VOVecd.cv_add_rs_i(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_add_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecd.cv_add_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_add_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.cv_add_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_add_rv(cvz1, 0, cvx, offset, rvy, offset, size);
+        VOVecd.cv_add_rv(cvz2, 0, cvx, offset, rvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_add_rv_i(cvz1, offset, rvx, offset, size);
+        VOVecd.cv_add_rv_i(cvz2, offset, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_add_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_add_rv_iw(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_add_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_add_rv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_arg({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_arg(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_arg(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_arg_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_f(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_arg_f(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_arg_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_arg_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_fw(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_arg_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_arg_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_arg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_arg_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_arg_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_argmul_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecd.cv_argmul_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_f(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_argmul_rs_f(cvz1, 0, cvx, offset, rsy, size);
+        VOVecd.cv_argmul_rs_f(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_fw(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_argmul_rs_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.cv_argmul_rs_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_argmul_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.cv_argmul_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_conj(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_conj(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_conj_i(cvz1, offset, size);
+        VOVecd.cv_conj_i(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_conj_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.cv_conj_iw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_conj_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_conj_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_conjmul_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_conjmul_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_conjmul_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_conjmul_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_conjmul_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_conjmul_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_conjmul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_conjmul_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cpy({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cpy(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cpy(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_cpy(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cpy_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cpy_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cpy_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_cpy_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cs_lin_cv_cs(cvz1, 0, cvx, offset, csx, cvy, offset, csy, size);
+        VOVecd.cv_cs_lin_cv_cs(cvz2, 0, cvx, offset, csx, cvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_cs_lin_cv_cs_i(cvz1, offset, csz, cvx, offset, csx, size);
+        VOVecd.cv_cs_lin_cv_cs_i(cvz2, offset, csz, cvx, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_cs_lin_cv_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, cvx, DATA_SIZE - size / 3 + offset, csx, size);
+        VOVecd.cv_cs_lin_cv_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csz, cvx, DATA_SIZE - size / 3 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cs_lin_cv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVecd.cv_cs_lin_cv_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cs_lin_cv_rs(cvz1, 0, cvx, offset, csx, cvy, offset, rsy, size);
+        VOVecd.cv_cs_lin_cv_rs(cvz2, 0, cvx, offset, csx, cvy, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_cs_lin_cv_rs_i(cvz1, offset, csz, cvx, offset, rsx, size);
+        VOVecd.cv_cs_lin_cv_rs_i(cvz2, offset, csz, cvx, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_cs_lin_cv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecd.cv_cs_lin_cv_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, csz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cs_lin_cv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecd.cv_cs_lin_cv_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cs_lin_rv_cs(cvz1, 0, cvx, offset, csx, rvy, offset, csy, size);
+        VOVecd.cv_cs_lin_rv_cs(cvz2, 0, cvx, offset, csx, rvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_cs_lin_rv_cs_i(cvz1, offset, csz, rvx, offset, csx, size);
+        VOVecd.cv_cs_lin_rv_cs_i(cvz2, offset, csz, rvx, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_cs_lin_rv_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, rvx, DATA_SIZE - size / 3 + offset, csx, size);
+        VOVecd.cv_cs_lin_rv_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csz, rvx, DATA_SIZE - size / 3 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVecd.cv_cs_lin_rv_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cs_lin_rv_rs(cvz1, 0, cvx, offset, csx, rvy, offset, rsy, size);
+        VOVecd.cv_cs_lin_rv_rs(cvz2, 0, cvx, offset, csx, rvy, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_cs_lin_rv_rs_i(cvz1, offset, csz, rvx, offset, rsx, size);
+        VOVecd.cv_cs_lin_rv_rs_i(cvz2, offset, csz, rvx, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_cs_lin_rv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecd.cv_cs_lin_rv_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, csz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_cs_lin_rv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecd.cv_cs_lin_rv_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_div_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecd.cv_div_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_div_cs_i(cvz1, offset, csx, size);
+        VOVecd.cv_div_cs_i(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_div_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVecd.cv_div_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_div_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecd.cv_div_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_div_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_div_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_div_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_div_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_div_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_div_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_div_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecd.cv_div_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_div_rs_i(cvz1, offset, rsx, size);
+        VOVecd.cv_div_rs_i(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_div_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecd.cv_div_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_div_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.cv_div_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_div_rv(cvz1, 0, cvx, offset, rvy, offset, size);
+        VOVecd.cv_div_rv(cvz2, 0, cvx, offset, rvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_div_rv_i(cvz1, offset, rvx, offset, size);
+        VOVecd.cv_div_rv_i(cvz2, offset, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_div_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_div_rv_iw(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_div_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_div_rv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_dot_cv(csz1, cvx, offset, cvy, offset, size);
+        VOVecd.cv_dot_cv(csz2, cvx, offset, cvy, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_zoffset(int size, int offset) {
+        double csz1[] = new double[6];
+        double csz2[] = new double[6];
+        VOd.cv_dot_cv(csz1, 1, cvx, offset, cvy, offset, size);
+        VOVecd.cv_dot_cv(csz2, 1, cvx, offset, cvy, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_w(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_dot_cv_w(csz1, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_dot_cv_w(csz2, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_w_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_w_zoffset(int size, int offset) {
+        double csz1[] = new double[6];
+        double csz2[] = new double[6];
+        VOd.cv_dot_cv_w(csz1, 1, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_dot_cv_w(csz2, 1, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_rv_w(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_dot_rv_w(csz1, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_dot_rv_w(csz2, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_rv_w_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_rv_w_zoffset(int size, int offset) {
+        double csz1[] = new double[6];
+        double csz2[] = new double[6];
+        VOd.cv_dot_rv_w(csz1, 1, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_dot_rv_w(csz2, 1, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_exp({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_exp(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_exp(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_f(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_exp_f(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_exp_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_fw(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_exp_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_exp_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_exp_i(cvz1, offset, size);
+        VOVecd.cv_exp_i(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_if(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_exp_if(cvz1, offset, size);
+        VOVecd.cv_exp_if(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_ifw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_exp_ifw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.cv_exp_ifw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_exp_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.cv_exp_iw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_exp_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_exp_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_im({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_im(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.cv_im(rvz1, 0, cvx, offset, size);
+        VOVecd.cv_im(rvz2, 0, cvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_im_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_im_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.cv_im_w(rvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_im_w(rvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_max(csz1, cvx, offset, size);
+        VOVecd.cv_max(csz2, cvx, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_max_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_max_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_max_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_max_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_max_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_max_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_max_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_max_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_w(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_max_w(csz1, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_max_w(csz2, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_maxarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg(int size, int offset) {
+        int intz1 = VOd.cv_maxarg(cvx, offset, size);
+        int intz2 = VOVecd.cv_maxarg(cvx, offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "cv_maxarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg_w(int size, int offset) {
+        int intz1 = VOd.cv_maxarg_w(cvx, DATA_SIZE - size / 3 + offset, size);
+        int intz2 = VOVecd.cv_maxarg_w(cvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "cv_min({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_min(csz1, cvx, offset, size);
+        VOVecd.cv_min(csz2, cvx, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_min_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_min_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_min_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_min_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_min_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_min_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_min_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_min_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_w(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_min_w(csz1, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_min_w(csz2, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_minarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_minarg(int size, int offset) {
+        int intz1 = VOd.cv_minarg(cvx, offset, size);
+        int intz2 = VOVecd.cv_minarg(cvx, offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "cv_minarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_minarg_w(int size, int offset) {
+        int intz1 = VOd.cv_minarg_w(cvx, DATA_SIZE - size / 3 + offset, size);
+        int intz2 = VOVecd.cv_minarg_w(cvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecd.cv_mul_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_cs_i(cvz1, offset, csx, size);
+        VOVecd.cv_mul_cs_i(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVecd.cv_mul_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecd.cv_mul_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_mul_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_mul_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_mul_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_mul_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecd.cv_mul_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_rs_i(cvz1, offset, rsx, size);
+        VOVecd.cv_mul_rs_i(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecd.cv_mul_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.cv_mul_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_rv(cvz1, 0, cvx, offset, rvy, offset, size);
+        VOVecd.cv_mul_rv(cvz2, 0, cvx, offset, rvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_rv_i(cvz1, offset, rvx, offset, size);
+        VOVecd.cv_mul_rv_i(cvz2, offset, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_mul_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_mul_rv_iw(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_mul_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_mul_rv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_p2r(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_p2r(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_p2r_i(cvz1, offset, size);
+        VOVecd.cv_p2r_i(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_p2r_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.cv_p2r_iw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_p2r_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_p2r_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_r2p(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_r2p(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_f(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_r2p_f(cvz1, 0, cvx, offset, size);
+        VOVecd.cv_r2p_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_fw(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_r2p_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_r2p_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_r2p_i(cvz1, offset, size);
+        VOVecd.cv_r2p_i(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_if(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_r2p_if(cvz1, offset, size);
+        VOVecd.cv_r2p_if(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_ifw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_r2p_ifw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.cv_r2p_ifw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_r2p_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.cv_r2p_iw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_r2p_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_r2p_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_re({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_re(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.cv_re(rvz1, 0, cvx, offset, size);
+        VOVecd.cv_re(rvz2, 0, cvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_re_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_re_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.cv_re_w(rvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_re_w(rvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_rs_lin_cv_rs(cvz1, 0, cvx, offset, rsx, cvy, offset, rsy, size);
+        VOVecd.cv_rs_lin_cv_rs(cvz2, 0, cvx, offset, rsx, cvy, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_rs_lin_cv_rs_i(cvz1, offset, rsz, cvx, offset, rsx, size);
+        VOVecd.cv_rs_lin_cv_rs_i(cvz2, offset, rsz, cvx, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_rs_lin_cv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecd.cv_rs_lin_cv_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_rs_lin_cv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecd.cv_rs_lin_cv_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_rs_lin_rv_cs(cvz1, 0, cvx, offset, rsx, rvy, offset, csy, size);
+        VOVecd.cv_rs_lin_rv_cs(cvz2, 0, cvx, offset, rsx, rvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_rs_lin_rv_cs_i(cvz1, offset, rsz, rvx, offset, csx, size);
+        VOVecd.cv_rs_lin_rv_cs_i(cvz2, offset, rsz, rvx, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_rs_lin_rv_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, csx, size);
+        VOVecd.cv_rs_lin_rv_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_rs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVecd.cv_rs_lin_rv_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_rs_lin_rv_rs(cvz1, 0, cvx, offset, rsx, rvy, offset, rsy, size);
+        VOVecd.cv_rs_lin_rv_rs(cvz2, 0, cvx, offset, rsx, rvy, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_rs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_rs_lin_rv_rs_i(cvz1, offset, rsz, rvx, offset, rsx, size);
+        VOVecd.cv_rs_lin_rv_rs_i(cvz2, offset, rsz, rvx, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_rs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOd.cv_rs_lin_rv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecd.cv_rs_lin_rv_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_rs_lin_rv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecd.cv_rs_lin_rv_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_sub_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecd.cv_sub_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_sub_cs_i(cvz1, offset, csx, size);
+        VOVecd.cv_sub_cs_i(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_sub_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVecd.cv_sub_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_sub_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecd.cv_sub_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_sub_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecd.cv_sub_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_sub_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecd.cv_sub_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_sub_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_sub_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_sub_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecd.cv_sub_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_sub_rs_i(cvz1, offset, rsx, size);
+        VOVecd.cv_sub_rs_i(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_sub_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecd.cv_sub_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_sub_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.cv_sub_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_sub_rv(cvz1, 0, cvx, offset, rvy, offset, size);
+        VOVecd.cv_sub_rv(cvz2, 0, cvx, offset, rvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv_i(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_sub_rv_i(cvz1, offset, rvx, offset, size);
+        VOVecd.cv_sub_rv_i(cvz2, offset, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv_iw(int size, int offset) {
+        double cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        double cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOd.cv_sub_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_sub_rv_iw(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.cv_sub_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.cv_sub_rv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sum({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_sum(csz1, cvx, offset, size);
+        VOVecd.cv_sum(csz2, cvx, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_sum_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum_w(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.cv_sum_w(csz1, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.cv_sum_w(csz2, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rs_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rs_div_cv(cvz1, 0, rsx, cvy, offset, size);
+        VOVecd.rs_div_cv(cvz2, 0, rsx, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rs_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rs_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_div_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rs_div_rv(rvz1, 0, rsx, rvy, offset, size);
+        VOVecd.rs_div_rv(rvz2, 0, rsx, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_rv_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rs_div_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rs_div_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rs_sub_cv(cvz1, 0, rsx, cvy, offset, size);
+        VOVecd.rs_sub_cv(cvz2, 0, rsx, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rs_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rs_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rs_sub_rv(rvz1, 0, rsx, rvy, offset, size);
+        VOVecd.rs_sub_rv(rvz2, 0, rsx, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_rv_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rs_sub_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rs_sub_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_10log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_10log10(rvz1, 0, rvx, offset, size);
+        VOVecd.rv_10log10(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_f(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_10log10_f(rvz1, 0, rvx, offset, size);
+        VOVecd.rv_10log10_f(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_fw(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_10log10_fw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_10log10_fw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_10log10_i(rvz1, offset, size);
+        VOVecd.rv_10log10_i(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_if(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_10log10_if(rvz1, offset, size);
+        VOVecd.rv_10log10_if(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_ifw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_10log10_ifw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.rv_10log10_ifw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_10log10_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.rv_10log10_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_10log10_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecd.rv_10log10_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_10log10_rs_i(rvz1, offset, rsx, size);
+        VOVecd.rv_10log10_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_10log10_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecd.rv_10log10_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_10log10_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.rv_10log10_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_10log10_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_10log10_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_20log10(rvz1, 0, rvx, offset, size);
+        VOVecd.rv_20log10(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_20log10_i(rvz1, offset, size);
+        VOVecd.rv_20log10_i(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_20log10_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.rv_20log10_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_20log10_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecd.rv_20log10_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_20log10_rs_i(rvz1, offset, rsx, size);
+        VOVecd.rv_20log10_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_20log10_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecd.rv_20log10_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_20log10_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.rv_20log10_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_20log10_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_20log10_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_abs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_abs(rvz1, 0, rvx, offset, size);
+        VOVecd.rv_abs(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_abs_i(rvz1, offset, size);
+        VOVecd.rv_abs_i(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_abs_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.rv_abs_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_abs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_abs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_add_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecd.rv_add_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_add_rs_i(rvz1, offset, rsx, size);
+        VOVecd.rv_add_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_add_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecd.rv_add_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_add_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.rv_add_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_add_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecd.rv_add_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_add_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecd.rv_add_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_add_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_add_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_add_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_add_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_conjmul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_conjmul_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_conjmul_cv(cvz1, 0, rvx, offset, cvy, offset, size);
+        VOVecd.rv_conjmul_cv(cvz2, 0, rvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_conjmul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_conjmul_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_conjmul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_conjmul_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cpy({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cpy(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_cpy(rvz1, 0, rvx, offset, size);
+        VOVecd.rv_cpy(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cpy_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cpy_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_cpy_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_cpy_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cs_lin_rv_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_cs_lin_rv_cs(cvz1, 0, rvx, offset, csx, rvy, offset, csy, size);
+        VOVecd.rv_cs_lin_rv_cs(cvz2, 0, rvx, offset, csx, rvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cs_lin_rv_cs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_cs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVecd.rv_cs_lin_rv_cs_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cvt({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cvt(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_cvt(cvz1, 0, rvx, offset, size);
+        VOVecd.rv_cvt(cvz2, 0, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cvt_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cvt_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_cvt_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_cvt_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_div_cv(cvz1, 0, rvx, offset, cvy, offset, size);
+        VOVecd.rv_div_cv(cvz2, 0, rvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_div_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecd.rv_div_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_div_rs_i(rvz1, offset, rsx, size);
+        VOVecd.rv_div_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_div_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecd.rv_div_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_div_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.rv_div_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_div_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecd.rv_div_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_div_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecd.rv_div_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_div_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_div_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_div_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_div_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.rv_dot_cv(csz1, rvx, offset, cvy, offset, size);
+        VOVecd.rv_dot_cv(csz2, rvx, offset, cvy, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_zoffset(int size, int offset) {
+        double csz1[] = new double[6];
+        double csz2[] = new double[6];
+        VOd.rv_dot_cv(csz1, 1, rvx, offset, cvy, offset, size);
+        VOVecd.rv_dot_cv(csz2, 1, rvx, offset, cvy, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_w(int size, int offset) {
+        double csz1[] = new double[2];
+        double csz2[] = new double[2];
+        VOd.rv_dot_cv_w(csz1, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_dot_cv_w(csz2, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_w_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_w_zoffset(int size, int offset) {
+        double csz1[] = new double[6];
+        double csz2[] = new double[6];
+        VOd.rv_dot_cv_w(csz1, 1, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_dot_cv_w(csz2, 1, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv(int size, int offset) {
+        double rsz1 = VOd.rv_dot_rv(rvx, offset, rvy, offset, size);
+        double rsz2 = VOVecd.rv_dot_rv(rvx, offset, rvy, offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv_w(int size, int offset) {
+        double rsz1 = VOd.rv_dot_rv_w(rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        double rsz2 = VOVecd.rv_dot_rv_w(rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_exp({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_exp(rvz1, 0, rvx, offset, size);
+        VOVecd.rv_exp(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_exp_i(rvz1, offset, size);
+        VOVecd.rv_exp_i(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_exp_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecd.rv_exp_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_exp_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_exp_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_expi({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_expi(cvz1, 0, rvx, offset, size);
+        VOVecd.rv_expi(cvz2, 0, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_expi_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_f(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_expi_f(cvz1, 0, rvx, offset, size);
+        VOVecd.rv_expi_f(cvz2, 0, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "rv_expi_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_fw(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_expi_fw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_expi_fw(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "rv_expi_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_expi_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_expi_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max(int size, int offset) {
+        double rsz1 = VOd.rv_max(rvx, offset, size);
+        double rsz2 = VOVecd.rv_max(rvx, offset, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_max_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecd.rv_max_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_max_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecd.rv_max_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_max_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_max_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_max_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_max_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_w(int size, int offset) {
+        double rsz1 = VOd.rv_max_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        double rsz2 = VOVecd.rv_max_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_maxarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg(int size, int offset) {
+        int intz1 = VOd.rv_maxarg(rvx, offset, size);
+        int intz2 = VOVecd.rv_maxarg(rvx, offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "rv_maxarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg_w(int size, int offset) {
+        int intz1 = VOd.rv_maxarg_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        int intz2 = VOVecd.rv_maxarg_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "rv_min({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min(int size, int offset) {
+        double rsz1 = VOd.rv_min(rvx, offset, size);
+        double rsz2 = VOVecd.rv_min(rvx, offset, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_min_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecd.rv_min_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_min_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecd.rv_min_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_min_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_min_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_min_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_min_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_w(int size, int offset) {
+        double rsz1 = VOd.rv_min_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        double rsz2 = VOVecd.rv_min_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_minarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_minarg(int size, int offset) {
+        int intz1 = VOd.rv_minarg(rvx, offset, size);
+        int intz2 = VOVecd.rv_minarg(rvx, offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "rv_minarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_minarg_w(int size, int offset) {
+        int intz1 = VOd.rv_minarg_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        int intz2 = VOVecd.rv_minarg_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_mul_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecd.rv_mul_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_mul_rs_i(rvz1, offset, rsx, size);
+        VOVecd.rv_mul_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_mul_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecd.rv_mul_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_mul_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.rv_mul_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_mul_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecd.rv_mul_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_mul_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecd.rv_mul_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_mul_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_mul_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_mul_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_mul_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_cs(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_rs_lin_rv_cs(cvz1, 0, rvx, offset, rsx, rvy, offset, csy, size);
+        VOVecd.rv_rs_lin_rv_cs(cvz2, 0, rvx, offset, rsx, rvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_cs_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_rs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVecd.rv_rs_lin_rv_cs_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_rs_lin_rv_rs(rvz1, 0, rvx, offset, rsx, rvy, offset, rsy, size);
+        VOVecd.rv_rs_lin_rv_rs(rvz2, 0, rvx, offset, rsx, rvy, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_rs_lin_rv_rs_i(rvz1, offset, rsz, rvx, offset, rsx, size);
+        VOVecd.rv_rs_lin_rv_rs_i(rvz2, offset, rsz, rvx, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOd.rv_rs_lin_rv_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecd.rv_rs_lin_rv_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_rs_lin_rv_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecd.rv_rs_lin_rv_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_cv(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_sub_cv(cvz1, 0, rvx, offset, cvy, offset, size);
+        VOVecd.rv_sub_cv(cvz2, 0, rvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_cv_w(int size, int offset) {
+        double cvz1[] = new double[cvz.length];
+        double cvz2[] = new double[cvz.length];
+        VOd.rv_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_sub_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecd.rv_sub_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_sub_rs_i(rvz1, offset, rsx, size);
+        VOVecd.rv_sub_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_sub_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecd.rv_sub_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_sub_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecd.rv_sub_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_sub_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecd.rv_sub_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_i(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_sub_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecd.rv_sub_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_iw(int size, int offset) {
+        double rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        double rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOd.rv_sub_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecd.rv_sub_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_w(int size, int offset) {
+        double rvz1[] = new double[rvz.length];
+        double rvz2[] = new double[rvz.length];
+        VOd.rv_sub_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecd.rv_sub_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sum({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum(int size, int offset) {
+        double rsz1 = VOd.rv_sum(rvx, offset, size);
+        double rsz2 = VOVecd.rv_sum(rvx, offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_sum_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum_w(int size, int offset) {
+        double rsz1 = VOd.rv_sum_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        double rsz2 = VOVecd.rv_sum_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
+    // Worst-case error of summation of n terms is n * u * sum(|term|), but for random data it is
+    // about u * sum(|term|) for any order of summation, so it is checked with log2(n) margin
+    private static double drift(int n, double abs) {
+        return (32 - Integer.numberOfLeadingZeros(n) + 4) * 0x1.0p-53 * abs;
+    }
+
+    @ParameterizedTest(name = "rv_sum_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum_drift(int size, int offset) {
+        double exact = 0.0;
+        double abs = 0.0;
+        for (int i = offset; i < offset + size; i++) {
+            exact += rvx[i];
+            abs += Math.abs(rvx[i]);
+        }
+        assertEquals(exact, VOVecd.rv_sum(rvx, offset, size), drift(size, abs));
+    }
+
+    @ParameterizedTest(name = "rv_dot_rv_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv_drift(int size, int offset) {
+        double exact = 0.0;
+        double abs = 0.0;
+        for (int i = offset; i < offset + size; i++) {
+            exact += rvx[i] * rvy[i];
+            abs += Math.abs(rvx[i] * rvy[i]);
+        }
+        assertEquals(exact, VOVecd.rv_dot_rv(rvx, offset, rvy, offset, size), drift(size, abs));
+    }
+
+    @ParameterizedTest(name = "cv_sum_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs[] = new double[2];
+        for (int i = offset * 2; i < (offset + size) * 2; i++) {
+            exact[i % 2] += cvx[i];
+            abs[i % 2] += Math.abs(cvx[i]);
+        }
+        double z[] = new double[2];
+        VOVecd.cv_sum(z, cvx, offset, size);
+        assertEquals(exact[0], z[0], drift(size, abs[0]));
+        assertEquals(exact[1], z[1], drift(size, abs[1]));
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs[] = new double[2];
+        for (int i = offset; i < offset + size; i++) {
+            exact[0] += rvx[i] * cvy[i * 2 + 0];
+            exact[1] += rvx[i] * cvy[i * 2 + 1];
+            abs[0] += Math.abs(rvx[i] * cvy[i * 2 + 0]);
+            abs[1] += Math.abs(rvx[i] * cvy[i * 2 + 1]);
+        }
+        double z[] = new double[2];
+        VOVecd.rv_dot_cv(z, rvx, offset, cvy, offset, size);
+        assertEquals(exact[0], z[0], drift(size, abs[0]));
+        assertEquals(exact[1], z[1], drift(size, abs[1]));
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs = 0.0;
+        for (int i = offset * 2; i < (offset + size) * 2; i += 2) {
+            exact[0] += cvx[i + 0] * cvy[i + 0] - cvx[i + 1] * cvy[i + 1];
+            exact[1] += cvx[i + 0] * cvy[i + 1] + cvx[i + 1] * cvy[i + 0];
+            // Scalar tail uses 3-multiplication form, which is bounded by this too
+            abs += (Math.abs(cvx[i + 0]) + Math.abs(cvx[i + 1])) * (Math.abs(cvy[i + 0]) + Math.abs(cvy[i + 1]));
+        }
+        double z[] = new double[2];
+        VOVecd.cv_dot_cv(z, cvx, offset, cvy, offset, size);
+        assertEquals(exact[0], z[0], drift(size, abs));
+        assertEquals(exact[1], z[1], drift(size, abs));
+    }
+
+    @ParameterizedTest(name = "rv_maxarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg_ties(int size, int offset) {
+        double x[] = new double[rvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = Math.floor(rvx[i] * 2.0);
+        assertEquals(VOd.rv_maxarg(x, offset, size), VOVecd.rv_maxarg(x, offset, size));
+    }
+
+    @ParameterizedTest(name = "rv_minarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_minarg_ties(int size, int offset) {
+        double x[] = new double[rvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = Math.floor(rvx[i] * 2.0);
+        assertEquals(VOd.rv_minarg(x, offset, size), VOVecd.rv_minarg(x, offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_maxarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg_ties(int size, int offset) {
+        double x[] = new double[cvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = Math.floor(cvx[i] * 2.0);
+        assertEquals(VOd.cv_maxarg(x, offset, size), VOVecd.cv_maxarg(x, offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_minarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_minarg_ties(int size, int offset) {
+        double x[] = new double[cvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = Math.floor(cvx[i] * 2.0);
+        assertEquals(VOd.cv_minarg(x, offset, size), VOVecd.cv_minarg(x, offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_iw_odd({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_iw_odd(int size, int offset) {
+        double x[] = new double[cvz.length - 1];
+        assertThrows(IllegalArgumentException.class, () -> VOVecd.cv_add_rs_iw(x, x.length / 2 + offset, rsx, size));
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_w_odd({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_w_odd(int size, int offset) {
+        double x[] = new double[cvx.length - 1];
+        double z[] = new double[cvz.length];
+        assertThrows(IllegalArgumentException.class, () -> VOVecd.cv_add_cv_w(z, offset, x, x.length / 2 + offset, cvy, offset, size));
+    }
+
+    // Signed zeros, denormals and tiny normals of both signs as (re, im) pairs of all combinations
+    private static double[] specialCv() {
+        double v[] = { 0.0, -0.0, 1.4e-45, -1.4e-45, 1e-40, -1e-40, 1.2e-38, -1.2e-38, 1e-30, -1e-30, 1.0, -1.0 };
+        double x[] = new double[cvx.length];
+        for (int i = 0; i < x.length / 2; i++) {
+            x[i * 2 + 0] = v[i % v.length];
+            x[i * 2 + 1] = v[(i / v.length) % v.length];
+        }
+        return x;
+    }
+
+    @ParameterizedTest(name = "cv_arg_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_f_special(int size, int offset) {
+        double x[] = specialCv();
+        double z1[] = new double[rvz.length];
+        double z2[] = new double[rvz.length];
+        VOd.cv_arg_f(z1, offset, x, offset, size);
+        VOVecd.cv_arg_f(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_f_special(int size, int offset) {
+        double x[] = specialCv();
+        double z1[] = new double[rvz.length];
+        double z2[] = new double[rvz.length];
+        VOd.cv_argmul_rs_f(z1, offset, x, offset, rsx, size);
+        VOVecd.cv_argmul_rs_f(z2, offset, x, offset, rsx, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_f_special(int size, int offset) {
+        double x[] = specialCv();
+        double z1[] = new double[cvz.length];
+        double z2[] = new double[cvz.length];
+        VOd.cv_r2p_f(z1, offset, x, offset, size);
+        VOVecd.cv_r2p_f(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_special(int size, int offset) {
+        double x[] = specialCv();
+        double z1[] = new double[rvz.length];
+        double z2[] = new double[rvz.length];
+        VOd.rv_10log10(z1, offset, x, offset, size);
+        VOVecd.rv_10log10(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_f_special(int size, int offset) {
+        double x[] = specialCv();
+        double z1[] = new double[rvz.length];
+        double z2[] = new double[rvz.length];
+        VOd.rv_10log10_f(z1, offset, x, offset, size);
+        VOVecd.rv_10log10_f(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_i_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_i_special(int size, int offset) {
+        double z1[] = specialCv();
+        double z2[] = specialCv();
+        VOd.rv_10log10_i(z1, offset, size);
+        VOVecd.rv_10log10_i(z2, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_if_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_if_special(int size, int offset) {
+        double z1[] = specialCv();
+        double z2[] = specialCv();
+        VOd.rv_10log10_if(z1, offset, size);
+        VOVecd.rv_10log10_if(z2, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_special(int size, int offset) {
+        double x[] = specialCv();
+        double z1[] = new double[rvz.length];
+        double z2[] = new double[rvz.length];
+        VOd.rv_20log10(z1, offset, x, offset, size);
+        VOVecd.rv_20log10(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_i_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_i_special(int size, int offset) {
+        double z1[] = specialCv();
+        double z2[] = specialCv();
+        VOd.rv_20log10_i(z1, offset, size);
+        VOVecd.rv_20log10_i(z2, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_special(int size, int offset) {
+        double x[] = specialCv();
+        double z1[] = new double[rvz.length];
+        double z2[] = new double[rvz.length];
+        VOd.cv_10log10(z1, offset, x, offset, size);
+        VOVecd.cv_10log10(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_special(int size, int offset) {
+        double x[] = specialCv();
+        double z1[] = new double[rvz.length];
+        double z2[] = new double[rvz.length];
+        VOd.cv_20log10(z1, offset, x, offset, size);
+        VOVecd.cv_20log10(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_f_special(int size, int offset) {
+        double x[] = specialCv();
+        double z1[] = new double[rvz.length];
+        double z2[] = new double[rvz.length];
+        VOd.cv_20log10_f(z1, offset, x, offset, size);
+        VOVecd.cv_20log10_f(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
+}
\ No newline at end of file
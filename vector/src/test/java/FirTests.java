@@ -0,0 +1,175 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+import vectorapi.dsp.Fir;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * FIR filters are compared with direct convolution in {@code double}s,
+ * with signal fed in blocks of random sizes.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class FirTests {
+    // Longer than delay line of filter, to check moving of history
+    private static final int DATA_SIZE = 10000;
+    private static final int MAX_BLOCK = 700;
+    private static final float EPSILON_PER_TAP = 0.00001f;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        for (int taps : new int[] { 1, 3, 8, 17, 64, 301 })
+            for (int[] ratio : new int[][] { { 1, 1 }, { 1, 4 }, { 3, 1 }, { 3, 2 }, { 2, 5 } })
+                rv.add(Arguments.of(taps, ratio[0], ratio[1]));
+        return rv.stream();
+    }
+
+    @ParameterizedTest(name = "rvRv({0}, {1}/{2})")
+    @MethodSource("params")
+    public void Test_rvRv(int taps, int up, int down) {
+        Random r = new Random(taps * 100 + up * 10 + down);
+        float h[] = random(r, taps);
+        float x[] = random(r, DATA_SIZE);
+        check(r, Fir.rvRv(h, up, down), h, false, x, false, up, down);
+    }
+
+    @ParameterizedTest(name = "rvCv({0}, {1}/{2})")
+    @MethodSource("params")
+    public void Test_rvCv(int taps, int up, int down) {
+        Random r = new Random(taps * 100 + up * 10 + down);
+        float h[] = random(r, taps);
+        float x[] = random(r, DATA_SIZE * 2);
+        check(r, Fir.rvCv(h, up, down), h, false, x, true, up, down);
+    }
+
+    @ParameterizedTest(name = "cvRv({0}, {1}/{2})")
+    @MethodSource("params")
+    public void Test_cvRv(int taps, int up, int down) {
+        Random r = new Random(taps * 100 + up * 10 + down);
+        float h[] = random(r, taps * 2);
+        float x[] = random(r, DATA_SIZE);
+        check(r, Fir.cvRv(h, up, down), h, true, x, false, up, down);
+    }
+
+    @ParameterizedTest(name = "cvCv({0}, {1}/{2})")
+    @MethodSource("params")
+    public void Test_cvCv(int taps, int up, int down) {
+        Random r = new Random(taps * 100 + up * 10 + down);
+        float h[] = random(r, taps * 2);
+        float x[] = random(r, DATA_SIZE * 2);
+        check(r, Fir.cvCv(h, up, down), h, true, x, true, up, down);
+    }
+
+    @ParameterizedTest(name = "reset({0}, {1}/{2})")
+    @MethodSource("params")
+    public void Test_reset(int taps, int up, int down) {
+        Random r = new Random(taps * 100 + up * 10 + down);
+        float h[] = random(r, taps * 2);
+        float x[] = random(r, DATA_SIZE * 2);
+        Fir fir = Fir.cvCv(h, up, down);
+        float z1[] = new float[fir.maxOutput(DATA_SIZE) * 2];
+        float z2[] = new float[fir.maxOutput(DATA_SIZE) * 2];
+        int n1 = fir.apply(z1, 0, x, 0, DATA_SIZE);
+        fir.reset();
+        int n2 = fir.apply(z2, 0, x, 0, DATA_SIZE);
+        assertEquals(n1, n2);
+        assertArrayEquals(z1, z2);
+    }
+
+    private static void check(Random r, Fir fir, float h[], boolean complexTaps, float x[], boolean complexData, int up, int down) {
+        final int count = complexData ? x.length / 2 : x.length;
+        final boolean complexOut = complexTaps || complexData;
+        final double expected[] = convolve(h, complexTaps, x, complexData, count, up, down);
+        final int outputs = expected.length / 2;
+
+        float z[] = new float[(fir.maxOutput(count) + MAX_BLOCK) * 2];
+        int done = 0;
+        int stored = 0;
+        while (done < count) {
+            int block = Math.min(count - done, r.nextInt(MAX_BLOCK) + 1);
+            int n = fir.apply(z, stored, x, done, block);
+            assertTrue(n <= fir.maxOutput(block), "Too many outputs");
+            stored += n;
+            done += block;
+        }
+        assertEquals(outputs, stored);
+
+        final float epsilon = EPSILON_PER_TAP * h.length;
+        for (int i = 0; i < outputs; i++) {
+            if (complexOut) {
+                assertEquals((float)expected[i * 2 + 0], z[i * 2 + 0], epsilon, "Re of output " + i);
+                assertEquals((float)expected[i * 2 + 1], z[i * 2 + 1], epsilon, "Im of output " + i);
+            } else {
+                assertEquals((float)expected[i * 2 + 0], z[i], epsilon, "Output " + i);
+            }
+        }
+    }
+
+    // y[m] = sum(h[k] * u[m * down - k]), where u is x upsampled by inserting up - 1 zeroes after each sample
+    private static double[] convolve(float h[], boolean complexTaps, float x[], boolean complexData, int count, int up, int down) {
+        final int taps = complexTaps ? h.length / 2 : h.length;
+        final int outputs = (int)(((long)count * up + down - 1) / down);
+        final double y[] = new double[outputs * 2];
+        for (int m = 0; m < outputs; m++) {
+            double re = 0.0;
+            double im = 0.0;
+            for (int k = 0; k < taps; k++) {
+                final int f = m * down - k;
+                if (f < 0 || f % up != 0)
+                    continue;
+                final int n = f / up;
+                final double hre = complexTaps ? h[k * 2 + 0] : h[k];
+                final double him = complexTaps ? h[k * 2 + 1] : 0.0;
+                final double xre = complexData ? x[n * 2 + 0] : x[n];
+                final double xim = complexData ? x[n * 2 + 1] : 0.0;
+                re += hre * xre - him * xim;
+                im += hre * xim + him * xre;
+            }
+            y[m * 2 + 0] = re;
+            y[m * 2 + 1] = im;
+        }
+        return y;
+    }
+
+    private static float[] random(Random r, int size) {
+        float rv[] = new float[size];
+        for (int i = 0; i < size; i++)
+            rv[i] = r.nextFloat() * 2.0f - 1.0f;
+        return rv;
+    }
+}
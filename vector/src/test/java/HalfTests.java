@@ -0,0 +1,223 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+import vectorapi.VO;
+import vectorapi.VOVecHalf;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Half-precision kernels are checked against {@link Float#float16ToFloat(short)}
+ * and {@link Float#floatToFloat16(float)}, conversions must be exact.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class HalfTests {
+    // Fused kernels round result to half-precision once, and it could be other side of tie
+    private static final float EPSILON_HALF = 0x1.0p-10f;
+    private static final float EPSILON = 0.0001f;
+
+    private static final int DATA_SIZE = 65536;
+    private static final int MAX_OFFSET = 1;
+
+    private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        rv.add(Arguments.of(1, 0));
+        rv.add(Arguments.of(1, 1));
+        rv.add(Arguments.of(PFS.length() - 1, 0));
+        rv.add(Arguments.of(PFS.length() - 1, 1));
+        rv.add(Arguments.of(PFS.length(), 0));
+        rv.add(Arguments.of(PFS.length(), 1));
+        rv.add(Arguments.of(PFS.length() + 1, 0));
+        rv.add(Arguments.of(PFS.length() + 1, 1));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 0));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 1));
+        rv.add(Arguments.of(DATA_SIZE, 0));
+        rv.add(Arguments.of(DATA_SIZE, 1));
+        return rv.stream();
+    }
+
+    // All half-precision values
+    private static short hall[];
+    // Floats of all ranges: exact half-precision values, ties between them, overflows and underflows
+    private static float rvx[];
+    private static float cvx[];
+
+    @BeforeAll
+    public static void Setup() {
+        hall = new short[65536];
+        for (int i = 0; i < hall.length; i++)
+            hall[i] = (short)i;
+
+        rvx = new float[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvx.length; i++) {
+            switch (i % 4) {
+                // Any value, from far below subnormals to far above maximum
+                case 0 -> rvx[i] = (float)((Math.random() * 2.0 - 1.0) * Math.pow(2.0, Math.random() * 60.0 - 30.0));
+                // Exact value, NaNs are not, as payload is not kept
+                case 1 -> rvx[i] = Float.float16ToFloat((short)((int)(Math.random() * 0x7c01) | (i % 8 == 1 ? 0x8000 : 0)));
+                // Tie or near tie between two values
+                case 2 -> {
+                    final short h = (short)(Math.random() * 0x7bff);
+                    final float mid = (Float.float16ToFloat(h) + Float.float16ToFloat((short)(h + 1))) / 2;
+                    rvx[i] = (i % 8 == 2) ? mid : Math.nextAfter(mid, Math.random() < 0.5 ? 0.0 : Double.POSITIVE_INFINITY);
+                }
+                // Common values
+                default -> rvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            }
+        }
+
+        cvx = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++)
+            cvx[i] = (float)(Math.random() * 2.0 - 1.0);
+    }
+
+    @Test
+    public void Test_rv_load_h_all() {
+        float z[] = new float[hall.length];
+        VOVecHalf.rv_load_h(z, 0, hall, 0, hall.length);
+        for (int i = 0; i < hall.length; i++) {
+            final float e = Float.float16ToFloat(hall[i]);
+            if (Float.isNaN(e))
+                assertTrue(Float.isNaN(z[i]));
+            else
+                assertEquals(Float.floatToRawIntBits(e), Float.floatToRawIntBits(z[i]));
+        }
+    }
+
+    @Test
+    public void Test_rv_store_h_all() {
+        // Round trip for all not-NaN values
+        float x[] = new float[hall.length];
+        short z[] = new short[hall.length];
+        for (int i = 0; i < hall.length; i++)
+            x[i] = Float.float16ToFloat(hall[i]);
+        VOVecHalf.rv_store_h(z, 0, x, 0, x.length);
+        for (int i = 0; i < hall.length; i++) {
+            if (Float.isNaN(x[i]))
+                assertTrue(Float.isNaN(Float.float16ToFloat(z[i])));
+            else
+                assertEquals(hall[i], z[i]);
+        }
+    }
+
+    @ParameterizedTest(name = "rv_store_h({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_store_h(int size, int offset) {
+        short z[] = new short[rvx.length];
+        VOVecHalf.rv_store_h(z, 0, rvx, offset, size);
+        for (int i = 0; i < size; i++)
+            assertEquals(Float.floatToFloat16(rvx[offset + i]), z[i]);
+    }
+
+    @ParameterizedTest(name = "cv_store_h({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_store_h(int size, int offset) {
+        short z[] = new short[cvx.length];
+        VOVecHalf.cv_store_h(z, 0, cvx, offset, size);
+        for (int i = 0; i < size * 2; i++)
+            assertEquals(Float.floatToFloat16(cvx[offset * 2 + i]), z[i]);
+    }
+
+    @ParameterizedTest(name = "cv_load_h({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_load_h(int size, int offset) {
+        short x[] = new short[cvx.length];
+        float z[] = new float[cvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = Float.floatToFloat16(cvx[i]);
+        VOVecHalf.cv_load_h(z, 0, x, offset, size);
+        for (int i = 0; i < size * 2; i++)
+            assertEquals(Float.float16ToFloat(x[offset * 2 + i]), z[i]);
+    }
+
+    @ParameterizedTest(name = "cv_abs_h({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_abs_h(int size, int offset) {
+        float e[] = new float[size];
+        short z[] = new short[size];
+        VO.cv_abs(e, 0, cvx, offset, size);
+        VOVecHalf.cv_abs_h(z, 0, cvx, offset, size);
+        assertHalfEquals(e, z);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_h({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_h(int size, int offset) {
+        float e[] = new float[size];
+        short z[] = new short[size];
+        VO.rv_10log10(e, 0, cvx, offset, size);
+        VOVecHalf.rv_10log10_h(z, 0, cvx, offset, size);
+        assertHalfEquals(e, z);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_h({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_h(int size, int offset) {
+        float e[] = new float[size];
+        short z[] = new short[size];
+        VO.cv_10log10(e, 0, cvx, offset, size);
+        VOVecHalf.cv_10log10_h(z, 0, cvx, offset, size);
+        assertHalfEquals(e, z);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_hh({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_hh(int size, int offset) {
+        short x[] = new short[cvx.length];
+        float xf[] = new float[cvx.length];
+        float e[] = new float[size];
+        short z[] = new short[size];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = Float.floatToFloat16(cvx[i]);
+            xf[i] = Float.float16ToFloat(x[i]);
+        }
+        VO.cv_10log10(e, 0, xf, offset, size);
+        VOVecHalf.cv_10log10_hh(z, 0, x, offset, size);
+        assertHalfEquals(e, z);
+    }
+
+    private static void assertHalfEquals(float expected[], short actual[]) {
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], Float.float16ToFloat(actual[i]), Math.abs(expected[i]) * EPSILON_HALF + EPSILON);
+    }
+}
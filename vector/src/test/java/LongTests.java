@@ -0,0 +1,222 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+import vectorapi.VO;
+import vectorapi.VOVecSeg;
+import vectorapi.VOVecSegLong;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Long-indexed wrappers are checked against {@link VOVecSeg} on short vectors
+ * (one run) and on vectors longer than one run of 2^24 elements, and against
+ * {@link VO} on native segments, which are sized exactly to processed elements.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class LongTests {
+    private static final float EPSILON = 0.0001f;
+
+    private static final int DATA_SIZE = 65536;
+    private static final int MAX_OFFSET = 1;
+    // One run and a bit more
+    private static final int LONG_SIZE = (1 << 24) + 17;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        for (int size : new int[] { 1, 17, DATA_SIZE }) {
+            rv.add(Arguments.of(size, 0));
+            rv.add(Arguments.of(size, 1));
+        }
+        return rv.stream();
+    }
+
+    private static float rvx[];
+    private static float rvy[];
+    private static float cvx[];
+    private static float cvy[];
+
+    @BeforeAll
+    public static void Setup() {
+        rvx = random(DATA_SIZE + MAX_OFFSET, 1);
+        rvy = random(DATA_SIZE + MAX_OFFSET, 2);
+        cvx = random((DATA_SIZE + MAX_OFFSET) * 2, 3);
+        cvy = random((DATA_SIZE + MAX_OFFSET) * 2, 4);
+    }
+
+    private static float[] random(int size, long seed) {
+        Random r = new Random(seed);
+        float x[] = new float[size];
+        for (int i = 0; i < x.length; i++)
+            x[i] = r.nextFloat() * 2.0f - 1.0f;
+        return x;
+    }
+
+    // Native copy of first count elements of data, base is aligned to 64 bytes and shifted by shift floats
+    private static MemorySegment nativeSegment(Arena arena, float data[], int count, int shift) {
+        MemorySegment s = arena.allocate((long)(count + shift) * Float.BYTES, 64).asSlice((long)shift * Float.BYTES, (long)count * Float.BYTES);
+        MemorySegment.copy(data, 0, s, ValueLayout.JAVA_FLOAT, 0, count);
+        return s;
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv(int size, int offset) {
+        float z1[] = new float[(size + offset) * 2];
+        float z2[] = new float[(size + offset) * 2];
+        VOVecSeg.cv_mul_cv(MemorySegment.ofArray(z1), offset, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), 0, size);
+        VOVecSegLong.cv_mul_cv(MemorySegment.ofArray(z2), offset, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), 0, (long)size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "rv_sum({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum(int size, int offset) {
+        MemorySegment x = MemorySegment.ofArray(rvx);
+        assertEquals(VOVecSeg.rv_sum(x, offset, size), VOVecSegLong.rv_sum(x, offset, (long)size));
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv(int size, int offset) {
+        float z1[] = new float[2];
+        float z2[] = new float[4];
+        VOVecSeg.cv_dot_cv(z1, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), 0, size);
+        VOVecSegLong.cv_dot_cv(MemorySegment.ofArray(z2), 1, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), 0, (long)size);
+        assertEquals(z1[0], z2[2]);
+        assertEquals(z1[1], z2[3]);
+    }
+
+    @ParameterizedTest(name = "rv_maxarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg(int size, int offset) {
+        MemorySegment x = MemorySegment.ofArray(rvx);
+        assertEquals(VOVecSeg.rv_maxarg(x, offset, size), VOVecSegLong.rv_maxarg(x, offset, (long)size));
+        assertEquals(VOVecSeg.rv_min(x, offset, size), VOVecSegLong.rv_min(x, offset, (long)size));
+    }
+
+    @ParameterizedTest(name = "cv_maxarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg(int size, int offset) {
+        MemorySegment x = MemorySegment.ofArray(cvx);
+        assertEquals(VOVecSeg.cv_maxarg(x, offset, size), VOVecSegLong.cv_maxarg(x, offset, (long)size));
+        float z1[] = new float[2];
+        float z2[] = new float[2];
+        VOVecSeg.cv_max(z1, x, offset, size);
+        VOVecSegLong.cv_max(z2, x, offset, (long)size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @Test
+    public void Test_long_rv() {
+        float x[] = random(LONG_SIZE + MAX_OFFSET, 5);
+        // Maximum in the second run
+        x[LONG_SIZE - 3] = 2.0f;
+        MemorySegment sx = MemorySegment.ofArray(x);
+        assertEquals(LONG_SIZE - 3, VOVecSegLong.rv_maxarg(sx, MAX_OFFSET, (long)LONG_SIZE));
+        assertEquals(2.0f, VOVecSegLong.rv_max(sx, MAX_OFFSET, (long)LONG_SIZE));
+        assertEquals(VOVecSeg.rv_sum(sx, MAX_OFFSET, LONG_SIZE), VOVecSegLong.rv_sum(sx, MAX_OFFSET, (long)LONG_SIZE), EPSILON * LONG_SIZE);
+
+        float z1[] = x.clone();
+        VOVecSeg.rv_mul_rs_i(MemorySegment.ofArray(z1), MAX_OFFSET, 0.5f, LONG_SIZE);
+        VOVecSegLong.rv_mul_rs_i(sx, MAX_OFFSET, 0.5f, (long)LONG_SIZE);
+        assertArrayEquals(z1, x);
+    }
+
+    @Test
+    public void Test_long_cv() {
+        float x[] = random(LONG_SIZE * 2, 6);
+        // Maximum in the first run
+        x[4] = 2.0f;
+        MemorySegment sx = MemorySegment.ofArray(x);
+        assertEquals(2, VOVecSegLong.cv_maxarg(sx, 0, (long)LONG_SIZE));
+
+        float z1[] = new float[2];
+        float z2[] = new float[2];
+        VOVecSeg.cv_sum(z1, sx, 0, LONG_SIZE);
+        VOVecSegLong.cv_sum(z2, sx, 0, (long)LONG_SIZE);
+        assertArrayEquals(z1, z2, EPSILON * LONG_SIZE);
+    }
+
+    @ParameterizedTest(name = "native_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_native_rv(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                assertEquals(VO.rv_sum(rvx, offset, size), VOVecSegLong.rv_sum(x, offset, (long)size), EPSILON * size);
+                assertEquals(VO.rv_min(rvx, offset, size), VOVecSegLong.rv_min(x, offset, (long)size));
+                assertEquals(VO.rv_maxarg(rvx, offset, size), VOVecSegLong.rv_maxarg(x, offset, (long)size));
+
+                float z1[] = Arrays.copyOf(rvy, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_mul_rs_i(z1, offset, 0.5f, size);
+                VOVecSegLong.rv_mul_rs_i(z2, offset, 0.5f, (long)size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "native_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_native_cv(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, cvy, size * 2, shift);
+                assertEquals(VO.cv_maxarg(cvx, offset, size), VOVecSegLong.cv_maxarg(x, offset, (long)size));
+
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_mul_cv(z1, offset, cvx, offset, cvy, 0, size);
+                VOVecSegLong.cv_mul_cv(z2, offset, x, offset, y, 0, (long)size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+
+                float d1[] = new float[2];
+                MemorySegment d2 = nativeSegment(arena, d1, d1.length, shift);
+                VO.cv_dot_cv(d1, cvx, offset, cvy, 0, size);
+                VOVecSegLong.cv_dot_cv(d2, 0, x, offset, y, 0, (long)size);
+                assertArrayEquals(d1, d2.toArray(ValueLayout.JAVA_FLOAT), EPSILON * size);
+            }
+        }
+    }
+}
@@ -0,0 +1,1807 @@
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\
+!! THIS FILE IS GENERATED WITH genTests.pl SCRIPT. DO NOT EDIT! !!
+\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+import vectorapi.VO;
+import vectorapi.VOVecMasked;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class MaskedTests {
+    private static final float EPSILON = 0.0001f;
+    private static final float EPSILON_APPROX = 0.0001f;
+    // FastTrig.atan2() max error is 0.002 and vectorized one is much more precise
+    private static final float EPSILON_FAST = 0.0025f;
+    // FastTrig.cos() and FastTrig.sin() max error is 0.0015 and exp() of test data is up to e
+    private static final float EPSILON_FAST_EXP = 0.005f;
+    // Fast 10log10() and 20log10() are precise enough for display, to 0.01 dB
+    private static final float EPSILON_FAST_DB = 0.01f;
+
+    private static final int DATA_SIZE = 65536;
+    private static final int MAX_OFFSET = 1;
+
+    private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        rv.add(Arguments.of(1, 0));
+        rv.add(Arguments.of(1, 1));
+        // Vectors of two elements (doubles on 128-bit hardware) have no such size
+        if (PFS.length() / 2 - 1 > 0) {
+            rv.add(Arguments.of(PFS.length() / 2 - 1, 0));
+            rv.add(Arguments.of(PFS.length() / 2 - 1, 1));
+        }
+        rv.add(Arguments.of(PFS.length() / 2, 0));
+        rv.add(Arguments.of(PFS.length() / 2, 1));
+        rv.add(Arguments.of(PFS.length() - 1, 0));
+        rv.add(Arguments.of(PFS.length() - 1, 1));
+        rv.add(Arguments.of(PFS.length(), 0));
+        rv.add(Arguments.of(PFS.length(), 1));
+        rv.add(Arguments.of(PFS.length() + 1, 0));
+        rv.add(Arguments.of(PFS.length() + 1, 1));
+        rv.add(Arguments.of(PFS.length() * 2, 0));
+        rv.add(Arguments.of(PFS.length() * 2, 1));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 0));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 1));
+        rv.add(Arguments.of(DATA_SIZE, 0));
+        rv.add(Arguments.of(DATA_SIZE, 1));
+        return rv.stream();
+    }
+
+    private static float rvx[];
+    private static float rvy[];
+    private static float rvz[];
+
+    private static float cvx[];
+    private static float cvy[];
+    private static float cvz[];
+
+    private static float rsx;
+    private static float rsy;
+    private static float rsz;
+
+    private static float csx[];
+    private static float csy[];
+    private static float csz[];
+
+    @BeforeAll
+    public static void Setup() {
+        rvx = new float[DATA_SIZE + MAX_OFFSET];
+        rvy = new float[DATA_SIZE + MAX_OFFSET];
+        rvz = new float[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvx.length; i++) {
+            rvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            rvy[i] = (float)(Math.random() * 2.0 - 1.0);
+            rvz[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        cvx = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvz = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            cvy[i] = (float)(Math.random() * 2.0 - 1.0);
+            cvz[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        rsx = (float)(Math.random() * 2.0 - 1.0);
+        rsy = (float)(Math.random() * 2.0 - 1.0);
+        rsz = (float)(Math.random() * 2.0 - 1.0);
+
+        csx = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+        csy = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+        csz = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+    }
+
+
+    @ParameterizedTest(name = "cs_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_div_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cs_div_cv(cvz1, 0, csx, cvy, offset, size);
+        VOVecMasked.cs_div_cv(cvz2, 0, csx, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cs_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cs_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.cs_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cs_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_sub_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cs_sub_cv(cvz1, 0, csx, cvy, offset, size);
+        VOVecMasked.cs_sub_cv(cvz2, 0, csx, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cs_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cs_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.cs_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecMasked.cv_add_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecMasked.cv_add_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecMasked.cv_add_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecMasked.cv_add_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_add_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.cv_add_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecMasked.cv_add_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_rs_i(cvz1, offset, rsx, size);
+        VOVecMasked.cv_add_rs_i(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecMasked.cv_add_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecMasked.cv_add_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_conj(cvz1, 0, cvx, offset, size);
+        VOVecMasked.cv_conj(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_conj_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_conj_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_conjmul_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecMasked.cv_conjmul_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_conjmul_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecMasked.cv_conjmul_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_conjmul_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_conjmul_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_conjmul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.cv_conjmul_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecMasked.cv_div_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecMasked.cv_div_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_div_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.cv_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecMasked.cv_div_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_rs_i(cvz1, offset, rsx, size);
+        VOVecMasked.cv_div_rs_i(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecMasked.cv_div_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecMasked.cv_div_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_max_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecMasked.cv_max_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_max_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecMasked.cv_max_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_max_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_max_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_max_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.cv_max_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_min_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecMasked.cv_min_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_min_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecMasked.cv_min_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_min_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_min_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_min_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.cv_min_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecMasked.cv_mul_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_cs_i(cvz1, offset, csx, size);
+        VOVecMasked.cv_mul_cs_i(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVecMasked.cv_mul_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecMasked.cv_mul_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecMasked.cv_mul_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecMasked.cv_mul_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_mul_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.cv_mul_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecMasked.cv_mul_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_rs_i(cvz1, offset, rsx, size);
+        VOVecMasked.cv_mul_rs_i(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecMasked.cv_mul_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecMasked.cv_mul_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_p2r(cvz1, 0, cvx, offset, size);
+        VOVecMasked.cv_p2r(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_p2r_i(cvz1, offset, size);
+        VOVecMasked.cv_p2r_i(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_p2r_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecMasked.cv_p2r_iw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_p2r_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_p2r_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_r2p(cvz1, 0, cvx, offset, size);
+        VOVecMasked.cv_r2p(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_r2p_f(cvz1, 0, cvx, offset, size);
+        VOVecMasked.cv_r2p_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_r2p_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_r2p_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_i(cvz1, offset, size);
+        VOVecMasked.cv_r2p_i(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_if(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_if(cvz1, offset, size);
+        VOVecMasked.cv_r2p_if(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_ifw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_ifw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecMasked.cv_r2p_ifw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecMasked.cv_r2p_iw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_r2p_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_r2p_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_cv_rs(cvz1, 0, cvx, offset, rsx, cvy, offset, rsy, size);
+        VOVecMasked.cv_rs_lin_cv_rs(cvz2, 0, cvx, offset, rsx, cvy, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_cv_rs_i(cvz1, offset, rsz, cvx, offset, rsx, size);
+        VOVecMasked.cv_rs_lin_cv_rs_i(cvz2, offset, rsz, cvx, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_cv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecMasked.cv_rs_lin_cv_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_cv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecMasked.cv_rs_lin_cv_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecMasked.cv_sub_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_cs_i(cvz1, offset, csx, size);
+        VOVecMasked.cv_sub_cs_i(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVecMasked.cv_sub_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecMasked.cv_sub_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecMasked.cv_sub_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecMasked.cv_sub_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.cv_sub_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.cv_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecMasked.cv_sub_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_rs_i(cvz1, offset, rsx, size);
+        VOVecMasked.cv_sub_rs_i(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecMasked.cv_sub_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecMasked.cv_sub_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rs_div_cv(cvz1, 0, rsx, cvy, offset, size);
+        VOVecMasked.rs_div_cv(cvz2, 0, rsx, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rs_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.rs_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_div_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rs_div_rv(rvz1, 0, rsx, rvy, offset, size);
+        VOVecMasked.rs_div_rv(rvz2, 0, rsx, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rs_div_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.rs_div_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rs_sub_cv(cvz1, 0, rsx, cvy, offset, size);
+        VOVecMasked.rs_sub_cv(cvz2, 0, rsx, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rs_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.rs_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rs_sub_rv(rvz1, 0, rsx, rvy, offset, size);
+        VOVecMasked.rs_sub_rv(rvz2, 0, rsx, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rs_sub_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.rs_sub_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_10log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10(rvz1, 0, rvx, offset, size);
+        VOVecMasked.rv_10log10(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_f(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_f(rvz1, 0, rvx, offset, size);
+        VOVecMasked.rv_10log10_f(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_fw(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_fw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.rv_10log10_fw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_10log10_i(rvz1, offset, size);
+        VOVecMasked.rv_10log10_i(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_if(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_10log10_if(rvz1, offset, size);
+        VOVecMasked.rv_10log10_if(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_ifw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_10log10_ifw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecMasked.rv_10log10_ifw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_10log10_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecMasked.rv_10log10_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecMasked.rv_10log10_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_10log10_rs_i(rvz1, offset, rsx, size);
+        VOVecMasked.rv_10log10_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_10log10_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecMasked.rv_10log10_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecMasked.rv_10log10_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.rv_10log10_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_20log10(rvz1, 0, rvx, offset, size);
+        VOVecMasked.rv_20log10(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_20log10_i(rvz1, offset, size);
+        VOVecMasked.rv_20log10_i(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_20log10_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecMasked.rv_20log10_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_20log10_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecMasked.rv_20log10_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_20log10_rs_i(rvz1, offset, rsx, size);
+        VOVecMasked.rv_20log10_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_20log10_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecMasked.rv_20log10_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_20log10_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecMasked.rv_20log10_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_20log10_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.rv_20log10_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_abs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_abs(rvz1, 0, rvx, offset, size);
+        VOVecMasked.rv_abs(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_abs_i(rvz1, offset, size);
+        VOVecMasked.rv_abs_i(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_abs_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecMasked.rv_abs_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_abs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.rv_abs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_add_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecMasked.rv_add_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_add_rs_i(rvz1, offset, rsx, size);
+        VOVecMasked.rv_add_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_add_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecMasked.rv_add_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_add_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecMasked.rv_add_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_add_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecMasked.rv_add_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_add_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.rv_add_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_div_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecMasked.rv_div_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_div_rs_i(rvz1, offset, rsx, size);
+        VOVecMasked.rv_div_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_div_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecMasked.rv_div_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_div_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecMasked.rv_div_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_div_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecMasked.rv_div_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_div_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecMasked.rv_div_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_div_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.rv_div_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_div_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.rv_div_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_exp(rvz1, 0, rvx, offset, size);
+        VOVecMasked.rv_exp(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_exp_i(rvz1, offset, size);
+        VOVecMasked.rv_exp_i(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_exp_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecMasked.rv_exp_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_exp_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.rv_exp_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_max_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecMasked.rv_max_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_max_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecMasked.rv_max_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_max_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.rv_max_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_max_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.rv_max_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_min_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecMasked.rv_min_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_min_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecMasked.rv_min_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_min_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.rv_min_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_min_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.rv_min_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_mul_rs_i(rvz1, offset, rsx, size);
+        VOVecMasked.rv_mul_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_mul_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecMasked.rv_mul_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_mul_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecMasked.rv_mul_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_mul_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecMasked.rv_mul_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_mul_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.rv_mul_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_mul_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.rv_mul_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_rs_lin_rv_rs(rvz1, 0, rvx, offset, rsx, rvy, offset, rsy, size);
+        VOVecMasked.rv_rs_lin_rv_rs(rvz2, 0, rvx, offset, rsx, rvy, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_rs_lin_rv_rs_i(rvz1, offset, rsz, rvx, offset, rsx, size);
+        VOVecMasked.rv_rs_lin_rv_rs_i(rvz2, offset, rsz, rvx, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_rs_lin_rv_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecMasked.rv_rs_lin_rv_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_rs_lin_rv_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecMasked.rv_rs_lin_rv_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_sub_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecMasked.rv_sub_rs(rvz2, 0, rvx, offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_sub_rs_i(rvz1, offset, rsx, size);
+        VOVecMasked.rv_sub_rs_i(rvz2, offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_sub_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecMasked.rv_sub_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_sub_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecMasked.rv_sub_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_sub_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecMasked.rv_sub_rv(rvz2, 0, rvx, offset, rvy, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_sub_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecMasked.rv_sub_rv_i(rvz2, offset, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_sub_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecMasked.rv_sub_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_sub_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecMasked.rv_sub_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_iw_odd({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_iw_odd(int size, int offset) {
+        float x[] = new float[cvz.length - 1];
+        assertThrows(IllegalArgumentException.class, () -> VOVecMasked.cv_add_rs_iw(x, x.length / 2 + offset, rsx, size));
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_w_odd({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_w_odd(int size, int offset) {
+        float x[] = new float[cvx.length - 1];
+        float z[] = new float[cvz.length];
+        assertThrows(IllegalArgumentException.class, () -> VOVecMasked.cv_add_cv_w(z, offset, x, x.length / 2 + offset, cvy, offset, size));
+    }
+
+    // Signed zeros, denormals and tiny normals of both signs as (re, im) pairs of all combinations
+    private static float[] specialCv() {
+        float v[] = { 0.0f, -0.0f, 1.4e-45f, -1.4e-45f, 1e-40f, -1e-40f, 1.2e-38f, -1.2e-38f, 1e-30f, -1e-30f, 1.0f, -1.0f };
+        float x[] = new float[cvx.length];
+        for (int i = 0; i < x.length / 2; i++) {
+            x[i * 2 + 0] = v[i % v.length];
+            x[i * 2 + 1] = v[(i / v.length) % v.length];
+        }
+        return x;
+    }
+
+    @ParameterizedTest(name = "cv_r2p_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[cvz.length];
+        float z2[] = new float[cvz.length];
+        VO.cv_r2p_f(z1, offset, x, offset, size);
+        VOVecMasked.cv_r2p_f(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.rv_10log10(z1, offset, x, offset, size);
+        VOVecMasked.rv_10log10(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.rv_10log10_f(z1, offset, x, offset, size);
+        VOVecMasked.rv_10log10_f(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_i_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_i_special(int size, int offset) {
+        float z1[] = specialCv();
+        float z2[] = specialCv();
+        VO.rv_10log10_i(z1, offset, size);
+        VOVecMasked.rv_10log10_i(z2, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_if_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_if_special(int size, int offset) {
+        float z1[] = specialCv();
+        float z2[] = specialCv();
+        VO.rv_10log10_if(z1, offset, size);
+        VOVecMasked.rv_10log10_if(z2, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.rv_20log10(z1, offset, x, offset, size);
+        VOVecMasked.rv_20log10(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_i_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_i_special(int size, int offset) {
+        float z1[] = specialCv();
+        float z2[] = specialCv();
+        VO.rv_20log10_i(z1, offset, size);
+        VOVecMasked.rv_20log10_i(z2, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+}
\ No newline at end of file
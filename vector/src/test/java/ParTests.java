@@ -0,0 +1,260 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+import vectorapi.VOPar;
+import vectorapi.VOVec;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Parallel wrappers are checked against {@link VOVec} with splitting forced for all sizes.
+ * Element-wise results and extremums must be the same, sums differ only by order of additions.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class ParTests {
+    private static final float EPSILON = 0.0001f;
+
+    // Chunk of VOPar is 16384 elements
+    private static final int DATA_SIZE = 100003;
+    private static final int MAX_OFFSET = 1;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        for (int size : new int[] { 1, 16383, 16384, 16385, 16384 * 3, DATA_SIZE }) {
+            rv.add(Arguments.of(size, 0));
+            rv.add(Arguments.of(size, 1));
+        }
+        return rv.stream();
+    }
+
+    private static float rvx[];
+    private static float rvy[];
+    private static float cvx[];
+    private static float cvy[];
+    private static float csy[];
+
+    private static int savedThreshold;
+
+    @BeforeAll
+    public static void Setup() {
+        rvx = new float[DATA_SIZE + MAX_OFFSET];
+        rvy = new float[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvx.length; i++) {
+            rvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            rvy[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        cvx = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            cvy[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        csy = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+
+        savedThreshold = VOPar.getThreshold();
+        VOPar.setThreshold(0);
+    }
+
+    @AfterAll
+    public static void TearDown() {
+        VOPar.setThreshold(savedThreshold);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_i(int size, int offset) {
+        float z1[] = rvx.clone();
+        float z2[] = rvx.clone();
+        VOVec.rv_add_rv_i(z1, offset, rvy, 0, size);
+        VOPar.rv_add_rv_i(z2, offset, rvy, 0, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "rv_cvt({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cvt(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.rv_cvt(z1, 0, rvx, offset, size);
+        VOPar.rv_cvt(z2, 0, rvx, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.cv_mul_cv(z1, 0, cvx, offset, cvy, 0, size);
+        VOPar.cv_mul_cv(z2, 0, cvx, offset, cvy, 0, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "cv_abs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_abs(int size, int offset) {
+        float z1[] = new float[size];
+        float z2[] = new float[size];
+        VOVec.cv_abs(z1, 0, cvx, offset, size);
+        VOPar.cv_abs(z2, 0, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "cv_exp({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.cv_exp(z1, 0, cvx, offset, size);
+        VOPar.cv_exp(z2, 0, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2];
+        VOVec.cv_cs_lin_cv_cs(z1, 0, cvx, offset, csy, cvy, 0, csy, size);
+        VOPar.cv_cs_lin_cv_cs(z2, 0, cvx, offset, csy, cvy, 0, csy, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "rv_sum({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum(int size, int offset) {
+        assertEquals(VOVec.rv_sum(rvx, offset, size), VOPar.rv_sum(rvx, offset, size), EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv(int size, int offset) {
+        assertEquals(VOVec.rv_dot_rv(rvx, offset, rvy, 0, size), VOPar.rv_dot_rv(rvx, offset, rvy, 0, size), EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_sum({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum(int size, int offset) {
+        float z1[] = new float[2];
+        float z2[] = new float[2];
+        VOVec.cv_sum(z1, cvx, offset, size);
+        VOPar.cv_sum(z2, cvx, offset, size);
+        assertArrayEquals(z1, z2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv(int size, int offset) {
+        float z1[] = new float[4];
+        float z2[] = new float[4];
+        VOVec.cv_dot_cv(z1, 1, cvx, offset, cvy, 0, size);
+        VOPar.cv_dot_cv(z2, 1, cvx, offset, cvy, 0, size);
+        assertArrayEquals(z1, z2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_max({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max(int size, int offset) {
+        assertEquals(VOVec.rv_max(rvx, offset, size), VOPar.rv_max(rvx, offset, size));
+        assertEquals(VOVec.rv_min(rvx, offset, size), VOPar.rv_min(rvx, offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_max({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max(int size, int offset) {
+        float z1[] = new float[2];
+        float z2[] = new float[2];
+        VOVec.cv_max(z1, cvx, offset, size);
+        VOPar.cv_max(z2, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+        VOVec.cv_min(z1, cvx, offset, size);
+        VOPar.cv_min(z2, cvx, offset, size);
+        assertArrayEquals(z1, z2);
+    }
+
+    @ParameterizedTest(name = "rv_maxarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg(int size, int offset) {
+        assertEquals(VOVec.rv_maxarg(rvx, offset, size), VOPar.rv_maxarg(rvx, offset, size));
+        assertEquals(VOVec.rv_minarg(rvx, offset, size), VOPar.rv_minarg(rvx, offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_maxarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg(int size, int offset) {
+        assertEquals(VOVec.cv_maxarg(cvx, offset, size), VOPar.cv_maxarg(cvx, offset, size));
+        assertEquals(VOVec.cv_minarg(cvx, offset, size), VOPar.cv_minarg(cvx, offset, size));
+    }
+
+    @ParameterizedTest(name = "rv_maxarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg_ties(int size, int offset) {
+        // The same maximum in every chunk: the first one must win
+        float x[] = new float[size + offset];
+        for (int i = offset; i < x.length; i += 1000)
+            x[i] = 1.0f;
+        assertEquals(VOVec.rv_maxarg(x, offset, size), VOPar.rv_maxarg(x, offset, size));
+        assertEquals(offset, VOPar.rv_maxarg(x, offset, size));
+    }
+
+    @ParameterizedTest(name = "deterministic({0}, {1})")
+    @MethodSource("params")
+    public void Test_deterministic(int size, int offset) {
+        ForkJoinPool saved = VOPar.getPool();
+        float sums[] = new float[3];
+        float dots[] = new float[3 * 2];
+        int i = 0;
+        for (int threads : new int[] { 1, 2, 4 }) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            VOPar.setPool(pool);
+            sums[i] = VOPar.rv_sum(rvx, offset, size);
+            VOPar.cv_dot_cv(dots, i, cvx, offset, cvy, 0, size);
+            pool.shutdown();
+            i++;
+        }
+        VOPar.setPool(saved);
+        for (i = 1; i < sums.length; i++) {
+            assertEquals(sums[0], sums[i]);
+            assertEquals(dots[0], dots[i * 2 + 0]);
+            assertEquals(dots[1], dots[i * 2 + 1]);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+import vectorapi.VO;
+import vectorapi.VOVecPlanar;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Planar kernels are checked against {@link VO} on the same data in interleaved layout.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class PlanarTests {
+    private static final float EPSILON = 0.0001f;
+
+    private static final int DATA_SIZE = 65536;
+    private static final int MAX_OFFSET = 1;
+
+    private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        rv.add(Arguments.of(1, 0));
+        rv.add(Arguments.of(1, 1));
+        rv.add(Arguments.of(PFS.length() - 1, 0));
+        rv.add(Arguments.of(PFS.length() - 1, 1));
+        rv.add(Arguments.of(PFS.length(), 0));
+        rv.add(Arguments.of(PFS.length(), 1));
+        rv.add(Arguments.of(PFS.length() + 1, 0));
+        rv.add(Arguments.of(PFS.length() + 1, 1));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 0));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 1));
+        rv.add(Arguments.of(DATA_SIZE, 0));
+        rv.add(Arguments.of(DATA_SIZE, 1));
+        return rv.stream();
+    }
+
+    private static float rvy[];
+
+    private static float cvx[];
+    private static float cvy[];
+
+    private static float pvxre[];
+    private static float pvxim[];
+    private static float pvyre[];
+    private static float pvyim[];
+
+    private static float csy[];
+
+    @BeforeAll
+    public static void Setup() {
+        rvy = new float[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvy.length; i++)
+            rvy[i] = (float)(Math.random() * 2.0 - 1.0);
+
+        cvx = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            cvy[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        pvxre = new float[DATA_SIZE + MAX_OFFSET];
+        pvxim = new float[DATA_SIZE + MAX_OFFSET];
+        pvyre = new float[DATA_SIZE + MAX_OFFSET];
+        pvyim = new float[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < pvxre.length; i++) {
+            pvxre[i] = cvx[i * 2 + 0];
+            pvxim[i] = cvx[i * 2 + 1];
+            pvyre[i] = cvy[i * 2 + 0];
+            pvyim[i] = cvy[i * 2 + 1];
+        }
+
+        csy = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+    }
+
+    @ParameterizedTest(name = "cv_to_pcv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_to_pcv(int size, int offset) {
+        float zre[] = new float[size];
+        float zim[] = new float[size];
+        VOVecPlanar.cv_to_pcv(zre, zim, 0, cvx, offset, size);
+        for (int i = 0; i < size; i++) {
+            assertEquals(pvxre[offset + i], zre[i]);
+            assertEquals(pvxim[offset + i], zim[i]);
+        }
+    }
+
+    @ParameterizedTest(name = "pcv_to_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_to_cv(int size, int offset) {
+        float z[] = new float[size * 2];
+        VOVecPlanar.pcv_to_cv(z, 0, pvxre, pvxim, offset, size);
+        for (int i = 0; i < size * 2; i++)
+            assertEquals(cvx[offset * 2 + i], z[i]);
+    }
+
+    @ParameterizedTest(name = "pcv_add_pcv({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_add_pcv(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float zre[] = new float[size];
+        float zim[] = new float[size];
+        VO.cv_add_cv(z1, 0, cvx, offset, cvy, offset, size);
+        VOVecPlanar.pcv_add_pcv(zre, zim, 0, pvxre, pvxim, offset, pvyre, pvyim, offset, size);
+        assertPlanarEquals(z1, zre, zim, EPSILON);
+    }
+
+    @ParameterizedTest(name = "pcv_sub_pcv({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_sub_pcv(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float zre[] = new float[size];
+        float zim[] = new float[size];
+        VO.cv_sub_cv(z1, 0, cvx, offset, cvy, offset, size);
+        VOVecPlanar.pcv_sub_pcv(zre, zim, 0, pvxre, pvxim, offset, pvyre, pvyim, offset, size);
+        assertPlanarEquals(z1, zre, zim, EPSILON);
+    }
+
+    @ParameterizedTest(name = "pcv_mul_pcv({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_mul_pcv(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float zre[] = new float[size];
+        float zim[] = new float[size];
+        VO.cv_mul_cv(z1, 0, cvx, offset, cvy, offset, size);
+        VOVecPlanar.pcv_mul_pcv(zre, zim, 0, pvxre, pvxim, offset, pvyre, pvyim, offset, size);
+        assertPlanarEquals(z1, zre, zim, EPSILON);
+    }
+
+    @ParameterizedTest(name = "pcv_mul_pcv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_mul_pcv_i(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float zre[] = new float[size];
+        float zim[] = new float[size];
+        System.arraycopy(cvx, offset * 2, z1, 0, size * 2);
+        System.arraycopy(pvxre, offset, zre, 0, size);
+        System.arraycopy(pvxim, offset, zim, 0, size);
+        VO.cv_mul_cv_i(z1, 0, cvy, offset, size);
+        VOVecPlanar.pcv_mul_pcv_i(zre, zim, 0, pvyre, pvyim, offset, size);
+        assertPlanarEquals(z1, zre, zim, EPSILON);
+    }
+
+    @ParameterizedTest(name = "pcv_conjmul_pcv({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_conjmul_pcv(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float zre[] = new float[size];
+        float zim[] = new float[size];
+        VO.cv_conjmul_cv(z1, 0, cvx, offset, cvy, offset, size);
+        VOVecPlanar.pcv_conjmul_pcv(zre, zim, 0, pvxre, pvxim, offset, pvyre, pvyim, offset, size);
+        assertPlanarEquals(z1, zre, zim, EPSILON);
+    }
+
+    @ParameterizedTest(name = "pcv_mul_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_mul_cs(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float zre[] = new float[size];
+        float zim[] = new float[size];
+        VO.cv_mul_cs(z1, 0, cvx, offset, csy, size);
+        VOVecPlanar.pcv_mul_cs(zre, zim, 0, pvxre, pvxim, offset, csy, size);
+        assertPlanarEquals(z1, zre, zim, EPSILON);
+    }
+
+    @ParameterizedTest(name = "pcv_mul_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_mul_rv(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float zre[] = new float[size];
+        float zim[] = new float[size];
+        VO.cv_mul_rv(z1, 0, cvx, offset, rvy, offset, size);
+        VOVecPlanar.pcv_mul_rv(zre, zim, 0, pvxre, pvxim, offset, rvy, offset, size);
+        assertPlanarEquals(z1, zre, zim, EPSILON);
+    }
+
+    @ParameterizedTest(name = "pcv_abs({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_abs(int size, int offset) {
+        float z1[] = new float[size];
+        float z2[] = new float[size];
+        VO.cv_abs(z1, 0, cvx, offset, size);
+        VOVecPlanar.pcv_abs(z2, 0, pvxre, pvxim, offset, size);
+        assertArrayEquals(z1, z2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "pcv_exp({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_exp(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float zre[] = new float[size];
+        float zim[] = new float[size];
+        VO.cv_exp(z1, 0, cvx, offset, size);
+        VOVecPlanar.pcv_exp(zre, zim, 0, pvxre, pvxim, offset, size);
+        assertPlanarEquals(z1, zre, zim, EPSILON);
+    }
+
+    @ParameterizedTest(name = "pcv_exp_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_exp_i(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float zre[] = new float[size];
+        float zim[] = new float[size];
+        System.arraycopy(cvx, offset * 2, z1, 0, size * 2);
+        System.arraycopy(pvxre, offset, zre, 0, size);
+        System.arraycopy(pvxim, offset, zim, 0, size);
+        VO.cv_exp_i(z1, 0, size);
+        VOVecPlanar.pcv_exp_i(zre, zim, 0, size);
+        assertPlanarEquals(z1, zre, zim, EPSILON);
+    }
+
+    @ParameterizedTest(name = "pcv_sum({0}, {1})")
+    @MethodSource("params")
+    public void Test_pcv_sum(int size, int offset) {
+        float z1[] = new float[2];
+        float z2[] = new float[2];
+        VO.cv_sum(z1, cvx, offset, size);
+        VOVecPlanar.pcv_sum(z2, pvxre, pvxim, offset, size);
+        assertArrayEquals(z1, z2, EPSILON * size);
+    }
+
+    private static void assertPlanarEquals(float expected[], float re[], float im[], float epsilon) {
+        for (int i = 0; i < re.length; i++) {
+            assertEquals(expected[i * 2 + 0], re[i], epsilon);
+            assertEquals(expected[i * 2 + 1], im[i], epsilon);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+import vectorapi.VO;
+import vectorapi.VOAuto;
+import vectorapi.VOPlanner;
+import vectorapi.VOVec;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Planner is checked by loading hand-made wisdom: choices must be applied to
+ * calls of {@link VOAuto}, saved and loaded back, and wisdom from other
+ * platform must be ignored.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class PlannerTests {
+    private static final int DATA_SIZE = 1024;
+
+    private static float cvx[];
+    private static float cvy[];
+
+    private static Path dir;
+
+    @BeforeAll
+    public static void Setup() throws IOException {
+        cvx = new float[DATA_SIZE * 2];
+        cvy = new float[DATA_SIZE * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            cvy[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+        dir = Files.createTempDirectory("wisdom");
+    }
+
+    @AfterAll
+    public static void TearDown() throws IOException {
+        VOPlanner.forget();
+        try (var files = Files.list(dir)) {
+            for (Path p : files.toArray(Path[]::new))
+                Files.delete(p);
+        }
+        Files.delete(dir);
+    }
+
+    // cv_mul_cv goes to VO for calls up to 7 elements (size classes 0..3) and to VOVec for larger ones
+    private static Path wisdom(String platform) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# VOAuto wisdom");
+        lines.add("platform " + platform);
+        String impls[] = new String[VOPlanner.SIZE_CLASSES];
+        Arrays.fill(impls, "VOVec");
+        Arrays.fill(impls, 0, 4, "VO");
+        lines.add("cv_mul_cv " + String.join(" ", impls));
+        lines.add("no_such_op " + String.join(" ", impls));
+        Path p = dir.resolve("wisdom-" + lines.hashCode());
+        Files.write(p, lines);
+        return p;
+    }
+
+    @Test
+    public void Test_size_classes() {
+        assertEquals(0, VOPlanner.sizeClass(0));
+        assertEquals(1, VOPlanner.sizeClass(1));
+        assertEquals(2, VOPlanner.sizeClass(2));
+        assertEquals(2, VOPlanner.sizeClass(3));
+        assertEquals(3, VOPlanner.sizeClass(4));
+        assertEquals(VOPlanner.SIZE_CLASSES - 1, VOPlanner.sizeClass(Integer.MAX_VALUE));
+        for (int sc = 1; sc < VOPlanner.SIZE_CLASSES; sc++)
+            assertEquals(sc, VOPlanner.sizeClass(VOPlanner.representative(sc)));
+    }
+
+    @Test
+    public void Test_import() throws IOException {
+        VOPlanner.forget();
+        assertEquals("VOVec", VOPlanner.implementation("cv_mul_cv", 5));
+        assertTrue(VOPlanner.importWisdom(wisdom(VOPlanner.platform())));
+        assertEquals("VO", VOPlanner.implementation("cv_mul_cv", 5));
+        assertEquals("VOVec", VOPlanner.implementation("cv_mul_cv", 8));
+        assertEquals("VOVec", VOPlanner.implementation("cv_add_cv", 5));
+
+        for (int size : new int[] { 5, DATA_SIZE }) {
+            float z1[] = new float[size * 2];
+            float z2[] = new float[size * 2];
+            VOAuto.cv_mul_cv(z1, 0, cvx, 0, cvy, 0, size);
+            if (size < 8)
+                VO.cv_mul_cv(z2, 0, cvx, 0, cvy, 0, size);
+            else
+                VOVec.cv_mul_cv(z2, 0, cvx, 0, cvy, 0, size);
+            assertArrayEquals(z2, z1);
+        }
+        VOPlanner.forget();
+    }
+
+    @Test
+    public void Test_other_platform() throws IOException {
+        VOPlanner.forget();
+        assertFalse(VOPlanner.importWisdom(wisdom("other " + VOPlanner.platform())));
+        assertEquals("VOVec", VOPlanner.implementation("cv_mul_cv", 5));
+    }
+
+    @Test
+    public void Test_export() throws IOException {
+        VOPlanner.forget();
+        assertTrue(VOPlanner.importWisdom(wisdom(VOPlanner.platform())));
+        Path p = dir.resolve("exported");
+        VOPlanner.exportWisdom(p);
+        VOPlanner.forget();
+        assertTrue(VOPlanner.importWisdom(p));
+        assertEquals("VO", VOPlanner.implementation("cv_mul_cv", 5));
+        assertEquals("VOVec", VOPlanner.implementation("cv_mul_cv", 8));
+        VOPlanner.forget();
+    }
+
+    @Test
+    public void Test_plan() {
+        VOPlanner.plan("rv_sum");
+        for (int sc = 0; sc < VOPlanner.SIZE_CLASSES; sc++) {
+            String impl = VOPlanner.implementation("rv_sum", VOPlanner.representative(sc));
+            assertTrue(impl.equals("VO") || impl.equals("VOVec"));
+        }
+        VOPlanner.forget();
+    }
+
+    // In-place probe applies operation to scratch vector, so each call of each timed
+    // sample of each candidate must get initial data, and not results of previous ones
+    @Test
+    public void Test_probe_in_place() throws ReflectiveOperationException {
+        Field px = VOAuto.class.getDeclaredField("PX");
+        Field pz = VOAuto.class.getDeclaredField("PZ");
+        Field candidates = VOAuto.class.getDeclaredField("CANDIDATES");
+        Field work = VOPlanner.class.getDeclaredField("SAMPLE_WORK");
+        Method time = VOPlanner.class.getDeclaredMethod("time", int.class, int.class, int.class, int.class);
+        px.setAccessible(true);
+        pz.setAccessible(true);
+        candidates.setAccessible(true);
+        work.setAccessible(true);
+        time.setAccessible(true);
+        float x[] = (float[])px.get(null);
+        float z[] = (float[])pz.get(null);
+        float initial[] = x.clone();
+
+        int op = Arrays.asList(VOPlanner.operations()).indexOf("rv_exp_i");
+        byte impls[] = ((byte[][])candidates.get(null))[op];
+        assertTrue(impls.length > 1);
+        // Repetitions as planner does: tens of thousands of exp() of the same data overflow
+        for (int count : new int[] { 1, 1000, VOPlanner.representative(VOPlanner.SIZE_CLASSES - 1) }) {
+            int reps = Math.max(1, work.getInt(null) / count);
+            float expected[] = Arrays.copyOf(initial, initial.length);
+            VO.rv_exp_i(expected, 0, reps * count);
+            for (byte impl : impls) {
+                time.invoke(null, op, (int)impl, count, reps);
+                for (int i = 0; i < z.length; i++)
+                    assertTrue(Float.isFinite(z[i]));
+                assertArrayEquals(expected, z, 0.0001f);
+                assertArrayEquals(initial, x);
+            }
+        }
+    }
+
+    @Test
+    public void Test_unknown_op() {
+        assertThrows(IllegalArgumentException.class, () -> VOPlanner.plan("no_such_op"));
+    }
+}
@@ -0,0 +1,5157 @@
+/*!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!\
+!! THIS FILE IS GENERATED WITH genTests.pl SCRIPT. DO NOT EDIT! !!
+\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+import vectorapi.VO;
+import vectorapi.VOVec;
+import vectorapi.VOVecSeg;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class SegmentTests {
+    private static final float EPSILON = 0.0001f;
+    private static final float EPSILON_APPROX = 0.0001f;
+    // FastTrig.atan2() max error is 0.002 and vectorized one is much more precise
+    private static final float EPSILON_FAST = 0.0025f;
+    // FastTrig.cos() and FastTrig.sin() max error is 0.0015 and exp() of test data is up to e
+    private static final float EPSILON_FAST_EXP = 0.005f;
+    // Fast 10log10() and 20log10() are precise enough for display, to 0.01 dB
+    private static final float EPSILON_FAST_DB = 0.01f;
+
+    private static final int DATA_SIZE = 65536;
+    private static final int MAX_OFFSET = 1;
+
+    private final static VectorSpecies<Float> PFS = FloatVector.SPECIES_PREFERRED;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        rv.add(Arguments.of(1, 0));
+        rv.add(Arguments.of(1, 1));
+        // Vectors of two elements (doubles on 128-bit hardware) have no such size
+        if (PFS.length() / 2 - 1 > 0) {
+            rv.add(Arguments.of(PFS.length() / 2 - 1, 0));
+            rv.add(Arguments.of(PFS.length() / 2 - 1, 1));
+        }
+        rv.add(Arguments.of(PFS.length() / 2, 0));
+        rv.add(Arguments.of(PFS.length() / 2, 1));
+        rv.add(Arguments.of(PFS.length() - 1, 0));
+        rv.add(Arguments.of(PFS.length() - 1, 1));
+        rv.add(Arguments.of(PFS.length(), 0));
+        rv.add(Arguments.of(PFS.length(), 1));
+        rv.add(Arguments.of(PFS.length() + 1, 0));
+        rv.add(Arguments.of(PFS.length() + 1, 1));
+        rv.add(Arguments.of(PFS.length() * 2, 0));
+        rv.add(Arguments.of(PFS.length() * 2, 1));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 0));
+        rv.add(Arguments.of(PFS.length() * 2 + 1, 1));
+        rv.add(Arguments.of(DATA_SIZE, 0));
+        rv.add(Arguments.of(DATA_SIZE, 1));
+        return rv.stream();
+    }
+
+    private static float rvx[];
+    private static float rvy[];
+    private static float rvz[];
+
+    private static float cvx[];
+    private static float cvy[];
+    private static float cvz[];
+
+    private static float rsx;
+    private static float rsy;
+    private static float rsz;
+
+    private static float csx[];
+    private static float csy[];
+    private static float csz[];
+
+    @BeforeAll
+    public static void Setup() {
+        rvx = new float[DATA_SIZE + MAX_OFFSET];
+        rvy = new float[DATA_SIZE + MAX_OFFSET];
+        rvz = new float[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvx.length; i++) {
+            rvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            rvy[i] = (float)(Math.random() * 2.0 - 1.0);
+            rvz[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        cvx = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvz = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            cvy[i] = (float)(Math.random() * 2.0 - 1.0);
+            cvz[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        rsx = (float)(Math.random() * 2.0 - 1.0);
+        rsy = (float)(Math.random() * 2.0 - 1.0);
+        rsz = (float)(Math.random() * 2.0 - 1.0);
+
+        csx = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+        csy = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+        csz = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+    }
+
+
+    @ParameterizedTest(name = "cs_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_div_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cs_div_cv(cvz1, 0, csx, cvy, offset, size);
+        VOVecSeg.cs_div_cv(MemorySegment.ofArray(cvz2), 0, csx, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cs_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cs_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cs_div_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, csx, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cs_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_sub_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cs_sub_cv(cvz1, 0, csx, cvy, offset, size);
+        VOVecSeg.cs_sub_cv(MemorySegment.ofArray(cvz2), 0, csx, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cs_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cs_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cs_sub_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, csx, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_10log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_10log10(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_10log10(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_10log10_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecSeg.cv_10log10_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_10log10_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.cv_10log10_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_10log10_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_10log10_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_20log10(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_20log10(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_20log10_f(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_20log10_f(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_20log10_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_20log10_fw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_20log10_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecSeg.cv_20log10_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_20log10_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.cv_20log10_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_20log10_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_20log10_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_abs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_abs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_abs(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_abs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_abs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_abs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_abs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_abs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_add_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecSeg.cv_add_cs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_add_cs_i(cvz1, offset, csx, size);
+        VOVecSeg.cv_add_cs_i(MemorySegment.ofArray(cvz2), offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_add_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVecSeg.cv_add_cs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_add_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecSeg.cv_add_cs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_add_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecSeg.cv_add_cv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_add_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecSeg.cv_add_cv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_add_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_add_cv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_add_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_add_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_add_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecSeg.cv_add_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_add_rs_i(cvz1, offset, rsx, size);
+        VOVecSeg.cv_add_rs_i(MemorySegment.ofArray(cvz2), offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_add_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecSeg.cv_add_rs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_add_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.cv_add_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_add_rv(cvz1, 0, cvx, offset, rvy, offset, size);
+        VOVecSeg.cv_add_rv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_add_rv_i(cvz1, offset, rvx, offset, size);
+        VOVecSeg.cv_add_rv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_add_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_add_rv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_add_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_add_rv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_arg({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_arg(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_arg(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_arg_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_arg_f(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_arg_f(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_arg_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_arg_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_arg_fw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_arg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_arg_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_arg_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_argmul_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecSeg.cv_argmul_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_argmul_rs_f(cvz1, 0, cvx, offset, rsy, size);
+        VOVecSeg.cv_argmul_rs_f(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_argmul_rs_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.cv_argmul_rs_fw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_argmul_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.cv_argmul_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_conj(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_conj(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_conj_i(cvz1, offset, size);
+        VOVecSeg.cv_conj_i(MemorySegment.ofArray(cvz2), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_conj_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.cv_conj_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_conj_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_conj_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_conjmul_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecSeg.cv_conjmul_cv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_conjmul_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecSeg.cv_conjmul_cv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_conjmul_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_conjmul_cv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_conjmul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_conjmul_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cpy({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cpy(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_cpy(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_cpy(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cpy_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cpy_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_cpy_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_cpy_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_cs_lin_cv_cs(cvz1, 0, cvx, offset, csx, cvy, offset, csy, size);
+        VOVecSeg.cv_cs_lin_cv_cs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, csx, MemorySegment.ofArray(cvy), offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_cs_lin_cv_cs_i(cvz1, offset, csz, cvx, offset, csx, size);
+        VOVecSeg.cv_cs_lin_cv_cs_i(MemorySegment.ofArray(cvz2), offset, csz, MemorySegment.ofArray(cvx), offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_cs_lin_cv_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, cvx, DATA_SIZE - size / 3 + offset, csx, size);
+        VOVecSeg.cv_cs_lin_cv_cs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, csz, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_cs_lin_cv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVecSeg.cv_cs_lin_cv_cs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, csx, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_cs_lin_cv_rs(cvz1, 0, cvx, offset, csx, cvy, offset, rsy, size);
+        VOVecSeg.cv_cs_lin_cv_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, csx, MemorySegment.ofArray(cvy), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_cs_lin_cv_rs_i(cvz1, offset, csz, cvx, offset, rsx, size);
+        VOVecSeg.cv_cs_lin_cv_rs_i(MemorySegment.ofArray(cvz2), offset, csz, MemorySegment.ofArray(cvx), offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_cs_lin_cv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecSeg.cv_cs_lin_cv_rs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, csz, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_cs_lin_cv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecSeg.cv_cs_lin_cv_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, csx, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_cs_lin_rv_cs(cvz1, 0, cvx, offset, csx, rvy, offset, csy, size);
+        VOVecSeg.cv_cs_lin_rv_cs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, csx, MemorySegment.ofArray(rvy), offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_cs_lin_rv_cs_i(cvz1, offset, csz, rvx, offset, csx, size);
+        VOVecSeg.cv_cs_lin_rv_cs_i(MemorySegment.ofArray(cvz2), offset, csz, MemorySegment.ofArray(rvx), offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_cs_lin_rv_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, rvx, DATA_SIZE - size / 3 + offset, csx, size);
+        VOVecSeg.cv_cs_lin_rv_cs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, csz, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_cs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVecSeg.cv_cs_lin_rv_cs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, csx, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_cs_lin_rv_rs(cvz1, 0, cvx, offset, csx, rvy, offset, rsy, size);
+        VOVecSeg.cv_cs_lin_rv_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, csx, MemorySegment.ofArray(rvy), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_cs_lin_rv_rs_i(cvz1, offset, csz, rvx, offset, rsx, size);
+        VOVecSeg.cv_cs_lin_rv_rs_i(MemorySegment.ofArray(cvz2), offset, csz, MemorySegment.ofArray(rvx), offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_cs_lin_rv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecSeg.cv_cs_lin_rv_rs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, csz, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_cs_lin_rv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecSeg.cv_cs_lin_rv_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, csx, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_div_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecSeg.cv_div_cs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_div_cs_i(cvz1, offset, csx, size);
+        VOVecSeg.cv_div_cs_i(MemorySegment.ofArray(cvz2), offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_div_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVecSeg.cv_div_cs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_div_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecSeg.cv_div_cs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_div_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecSeg.cv_div_cv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_div_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecSeg.cv_div_cv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_div_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_div_cv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_div_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_div_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecSeg.cv_div_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_div_rs_i(cvz1, offset, rsx, size);
+        VOVecSeg.cv_div_rs_i(MemorySegment.ofArray(cvz2), offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_div_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecSeg.cv_div_rs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_div_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.cv_div_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_div_rv(cvz1, 0, cvx, offset, rvy, offset, size);
+        VOVecSeg.cv_div_rv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_div_rv_i(cvz1, offset, rvx, offset, size);
+        VOVecSeg.cv_div_rv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_div_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_div_rv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_div_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_div_rv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.cv_dot_cv(csz1, cvx, offset, cvy, offset, size);
+        VOVecSeg.cv_dot_cv(csz2, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VOVec.cv_dot_cv(csz1, 1, cvx, offset, cvy, offset, size);
+        VOVecSeg.cv_dot_cv(MemorySegment.ofArray(csz2), 1, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.cv_dot_cv_w(csz1, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_dot_cv_w(csz2, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_w_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_w_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VOVec.cv_dot_cv_w(csz1, 1, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_dot_cv_w(MemorySegment.ofArray(csz2), 1, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_rv_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.cv_dot_rv_w(csz1, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_dot_rv_w(csz2, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_rv_w_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_rv_w_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VOVec.cv_dot_rv_w(csz1, 1, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_dot_rv_w(MemorySegment.ofArray(csz2), 1, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_exp({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_exp(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_exp(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_exp_f(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_exp_f(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_exp_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_exp_fw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_exp_i(cvz1, offset, size);
+        VOVecSeg.cv_exp_i(MemorySegment.ofArray(cvz2), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_if(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_exp_if(cvz1, offset, size);
+        VOVecSeg.cv_exp_if(MemorySegment.ofArray(cvz2), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_ifw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_exp_ifw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.cv_exp_ifw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_exp_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.cv_exp_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_exp_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_exp_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_im({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_im(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.cv_im(rvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_im(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_im_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_im_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.cv_im_w(rvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_im_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.cv_max(csz1, cvx, offset, size);
+        VOVecSeg.cv_max(csz2, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_max_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecSeg.cv_max_cv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_max_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecSeg.cv_max_cv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_max_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_max_cv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_max_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_max_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.cv_max_w(csz1, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_max_w(csz2, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_maxarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg(int size, int offset) {
+        int intz1 = VOVec.cv_maxarg(cvx, offset, size);
+        long intz2 = VOVecSeg.cv_maxarg(MemorySegment.ofArray(cvx), offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "cv_maxarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg_w(int size, int offset) {
+        int intz1 = VOVec.cv_maxarg_w(cvx, DATA_SIZE - size / 3 + offset, size);
+        long intz2 = VOVecSeg.cv_maxarg_w(MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "cv_min({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.cv_min(csz1, cvx, offset, size);
+        VOVecSeg.cv_min(csz2, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_min_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecSeg.cv_min_cv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_min_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecSeg.cv_min_cv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_min_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_min_cv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_min_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_min_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.cv_min_w(csz1, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_min_w(csz2, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_minarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_minarg(int size, int offset) {
+        int intz1 = VOVec.cv_minarg(cvx, offset, size);
+        long intz2 = VOVecSeg.cv_minarg(MemorySegment.ofArray(cvx), offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "cv_minarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_minarg_w(int size, int offset) {
+        int intz1 = VOVec.cv_minarg_w(cvx, DATA_SIZE - size / 3 + offset, size);
+        long intz2 = VOVecSeg.cv_minarg_w(MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_mul_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecSeg.cv_mul_cs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_mul_cs_i(cvz1, offset, csx, size);
+        VOVecSeg.cv_mul_cs_i(MemorySegment.ofArray(cvz2), offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_mul_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVecSeg.cv_mul_cs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_mul_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecSeg.cv_mul_cs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_mul_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecSeg.cv_mul_cv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_mul_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecSeg.cv_mul_cv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_mul_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_mul_cv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_mul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_mul_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_mul_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecSeg.cv_mul_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_mul_rs_i(cvz1, offset, rsx, size);
+        VOVecSeg.cv_mul_rs_i(MemorySegment.ofArray(cvz2), offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_mul_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecSeg.cv_mul_rs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_mul_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.cv_mul_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_mul_rv(cvz1, 0, cvx, offset, rvy, offset, size);
+        VOVecSeg.cv_mul_rv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_mul_rv_i(cvz1, offset, rvx, offset, size);
+        VOVecSeg.cv_mul_rv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_mul_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_mul_rv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_mul_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_mul_rv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_p2r(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_p2r(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_p2r_i(cvz1, offset, size);
+        VOVecSeg.cv_p2r_i(MemorySegment.ofArray(cvz2), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_p2r_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.cv_p2r_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_p2r_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_p2r_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_r2p(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_r2p(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_r2p_f(cvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_r2p_f(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_r2p_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_r2p_fw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_r2p_i(cvz1, offset, size);
+        VOVecSeg.cv_r2p_i(MemorySegment.ofArray(cvz2), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_if(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_r2p_if(cvz1, offset, size);
+        VOVecSeg.cv_r2p_if(MemorySegment.ofArray(cvz2), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_ifw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_r2p_ifw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.cv_r2p_ifw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_r2p_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.cv_r2p_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_r2p_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_r2p_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_re({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_re(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.cv_re(rvz1, 0, cvx, offset, size);
+        VOVecSeg.cv_re(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_re_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_re_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.cv_re_w(rvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_re_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_rs_lin_cv_rs(cvz1, 0, cvx, offset, rsx, cvy, offset, rsy, size);
+        VOVecSeg.cv_rs_lin_cv_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsx, MemorySegment.ofArray(cvy), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_rs_lin_cv_rs_i(cvz1, offset, rsz, cvx, offset, rsx, size);
+        VOVecSeg.cv_rs_lin_cv_rs_i(MemorySegment.ofArray(cvz2), offset, rsz, MemorySegment.ofArray(cvx), offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_rs_lin_cv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecSeg.cv_rs_lin_cv_rs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, rsz, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_rs_lin_cv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecSeg.cv_rs_lin_cv_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsx, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_rs_lin_rv_cs(cvz1, 0, cvx, offset, rsx, rvy, offset, csy, size);
+        VOVecSeg.cv_rs_lin_rv_cs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsx, MemorySegment.ofArray(rvy), offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_rs_lin_rv_cs_i(cvz1, offset, rsz, rvx, offset, csx, size);
+        VOVecSeg.cv_rs_lin_rv_cs_i(MemorySegment.ofArray(cvz2), offset, rsz, MemorySegment.ofArray(rvx), offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_rs_lin_rv_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, csx, size);
+        VOVecSeg.cv_rs_lin_rv_cs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, rsz, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_rs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVecSeg.cv_rs_lin_rv_cs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsx, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_rs_lin_rv_rs(cvz1, 0, cvx, offset, rsx, rvy, offset, rsy, size);
+        VOVecSeg.cv_rs_lin_rv_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsx, MemorySegment.ofArray(rvy), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_rs_lin_rv_rs_i(cvz1, offset, rsz, rvx, offset, rsx, size);
+        VOVecSeg.cv_rs_lin_rv_rs_i(MemorySegment.ofArray(cvz2), offset, rsz, MemorySegment.ofArray(rvx), offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VOVec.cv_rs_lin_rv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecSeg.cv_rs_lin_rv_rs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, rsz, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_rs_lin_rv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecSeg.cv_rs_lin_rv_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsx, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_sub_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVecSeg.cv_sub_cs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_sub_cs_i(cvz1, offset, csx, size);
+        VOVecSeg.cv_sub_cs_i(MemorySegment.ofArray(cvz2), offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_sub_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVecSeg.cv_sub_cs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_sub_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVecSeg.cv_sub_cs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_sub_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVecSeg.cv_sub_cv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_sub_cv_i(cvz1, offset, cvx, offset, size);
+        VOVecSeg.cv_sub_cv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_sub_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_sub_cv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_sub_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_sub_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVecSeg.cv_sub_rs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_sub_rs_i(cvz1, offset, rsx, size);
+        VOVecSeg.cv_sub_rs_i(MemorySegment.ofArray(cvz2), offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_sub_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecSeg.cv_sub_rs_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_sub_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.cv_sub_rs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_sub_rv(cvz1, 0, cvx, offset, rvy, offset, size);
+        VOVecSeg.cv_sub_rv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_sub_rv_i(cvz1, offset, rvx, offset, size);
+        VOVecSeg.cv_sub_rv_i(MemorySegment.ofArray(cvz2), offset, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VOVec.cv_sub_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_sub_rv_iw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.cv_sub_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.cv_sub_rv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sum({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.cv_sum(csz1, cvx, offset, size);
+        VOVecSeg.cv_sum(csz2, MemorySegment.ofArray(cvx), offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_sum_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.cv_sum_w(csz1, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.cv_sum_w(csz2, MemorySegment.ofArray(cvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rs_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rs_div_cv(cvz1, 0, rsx, cvy, offset, size);
+        VOVecSeg.rs_div_cv(MemorySegment.ofArray(cvz2), 0, rsx, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rs_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rs_div_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, rsx, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_div_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rs_div_rv(rvz1, 0, rsx, rvy, offset, size);
+        VOVecSeg.rs_div_rv(MemorySegment.ofArray(rvz2), 0, rsx, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rs_div_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rs_div_rv_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, rsx, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rs_sub_cv(cvz1, 0, rsx, cvy, offset, size);
+        VOVecSeg.rs_sub_cv(MemorySegment.ofArray(cvz2), 0, rsx, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rs_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rs_sub_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, rsx, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rs_sub_rv(rvz1, 0, rsx, rvy, offset, size);
+        VOVecSeg.rs_sub_rv(MemorySegment.ofArray(rvz2), 0, rsx, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rs_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rs_sub_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rs_sub_rv_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, rsx, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_10log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_10log10(rvz1, 0, rvx, offset, size);
+        VOVecSeg.rv_10log10(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_f(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_10log10_f(rvz1, 0, rvx, offset, size);
+        VOVecSeg.rv_10log10_f(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_fw(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_10log10_fw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_10log10_fw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_10log10_i(rvz1, offset, size);
+        VOVecSeg.rv_10log10_i(MemorySegment.ofArray(rvz2), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_if(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_10log10_if(rvz1, offset, size);
+        VOVecSeg.rv_10log10_if(MemorySegment.ofArray(rvz2), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_ifw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_10log10_ifw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.rv_10log10_ifw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_10log10_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.rv_10log10_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_10log10_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecSeg.rv_10log10_rs(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_10log10_rs_i(rvz1, offset, rsx, size);
+        VOVecSeg.rv_10log10_rs_i(MemorySegment.ofArray(rvz2), offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_10log10_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecSeg.rv_10log10_rs_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_10log10_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.rv_10log10_rs_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_10log10_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_10log10_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_20log10(rvz1, 0, rvx, offset, size);
+        VOVecSeg.rv_20log10(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_20log10_i(rvz1, offset, size);
+        VOVecSeg.rv_20log10_i(MemorySegment.ofArray(rvz2), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_20log10_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.rv_20log10_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_20log10_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecSeg.rv_20log10_rs(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_20log10_rs_i(rvz1, offset, rsx, size);
+        VOVecSeg.rv_20log10_rs_i(MemorySegment.ofArray(rvz2), offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_20log10_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecSeg.rv_20log10_rs_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_20log10_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.rv_20log10_rs_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_20log10_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_20log10_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_abs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_abs(rvz1, 0, rvx, offset, size);
+        VOVecSeg.rv_abs(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_abs_i(rvz1, offset, size);
+        VOVecSeg.rv_abs_i(MemorySegment.ofArray(rvz2), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_abs_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.rv_abs_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_abs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_abs_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_add_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecSeg.rv_add_rs(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_add_rs_i(rvz1, offset, rsx, size);
+        VOVecSeg.rv_add_rs_i(MemorySegment.ofArray(rvz2), offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_add_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecSeg.rv_add_rs_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_add_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.rv_add_rs_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_add_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecSeg.rv_add_rv(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_add_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecSeg.rv_add_rv_i(MemorySegment.ofArray(rvz2), offset, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_add_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_add_rv_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_add_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_add_rv_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_conjmul_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_conjmul_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_conjmul_cv(cvz1, 0, rvx, offset, cvy, offset, size);
+        VOVecSeg.rv_conjmul_cv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_conjmul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_conjmul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_conjmul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_conjmul_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cpy({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cpy(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_cpy(rvz1, 0, rvx, offset, size);
+        VOVecSeg.rv_cpy(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cpy_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cpy_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_cpy_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_cpy_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cs_lin_rv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_cs_lin_rv_cs(cvz1, 0, rvx, offset, csx, rvy, offset, csy, size);
+        VOVecSeg.rv_cs_lin_rv_cs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(rvx), offset, csx, MemorySegment.ofArray(rvy), offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_cs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVecSeg.rv_cs_lin_rv_cs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, csx, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cvt({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cvt(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_cvt(cvz1, 0, rvx, offset, size);
+        VOVecSeg.rv_cvt(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_cvt_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cvt_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_cvt_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_cvt_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_div_cv(cvz1, 0, rvx, offset, cvy, offset, size);
+        VOVecSeg.rv_div_cv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_div_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_div_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecSeg.rv_div_rs(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_div_rs_i(rvz1, offset, rsx, size);
+        VOVecSeg.rv_div_rs_i(MemorySegment.ofArray(rvz2), offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_div_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecSeg.rv_div_rs_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_div_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.rv_div_rs_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_div_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecSeg.rv_div_rv(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_div_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecSeg.rv_div_rv_i(MemorySegment.ofArray(rvz2), offset, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_div_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_div_rv_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_div_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_div_rv_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.rv_dot_cv(csz1, rvx, offset, cvy, offset, size);
+        VOVecSeg.rv_dot_cv(csz2, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VOVec.rv_dot_cv(csz1, 1, rvx, offset, cvy, offset, size);
+        VOVecSeg.rv_dot_cv(MemorySegment.ofArray(csz2), 1, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VOVec.rv_dot_cv_w(csz1, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_dot_cv_w(csz2, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_w_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_w_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VOVec.rv_dot_cv_w(csz1, 1, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_dot_cv_w(MemorySegment.ofArray(csz2), 1, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv(int size, int offset) {
+        float rsz1 = VOVec.rv_dot_rv(rvx, offset, rvy, offset, size);
+        float rsz2 = VOVecSeg.rv_dot_rv(MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv_w(int size, int offset) {
+        float rsz1 = VOVec.rv_dot_rv_w(rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        float rsz2 = VOVecSeg.rv_dot_rv_w(MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_exp({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_exp(rvz1, 0, rvx, offset, size);
+        VOVecSeg.rv_exp(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_exp_i(rvz1, offset, size);
+        VOVecSeg.rv_exp_i(MemorySegment.ofArray(rvz2), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_exp_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVecSeg.rv_exp_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_exp_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_exp_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_expi({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_expi(cvz1, 0, rvx, offset, size);
+        VOVecSeg.rv_expi(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_expi_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_expi_f(cvz1, 0, rvx, offset, size);
+        VOVecSeg.rv_expi_f(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "rv_expi_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_expi_fw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_expi_fw(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "rv_expi_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_expi_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_expi_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max(int size, int offset) {
+        float rsz1 = VOVec.rv_max(rvx, offset, size);
+        float rsz2 = VOVecSeg.rv_max(MemorySegment.ofArray(rvx), offset, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_max_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecSeg.rv_max_rv(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_max_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecSeg.rv_max_rv_i(MemorySegment.ofArray(rvz2), offset, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_max_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_max_rv_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_max_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_max_rv_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_w(int size, int offset) {
+        float rsz1 = VOVec.rv_max_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        float rsz2 = VOVecSeg.rv_max_w(MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_maxarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg(int size, int offset) {
+        int intz1 = VOVec.rv_maxarg(rvx, offset, size);
+        long intz2 = VOVecSeg.rv_maxarg(MemorySegment.ofArray(rvx), offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "rv_maxarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg_w(int size, int offset) {
+        int intz1 = VOVec.rv_maxarg_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        long intz2 = VOVecSeg.rv_maxarg_w(MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "rv_min({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min(int size, int offset) {
+        float rsz1 = VOVec.rv_min(rvx, offset, size);
+        float rsz2 = VOVecSeg.rv_min(MemorySegment.ofArray(rvx), offset, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_min_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecSeg.rv_min_rv(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_min_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecSeg.rv_min_rv_i(MemorySegment.ofArray(rvz2), offset, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_min_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_min_rv_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_min_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_min_rv_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_w(int size, int offset) {
+        float rsz1 = VOVec.rv_min_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        float rsz2 = VOVecSeg.rv_min_w(MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_minarg({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_minarg(int size, int offset) {
+        int intz1 = VOVec.rv_minarg(rvx, offset, size);
+        long intz2 = VOVecSeg.rv_minarg(MemorySegment.ofArray(rvx), offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "rv_minarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_minarg_w(int size, int offset) {
+        int intz1 = VOVec.rv_minarg_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        long intz2 = VOVecSeg.rv_minarg_w(MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_mul_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecSeg.rv_mul_rs(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_mul_rs_i(rvz1, offset, rsx, size);
+        VOVecSeg.rv_mul_rs_i(MemorySegment.ofArray(rvz2), offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_mul_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecSeg.rv_mul_rs_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_mul_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.rv_mul_rs_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_mul_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecSeg.rv_mul_rv(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_mul_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecSeg.rv_mul_rv_i(MemorySegment.ofArray(rvz2), offset, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_mul_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_mul_rv_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_mul_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_mul_rv_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_rs_lin_rv_cs(cvz1, 0, rvx, offset, rsx, rvy, offset, csy, size);
+        VOVecSeg.rv_rs_lin_rv_cs(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(rvx), offset, rsx, MemorySegment.ofArray(rvy), offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_rs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVecSeg.rv_rs_lin_rv_cs_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsx, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_rs_lin_rv_rs(rvz1, 0, rvx, offset, rsx, rvy, offset, rsy, size);
+        VOVecSeg.rv_rs_lin_rv_rs(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, rsx, MemorySegment.ofArray(rvy), offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_rs_lin_rv_rs_i(rvz1, offset, rsz, rvx, offset, rsx, size);
+        VOVecSeg.rv_rs_lin_rv_rs_i(MemorySegment.ofArray(rvz2), offset, rsz, MemorySegment.ofArray(rvx), offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VOVec.rv_rs_lin_rv_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVecSeg.rv_rs_lin_rv_rs_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, rsz, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_rs_lin_rv_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVecSeg.rv_rs_lin_rv_rs_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsx, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_sub_cv(cvz1, 0, rvx, offset, cvy, offset, size);
+        VOVecSeg.rv_sub_cv(MemorySegment.ofArray(cvz2), 0, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VOVec.rv_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_sub_cv_w(MemorySegment.ofArray(cvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(cvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_sub_rs(rvz1, 0, rvx, offset, rsy, size);
+        VOVecSeg.rv_sub_rs(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_sub_rs_i(rvz1, offset, rsx, size);
+        VOVecSeg.rv_sub_rs_i(MemorySegment.ofArray(rvz2), offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_sub_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVecSeg.rv_sub_rs_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_sub_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVecSeg.rv_sub_rs_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_sub_rv(rvz1, 0, rvx, offset, rvy, offset, size);
+        VOVecSeg.rv_sub_rv(MemorySegment.ofArray(rvz2), 0, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(rvy), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_i(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_sub_rv_i(rvz1, offset, rvx, offset, size);
+        VOVecSeg.rv_sub_rv_i(MemorySegment.ofArray(rvz2), offset, MemorySegment.ofArray(rvx), offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VOVec.rv_sub_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVecSeg.rv_sub_rv_iw(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VOVec.rv_sub_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVecSeg.rv_sub_rv_w(MemorySegment.ofArray(rvz2), DATA_SIZE - size / 2 + offset, MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, MemorySegment.ofArray(rvy), DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sum({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum(int size, int offset) {
+        float rsz1 = VOVec.rv_sum(rvx, offset, size);
+        float rsz2 = VOVecSeg.rv_sum(MemorySegment.ofArray(rvx), offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_sum_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum_w(int size, int offset) {
+        float rsz1 = VOVec.rv_sum_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        float rsz2 = VOVecSeg.rv_sum_w(MemorySegment.ofArray(rvx), DATA_SIZE - size / 3 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
+    // Native copy of first count elements of data, base is aligned to 64 bytes and shifted by shift floats
+    private static MemorySegment nativeSegment(Arena arena, float data[], int count, int shift) {
+        MemorySegment s = arena.allocate((long)(count + shift) * Float.BYTES, 64).asSlice((long)shift * Float.BYTES, (long)count * Float.BYTES);
+        MemorySegment.copy(data, 0, s, ValueLayout.JAVA_FLOAT, 0, count);
+        return s;
+    }
+
+    @ParameterizedTest(name = "cs_div_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_div_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.cs_div_cv(z1, offset, csx, cvy, offset, size);
+                VOVecSeg.cs_div_cv(z2, offset, csx, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cs_sub_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_sub_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.cs_sub_cv(z1, offset, csx, cvy, offset, size);
+                VOVecSeg.cs_sub_cv(z2, offset, csx, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_10log10_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_10log10(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_10log10(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_10log10_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_10log10_rs(z1, offset, cvx, offset, rsy, size);
+                VOVecSeg.cv_10log10_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_20log10_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_20log10(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_20log10(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_20log10_f_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_f_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_20log10_f(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_20log10_f(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_FAST_DB);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_20log10_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_20log10_rs(z1, offset, cvx, offset, rsy, size);
+                VOVecSeg.cv_20log10_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_abs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_abs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_abs(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_abs(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_add_cs(z1, offset, cvx, offset, csy, size);
+                VOVecSeg.cv_add_cs(z2, offset, x, offset, csy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_add_cs_i(z1, offset, csx, size);
+                VOVecSeg.cv_add_cs_i(z2, offset, csx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.cv_add_cv(z1, offset, cvx, offset, cvy, offset, size);
+                VOVecSeg.cv_add_cv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_add_cv_i(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_add_cv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_add_rs(z1, offset, cvx, offset, rsy, size);
+                VOVecSeg.cv_add_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_add_rs_i(z1, offset, rsx, size);
+                VOVecSeg.cv_add_rs_i(z2, offset, rsx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_add_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.cv_add_rv(z1, offset, cvx, offset, rvy, offset, size);
+                VOVecSeg.cv_add_rv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_add_rv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.cv_add_rv_i(z1, offset, rvx, offset, size);
+                VOVecSeg.cv_add_rv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_arg_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_arg(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_arg(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_arg_f_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_f_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_arg_f(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_arg_f(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_FAST);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_argmul_rs(z1, offset, cvx, offset, rsy, size);
+                VOVecSeg.cv_argmul_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_f_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_f_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_argmul_rs_f(z1, offset, cvx, offset, rsy, size);
+                VOVecSeg.cv_argmul_rs_f(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_FAST);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_conj_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_conj(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_conj(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_conj_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_conj_i(z1, offset, size);
+                VOVecSeg.cv_conj_i(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.cv_conjmul_cv(z1, offset, cvx, offset, cvy, offset, size);
+                VOVecSeg.cv_conjmul_cv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_conjmul_cv_i(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_conjmul_cv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_cpy_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cpy_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_cpy(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_cpy(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_div_cs(z1, offset, cvx, offset, csy, size);
+                VOVecSeg.cv_div_cs(z2, offset, x, offset, csy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_div_cs_i(z1, offset, csx, size);
+                VOVecSeg.cv_div_cs_i(z2, offset, csx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.cv_div_cv(z1, offset, cvx, offset, cvy, offset, size);
+                VOVecSeg.cv_div_cv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_div_cv_i(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_div_cv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_div_rs(z1, offset, cvx, offset, rsy, size);
+                VOVecSeg.cv_div_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_div_rs_i(z1, offset, rsx, size);
+                VOVecSeg.cv_div_rs_i(z2, offset, rsx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.cv_div_rv(z1, offset, cvx, offset, rvy, offset, size);
+                VOVecSeg.cv_div_rv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.cv_div_rv_i(z1, offset, rvx, offset, size);
+                VOVecSeg.cv_div_rv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[2];
+                float z2[] = new float[2];
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.cv_dot_cv(z1, cvx, offset, cvy, offset, size);
+                VOVecSeg.cv_dot_cv(z2, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2, EPSILON * size);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_exp_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_exp(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_exp(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_exp_f_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_f_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_exp_f(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_exp_f(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_FAST_EXP);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_exp_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_exp_i(z1, offset, size);
+                VOVecSeg.cv_exp_i(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_exp_if_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_if_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_exp_if(z1, offset, size);
+                VOVecSeg.cv_exp_if(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_FAST_EXP);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_im_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_im_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_im(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_im(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_max_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[2];
+                float z2[] = new float[2];
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_max(z1, cvx, offset, size);
+                VOVecSeg.cv_max(z2, x, offset, size);
+                assertArrayEquals(z1, z2, EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.cv_max_cv(z1, offset, cvx, offset, cvy, offset, size);
+                VOVecSeg.cv_max_cv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_max_cv_i(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_max_cv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_maxarg_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                int z1 = VO.cv_maxarg(cvx, offset, size);
+                long z2 = VOVecSeg.cv_maxarg(x, offset, size);
+                assertEquals(z1, z2);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_min_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[2];
+                float z2[] = new float[2];
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_min(z1, cvx, offset, size);
+                VOVecSeg.cv_min(z2, x, offset, size);
+                assertArrayEquals(z1, z2, EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.cv_min_cv(z1, offset, cvx, offset, cvy, offset, size);
+                VOVecSeg.cv_min_cv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_min_cv_i(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_min_cv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_minarg_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_minarg_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                int z1 = VO.cv_minarg(cvx, offset, size);
+                long z2 = VOVecSeg.cv_minarg(x, offset, size);
+                assertEquals(z1, z2);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_mul_cs(z1, offset, cvx, offset, csy, size);
+                VOVecSeg.cv_mul_cs(z2, offset, x, offset, csy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_mul_cs_i(z1, offset, csx, size);
+                VOVecSeg.cv_mul_cs_i(z2, offset, csx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.cv_mul_cv(z1, offset, cvx, offset, cvy, offset, size);
+                VOVecSeg.cv_mul_cv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_mul_cv_i(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_mul_cv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_mul_rs(z1, offset, cvx, offset, rsy, size);
+                VOVecSeg.cv_mul_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_mul_rs_i(z1, offset, rsx, size);
+                VOVecSeg.cv_mul_rs_i(z2, offset, rsx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.cv_mul_rv(z1, offset, cvx, offset, rvy, offset, size);
+                VOVecSeg.cv_mul_rv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.cv_mul_rv_i(z1, offset, rvx, offset, size);
+                VOVecSeg.cv_mul_rv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_p2r_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_p2r(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_p2r(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_p2r_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_p2r_i(z1, offset, size);
+                VOVecSeg.cv_p2r_i(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_r2p_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_r2p(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_r2p(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_r2p_f_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_f_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_r2p_f(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_r2p_f(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_FAST);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_r2p_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_r2p_i(z1, offset, size);
+                VOVecSeg.cv_r2p_i(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_r2p_if_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_if_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_r2p_if(z1, offset, size);
+                VOVecSeg.cv_r2p_if(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_FAST);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_re_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_re_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_re(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_re(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_sub_cs(z1, offset, cvx, offset, csy, size);
+                VOVecSeg.cv_sub_cs(z2, offset, x, offset, csy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_sub_cs_i(z1, offset, csx, size);
+                VOVecSeg.cv_sub_cs_i(z2, offset, csx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.cv_sub_cv(z1, offset, cvx, offset, cvy, offset, size);
+                VOVecSeg.cv_sub_cv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_sub_cv_i(z1, offset, cvx, offset, size);
+                VOVecSeg.cv_sub_cv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_sub_rs(z1, offset, cvx, offset, rsy, size);
+                VOVecSeg.cv_sub_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.cv_sub_rs_i(z1, offset, rsx, size);
+                VOVecSeg.cv_sub_rs_i(z2, offset, rsx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.cv_sub_rv(z1, offset, cvx, offset, rvy, offset, size);
+                VOVecSeg.cv_sub_rv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(cvz, (offset + size) * 2);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.cv_sub_rv_i(z1, offset, rvx, offset, size);
+                VOVecSeg.cv_sub_rv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "cv_sum_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[2];
+                float z2[] = new float[2];
+                MemorySegment x = nativeSegment(arena, cvx, (offset + size) * 2, shift);
+                VO.cv_sum(z1, cvx, offset, size);
+                VOVecSeg.cv_sum(z2, x, offset, size);
+                assertArrayEquals(z1, z2, EPSILON * size);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rs_div_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.rs_div_cv(z1, offset, rsx, cvy, offset, size);
+                VOVecSeg.rs_div_cv(z2, offset, rsx, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rs_div_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.rs_div_rv(z1, offset, rsx, rvy, offset, size);
+                VOVecSeg.rs_div_rv(z2, offset, rsx, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rs_sub_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.rs_sub_cv(z1, offset, rsx, cvy, offset, size);
+                VOVecSeg.rs_sub_cv(z2, offset, rsx, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rs_sub_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.rs_sub_rv(z1, offset, rsx, rvy, offset, size);
+                VOVecSeg.rs_sub_rv(z2, offset, rsx, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_10log10_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_10log10(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_10log10(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_10log10_f_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_f_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_10log10_f(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_10log10_f(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_FAST_DB);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_10log10_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_10log10_i(z1, offset, size);
+                VOVecSeg.rv_10log10_i(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_10log10_if_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_if_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_10log10_if(z1, offset, size);
+                VOVecSeg.rv_10log10_if(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_FAST_DB);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_10log10_rs(z1, offset, rvx, offset, rsy, size);
+                VOVecSeg.rv_10log10_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_10log10_rs_i(z1, offset, rsx, size);
+                VOVecSeg.rv_10log10_rs_i(z2, offset, rsx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_20log10_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_20log10(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_20log10(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_20log10_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_20log10_i(z1, offset, size);
+                VOVecSeg.rv_20log10_i(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_20log10_rs(z1, offset, rvx, offset, rsy, size);
+                VOVecSeg.rv_20log10_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_20log10_rs_i(z1, offset, rsx, size);
+                VOVecSeg.rv_20log10_rs_i(z2, offset, rsx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_APPROX);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_abs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_abs(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_abs(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_abs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_abs_i(z1, offset, size);
+                VOVecSeg.rv_abs_i(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_add_rs(z1, offset, rvx, offset, rsy, size);
+                VOVecSeg.rv_add_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_add_rs_i(z1, offset, rsx, size);
+                VOVecSeg.rv_add_rs_i(z2, offset, rsx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.rv_add_rv(z1, offset, rvx, offset, rvy, offset, size);
+                VOVecSeg.rv_add_rv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_add_rv_i(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_add_rv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_conjmul_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_conjmul_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.rv_conjmul_cv(z1, offset, rvx, offset, cvy, offset, size);
+                VOVecSeg.rv_conjmul_cv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_cpy_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cpy_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_cpy(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_cpy(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_cvt_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cvt_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_cvt(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_cvt(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_div_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.rv_div_cv(z1, offset, rvx, offset, cvy, offset, size);
+                VOVecSeg.rv_div_cv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_div_rs(z1, offset, rvx, offset, rsy, size);
+                VOVecSeg.rv_div_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_div_rs_i(z1, offset, rsx, size);
+                VOVecSeg.rv_div_rs_i(z2, offset, rsx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.rv_div_rv(z1, offset, rvx, offset, rvy, offset, size);
+                VOVecSeg.rv_div_rv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_div_rv_i(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_div_rv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[2];
+                float z2[] = new float[2];
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.rv_dot_cv(z1, rvx, offset, cvy, offset, size);
+                VOVecSeg.rv_dot_cv(z2, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2, EPSILON * size);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_dot_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                float z1 = VO.rv_dot_rv(rvx, offset, rvy, offset, size);
+                float z2 = VOVecSeg.rv_dot_rv(x, offset, y, offset, size);
+                assertEquals(z1, z2, EPSILON * size);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_exp_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_exp(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_exp(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_exp_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_exp_i(z1, offset, size);
+                VOVecSeg.rv_exp_i(z2, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_expi_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_expi(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_expi(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_expi_f_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_f_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_expi_f(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_expi_f(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON_FAST);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_max_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                float z1 = VO.rv_max(rvx, offset, size);
+                float z2 = VOVecSeg.rv_max(x, offset, size);
+                assertEquals(z1, z2, EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.rv_max_rv(z1, offset, rvx, offset, rvy, offset, size);
+                VOVecSeg.rv_max_rv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_max_rv_i(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_max_rv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_maxarg_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                int z1 = VO.rv_maxarg(rvx, offset, size);
+                long z2 = VOVecSeg.rv_maxarg(x, offset, size);
+                assertEquals(z1, z2);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_min_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                float z1 = VO.rv_min(rvx, offset, size);
+                float z2 = VOVecSeg.rv_min(x, offset, size);
+                assertEquals(z1, z2, EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.rv_min_rv(z1, offset, rvx, offset, rvy, offset, size);
+                VOVecSeg.rv_min_rv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_min_rv_i(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_min_rv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_minarg_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_minarg_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                int z1 = VO.rv_minarg(rvx, offset, size);
+                long z2 = VOVecSeg.rv_minarg(x, offset, size);
+                assertEquals(z1, z2);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_mul_rs(z1, offset, rvx, offset, rsy, size);
+                VOVecSeg.rv_mul_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_mul_rs_i(z1, offset, rsx, size);
+                VOVecSeg.rv_mul_rs_i(z2, offset, rsx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.rv_mul_rv(z1, offset, rvx, offset, rvy, offset, size);
+                VOVecSeg.rv_mul_rv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_mul_rv_i(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_mul_rv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_sub_cv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_cv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[(offset + size) * 2];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, cvy, (offset + size) * 2, shift);
+                VO.rv_sub_cv(z1, offset, rvx, offset, cvy, offset, size);
+                VOVecSeg.rv_sub_cv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_sub_rs(z1, offset, rvx, offset, rsy, size);
+                VOVecSeg.rv_sub_rs(z2, offset, x, offset, rsy, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                VO.rv_sub_rs_i(z1, offset, rsx, size);
+                VOVecSeg.rv_sub_rs_i(z2, offset, rsx, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = new float[offset + size];
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                MemorySegment y = nativeSegment(arena, rvy, offset + size, shift);
+                VO.rv_sub_rv(z1, offset, rvx, offset, rvy, offset, size);
+                VOVecSeg.rv_sub_rv(z2, offset, x, offset, y, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_i_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_i_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                float z1[] = Arrays.copyOf(rvz, offset + size);
+                MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                VO.rv_sub_rv_i(z1, offset, rvx, offset, size);
+                VOVecSeg.rv_sub_rv_i(z2, offset, x, offset, size);
+                assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "rv_sum_native({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum_native(int size, int offset) {
+        for (int shift = 0; shift <= 1; shift++) {
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment x = nativeSegment(arena, rvx, offset + size, shift);
+                float z1 = VO.rv_sum(rvx, offset, size);
+                float z2 = VOVecSeg.rv_sum(x, offset, size);
+                assertEquals(z1, z2, EPSILON * size);
+            }
+        }
+    }
+
+    // Worst-case error of summation of n terms is n * u * sum(|term|), but for random data it is
+    // about u * sum(|term|) for any order of summation, so it is checked with log2(n) margin
+    private static double drift(int n, double abs) {
+        return (32 - Integer.numberOfLeadingZeros(n) + 4) * 0x1.0p-24 * abs;
+    }
+
+    @ParameterizedTest(name = "rv_sum_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum_drift(int size, int offset) {
+        double exact = 0.0;
+        double abs = 0.0;
+        for (int i = offset; i < offset + size; i++) {
+            exact += rvx[i];
+            abs += Math.abs(rvx[i]);
+        }
+        assertEquals(exact, VOVecSeg.rv_sum(MemorySegment.ofArray(rvx), offset, size), drift(size, abs));
+    }
+
+    @ParameterizedTest(name = "rv_dot_rv_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv_drift(int size, int offset) {
+        double exact = 0.0;
+        double abs = 0.0;
+        for (int i = offset; i < offset + size; i++) {
+            exact += (double)rvx[i] * rvy[i];
+            abs += Math.abs((double)rvx[i] * rvy[i]);
+        }
+        assertEquals(exact, VOVecSeg.rv_dot_rv(MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(rvy), offset, size), drift(size, abs));
+    }
+
+    @ParameterizedTest(name = "cv_sum_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs[] = new double[2];
+        for (int i = offset * 2; i < (offset + size) * 2; i++) {
+            exact[i % 2] += cvx[i];
+            abs[i % 2] += Math.abs(cvx[i]);
+        }
+        float z[] = new float[2];
+        VOVecSeg.cv_sum(z, MemorySegment.ofArray(cvx), offset, size);
+        assertEquals(exact[0], z[0], drift(size, abs[0]));
+        assertEquals(exact[1], z[1], drift(size, abs[1]));
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs[] = new double[2];
+        for (int i = offset; i < offset + size; i++) {
+            exact[0] += (double)rvx[i] * cvy[i * 2 + 0];
+            exact[1] += (double)rvx[i] * cvy[i * 2 + 1];
+            abs[0] += Math.abs((double)rvx[i] * cvy[i * 2 + 0]);
+            abs[1] += Math.abs((double)rvx[i] * cvy[i * 2 + 1]);
+        }
+        float z[] = new float[2];
+        VOVecSeg.rv_dot_cv(z, MemorySegment.ofArray(rvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertEquals(exact[0], z[0], drift(size, abs[0]));
+        assertEquals(exact[1], z[1], drift(size, abs[1]));
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs = 0.0;
+        for (int i = offset * 2; i < (offset + size) * 2; i += 2) {
+            exact[0] += (double)cvx[i + 0] * cvy[i + 0] - (double)cvx[i + 1] * cvy[i + 1];
+            exact[1] += (double)cvx[i + 0] * cvy[i + 1] + (double)cvx[i + 1] * cvy[i + 0];
+            // Scalar tail uses 3-multiplication form, which is bounded by this too
+            abs += (Math.abs((double)cvx[i + 0]) + Math.abs(cvx[i + 1])) * (Math.abs((double)cvy[i + 0]) + Math.abs(cvy[i + 1]));
+        }
+        float z[] = new float[2];
+        VOVecSeg.cv_dot_cv(z, MemorySegment.ofArray(cvx), offset, MemorySegment.ofArray(cvy), offset, size);
+        assertEquals(exact[0], z[0], drift(size, abs));
+        assertEquals(exact[1], z[1], drift(size, abs));
+    }
+
+    @ParameterizedTest(name = "rv_maxarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg_ties(int size, int offset) {
+        float x[] = new float[rvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = (float)Math.floor(rvx[i] * 2.0f);
+        assertEquals(VOVec.rv_maxarg(x, offset, size), VOVecSeg.rv_maxarg(MemorySegment.ofArray(x), offset, size));
+    }
+
+    @ParameterizedTest(name = "rv_minarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_minarg_ties(int size, int offset) {
+        float x[] = new float[rvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = (float)Math.floor(rvx[i] * 2.0f);
+        assertEquals(VOVec.rv_minarg(x, offset, size), VOVecSeg.rv_minarg(MemorySegment.ofArray(x), offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_maxarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg_ties(int size, int offset) {
+        float x[] = new float[cvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = (float)Math.floor(cvx[i] * 2.0f);
+        assertEquals(VOVec.cv_maxarg(x, offset, size), VOVecSeg.cv_maxarg(MemorySegment.ofArray(x), offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_minarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_minarg_ties(int size, int offset) {
+        float x[] = new float[cvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = (float)Math.floor(cvx[i] * 2.0f);
+        assertEquals(VOVec.cv_minarg(x, offset, size), VOVecSeg.cv_minarg(MemorySegment.ofArray(x), offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_iw_odd({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_iw_odd(int size, int offset) {
+        float x[] = new float[cvz.length - 1];
+        assertThrows(IllegalArgumentException.class, () -> VOVecSeg.cv_add_rs_iw(MemorySegment.ofArray(x), x.length / 2 + offset, rsx, size));
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_w_odd({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_w_odd(int size, int offset) {
+        float x[] = new float[cvx.length - 1];
+        float z[] = new float[cvz.length];
+        assertThrows(IllegalArgumentException.class, () -> VOVecSeg.cv_add_cv_w(MemorySegment.ofArray(z), offset, MemorySegment.ofArray(x), x.length / 2 + offset, MemorySegment.ofArray(cvy), offset, size));
+    }
+
+    // Signed zeros, denormals and tiny normals of both signs as (re, im) pairs of all combinations
+    private static float[] specialCv() {
+        float v[] = { 0.0f, -0.0f, 1.4e-45f, -1.4e-45f, 1e-40f, -1e-40f, 1.2e-38f, -1.2e-38f, 1e-30f, -1e-30f, 1.0f, -1.0f };
+        float x[] = new float[cvx.length];
+        for (int i = 0; i < x.length / 2; i++) {
+            x[i * 2 + 0] = v[i % v.length];
+            x[i * 2 + 1] = v[(i / v.length) % v.length];
+        }
+        return x;
+    }
+
+    @ParameterizedTest(name = "cv_arg_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VOVec.cv_arg_f(z1, offset, x, offset, size);
+        VOVecSeg.cv_arg_f(MemorySegment.ofArray(z2), offset, MemorySegment.ofArray(x), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VOVec.cv_argmul_rs_f(z1, offset, x, offset, rsx, size);
+        VOVecSeg.cv_argmul_rs_f(MemorySegment.ofArray(z2), offset, MemorySegment.ofArray(x), offset, rsx, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[cvz.length];
+        float z2[] = new float[cvz.length];
+        VOVec.cv_r2p_f(z1, offset, x, offset, size);
+        VOVecSeg.cv_r2p_f(MemorySegment.ofArray(z2), offset, MemorySegment.ofArray(x), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VOVec.rv_10log10(z1, offset, x, offset, size);
+        VOVecSeg.rv_10log10(MemorySegment.ofArray(z2), offset, MemorySegment.ofArray(x), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VOVec.rv_10log10_f(z1, offset, x, offset, size);
+        VOVecSeg.rv_10log10_f(MemorySegment.ofArray(z2), offset, MemorySegment.ofArray(x), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_i_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_i_special(int size, int offset) {
+        float z1[] = specialCv();
+        float z2[] = specialCv();
+        VOVec.rv_10log10_i(z1, offset, size);
+        VOVecSeg.rv_10log10_i(MemorySegment.ofArray(z2), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_if_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_if_special(int size, int offset) {
+        float z1[] = specialCv();
+        float z2[] = specialCv();
+        VOVec.rv_10log10_if(z1, offset, size);
+        VOVecSeg.rv_10log10_if(MemorySegment.ofArray(z2), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VOVec.rv_20log10(z1, offset, x, offset, size);
+        VOVecSeg.rv_20log10(MemorySegment.ofArray(z2), offset, MemorySegment.ofArray(x), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_i_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_i_special(int size, int offset) {
+        float z1[] = specialCv();
+        float z2[] = specialCv();
+        VOVec.rv_20log10_i(z1, offset, size);
+        VOVecSeg.rv_20log10_i(MemorySegment.ofArray(z2), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VOVec.cv_10log10(z1, offset, x, offset, size);
+        VOVecSeg.cv_10log10(MemorySegment.ofArray(z2), offset, MemorySegment.ofArray(x), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VOVec.cv_20log10(z1, offset, x, offset, size);
+        VOVecSeg.cv_20log10(MemorySegment.ofArray(z2), offset, MemorySegment.ofArray(x), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VOVec.cv_20log10_f(z1, offset, x, offset, size);
+        VOVecSeg.cv_20log10_f(MemorySegment.ofArray(z2), offset, MemorySegment.ofArray(x), offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
+}
\ No newline at end of file
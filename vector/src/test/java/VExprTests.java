@@ -0,0 +1,160 @@
+/*****************************************************************************
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev@blacklion.dev>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS
+ * BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER
+ * IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ ****************************************************************************/
+
+import vectorapi.VExpr;
+import vectorapi.VO;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fused chains are checked against the same chains of {@link VO} calls.
+ *
+ * @author Lev Serebryakov
+ * @noinspection CStyleArrayDeclaration, WeakerAccess
+ */
+public class VExprTests {
+    private static final float EPSILON = 0.0001f;
+
+    private static final int DATA_SIZE = 65536;
+    private static final int MAX_OFFSET = 1;
+
+    static Stream<Arguments> params() {
+        ArrayList<Arguments> rv = new ArrayList<>();
+        // Around size of chunk of VExpr, which is 512
+        for (int size : new int[] { 1, 511, 512, 513, 512 * 3 + 5, DATA_SIZE }) {
+            rv.add(Arguments.of(size, 0));
+            rv.add(Arguments.of(size, 1));
+        }
+        return rv.stream();
+    }
+
+    private static float rvx[];
+    private static float rvy[];
+
+    private static float cvx[];
+    private static float cvy[];
+
+    private static float csy[];
+
+    @BeforeAll
+    public static void Setup() {
+        rvx = new float[DATA_SIZE + MAX_OFFSET];
+        rvy = new float[DATA_SIZE + MAX_OFFSET];
+        for (int i = 0; i < rvx.length; i++) {
+            rvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            rvy[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        cvx = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        cvy = new float[(DATA_SIZE + MAX_OFFSET) * 2];
+        for (int i = 0; i < cvx.length; i++) {
+            cvx[i] = (float)(Math.random() * 2.0 - 1.0);
+            cvy[i] = (float)(Math.random() * 2.0 - 1.0);
+        }
+
+        csy = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+    }
+
+    @ParameterizedTest(name = "cv_mul_add_abs_db10({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_add_abs_db10(int size, int offset) {
+        float t[] = new float[size * 2];
+        float z1[] = new float[size];
+        float z2[] = new float[size];
+        VO.cv_mul_cv(t, 0, cvx, offset, cvy, offset, size);
+        VO.cv_add_cs_i(t, 0, csy, size);
+        VO.cv_abs(z1, 0, t, 0, size);
+        VO.rv_10log10_i(z1, 0, size);
+        VExpr e = VExpr.cv(cvx, offset).mul(cvy, offset).add(csy).abs().db10();
+        assertFalse(e.isComplex());
+        e.into(z2, 0, size);
+        assertArrayEquals(z1, z2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_mulrv_div_exp({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_mulrv_div_exp(int size, int offset) {
+        float z1[] = new float[size * 2];
+        float z2[] = new float[size * 2 + 2];
+        VO.cv_conj(z1, 0, cvx, offset, size);
+        VO.cv_mul_rv_i(z1, 0, rvy, offset, size);
+        VO.cv_div_cs_i(z1, 0, csy, size);
+        VO.cv_sub_cv_i(z1, 0, cvy, offset, size);
+        VO.cv_exp_i(z1, 0, size);
+        VExpr e = VExpr.cv(cvx, offset).conj().mulRv(rvy, offset).div(csy).sub(cvy, offset).exp();
+        assertTrue(e.isComplex());
+        // Output offset is in complex numbers too
+        e.into(z2, 1, size);
+        for (int i = 0; i < size * 2; i++)
+            assertTrue(Math.abs(z1[i] - z2[i + 2]) <= EPSILON * Math.max(1.0f, Math.abs(z1[i])), "Mismatch at " + i);
+    }
+
+    @ParameterizedTest(name = "rv_sub_mul_abs_db20({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_mul_abs_db20(int size, int offset) {
+        float z1[] = new float[size];
+        float z2[] = new float[size];
+        VO.rv_sub_rv(z1, 0, rvx, offset, rvy, offset, size);
+        VO.rv_mul_rs_i(z1, 0, 2.0f, size);
+        VO.rv_add_rs_i(z1, 0, 0.5f, size);
+        VO.rv_abs_i(z1, 0, size);
+        VO.rv_20log10_i(z1, 0, size);
+        VExpr.rv(rvx, offset).sub(rvy, offset).mul(2.0f).add(0.5f).abs().db20().into(z2, 0, size);
+        assertArrayEquals(z1, z2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_re_im({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_re_im(int size, int offset) {
+        float z1[] = new float[size];
+        float z2[] = new float[size];
+        VO.cv_re(z1, 0, cvx, offset, size);
+        VExpr.cv(cvx, offset).re().into(z2, 0, size);
+        assertArrayEquals(z1, z2, 0.0f);
+        VO.cv_im(z1, 0, cvx, offset, size);
+        VExpr.cv(cvx, offset).im().into(z2, 0, size);
+        assertArrayEquals(z1, z2, 0.0f);
+    }
+
+    @Test
+    public void Test_complex_op_on_real() {
+        assertThrows(IllegalStateException.class, () -> VExpr.rv(rvx, 0).conj());
+        assertThrows(IllegalStateException.class, () -> VExpr.cv(cvx, 0).abs().add(csy));
+    }
+}
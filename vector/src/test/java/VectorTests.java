@@ -44,6 +44,7 @@ import jdk.incubator.vector.VectorSpecies;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Lev Serebryakov
@@ -52,6 +53,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 public class VectorTests {
     private static final float EPSILON = 0.0001f;
     private static final float EPSILON_APPROX = 0.0001f;
+    // FastTrig.atan2() max error is 0.002 and vectorized one is much more precise
+    private static final float EPSILON_FAST = 0.0025f;
+    // FastTrig.cos() and FastTrig.sin() max error is 0.0015 and exp() of test data is up to e
+    private static final float EPSILON_FAST_EXP = 0.005f;
+    // Fast 10log10() and 20log10() are precise enough for display, to 0.01 dB
+    private static final float EPSILON_FAST_DB = 0.01f;
 
     private static final int DATA_SIZE = 65536;
     private static final int MAX_OFFSET = 1;
@@ -62,8 +69,11 @@ public class VectorTests {
         ArrayList<Arguments> rv = new ArrayList<>();
         rv.add(Arguments.of(1, 0));
         rv.add(Arguments.of(1, 1));
-        rv.add(Arguments.of(PFS.length() / 2 - 1, 0));
-        rv.add(Arguments.of(PFS.length() / 2 - 1, 1));
+        // Vectors of two elements (doubles on 128-bit hardware) have no such size
+        if (PFS.length() / 2 - 1 > 0) {
+            rv.add(Arguments.of(PFS.length() / 2 - 1, 0));
+            rv.add(Arguments.of(PFS.length() / 2 - 1, 1));
+        }
         rv.add(Arguments.of(PFS.length() / 2, 0));
         rv.add(Arguments.of(PFS.length() / 2, 1));
         rv.add(Arguments.of(PFS.length() - 1, 0));
@@ -95,6 +105,7 @@ public class VectorTests {
 
     private static float csx[];
     private static float csy[];
+    private static float csz[];
 
     @BeforeAll
     public static void Setup() {
@@ -122,6 +133,7 @@ public class VectorTests {
 
         csx = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
         csy = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+        csz = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
     }
 
 
@@ -135,6 +147,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cs_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cs_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cs_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cs_sub_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cs_sub_cv(int size, int offset) {
@@ -145,6 +167,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cs_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cs_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cs_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cs_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_10log10({0}, {1})")
     @MethodSource("params")
     public void Test_cv_10log10(int size, int offset) {
@@ -165,6 +197,26 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "cv_10log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_10log10_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.cv_10log10_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_10log10_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_10log10_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "cv_20log10({0}, {1})")
     @MethodSource("params")
     public void Test_cv_20log10(int size, int offset) {
@@ -175,6 +227,26 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "cv_20log10_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_20log10_f(cvz1, 0, cvx, offset, size);
+        VOVec.cv_20log10_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_20log10_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_20log10_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_DB);
+    }
+
     @ParameterizedTest(name = "cv_20log10_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_20log10_rs(int size, int offset) {
@@ -185,6 +257,26 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "cv_20log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_20log10_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.cv_20log10_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_20log10_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_20log10_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "cv_abs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_abs(int size, int offset) {
@@ -195,6 +287,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_abs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_abs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_abs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_abs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_add_cs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_add_cs(int size, int offset) {
@@ -216,6 +318,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_add_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVec.cv_add_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVec.cv_add_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_add_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_add_cv(int size, int offset) {
@@ -237,6 +360,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_add_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_add_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_add_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_add_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_add_rs(int size, int offset) {
@@ -258,6 +402,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_add_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVec.cv_add_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.cv_add_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_add_rv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_add_rv(int size, int offset) {
@@ -279,6 +444,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_add_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_add_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_add_rv_iw(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_add_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_add_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_add_rv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_arg({0}, {1})")
     @MethodSource("params")
     public void Test_cv_arg(int size, int offset) {
@@ -289,6 +475,36 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_arg_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_arg_f(cvz1, 0, cvx, offset, size);
+        VOVec.cv_arg_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_arg_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_arg_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_arg_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_arg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_arg_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_arg_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_argmul_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_argmul_rs(int size, int offset) {
@@ -299,6 +515,36 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_argmul_rs_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_argmul_rs_f(cvz1, 0, cvx, offset, rsy, size);
+        VOVec.cv_argmul_rs_f(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_argmul_rs_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.cv_argmul_rs_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_argmul_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.cv_argmul_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_conj({0}, {1})")
     @MethodSource("params")
     public void Test_cv_conj(int size, int offset) {
@@ -319,6 +565,26 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_conj_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_conj_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.cv_conj_iw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conj_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conj_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_conj_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_conj_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_conjmul_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_conjmul_cv(int size, int offset) {
@@ -340,6 +606,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_conjmul_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_conjmul_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_conjmul_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_conjmul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_conjmul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_conjmul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_conjmul_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_cpy({0}, {1})")
     @MethodSource("params")
     public void Test_cv_cpy(int size, int offset) {
@@ -350,139 +637,503 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_div_cs({0}, {1})")
+    @ParameterizedTest(name = "cv_cpy_w({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_div_cs(int size, int offset) {
+    public void Test_cv_cpy_w(int size, int offset) {
         float cvz1[] = new float[cvz.length];
         float cvz2[] = new float[cvz.length];
-        VO.cv_div_cs(cvz1, 0, cvx, offset, csy, size);
-        VOVec.cv_div_cs(cvz2, 0, cvx, offset, csy, size);
+        VO.cv_cpy_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_cpy_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_div_cs_i({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_div_cs_i(int size, int offset) {
-        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
-        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
-
-        VO.cv_div_cs_i(cvz1, offset, csx, size);
-        VOVec.cv_div_cs_i(cvz2, offset, csx, size);
+    public void Test_cv_cs_lin_cv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_cv_cs(cvz1, 0, cvx, offset, csx, cvy, offset, csy, size);
+        VOVec.cv_cs_lin_cv_cs(cvz2, 0, cvx, offset, csx, cvy, offset, csy, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_div_cv({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_i({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_div_cv(int size, int offset) {
-        float cvz1[] = new float[cvz.length];
-        float cvz2[] = new float[cvz.length];
-        VO.cv_div_cv(cvz1, 0, cvx, offset, cvy, offset, size);
-        VOVec.cv_div_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+    public void Test_cv_cs_lin_cv_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_cv_cs_i(cvz1, offset, csz, cvx, offset, csx, size);
+        VOVec.cv_cs_lin_cv_cs_i(cvz2, offset, csz, cvx, offset, csx, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_div_cv_i({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_iw({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_div_cv_i(int size, int offset) {
+    public void Test_cv_cs_lin_cv_cs_iw(int size, int offset) {
         float cvz1[] = Arrays.copyOf(cvz, cvz.length);
         float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_cv_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, cvx, DATA_SIZE - size / 3 + offset, csx, size);
+        VOVec.cv_cs_lin_cv_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csz, cvx, DATA_SIZE - size / 3 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
 
-        VO.cv_div_cv_i(cvz1, offset, cvx, offset, size);
-        VOVec.cv_div_cv_i(cvz2, offset, cvx, offset, size);
+    @ParameterizedTest(name = "cv_cs_lin_cv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_cv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVec.cv_cs_lin_cv_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, csy, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_div_rs({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_div_rs(int size, int offset) {
+    public void Test_cv_cs_lin_cv_rs(int size, int offset) {
         float cvz1[] = new float[cvz.length];
         float cvz2[] = new float[cvz.length];
-        VO.cv_div_rs(cvz1, 0, cvx, offset, rsy, size);
-        VOVec.cv_div_rs(cvz2, 0, cvx, offset, rsy, size);
+        VO.cv_cs_lin_cv_rs(cvz1, 0, cvx, offset, csx, cvy, offset, rsy, size);
+        VOVec.cv_cs_lin_cv_rs(cvz2, 0, cvx, offset, csx, cvy, offset, rsy, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_div_rs_i({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_i({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_div_rs_i(int size, int offset) {
+    public void Test_cv_cs_lin_cv_rs_i(int size, int offset) {
         float cvz1[] = Arrays.copyOf(cvz, cvz.length);
         float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_cv_rs_i(cvz1, offset, csz, cvx, offset, rsx, size);
+        VOVec.cv_cs_lin_cv_rs_i(cvz2, offset, csz, cvx, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
 
-        VO.cv_div_rs_i(cvz1, offset, rsx, size);
-        VOVec.cv_div_rs_i(cvz2, offset, rsx, size);
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_cv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_cv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVec.cv_cs_lin_cv_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, csz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_div_rv({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_cv_rs_w({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_div_rv(int size, int offset) {
+    public void Test_cv_cs_lin_cv_rs_w(int size, int offset) {
         float cvz1[] = new float[cvz.length];
         float cvz2[] = new float[cvz.length];
-        VO.cv_div_rv(cvz1, 0, cvx, offset, rvy, offset, size);
-        VOVec.cv_div_rv(cvz2, 0, cvx, offset, rvy, offset, size);
+        VO.cv_cs_lin_cv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVec.cv_cs_lin_cv_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_div_rv_i({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_div_rv_i(int size, int offset) {
+    public void Test_cv_cs_lin_rv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_rv_cs(cvz1, 0, cvx, offset, csx, rvy, offset, csy, size);
+        VOVec.cv_cs_lin_rv_cs(cvz2, 0, cvx, offset, csx, rvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_cs_i(int size, int offset) {
         float cvz1[] = Arrays.copyOf(cvz, cvz.length);
         float cvz2[] = Arrays.copyOf(cvz, cvz.length);
-
-        VO.cv_div_rv_i(cvz1, offset, rvx, offset, size);
-        VOVec.cv_div_rv_i(cvz2, offset, rvx, offset, size);
+        VO.cv_cs_lin_rv_cs_i(cvz1, offset, csz, rvx, offset, csx, size);
+        VOVec.cv_cs_lin_rv_cs_i(cvz2, offset, csz, rvx, offset, csx, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_dot_cv({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_iw({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_dot_cv(int size, int offset) {
-        float csz1[] = new float[2];
-        float csz2[] = new float[2];
-        VO.cv_dot_cv(csz1, cvx, offset, cvy, offset, size);
-        VOVec.cv_dot_cv(csz2, cvx, offset, cvy, offset, size);
-        assertArrayEquals(csz1, csz2, EPSILON * size);
+    public void Test_cv_cs_lin_rv_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_rv_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, rvx, DATA_SIZE - size / 3 + offset, csx, size);
+        VOVec.cv_cs_lin_rv_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csz, rvx, DATA_SIZE - size / 3 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_dot_cv_zoffset({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_rv_cs_w({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_dot_cv_zoffset(int size, int offset) {
-        float csz1[] = new float[6];
-        float csz2[] = new float[6];
-        VO.cv_dot_cv(csz1, 1, cvx, offset, cvy, offset, size);
-        VOVec.cv_dot_cv(csz2, 1, cvx, offset, cvy, offset, size);
-        assertArrayEquals(csz1, csz2, EPSILON * size);
+    public void Test_cv_cs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVec.cv_cs_lin_rv_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_exp({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_exp(int size, int offset) {
+    public void Test_cv_cs_lin_rv_rs(int size, int offset) {
         float cvz1[] = new float[cvz.length];
         float cvz2[] = new float[cvz.length];
-        VO.cv_exp(cvz1, 0, cvx, offset, size);
-        VOVec.cv_exp(cvz2, 0, cvx, offset, size);
+        VO.cv_cs_lin_rv_rs(cvz1, 0, cvx, offset, csx, rvy, offset, rsy, size);
+        VOVec.cv_cs_lin_rv_rs(cvz2, 0, cvx, offset, csx, rvy, offset, rsy, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_exp_i({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_i({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_exp_i(int size, int offset) {
+    public void Test_cv_cs_lin_rv_rs_i(int size, int offset) {
         float cvz1[] = Arrays.copyOf(cvz, cvz.length);
         float cvz2[] = Arrays.copyOf(cvz, cvz.length);
-        VO.cv_exp_i(cvz1, offset, size);
-        VOVec.cv_exp_i(cvz2, offset, size);
+        VO.cv_cs_lin_rv_rs_i(cvz1, offset, csz, rvx, offset, rsx, size);
+        VOVec.cv_cs_lin_rv_rs_i(cvz2, offset, csz, rvx, offset, rsx, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_im({0}, {1})")
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_iw({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_im(int size, int offset) {
-        float rvz1[] = new float[rvz.length];
-        float rvz2[] = new float[rvz.length];
-        VO.cv_im(rvz1, 0, cvx, offset, size);
-        VOVec.cv_im(rvz2, 0, cvx, offset, size);
-        assertArrayEquals(rvz1, rvz2, EPSILON);
-    }
+    public void Test_cv_cs_lin_rv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_cs_lin_rv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, csz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVec.cv_cs_lin_rv_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, csz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_cs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_cs_lin_rv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_cs_lin_rv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVec.cv_cs_lin_rv_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_cs(cvz1, 0, cvx, offset, csy, size);
+        VOVec.cv_div_cs(cvz2, 0, cvx, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_cs_i(cvz1, offset, csx, size);
+        VOVec.cv_div_cs_i(cvz2, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVec.cv_div_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVec.cv_div_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_cv(cvz1, 0, cvx, offset, cvy, offset, size);
+        VOVec.cv_div_cv(cvz2, 0, cvx, offset, cvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_cv_i(cvz1, offset, cvx, offset, size);
+        VOVec.cv_div_cv_i(cvz2, offset, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_div_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_rs(cvz1, 0, cvx, offset, rsy, size);
+        VOVec.cv_div_rs(cvz2, 0, cvx, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_rs_i(cvz1, offset, rsx, size);
+        VOVec.cv_div_rs_i(cvz2, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVec.cv_div_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.cv_div_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_rv(cvz1, 0, cvx, offset, rvy, offset, size);
+        VOVec.cv_div_rv(cvz2, 0, cvx, offset, rvy, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_rv_i(cvz1, offset, rvx, offset, size);
+        VOVec.cv_div_rv_i(cvz2, offset, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_div_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_div_rv_iw(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_div_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_div_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_div_rv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.cv_dot_cv(csz1, cvx, offset, cvy, offset, size);
+        VOVec.cv_dot_cv(csz2, cvx, offset, cvy, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VO.cv_dot_cv(csz1, 1, cvx, offset, cvy, offset, size);
+        VOVec.cv_dot_cv(csz2, 1, cvx, offset, cvy, offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.cv_dot_cv_w(csz1, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_dot_cv_w(csz2, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_w_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_w_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VO.cv_dot_cv_w(csz1, 1, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_dot_cv_w(csz2, 1, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_rv_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.cv_dot_rv_w(csz1, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_dot_rv_w(csz2, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_dot_rv_w_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_rv_w_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VO.cv_dot_rv_w(csz1, 1, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_dot_rv_w(csz2, 1, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "cv_exp({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_exp(cvz1, 0, cvx, offset, size);
+        VOVec.cv_exp(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_exp_f(cvz1, 0, cvx, offset, size);
+        VOVec.cv_exp_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_exp_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_exp_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_exp_i(cvz1, offset, size);
+        VOVec.cv_exp_i(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_if(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_exp_if(cvz1, offset, size);
+        VOVec.cv_exp_if(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_ifw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_exp_ifw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.cv_exp_ifw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST_EXP);
+    }
+
+    @ParameterizedTest(name = "cv_exp_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_exp_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.cv_exp_iw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_exp_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_exp_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_exp_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_exp_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_im({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_im(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.cv_im(rvz1, 0, cvx, offset, size);
+        VOVec.cv_im(rvz2, 0, cvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_im_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_im_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.cv_im_w(rvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_im_w(rvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
 
     @ParameterizedTest(name = "cv_max({0}, {1})")
     @MethodSource("params")
@@ -515,6 +1166,37 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_max_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_max_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_max_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_max_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_max_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_max_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_max_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.cv_max_w(csz1, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_max_w(csz2, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_maxarg({0}, {1})")
     @MethodSource("params")
     public void Test_cv_maxarg(int size, int offset) {
@@ -523,6 +1205,14 @@ public class VectorTests {
         assertEquals(intz1, intz2);
     }
 
+    @ParameterizedTest(name = "cv_maxarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg_w(int size, int offset) {
+        int intz1 = VO.cv_maxarg_w(cvx, DATA_SIZE - size / 3 + offset, size);
+        int intz2 = VOVec.cv_maxarg_w(cvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
     @ParameterizedTest(name = "cv_min({0}, {1})")
     @MethodSource("params")
     public void Test_cv_min(int size, int offset) {
@@ -554,6 +1244,37 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_min_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_min_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_min_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_min_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_min_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_min_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_min_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.cv_min_w(csz1, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_min_w(csz2, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_minarg({0}, {1})")
     @MethodSource("params")
     public void Test_cv_minarg(int size, int offset) {
@@ -562,6 +1283,14 @@ public class VectorTests {
         assertEquals(intz1, intz2);
     }
 
+    @ParameterizedTest(name = "cv_minarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_minarg_w(int size, int offset) {
+        int intz1 = VO.cv_minarg_w(cvx, DATA_SIZE - size / 3 + offset, size);
+        int intz2 = VOVec.cv_minarg_w(cvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
     @ParameterizedTest(name = "cv_mul_cs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_mul_cs(int size, int offset) {
@@ -583,6 +1312,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_mul_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVec.cv_mul_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVec.cv_mul_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_mul_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_mul_cv(int size, int offset) {
@@ -604,6 +1354,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_mul_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_mul_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_mul_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_mul_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_mul_rs(int size, int offset) {
@@ -625,6 +1396,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_mul_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVec.cv_mul_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.cv_mul_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_mul_rv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_mul_rv(int size, int offset) {
@@ -646,6 +1438,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_mul_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_mul_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_mul_rv_iw(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_mul_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_mul_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_mul_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_mul_rv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_p2r({0}, {1})")
     @MethodSource("params")
     public void Test_cv_p2r(int size, int offset) {
@@ -666,6 +1479,26 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_p2r_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_p2r_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.cv_p2r_iw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_p2r_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_p2r_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_p2r_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_p2r_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_r2p({0}, {1})")
     @MethodSource("params")
     public void Test_cv_r2p(int size, int offset) {
@@ -676,24 +1509,174 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_r2p_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_r2p_f(cvz1, 0, cvx, offset, size);
+        VOVec.cv_r2p_f(cvz2, 0, cvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_r2p_fw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_r2p_fw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
     @ParameterizedTest(name = "cv_r2p_i({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_r2p_i(int size, int offset) {
+    public void Test_cv_r2p_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_i(cvz1, offset, size);
+        VOVec.cv_r2p_i(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_if(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_if(cvz1, offset, size);
+        VOVec.cv_r2p_if(cvz2, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_ifw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_ifw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.cv_r2p_ifw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_r2p_iw(cvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.cv_r2p_iw(cvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_r2p_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_r2p_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_re({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_re(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.cv_re(rvz1, 0, cvx, offset, size);
+        VOVec.cv_re(rvz2, 0, cvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_re_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_re_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.cv_re_w(rvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_re_w(rvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_cv_rs(cvz1, 0, cvx, offset, rsx, cvy, offset, rsy, size);
+        VOVec.cv_rs_lin_cv_rs(cvz2, 0, cvx, offset, rsx, cvy, offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_cv_rs_i(cvz1, offset, rsz, cvx, offset, rsx, size);
+        VOVec.cv_rs_lin_cv_rs_i(cvz2, offset, rsz, cvx, offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_cv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVec.cv_rs_lin_cv_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsz, cvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_cv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_cv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_cv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVec.cv_rs_lin_cv_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_rv_cs(cvz1, 0, cvx, offset, rsx, rvy, offset, csy, size);
+        VOVec.cv_rs_lin_rv_cs(cvz2, 0, cvx, offset, rsx, rvy, offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_i({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs_i(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_rv_cs_i(cvz1, offset, rsz, rvx, offset, csx, size);
+        VOVec.cv_rs_lin_rv_cs_i(cvz2, offset, rsz, rvx, offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_cs_iw(int size, int offset) {
         float cvz1[] = Arrays.copyOf(cvz, cvz.length);
         float cvz2[] = Arrays.copyOf(cvz, cvz.length);
-        VO.cv_r2p_i(cvz1, offset, size);
-        VOVec.cv_r2p_i(cvz2, offset, size);
+        VO.cv_rs_lin_rv_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, csx, size);
+        VOVec.cv_rs_lin_rv_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, csx, size);
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
-    @ParameterizedTest(name = "cv_re({0}, {1})")
+    @ParameterizedTest(name = "cv_rs_lin_rv_cs_w({0}, {1})")
     @MethodSource("params")
-    public void Test_cv_re(int size, int offset) {
-        float rvz1[] = new float[rvz.length];
-        float rvz2[] = new float[rvz.length];
-        VO.cv_re(rvz1, 0, cvx, offset, size);
-        VOVec.cv_re(rvz2, 0, cvx, offset, size);
-        assertArrayEquals(rvz1, rvz2, EPSILON);
+    public void Test_cv_rs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVec.cv_rs_lin_rv_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
     @ParameterizedTest(name = "cv_rs_lin_rv_rs({0}, {1})")
@@ -713,7 +1696,27 @@ public class VectorTests {
         float cvz2[] = Arrays.copyOf(cvz, cvz.length);
         VO.cv_rs_lin_rv_rs_i(cvz1, offset, rsz, rvx, offset, rsx, size);
         VOVec.cv_rs_lin_rv_rs_i(cvz2, offset, rsz, rvx, offset, rsx, size);
-        assertArrayEquals(cvz2, cvz2, EPSILON);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+        VO.cv_rs_lin_rv_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVec.cv_rs_lin_rv_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_rs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_rs_lin_rv_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_rs_lin_rv_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVec.cv_rs_lin_rv_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
     @ParameterizedTest(name = "cv_sub_cs({0}, {1})")
@@ -737,6 +1740,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_sub_cs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_cs_iw(cvz1, DATA_SIZE - size / 2 + offset, csx, size);
+        VOVec.cv_sub_cs_iw(cvz2, DATA_SIZE - size / 2 + offset, csx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_cs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        VOVec.cv_sub_cs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_sub_cv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_sub_cv(int size, int offset) {
@@ -758,6 +1782,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_sub_cv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_cv_iw(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_sub_cv_iw(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_sub_rs({0}, {1})")
     @MethodSource("params")
     public void Test_cv_sub_rs(int size, int offset) {
@@ -779,6 +1824,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_sub_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_rs_iw(cvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVec.cv_sub_rs_iw(cvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_rs_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.cv_sub_rs_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_sub_rv({0}, {1})")
     @MethodSource("params")
     public void Test_cv_sub_rv(int size, int offset) {
@@ -800,6 +1866,27 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "cv_sub_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv_iw(int size, int offset) {
+        float cvz1[] = Arrays.copyOf(cvz, cvz.length);
+        float cvz2[] = Arrays.copyOf(cvz, cvz.length);
+
+        VO.cv_sub_rv_iw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_sub_rv_iw(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "cv_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sub_rv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.cv_sub_rv_w(cvz1, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.cv_sub_rv_w(cvz2, DATA_SIZE - size / 2 + offset, cvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "cv_sum({0}, {1})")
     @MethodSource("params")
     public void Test_cv_sum(int size, int offset) {
@@ -810,6 +1897,16 @@ public class VectorTests {
         assertArrayEquals(csz1, csz2, EPSILON * size);
     }
 
+    @ParameterizedTest(name = "cv_sum_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.cv_sum_w(csz1, cvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.cv_sum_w(csz2, cvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
     @ParameterizedTest(name = "rs_div_cv({0}, {1})")
     @MethodSource("params")
     public void Test_rs_div_cv(int size, int offset) {
@@ -820,6 +1917,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rs_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rs_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rs_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rs_div_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rs_div_rv(int size, int offset) {
@@ -830,6 +1937,16 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rs_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_div_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rs_div_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rs_div_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rs_sub_cv({0}, {1})")
     @MethodSource("params")
     public void Test_rs_sub_cv(int size, int offset) {
@@ -840,6 +1957,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rs_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rs_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rs_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rsx, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rs_sub_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rs_sub_rv(int size, int offset) {
@@ -850,6 +1977,16 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rs_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rs_sub_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rs_sub_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rs_sub_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_10log10({0}, {1})")
     @MethodSource("params")
     public void Test_rv_10log10(int size, int offset) {
@@ -860,6 +1997,26 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "rv_10log10_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_f(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_f(rvz1, 0, rvx, offset, size);
+        VOVec.rv_10log10_f(rvz2, 0, rvx, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_fw(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_fw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_10log10_fw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
     @ParameterizedTest(name = "rv_10log10_i({0}, {1})")
     @MethodSource("params")
     public void Test_rv_10log10_i(int size, int offset) {
@@ -870,6 +2027,36 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "rv_10log10_if({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_if(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_10log10_if(rvz1, offset, size);
+        VOVec.rv_10log10_if(rvz2, offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_ifw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_ifw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_10log10_ifw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.rv_10log10_ifw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_10log10_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.rv_10log10_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "rv_10log10_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_10log10_rs(int size, int offset) {
@@ -891,6 +2078,37 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "rv_10log10_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_10log10_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVec.rv_10log10_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.rv_10log10_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_10log10_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_10log10_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "rv_20log10({0}, {1})")
     @MethodSource("params")
     public void Test_rv_20log10(int size, int offset) {
@@ -911,6 +2129,16 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "rv_20log10_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_20log10_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.rv_20log10_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "rv_20log10_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_20log10_rs(int size, int offset) {
@@ -932,6 +2160,37 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
     }
 
+    @ParameterizedTest(name = "rv_20log10_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_20log10_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVec.rv_20log10_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_20log10_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.rv_20log10_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_20log10_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_20log10_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON_APPROX);
+    }
+
     @ParameterizedTest(name = "rv_abs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_abs(int size, int offset) {
@@ -952,6 +2211,26 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_abs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_abs_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.rv_abs_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_abs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_abs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_abs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_abs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_add_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_add_rs(int size, int offset) {
@@ -973,6 +2252,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_add_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_add_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVec.rv_add_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_add_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.rv_add_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_add_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_add_rv(int size, int offset) {
@@ -994,6 +2294,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_add_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_add_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_add_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_add_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_add_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_add_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_add_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_conjmul_cv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_conjmul_cv(int size, int offset) {
@@ -1004,6 +2325,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_conjmul_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_conjmul_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_conjmul_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_conjmul_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_cpy({0}, {1})")
     @MethodSource("params")
     public void Test_rv_cpy(int size, int offset) {
@@ -1014,6 +2345,16 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_cpy_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cpy_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_cpy_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_cpy_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_cs_lin_rv_cs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_cs_lin_rv_cs(int size, int offset) {
@@ -1024,6 +2365,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_cs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_cs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVec.rv_cs_lin_rv_cs_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, csx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_cvt({0}, {1})")
     @MethodSource("params")
     public void Test_rv_cvt(int size, int offset) {
@@ -1034,6 +2385,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_cvt_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_cvt_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_cvt_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_cvt_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_div_cv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_div_cv(int size, int offset) {
@@ -1044,6 +2405,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_div_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_div_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_div_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_div_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_div_rs(int size, int offset) {
@@ -1065,6 +2436,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_div_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_div_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVec.rv_div_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_div_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.rv_div_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_div_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_div_rv(int size, int offset) {
@@ -1086,6 +2478,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_div_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_div_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_div_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_div_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_div_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_div_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_div_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_dot_cv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_dot_cv(int size, int offset) {
@@ -1106,6 +2519,26 @@ public class VectorTests {
         assertArrayEquals(csz1, csz2, EPSILON * size);
     }
 
+    @ParameterizedTest(name = "rv_dot_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_w(int size, int offset) {
+        float csz1[] = new float[2];
+        float csz2[] = new float[2];
+        VO.rv_dot_cv_w(csz1, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_dot_cv_w(csz2, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_w_zoffset({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_w_zoffset(int size, int offset) {
+        float csz1[] = new float[6];
+        float csz2[] = new float[6];
+        VO.rv_dot_cv_w(csz1, 1, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_dot_cv_w(csz2, 1, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(csz1, csz2, EPSILON * size);
+    }
+
     @ParameterizedTest(name = "rv_dot_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_dot_rv(int size, int offset) {
@@ -1114,6 +2547,14 @@ public class VectorTests {
         assertEquals(rsz1, rsz2, EPSILON * size);
     }
 
+    @ParameterizedTest(name = "rv_dot_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv_w(int size, int offset) {
+        float rsz1 = VO.rv_dot_rv_w(rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        float rsz2 = VOVec.rv_dot_rv_w(rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
     @ParameterizedTest(name = "rv_exp({0}, {1})")
     @MethodSource("params")
     public void Test_rv_exp(int size, int offset) {
@@ -1134,6 +2575,26 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_exp_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_exp_iw(rvz1, DATA_SIZE - size / 2 + offset, size);
+        VOVec.rv_exp_iw(rvz2, DATA_SIZE - size / 2 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_exp_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_exp_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_exp_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_exp_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_expi({0}, {1})")
     @MethodSource("params")
     public void Test_rv_expi(int size, int offset) {
@@ -1144,6 +2605,36 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_expi_f({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_f(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_expi_f(cvz1, 0, rvx, offset, size);
+        VOVec.rv_expi_f(cvz2, 0, rvx, offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "rv_expi_fw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_fw(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_expi_fw(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_expi_fw(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "rv_expi_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_expi_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_expi_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_expi_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_max({0}, {1})")
     @MethodSource("params")
     public void Test_rv_max(int size, int offset) {
@@ -1173,6 +2664,35 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_max_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_max_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_max_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_max_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_max_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_max_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_max_w(int size, int offset) {
+        float rsz1 = VO.rv_max_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        float rsz2 = VOVec.rv_max_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_maxarg({0}, {1})")
     @MethodSource("params")
     public void Test_rv_maxarg(int size, int offset) {
@@ -1181,6 +2701,14 @@ public class VectorTests {
         assertEquals(intz1, intz2);
     }
 
+    @ParameterizedTest(name = "rv_maxarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg_w(int size, int offset) {
+        int intz1 = VO.rv_maxarg_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        int intz2 = VOVec.rv_maxarg_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
     @ParameterizedTest(name = "rv_min({0}, {1})")
     @MethodSource("params")
     public void Test_rv_min(int size, int offset) {
@@ -1210,6 +2738,35 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_min_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_min_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_min_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_min_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_min_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_min_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_min_w(int size, int offset) {
+        float rsz1 = VO.rv_min_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        float rsz2 = VOVec.rv_min_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_minarg({0}, {1})")
     @MethodSource("params")
     public void Test_rv_minarg(int size, int offset) {
@@ -1218,6 +2775,14 @@ public class VectorTests {
         assertEquals(intz1, intz2);
     }
 
+    @ParameterizedTest(name = "rv_minarg_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_minarg_w(int size, int offset) {
+        int intz1 = VO.rv_minarg_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        int intz2 = VOVec.rv_minarg_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(intz1, intz2);
+    }
+
     @ParameterizedTest(name = "rv_mul_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_mul_rs(int size, int offset) {
@@ -1239,6 +2804,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_mul_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_mul_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVec.rv_mul_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_mul_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.rv_mul_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_mul_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_mul_rv(int size, int offset) {
@@ -1260,6 +2846,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_mul_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_mul_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_mul_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_mul_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_mul_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_mul_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_mul_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_rs_lin_rv_cs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_rs_lin_rv_cs(int size, int offset) {
@@ -1270,6 +2877,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_rs_lin_rv_cs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_cs_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_rs_lin_rv_cs_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        VOVec.rv_rs_lin_rv_cs_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, csy, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_rs_lin_rv_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_rs_lin_rv_rs(int size, int offset) {
@@ -1287,7 +2904,27 @@ public class VectorTests {
         float rvz2[] = Arrays.copyOf(rvz, rvz.length);
         VO.rv_rs_lin_rv_rs_i(rvz1, offset, rsz, rvx, offset, rsx, size);
         VOVec.rv_rs_lin_rv_rs_i(rvz2, offset, rsz, rvx, offset, rsx, size);
-        assertArrayEquals(rvz2, rvz2, EPSILON);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+        VO.rv_rs_lin_rv_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        VOVec.rv_rs_lin_rv_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsz, rvx, DATA_SIZE - size / 3 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_rs_lin_rv_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_rs_lin_rv_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_rs_lin_rv_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        VOVec.rv_rs_lin_rv_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsx, rvy, DATA_SIZE - size / 4 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
     @ParameterizedTest(name = "rv_sub_cv({0}, {1})")
@@ -1300,6 +2937,16 @@ public class VectorTests {
         assertArrayEquals(cvz1, cvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_sub_cv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_cv_w(int size, int offset) {
+        float cvz1[] = new float[cvz.length];
+        float cvz2[] = new float[cvz.length];
+        VO.rv_sub_cv_w(cvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_sub_cv_w(cvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, cvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(cvz1, cvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_sub_rs({0}, {1})")
     @MethodSource("params")
     public void Test_rv_sub_rs(int size, int offset) {
@@ -1321,6 +2968,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_sub_rs_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_sub_rs_iw(rvz1, DATA_SIZE - size / 2 + offset, rsx, size);
+        VOVec.rv_sub_rs_iw(rvz2, DATA_SIZE - size / 2 + offset, rsx, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rs_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rs_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_sub_rs_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        VOVec.rv_sub_rs_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rsy, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_sub_rv({0}, {1})")
     @MethodSource("params")
     public void Test_rv_sub_rv(int size, int offset) {
@@ -1342,6 +3010,27 @@ public class VectorTests {
         assertArrayEquals(rvz1, rvz2, EPSILON);
     }
 
+    @ParameterizedTest(name = "rv_sub_rv_iw({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_iw(int size, int offset) {
+        float rvz1[] = Arrays.copyOf(rvz, rvz.length);
+        float rvz2[] = Arrays.copyOf(rvz, rvz.length);
+
+        VO.rv_sub_rv_iw(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        VOVec.rv_sub_rv_iw(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
+    @ParameterizedTest(name = "rv_sub_rv_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sub_rv_w(int size, int offset) {
+        float rvz1[] = new float[rvz.length];
+        float rvz2[] = new float[rvz.length];
+        VO.rv_sub_rv_w(rvz1, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        VOVec.rv_sub_rv_w(rvz2, DATA_SIZE - size / 2 + offset, rvx, DATA_SIZE - size / 3 + offset, rvy, DATA_SIZE - size / 4 + offset, size);
+        assertArrayEquals(rvz1, rvz2, EPSILON);
+    }
+
     @ParameterizedTest(name = "rv_sum({0}, {1})")
     @MethodSource("params")
     public void Test_rv_sum(int size, int offset) {
@@ -1349,4 +3038,282 @@ public class VectorTests {
         float rsz2 = VOVec.rv_sum(rvx, offset, size);
         assertEquals(rsz1, rsz2, EPSILON * size);
     }
+
+    @ParameterizedTest(name = "rv_sum_w({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum_w(int size, int offset) {
+        float rsz1 = VO.rv_sum_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        float rsz2 = VOVec.rv_sum_w(rvx, DATA_SIZE - size / 3 + offset, size);
+        assertEquals(rsz1, rsz2, EPSILON * size);
+    }
+
+    // Worst-case error of summation of n terms is n * u * sum(|term|), but for random data it is
+    // about u * sum(|term|) for any order of summation, so it is checked with log2(n) margin
+    private static double drift(int n, double abs) {
+        return (32 - Integer.numberOfLeadingZeros(n) + 4) * 0x1.0p-24 * abs;
+    }
+
+    @ParameterizedTest(name = "rv_sum_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_sum_drift(int size, int offset) {
+        double exact = 0.0;
+        double abs = 0.0;
+        for (int i = offset; i < offset + size; i++) {
+            exact += rvx[i];
+            abs += Math.abs(rvx[i]);
+        }
+        assertEquals(exact, VOVec.rv_sum(rvx, offset, size), drift(size, abs));
+    }
+
+    @ParameterizedTest(name = "rv_dot_rv_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_rv_drift(int size, int offset) {
+        double exact = 0.0;
+        double abs = 0.0;
+        for (int i = offset; i < offset + size; i++) {
+            exact += (double)rvx[i] * rvy[i];
+            abs += Math.abs((double)rvx[i] * rvy[i]);
+        }
+        assertEquals(exact, VOVec.rv_dot_rv(rvx, offset, rvy, offset, size), drift(size, abs));
+    }
+
+    @ParameterizedTest(name = "cv_sum_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_sum_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs[] = new double[2];
+        for (int i = offset * 2; i < (offset + size) * 2; i++) {
+            exact[i % 2] += cvx[i];
+            abs[i % 2] += Math.abs(cvx[i]);
+        }
+        float z[] = new float[2];
+        VOVec.cv_sum(z, cvx, offset, size);
+        assertEquals(exact[0], z[0], drift(size, abs[0]));
+        assertEquals(exact[1], z[1], drift(size, abs[1]));
+    }
+
+    @ParameterizedTest(name = "rv_dot_cv_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_dot_cv_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs[] = new double[2];
+        for (int i = offset; i < offset + size; i++) {
+            exact[0] += (double)rvx[i] * cvy[i * 2 + 0];
+            exact[1] += (double)rvx[i] * cvy[i * 2 + 1];
+            abs[0] += Math.abs((double)rvx[i] * cvy[i * 2 + 0]);
+            abs[1] += Math.abs((double)rvx[i] * cvy[i * 2 + 1]);
+        }
+        float z[] = new float[2];
+        VOVec.rv_dot_cv(z, rvx, offset, cvy, offset, size);
+        assertEquals(exact[0], z[0], drift(size, abs[0]));
+        assertEquals(exact[1], z[1], drift(size, abs[1]));
+    }
+
+    @ParameterizedTest(name = "cv_dot_cv_drift({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_dot_cv_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs = 0.0;
+        for (int i = offset * 2; i < (offset + size) * 2; i += 2) {
+            exact[0] += (double)cvx[i + 0] * cvy[i + 0] - (double)cvx[i + 1] * cvy[i + 1];
+            exact[1] += (double)cvx[i + 0] * cvy[i + 1] + (double)cvx[i + 1] * cvy[i + 0];
+            // Scalar tail uses 3-multiplication form, which is bounded by this too
+            abs += (Math.abs((double)cvx[i + 0]) + Math.abs(cvx[i + 1])) * (Math.abs((double)cvy[i + 0]) + Math.abs(cvy[i + 1]));
+        }
+        float z[] = new float[2];
+        VOVec.cv_dot_cv(z, cvx, offset, cvy, offset, size);
+        assertEquals(exact[0], z[0], drift(size, abs));
+        assertEquals(exact[1], z[1], drift(size, abs));
+    }
+
+    @ParameterizedTest(name = "rv_maxarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_maxarg_ties(int size, int offset) {
+        float x[] = new float[rvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = (float)Math.floor(rvx[i] * 2.0f);
+        assertEquals(VO.rv_maxarg(x, offset, size), VOVec.rv_maxarg(x, offset, size));
+    }
+
+    @ParameterizedTest(name = "rv_minarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_minarg_ties(int size, int offset) {
+        float x[] = new float[rvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = (float)Math.floor(rvx[i] * 2.0f);
+        assertEquals(VO.rv_minarg(x, offset, size), VOVec.rv_minarg(x, offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_maxarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_maxarg_ties(int size, int offset) {
+        float x[] = new float[cvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = (float)Math.floor(cvx[i] * 2.0f);
+        assertEquals(VO.cv_maxarg(x, offset, size), VOVec.cv_maxarg(x, offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_minarg_ties({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_minarg_ties(int size, int offset) {
+        float x[] = new float[cvx.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = (float)Math.floor(cvx[i] * 2.0f);
+        assertEquals(VO.cv_minarg(x, offset, size), VOVec.cv_minarg(x, offset, size));
+    }
+
+    @ParameterizedTest(name = "cv_add_rs_iw_odd({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_rs_iw_odd(int size, int offset) {
+        float x[] = new float[cvz.length - 1];
+        assertThrows(IllegalArgumentException.class, () -> VOVec.cv_add_rs_iw(x, x.length / 2 + offset, rsx, size));
+    }
+
+    @ParameterizedTest(name = "cv_add_cv_w_odd({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_add_cv_w_odd(int size, int offset) {
+        float x[] = new float[cvx.length - 1];
+        float z[] = new float[cvz.length];
+        assertThrows(IllegalArgumentException.class, () -> VOVec.cv_add_cv_w(z, offset, x, x.length / 2 + offset, cvy, offset, size));
+    }
+
+    // Signed zeros, denormals and tiny normals of both signs as (re, im) pairs of all combinations
+    private static float[] specialCv() {
+        float v[] = { 0.0f, -0.0f, 1.4e-45f, -1.4e-45f, 1e-40f, -1e-40f, 1.2e-38f, -1.2e-38f, 1e-30f, -1e-30f, 1.0f, -1.0f };
+        float x[] = new float[cvx.length];
+        for (int i = 0; i < x.length / 2; i++) {
+            x[i * 2 + 0] = v[i % v.length];
+            x[i * 2 + 1] = v[(i / v.length) % v.length];
+        }
+        return x;
+    }
+
+    @ParameterizedTest(name = "cv_arg_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_arg_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.cv_arg_f(z1, offset, x, offset, size);
+        VOVec.cv_arg_f(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_argmul_rs_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_argmul_rs_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.cv_argmul_rs_f(z1, offset, x, offset, rsx, size);
+        VOVec.cv_argmul_rs_f(z2, offset, x, offset, rsx, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "cv_r2p_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_r2p_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[cvz.length];
+        float z2[] = new float[cvz.length];
+        VO.cv_r2p_f(z1, offset, x, offset, size);
+        VOVec.cv_r2p_f(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.rv_10log10(z1, offset, x, offset, size);
+        VOVec.rv_10log10(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.rv_10log10_f(z1, offset, x, offset, size);
+        VOVec.rv_10log10_f(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_i_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_i_special(int size, int offset) {
+        float z1[] = specialCv();
+        float z2[] = specialCv();
+        VO.rv_10log10_i(z1, offset, size);
+        VOVec.rv_10log10_i(z2, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_10log10_if_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_10log10_if_special(int size, int offset) {
+        float z1[] = specialCv();
+        float z2[] = specialCv();
+        VO.rv_10log10_if(z1, offset, size);
+        VOVec.rv_10log10_if(z2, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.rv_20log10(z1, offset, x, offset, size);
+        VOVec.rv_20log10(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "rv_20log10_i_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_rv_20log10_i_special(int size, int offset) {
+        float z1[] = specialCv();
+        float z2[] = specialCv();
+        VO.rv_20log10_i(z1, offset, size);
+        VOVec.rv_20log10_i(z2, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_10log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_10log10_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.cv_10log10(z1, offset, x, offset, size);
+        VOVec.cv_10log10(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.cv_20log10(z1, offset, x, offset, size);
+        VOVec.cv_20log10(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_APPROX);
+    }
+
+    @ParameterizedTest(name = "cv_20log10_f_special({0}, {1})")
+    @MethodSource("params")
+    public void Test_cv_20log10_f_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[rvz.length];
+        float z2[] = new float[rvz.length];
+        VO.cv_20log10_f(z1, offset, x, offset, size);
+        VOVec.cv_20log10_f(z2, offset, x, offset, size);
+        assertArrayEquals(z1, z2, EPSILON_FAST_DB);
+    }
 }
\ No newline at end of file
@@ -44,14 +44,65 @@ my $APPROX = {
 	'20log10' => 1
 };
 
-die "Syntax: $0 <BaseImpl.java> <VectorImpl.java>\n" unless @ARGV == 2;
+# Fast operations which scale FastTrig result by exp(re)
+my $FAST_EXP = {
+	'exp' => 1
+};
+
+# Wrapping variants start near the end of arrays, at different points for
+# different arguments, so every call crosses the array boundary (see MAX_OFFSET)
+my $WRAP_OFFSETS = {
+	'z' => 'DATA_SIZE - size / 2 + offset',
+	'x' => 'DATA_SIZE - size / 3 + offset',
+	'y' => 'DATA_SIZE - size / 4 + offset'
+};
+
+die "Syntax: $0 <BaseImpl.java> <VectorImpl.java> [<TestClass>]\n" unless @ARGV == 2 || @ARGV == 3;
 
 my $BASE = &OpAnalyzer::loadFile($ARGV[0], 1);
 my $VEC  = &OpAnalyzer::loadFile($ARGV[1], 0);
 
+my ($BASE_CLASS) = $ARGV[0] =~ m!([A-Za-z0-9_]+)\.java$!;
+my ($VEC_CLASS)  = $ARGV[1] =~ m!([A-Za-z0-9_]+)\.java$!;
+my $TEST_CLASS = $ARGV[2] // 'VectorTests';
+
+# MemorySegment implementation gets heap segments over the same arrays
+my $SEGMENTS = do {
+	open(my $fh, '<', $ARGV[1]) or die "Can not open \"$ARGV[1]\"\n";
+	local $/;
+	<$fh> =~ /^import java\.lang\.foreign\.MemorySegment;$/m;
+};
+my $SEGMENTS_IMPORT = $SEGMENTS ? "import java.lang.foreign.Arena;\nimport java.lang.foreign.MemorySegment;\nimport java.lang.foreign.ValueLayout;\n" : '';
+
+# MemorySegment implementation is checked on native segments against VO too
+my $REF_CLASS = 'VO';
+my $REF;
+if ($SEGMENTS) {
+	(my $ref = $ARGV[0]) =~ s![A-Za-z0-9_]+\.java$!$REF_CLASS.java!;
+	$REF = $ref eq $ARGV[0] ? $BASE : &OpAnalyzer::loadFile($ref, 1);
+}
+my $REF_IMPORT = $SEGMENTS && $BASE_CLASS ne $REF_CLASS ? "import vectorapi.$REF_CLASS;\n" : '';
+
+# Double-precision implementation gets the same tests, with all float types
+# replaced in generated code, so all output is collected first
+my $DOUBLE = do {
+	open(my $fh, '<', $ARGV[1]) or die "Can not open \"$ARGV[1]\"\n";
+	local $/;
+	<$fh> =~ /\bDoubleVector\b/;
+};
+my $OUTPUT = '';
+if ($DOUBLE) {
+	open(my $buf, '>', \$OUTPUT) or die "Can not open output buffer\n";
+	select($buf);
+}
+# Unit roundoff of result type
+my $UNIT_ROUNDOFF = $DOUBLE ? '0x1.0p-53' : '0x1.0p-24';
+
 # Check all methods
 for my $name (sort keys %{$BASE}) {
 	print STDERR "Can not find vectorized \"$name\"\n" unless exists $VEC->{$name};
+	# Indices are long in MemorySegment implementation
+	next if $SEGMENTS && $VEC->{$name} && $BASE->{$name} eq 'int' && $VEC->{$name} eq 'long';
 	print STDERR "Return type mismatch for \"$name\": \"", $BASE->{'name'}, "\" vs \"", $VEC->{$name}, "\"\n" unless !$VEC->{$name} || $VEC->{$name} eq $BASE->{$name};
 }
 
@@ -60,6 +111,7 @@ for my $name (sort keys %{$VEC}) {
 }
 
 my $CODE_INDENT = "        ";
+my $SPECIAL_HELPER = 0;
 
 # Generate benchmark
 print<<__HEADER;
@@ -67,7 +119,7 @@ print<<__HEADER;
 !! THIS FILE IS GENERATED WITH genTests.pl SCRIPT. DO NOT EDIT! !!
 \\!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!*/
 /*****************************************************************************
- * Copyright (c) 2019, Lev Serebryakov <lev\@serebryakov.spb.ru>
+ * Copyright (c) 2019-2026, Lev Serebryakov <lev\@blacklion.dev>
  * All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without
@@ -93,15 +145,15 @@ print<<__HEADER;
  * POSSIBILITY OF SUCH DAMAGE.
  ****************************************************************************/
 
-import vectorapi.VO;
-import vectorapi.VOVec;
+${REF_IMPORT}import vectorapi.$BASE_CLASS;
+import vectorapi.$VEC_CLASS;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import java.util.ArrayList;
+${SEGMENTS_IMPORT}import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.stream.Stream;
 import jdk.incubator.vector.FloatVector;
@@ -109,14 +161,21 @@ import jdk.incubator.vector.VectorSpecies;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * \@author Lev Serebryakov
  * \@noinspection CStyleArrayDeclaration, WeakerAccess
  */
-public class VectorTests {
+public class $TEST_CLASS {
     private static final float EPSILON = 0.0001f;
     private static final float EPSILON_APPROX = 0.0001f;
+    // FastTrig.atan2() max error is 0.002 and vectorized one is much more precise
+    private static final float EPSILON_FAST = 0.0025f;
+    // FastTrig.cos() and FastTrig.sin() max error is 0.0015 and exp() of test data is up to e
+    private static final float EPSILON_FAST_EXP = 0.005f;
+    // Fast 10log10() and 20log10() are precise enough for display, to 0.01 dB
+    private static final float EPSILON_FAST_DB = 0.01f;
 
     private static final int DATA_SIZE = 65536;
     private static final int MAX_OFFSET = 1;
@@ -127,8 +186,11 @@ public class VectorTests {
         ArrayList<Arguments> rv = new ArrayList<>();
         rv.add(Arguments.of(1, 0));
         rv.add(Arguments.of(1, 1));
-        rv.add(Arguments.of(PFS.length() / 2 - 1, 0));
-        rv.add(Arguments.of(PFS.length() / 2 - 1, 1));
+        // Vectors of two elements (doubles on 128-bit hardware) have no such size
+        if (PFS.length() / 2 - 1 > 0) {
+            rv.add(Arguments.of(PFS.length() / 2 - 1, 0));
+            rv.add(Arguments.of(PFS.length() / 2 - 1, 1));
+        }
         rv.add(Arguments.of(PFS.length() / 2, 0));
         rv.add(Arguments.of(PFS.length() / 2, 1));
         rv.add(Arguments.of(PFS.length() - 1, 0));
@@ -160,6 +222,7 @@ public class VectorTests {
 
     private static float csx[];
     private static float csy[];
+    private static float csz[];
 
     \@BeforeAll
     public static void Setup() {
@@ -187,6 +250,7 @@ public class VectorTests {
 
         csx = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
         csy = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
+        csz = new float[] { (float)(Math.random() * 2.0 - 1.0), (float)(Math.random() * 2.0 - 1.0) };
     }
 
 __HEADER
@@ -222,8 +286,30 @@ for my $name (sort keys %{$VEC}) {
 	}
 }
 
+if ($SEGMENTS) {
+	&generateNativeHelper();
+	for my $name (sort keys %{$VEC}) {
+		next unless exists $REF->{$name};
+		my $op;
+		eval { $op = &OpAnalyzer::parseOp($name, $VEC->{$name}); };
+		next if $@;
+		&generateNativeTest($op);
+	}
+}
+
+&generateDriftTests();
+&generateTieTests();
+&generateOddWrapTests();
+&generateSpecialArgTests();
+&generateSpecialLogTests();
+
 print "}";
 
+if ($DOUBLE) {
+	select(STDOUT);
+	print &OpAnalyzer::toDouble($OUTPUT);
+}
+
 exit 0;
 
 sub generateTest1i {
@@ -234,8 +320,8 @@ sub generateTest1i {
 	my @args2 = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args1, &OpAnalyzer::generateArg($out, 'z1', 'offset', $op->{'name'}, 'first argument');
-		push @args2, &OpAnalyzer::generateArg($out, 'z2', 'offset', $op->{'name'}, 'first argument');
+		push @args1, &OpAnalyzer::generateArg($out, 'z1', &getOffset($op, 'z', 'offset'), $op->{'name'}, 'first argument');
+		push @args2, &OpAnalyzer::generateArg($out, 'z2', &getOffset($op, 'z', 'offset'), $op->{'name'}, 'first argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -247,9 +333,9 @@ sub generateTest1i {
 	&generateTestHeader($op->{'name'});
 	print $CODE_INDENT, 'float ', $op->{'l'}.'z1[] = Arrays.copyOf(', $op->{'l'}.'z, ', $op->{'l'}."z.length);\n";
 	print $CODE_INDENT, 'float ', $op->{'l'}.'z2[] = Arrays.copyOf(', $op->{'l'}.'z, ', $op->{'l'}."z.length);\n";
-	print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-	print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-	print $CODE_INDENT, "assertArrayEquals(", $op->{'l'}.'z1, ', $op->{'l'}.'z2, ', &getEpsilon($op->{'op'}), ");\n";
+	print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+	print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', &vecArgs(@args2)), ");\n";
+	print $CODE_INDENT, "assertArrayEquals(", $op->{'l'}.'z1, ', $op->{'l'}.'z2, ', &getEpsilon($op), ");\n";
 	&generateTestFooter();
 }
 
@@ -262,9 +348,9 @@ sub generateTest1o {
 	my @argsc = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args1, &OpAnalyzer::generateArg($out,       'z1', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @args2, &OpAnalyzer::generateArg($out,       'z2', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @argsc, &OpAnalyzer::generateArg($op->{'l'}, 'x',  'offset', $op->{'name'}, 'first argument');
+		push @args1, &OpAnalyzer::generateArg($out,       'z1', &getOffset($op, 'z', '0'),      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @args2, &OpAnalyzer::generateArg($out,       'z2', &getOffset($op, 'z', '0'),      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @argsc, &OpAnalyzer::generateArg($op->{'l'}, 'x',  &getOffset($op, 'x', 'offset'), $op->{'name'}, 'first argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -277,10 +363,10 @@ sub generateTest1o {
 	&generateTestHeader($op->{'name'});
 
 	if      ($out eq 'rs' || $out eq 'int') {
-		print $CODE_INDENT, $op->{'rt'}, " ${out}z1 = VO.",    $op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, $op->{'rt'}, " ${out}z2 = VOVec.", $op->{'name'}, '(', join(', ', @args2), ");\n";
-		if ($op->{'rt'} eq 'float') {
-			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, $BASE->{$op->{'name'}}, " ${out}z1 = $BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, $op->{'rt'}, " ${out}z2 = $VEC_CLASS.", $op->{'name'}, '(', join(', ', &vecArgs(@args2)), ");\n";
+		if ($out eq 'rs') {
+			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 		} else {
 			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2);\n";
 		}
@@ -288,9 +374,9 @@ sub generateTest1o {
 	 	my $zlen = ($out eq 'cs') ? '2' : "${out}z.length";
 		print $CODE_INDENT, "float ${out}z1[] = new float[$zlen];\n";
 		print $CODE_INDENT, "float ${out}z2[] = new float[$zlen];\n";
-		print $CODE_INDENT, 'VO.'    ,$op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', &vecArgs(@args2)), ");\n";
+		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 	} else {
 		die "Internal consistency error: Function \"".$op->{'name'}."\" has wrong output type \"$out\"\n";
 	}
@@ -308,9 +394,9 @@ sub generateTest2i {
 	my @argsc = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args1, &OpAnalyzer::generateArg($op->{'l'}, 'z1', 'offset', $op->{'name'}, 'first argument');
-		push @args2, &OpAnalyzer::generateArg($op->{'l'}, 'z2', 'offset', $op->{'name'}, 'first argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r'}, 'x',  'offset', $op->{'name'}, 'second argument');
+		push @args1, &OpAnalyzer::generateArg($op->{'l'}, 'z1', &getOffset($op, 'z', 'offset'), $op->{'name'}, 'first argument');
+		push @args2, &OpAnalyzer::generateArg($op->{'l'}, 'z2', &getOffset($op, 'z', 'offset'), $op->{'name'}, 'first argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r'}, 'x',  &getOffset($op, 'x', 'offset'), $op->{'name'}, 'second argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -326,9 +412,9 @@ sub generateTest2i {
 	print $CODE_INDENT, "float ${out}z2[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
 	print "\n";
 
-	print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-	print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-	print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+	print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+	print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', &vecArgs(@args2)), ");\n";
+	print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 
 	&generateTestFooter();
 }
@@ -342,10 +428,10 @@ sub generateTest2o {
 	my @argsc = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args1, &OpAnalyzer::generateArg($out,       'z1', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @args2, &OpAnalyzer::generateArg($out,       'z2', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @argsc, &OpAnalyzer::generateArg($op->{'l'}, 'x',  'offset', $op->{'name'}, 'first argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r'}, 'y',  'offset', $op->{'name'}, 'second argument');
+		push @args1, &OpAnalyzer::generateArg($out,       'z1', &getOffset($op, 'z', '0'),      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @args2, &OpAnalyzer::generateArg($out,       'z2', &getOffset($op, 'z', '0'),      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @argsc, &OpAnalyzer::generateArg($op->{'l'}, 'x',  &getOffset($op, 'x', 'offset'), $op->{'name'}, 'first argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r'}, 'y',  &getOffset($op, 'y', 'offset'), $op->{'name'}, 'second argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -358,19 +444,19 @@ sub generateTest2o {
 	&generateTestHeader($op->{'name'});
 
 	if      ($out eq 'rs' || $out eq 'int') {
-		print $CODE_INDENT, $op->{'rt'}, " ${out}z1 = VO.",    $op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, $op->{'rt'}, " ${out}z2 = VOVec.", $op->{'name'}, '(', join(', ', @args2), ");\n";
-		if ($op->{'rt'} eq 'float') {
-			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, $BASE->{$op->{'name'}}, " ${out}z1 = $BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, $op->{'rt'}, " ${out}z2 = $VEC_CLASS.", $op->{'name'}, '(', join(', ', &vecArgs(@args2)), ");\n";
+		if ($out eq 'rs') {
+			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 		} else {
 			print $CODE_INDENT, "assertEquals(${out}z1, ${out}z2);\n";
 		}
 	} elsif ($out eq 'cs') {
 		print $CODE_INDENT, "float ${out}z1[] = new float[2];\n";
 		print $CODE_INDENT, "float ${out}z2[] = new float[2];\n";
-		print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', &vecArgs(@args2)), ");\n";
+		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 
 		# And second one!
 		&generateTestFooter();
@@ -379,17 +465,19 @@ sub generateTest2o {
 		# Add second argument "1" to mark output offset
 		splice @args1, 1, 0, "1";
 		splice @args2, 1, 0, "1";
+		# Output with offset is vector argument in segment flavor
+		$args2[0] = "MemorySegment.ofArray($args2[0])" if $SEGMENTS;
 		print $CODE_INDENT, "float ${out}z1[] = new float[6];\n";
 		print $CODE_INDENT, "float ${out}z2[] = new float[6];\n";
-		print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, 'VOVec.', $op->{'name'}. '(', join(', ', @args2), ");\n";
-		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', &vecArgs(@args2)), ");\n";
+		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 	} elsif ($out eq 'rv' || $out eq 'cv') {
 		print $CODE_INDENT, "float ${out}z1[] = new float[${out}z.length];\n";
 		print $CODE_INDENT, "float ${out}z2[] = new float[${out}z.length];\n";
-		print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-		print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+		print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+		print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', &vecArgs(@args2)), ");\n";
+		print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 	} else {
 		die "Internal consistency error: Function \"".$op->{'name'}."\" has wrong output type \"$out\"\n";
 	}
@@ -411,11 +499,11 @@ sub generateTest4i {
 	my @argsc = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args1, &OpAnalyzer::generateArg($op->{'l1'}, 'z1', 'offset', $op->{'name'}, 'first argument');
-		push @args2, &OpAnalyzer::generateArg($op->{'l1'}, 'z2', 'offset', $op->{'name'}, 'first argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'l2'}, 'z',  'offset', $op->{'name'}, 'second argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r1'}, 'x',  'offset', $op->{'name'}, 'third argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r2'}, 'x',  'offset', $op->{'name'}, 'fourth argument');
+		push @args1, &OpAnalyzer::generateArg($op->{'l1'}, 'z1', &getOffset($op, 'z', 'offset'), $op->{'name'}, 'first argument');
+		push @args2, &OpAnalyzer::generateArg($op->{'l1'}, 'z2', &getOffset($op, 'z', 'offset'), $op->{'name'}, 'first argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'l2'}, 'z',  &getOffset($op, 'z', 'offset'), $op->{'name'}, 'second argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r1'}, 'x',  &getOffset($op, 'x', 'offset'), $op->{'name'}, 'third argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r2'}, 'x',  &getOffset($op, 'x', 'offset'), $op->{'name'}, 'fourth argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -428,9 +516,9 @@ sub generateTest4i {
 	&generateTestHeader($op->{'name'});
 	print $CODE_INDENT, "float ${out}z1[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
 	print $CODE_INDENT, "float ${out}z2[] = Arrays.copyOf(${out}z, ${out}z.length);\n";
-	print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-	print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-	print $CODE_INDENT, "assertArrayEquals(${out}z2, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+	print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+	print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', &vecArgs(@args2)), ");\n";
+	print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 	&generateTestFooter();
 }
 
@@ -448,12 +536,12 @@ sub generateTest4o {
 	my @argsc = ();
 	eval {
 		$out = &OpAnalyzer::getOutType($op);
-		push @args1, &OpAnalyzer::generateArg($out,        'z1', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @args2, &OpAnalyzer::generateArg($out,        'z2', '0',      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
-		push @argsc, &OpAnalyzer::generateArg($op->{'l1'}, 'x',  'offset', $op->{'name'}, 'second argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'l2'}, 'x',  'offset', $op->{'name'}, 'third argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r1'}, 'y',  'offset', $op->{'name'}, 'fourth argument');
-		push @argsc, &OpAnalyzer::generateArg($op->{'r2'}, 'y',  'offset', $op->{'name'}, 'fourth argument');
+		push @args1, &OpAnalyzer::generateArg($out,        'z1', &getOffset($op, 'z', '0'),      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @args2, &OpAnalyzer::generateArg($out,        'z2', &getOffset($op, 'z', '0'),      $op->{'name'}, 'output') unless $out eq 'rs' || $out eq 'int';
+		push @argsc, &OpAnalyzer::generateArg($op->{'l1'}, 'x',  &getOffset($op, 'x', 'offset'), $op->{'name'}, 'second argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'l2'}, 'x',  &getOffset($op, 'x', 'offset'), $op->{'name'}, 'third argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r1'}, 'y',  &getOffset($op, 'y', 'offset'), $op->{'name'}, 'fourth argument');
+		push @argsc, &OpAnalyzer::generateArg($op->{'r2'}, 'y',  &getOffset($op, 'y', 'offset'), $op->{'name'}, 'fourth argument');
 	};
 	if ($@) {
 		print STDERR $@;
@@ -466,12 +554,315 @@ sub generateTest4o {
 	&generateTestHeader($op->{'name'});
 	print $CODE_INDENT, "float ${out}z1[] = new float[${out}z.length];\n";
 	print $CODE_INDENT, "float ${out}z2[] = new float[${out}z.length];\n";
-	print $CODE_INDENT, 'VO.',    $op->{'name'}, '(', join(', ', @args1), ");\n";
-	print $CODE_INDENT, 'VOVec.', $op->{'name'}, '(', join(', ', @args2), ");\n";
-	print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op->{'op'}), ");\n";
+	print $CODE_INDENT, "$BASE_CLASS.", $op->{'name'}, '(', join(', ', @args1), ");\n";
+	print $CODE_INDENT, "$VEC_CLASS.", $op->{'name'}, '(', join(', ', &vecArgs(@args2)), ");\n";
+	print $CODE_INDENT, "assertArrayEquals(${out}z1, ${out}z2, ", &getEpsilon($op), ");\n";
 	&generateTestFooter();
 }
 
+# Reductions are summed in other order than in base implementation, so they
+# are checked against exact (double) sums with bound, which is much tighter
+# than "EPSILON * size" of common tests
+sub generateDriftTests {
+	my @tests = ();
+
+	push @tests, <<__TEST if exists $VEC->{'rv_sum'};
+    \@ParameterizedTest(name = "rv_sum_drift({0}, {1})")
+    \@MethodSource("params")
+    public void Test_rv_sum_drift(int size, int offset) {
+        double exact = 0.0;
+        double abs = 0.0;
+        for (int i = offset; i < offset + size; i++) {
+            exact += rvx[i];
+            abs += Math.abs(rvx[i]);
+        }
+        assertEquals(exact, $VEC_CLASS.rv_sum(${\ join(', ', &vecArgs('rvx', 'offset', 'size'))}), drift(size, abs));
+    }
+__TEST
+
+	push @tests, <<__TEST if exists $VEC->{'rv_dot_rv'};
+    \@ParameterizedTest(name = "rv_dot_rv_drift({0}, {1})")
+    \@MethodSource("params")
+    public void Test_rv_dot_rv_drift(int size, int offset) {
+        double exact = 0.0;
+        double abs = 0.0;
+        for (int i = offset; i < offset + size; i++) {
+            exact += (double)rvx[i] * rvy[i];
+            abs += Math.abs((double)rvx[i] * rvy[i]);
+        }
+        assertEquals(exact, $VEC_CLASS.rv_dot_rv(${\ join(', ', &vecArgs('rvx', 'offset', 'rvy', 'offset', 'size'))}), drift(size, abs));
+    }
+__TEST
+
+	push @tests, <<__TEST if exists $VEC->{'cv_sum'};
+    \@ParameterizedTest(name = "cv_sum_drift({0}, {1})")
+    \@MethodSource("params")
+    public void Test_cv_sum_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs[] = new double[2];
+        for (int i = offset * 2; i < (offset + size) * 2; i++) {
+            exact[i % 2] += cvx[i];
+            abs[i % 2] += Math.abs(cvx[i]);
+        }
+        float z[] = new float[2];
+        $VEC_CLASS.cv_sum(${\ join(', ', 'z', &vecArgs('cvx', 'offset', 'size'))});
+        assertEquals(exact[0], z[0], drift(size, abs[0]));
+        assertEquals(exact[1], z[1], drift(size, abs[1]));
+    }
+__TEST
+
+	push @tests, <<__TEST if exists $VEC->{'rv_dot_cv'};
+    \@ParameterizedTest(name = "rv_dot_cv_drift({0}, {1})")
+    \@MethodSource("params")
+    public void Test_rv_dot_cv_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs[] = new double[2];
+        for (int i = offset; i < offset + size; i++) {
+            exact[0] += (double)rvx[i] * cvy[i * 2 + 0];
+            exact[1] += (double)rvx[i] * cvy[i * 2 + 1];
+            abs[0] += Math.abs((double)rvx[i] * cvy[i * 2 + 0]);
+            abs[1] += Math.abs((double)rvx[i] * cvy[i * 2 + 1]);
+        }
+        float z[] = new float[2];
+        $VEC_CLASS.rv_dot_cv(${\ join(', ', 'z', &vecArgs('rvx', 'offset', 'cvy', 'offset', 'size'))});
+        assertEquals(exact[0], z[0], drift(size, abs[0]));
+        assertEquals(exact[1], z[1], drift(size, abs[1]));
+    }
+__TEST
+
+	push @tests, <<__TEST if exists $VEC->{'cv_dot_cv'};
+    \@ParameterizedTest(name = "cv_dot_cv_drift({0}, {1})")
+    \@MethodSource("params")
+    public void Test_cv_dot_cv_drift(int size, int offset) {
+        double exact[] = new double[2];
+        double abs = 0.0;
+        for (int i = offset * 2; i < (offset + size) * 2; i += 2) {
+            exact[0] += (double)cvx[i + 0] * cvy[i + 0] - (double)cvx[i + 1] * cvy[i + 1];
+            exact[1] += (double)cvx[i + 0] * cvy[i + 1] + (double)cvx[i + 1] * cvy[i + 0];
+            // Scalar tail uses 3-multiplication form, which is bounded by this too
+            abs += (Math.abs((double)cvx[i + 0]) + Math.abs(cvx[i + 1])) * (Math.abs((double)cvy[i + 0]) + Math.abs(cvy[i + 1]));
+        }
+        float z[] = new float[2];
+        $VEC_CLASS.cv_dot_cv(${\ join(', ', 'z', &vecArgs('cvx', 'offset', 'cvy', 'offset', 'size'))});
+        assertEquals(exact[0], z[0], drift(size, abs));
+        assertEquals(exact[1], z[1], drift(size, abs));
+    }
+__TEST
+
+	return unless @tests;
+
+	print <<__HELPER;
+
+    // Worst-case error of summation of n terms is n * u * sum(|term|), but for random data it is
+    // about u * sum(|term|) for any order of summation, so it is checked with log2(n) margin
+    private static double drift(int n, double abs) {
+        return (32 - Integer.numberOfLeadingZeros(n) + 4) * $UNIT_ROUNDOFF * abs;
+    }
+__HELPER
+	print "\n", $_ for @tests;
+}
+
+# Random data almost never has equal maximums or minimums, so arg-functions
+# are checked additionally on data with few distinct values
+sub generateTieTests {
+	for my $name ('rv_maxarg', 'rv_minarg', 'cv_maxarg', 'cv_minarg') {
+		next unless exists $VEC->{$name} && exists $BASE->{$name};
+		my $t = substr($name, 0, 2);
+		print <<__TEST;
+
+    \@ParameterizedTest(name = "${name}_ties({0}, {1})")
+    \@MethodSource("params")
+    public void Test_${name}_ties(int size, int offset) {
+        float x[] = new float[${t}x.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = (float)Math.floor(${t}x[i] * 2.0f);
+        assertEquals($BASE_CLASS.$name(x, offset, size), $VEC_CLASS.$name(${\ join(', ', &vecArgs('x', 'offset', 'size'))}));
+    }
+__TEST
+	}
+}
+
+# Random data has no signed zeros and denormals, which are edge cases of
+# fast atan2(), so arg-functions are checked additionally on all pairs of them
+sub generateSpecialArgTests {
+	my %out = ('cv_arg_f' => 'rv', 'cv_argmul_rs_f' => 'rv', 'cv_r2p_f' => 'cv');
+	my @names = grep { exists $VEC->{$_} && exists $BASE->{$_} } sort keys %out;
+	return unless @names;
+
+	&generateSpecialHelper();
+	for my $name (@names) {
+		my $t = $out{$name};
+		my @scalar = $name =~ /_rs_/ ? ('rsx') : ();
+		print <<__TEST;
+
+    \@ParameterizedTest(name = "${name}_special({0}, {1})")
+    \@MethodSource("params")
+    public void Test_${name}_special(int size, int offset) {
+        float x[] = specialCv();
+        float z1[] = new float[${t}z.length];
+        float z2[] = new float[${t}z.length];
+        $BASE_CLASS.$name(${\ join(', ', 'z1', 'offset', 'x', 'offset', @scalar, 'size')});
+        $VEC_CLASS.$name(${\ join(', ', &vecArgs('z2', 'offset', 'x', 'offset', @scalar, 'size'))});
+        assertArrayEquals(z1, z2, EPSILON_FAST);
+    }
+__TEST
+	}
+}
+
+# Heap segments over arrays never fail on misaligned or out-of-bounds vector
+# accesses like native ones do, so each operation is checked on native
+# segments too: with aligned and shifted by one float base, and sized exactly
+# to processed elements, so tail of any size must stay inside segment
+sub generateNativeHelper {
+	print <<__HELPER;
+
+    // Native copy of first count elements of data, base is aligned to 64 bytes and shifted by shift floats
+    private static MemorySegment nativeSegment(Arena arena, float data[], int count, int shift) {
+        MemorySegment s = arena.allocate((long)(count + shift) * Float.BYTES, 64).asSlice((long)shift * Float.BYTES, (long)count * Float.BYTES);
+        MemorySegment.copy(data, 0, s, ValueLayout.JAVA_FLOAT, 0, count);
+        return s;
+    }
+__HELPER
+}
+
+sub generateNativeTest {
+	my $op = shift;
+	# Wrapping operations have their own bounds, and linear combinations are not tested yet
+	return if $op->{'wrap'} || ($op->{'type'} ne 'u' && $op->{'type'} ne 'b');
+
+	my $out;
+	eval { $out = &OpAnalyzer::getOutType($op); };
+	return if $@;
+
+	my $indent = $CODE_INDENT.'        ';
+	my $count = sub { $_[0] eq 'cv' ? '(offset + size) * 2' : 'offset + size' };
+	my @code = ();
+	my @args1 = ();
+	my @args2 = ();
+	my $vector = $out eq 'rv' || $out eq 'cv';
+
+	if ($op->{'ip'}) {
+		push @code, "float z1[] = Arrays.copyOf(${out}z, ".$count->($out).");";
+	} elsif ($vector) {
+		push @code, "float z1[] = new float[".$count->($out)."];";
+	}
+	if ($vector) {
+		push @code, "MemorySegment z2 = nativeSegment(arena, z1, z1.length, shift);";
+		push @args1, 'z1', 'offset';
+		push @args2, 'z2', 'offset';
+	} elsif ($out eq 'cs') {
+		push @code, "float z1[] = new float[2];", "float z2[] = new float[2];";
+		push @args1, 'z1';
+		push @args2, 'z2';
+	}
+
+	my @in = $op->{'ip'} ? () : ([$op->{'l'}, 'x']);
+	push @in, [$op->{'r'}, $op->{'ip'} ? 'x' : 'y'] if $op->{'type'} eq 'b';
+	for my $arg (@in) {
+		my ($t, $n) = @{$arg};
+		if ($t eq 'rv' || $t eq 'cv') {
+			push @code, "MemorySegment $n = nativeSegment(arena, $t$n, ".$count->($t).", shift);";
+			push @args1, "$t$n", 'offset';
+			push @args2, $n, 'offset';
+		} else {
+			push @args1, "$t$n";
+			push @args2, "$t$n";
+		}
+	}
+	push @args1, 'size';
+	push @args2, 'size';
+
+	my $name = $op->{'name'};
+	my $eps = &getEpsilon($op);
+	if ($vector || $out eq 'cs') {
+		push @code, "$REF_CLASS.$name(".join(', ', @args1).");";
+		push @code, "$VEC_CLASS.$name(".join(', ', @args2).");";
+		push @code, $vector ? "assertArrayEquals(z1, z2.toArray(ValueLayout.JAVA_FLOAT), $eps);" : "assertArrayEquals(z1, z2, $eps);";
+	} else {
+		push @code, $REF->{$name}." z1 = $REF_CLASS.$name(".join(', ', @args1).");";
+		push @code, $op->{'rt'}." z2 = $VEC_CLASS.$name(".join(', ', @args2).");";
+		push @code, $out eq 'rs' ? "assertEquals(z1, z2, $eps);" : "assertEquals(z1, z2);";
+	}
+
+	&generateTestHeader("${name}_native");
+	print $CODE_INDENT, "for (int shift = 0; shift <= 1; shift++) {\n";
+	print $CODE_INDENT, "    try (Arena arena = Arena.ofConfined()) {\n";
+	print $indent, $_, "\n" for @code;
+	print $CODE_INDENT, "    }\n";
+	print $CODE_INDENT, "}\n";
+	&generateTestFooter();
+}
+
+# Zero and denormals must give the same finite value in all implementations
+# of power in dB, as Float.MIN_NORMAL is added to magnitude
+sub generateSpecialLogTests {
+	my @names = grep { exists $VEC->{$_} && exists $BASE->{$_} }
+		map { ("${_}", "${_}_f", "${_}_i", "${_}_if") } ('rv_10log10', 'rv_20log10', 'cv_10log10', 'cv_20log10');
+	return unless @names;
+
+	&generateSpecialHelper();
+	for my $name (@names) {
+		my $op = &OpAnalyzer::parseOp($name, $VEC->{$name});
+		my $eps = &getEpsilon($op);
+		my @init = $op->{'ip'} ? ('specialCv()', 'specialCv()') : ('new float[rvz.length]', 'new float[rvz.length]');
+		my @x = $op->{'ip'} ? () : ('x', 'offset');
+		print "\n";
+		print "    \@ParameterizedTest(name = \"${name}_special({0}, {1})\")\n";
+		print "    \@MethodSource(\"params\")\n";
+		print "    public void Test_${name}_special(int size, int offset) {\n";
+		print $CODE_INDENT, "float x[] = specialCv();\n" unless $op->{'ip'};
+		print $CODE_INDENT, "float z1[] = $init[0];\n";
+		print $CODE_INDENT, "float z2[] = $init[1];\n";
+		print $CODE_INDENT, "$BASE_CLASS.$name(", join(', ', 'z1', 'offset', @x, 'size'), ");\n";
+		print $CODE_INDENT, "$VEC_CLASS.$name(", join(', ', &vecArgs('z2', 'offset', @x, 'size')), ");\n";
+		print $CODE_INDENT, "assertArrayEquals(z1, z2, $eps);\n";
+		print "    }\n";
+	}
+}
+
+# Helper for tests of special values, printed once
+sub generateSpecialHelper {
+	return if $SPECIAL_HELPER++;
+	print <<__HELPER;
+
+    // Signed zeros, denormals and tiny normals of both signs as (re, im) pairs of all combinations
+    private static float[] specialCv() {
+        float v[] = { 0.0f, -0.0f, 1.4e-45f, -1.4e-45f, 1e-40f, -1e-40f, 1.2e-38f, -1.2e-38f, 1e-30f, -1e-30f, 1.0f, -1.0f };
+        float x[] = new float[cvx.length];
+        for (int i = 0; i < x.length / 2; i++) {
+            x[i * 2 + 0] = v[i % v.length];
+            x[i * 2 + 1] = v[(i / v.length) % v.length];
+        }
+        return x;
+    }
+__HELPER
+}
+
+# Complex vector of odd length has last element without imaginary part, so
+# wrapping operations can not process it and must reject such buffer
+sub generateOddWrapTests {
+	print <<__TEST if exists $VEC->{'cv_add_rs_iw'};
+
+    \@ParameterizedTest(name = "cv_add_rs_iw_odd({0}, {1})")
+    \@MethodSource("params")
+    public void Test_cv_add_rs_iw_odd(int size, int offset) {
+        float x[] = new float[cvz.length - 1];
+        assertThrows(IllegalArgumentException.class, () -> $VEC_CLASS.cv_add_rs_iw(${\ join(', ', &vecArgs('x', 'x.length / 2 + offset', 'rsx', 'size'))}));
+    }
+__TEST
+
+	print <<__TEST if exists $VEC->{'cv_add_cv_w'};
+
+    \@ParameterizedTest(name = "cv_add_cv_w_odd({0}, {1})")
+    \@MethodSource("params")
+    public void Test_cv_add_cv_w_odd(int size, int offset) {
+        float x[] = new float[cvx.length - 1];
+        float z[] = new float[cvz.length];
+        assertThrows(IllegalArgumentException.class, () -> $VEC_CLASS.cv_add_cv_w(${\ join(', ', &vecArgs('z', 'offset', 'x', 'x.length / 2 + offset', 'cvy', 'offset', 'size'))}));
+    }
+__TEST
+}
+
 sub generateTestHeader {
 	my ($name) = @_;
 	print "\n";
@@ -484,11 +875,27 @@ sub generateTestFooter {
 	print "    }\n";
 }
 
+sub getOffset {
+	my ($op, $arg, $offset) = @_;
+	return $op->{'wrap'} ? $WRAP_OFFSETS->{$arg} : $offset;
+}
+
+sub vecArgs {
+	return @_ unless $SEGMENTS;
+	return map { /^((rv|cv)[xyz][12]?|[xz][12]?)$/ ? "MemorySegment.ofArray($_)" : $_ } @_;
+}
+
 sub getEpsilon {
 	my $op = shift;
-	if      (exists $HORIZONTAL->{$op}) {
+	if      (exists $HORIZONTAL->{$op->{'op'}}) {
 		return 'EPSILON * size';
-	} elsif (exists $APPROX->{$op}) {
+	} elsif ($op->{'fast'} && exists $FAST_EXP->{$op->{'op'}}) {
+		return 'EPSILON_FAST_EXP';
+	} elsif ($op->{'fast'} && exists $APPROX->{$op->{'op'}}) {
+		return 'EPSILON_FAST_DB';
+	} elsif ($op->{'fast'}) {
+		return 'EPSILON_FAST';
+	} elsif (exists $APPROX->{$op->{'op'}}) {
 		return 'EPSILON_APPROX';
 	} else {
 		return 'EPSILON';